@@ -1110,6 +1110,26 @@ public final class Color4D {
 		return new Color4D(r, g, b, a);
 	}
 	
+	/**
+	 * Multiplies the red, green and blue component values of {@code color} with its alpha component value.
+	 * <p>
+	 * Returns a new {@code Color4D} instance with the result of the multiplication.
+	 * <p>
+	 * If {@code color} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param color a {@code Color4D} instance with straight alpha
+	 * @return a new {@code Color4D} instance with the result of the multiplication
+	 * @throws NullPointerException thrown if, and only if, {@code color} is {@code null}
+	 */
+	public static Color4D premultiply(final Color4D color) {
+		final double r = color.r * color.a;
+		final double g = color.g * color.a;
+		final double b = color.b * color.a;
+		final double a = color.a;
+		
+		return new Color4D(r, g, b, a);
+	}
+	
 	/**
 	 * Returns a {@code Color4D} instance with random component values.
 	 * <p>
@@ -1461,6 +1481,32 @@ public final class Color4D {
 		return new Color4D(r, g, b, a);
 	}
 	
+	/**
+	 * Divides the red, green and blue component values of {@code color} with its alpha component value.
+	 * <p>
+	 * Returns a new {@code Color4D} instance with the result of the division.
+	 * <p>
+	 * If the alpha component value of {@code color} is {@code 0.0D}, {@code Color4D.TRANSPARENT} will be returned.
+	 * <p>
+	 * If {@code color} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param color a {@code Color4D} instance with premultiplied alpha
+	 * @return a new {@code Color4D} instance with the result of the division
+	 * @throws NullPointerException thrown if, and only if, {@code color} is {@code null}
+	 */
+	public static Color4D unpremultiply(final Color4D color) {
+		if(color.a == 0.0D) {
+			return TRANSPARENT;
+		}
+		
+		final double r = color.r / color.a;
+		final double g = color.g / color.a;
+		final double b = color.b / color.a;
+		final double a = color.a;
+		
+		return new Color4D(r, g, b, a);
+	}
+	
 	/**
 	 * Returns a {@code Color4D[]} with a length of {@code length} and contains {@code Color4D.TRANSPARENT}.
 	 * <p>
@@ -1110,6 +1110,26 @@ public final class Color4F {
 		return new Color4F(r, g, b, a);
 	}
 	
+	/**
+	 * Multiplies the red, green and blue component values of {@code color} with its alpha component value.
+	 * <p>
+	 * Returns a new {@code Color4F} instance with the result of the multiplication.
+	 * <p>
+	 * If {@code color} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param color a {@code Color4F} instance with straight alpha
+	 * @return a new {@code Color4F} instance with the result of the multiplication
+	 * @throws NullPointerException thrown if, and only if, {@code color} is {@code null}
+	 */
+	public static Color4F premultiply(final Color4F color) {
+		final float r = color.r * color.a;
+		final float g = color.g * color.a;
+		final float b = color.b * color.a;
+		final float a = color.a;
+		
+		return new Color4F(r, g, b, a);
+	}
+	
 	/**
 	 * Returns a {@code Color4F} instance with random component values.
 	 * <p>
@@ -1461,6 +1481,32 @@ public final class Color4F {
 		return new Color4F(r, g, b, a);
 	}
 	
+	/**
+	 * Divides the red, green and blue component values of {@code color} with its alpha component value.
+	 * <p>
+	 * Returns a new {@code Color4F} instance with the result of the division.
+	 * <p>
+	 * If the alpha component value of {@code color} is {@code 0.0F}, {@code Color4F.TRANSPARENT} will be returned.
+	 * <p>
+	 * If {@code color} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param color a {@code Color4F} instance with premultiplied alpha
+	 * @return a new {@code Color4F} instance with the result of the division
+	 * @throws NullPointerException thrown if, and only if, {@code color} is {@code null}
+	 */
+	public static Color4F unpremultiply(final Color4F color) {
+		if(color.a == 0.0F) {
+			return TRANSPARENT;
+		}
+		
+		final float r = color.r / color.a;
+		final float g = color.g / color.a;
+		final float b = color.b / color.a;
+		final float a = color.a;
+		
+		return new Color4F(r, g, b, a);
+	}
+	
 	/**
 	 * Returns a {@code Color4F[]} with a length of {@code length} and contains {@code Color4F.TRANSPARENT}.
 	 * <p>
@@ -1770,6 +1770,30 @@ public final class Color4I {
 		return CACHE.size();
 	}
 	
+	/**
+	 * Multiplies the red, green and blue components of {@code colorARGB} with its alpha component.
+	 * <p>
+	 * Returns an {@code int} that contains the color in packed form with premultiplied alpha.
+	 * <p>
+	 * This method uses integer arithmetic only. The result is rounded to the nearest integer.
+	 * 
+	 * @param colorARGB an {@code int} that contains packed A-, R-, G- and B-components with straight alpha
+	 * @return an {@code int} that contains the color in packed form with premultiplied alpha
+	 */
+	public static int premultiplyARGB(final int colorARGB) {
+		final int a = fromIntARGBToIntA(colorARGB);
+		
+		if(a == 0xFF) {
+			return colorARGB;
+		}
+		
+		final int r = (fromIntARGBToIntR(colorARGB) * a + 0x7F) / 0xFF;
+		final int g = (fromIntARGBToIntG(colorARGB) * a + 0x7F) / 0xFF;
+		final int b = (fromIntARGBToIntB(colorARGB) * a + 0x7F) / 0xFF;
+		
+		return toIntARGB(r, g, b, a);
+	}
+	
 	/**
 	 * Converts {@code colorARGB} to its Sepia-representation.
 	 * <p>
@@ -1826,6 +1850,36 @@ public final class Color4I {
 		return colorR | colorG | colorB;
 	}
 	
+	/**
+	 * Divides the red, green and blue components of {@code colorARGB} by its alpha component.
+	 * <p>
+	 * Returns an {@code int} that contains the color in packed form with straight alpha.
+	 * <p>
+	 * If the alpha component of {@code colorARGB} is {@code 0}, {@code 0} will be returned.
+	 * <p>
+	 * This method uses integer arithmetic only. The result is rounded to the nearest integer.
+	 * 
+	 * @param colorARGB an {@code int} that contains packed A-, R-, G- and B-components with premultiplied alpha
+	 * @return an {@code int} that contains the color in packed form with straight alpha
+	 */
+	public static int unpremultiplyARGB(final int colorARGB) {
+		final int a = fromIntARGBToIntA(colorARGB);
+		
+		if(a == 0xFF) {
+			return colorARGB;
+		}
+		
+		if(a == 0x00) {
+			return 0;
+		}
+		
+		final int r = (fromIntARGBToIntR(colorARGB) * 0xFF + a / 2) / a;
+		final int g = (fromIntARGBToIntG(colorARGB) * 0xFF + a / 2) / a;
+		final int b = (fromIntARGBToIntB(colorARGB) * 0xFF + a / 2) / a;
+		
+		return toIntARGB(r, g, b, a);
+	}
+	
 	/**
 	 * Clears the cache.
 	 */
@@ -18,9 +18,11 @@
  */
 package org.macroing.art4j.curve;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 import org.macroing.java.lang.Floats;
+import org.macroing.java.lang.Ints;
 import org.macroing.java.lang.Strings;
 
 /**
@@ -100,6 +102,35 @@ public final class ConstantSpectralCurveF extends SpectralCurveF {
 		return this.amplitude;
 	}
 	
+	/**
+	 * Samples this {@code ConstantSpectralCurveF} instance at the wavelengths in {@code lambdas} and stores the samples in {@code samples}.
+	 * <p>
+	 * Returns {@code samples}.
+	 * <p>
+	 * If either {@code lambdas} or {@code samples} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code samples.length} is less than {@code lambdas.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The element at index {@code i} in {@code samples} is assigned the value returned by {@code sample(lambdas[i])}.
+	 * 
+	 * @param lambdas an array with wavelengths in nanometers
+	 * @param samples an array to store the samples in
+	 * @return {@code samples}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code samples.length} is less than {@code lambdas.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code lambdas} or {@code samples} are {@code null}
+	 */
+	@Override
+	public float[] sample(final float[] lambdas, final float[] samples) {
+		Objects.requireNonNull(lambdas, "lambdas == null");
+		Objects.requireNonNull(samples, "samples == null");
+		
+		Ints.requireRange(samples.length, lambdas.length, Integer.MAX_VALUE, "samples.length");
+		
+		Arrays.fill(samples, 0, lambdas.length, this.amplitude);
+		
+		return samples;
+	}
+	
 	/**
 	 * Returns a hash code for this {@code ConstantSpectralCurveF} instance.
 	 * 
@@ -26,6 +26,8 @@ import org.macroing.java.lang.Strings;
 /**
  * An {@code IrregularSpectralCurveD} is an implementation of {@link SpectralCurveD} that contains irregular spectral data.
  * <p>
+ * The wavelengths are assumed to be sorted in ascending order. A sample is found using a binary search, so sampling is a logarithmic time operation with regards to the number of wavelengths.
+ * <p>
  * This class is immutable and therefore suitable for concurrent use without external synchronization.
  * 
  * @since 1.0.0
@@ -180,16 +182,16 @@ public final class IrregularSpectralCurveD extends SpectralCurveD {
 		} else if(this.wavelengths.length == 1 || lambda <= this.wavelengths[0]) {
 			return this.amplitudes[0];
 		} else {
-			for(int i = 1; i < this.wavelengths.length; i++) {
-				if(lambda < this.wavelengths[i]) {
-					final double deltaX = (lambda - this.wavelengths[i - 1]) / (this.wavelengths[i] - this.wavelengths[i - 1]);
-					final double sample = (1.0D - deltaX) * this.amplitudes[i - 1] + deltaX * this.amplitudes[i];
-					
-					return sample;
-				}
+			final int i = doFindIndex(lambda);
+			
+			if(i == this.wavelengths.length) {
+				return this.amplitudes[this.wavelengths.length - 1];
 			}
 			
-			return this.amplitudes[this.wavelengths.length - 1];
+			final double deltaX = (lambda - this.wavelengths[i - 1]) / (this.wavelengths[i] - this.wavelengths[i - 1]);
+			final double sample = (1.0D - deltaX) * this.amplitudes[i - 1] + deltaX * this.amplitudes[i];
+			
+			return sample;
 		}
 	}
 	
@@ -224,4 +226,23 @@ public final class IrregularSpectralCurveD extends SpectralCurveD {
 	public int hashCode() {
 		return Objects.hash(Integer.valueOf(Arrays.hashCode(this.amplitudes)), Integer.valueOf(Arrays.hashCode(this.wavelengths)));
 	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private int doFindIndex(final double lambda) {
+		int low = 1;
+		int high = this.wavelengths.length;
+		
+		while(low < high) {
+			final int middle = (low + high) >>> 1;
+			
+			if(lambda < this.wavelengths[middle]) {
+				high = middle;
+			} else {
+				low = middle + 1;
+			}
+		}
+		
+		return low;
+	}
 }
\ No newline at end of file
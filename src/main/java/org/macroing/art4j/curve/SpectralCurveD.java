@@ -18,11 +18,16 @@
  */
 package org.macroing.art4j.curve;
 
+import java.util.Objects;
+
 import org.macroing.art4j.color.Color3D;
 import org.macroing.art4j.color.ColorSpaceD;
+import org.macroing.java.lang.Ints;
 
 /**
  * A {@code SpectralCurveD} is used for sampled or analytic spectral data.
+ * <p>
+ * The {@link Color3D} instances returned by {@link #toColorRGB()} and {@link #toColorXYZ()} are computed once and cached. A subclass should therefore be immutable, such that {@link #sample(double)} always returns the same sample for the same wavelength.
  * 
  * @since 1.0.0
  * @author J&#246;rgen Lundgren
@@ -36,6 +41,11 @@ public abstract class SpectralCurveD {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	private volatile Color3D colorRGB;
+	private volatile Color3D colorXYZ;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
 	/**
 	 * Constructs a new {@code SpectralCurveD} instance.
 	 */
@@ -51,7 +61,13 @@ public abstract class SpectralCurveD {
 	 * @return a {@code Color3D} instance in RGB-color space
 	 */
 	public final Color3D toColorRGB() {
-		return ColorSpaceD.getDefault().convertXYZToRGB(toColorXYZ());
+		Color3D colorRGB = this.colorRGB;
+		
+		if(colorRGB == null) {
+			colorRGB = this.colorRGB = ColorSpaceD.getDefault().convertXYZToRGB(toColorXYZ());
+		}
+		
+		return colorRGB;
 	}
 	
 	/**
@@ -60,12 +76,115 @@ public abstract class SpectralCurveD {
 	 * @return a {@code Color3D} instance in XYZ-color space
 	 */
 	public final Color3D toColorXYZ() {
+		Color3D colorXYZ = this.colorXYZ;
+		
+		if(colorXYZ == null) {
+			colorXYZ = this.colorXYZ = doComputeColorXYZ();
+		}
+		
+		return colorXYZ;
+	}
+	
+	/**
+	 * Returns a {@link RegularSpectralCurveD} instance with this {@code SpectralCurveD} instance resampled at the wavelengths used by {@link #toColorXYZ()}.
+	 * <p>
+	 * The wavelengths are in the range {@code [360.0, 830.0]}, with a distance of {@code 1.0} nanometers between two adjacent samples. The {@code RegularSpectralCurveD} instance returned can therefore be sampled using direct indexing, and {@code toColorXYZ()} returns the same color for both instances.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * spectralCurve.toRegularSpectralCurve(360.0D, 830.0D, 471);
+	 * }
+	 * </pre>
+	 * 
+	 * @return a {@code RegularSpectralCurveD} instance with this {@code SpectralCurveD} instance resampled at the wavelengths used by {@code toColorXYZ()}
+	 */
+	public final RegularSpectralCurveD toRegularSpectralCurve() {
+		return toRegularSpectralCurve(CIE_LAMBDA[0], CIE_LAMBDA[CIE_LAMBDA.length - 1], CIE_LAMBDA.length);
+	}
+	
+	/**
+	 * Returns a {@link RegularSpectralCurveD} instance with this {@code SpectralCurveD} instance resampled at {@code sampleCount} evenly spaced wavelengths in the range {@code [lambdaMin, lambdaMax]}.
+	 * <p>
+	 * If either {@code sampleCount} is less than {@code 2} or {@code lambdaMin} is not less than {@code lambdaMax}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Sampling the {@code RegularSpectralCurveD} instance returned is a constant time operation, regardless of how this {@code SpectralCurveD} instance is sampled. Note that a {@code RegularSpectralCurveD} instance returns {@code 0.0D} outside the range {@code [lambdaMin, lambdaMax]}.
+	 * 
+	 * @param lambdaMin the minimum wavelength in nanometers
+	 * @param lambdaMax the maximum wavelength in nanometers
+	 * @param sampleCount the number of samples
+	 * @return a {@code RegularSpectralCurveD} instance with this {@code SpectralCurveD} instance resampled at {@code sampleCount} evenly spaced wavelengths in the range {@code [lambdaMin, lambdaMax]}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code sampleCount} is less than {@code 2} or {@code lambdaMin} is not less than {@code lambdaMax}
+	 */
+	public final RegularSpectralCurveD toRegularSpectralCurve(final double lambdaMin, final double lambdaMax, final int sampleCount) {
+		Ints.requireRange(sampleCount, 2, Integer.MAX_VALUE, "sampleCount");
+		
+		if(!(lambdaMin < lambdaMax)) {
+			throw new IllegalArgumentException(String.format("lambdaMin >= lambdaMax: lambdaMin = %s, lambdaMax = %s", Double.toString(lambdaMin), Double.toString(lambdaMax)));
+		}
+		
+		final double delta = (lambdaMax - lambdaMin) / (sampleCount - 1);
+		
+		final double[] lambdas = new double[sampleCount];
+		
+		for(int i = 0; i < sampleCount - 1; i++) {
+			lambdas[i] = lambdaMin + i * delta;
+		}
+		
+		lambdas[sampleCount - 1] = lambdaMax;
+		
+		return new RegularSpectralCurveD(lambdaMin, lambdaMax, sample(lambdas, new double[sampleCount]));
+	}
+	
+	/**
+	 * Returns a sample based on the wavelength {@code lambda} in nanometers.
+	 * 
+	 * @param lambda the wavelength in nanometers
+	 * @return a sample based on the wavelength {@code lambda} in nanometers
+	 */
+	public abstract double sample(final double lambda);
+	
+	/**
+	 * Samples this {@code SpectralCurveD} instance at the wavelengths in {@code lambdas} and stores the samples in {@code samples}.
+	 * <p>
+	 * Returns {@code samples}.
+	 * <p>
+	 * If either {@code lambdas} or {@code samples} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code samples.length} is less than {@code lambdas.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The element at index {@code i} in {@code samples} is assigned the value returned by {@code sample(lambdas[i])}.
+	 * 
+	 * @param lambdas an array with wavelengths in nanometers
+	 * @param samples an array to store the samples in
+	 * @return {@code samples}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code samples.length} is less than {@code lambdas.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code lambdas} or {@code samples} are {@code null}
+	 */
+	public double[] sample(final double[] lambdas, final double[] samples) {
+		Objects.requireNonNull(lambdas, "lambdas == null");
+		Objects.requireNonNull(samples, "samples == null");
+		
+		Ints.requireRange(samples.length, lambdas.length, Integer.MAX_VALUE, "samples.length");
+		
+		for(int i = 0; i < lambdas.length; i++) {
+			samples[i] = sample(lambdas[i]);
+		}
+		
+		return samples;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private Color3D doComputeColorXYZ() {
 		double x = 0.0D;
 		double y = 0.0D;
 		double z = 0.0D;
 		
+		final double[] samples = sample(CIE_LAMBDA, new double[CIE_LAMBDA.length]);
+		
 		for(int i = 0; i < CIE_LAMBDA.length; i++) {
-			final double s = sample(CIE_LAMBDA[i]);
+			final double s = samples[i];
 			
 			x += s * CIE_X_BAR[i];
 			y += s * CIE_Y_BAR[i];
@@ -80,12 +199,4 @@ public abstract class SpectralCurveD {
 		
 		return new Color3D(x, y, z);
 	}
-	
-	/**
-	 * Returns a sample based on the wavelength {@code lambda} in nanometers.
-	 * 
-	 * @param lambda the wavelength in nanometers
-	 * @return a sample based on the wavelength {@code lambda} in nanometers
-	 */
-	public abstract double sample(final double lambda);
 }
\ No newline at end of file
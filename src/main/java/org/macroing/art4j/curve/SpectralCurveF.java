@@ -18,11 +18,16 @@
  */
 package org.macroing.art4j.curve;
 
+import java.util.Objects;
+
 import org.macroing.art4j.color.Color3F;
 import org.macroing.art4j.color.ColorSpaceF;
+import org.macroing.java.lang.Ints;
 
 /**
  * A {@code SpectralCurveF} is used for sampled or analytic spectral data.
+ * <p>
+ * The {@link Color3F} instances returned by {@link #toColorRGB()} and {@link #toColorXYZ()} are computed once and cached. A subclass should therefore be immutable, such that {@link #sample(float)} always returns the same sample for the same wavelength.
  * 
  * @since 1.0.0
  * @author J&#246;rgen Lundgren
@@ -31,6 +36,11 @@ public abstract class SpectralCurveF {
 	private static final double[] CIE_X_BAR = {0.000129900000D, 0.000145847000D, 0.000163802100D, 0.000184003700D, 0.000206690200D, 0.000232100000D, 0.000260728000D, 0.000293075000D, 0.000329388000D, 0.00036991400D, 0.00041490000D, 0.00046415870D, 0.00051898600D, 0.00058185400D, 0.00065523470D, 0.00074160000D, 0.00084502960D, 0.00096452680D, 0.00109494900D, 0.00123115400D, 0.00136800000D, 0.00150205000D, 0.00164232800D, 0.00180238200D, 0.00199575700D, 0.00223600000D, 0.00253538500D, 0.00289260300D, 0.00330082900D, 0.0037532360D, 0.0042430000D, 0.0047623890D, 0.0053300480D, 0.0059787120D, 0.0067411170D, 0.0076500000D, 0.0087513730D, 0.0100288800D, 0.0114217000D, 0.01286901D, 0.01431000D, 0.01570443D, 0.01714744D, 0.01878122D, 0.02074801D, 0.02319000D, 0.02620736D, 0.02978248D, 0.03388092D, 0.03846824D, 0.04351000D, 0.04899560D, 0.05502260D, 0.06171880D, 0.06921200D, 0.07763000D, 0.08695811D, 0.09717672D, 0.1084063D, 0.1207672D, 0.1343800D, 0.1493582D, 0.1653957D, 0.1819831D, 0.1986110D, 0.2147700D, 0.2301868D, 0.2448797D, 0.2587773D, 0.2718079D, 0.2839000D, 0.2949438D, 0.3048965D, 0.3137873D, 0.3216454D, 0.3285000D, 0.3343513D, 0.3392101D, 0.3431213D, 0.3461296D, 0.3482800D, 0.3495999D, 0.3501474D, 0.3500130D, 0.3492870D, 0.3480600D, 0.3463733D, 0.3442624D, 0.3418088D, 0.3390941D, 0.3362000D, 0.3331977D, 0.3300411D, 0.3266357D, 0.3228868D, 0.3187000D, 0.3140251D, 0.3088840D, 0.3032904D, 0.2972579D, 0.2908000D, 0.2839701D, 0.2767214D, 0.2689178D, 0.2604227D, 0.2511000D, 0.2408475D, 0.2298512D, 0.2184072D, 0.2068115D, 0.1953600D, 0.1842136D, 0.1733273D, 0.1626881D, 0.1522833D, 0.1421000D, 0.1321786D, 0.1225696D, 0.1132752D, 0.1042979D, 0.09564000D, 0.08729955D, 0.07930804D, 0.07171776D, 0.06458099D, 0.05795001D, 0.05186211D, 0.04628152D, 0.04115088D, 0.03641283D, 0.03201000D, 0.02791720D, 0.02414440D, 0.02068700D, 0.01754040D, 0.01470000D, 0.01216179D, 0.009919960D, 0.007967240D, 0.006296346D, 0.004900000D, 0.003777173D, 0.002945320D, 0.002424880D, 0.002236293D, 0.002400000D, 0.002925520D, 0.003836560D, 0.005174840D, 0.006982080D, 0.009300000D, 0.01214949D, 0.01553588D, 0.01947752D, 0.02399277D, 0.02910000D, 0.03481485D, 0.04112016D, 0.04798504D, 0.05537861D, 0.06327000D, 0.07163501D, 0.08046224D, 0.08973996D, 0.09945645D, 0.1096000D, 0.1201674D, 0.1311145D, 0.1423679D, 0.1538542D, 0.1655000D, 0.1772571D, 0.1891400D, 0.2011694D, 0.2133658D, 0.2257499D, 0.2383209D, 0.2510668D, 0.2639922D, 0.2771017D, 0.2904000D, 0.3038912D, 0.3175726D, 0.3314384D, 0.3454828D, 0.3597000D, 0.3740839D, 0.3886396D, 0.4033784D, 0.4183115D, 0.4334499D, 0.4487953D, 0.4643360D, 0.4800640D, 0.4959713D, 0.5120501D, 0.5282959D, 0.5446916D, 0.5612094D, 0.5778215D, 0.5945000D, 0.6112209D, 0.6279758D, 0.6447602D, 0.6615697D, 0.6784000D, 0.6952392D, 0.7120586D, 0.7288284D, 0.7455188D, 0.7621000D, 0.7785432D, 0.7948256D, 0.8109264D, 0.8268248D, 0.8425000D, 0.8579325D, 0.8730816D, 0.8878944D, 0.9023181D, 0.9163000D, 0.9297995D, 0.9427984D, 0.9552776D, 0.9672179D, 0.9786000D, 0.9893856D, 0.9995488D, 1.0090892D, 1.0180064D, 1.0263000D, 1.0339827D, 1.0409860D, 1.0471880D, 1.0524667D, 1.0567000D, 1.0597944D, 1.0617992D, 1.0628068D, 1.0629096D, 1.0622000D, 1.0607352D, 1.0584436D, 1.0552244D, 1.0509768D, 1.0456000D, 1.0390369D, 1.0313608D, 1.0226662D, 1.0130477D, 1.0026000D, 0.9913675D, 0.9793314D, 0.9664916D, 0.9528479D, 0.9384000D, 0.9231940D, 0.9072440D, 0.8905020D, 0.8729200D, 0.8544499D, 0.8350840D, 0.8149460D, 0.7941860D, 0.7729540D, 0.7514000D, 0.7295836D, 0.7075888D, 0.6856022D, 0.6638104D, 0.6424000D, 0.6215149D, 0.6011138D, 0.5811052D, 0.5613977D, 0.5419000D, 0.5225995D, 0.5035464D, 0.4847436D, 0.4661939D, 0.4479000D, 0.4298613D, 0.4120980D, 0.3946440D, 0.3775333D, 0.3608000D, 0.3444563D, 0.3285168D, 0.3130192D, 0.2980011D, 0.2835000D, 0.2695448D, 0.2561184D, 0.2431896D, 0.2307272D, 0.2187000D, 0.2070971D, 0.1959232D, 0.1851708D, 0.1748323D, 0.1649000D, 0.1553667D, 0.1462300D, 0.1374900D, 0.1291467D, 0.1212000D, 0.1136397D, 0.1064650D, 0.09969044D, 0.09333061D, 0.08740000D, 0.08190096D, 0.07680428D, 0.07207712D, 0.06768664D, 0.06360000D, 0.05980685D, 0.05628216D, 0.05297104D, 0.04981861D, 0.04677000D, 0.04378405D, 0.04087536D, 0.03807264D, 0.03540461D, 0.03290000D, 0.03056419D, 0.02838056D, 0.02634484D, 0.02445275D, 0.02270000D, 0.02108429D, 0.01959988D, 0.01823732D, 0.01698717D, 0.01584000D, 0.01479064D, 0.01383132D, 0.01294868D, 0.01212920D, 0.01135916D, 0.01062935D, 0.009938846D, 0.009288422D, 0.008678854D, 0.008110916D, 0.007582388D, 0.007088746D, 0.006627313D, 0.006195408D, 0.005790346D, 0.005409826D, 0.005052583D, 0.004717512D, 0.004403507D, 0.004109457D, 0.003833913D, 0.003575748D, 0.003334342D, 0.003109075D, 0.002899327D, 0.002704348D, 0.002523020D, 0.002354168D, 0.002196616D, 0.002049190D, 0.001910960D, 0.001781438D, 0.001660110D, 0.001546459D, 0.001439971D, 0.001340042D, 0.001246275D, 0.001158471D, 0.001076430D, 0.0009999493D, 0.0009287358D, 0.0008624332D, 0.0008007503D, 0.0007433960D, 0.0006900786D, 0.0006405156D, 0.0005945021D, 0.0005518646D, 0.0005124290D, 0.0004760213D, 0.0004424536D, 0.0004115117D, 0.0003829814D, 0.0003566491D, 0.0003323011D, 0.0003097586D, 0.0002888871D, 0.0002695394D, 0.0002515682D, 0.0002348261D, 0.0002191710D, 0.0002045258D, 0.0001908405D, 0.0001780654D, 0.0001661505D, 0.0001550236D, 0.0001446219D, 0.0001349098D, 0.0001258520D, 0.0001174130D, 0.0001095515D, 0.0001022245D, 0.00009539445D, 0.00008902390D, 0.00008307527D, 0.00007751269D, 0.00007231304D, 0.00006745778D, 0.00006292844D, 0.00005870652D, 0.00005477028D, 0.00005109918D, 0.00004767654D, 0.00004448567D, 0.00004150994D, 0.00003873324D, 0.00003614203D, 0.00003372352D, 0.00003146487D, 0.00002935326D, 0.00002737573D, 0.00002552433D, 0.00002379376D, 0.00002217870D, 0.00002067383D, 0.00001927226D, 0.00001796640D, 0.00001674991D, 0.00001561648D, 0.00001455977D, 0.00001357387D, 0.00001265436D, 0.00001179723D, 0.00001099844D, 0.00001025398D, 0.000009559646D, 0.000008912044D, 0.000008308358D, 0.000007745769D, 0.000007221456D, 0.000006732475D, 0.000006276423D, 0.000005851304D, 0.000005455118D, 0.000005085868D, 0.000004741466D, 0.000004420236D, 0.000004120783D, 0.000003841716D, 0.000003581652D, 0.000003339127D, 0.000003112949D, 0.000002902121D, 0.000002705645D, 0.000002522525D, 0.000002351726D, 0.000002192415D, 0.000002043902D, 0.000001905497D, 0.000001776509D, 0.000001656215D, 0.000001544022D, 0.000001439440D, 0.000001341977D, 0.000001251141D};
 	private static final double[] CIE_Y_BAR = {0.000003917000D, 0.000004393581D, 0.000004929604D, 0.000005532136D, 0.000006208245D, 0.000006965000D, 0.000007813219D, 0.000008767336D, 0.000009839844D, 0.00001104323D, 0.00001239000D, 0.00001388641D, 0.00001555728D, 0.00001744296D, 0.00001958375D, 0.00002202000D, 0.00002483965D, 0.00002804126D, 0.00003153104D, 0.00003521521D, 0.00003900000D, 0.00004282640D, 0.00004691460D, 0.00005158960D, 0.00005717640D, 0.00006400000D, 0.00007234421D, 0.00008221224D, 0.00009350816D, 0.0001061361D, 0.0001200000D, 0.0001349840D, 0.0001514920D, 0.0001702080D, 0.0001918160D, 0.0002170000D, 0.0002469067D, 0.0002812400D, 0.0003185200D, 0.0003572667D, 0.0003960000D, 0.0004337147D, 0.0004730240D, 0.0005178760D, 0.0005722187D, 0.0006400000D, 0.0007245600D, 0.0008255000D, 0.0009411600D, 0.001069880D, 0.001210000D, 0.001362091D, 0.001530752D, 0.001720368D, 0.001935323D, 0.002180000D, 0.002454800D, 0.002764000D, 0.003117800D, 0.003526400D, 0.004000000D, 0.004546240D, 0.005159320D, 0.005829280D, 0.006546160D, 0.007300000D, 0.008086507D, 0.008908720D, 0.009767680D, 0.01066443D, 0.01160000D, 0.01257317D, 0.01358272D, 0.01462968D, 0.01571509D, 0.01684000D, 0.01800736D, 0.01921448D, 0.02045392D, 0.02171824D, 0.02300000D, 0.02429461D, 0.02561024D, 0.02695857D, 0.02835125D, 0.02980000D, 0.03131083D, 0.03288368D, 0.03452112D, 0.03622571D, 0.03800000D, 0.03984667D, 0.04176800D, 0.04376600D, 0.04584267D, 0.04800000D, 0.05024368D, 0.05257304D, 0.05498056D, 0.05745872D, 0.06000000D, 0.06260197D, 0.06527752D, 0.06804208D, 0.07091109D, 0.07390000D, 0.07701600D, 0.08026640D, 0.08366680D, 0.08723280D, 0.09098000D, 0.09491755D, 0.09904584D, 0.1033674D, 0.1078846D, 0.1126000D, 0.1175320D, 0.1226744D, 0.1279928D, 0.1334528D, 0.1390200D, 0.1446764D, 0.1504693D, 0.1564619D, 0.1627177D, 0.1693000D, 0.1762431D, 0.1835581D, 0.1912735D, 0.1994180D, 0.2080200D, 0.2171199D, 0.2267345D, 0.2368571D, 0.2474812D, 0.2586000D, 0.2701849D, 0.2822939D, 0.2950505D, 0.3085780D, 0.3230000D, 0.3384021D, 0.3546858D, 0.3716986D, 0.3892875D, 0.4073000D, 0.4256299D, 0.4443096D, 0.4633944D, 0.4829395D, 0.5030000D, 0.5235693D, 0.5445120D, 0.5656900D, 0.5869653D, 0.6082000D, 0.6293456D, 0.6503068D, 0.6708752D, 0.6908424D, 0.7100000D, 0.7281852D, 0.7454636D, 0.7619694D, 0.7778368D, 0.7932000D, 0.8081104D, 0.8224962D, 0.8363068D, 0.8494916D, 0.8620000D, 0.8738108D, 0.8849624D, 0.8954936D, 0.9054432D, 0.9148501D, 0.9237348D, 0.9320924D, 0.9399226D, 0.9472252D, 0.9540000D, 0.9602561D, 0.9660074D, 0.9712606D, 0.9760225D, 0.9803000D, 0.9840924D, 0.9874812D, 0.9903128D, 0.9928116D, 0.9949501D, 0.9967108D, 0.9980983D, 0.9991120D, 0.9997482D, 1.0000000D, 0.9998567D, 0.9993046D, 0.9983255D, 0.9968987D, 0.9950000D, 0.9926005D, 0.9897426D, 0.9864444D, 0.9827241D, 0.9786000D, 0.9740837D, 0.9691712D, 0.9638568D, 0.9581349D, 0.9520000D, 0.9454504D, 0.9384992D, 0.9311628D, 0.9234576D, 0.9154000D, 0.9070064D, 0.8982772D, 0.8892048D, 0.8797816D, 0.8700000D, 0.8598613D, 0.8493920D, 0.8386220D, 0.8275813D, 0.8163000D, 0.8047947D, 0.7930820D, 0.7811920D, 0.7691547D, 0.7570000D, 0.7447541D, 0.7324224D, 0.7200036D, 0.7074965D, 0.6949000D, 0.6822192D, 0.6694716D, 0.6566744D, 0.6438448D, 0.6310000D, 0.6181555D, 0.6053144D, 0.5924756D, 0.5796379D, 0.5668000D, 0.5539611D, 0.5411372D, 0.5283528D, 0.5156323D, 0.5030000D, 0.4904688D, 0.4780304D, 0.4656776D, 0.4534032D, 0.4412000D, 0.4290800D, 0.4170360D, 0.4050320D, 0.3930320D, 0.3810000D, 0.3689184D, 0.3568272D, 0.3447768D, 0.3328176D, 0.3210000D, 0.3093381D, 0.2978504D, 0.2865936D, 0.2756245D, 0.2650000D, 0.2547632D, 0.2448896D, 0.2353344D, 0.2260528D, 0.2170000D, 0.2081616D, 0.1995488D, 0.1911552D, 0.1829744D, 0.1750000D, 0.1672235D, 0.1596464D, 0.1522776D, 0.1451259D, 0.1382000D, 0.1315003D, 0.1250248D, 0.1187792D, 0.1127691D, 0.1070000D, 0.1014762D, 0.09618864D, 0.09112296D, 0.08626485D, 0.08160000D, 0.07712064D, 0.07282552D, 0.06871008D, 0.06476976D, 0.06100000D, 0.05739621D, 0.05395504D, 0.05067376D, 0.04754965D, 0.04458000D, 0.04175872D, 0.03908496D, 0.03656384D, 0.03420048D, 0.03200000D, 0.02996261D, 0.02807664D, 0.02632936D, 0.02470805D, 0.02320000D, 0.02180077D, 0.02050112D, 0.01928108D, 0.01812069D, 0.01700000D, 0.01590379D, 0.01483718D, 0.01381068D, 0.01283478D, 0.01192000D, 0.01106831D, 0.01027339D, 0.009533311D, 0.008846157D, 0.008210000D, 0.007623781D, 0.007085424D, 0.006591476D, 0.006138485D, 0.005723000D, 0.005343059D, 0.004995796D, 0.004676404D, 0.004380075D, 0.004102000D, 0.003838453D, 0.003589099D, 0.003354219D, 0.003134093D, 0.002929000D, 0.002738139D, 0.002559876D, 0.002393244D, 0.002237275D, 0.002091000D, 0.001953587D, 0.001824580D, 0.001703580D, 0.001590187D, 0.001484000D, 0.001384496D, 0.001291268D, 0.001204092D, 0.001122744D, 0.001047000D, 0.0009765896D, 0.0009111088D, 0.0008501332D, 0.0007932384D, 0.0007400000D, 0.0006900827D, 0.0006433100D, 0.0005994960D, 0.0005584547D, 0.0005200000D, 0.0004839136D, 0.0004500528D, 0.0004183452D, 0.0003887184D, 0.0003611000D, 0.0003353835D, 0.0003114404D, 0.0002891656D, 0.0002684539D, 0.0002492000D, 0.0002313019D, 0.0002146856D, 0.0001992884D, 0.0001850475D, 0.0001719000D, 0.0001597781D, 0.0001486044D, 0.0001383016D, 0.0001287925D, 0.0001200000D, 0.0001118595D, 0.0001043224D, 0.00009733560D, 0.00009084587D, 0.00008480000D, 0.00007914667D, 0.00007385800D, 0.00006891600D, 0.00006430267D, 0.00006000000D, 0.00005598187D, 0.00005222560D, 0.00004871840D, 0.00004544747D, 0.00004240000D, 0.00003956104D, 0.00003691512D, 0.00003444868D, 0.00003214816D, 0.00003000000D, 0.00002799125D, 0.00002611356D, 0.00002436024D, 0.00002272461D, 0.00002120000D, 0.00001977855D, 0.00001845285D, 0.00001721687D, 0.00001606459D, 0.00001499000D, 0.00001398728D, 0.00001305155D, 0.00001217818D, 0.00001136254D, 0.00001060000D, 0.000009885877D, 0.000009217304D, 0.000008592362D, 0.000008009133D, 0.000007465700D, 0.000006959567D, 0.000006487995D, 0.000006048699D, 0.000005639396D, 0.000005257800D, 0.000004901771D, 0.000004569720D, 0.000004260194D, 0.000003971739D, 0.000003702900D, 0.000003452163D, 0.000003218302D, 0.000003000300D, 0.000002797139D, 0.000002607800D, 0.000002431220D, 0.000002266531D, 0.000002113013D, 0.000001969943D, 0.000001836600D, 0.000001712230D, 0.000001596228D, 0.000001488090D, 0.000001387314D, 0.000001293400D, 0.000001205820D, 0.000001124143D, 0.000001048009D, 0.0000009770578D, 0.0000009109300D, 0.0000008492513D, 0.0000007917212D, 0.0000007380904D, 0.0000006881098D, 0.0000006415300D, 0.0000005980895D, 0.0000005575746D, 0.0000005198080D, 0.0000004846123D, 0.0000004518100D};
 	private static final double[] CIE_Z_BAR = {0.000606100000D, 0.000680879200D, 0.000765145600D, 0.000860012400D, 0.000966592800D, 0.001086000000D, 0.001220586000D, 0.001372729000D, 0.001543579000D, 0.00173428600D, 0.00194600000D, 0.00217777700D, 0.00243580900D, 0.00273195300D, 0.00307806400D, 0.00348600000D, 0.00397522700D, 0.00454088000D, 0.00515832000D, 0.00580290700D, 0.00645000100D, 0.00708321600D, 0.00774548800D, 0.00850115200D, 0.00941454400D, 0.01054999000D, 0.01196580000D, 0.01365587000D, 0.01558805000D, 0.0177301500D, 0.0200500100D, 0.0225113600D, 0.0252028800D, 0.0282797200D, 0.0318970400D, 0.0362100000D, 0.0414377100D, 0.0475037200D, 0.0541198800D, 0.06099803D, 0.06785001D, 0.07448632D, 0.08136156D, 0.08915364D, 0.09854048D, 0.1102000D, 0.1246133D, 0.1417017D, 0.1613035D, 0.1832568D, 0.2074000D, 0.2336921D, 0.2626114D, 0.2947746D, 0.3307985D, 0.3713000D, 0.4162091D, 0.4654642D, 0.5196948D, 0.5795303D, 0.6456000D, 0.7184838D, 0.7967133D, 0.8778459D, 0.9594390D, 1.0390501D, 1.1153673D, 1.1884971D, 1.2581233D, 1.3239296D, 1.3856000D, 1.4426352D, 1.4948035D, 1.5421903D, 1.5848807D, 1.6229600D, 1.6564048D, 1.6852959D, 1.7098745D, 1.7303821D, 1.7470600D, 1.7600446D, 1.7696233D, 1.7762637D, 1.7804334D, 1.7826000D, 1.7829682D, 1.7816998D, 1.7791982D, 1.7758671D, 1.7721100D, 1.7682589D, 1.7640390D, 1.7589438D, 1.7524663D, 1.7441000D, 1.7335595D, 1.7208581D, 1.7059369D, 1.6887372D, 1.6692000D, 1.6475287D, 1.6234127D, 1.5960223D, 1.5645280D, 1.5281000D, 1.4861114D, 1.4395215D, 1.3898799D, 1.3387362D, 1.2876400D, 1.2374223D, 1.1878243D, 1.1387611D, 1.0901480D, 1.0419000D, 0.9941976D, 0.9473473D, 0.9014531D, 0.8566193D, 0.8129501D, 0.7705173D, 0.7294448D, 0.6899136D, 0.6521049D, 0.6162000D, 0.5823286D, 0.5504162D, 0.5203376D, 0.4919673D, 0.4651800D, 0.4399246D, 0.4161836D, 0.3938822D, 0.3729459D, 0.3533000D, 0.3348578D, 0.3175521D, 0.3013375D, 0.2861686D, 0.2720000D, 0.2588171D, 0.2464838D, 0.2347718D, 0.2234533D, 0.2123000D, 0.2011692D, 0.1901196D, 0.1792254D, 0.1685608D, 0.1582000D, 0.1481383D, 0.1383758D, 0.1289942D, 0.1200751D, 0.1117000D, 0.1039048D, 0.09666748D, 0.08998272D, 0.08384531D, 0.07824999D, 0.07320899D, 0.06867816D, 0.06456784D, 0.06078835D, 0.05725001D, 0.05390435D, 0.05074664D, 0.04775276D, 0.04489859D, 0.04216000D, 0.03950728D, 0.03693564D, 0.03445836D, 0.03208872D, 0.02984000D, 0.02771181D, 0.02569444D, 0.02378716D, 0.02198925D, 0.02030000D, 0.01871805D, 0.01724036D, 0.01586364D, 0.01458461D, 0.01340000D, 0.01230723D, 0.01130188D, 0.01037792D, 0.009529306D, 0.008749999D, 0.008035200D, 0.007381600D, 0.006785400D, 0.006242800D, 0.005749999D, 0.005303600D, 0.004899800D, 0.004534200D, 0.004202400D, 0.003900000D, 0.003623200D, 0.003370600D, 0.003141400D, 0.002934800D, 0.002749999D, 0.002585200D, 0.002438600D, 0.002309400D, 0.002196800D, 0.002100000D, 0.002017733D, 0.001948200D, 0.001889800D, 0.001840933D, 0.001800000D, 0.001766267D, 0.001737800D, 0.001711200D, 0.001683067D, 0.001650001D, 0.001610133D, 0.001564400D, 0.001513600D, 0.001458533D, 0.001400000D, 0.001336667D, 0.001270000D, 0.001205000D, 0.001146667D, 0.001100000D, 0.001068800D, 0.001049400D, 0.001035600D, 0.001021200D, 0.001000000D, 0.0009686400D, 0.0009299200D, 0.0008868800D, 0.0008425600D, 0.0008000000D, 0.0007609600D, 0.0007236800D, 0.0006859200D, 0.0006454400D, 0.0006000000D, 0.0005478667D, 0.0004916000D, 0.0004354000D, 0.0003834667D, 0.0003400000D, 0.0003072533D, 0.0002831600D, 0.0002654400D, 0.0002518133D, 0.0002400000D, 0.0002295467D, 0.0002206400D, 0.0002119600D, 0.0002021867D, 0.0001900000D, 0.0001742133D, 0.0001556400D, 0.0001359600D, 0.0001168533D, 0.0001000000D, 0.00008613333D, 0.00007460000D, 0.00006500000D, 0.00005693333D, 0.00004999999D, 0.00004416000D, 0.00003948000D, 0.00003572000D, 0.00003264000D, 0.00003000000D, 0.00002765333D, 0.00002556000D, 0.00002364000D, 0.00002181333D, 0.00002000000D, 0.00001813333D, 0.00001620000D, 0.00001420000D, 0.00001213333D, 0.00001000000D, 0.000007733333D, 0.000005400000D, 0.000003200000D, 0.000001333333D, 0.000000000000D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D, 0.0D};
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private volatile Color3F colorRGB;
+	private volatile Color3F colorXYZ;
 	private static final float CIE_Y_INTEGRAL = 106.856895F;
 	private static final float[] CIE_LAMBDA = {360.0F, 361.0F, 362.0F, 363.0F, 364.0F, 365.0F, 366.0F, 367.0F, 368.0F, 369.0F, 370.0F, 371.0F, 372.0F, 373.0F, 374.0F, 375.0F, 376.0F, 377.0F, 378.0F, 379.0F, 380.0F, 381.0F, 382.0F, 383.0F, 384.0F, 385.0F, 386.0F, 387.0F, 388.0F, 389.0F, 390.0F, 391.0F, 392.0F, 393.0F, 394.0F, 395.0F, 396.0F, 397.0F, 398.0F, 399.0F, 400.0F, 401.0F, 402.0F, 403.0F, 404.0F, 405.0F, 406.0F, 407.0F, 408.0F, 409.0F, 410.0F, 411.0F, 412.0F, 413.0F, 414.0F, 415.0F, 416.0F, 417.0F, 418.0F, 419.0F, 420.0F, 421.0F, 422.0F, 423.0F, 424.0F, 425.0F, 426.0F, 427.0F, 428.0F, 429.0F, 430.0F, 431.0F, 432.0F, 433.0F, 434.0F, 435.0F, 436.0F, 437.0F, 438.0F, 439.0F, 440.0F, 441.0F, 442.0F, 443.0F, 444.0F, 445.0F, 446.0F, 447.0F, 448.0F, 449.0F, 450.0F, 451.0F, 452.0F, 453.0F, 454.0F, 455.0F, 456.0F, 457.0F, 458.0F, 459.0F, 460.0F, 461.0F, 462.0F, 463.0F, 464.0F, 465.0F, 466.0F, 467.0F, 468.0F, 469.0F, 470.0F, 471.0F, 472.0F, 473.0F, 474.0F, 475.0F, 476.0F, 477.0F, 478.0F, 479.0F, 480.0F, 481.0F, 482.0F, 483.0F, 484.0F, 485.0F, 486.0F, 487.0F, 488.0F, 489.0F, 490.0F, 491.0F, 492.0F, 493.0F, 494.0F, 495.0F, 496.0F, 497.0F, 498.0F, 499.0F, 500.0F, 501.0F, 502.0F, 503.0F, 504.0F, 505.0F, 506.0F, 507.0F, 508.0F, 509.0F, 510.0F, 511.0F, 512.0F, 513.0F, 514.0F, 515.0F, 516.0F, 517.0F, 518.0F, 519.0F, 520.0F, 521.0F, 522.0F, 523.0F, 524.0F, 525.0F, 526.0F, 527.0F, 528.0F, 529.0F, 530.0F, 531.0F, 532.0F, 533.0F, 534.0F, 535.0F, 536.0F, 537.0F, 538.0F, 539.0F, 540.0F, 541.0F, 542.0F, 543.0F, 544.0F, 545.0F, 546.0F, 547.0F, 548.0F, 549.0F, 550.0F, 551.0F, 552.0F, 553.0F, 554.0F, 555.0F, 556.0F, 557.0F, 558.0F, 559.0F, 560.0F, 561.0F, 562.0F, 563.0F, 564.0F, 565.0F, 566.0F, 567.0F, 568.0F, 569.0F, 570.0F, 571.0F, 572.0F, 573.0F, 574.0F, 575.0F, 576.0F, 577.0F, 578.0F, 579.0F, 580.0F, 581.0F, 582.0F, 583.0F, 584.0F, 585.0F, 586.0F, 587.0F, 588.0F, 589.0F, 590.0F, 591.0F, 592.0F, 593.0F, 594.0F, 595.0F, 596.0F, 597.0F, 598.0F, 599.0F, 600.0F, 601.0F, 602.0F, 603.0F, 604.0F, 605.0F, 606.0F, 607.0F, 608.0F, 609.0F, 610.0F, 611.0F, 612.0F, 613.0F, 614.0F, 615.0F, 616.0F, 617.0F, 618.0F, 619.0F, 620.0F, 621.0F, 622.0F, 623.0F, 624.0F, 625.0F, 626.0F, 627.0F, 628.0F, 629.0F, 630.0F, 631.0F, 632.0F, 633.0F, 634.0F, 635.0F, 636.0F, 637.0F, 638.0F, 639.0F, 640.0F, 641.0F, 642.0F, 643.0F, 644.0F, 645.0F, 646.0F, 647.0F, 648.0F, 649.0F, 650.0F, 651.0F, 652.0F, 653.0F, 654.0F, 655.0F, 656.0F, 657.0F, 658.0F, 659.0F, 660.0F, 661.0F, 662.0F, 663.0F, 664.0F, 665.0F, 666.0F, 667.0F, 668.0F, 669.0F, 670.0F, 671.0F, 672.0F, 673.0F, 674.0F, 675.0F, 676.0F, 677.0F, 678.0F, 679.0F, 680.0F, 681.0F, 682.0F, 683.0F, 684.0F, 685.0F, 686.0F, 687.0F, 688.0F, 689.0F, 690.0F, 691.0F, 692.0F, 693.0F, 694.0F, 695.0F, 696.0F, 697.0F, 698.0F, 699.0F, 700.0F, 701.0F, 702.0F, 703.0F, 704.0F, 705.0F, 706.0F, 707.0F, 708.0F, 709.0F, 710.0F, 711.0F, 712.0F, 713.0F, 714.0F, 715.0F, 716.0F, 717.0F, 718.0F, 719.0F, 720.0F, 721.0F, 722.0F, 723.0F, 724.0F, 725.0F, 726.0F, 727.0F, 728.0F, 729.0F, 730.0F, 731.0F, 732.0F, 733.0F, 734.0F, 735.0F, 736.0F, 737.0F, 738.0F, 739.0F, 740.0F, 741.0F, 742.0F, 743.0F, 744.0F, 745.0F, 746.0F, 747.0F, 748.0F, 749.0F, 750.0F, 751.0F, 752.0F, 753.0F, 754.0F, 755.0F, 756.0F, 757.0F, 758.0F, 759.0F, 760.0F, 761.0F, 762.0F, 763.0F, 764.0F, 765.0F, 766.0F, 767.0F, 768.0F, 769.0F, 770.0F, 771.0F, 772.0F, 773.0F, 774.0F, 775.0F, 776.0F, 777.0F, 778.0F, 779.0F, 780.0F, 781.0F, 782.0F, 783.0F, 784.0F, 785.0F, 786.0F, 787.0F, 788.0F, 789.0F, 790.0F, 791.0F, 792.0F, 793.0F, 794.0F, 795.0F, 796.0F, 797.0F, 798.0F, 799.0F, 800.0F, 801.0F, 802.0F, 803.0F, 804.0F, 805.0F, 806.0F, 807.0F, 808.0F, 809.0F, 810.0F, 811.0F, 812.0F, 813.0F, 814.0F, 815.0F, 816.0F, 817.0F, 818.0F, 819.0F, 820.0F, 821.0F, 822.0F, 823.0F, 824.0F, 825.0F, 826.0F, 827.0F, 828.0F, 829.0F, 830.0F};
 	
@@ -51,7 +61,13 @@ public abstract class SpectralCurveF {
 	 * @return a {@code Color3F} instance in RGB-color space
 	 */
 	public final Color3F toColorRGB() {
-		return ColorSpaceF.getDefault().convertXYZToRGB(toColorXYZ());
+		Color3F colorRGB = this.colorRGB;
+		
+		if(colorRGB == null) {
+			colorRGB = this.colorRGB = ColorSpaceF.getDefault().convertXYZToRGB(toColorXYZ());
+		}
+		
+		return colorRGB;
 	}
 	
 	/**
@@ -60,12 +76,115 @@ public abstract class SpectralCurveF {
 	 * @return a {@code Color3F} instance in XYZ-color space
 	 */
 	public final Color3F toColorXYZ() {
+		Color3F colorXYZ = this.colorXYZ;
+		
+		if(colorXYZ == null) {
+			colorXYZ = this.colorXYZ = doComputeColorXYZ();
+		}
+		
+		return colorXYZ;
+	}
+	
+	/**
+	 * Returns a {@link RegularSpectralCurveF} instance with this {@code SpectralCurveF} instance resampled at the wavelengths used by {@link #toColorXYZ()}.
+	 * <p>
+	 * The wavelengths are in the range {@code [360.0, 830.0]}, with a distance of {@code 1.0} nanometers between two adjacent samples. The {@code RegularSpectralCurveF} instance returned can therefore be sampled using direct indexing, and {@code toColorXYZ()} returns the same color for both instances.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * spectralCurve.toRegularSpectralCurve(360.0F, 830.0F, 471);
+	 * }
+	 * </pre>
+	 * 
+	 * @return a {@code RegularSpectralCurveF} instance with this {@code SpectralCurveF} instance resampled at the wavelengths used by {@code toColorXYZ()}
+	 */
+	public final RegularSpectralCurveF toRegularSpectralCurve() {
+		return toRegularSpectralCurve(CIE_LAMBDA[0], CIE_LAMBDA[CIE_LAMBDA.length - 1], CIE_LAMBDA.length);
+	}
+	
+	/**
+	 * Returns a {@link RegularSpectralCurveF} instance with this {@code SpectralCurveF} instance resampled at {@code sampleCount} evenly spaced wavelengths in the range {@code [lambdaMin, lambdaMax]}.
+	 * <p>
+	 * If either {@code sampleCount} is less than {@code 2} or {@code lambdaMin} is not less than {@code lambdaMax}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Sampling the {@code RegularSpectralCurveF} instance returned is a constant time operation, regardless of how this {@code SpectralCurveF} instance is sampled. Note that a {@code RegularSpectralCurveF} instance returns {@code 0.0F} outside the range {@code [lambdaMin, lambdaMax]}.
+	 * 
+	 * @param lambdaMin the minimum wavelength in nanometers
+	 * @param lambdaMax the maximum wavelength in nanometers
+	 * @param sampleCount the number of samples
+	 * @return a {@code RegularSpectralCurveF} instance with this {@code SpectralCurveF} instance resampled at {@code sampleCount} evenly spaced wavelengths in the range {@code [lambdaMin, lambdaMax]}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code sampleCount} is less than {@code 2} or {@code lambdaMin} is not less than {@code lambdaMax}
+	 */
+	public final RegularSpectralCurveF toRegularSpectralCurve(final float lambdaMin, final float lambdaMax, final int sampleCount) {
+		Ints.requireRange(sampleCount, 2, Integer.MAX_VALUE, "sampleCount");
+		
+		if(!(lambdaMin < lambdaMax)) {
+			throw new IllegalArgumentException(String.format("lambdaMin >= lambdaMax: lambdaMin = %s, lambdaMax = %s", Float.toString(lambdaMin), Float.toString(lambdaMax)));
+		}
+		
+		final float delta = (lambdaMax - lambdaMin) / (sampleCount - 1);
+		
+		final float[] lambdas = new float[sampleCount];
+		
+		for(int i = 0; i < sampleCount - 1; i++) {
+			lambdas[i] = lambdaMin + i * delta;
+		}
+		
+		lambdas[sampleCount - 1] = lambdaMax;
+		
+		return new RegularSpectralCurveF(lambdaMin, lambdaMax, sample(lambdas, new float[sampleCount]));
+	}
+	
+	/**
+	 * Returns a sample based on the wavelength {@code lambda} in nanometers.
+	 * 
+	 * @param lambda the wavelength in nanometers
+	 * @return a sample based on the wavelength {@code lambda} in nanometers
+	 */
+	public abstract float sample(final float lambda);
+	
+	/**
+	 * Samples this {@code SpectralCurveF} instance at the wavelengths in {@code lambdas} and stores the samples in {@code samples}.
+	 * <p>
+	 * Returns {@code samples}.
+	 * <p>
+	 * If either {@code lambdas} or {@code samples} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code samples.length} is less than {@code lambdas.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The element at index {@code i} in {@code samples} is assigned the value returned by {@code sample(lambdas[i])}.
+	 * 
+	 * @param lambdas an array with wavelengths in nanometers
+	 * @param samples an array to store the samples in
+	 * @return {@code samples}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code samples.length} is less than {@code lambdas.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code lambdas} or {@code samples} are {@code null}
+	 */
+	public float[] sample(final float[] lambdas, final float[] samples) {
+		Objects.requireNonNull(lambdas, "lambdas == null");
+		Objects.requireNonNull(samples, "samples == null");
+		
+		Ints.requireRange(samples.length, lambdas.length, Integer.MAX_VALUE, "samples.length");
+		
+		for(int i = 0; i < lambdas.length; i++) {
+			samples[i] = sample(lambdas[i]);
+		}
+		
+		return samples;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private Color3F doComputeColorXYZ() {
 		float x = 0.0F;
 		float y = 0.0F;
 		float z = 0.0F;
 		
+		final float[] samples = sample(CIE_LAMBDA, new float[CIE_LAMBDA.length]);
+		
 		for(int i = 0; i < CIE_LAMBDA.length; i++) {
-			final float s = sample(CIE_LAMBDA[i]);
+			final float s = samples[i];
 			
 			x += s * CIE_X_BAR[i];
 			y += s * CIE_Y_BAR[i];
@@ -80,12 +199,4 @@ public abstract class SpectralCurveF {
 		
 		return new Color3F(x, y, z);
 	}
-	
-	/**
-	 * Returns a sample based on the wavelength {@code lambda} in nanometers.
-	 * 
-	 * @param lambda the wavelength in nanometers
-	 * @return a sample based on the wavelength {@code lambda} in nanometers
-	 */
-	public abstract float sample(final float lambda);
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import org.macroing.art4j.color.Color4D;
+import org.macroing.art4j.color.Color4F;
+
+final class BufferPool<T> {
+	public static final BufferPool<Color4D[]> COLOR_4_D = new BufferPool<>(Color4D[]::new, colors -> colors.length);
+	public static final BufferPool<Color4F[]> COLOR_4_F = new BufferPool<>(Color4F[]::new, colors -> colors.length);
+	public static final BufferPool<int[]> INT = new BufferPool<>(int[]::new, colors -> colors.length);
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final int BUFFER_COUNT_PER_SIZE_CLASS = 4;
+	private static final int LENGTH_MINIMUM = 4096;
+	private static final int SIZE_CLASS_COUNT = 16;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final IntFunction<T> allocator;
+	private final Map<Integer, BlockingQueue<SoftReference<T>>> sizeClasses;
+	private final ToIntFunction<T> lengthFunction;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	BufferPool(final IntFunction<T> allocator, final ToIntFunction<T> lengthFunction) {
+		this.allocator = allocator;
+		this.lengthFunction = lengthFunction;
+		this.sizeClasses = new ConcurrentHashMap<>();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public T acquire(final int length) {
+		if(length >= LENGTH_MINIMUM) {
+			final BlockingQueue<SoftReference<T>> buffers = this.sizeClasses.get(Integer.valueOf(length));
+			
+			if(buffers != null) {
+				for(SoftReference<T> buffer = buffers.poll(); buffer != null; buffer = buffers.poll()) {
+					final T currentBuffer = buffer.get();
+					
+					if(currentBuffer != null) {
+						return currentBuffer;
+					}
+				}
+			}
+		}
+		
+		return this.allocator.apply(length);
+	}
+	
+	public T acquireCopyOf(final T buffer) {
+		final int length = this.lengthFunction.applyAsInt(buffer);
+		
+		final T newBuffer = acquire(length);
+		
+		System.arraycopy(buffer, 0, newBuffer, 0, length);
+		
+		return newBuffer;
+	}
+	
+	public boolean release(final T buffer) {
+		final int length = this.lengthFunction.applyAsInt(buffer);
+		
+		if(length < LENGTH_MINIMUM) {
+			return false;
+		}
+		
+		final Integer key = Integer.valueOf(length);
+		
+		BlockingQueue<SoftReference<T>> buffers = this.sizeClasses.get(key);
+		
+		if(buffers == null) {
+			if(this.sizeClasses.size() >= SIZE_CLASS_COUNT) {
+				doEvict();
+			}
+			
+			buffers = this.sizeClasses.computeIfAbsent(key, currentKey -> new ArrayBlockingQueue<>(BUFFER_COUNT_PER_SIZE_CLASS));
+		}
+		
+		buffers.removeIf(currentBuffer -> currentBuffer.get() == null);
+		
+		return buffers.offer(new SoftReference<>(buffer));
+	}
+	
+	public int size() {
+		int size = 0;
+		
+		for(final BlockingQueue<SoftReference<T>> buffers : this.sizeClasses.values()) {
+			size += buffers.size();
+		}
+		
+		return size;
+	}
+	
+	public void clear() {
+		this.sizeClasses.clear();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doEvict() {
+		this.sizeClasses.values().removeIf(buffers -> {
+			buffers.removeIf(buffer -> buffer.get() == null);
+			
+			return buffers.isEmpty();
+		});
+		
+		final Iterator<Integer> iterator = this.sizeClasses.keySet().iterator();
+		
+		while(this.sizeClasses.size() >= SIZE_CLASS_COUNT && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@code CancellationToken} is used to request the cancellation of long-running operations.
+ * <p>
+ * A {@code CancellationToken} instance is associated with a {@link Data} instance by calling {@link Data#setCancellationToken(CancellationToken)}. Long-running operations check it at row granularity and throw a {@code CancellationException} once {@link #cancel()} has been called. A cancelled operation leaves the {@code Data} instance as it was before the operation started.
+ * <p>
+ * A {@code CancellationToken} cannot be reset once it has been cancelled.
+ * <p>
+ * This class is thread-safe.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class CancellationToken {
+	private final AtomicBoolean isCancelled;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code CancellationToken} instance that is not cancelled.
+	 */
+	public CancellationToken() {
+		this.isCancelled = new AtomicBoolean();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Requests the cancellation of all operations that check this {@code CancellationToken} instance.
+	 * <p>
+	 * Returns {@code true} if, and only if, this {@code CancellationToken} instance was not already cancelled, {@code false} otherwise.
+	 * <p>
+	 * This method may be called on any thread.
+	 * 
+	 * @return {@code true} if, and only if, this {@code CancellationToken} instance was not already cancelled, {@code false} otherwise
+	 */
+	public boolean cancel() {
+		return this.isCancelled.compareAndSet(false, true);
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, this {@code CancellationToken} instance has been cancelled, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, this {@code CancellationToken} instance has been cancelled, {@code false} otherwise
+	 */
+	public boolean isCancelled() {
+		return this.isCancelled.get();
+	}
+	
+	/**
+	 * Throws a {@code CancellationException} if, and only if, this {@code CancellationToken} instance has been cancelled.
+	 * 
+	 * @throws CancellationException thrown if, and only if, this {@code CancellationToken} instance has been cancelled
+	 */
+	public void throwIfCancelled() {
+		if(this.isCancelled.get()) {
+			throw new CancellationException("The operation was cancelled.");
+		}
+	}
+}
\ No newline at end of file
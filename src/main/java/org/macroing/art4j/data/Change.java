@@ -25,6 +25,19 @@ package org.macroing.art4j.data;
  * @author J&#246;rgen Lundgren
  */
 public interface Change {
+	/**
+	 * Returns an estimate of the number of bytes retained by this {@code Change} instance.
+	 * <p>
+	 * The estimate assumes a 64-bit JVM with compressed object pointers. It includes all objects referenced by this {@code Change} instance, even if they are shared with other objects, such as immutable colors that are still stored in a {@link Data} instance.
+	 * <p>
+	 * The default implementation returns {@code 0L}.
+	 * 
+	 * @return an estimate of the number of bytes retained by this {@code Change} instance
+	 */
+	default long getSizeInBytes() {
+		return 0L;
+	}
+	
 	/**
 	 * Executes the redo operation that is associated with this {@code Change} instance for {@code data}.
 	 * <p>
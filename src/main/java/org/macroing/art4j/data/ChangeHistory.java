@@ -23,6 +23,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.macroing.java.lang.Ints;
+
 /**
  * A {@code ChangeHistory} represents a change history.
  * <p>
@@ -37,6 +39,8 @@ public final class ChangeHistory {
 	private final List<Change> changesToRedo;
 	private final List<Change> changesToUndo;
 	private final List<ChangeHistoryObserver> changeHistoryObservers;
+	private long committedSizeInBytes;
+	private long sizeInBytes;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
@@ -65,6 +69,8 @@ public final class ChangeHistory {
 		this.changesToRedo = new ArrayList<>(changeHistory.changesToRedo);
 		this.changesToUndo = new ArrayList<>(changeHistory.changesToUndo);
 		this.changeHistoryObservers = new ArrayList<>(changeHistory.changeHistoryObservers);
+		this.committedSizeInBytes = changeHistory.committedSizeInBytes;
+		this.sizeInBytes = changeHistory.sizeInBytes;
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -169,6 +175,13 @@ public final class ChangeHistory {
 			if(this.changes.size() > 0) {
 				final Change change = this.changes.size() == 1 ? this.changes.get(0) : new CombinedChange(this.changes);
 				
+				for(final Change changeToRedo : this.changesToRedo) {
+					this.sizeInBytes -= changeToRedo.getSizeInBytes();
+				}
+				
+				this.committedSizeInBytes += change.getSizeInBytes();
+				this.sizeInBytes += change.getSizeInBytes();
+				
 				this.changesToRedo.clear();
 				this.changesToUndo.add(change);
 				this.changes.clear();
@@ -266,6 +279,68 @@ public final class ChangeHistory {
 		return this.changeHistoryObservers.remove(Objects.requireNonNull(changeHistoryObserver, "changeHistoryObserver == null"));
 	}
 	
+	/**
+	 * Performs a rollback operation.
+	 * <p>
+	 * Returns {@code true} if, and only if, a change has already begun, {@code false} otherwise.
+	 * <p>
+	 * If {@code data} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * All {@link Change} instances that have been added since {@code begin()} was called are undone on {@code data} in reverse order and discarded. Unlike {@code end()}, nothing is added to the changes that can be undone, the changes that can be redone are kept and no {@link ChangeHistoryObserver} is notified.
+	 * 
+	 * @param data the {@link Data} to perform the rollback operation against
+	 * @return {@code true} if, and only if, a change has already begun, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code data} is {@code null}
+	 */
+	public boolean rollback(final Data data) {
+		Objects.requireNonNull(data, "data == null");
+		
+		if(this.hasBegun.compareAndSet(true, false)) {
+			for(int i = this.changes.size() - 1; i >= 0; i--) {
+				this.changes.get(i).undo(data);
+			}
+			
+			this.changes.clear();
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Performs a rollback operation back to {@code changeCount}.
+	 * <p>
+	 * Returns {@code true} if, and only if, a change has already begun, {@code false} otherwise.
+	 * <p>
+	 * If {@code data} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code changeCount} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * All {@link Change} instances that have been added since {@code begin()} was called, except for the first {@code changeCount}, are undone on {@code data} in reverse order and discarded. Unlike {@link #rollback(Data)}, the change that has begun is not ended. This allows an operation that is nested in a change that has begun to roll back its own {@code Change} instances, as counted by {@link #getChangeCount()} when it started, without undoing the {@code Change} instances of its caller.
+	 * 
+	 * @param data the {@link Data} to perform the rollback operation against
+	 * @param changeCount the number of {@code Change} instances to keep
+	 * @return {@code true} if, and only if, a change has already begun, {@code false} otherwise
+	 * @throws IllegalArgumentException thrown if, and only if, {@code changeCount} is less than {@code 0}
+	 * @throws NullPointerException thrown if, and only if, {@code data} is {@code null}
+	 */
+	public boolean rollback(final Data data, final int changeCount) {
+		Objects.requireNonNull(data, "data == null");
+		
+		Ints.requireRange(changeCount, 0, Integer.MAX_VALUE, "changeCount");
+		
+		if(hasBegun()) {
+			for(int i = this.changes.size() - 1; i >= changeCount; i--) {
+				this.changes.remove(i).undo(data);
+			}
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
 	/**
 	 * Performs the current undo operation.
 	 * <p>
@@ -297,6 +372,17 @@ public final class ChangeHistory {
 		return false;
 	}
 	
+	/**
+	 * Returns the number of {@link Change} instances that have been added since {@link #begin()} was called.
+	 * <p>
+	 * If {@code hasBegun()} returns {@code false}, {@code 0} will be returned.
+	 * 
+	 * @return the number of {@code Change} instances that have been added since {@code begin()} was called
+	 */
+	public int getChangeCount() {
+		return this.changes.size();
+	}
+	
 	/**
 	 * Returns a hash code for this {@code ChangeHistory} instance.
 	 * 
@@ -306,4 +392,26 @@ public final class ChangeHistory {
 	public int hashCode() {
 		return Objects.hash(Boolean.valueOf(this.hasBegun.get()), this.changesToRedo, this.changesToUndo, this.changes);
 	}
+	
+	/**
+	 * Returns an estimate of the number of bytes of all {@link Change} instances that have been added to the changes that can be undone by {@link #end()}.
+	 * <p>
+	 * Unlike {@link #getSizeInBytes()}, this value never decreases. It is not affected by undo or redo operations, nor by the changes that can be redone being discarded. The difference between two calls to this method is therefore the size of the {@code Change} instances committed in between.
+	 * 
+	 * @return an estimate of the number of bytes of all {@code Change} instances that have been added to the changes that can be undone by {@code end()}
+	 */
+	public long getCommittedSizeInBytes() {
+		return this.committedSizeInBytes;
+	}
+	
+	/**
+	 * Returns an estimate of the number of bytes retained by all {@link Change} instances that can be redone or undone.
+	 * <p>
+	 * The estimate is the sum of {@link Change#getSizeInBytes()} for all {@code Change} instances that can be redone or undone. It is maintained incrementally, so calling this method is cheap.
+	 * 
+	 * @return an estimate of the number of bytes retained by all {@code Change} instances that can be redone or undone
+	 */
+	public long getSizeInBytes() {
+		return this.sizeInBytes;
+	}
 }
\ No newline at end of file
@@ -24,7 +24,9 @@ import java.awt.image.DataBufferInt;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import org.macroing.art4j.color.Color3D;
 import org.macroing.art4j.color.Color3F;
@@ -34,6 +36,7 @@ import org.macroing.art4j.color.Color4F;
 import org.macroing.art4j.color.Color4I;
 import org.macroing.art4j.kernel.ConvolutionKernelND;
 import org.macroing.art4j.kernel.ConvolutionKernelNF;
+import org.macroing.art4j.pixel.CompositeOperator;
 import org.macroing.geo4j.common.Point2I;
 import org.macroing.geo4j.shape.Shape2I;
 import org.macroing.geo4j.shape.rectangle.Rectangle2I;
@@ -99,13 +102,19 @@ final class Color4DData extends Data {
 	
 	@Override
 	public BufferedImage toBufferedImage(final boolean isRGB) {
-		final BufferedImage bufferedImage = new BufferedImage(this.resolutionX, this.resolutionY, isRGB ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+		final boolean isPremultiplied = isPremultiplied();
+		
+		final BufferedImage bufferedImage = new BufferedImage(this.resolutionX, this.resolutionY, isRGB ? BufferedImage.TYPE_INT_RGB : isPremultiplied ? BufferedImage.TYPE_INT_ARGB_PRE : BufferedImage.TYPE_INT_ARGB);
 		
 		final int[] dataSource = Arrays.stream(this.colors).mapToInt(color -> color.toIntARGB()).toArray();
 		final int[] dataTarget = DataBufferInt.class.cast(bufferedImage.getRaster().getDataBuffer()).getData();
 		
 		System.arraycopy(dataSource, 0, dataTarget, 0, dataSource.length);
 		
+		if(isRGB && isPremultiplied) {
+			PackedIntARGBKernels.unpremultiply(dataTarget, 0, dataTarget.length);
+		}
+		
 		return bufferedImage;
 	}
 	
@@ -199,24 +208,64 @@ final class Color4DData extends Data {
 		
 		final BufferedImage bufferedImage = toBufferedImage(false);
 		
+		final int[] newColorsARGB = DataBufferInt.class.cast(bufferedImage.getRaster().getDataBuffer()).getData();
+		final int[] oldColorsARGB = BufferPool.INT.acquireCopyOf(newColorsARGB);
+		
 		final Graphics2D graphics2D = bufferedImage.createGraphics();
 		
 		graphics2DConsumer.accept(graphics2D);
 		
-		final Color4D[] colors = Arrays.stream(DataBufferInt.class.cast(bufferedImage.getRaster().getDataBuffer()).getData()).mapToObj(colorARGB -> Color4D.fromIntARGB(colorARGB)).toArray(Color4D[]::new);
+		final int resolutionX = this.resolutionX;
+		final int resolutionY = this.resolutionY;
+		
+		int minimumX = resolutionX;
+		int minimumY = resolutionY;
+		int maximumX = -1;
+		int maximumY = -1;
+		
+		for(int y = 0, index = 0; y < resolutionY; y++) {
+			for(int x = 0; x < resolutionX; x++, index++) {
+				if(newColorsARGB[index] != oldColorsARGB[index]) {
+					minimumX = Math.min(minimumX, x);
+					minimumY = Math.min(minimumY, y);
+					maximumX = Math.max(maximumX, x);
+					maximumY = Math.max(maximumY, y);
+				}
+			}
+		}
+		
+		if(maximumX < minimumX || maximumY < minimumY) {
+			BufferPool.INT.release(oldColorsARGB);
+			
+			return this;
+		}
+		
+		final Color4D[] newColors = new Color4D[(maximumX - minimumX + 1) * (maximumY - minimumY + 1)];
+		final Color4D[] oldColors = new Color4D[(maximumX - minimumX + 1) * (maximumY - minimumY + 1)];
+		
+		for(int y = minimumY, regionIndex = 0; y <= maximumY; y++) {
+			for(int x = minimumX, index = y * resolutionX + minimumX; x <= maximumX; x++, index++, regionIndex++) {
+				final Color4D oldColor = this.colors[index];
+				
+				newColors[regionIndex] = newColorsARGB[index] != oldColorsARGB[index] ? Color4D.fromIntARGB(newColorsARGB[index]) : oldColor;
+				oldColors[regionIndex] = oldColor;
+			}
+		}
+		
+		BufferPool.INT.release(oldColorsARGB);
 		
 		final boolean hasChangeBegun = hasChangeBegun();
 		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
 		
 		if(hasChangeBegun || hasChangeBegunNow) {
-			changeAdd(new StateChange(colors, this.colors, this.resolutionX, this.resolutionX, this.resolutionY, this.resolutionY));
+			changeAdd(new RegionChange(newColors, oldColors, minimumX, minimumY, maximumX, maximumY));
 			
 			if(hasChangeBegunNow) {
 				changeEnd();
 			}
 		}
 		
-		this.colors = colors;
+		updateRegion(newColors, minimumX, minimumY, maximumX, maximumY);
 		
 		return this;
 	}
@@ -226,6 +275,66 @@ final class Color4DData extends Data {
 		return new Color4DDataFactory();
 	}
 	
+	@Override
+	public boolean composite(final Data source, final CompositeOperator compositeOperator, final Rectangle2I sourceBounds, final Point2I targetPosition) {
+		Objects.requireNonNull(source, "source == null");
+		Objects.requireNonNull(compositeOperator, "compositeOperator == null");
+		Objects.requireNonNull(sourceBounds, "sourceBounds == null");
+		Objects.requireNonNull(targetPosition, "targetPosition == null");
+		
+		final Optional<Rectangle2I> optionalBounds = clipSourceBounds(source, this, sourceBounds, targetPosition);
+		
+		if(!optionalBounds.isPresent()) {
+			return false;
+		}
+		
+		final Rectangle2I bounds = optionalBounds.get();
+		
+		final int minimumX = bounds.min().x;
+		final int minimumY = bounds.min().y;
+		final int maximumX = bounds.max().x;
+		final int maximumY = bounds.max().y;
+		
+		final int offsetX = targetPosition.x - sourceBounds.min().x;
+		final int offsetY = targetPosition.y - sourceBounds.min().y;
+		
+		final int resolutionX = this.resolutionX;
+		
+		final int sourceResolutionX = source.getResolutionX();
+		
+		final boolean isPremultipliedSource = source.isPremultiplied();
+		final boolean isPremultipliedTarget = isPremultiplied();
+		
+		final int regionResolutionX = maximumX - minimumX + 1;
+		
+		final Color4D[] oldColors = this.colors;
+		final Color4D[] newColors = new Color4D[regionResolutionX * (maximumY - minimumY + 1)];
+		
+		final Color4D[] sourceColors = source == this ? oldColors : source instanceof Color4DData ? Color4DData.class.cast(source).colors : null;
+		
+		final ProgressMonitor progressMonitor = createProgressMonitor(maximumY - minimumY + 1);
+		
+		IntStream.rangeClosed(minimumY, maximumY).parallel().forEach(sourceY -> {
+			for(int sourceX = minimumX, targetIndex = (sourceY + offsetY) * resolutionX + minimumX + offsetX, regionIndex = (sourceY - minimumY) * regionResolutionX; sourceX <= maximumX; sourceX++, targetIndex++, regionIndex++) {
+				final Color4D colorSourceStored = sourceColors != null ? sourceColors[sourceY * sourceResolutionX + sourceX] : source.getColor4D(sourceX, sourceY);
+				final Color4D colorTargetStored = oldColors[targetIndex];
+				
+				final Color4D colorSource = isPremultipliedSource ? colorSourceStored : Color4D.premultiply(colorSourceStored);
+				final Color4D colorTarget = isPremultipliedTarget ? colorTargetStored : Color4D.premultiply(colorTargetStored);
+				
+				final Color4D color = compositeOperator.apply(colorSource, colorTarget);
+				
+				newColors[regionIndex] = isPremultipliedTarget ? color : Color4D.unpremultiply(color);
+			}
+			
+			progressMonitor.advance();
+		});
+		
+		doCopyRegionFrom(newColors, minimumX + offsetX, minimumY + offsetY, maximumX + offsetX, maximumY + offsetY);
+		
+		return true;
+	}
+	
 	@Override
 	public boolean convolve(final ConvolutionKernelND convolutionKernel, final int[] indices) {
 		Objects.requireNonNull(convolutionKernel, "convolutionKernel == null");
@@ -248,52 +357,62 @@ final class Color4DData extends Data {
 		final int resolutionY = getResolutionY();
 		
 		final Color4D[] oldColors = this.colors;
-		final Color4D[] newColors = this.colors.clone();
+		final Color4D[] newColors = BufferPool.COLOR_4_D.acquireCopyOf(this.colors);
 		
 		int count = 0;
 		
-		for(final int index : indices) {
-			if(index >= 0 && index < resolution) {
-				final int x = index % resolutionX;
-				final int y = index / resolutionX;
-				
-				final int xOffset = x - kernelOffset;
-				final int yOffset = y - kernelOffset;
-				
-				double colorR = 0.0D;
-				double colorG = 0.0D;
-				double colorB = 0.0D;
-				double colorA = oldColors[index].a;
+		final ProgressMonitor progressMonitor = createProgressMonitor((indices.length + resolutionX - 1) / resolutionX);
+		
+		for(int fromIndex = 0; fromIndex < indices.length; fromIndex += resolutionX) {
+			final int toIndex = Math.min(fromIndex + resolutionX, indices.length);
+			
+			for(int i = fromIndex; i < toIndex; i++) {
+				final int index = indices[i];
 				
-				for(int kernelY = 0; kernelY < kernelResolution; kernelY++) {
-					final int imageY = yOffset + kernelY;
-					final int imageRow = imageY * resolutionX;
+				if(index >= 0 && index < resolution) {
+					final int x = index % resolutionX;
+					final int y = index / resolutionX;
 					
-					final int kernelRow = kernelY * kernelResolution;
+					final int xOffset = x - kernelOffset;
+					final int yOffset = y - kernelOffset;
 					
-					for(int kernelX = 0; kernelX < kernelResolution; kernelX++) {
-						final int imageX = xOffset + kernelX;
+					double colorR = 0.0D;
+					double colorG = 0.0D;
+					double colorB = 0.0D;
+					double colorA = oldColors[index].a;
+					
+					for(int kernelY = 0; kernelY < kernelResolution; kernelY++) {
+						final int imageY = yOffset + kernelY;
+						final int imageRow = imageY * resolutionX;
 						
-						if(imageX >= 0 && imageX < resolutionX && imageY >= 0 && imageY < resolutionY) {
-							final Color4D color = oldColors[imageRow + imageX];
-							
-							final double element = elements[kernelRow + kernelX];
+						final int kernelRow = kernelY * kernelResolution;
+						
+						for(int kernelX = 0; kernelX < kernelResolution; kernelX++) {
+							final int imageX = xOffset + kernelX;
 							
-							colorR += color.r * element;
-							colorG += color.g * element;
-							colorB += color.b * element;
+							if(imageX >= 0 && imageX < resolutionX && imageY >= 0 && imageY < resolutionY) {
+								final Color4D color = oldColors[imageRow + imageX];
+								
+								final double element = elements[kernelRow + kernelX];
+								
+								colorR += color.r * element;
+								colorG += color.g * element;
+								colorB += color.b * element;
+							}
 						}
 					}
+					
+					colorR = colorR * factor + bias;
+					colorG = colorG * factor + bias;
+					colorB = colorB * factor + bias;
+					
+					newColors[index] = new Color4D(colorR, colorG, colorB, colorA);
+					
+					count++;
 				}
-				
-				colorR = colorR * factor + bias;
-				colorG = colorG * factor + bias;
-				colorB = colorB * factor + bias;
-				
-				newColors[index] = new Color4D(colorR, colorG, colorB, colorA);
-				
-				count++;
 			}
+			
+			progressMonitor.advance();
 		}
 		
 		final boolean hasChangeBegun = hasChangeBegun();
@@ -311,6 +430,12 @@ final class Color4DData extends Data {
 		
 		if(count > 0) {
 			this.colors = newColors;
+			
+			doRecycle(oldColors);
+			
+			incrementModificationCount(indices);
+		} else {
+			BufferPool.COLOR_4_D.release(newColors);
 		}
 		
 		return count > 0;
@@ -338,52 +463,62 @@ final class Color4DData extends Data {
 		final int resolutionY = getResolutionY();
 		
 		final Color4D[] oldColors = this.colors;
-		final Color4D[] newColors = this.colors.clone();
+		final Color4D[] newColors = BufferPool.COLOR_4_D.acquireCopyOf(this.colors);
 		
 		int count = 0;
 		
-		for(final int index : indices) {
-			if(index >= 0 && index < resolution) {
-				final int x = index % resolutionX;
-				final int y = index / resolutionX;
-				
-				final int xOffset = x - kernelOffset;
-				final int yOffset = y - kernelOffset;
-				
-				double colorR = 0.0D;
-				double colorG = 0.0D;
-				double colorB = 0.0D;
-				double colorA = oldColors[index].a;
+		final ProgressMonitor progressMonitor = createProgressMonitor((indices.length + resolutionX - 1) / resolutionX);
+		
+		for(int fromIndex = 0; fromIndex < indices.length; fromIndex += resolutionX) {
+			final int toIndex = Math.min(fromIndex + resolutionX, indices.length);
+			
+			for(int i = fromIndex; i < toIndex; i++) {
+				final int index = indices[i];
 				
-				for(int kernelY = 0; kernelY < kernelResolution; kernelY++) {
-					final int imageY = yOffset + kernelY;
-					final int imageRow = imageY * resolutionX;
+				if(index >= 0 && index < resolution) {
+					final int x = index % resolutionX;
+					final int y = index / resolutionX;
+					
+					final int xOffset = x - kernelOffset;
+					final int yOffset = y - kernelOffset;
 					
-					final int kernelRow = kernelY * kernelResolution;
+					double colorR = 0.0D;
+					double colorG = 0.0D;
+					double colorB = 0.0D;
+					double colorA = oldColors[index].a;
 					
-					for(int kernelX = 0; kernelX < kernelResolution; kernelX++) {
-						final int imageX = xOffset + kernelX;
+					for(int kernelY = 0; kernelY < kernelResolution; kernelY++) {
+						final int imageY = yOffset + kernelY;
+						final int imageRow = imageY * resolutionX;
 						
-						if(imageX >= 0 && imageX < resolutionX && imageY >= 0 && imageY < resolutionY) {
-							final Color4D color = oldColors[imageRow + imageX];
-							
-							final double element = elements[kernelRow + kernelX];
+						final int kernelRow = kernelY * kernelResolution;
+						
+						for(int kernelX = 0; kernelX < kernelResolution; kernelX++) {
+							final int imageX = xOffset + kernelX;
 							
-							colorR += color.r * element;
-							colorG += color.g * element;
-							colorB += color.b * element;
+							if(imageX >= 0 && imageX < resolutionX && imageY >= 0 && imageY < resolutionY) {
+								final Color4D color = oldColors[imageRow + imageX];
+								
+								final double element = elements[kernelRow + kernelX];
+								
+								colorR += color.r * element;
+								colorG += color.g * element;
+								colorB += color.b * element;
+							}
 						}
 					}
+					
+					colorR = colorR * factor + bias;
+					colorG = colorG * factor + bias;
+					colorB = colorB * factor + bias;
+					
+					newColors[index] = new Color4D(colorR, colorG, colorB, colorA);
+					
+					count++;
 				}
-				
-				colorR = colorR * factor + bias;
-				colorG = colorG * factor + bias;
-				colorB = colorB * factor + bias;
-				
-				newColors[index] = new Color4D(colorR, colorG, colorB, colorA);
-				
-				count++;
 			}
+			
+			progressMonitor.advance();
 		}
 		
 		final boolean hasChangeBegun = hasChangeBegun();
@@ -401,11 +536,86 @@ final class Color4DData extends Data {
 		
 		if(count > 0) {
 			this.colors = newColors;
+			
+			doRecycle(oldColors);
+			
+			incrementModificationCount(indices);
+		} else {
+			BufferPool.COLOR_4_D.release(newColors);
 		}
 		
 		return count > 0;
 	}
 	
+	@Override
+	public boolean copyRegionFrom(final double[] array, final Rectangle2I bounds) {
+		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(bounds, "bounds == null");
+		
+		Ints.requireRange(array.length, getRegionLength(bounds, 4), Integer.MAX_VALUE, "array.length");
+		
+		if(!isInside(bounds)) {
+			return false;
+		}
+		
+		final Color4D[] colors = new Color4D[getRegionLength(bounds, 1)];
+		
+		for(int index = 0, offset = 0; index < colors.length; index++, offset += 4) {
+			colors[index] = new Color4D(array[offset + 0], array[offset + 1], array[offset + 2], array[offset + 3]);
+		}
+		
+		doCopyRegionFrom(colors, bounds.min().x, bounds.min().y, bounds.max().x, bounds.max().y);
+		
+		return true;
+	}
+	
+	@Override
+	public boolean copyRegionFrom(final int[] array, final Rectangle2I bounds) {
+		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(bounds, "bounds == null");
+		
+		Ints.requireRange(array.length, getRegionLength(bounds, 1), Integer.MAX_VALUE, "array.length");
+		
+		if(!isInside(bounds)) {
+			return false;
+		}
+		
+		final Color4D[] colors = new Color4D[getRegionLength(bounds, 1)];
+		
+		for(int index = 0; index < colors.length; index++) {
+			colors[index] = Color4D.fromIntARGB(array[index]);
+		}
+		
+		doCopyRegionFrom(colors, bounds.min().x, bounds.min().y, bounds.max().x, bounds.max().y);
+		
+		return true;
+	}
+	
+	@Override
+	public boolean copyRowTo(final double[] array, final int y) {
+		Objects.requireNonNull(array, "array == null");
+		
+		final int resolutionX = this.resolutionX;
+		final int resolutionY = this.resolutionY;
+		
+		Ints.requireRange(array.length, resolutionX * 4, Integer.MAX_VALUE, "array.length");
+		
+		if(y < 0 || y >= resolutionY) {
+			return false;
+		}
+		
+		for(int x = 0, index = y * resolutionX, offset = 0; x < resolutionX; x++, index++, offset += 4) {
+			final Color4D color = this.colors[index];
+			
+			array[offset + 0] = color.r;
+			array[offset + 1] = color.g;
+			array[offset + 2] = color.b;
+			array[offset + 3] = color.a;
+		}
+		
+		return true;
+	}
+	
 	@Override
 	public boolean equals(final Object object) {
 		if(!super.equals(object)) {
@@ -459,17 +669,43 @@ final class Color4DData extends Data {
 		final int newResolutionX = rotationBoundsTranslatedMax.x + 1;
 		final int newResolutionY = rotationBoundsTranslatedMax.y + 1;
 		
-		final Color4D[] newColors = new Color4D[newResolutionX * newResolutionY];
+		final Color4D[] newColors = BufferPool.COLOR_4_D.acquire(newResolutionX * newResolutionY);
 		final Color4D[] oldColors = this.colors;
 		
-		for(int y = 0; y < newResolutionY; y++) {
-			for(int x = 0; x < newResolutionX; x++) {
-				final Point2I pointTranslated = new Point2I(x + rotationBoundsRotatedMin.x, y + rotationBoundsRotatedMin.y);
-				final Point2I pointRotated = Point2I.rotate(pointTranslated, angleCos, -angleSin, rotationBoundsRotatedMid);
+		final int rotationBoundsRotatedMinX = rotationBoundsRotatedMin.x;
+		final int rotationBoundsRotatedMinY = rotationBoundsRotatedMin.y;
+		final int rotationBoundsRotatedMidX = rotationBoundsRotatedMid.x;
+		final int rotationBoundsRotatedMidY = rotationBoundsRotatedMid.y;
+		
+		final double angleSinNegated = -angleSin;
+		
+		final double[] deltaXCos = new double[newResolutionX];
+		final double[] deltaXSin = new double[newResolutionX];
+		
+		for(int x = 0; x < newResolutionX; x++) {
+			final int deltaX = x + rotationBoundsRotatedMinX - rotationBoundsRotatedMidX;
+			
+			deltaXCos[x] = deltaX * angleCos;
+			deltaXSin[x] = deltaX * angleSinNegated;
+		}
+		
+		final ProgressMonitor progressMonitor = createProgressMonitor(newResolutionY);
+		
+		IntStream.range(0, newResolutionY).parallel().forEach(y -> {
+			final int deltaY = y + rotationBoundsRotatedMinY - rotationBoundsRotatedMidY;
+			
+			final double deltaYCos = deltaY * angleCos;
+			final double deltaYSin = deltaY * angleSinNegated;
+			
+			for(int x = 0, index = y * newResolutionX; x < newResolutionX; x++, index++) {
+				final int rotatedX = (int)(Doubles.rint(deltaXCos[x] - deltaYSin + rotationBoundsRotatedMidX));
+				final int rotatedY = (int)(Doubles.rint(deltaXSin[x] + deltaYCos + rotationBoundsRotatedMidY));
 				
-				newColors[y * newResolutionX + x] = getColor4D(pointRotated.x, pointRotated.y);
+				newColors[index] = rotatedX >= 0 && rotatedX < oldResolutionX && rotatedY >= 0 && rotatedY < oldResolutionY ? oldColors[rotatedY * oldResolutionX + rotatedX] : Color4D.TRANSPARENT;
 			}
-		}
+			
+			progressMonitor.advance();
+		});
 		
 		final boolean hasChangeBegun = hasChangeBegun();
 		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
@@ -486,6 +722,10 @@ final class Color4DData extends Data {
 		this.resolutionX = newResolutionX;
 		this.resolutionY = newResolutionY;
 		
+		doRecycle(oldColors);
+		
+		incrementModificationCount();
+		
 		return true;
 	}
 	
@@ -525,17 +765,43 @@ final class Color4DData extends Data {
 		final int newResolutionX = rotationBoundsTranslatedMax.x + 1;
 		final int newResolutionY = rotationBoundsTranslatedMax.y + 1;
 		
-		final Color4D[] newColors = new Color4D[newResolutionX * newResolutionY];
+		final Color4D[] newColors = BufferPool.COLOR_4_D.acquire(newResolutionX * newResolutionY);
 		final Color4D[] oldColors = this.colors;
 		
-		for(int y = 0; y < newResolutionY; y++) {
-			for(int x = 0; x < newResolutionX; x++) {
-				final Point2I pointTranslated = new Point2I(x + rotationBoundsRotatedMin.x, y + rotationBoundsRotatedMin.y);
-				final Point2I pointRotated = Point2I.rotate(pointTranslated, angleCos, -angleSin, rotationBoundsRotatedMid);
+		final int rotationBoundsRotatedMinX = rotationBoundsRotatedMin.x;
+		final int rotationBoundsRotatedMinY = rotationBoundsRotatedMin.y;
+		final int rotationBoundsRotatedMidX = rotationBoundsRotatedMid.x;
+		final int rotationBoundsRotatedMidY = rotationBoundsRotatedMid.y;
+		
+		final float angleSinNegated = -angleSin;
+		
+		final float[] deltaXCos = new float[newResolutionX];
+		final float[] deltaXSin = new float[newResolutionX];
+		
+		for(int x = 0; x < newResolutionX; x++) {
+			final int deltaX = x + rotationBoundsRotatedMinX - rotationBoundsRotatedMidX;
+			
+			deltaXCos[x] = deltaX * angleCos;
+			deltaXSin[x] = deltaX * angleSinNegated;
+		}
+		
+		final ProgressMonitor progressMonitor = createProgressMonitor(newResolutionY);
+		
+		IntStream.range(0, newResolutionY).parallel().forEach(y -> {
+			final int deltaY = y + rotationBoundsRotatedMinY - rotationBoundsRotatedMidY;
+			
+			final float deltaYCos = deltaY * angleCos;
+			final float deltaYSin = deltaY * angleSinNegated;
+			
+			for(int x = 0, index = y * newResolutionX; x < newResolutionX; x++, index++) {
+				final int rotatedX = (int)(Floats.rint(deltaXCos[x] - deltaYSin + rotationBoundsRotatedMidX));
+				final int rotatedY = (int)(Floats.rint(deltaXSin[x] + deltaYCos + rotationBoundsRotatedMidY));
 				
-				newColors[y * newResolutionX + x] = getColor4D(pointRotated.x, pointRotated.y);
+				newColors[index] = rotatedX >= 0 && rotatedX < oldResolutionX && rotatedY >= 0 && rotatedY < oldResolutionY ? oldColors[rotatedY * oldResolutionX + rotatedX] : Color4D.TRANSPARENT;
 			}
-		}
+			
+			progressMonitor.advance();
+		});
 		
 		final boolean hasChangeBegun = hasChangeBegun();
 		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
@@ -552,6 +818,10 @@ final class Color4DData extends Data {
 		this.resolutionX = newResolutionX;
 		this.resolutionY = newResolutionY;
 		
+		doRecycle(oldColors);
+		
+		incrementModificationCount();
+		
 		return true;
 	}
 	
@@ -571,18 +841,69 @@ final class Color4DData extends Data {
 		final int oldResolutionX = this.resolutionX;
 		final int oldResolutionY = this.resolutionY;
 		
-		final Color4D[] newColors = new Color4D[newResolutionX * newResolutionY];
+		final Color4D[] newColors = BufferPool.COLOR_4_D.acquire(newResolutionX * newResolutionY);
 		final Color4D[] oldColors = this.colors;
 		
 		final double scaleX = (double)(oldResolutionX) / (double)(newResolutionX);
 		final double scaleY = (double)(oldResolutionY) / (double)(newResolutionY);
 		
-		for(int y = 0; y < newResolutionY; y++) {
-			for(int x = 0; x < newResolutionX; x++) {
-				newColors[y * newResolutionX + x] = getColor4D(x * scaleX, y * scaleY);
-			}
+		final int[] minimumXs = new int[newResolutionX];
+		final int[] maximumXs = new int[newResolutionX];
+		
+		final double[] tXs = new double[newResolutionX];
+		
+		for(int x = 0; x < newResolutionX; x++) {
+			final double sampleX = x * scaleX;
+			
+			minimumXs[x] = (int)(Doubles.floor(sampleX));
+			maximumXs[x] = (int)(Doubles.ceil(sampleX));
+			
+			tXs[x] = sampleX - minimumXs[x];
 		}
 		
+		final ProgressMonitor progressMonitor = createProgressMonitor(newResolutionY);
+		
+		IntStream.range(0, newResolutionY).parallel().forEach(y -> {
+			final double sampleY = y * scaleY;
+			
+			final int minimumY = (int)(Doubles.floor(sampleY));
+			final int maximumY = (int)(Doubles.ceil(sampleY));
+			
+			final int offsetMinimumY = minimumY * oldResolutionX;
+			final int offsetMaximumY = maximumY * oldResolutionX;
+			
+			final boolean isInsideY = maximumY < oldResolutionY;
+			
+			final double tY = sampleY - minimumY;
+			
+			for(int x = 0, index = y * newResolutionX; x < newResolutionX; x++, index++) {
+				final int minimumX = minimumXs[x];
+				final int maximumX = maximumXs[x];
+				
+				if(minimumX == maximumX && minimumY == maximumY) {
+					newColors[index] = oldColors[offsetMinimumY + minimumX];
+				} else {
+					final boolean isInsideX = maximumX < oldResolutionX;
+					
+					final Color4D color11 = oldColors[offsetMinimumY + minimumX];
+					final Color4D color12 = isInsideX ? oldColors[offsetMinimumY + maximumX] : Color4D.TRANSPARENT;
+					final Color4D color21 = isInsideY ? oldColors[offsetMaximumY + minimumX] : Color4D.TRANSPARENT;
+					final Color4D color22 = isInsideX && isInsideY ? oldColors[offsetMaximumY + maximumX] : Color4D.TRANSPARENT;
+					
+					final double tX = tXs[x];
+					
+					final double r = Doubles.lerp(Doubles.lerp(color11.r, color12.r, tX), Doubles.lerp(color21.r, color22.r, tX), tY);
+					final double g = Doubles.lerp(Doubles.lerp(color11.g, color12.g, tX), Doubles.lerp(color21.g, color22.g, tX), tY);
+					final double b = Doubles.lerp(Doubles.lerp(color11.b, color12.b, tX), Doubles.lerp(color21.b, color22.b, tX), tY);
+					final double a = Doubles.lerp(Doubles.lerp(color11.a, color12.a, tX), Doubles.lerp(color21.a, color22.a, tX), tY);
+					
+					newColors[index] = new Color4D(r, g, b, a);
+				}
+			}
+			
+			progressMonitor.advance();
+		});
+		
 		final boolean hasChangeBegun = hasChangeBegun();
 		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
 		
@@ -598,6 +919,10 @@ final class Color4DData extends Data {
 		this.resolutionX = newResolutionX;
 		this.resolutionY = newResolutionY;
 		
+		doRecycle(oldColors);
+		
+		incrementModificationCount();
+		
 		return true;
 	}
 	
@@ -652,6 +977,8 @@ final class Color4DData extends Data {
 				}
 				
 				this.colors[index] = newColor;
+				
+				incrementModificationCount(index);
 			}
 			
 			return true;
@@ -683,6 +1010,8 @@ final class Color4DData extends Data {
 				}
 				
 				this.colors[index] = newColor;
+				
+				incrementModificationCount(x, y, x, y);
 			}
 			
 			return true;
@@ -728,7 +1057,7 @@ final class Color4DData extends Data {
 		if(data instanceof Color4DData) {
 			final Color4DData color4DData = Color4DData.class.cast(data);
 			
-			final Color4D[] newColors = color4DData.colors.clone();
+			final Color4D[] newColors = BufferPool.COLOR_4_D.acquireCopyOf(color4DData.colors);
 			final Color4D[] oldColors = this.colors;
 			
 			final int newResolutionX = color4DData.resolutionX;
@@ -752,12 +1081,64 @@ final class Color4DData extends Data {
 			this.resolutionX = newResolutionX;
 			this.resolutionY = newResolutionY;
 			
+			doRecycle(oldColors);
+			
+			incrementModificationCount();
+			
 			return true;
 		}
 		
 		return false;
 	}
 	
+	@Override
+	public boolean setPremultiplied(final boolean isPremultiplied) {
+		if(isPremultiplied == isPremultiplied()) {
+			return false;
+		}
+		
+		final int resolutionX = this.resolutionX;
+		final int resolutionY = this.resolutionY;
+		
+		final Color4D[] oldColors = this.colors;
+		final Color4D[] newColors = BufferPool.COLOR_4_D.acquire(oldColors.length);
+		
+		final ProgressMonitor progressMonitor = createProgressMonitor(resolutionY);
+		
+		IntStream.range(0, resolutionY).parallel().forEach(y -> {
+			final int fromIndex = y * resolutionX;
+			final int toIndex = fromIndex + resolutionX;
+			
+			for(int index = fromIndex; index < toIndex; index++) {
+				newColors[index] = isPremultiplied ? Color4D.premultiply(oldColors[index]) : Color4D.unpremultiply(oldColors[index]);
+			}
+			
+			progressMonitor.advance();
+		});
+		
+		final boolean hasChangeBegun = hasChangeBegun();
+		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
+		
+		if(hasChangeBegun || hasChangeBegunNow) {
+			changeAdd(new StateChange(newColors, oldColors, resolutionX, resolutionX, resolutionY, resolutionY));
+			changeAdd(new PremultipliedChange(isPremultiplied));
+			
+			if(hasChangeBegunNow) {
+				changeEnd();
+			}
+		}
+		
+		this.colors = newColors;
+		
+		updatePremultiplied(isPremultiplied);
+		
+		doRecycle(oldColors);
+		
+		incrementModificationCount();
+		
+		return true;
+	}
+	
 	@Override
 	public boolean setResolution(final int resolutionX, final int resolutionY) {
 		if(resolutionX < 1 || resolutionY < 1 || !Ints.canMultiplyExact(resolutionX, resolutionY)) {
@@ -774,7 +1155,7 @@ final class Color4DData extends Data {
 		final int oldResolutionX = this.resolutionX;
 		final int oldResolutionY = this.resolutionY;
 		
-		final Color4D[] newColors = new Color4D[newResolutionX * newResolutionY];
+		final Color4D[] newColors = BufferPool.COLOR_4_D.acquire(newResolutionX * newResolutionY);
 		final Color4D[] oldColors = this.colors;
 		
 		for(int y = 0; y < newResolutionY; y++) {
@@ -806,6 +1187,10 @@ final class Color4DData extends Data {
 		this.resolutionX = newResolutionX;
 		this.resolutionY = newResolutionY;
 		
+		doRecycle(oldColors);
+		
+		incrementModificationCount();
+		
 		return true;
 	}
 	
@@ -837,6 +1222,9 @@ final class Color4DData extends Data {
 		this.colors[indexA] = colorB;
 		this.colors[indexB] = colorA;
 		
+		incrementModificationCount(indexA);
+		incrementModificationCount(indexB);
+		
 		return true;
 	}
 	
@@ -896,6 +1284,40 @@ final class Color4DData extends Data {
 		Ints.requireRange(index, 0, this.colors.length - 1, "index");
 		
 		this.colors[index] = color;
+		
+		incrementModificationCount(index);
+	}
+	
+	void updateRegion(final Color4D[] colors, final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+		org.macroing.java.util.Arrays.requireNonNull(colors, "colors");
+		
+		Ints.requireRange(minimumX, 0, this.resolutionX - 1, "minimumX");
+		Ints.requireRange(minimumY, 0, this.resolutionY - 1, "minimumY");
+		Ints.requireRange(maximumX, minimumX, this.resolutionX - 1, "maximumX");
+		Ints.requireRange(maximumY, minimumY, this.resolutionY - 1, "maximumY");
+		Ints.requireRange(colors.length, (maximumX - minimumX + 1) * (maximumY - minimumY + 1), Integer.MAX_VALUE, "colors.length");
+		
+		for(int y = minimumY, regionIndex = 0; y <= maximumY; y++) {
+			for(int x = minimumX, index = y * this.resolutionX + minimumX; x <= maximumX; x++, index++, regionIndex++) {
+				this.colors[index] = colors[regionIndex];
+			}
+		}
+		
+		incrementModificationCount(minimumX, minimumY, maximumX, maximumY);
+	}
+	
+	@Override
+	void updateRow(final double[] array, final int y) {
+		Objects.requireNonNull(array, "array == null");
+		
+		Ints.requireRange(array.length, this.resolutionX * 4, Integer.MAX_VALUE, "array.length");
+		Ints.requireRange(y, 0, this.resolutionY - 1, "y");
+		
+		for(int x = 0, index = y * this.resolutionX, offset = 0; x < this.resolutionX; x++, index++, offset += 4) {
+			this.colors[index] = new Color4D(array[offset + 0], array[offset + 1], array[offset + 2], array[offset + 3]);
+		}
+		
+		incrementModificationCount(0, y, this.resolutionX - 1, y);
 	}
 	
 	void updateState(final Color4D[] colors, final int resolutionX, final int resolutionY) {
@@ -907,6 +1329,8 @@ final class Color4DData extends Data {
 		this.colors = colors.clone();
 		this.resolutionX = resolutionX;
 		this.resolutionY = resolutionY;
+		
+		incrementModificationCount();
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -960,6 +1384,11 @@ final class Color4DData extends Data {
 			return Objects.hash(this.colorRedo, this.colorUndo, Integer.valueOf(this.index));
 		}
 		
+		@Override
+		public long getSizeInBytes() {
+			return SizeEstimates.ofObject(2, 1, 0) + 2L * SizeEstimates.COLOR_4_D;
+		}
+		
 		@Override
 		public void redo(final Data data) {
 			Objects.requireNonNull(data, "data == null");
@@ -985,6 +1414,109 @@ final class Color4DData extends Data {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	static final class RegionChange implements Change {
+		private final Color4D[] colorsRedo;
+		private final Color4D[] colorsUndo;
+		private final int maximumX;
+		private final int maximumY;
+		private final int minimumX;
+		private final int minimumY;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public RegionChange(final Color4D[] colorsRedo, final Color4D[] colorsUndo, final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+			this.colorsRedo = org.macroing.java.util.Arrays.requireNonNull(colorsRedo, "colorsRedo").clone();
+			this.colorsUndo = org.macroing.java.util.Arrays.requireNonNull(colorsUndo, "colorsUndo").clone();
+			this.minimumX = Ints.requireRange(minimumX, 0, Integer.MAX_VALUE, "minimumX");
+			this.minimumY = Ints.requireRange(minimumY, 0, Integer.MAX_VALUE, "minimumY");
+			this.maximumX = Ints.requireRange(maximumX, minimumX, Integer.MAX_VALUE, "maximumX");
+			this.maximumY = Ints.requireRange(maximumY, minimumY, Integer.MAX_VALUE, "maximumY");
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Color4D[] getColorsRedo() {
+			return this.colorsRedo.clone();
+		}
+		
+		public Color4D[] getColorsUndo() {
+			return this.colorsUndo.clone();
+		}
+		
+		@Override
+		public boolean equals(final Object object) {
+			if(object == this) {
+				return true;
+			} else if(!(object instanceof RegionChange)) {
+				return false;
+			} else if(!Arrays.equals(this.colorsRedo, RegionChange.class.cast(object).colorsRedo)) {
+				return false;
+			} else if(!Arrays.equals(this.colorsUndo, RegionChange.class.cast(object).colorsUndo)) {
+				return false;
+			} else if(this.maximumX != RegionChange.class.cast(object).maximumX) {
+				return false;
+			} else if(this.maximumY != RegionChange.class.cast(object).maximumY) {
+				return false;
+			} else if(this.minimumX != RegionChange.class.cast(object).minimumX) {
+				return false;
+			} else if(this.minimumY != RegionChange.class.cast(object).minimumY) {
+				return false;
+			} else {
+				return true;
+			}
+		}
+		
+		public int getMaximumX() {
+			return this.maximumX;
+		}
+		
+		public int getMaximumY() {
+			return this.maximumY;
+		}
+		
+		public int getMinimumX() {
+			return this.minimumX;
+		}
+		
+		public int getMinimumY() {
+			return this.minimumY;
+		}
+		
+		@Override
+		public int hashCode() {
+			return Objects.hash(Integer.valueOf(Arrays.hashCode(this.colorsRedo)), Integer.valueOf(Arrays.hashCode(this.colorsUndo)), Integer.valueOf(this.maximumX), Integer.valueOf(this.maximumY), Integer.valueOf(this.minimumX), Integer.valueOf(this.minimumY));
+		}
+		
+		@Override
+		public long getSizeInBytes() {
+			return SizeEstimates.ofObject(2, 4, 0) + SizeEstimates.ofReferenceArray(this.colorsRedo.length, SizeEstimates.COLOR_4_D) + SizeEstimates.ofReferenceArray(this.colorsUndo.length, SizeEstimates.COLOR_4_D);
+		}
+		
+		@Override
+		public void redo(final Data data) {
+			Objects.requireNonNull(data, "data == null");
+			
+			if(data instanceof Color4DData) {
+				final
+				Color4DData color4DData = Color4DData.class.cast(data);
+				color4DData.updateRegion(this.colorsRedo, this.minimumX, this.minimumY, this.maximumX, this.maximumY);
+			}
+		}
+		
+		@Override
+		public void undo(final Data data) {
+			Objects.requireNonNull(data, "data == null");
+			
+			if(data instanceof Color4DData) {
+				final
+				Color4DData color4DData = Color4DData.class.cast(data);
+				color4DData.updateRegion(this.colorsUndo, this.minimumX, this.minimumY, this.maximumX, this.maximumY);
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
 	static final class StateChange implements Change {
 		private final Color4D[] colorsRedo;
 		private final Color4D[] colorsUndo;
@@ -1058,6 +1590,11 @@ final class Color4DData extends Data {
 			return Objects.hash(Integer.valueOf(Arrays.hashCode(this.colorsRedo)), Integer.valueOf(Arrays.hashCode(this.colorsUndo)), Integer.valueOf(this.resolutionXRedo), Integer.valueOf(this.resolutionXUndo), Integer.valueOf(this.resolutionYRedo), Integer.valueOf(this.resolutionYUndo));
 		}
 		
+		@Override
+		public long getSizeInBytes() {
+			return SizeEstimates.ofObject(2, 4, 0) + SizeEstimates.ofReferenceArray(this.colorsRedo.length, SizeEstimates.COLOR_4_D) + SizeEstimates.ofReferenceArray(this.colorsUndo.length, SizeEstimates.COLOR_4_D);
+		}
+		
 		@Override
 		public void redo(final Data data) {
 			Objects.requireNonNull(data, "data == null");
@@ -1080,4 +1617,35 @@ final class Color4DData extends Data {
 			}
 		}
 	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doCopyRegionFrom(final Color4D[] colors, final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+		final boolean hasChangeBegun = hasChangeBegun();
+		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
+		
+		if(hasChangeBegun || hasChangeBegunNow) {
+			final int regionResolutionX = maximumX - minimumX + 1;
+			
+			final Color4D[] oldColors = new Color4D[colors.length];
+			
+			for(int y = minimumY, regionIndex = 0; y <= maximumY; y++, regionIndex += regionResolutionX) {
+				System.arraycopy(this.colors, y * this.resolutionX + minimumX, oldColors, regionIndex, regionResolutionX);
+			}
+			
+			changeAdd(new RegionChange(colors, oldColors, minimumX, minimumY, maximumX, maximumY));
+			
+			if(hasChangeBegunNow) {
+				changeEnd();
+			}
+		}
+		
+		updateRegion(colors, minimumX, minimumY, maximumX, maximumY);
+	}
+	
+	private void doRecycle(final Color4D[] colors) {
+		if(!isChangeHistoryEnabled()) {
+			BufferPool.COLOR_4_D.release(colors);
+		}
+	}
 }
\ No newline at end of file
@@ -26,11 +26,13 @@ import org.macroing.java.util.Lists;
 
 final class CombinedChange implements Change {
 	private final List<Change> changes;
+	private final long sizeInBytes;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	public CombinedChange(final List<Change> changes) {
 		this.changes = new ArrayList<>(Lists.requireNonNull(changes, "changes"));
+		this.sizeInBytes = doComputeSizeInBytes(this.changes);
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -57,6 +59,11 @@ final class CombinedChange implements Change {
 		return Objects.hash(this.changes);
 	}
 	
+	@Override
+	public long getSizeInBytes() {
+		return this.sizeInBytes;
+	}
+	
 	@Override
 	public void redo(final Data data) {
 		Objects.requireNonNull(data, "data == null");
@@ -74,4 +81,16 @@ final class CombinedChange implements Change {
 			this.changes.get(i).undo(data);
 		}
 	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static long doComputeSizeInBytes(final List<Change> changes) {
+		long sizeInBytes = SizeEstimates.ofObject(2, 0, 1) + SizeEstimates.ofObject(1, 2, 0) + SizeEstimates.ofReferenceArray(changes.size(), 0L);
+		
+		for(final Change change : changes) {
+			sizeInBytes += change.getSizeInBytes();
+		}
+		
+		return sizeInBytes;
+	}
 }
\ No newline at end of file
@@ -20,9 +20,14 @@ package org.macroing.art4j.data;
 
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import javax.imageio.ImageIO;
@@ -33,12 +38,18 @@ import org.macroing.art4j.color.Color3I;
 import org.macroing.art4j.color.Color4D;
 import org.macroing.art4j.color.Color4F;
 import org.macroing.art4j.color.Color4I;
+import org.macroing.art4j.filter.Filter2D;
+import org.macroing.art4j.filter.Filter2F;
 import org.macroing.art4j.kernel.ConvolutionKernelND;
 import org.macroing.art4j.kernel.ConvolutionKernelNF;
+import org.macroing.art4j.pixel.CompositeOperator;
 import org.macroing.art4j.pixel.PixelTransformer;
+import org.macroing.geo4j.common.Point2I;
 import org.macroing.geo4j.shape.Shape2I;
+import org.macroing.geo4j.shape.rectangle.Rectangle2I;
 import org.macroing.java.lang.Doubles;
 import org.macroing.java.lang.Floats;
+import org.macroing.java.lang.Ints;
 
 /**
  * A {@code Data} contains data for an image.
@@ -49,7 +60,14 @@ import org.macroing.java.lang.Floats;
  * @author J&#246;rgen Lundgren
  */
 public abstract class Data {
+	private final AtomicLong modificationCount;
+	private final AtomicLong pixelModificationCount;
+	private final DirtyRegionLog dirtyRegionLog;
+	private final DirtyRegions dirtyRegions;
+	private CancellationToken cancellationToken;
 	private ChangeHistory changeHistory;
+	private ProgressListener progressListener;
+	private boolean isPremultiplied;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
@@ -57,7 +75,14 @@ public abstract class Data {
 	 * Constructs a new {@code Data} instance.
 	 */
 	protected Data() {
+		this.modificationCount = new AtomicLong();
+		this.pixelModificationCount = new AtomicLong();
+		this.dirtyRegionLog = new DirtyRegionLog();
+		this.dirtyRegions = new DirtyRegions();
+		this.cancellationToken = null;
 		this.changeHistory = null;
+		this.progressListener = null;
+		this.isPremultiplied = false;
 	}
 	
 	/**
@@ -69,7 +94,14 @@ public abstract class Data {
 	 * @throws NullPointerException thrown if, and only if, {@code data} is {@code null}
 	 */
 	protected Data(final Data data) {
+		this.modificationCount = new AtomicLong();
+		this.pixelModificationCount = new AtomicLong();
+		this.dirtyRegionLog = new DirtyRegionLog();
+		this.dirtyRegions = new DirtyRegions();
+		this.cancellationToken = null;
 		this.changeHistory = data.changeHistory != null ? new ChangeHistory(data.changeHistory) : null;
+		this.progressListener = null;
+		this.isPremultiplied = data.isPremultiplied;
 	}
 	
 	/**
@@ -82,19 +114,74 @@ public abstract class Data {
 	 * @throws NullPointerException thrown if, and only if, {@code data} is {@code null}
 	 */
 	protected Data(final Data data, final boolean isIgnoringChangeHistory) {
+		this.modificationCount = new AtomicLong();
+		this.pixelModificationCount = new AtomicLong();
+		this.dirtyRegionLog = new DirtyRegionLog();
+		this.dirtyRegions = new DirtyRegions();
+		this.cancellationToken = null;
 		this.changeHistory = isIgnoringChangeHistory ? null : data.changeHistory != null ? new ChangeHistory(data.changeHistory) : null;
+		this.progressListener = null;
+		this.isPremultiplied = data.isPremultiplied;
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	/**
 	 * Returns a {@code BufferedImage} representation of this {@code Data} instance.
+	 * <p>
+	 * If this {@code Data} instance stores colors with premultiplied alpha, {@code BufferedImage.TYPE_INT_ARGB_PRE} will be used instead of {@code BufferedImage.TYPE_INT_ARGB} and the colors in a {@code BufferedImage.TYPE_INT_RGB} will be converted to straight alpha.
 	 * 
 	 * @param isRGB {@code true} if, and only if, {@code BufferedImage.TYPE_INT_RGB} should be used instead of {@code BufferedImage.TYPE_INT_ARGB}, {@code false} otherwise
 	 * @return a {@code BufferedImage} representation of this {@code Data} instance
 	 */
 	public abstract BufferedImage toBufferedImage(final boolean isRGB);
 	
+	/**
+	 * Returns a {@code BufferedImage} representation of this {@code Data} instance, by updating the dirty regions of {@code bufferedImage} if possible.
+	 * <p>
+	 * If {@code bufferedImage} is not {@code null}, its resolution is equal to the resolution of this {@code Data} instance and its type is {@code BufferedImage.TYPE_INT_RGB} if {@code isRGB} is {@code true} or {@code BufferedImage.TYPE_INT_ARGB} ({@code BufferedImage.TYPE_INT_ARGB_PRE} if this {@code Data} instance stores colors with premultiplied alpha) otherwise, only the pixels in the dirty regions are copied to {@code bufferedImage} and {@code bufferedImage} is returned. Otherwise the result of {@code data.toBufferedImage(isRGB)} is returned.
+	 * <p>
+	 * The dirty regions are cleared by this method. For the result to be correct, {@code bufferedImage} has to be in sync with this {@code Data} instance as it was when the dirty regions were last cleared. This is the case if it was returned by the previous call to this method and the dirty regions have not been cleared in any other way since then.
+	 * <p>
+	 * This method is intended for consumers, such as image viewers, that repeatedly convert the same {@code Data} instance after small changes.
+	 * 
+	 * @param bufferedImage a previously returned {@code BufferedImage}, or {@code null}
+	 * @param isRGB {@code true} if, and only if, {@code BufferedImage.TYPE_INT_RGB} should be used instead of {@code BufferedImage.TYPE_INT_ARGB}, {@code false} otherwise
+	 * @return a {@code BufferedImage} representation of this {@code Data} instance
+	 */
+	public final BufferedImage toBufferedImage(final BufferedImage bufferedImage, final boolean isRGB) {
+		final int resolutionX = getResolutionX();
+		final int resolutionY = getResolutionY();
+		
+		final int type = isRGB ? BufferedImage.TYPE_INT_RGB : this.isPremultiplied ? BufferedImage.TYPE_INT_ARGB_PRE : BufferedImage.TYPE_INT_ARGB;
+		
+		final boolean isUnpremultiplying = isRGB && this.isPremultiplied;
+		
+		if(bufferedImage == null || bufferedImage.getWidth() != resolutionX || bufferedImage.getHeight() != resolutionY || bufferedImage.getType() != type) {
+			this.dirtyRegions.clear();
+			
+			return toBufferedImage(isRGB);
+		}
+		
+		final int[] bounds = this.dirtyRegions.remove(resolutionX, resolutionY);
+		final int[] dataTarget = DataBufferInt.class.cast(bufferedImage.getRaster().getDataBuffer()).getData();
+		
+		for(int i = 0; i < bounds.length; i += 4) {
+			final int minimumX = bounds[i + 0];
+			final int minimumY = bounds[i + 1];
+			final int maximumX = bounds[i + 2];
+			final int maximumY = bounds[i + 3];
+			
+			for(int y = minimumY; y <= maximumY; y++) {
+				for(int x = minimumX, index = y * resolutionX + minimumX; x <= maximumX; x++, index++) {
+					dataTarget[index] = isUnpremultiplying ? PackedIntARGBKernels.unpremultiply(getColorARGB(x, y)) : getColorARGB(x, y);
+				}
+			}
+		}
+		
+		return bufferedImage;
+	}
+	
 	/**
 	 * Returns the {@link Color3D} at {@code x} and {@code y} in this {@code Data} instance.
 	 * <p>
@@ -908,6 +995,62 @@ public abstract class Data {
 	 */
 	public abstract Data copy(final boolean isIgnoringChangeHistory);
 	
+	/**
+	 * Returns a copy of this {@code Data} instance that is scaled to {@code resolutionX} and {@code resolutionY} using the {@link Filter2D} instance {@code filter}.
+	 * <p>
+	 * If {@code filter} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1} or {@code resolutionX * resolutionY} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The copy is created by {@link #getDataFactory()} and is resampled directly from this {@code Data} instance, in the same way as {@link #scale(int, int, Filter2D)}. The change history is not copied. This {@code Data} instance is left unchanged.
+	 * 
+	 * @param resolutionX the resolution of the copy along the X-axis
+	 * @param resolutionY the resolution of the copy along the Y-axis
+	 * @param filter the {@code Filter2D} instance to resample with
+	 * @return a copy of this {@code Data} instance that is scaled to {@code resolutionX} and {@code resolutionY} using {@code filter}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resolutionX} or {@code resolutionY} are less than {@code 1} or {@code resolutionX * resolutionY} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code filter} is {@code null}
+	 */
+	public final Data copy(final int resolutionX, final int resolutionY, final Filter2D filter) {
+		Objects.requireNonNull(filter, "filter == null");
+		
+		final Data data = getDataFactory().create(resolutionX, resolutionY);
+		
+		Resampler.resample(this, data, filter);
+		
+		data.updatePremultiplied(isPremultiplied());
+		
+		return data;
+	}
+	
+	/**
+	 * Returns a copy of this {@code Data} instance that is scaled to {@code resolutionX} and {@code resolutionY} using the {@link Filter2F} instance {@code filter}.
+	 * <p>
+	 * If {@code filter} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1} or {@code resolutionX * resolutionY} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The copy is created by {@link #getDataFactory()} and is resampled directly from this {@code Data} instance, in the same way as {@link #scale(int, int, Filter2F)}. The change history is not copied. This {@code Data} instance is left unchanged.
+	 * 
+	 * @param resolutionX the resolution of the copy along the X-axis
+	 * @param resolutionY the resolution of the copy along the Y-axis
+	 * @param filter the {@code Filter2F} instance to resample with
+	 * @return a copy of this {@code Data} instance that is scaled to {@code resolutionX} and {@code resolutionY} using {@code filter}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resolutionX} or {@code resolutionY} are less than {@code 1} or {@code resolutionX * resolutionY} overflows
+	 * @throws NullPointerException thrown if, and only if, {@code filter} is {@code null}
+	 */
+	public final Data copy(final int resolutionX, final int resolutionY, final Filter2F filter) {
+		Objects.requireNonNull(filter, "filter == null");
+		
+		final Data data = getDataFactory().create(resolutionX, resolutionY);
+		
+		Resampler.resample(this, data, filter);
+		
+		data.updatePremultiplied(isPremultiplied());
+		
+		return data;
+	}
+	
 	/**
 	 * Draws the contents drawn to the supplied {@code Graphics2D} instance into this {@code Data} instance.
 	 * <p>
@@ -928,6 +1071,59 @@ public abstract class Data {
 	 */
 	public abstract DataFactory getDataFactory();
 	
+	/**
+	 * Returns a {@code List} with the dirty regions of this {@code Data} instance.
+	 * <p>
+	 * A dirty region is a {@code Rectangle2I} instance that contains pixels that may have been changed since the dirty regions were last cleared. The dirty regions are cleared by {@link #clearDirtyRegions()} and {@link #toBufferedImage(BufferedImage, boolean)}. A {@code Data} instance that has just been created, or whose resolution has been changed, is considered dirty in its entirety.
+	 * <p>
+	 * Every operation that changes the pixels marks the affected pixels as dirty. Operations that affect a known set of pixels, such as {@code setColor4D(Color4D, int)}, {@code swap(int, int)} or {@code convolve(ConvolutionKernelND, int[])}, mark only those pixels, whereas operations such as {@code draw(Consumer)}, {@code rotate(double, boolean)} and {@code setContent(Data)} mark all pixels. Regions that are close to each other are merged, so the dirty regions may contain pixels that have not been changed, and their number is bounded.
+	 * <p>
+	 * Modifying the returned {@code List} will not affect this {@code Data} instance.
+	 * 
+	 * @return a {@code List} with the dirty regions of this {@code Data} instance
+	 */
+	public final List<Rectangle2I> getDirtyRegions() {
+		return doCreateDirtyRegions(this.dirtyRegions.get(getResolutionX(), getResolutionY()));
+	}
+	
+	/**
+	 * Returns a {@code List} with the regions of this {@code Data} instance that have been changed since its modification count was equal to {@code modificationCount}.
+	 * <p>
+	 * This method lets several consumers find the changed pixels independently of each other. A consumer stores the value returned by {@link #getModificationCount()} and passes it to this method the next time it needs the changes. Unlike {@link #getDirtyRegions()}, the returned regions are not affected by {@link #clearDirtyRegions()} or {@link #toBufferedImage(BufferedImage, boolean)}.
+	 * <p>
+	 * Only a bounded number of recent changes are remembered. If the changes since {@code modificationCount} are no longer known, or if an operation that marks all pixels has been performed since then, the returned {@code List} contains the bounds of this {@code Data} instance. After such an operation, and after this {@code Data} instance has been created, the changed regions are not recorded until this method is called, so operations that fill a new {@code Data} instance in parallel do not have to synchronize. A consumer that starts to track a {@code Data} instance should therefore call this method with the current modification count. Like for {@code getDirtyRegions()}, the returned regions may contain pixels that have not been changed.
+	 * <p>
+	 * Modifying the returned {@code List} will not affect this {@code Data} instance.
+	 * 
+	 * @param modificationCount a value previously returned by {@code getModificationCount()}
+	 * @return a {@code List} with the regions of this {@code Data} instance that have been changed since its modification count was equal to {@code modificationCount}
+	 */
+	public final List<Rectangle2I> getDirtyRegions(final long modificationCount) {
+		return doCreateDirtyRegions(this.dirtyRegionLog.get(modificationCount, this.modificationCount).get(getResolutionX(), getResolutionY()));
+	}
+	
+	/**
+	 * Returns an optional {@code BufferedImage} that shares its pixels with this {@code Data} instance.
+	 * <p>
+	 * If this {@code Data} instance stores its pixels in a format that can be shared with a {@code BufferedImage} of type {@code BufferedImage.TYPE_INT_ARGB}, the returned {@code Optional} contains such a {@code BufferedImage}. No pixels are copied, so the {@code BufferedImage} reflects all subsequent changes to the pixels of this {@code Data} instance. Otherwise an empty {@code Optional} is returned. The default implementation returns an empty {@code Optional}.
+	 * <p>
+	 * The view is intended for display. It is only valid as long as the resolution of this {@code Data} instance is unchanged, and operations that replace the pixels, such as {@code convolve(ConvolutionKernelND, int[])}, {@code setContent(Data)} or {@link #undo()}, may detach it. Call this method again after such operations. Changes made through the view are not recorded in the change history and are not reflected by {@link #getModificationCount()} or {@link #getDirtyRegions()}. Use {@link #draw(Consumer)} to change the pixels instead.
+	 * 
+	 * @return an optional {@code BufferedImage} that shares its pixels with this {@code Data} instance
+	 */
+	public Optional<BufferedImage> getBufferedImageView() {
+		return Optional.empty();
+	}
+	
+	/**
+	 * Returns the optional {@link CancellationToken} instance associated with this {@code Data} instance.
+	 * 
+	 * @return the optional {@code CancellationToken} instance associated with this {@code Data} instance
+	 */
+	public final Optional<CancellationToken> getCancellationToken() {
+		return Optional.ofNullable(this.cancellationToken);
+	}
+	
 	/**
 	 * Returns the optional {@link ChangeHistory} instance associated with this {@code Data} instance.
 	 * 
@@ -937,6 +1133,29 @@ public abstract class Data {
 		return Optional.ofNullable(this.changeHistory);
 	}
 	
+	/**
+	 * Returns the optional {@link ProgressListener} instance associated with this {@code Data} instance.
+	 * 
+	 * @return the optional {@code ProgressListener} instance associated with this {@code Data} instance
+	 */
+	public final Optional<ProgressListener> getProgressListener() {
+		return Optional.ofNullable(this.progressListener);
+	}
+	
+	/**
+	 * Returns a new {@link ProgressMonitor} instance for an operation that consists of {@code workCount} units of work.
+	 * <p>
+	 * The returned {@code ProgressMonitor} instance is bound to the {@link CancellationToken} and the {@link ProgressListener} that are currently associated with this {@code Data} instance, if any.
+	 * <p>
+	 * This method should be called by long-running operations, such as the ones performed by subclasses or by {@code Image}. The operation should call {@link ProgressMonitor#advance()} once per unit of work, such as a row of pixels, and must leave this {@code Data} instance unchanged if a {@code CancellationException} is thrown. Operations that change pixels one at a time between {@link #changeBegin()} and {@link #changeEnd()} can call {@link #changeRollback()} for that.
+	 * 
+	 * @param workCount the number of units of work
+	 * @return a new {@code ProgressMonitor} instance for an operation that consists of {@code workCount} units of work
+	 */
+	public final ProgressMonitor createProgressMonitor(final int workCount) {
+		return new ProgressMonitor(this.cancellationToken, this.progressListener, workCount);
+	}
+	
 	/**
 	 * Performs a change add operation.
 	 * <p>
@@ -998,17 +1217,140 @@ public abstract class Data {
 		return false;
 	}
 	
+	/**
+	 * Performs a change rollback operation.
+	 * <p>
+	 * Returns {@code true} if, and only if, the change history is enabled and a change has already begun, {@code false} otherwise.
+	 * <p>
+	 * All changes that have been added since {@link #changeBegin()} was called are undone in reverse order and discarded. After this method returns, no change has begun and the changes that can be undone or redone are the same as before {@code changeBegin()} was called.
+	 * 
+	 * @return {@code true} if, and only if, the change history is enabled and a change has already begun, {@code false} otherwise
+	 */
+	public final boolean changeRollback() {
+		final ChangeHistory changeHistory = this.changeHistory;
+		
+		if(changeHistory != null) {
+			return changeHistory.rollback(this);
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Composites {@code source} onto this {@code Data} instance using {@code compositeOperator}.
+	 * <p>
+	 * Returns {@code true} if, and only if, at least one pixel was composited, {@code false} otherwise.
+	 * <p>
+	 * If either {@code source} or {@code compositeOperator} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * data.composite(source, compositeOperator, new Rectangle2I(new Point2I(), new Point2I(source.getResolutionX() - 1, source.getResolutionY() - 1)), new Point2I());
+	 * }
+	 * </pre>
+	 * 
+	 * @param source the {@code Data} instance to composite onto this {@code Data} instance
+	 * @param compositeOperator the {@link CompositeOperator} instance to use
+	 * @return {@code true} if, and only if, at least one pixel was composited, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, either {@code source} or {@code compositeOperator} are {@code null}
+	 */
+	public final boolean composite(final Data source, final CompositeOperator compositeOperator) {
+		return composite(source, compositeOperator, new Rectangle2I(new Point2I(), new Point2I(source.getResolutionX() - 1, source.getResolutionY() - 1)), new Point2I());
+	}
+	
+	/**
+	 * Composites the region {@code sourceBounds} of {@code source} onto this {@code Data} instance at {@code targetPosition} using {@code compositeOperator}.
+	 * <p>
+	 * Returns {@code true} if, and only if, at least one pixel was composited, {@code false} otherwise.
+	 * <p>
+	 * If either {@code source}, {@code compositeOperator}, {@code sourceBounds} or {@code targetPosition} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Pixels that are outside of either {@code source} or this {@code Data} instance are ignored. The rows are composited in parallel.
+	 * <p>
+	 * The composite operation is performed on colors with premultiplied alpha. If either {@code source} or this {@code Data} instance do not store colors with premultiplied alpha, the colors are converted as they are read and written. No conversions are needed if both of them store colors with premultiplied alpha.
+	 * <p>
+	 * The built-in implementations write the composited rows directly to their storage and record a single change for the target region. The default implementation composites the region into a primitive array using {@link #getColor4D(int, int)} and writes it with {@link #copyRegionFrom(double[], Rectangle2I)}.
+	 * <p>
+	 * If the {@link CancellationToken} associated with this {@code Data} instance is cancelled while this operation runs, a {@code CancellationException} will be thrown and this {@code Data} instance is left unchanged.
+	 * 
+	 * @param source the {@code Data} instance to composite onto this {@code Data} instance
+	 * @param compositeOperator the {@link CompositeOperator} instance to use
+	 * @param sourceBounds a {@link Rectangle2I} that represents the bounds of the region in {@code source} to use
+	 * @param targetPosition a {@link Point2I} that represents the position in this {@code Data} instance to composite the region to
+	 * @return {@code true} if, and only if, at least one pixel was composited, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, either {@code source}, {@code compositeOperator}, {@code sourceBounds} or {@code targetPosition} are {@code null}
+	 * @throws CancellationException thrown if, and only if, the {@code CancellationToken} associated with this {@code Data} instance is cancelled while this operation runs
+	 */
+	public boolean composite(final Data source, final CompositeOperator compositeOperator, final Rectangle2I sourceBounds, final Point2I targetPosition) {
+		Objects.requireNonNull(source, "source == null");
+		Objects.requireNonNull(compositeOperator, "compositeOperator == null");
+		Objects.requireNonNull(sourceBounds, "sourceBounds == null");
+		Objects.requireNonNull(targetPosition, "targetPosition == null");
+		
+		final Optional<Rectangle2I> optionalBounds = clipSourceBounds(source, this, sourceBounds, targetPosition);
+		
+		if(!optionalBounds.isPresent()) {
+			return false;
+		}
+		
+		final Rectangle2I bounds = optionalBounds.get();
+		
+		final int minimumX = bounds.min().x;
+		final int minimumY = bounds.min().y;
+		final int maximumX = bounds.max().x;
+		final int maximumY = bounds.max().y;
+		
+		final int offsetX = targetPosition.x - sourceBounds.min().x;
+		final int offsetY = targetPosition.y - sourceBounds.min().y;
+		
+		final boolean isPremultipliedSource = source.isPremultiplied();
+		final boolean isPremultipliedTarget = isPremultiplied();
+		
+		final double[] array = new double[getRegionLength(bounds, 4)];
+		
+		final ProgressMonitor progressMonitor = createProgressMonitor(maximumY - minimumY + 1);
+		
+		for(int sourceY = minimumY, offset = 0; sourceY <= maximumY; sourceY++) {
+			for(int sourceX = minimumX; sourceX <= maximumX; sourceX++, offset += 4) {
+				final Color4D colorSourceStored = source.getColor4D(sourceX, sourceY);
+				final Color4D colorTargetStored = getColor4D(sourceX + offsetX, sourceY + offsetY);
+				
+				final Color4D colorSource = isPremultipliedSource ? colorSourceStored : Color4D.premultiply(colorSourceStored);
+				final Color4D colorTarget = isPremultipliedTarget ? colorTargetStored : Color4D.premultiply(colorTargetStored);
+				
+				final Color4D colorComposite = compositeOperator.apply(colorSource, colorTarget);
+				
+				final Color4D color = isPremultipliedTarget ? colorComposite : Color4D.unpremultiply(colorComposite);
+				
+				array[offset + 0] = color.r;
+				array[offset + 1] = color.g;
+				array[offset + 2] = color.b;
+				array[offset + 3] = color.a;
+			}
+			
+			progressMonitor.advance();
+		}
+		
+		return copyRegionFrom(array, new Rectangle2I(new Point2I(minimumX + offsetX, minimumY + offsetY), new Point2I(maximumX + offsetX, maximumY + offsetY)));
+	}
+	
 	/**
 	 * Applies {@code convolutionKernel} to all pixels in this {@code Data} instance that are provided by {@code indices}.
 	 * <p>
 	 * Returns {@code true} if, and only if, at least one pixel was convolved, {@code false} otherwise.
 	 * <p>
 	 * If either {@code convolutionKernel} or {@code indices} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the {@link CancellationToken} associated with this {@code Data} instance is cancelled while this operation runs, a {@code CancellationException} will be thrown and this {@code Data} instance is left unchanged.
+	 * <p>
+	 * The {@code Data} created by {@link DataFactory#forPackedIntARGB()} applies {@code convolutionKernel} in 16.16 fixed-point arithmetic if the scaled elements and the bias fit in it. The elements are rounded to the nearest multiple of {@code 1 / 65536}, so a component that lies close to halfway between two 8-bit values may be rounded the other way than in floating-point arithmetic. Such a component differs by {@code 1 / 255} from the floating-point result.
 	 * 
 	 * @param convolutionKernel the {@link ConvolutionKernelND} instance to apply
 	 * @param indices an {@code int[]} that provides the indices of the pixels to apply {@code convolutionKernel} to
 	 * @return {@code true} if, and only if, at least one pixel was convolved, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, either {@code convolutionKernel} or {@code indices} are {@code null}
+	 * @throws CancellationException thrown if, and only if, the {@code CancellationToken} associated with this {@code Data} instance is cancelled while this operation runs
 	 */
 	public abstract boolean convolve(final ConvolutionKernelND convolutionKernel, final int[] indices);
 	
@@ -1018,14 +1360,178 @@ public abstract class Data {
 	 * Returns {@code true} if, and only if, at least one pixel was convolved, {@code false} otherwise.
 	 * <p>
 	 * If either {@code convolutionKernel} or {@code indices} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the {@link CancellationToken} associated with this {@code Data} instance is cancelled while this operation runs, a {@code CancellationException} will be thrown and this {@code Data} instance is left unchanged.
+	 * <p>
+	 * The {@code Data} created by {@link DataFactory#forPackedIntARGB()} applies {@code convolutionKernel} in 16.16 fixed-point arithmetic if the scaled elements and the bias fit in it. The elements are rounded to the nearest multiple of {@code 1 / 65536}, so a component that lies close to halfway between two 8-bit values may be rounded the other way than in floating-point arithmetic. Such a component differs by {@code 1 / 255} from the floating-point result.
 	 * 
 	 * @param convolutionKernel the {@link ConvolutionKernelNF} instance to apply
 	 * @param indices an {@code int[]} that provides the indices of the pixels to apply {@code convolutionKernel} to
 	 * @return {@code true} if, and only if, at least one pixel was convolved, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, either {@code convolutionKernel} or {@code indices} are {@code null}
+	 * @throws CancellationException thrown if, and only if, the {@code CancellationToken} associated with this {@code Data} instance is cancelled while this operation runs
 	 */
 	public abstract boolean convolve(final ConvolutionKernelNF convolutionKernel, final int[] indices);
 	
+	/**
+	 * Copies the colors in {@code array} to the pixels of this {@code Data} instance that are contained in {@code bounds}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the colors were copied, {@code false} otherwise.
+	 * <p>
+	 * The color components are read in the order R, G, B and A, one row of {@code bounds} at a time, starting at index {@code 0} in {@code array}. If {@code bounds} is {@code width} pixels wide and {@code height} pixels high, the first {@code width * height * 4} elements of {@code array} are read.
+	 * <p>
+	 * This method is intended for algorithms that compute a whole region of pixels into a primitive array before they write it. The built-in implementations copy the colors directly to their storage, record a single change and mark {@code bounds} as dirty once. The default implementation calls {@link #setColor4D(Color4D, int, int)} for each pixel.
+	 * <p>
+	 * If either {@code array} or {@code bounds} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code array.length} is less than {@code width * height * 4}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code bounds} is not contained in this {@code Data} instance, {@code false} will be returned.
+	 * 
+	 * @param array the {@code double[]} to copy the colors from
+	 * @param bounds a {@link Rectangle2I} that represents the bounds of the pixels to copy the colors to
+	 * @return {@code true} if, and only if, the colors were copied, {@code false} otherwise
+	 * @throws IllegalArgumentException thrown if, and only if, {@code array.length} is less than {@code width * height * 4}
+	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code bounds} are {@code null}
+	 */
+	public boolean copyRegionFrom(final double[] array, final Rectangle2I bounds) {
+		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(bounds, "bounds == null");
+		
+		Ints.requireRange(array.length, getRegionLength(bounds, 4), Integer.MAX_VALUE, "array.length");
+		
+		if(!isInside(bounds)) {
+			return false;
+		}
+		
+		final int minimumX = bounds.min().x;
+		final int minimumY = bounds.min().y;
+		final int maximumX = bounds.max().x;
+		final int maximumY = bounds.max().y;
+		
+		final boolean hasChangeBegun = hasChangeBegun();
+		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
+		
+		for(int y = minimumY, offset = 0; y <= maximumY; y++) {
+			for(int x = minimumX; x <= maximumX; x++, offset += 4) {
+				setColor4D(new Color4D(array[offset + 0], array[offset + 1], array[offset + 2], array[offset + 3]), x, y);
+			}
+		}
+		
+		if(hasChangeBegunNow) {
+			changeEnd();
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Copies the colors in {@code array} to the pixels of this {@code Data} instance that are contained in {@code bounds}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the colors were copied, {@code false} otherwise.
+	 * <p>
+	 * The colors are read in the format ARGB, one row of {@code bounds} at a time, starting at index {@code 0} in {@code array}. If {@code bounds} is {@code width} pixels wide and {@code height} pixels high, the first {@code width * height} elements of {@code array} are read.
+	 * <p>
+	 * This method is intended for algorithms that compute a whole region of pixels into a primitive array before they write it. The built-in implementations copy the colors directly to their storage, record a single change and mark {@code bounds} as dirty once. The default implementation calls {@link #setColorARGB(int, int, int)} for each pixel.
+	 * <p>
+	 * If either {@code array} or {@code bounds} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code array.length} is less than {@code width * height}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code bounds} is not contained in this {@code Data} instance, {@code false} will be returned.
+	 * 
+	 * @param array the {@code int[]} to copy the colors from
+	 * @param bounds a {@link Rectangle2I} that represents the bounds of the pixels to copy the colors to
+	 * @return {@code true} if, and only if, the colors were copied, {@code false} otherwise
+	 * @throws IllegalArgumentException thrown if, and only if, {@code array.length} is less than {@code width * height}
+	 * @throws NullPointerException thrown if, and only if, either {@code array} or {@code bounds} are {@code null}
+	 */
+	public boolean copyRegionFrom(final int[] array, final Rectangle2I bounds) {
+		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(bounds, "bounds == null");
+		
+		Ints.requireRange(array.length, getRegionLength(bounds, 1), Integer.MAX_VALUE, "array.length");
+		
+		if(!isInside(bounds)) {
+			return false;
+		}
+		
+		final int minimumX = bounds.min().x;
+		final int minimumY = bounds.min().y;
+		final int maximumX = bounds.max().x;
+		final int maximumY = bounds.max().y;
+		
+		final boolean hasChangeBegun = hasChangeBegun();
+		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
+		
+		for(int y = minimumY, index = 0; y <= maximumY; y++) {
+			for(int x = minimumX; x <= maximumX; x++, index++) {
+				setColorARGB(array[index], x, y);
+			}
+		}
+		
+		if(hasChangeBegunNow) {
+			changeEnd();
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Copies the colors in row {@code y} of this {@code Data} instance to {@code array}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the colors were copied, {@code false} otherwise.
+	 * <p>
+	 * The color components are written in the order R, G, B and A, starting at index {@code 0} in {@code array}. The first {@code data.getResolutionX() * 4} elements of {@code array} will be overwritten.
+	 * <p>
+	 * This method is intended for algorithms that process the whole image one row at a time. The built-in implementations do not allocate any color instances. The default implementation calls {@link #getColor4D(int, int)} for each pixel.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code array.length} is less than {@code data.getResolutionX() * 4}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code y} is less than {@code 0} or greater than or equal to {@code data.getResolutionY()}, {@code false} will be returned.
+	 * 
+	 * @param array the {@code double[]} to copy the colors to
+	 * @param y the Y-component of the row
+	 * @return {@code true} if, and only if, the colors were copied, {@code false} otherwise
+	 * @throws IllegalArgumentException thrown if, and only if, {@code array.length} is less than {@code data.getResolutionX() * 4}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public boolean copyRowTo(final double[] array, final int y) {
+		Objects.requireNonNull(array, "array == null");
+		
+		final int resolutionX = getResolutionX();
+		
+		Ints.requireRange(array.length, resolutionX * 4, Integer.MAX_VALUE, "array.length");
+		
+		if(y < 0 || y >= getResolutionY()) {
+			return false;
+		}
+		
+		for(int x = 0, offset = 0; x < resolutionX; x++, offset += 4) {
+			final Color4D color = getColor4D(x, y);
+			
+			array[offset + 0] = color.r;
+			array[offset + 1] = color.g;
+			array[offset + 2] = color.b;
+			array[offset + 3] = color.a;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Clears the dirty regions of this {@code Data} instance.
+	 * <p>
+	 * Returns {@code true} if, and only if, this {@code Data} instance had dirty regions, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, this {@code Data} instance had dirty regions, {@code false} otherwise
+	 */
+	public final boolean clearDirtyRegions() {
+		return this.dirtyRegions.clear();
+	}
+	
 	/**
 	 * Compares {@code object} to this {@code Data} instance for equality.
 	 * <p>
@@ -1042,6 +1548,8 @@ public abstract class Data {
 			return false;
 		} else if(!Objects.equals(this.changeHistory, Data.class.cast(object).changeHistory)) {
 			return false;
+		} else if(this.isPremultiplied != Data.class.cast(object).isPremultiplied) {
+			return false;
 		} else {
 			return true;
 		}
@@ -1065,6 +1573,26 @@ public abstract class Data {
 		return this.changeHistory != null;
 	}
 	
+	/**
+	 * Returns {@code true} if, and only if, this {@code Data} instance has dirty regions, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, this {@code Data} instance has dirty regions, {@code false} otherwise
+	 * @see #getDirtyRegions()
+	 */
+	public final boolean isDirty() {
+		return !this.dirtyRegions.isEmpty();
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, this {@code Data} instance stores colors with premultiplied alpha, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, this {@code Data} instance stores colors with premultiplied alpha, {@code false} otherwise
+	 * @see #setPremultiplied(boolean)
+	 */
+	public final boolean isPremultiplied() {
+		return this.isPremultiplied;
+	}
+	
 	/**
 	 * Performs the current redo operation.
 	 * <p>
@@ -1086,10 +1614,13 @@ public abstract class Data {
 	 * Rotates this {@code Data} instance by {@code angle} degrees or radians.
 	 * <p>
 	 * Returns {@code true} if, and only if, the rotation was performed, {@code false} otherwise.
+	 * <p>
+	 * If the {@link CancellationToken} associated with this {@code Data} instance is cancelled while this operation runs, a {@code CancellationException} will be thrown and this {@code Data} instance is left unchanged.
 	 * 
 	 * @param angle an angle in degrees or radians
 	 * @param isAngleInRadians {@code true} if, and only if, {@code angle} is in radians, {@code false} otherwise
 	 * @return {@code true} if, and only if, the rotation was performed, {@code false} otherwise
+	 * @throws CancellationException thrown if, and only if, the {@code CancellationToken} associated with this {@code Data} instance is cancelled while this operation runs
 	 */
 	public abstract boolean rotate(final double angle, final boolean isAngleInRadians);
 	
@@ -1097,10 +1628,13 @@ public abstract class Data {
 	 * Rotates this {@code Data} instance by {@code angle} degrees or radians.
 	 * <p>
 	 * Returns {@code true} if, and only if, the rotation was performed, {@code false} otherwise.
+	 * <p>
+	 * If the {@link CancellationToken} associated with this {@code Data} instance is cancelled while this operation runs, a {@code CancellationException} will be thrown and this {@code Data} instance is left unchanged.
 	 * 
 	 * @param angle an angle in degrees or radians
 	 * @param isAngleInRadians {@code true} if, and only if, {@code angle} is in radians, {@code false} otherwise
 	 * @return {@code true} if, and only if, the rotation was performed, {@code false} otherwise
+	 * @throws CancellationException thrown if, and only if, the {@code CancellationToken} associated with this {@code Data} instance is cancelled while this operation runs
 	 */
 	public abstract boolean rotate(final float angle, final boolean isAngleInRadians);
 	
@@ -1127,7 +1661,13 @@ public abstract class Data {
 				parentFile.mkdirs();
 			}
 			
-			return ImageIO.write(toBufferedImage(doIsJPEG(formatName)), formatName, file);
+			final BufferedImage bufferedImage = toBufferedImage(doIsJPEG(formatName));
+			
+			if(bufferedImage.isAlphaPremultiplied()) {
+				bufferedImage.coerceData(false);
+			}
+			
+			return ImageIO.write(bufferedImage, formatName, file);
 		} catch(@SuppressWarnings("unused") final Exception e) {
 			return false;
 		}
@@ -1181,13 +1721,114 @@ public abstract class Data {
 	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1} or {@code resolutionX * resolutionY} overflows, the resolution will not be changed.
 	 * <p>
 	 * If {@code resolutionX == data.getResolutionX()} and {@code resolutionY == data.getResolutionY()}, the resolution will not be changed.
+	 * <p>
+	 * If the {@link CancellationToken} associated with this {@code Data} instance is cancelled while this operation runs, a {@code CancellationException} will be thrown and this {@code Data} instance is left unchanged.
 	 * 
 	 * @param resolutionX the new resolution along the X-axis
 	 * @param resolutionY the new resolution along the Y-axis
 	 * @return {@code true} if, and only if, the resolution is changed as a result of this operation, {@code false} otherwise
+	 * @throws CancellationException thrown if, and only if, the {@code CancellationToken} associated with this {@code Data} instance is cancelled while this operation runs
 	 */
 	public abstract boolean scale(final int resolutionX, final int resolutionY);
 	
+	/**
+	 * Scales this {@code Data} instance to {@code resolutionX} and {@code resolutionY} using the {@link Filter2D} instance {@code filter}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the resolution is changed as a result of this operation, {@code false} otherwise.
+	 * <p>
+	 * If {@code filter} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1} or {@code resolutionX * resolutionY} overflows, the resolution will not be changed.
+	 * <p>
+	 * If {@code resolutionX == data.getResolutionX()} and {@code resolutionY == data.getResolutionY()}, the resolution will not be changed.
+	 * <p>
+	 * The resampling is separable. The horizontal and vertical weights are computed once per resolution pair and filter, by evaluating {@code filter} along each axis, and are then applied to bands of rows. The bands are processed in parallel if the {@code Data} instances created by {@link #getDataFactory()} are of one of the built-in types. Otherwise they are processed on the calling thread, because the rows are written with {@link #setColor4D(Color4D, int, int)}. When downscaling, the filter is widened by the scale factor so that it acts as a low-pass filter.
+	 * 
+	 * @param resolutionX the new resolution along the X-axis
+	 * @param resolutionY the new resolution along the Y-axis
+	 * @param filter the {@code Filter2D} instance to resample with
+	 * @return {@code true} if, and only if, the resolution is changed as a result of this operation, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code filter} is {@code null}
+	 */
+	public final boolean scale(final int resolutionX, final int resolutionY, final Filter2D filter) {
+		Objects.requireNonNull(filter, "filter == null");
+		
+		if(resolutionX < 1 || resolutionY < 1 || !Ints.canMultiplyExact(resolutionX, resolutionY)) {
+			return false;
+		}
+		
+		if(resolutionX == getResolutionX() && resolutionY == getResolutionY()) {
+			return false;
+		}
+		
+		final Data data = getDataFactory().create(resolutionX, resolutionY);
+		
+		Resampler.resample(this, data, filter);
+		
+		return setContent(data);
+	}
+	
+	/**
+	 * Scales this {@code Data} instance to {@code resolutionX} and {@code resolutionY} using the {@link Filter2F} instance {@code filter}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the resolution is changed as a result of this operation, {@code false} otherwise.
+	 * <p>
+	 * If {@code filter} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1} or {@code resolutionX * resolutionY} overflows, the resolution will not be changed.
+	 * <p>
+	 * If {@code resolutionX == data.getResolutionX()} and {@code resolutionY == data.getResolutionY()}, the resolution will not be changed.
+	 * <p>
+	 * The resampling is separable. The horizontal and vertical weights are computed once per resolution pair and filter, by evaluating {@code filter} along each axis, and are then applied to bands of rows. The bands are processed in parallel if the {@code Data} instances created by {@link #getDataFactory()} are of one of the built-in types. Otherwise they are processed on the calling thread, because the rows are written with {@link #setColor4D(Color4D, int, int)}. When downscaling, the filter is widened by the scale factor so that it acts as a low-pass filter.
+	 * 
+	 * @param resolutionX the new resolution along the X-axis
+	 * @param resolutionY the new resolution along the Y-axis
+	 * @param filter the {@code Filter2F} instance to resample with
+	 * @return {@code true} if, and only if, the resolution is changed as a result of this operation, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code filter} is {@code null}
+	 */
+	public final boolean scale(final int resolutionX, final int resolutionY, final Filter2F filter) {
+		Objects.requireNonNull(filter, "filter == null");
+		
+		if(resolutionX < 1 || resolutionY < 1 || !Ints.canMultiplyExact(resolutionX, resolutionY)) {
+			return false;
+		}
+		
+		if(resolutionX == getResolutionX() && resolutionY == getResolutionY()) {
+			return false;
+		}
+		
+		final Data data = getDataFactory().create(resolutionX, resolutionY);
+		
+		Resampler.resample(this, data, filter);
+		
+		return setContent(data);
+	}
+	
+	/**
+	 * Sets the {@link CancellationToken} instance associated with this {@code Data} instance to {@code cancellationToken}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the {@code CancellationToken} instance was changed, {@code false} otherwise.
+	 * <p>
+	 * If {@code cancellationToken} is {@code null}, no {@code CancellationToken} instance will be associated with this {@code Data} instance.
+	 * <p>
+	 * Long-running operations, such as {@code convolve(ConvolutionKernelND, int[])}, {@code rotate(double, boolean)} and {@code scale(int, int)}, check {@code cancellationToken} at row granularity. If it has been cancelled, they throw a {@code CancellationException} and leave this {@code Data} instance unchanged.
+	 * <p>
+	 * The {@code CancellationToken} instance is not copied by {@link #copy()}.
+	 * 
+	 * @param cancellationToken the {@code CancellationToken} instance to associate with this {@code Data} instance, or {@code null}
+	 * @return {@code true} if, and only if, the {@code CancellationToken} instance was changed, {@code false} otherwise
+	 */
+	public final boolean setCancellationToken(final CancellationToken cancellationToken) {
+		if(this.cancellationToken != cancellationToken) {
+			this.cancellationToken = cancellationToken;
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
 	/**
 	 * Sets the change history enabled state to {@code isChangeHistoryEnabled}.
 	 * <p>
@@ -1468,6 +2109,87 @@ public abstract class Data {
 	 */
 	public abstract boolean setContent(final Data data);
 	
+	/**
+	 * Sets whether this {@code Data} instance should store colors with premultiplied alpha or not.
+	 * <p>
+	 * Returns {@code true} if, and only if, the storage mode was changed, {@code false} otherwise.
+	 * <p>
+	 * If the storage mode is changed, all colors are converted. The conversion is recorded by the change history, if it is enabled. The built-in implementations convert the colors in parallel. The default implementation converts the colors returned by {@link #getColor4D(int, int)} and writes them with {@link #copyRegionFrom(double[], Rectangle2I)}.
+	 * <p>
+	 * While this {@code Data} instance stores colors with premultiplied alpha, the colors returned by its getters and accepted by its setters have premultiplied alpha as well. The {@code BufferedImage} instances returned by {@link #toBufferedImage(boolean)} use {@code BufferedImage.TYPE_INT_ARGB_PRE} and {@link #save(File, String)} converts the colors back to straight alpha.
+	 * <p>
+	 * Storing colors with premultiplied alpha allows {@link #composite(Data, CompositeOperator, Rectangle2I, Point2I)} to run without any conversions.
+	 * 
+	 * @param isPremultiplied {@code true} if, and only if, colors should be stored with premultiplied alpha, {@code false} otherwise
+	 * @return {@code true} if, and only if, the storage mode was changed, {@code false} otherwise
+	 */
+	public boolean setPremultiplied(final boolean isPremultiplied) {
+		if(isPremultiplied == isPremultiplied()) {
+			return false;
+		}
+		
+		final int resolutionX = getResolutionX();
+		final int resolutionY = getResolutionY();
+		
+		final double[] array = new double[resolutionX * resolutionY * 4];
+		
+		final ProgressMonitor progressMonitor = createProgressMonitor(resolutionY);
+		
+		for(int y = 0, offset = 0; y < resolutionY; y++) {
+			for(int x = 0; x < resolutionX; x++, offset += 4) {
+				final Color4D color = isPremultiplied ? Color4D.premultiply(getColor4D(x, y)) : Color4D.unpremultiply(getColor4D(x, y));
+				
+				array[offset + 0] = color.r;
+				array[offset + 1] = color.g;
+				array[offset + 2] = color.b;
+				array[offset + 3] = color.a;
+			}
+			
+			progressMonitor.advance();
+		}
+		
+		final boolean hasChangeBegun = hasChangeBegun();
+		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
+		
+		copyRegionFrom(array, new Rectangle2I(new Point2I(), new Point2I(resolutionX - 1, resolutionY - 1)));
+		
+		if(hasChangeBegun || hasChangeBegunNow) {
+			changeAdd(new PremultipliedChange(isPremultiplied));
+			
+			if(hasChangeBegunNow) {
+				changeEnd();
+			}
+		}
+		
+		updatePremultiplied(isPremultiplied);
+		
+		return true;
+	}
+	
+	/**
+	 * Sets the {@link ProgressListener} instance associated with this {@code Data} instance to {@code progressListener}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the {@code ProgressListener} instance was changed, {@code false} otherwise.
+	 * <p>
+	 * If {@code progressListener} is {@code null}, no {@code ProgressListener} instance will be associated with this {@code Data} instance.
+	 * <p>
+	 * Long-running operations notify {@code progressListener} about their progress. Each operation reports values from {@code 0.0} to {@code 1.0}, on any thread.
+	 * <p>
+	 * The {@code ProgressListener} instance is not copied by {@link #copy()}.
+	 * 
+	 * @param progressListener the {@code ProgressListener} instance to associate with this {@code Data} instance, or {@code null}
+	 * @return {@code true} if, and only if, the {@code ProgressListener} instance was changed, {@code false} otherwise
+	 */
+	public final boolean setProgressListener(final ProgressListener progressListener) {
+		if(this.progressListener != progressListener) {
+			this.progressListener = progressListener;
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
 	/**
 	 * Sets the resolution of this {@code Data} instance to {@code resolutionX} and {@code resolutionY}.
 	 * <p>
@@ -1695,11 +2417,184 @@ public abstract class Data {
 	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.changeHistory);
+		return Objects.hash(this.changeHistory, Boolean.valueOf(this.isPremultiplied));
+	}
+	
+	/**
+	 * Returns the modification count of this {@code Data} instance.
+	 * <p>
+	 * The modification count is incremented every time the pixels or the resolution of this {@code Data} instance are changed, including changes performed by {@link #redo()} and {@link #undo()}. It can be used to find out whether state derived from this {@code Data} instance is stale.
+	 * 
+	 * @return the modification count of this {@code Data} instance
+	 */
+	public final long getModificationCount() {
+		return this.modificationCount.get();
+	}
+	
+	/**
+	 * Returns the pixel modification count of this {@code Data} instance.
+	 * <p>
+	 * The pixel modification count is the total number of pixels that have been reported as changed by the {@code incrementModificationCount} methods. A pixel that is changed twice is counted twice. It can be used to find out how many pixels an operation touched, by comparing the value before and after the operation.
+	 * 
+	 * @return the pixel modification count of this {@code Data} instance
+	 */
+	public final long getPixelModificationCount() {
+		return this.pixelModificationCount.get();
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	/**
+	 * Increments the modification count of this {@code Data} instance and marks all pixels as dirty.
+	 * <p>
+	 * This method should be called by all subclasses whenever the resolution is changed or the pixels are changed in a way that is not covered by the other {@code incrementModificationCount} methods.
+	 */
+	protected final void incrementModificationCount() {
+		this.modificationCount.incrementAndGet();
+		this.dirtyRegionLog.addAll();
+		this.dirtyRegions.addAll();
+		this.pixelModificationCount.addAndGet(getResolution());
+	}
+	
+	/**
+	 * Increments the modification count of this {@code Data} instance and marks the pixel at {@code index} as dirty.
+	 * <p>
+	 * This method should be called by all subclasses whenever a single pixel is changed.
+	 * 
+	 * @param index the index of the pixel that was changed
+	 */
+	protected final void incrementModificationCount(final int index) {
+		final int resolutionX = getResolutionX();
+		
+		final int x = index % resolutionX;
+		final int y = index / resolutionX;
+		
+		incrementModificationCount(x, y, x, y);
+	}
+	
+	/**
+	 * Increments the modification count of this {@code Data} instance and marks the pixels at the indices in {@code indices} as dirty.
+	 * <p>
+	 * If {@code indices} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The bounding box of all valid indices in {@code indices} is marked as dirty. This method should be called by all subclasses whenever a set of pixels is changed.
+	 * 
+	 * @param indices the indices of the pixels that were changed
+	 * @throws NullPointerException thrown if, and only if, {@code indices} is {@code null}
+	 */
+	protected final void incrementModificationCount(final int[] indices) {
+		Objects.requireNonNull(indices, "indices == null");
+		
+		final int resolution = getResolution();
+		final int resolutionX = getResolutionX();
+		
+		int minimumX = Integer.MAX_VALUE;
+		int minimumY = Integer.MAX_VALUE;
+		int maximumX = Integer.MIN_VALUE;
+		int maximumY = Integer.MIN_VALUE;
+		int pixelCount = 0;
+		
+		for(final int index : indices) {
+			if(index >= 0 && index < resolution) {
+				pixelCount++;
+				
+				final int x = index % resolutionX;
+				final int y = index / resolutionX;
+				
+				minimumX = Math.min(minimumX, x);
+				minimumY = Math.min(minimumY, y);
+				maximumX = Math.max(maximumX, x);
+				maximumY = Math.max(maximumY, y);
+			}
+		}
+		
+		doIncrementModificationCount(minimumX, minimumY, maximumX, maximumY, pixelCount);
+	}
+	
+	/**
+	 * Increments the modification count of this {@code Data} instance and marks the pixels in the rectangle from {@code minimumX} and {@code minimumY} to {@code maximumX} and {@code maximumY}, inclusive, as dirty.
+	 * <p>
+	 * This method should be called by all subclasses whenever a rectangular region of pixels is changed.
+	 * 
+	 * @param minimumX the minimum X-coordinate of the pixels that were changed
+	 * @param minimumY the minimum Y-coordinate of the pixels that were changed
+	 * @param maximumX the maximum X-coordinate of the pixels that were changed
+	 * @param maximumY the maximum Y-coordinate of the pixels that were changed
+	 */
+	protected final void incrementModificationCount(final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+		final long pixelCount = minimumX <= maximumX && minimumY <= maximumY ? (long)(maximumX - minimumX + 1) * (maximumY - minimumY + 1) : 0L;
+		
+		doIncrementModificationCount(minimumX, minimumY, maximumX, maximumY, pixelCount);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	final boolean isInside(final Rectangle2I bounds) {
+		return bounds.min().x >= 0 && bounds.min().y >= 0 && bounds.max().x < getResolutionX() && bounds.max().y < getResolutionY();
+	}
+	
+	void updatePremultiplied(final boolean isPremultiplied) {
+		this.isPremultiplied = isPremultiplied;
+	}
+	
+	void updateRow(final double[] array, final int y) {
+		Objects.requireNonNull(array, "array == null");
+		
+		Ints.requireRange(array.length, getResolutionX() * 4, Integer.MAX_VALUE, "array.length");
+		Ints.requireRange(y, 0, getResolutionY() - 1, "y");
+		
+		for(int x = 0, offset = 0; x < getResolutionX(); x++, offset += 4) {
+			setColor4D(new Color4D(array[offset + 0], array[offset + 1], array[offset + 2], array[offset + 3]), x, y);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static Optional<Rectangle2I> clipSourceBounds(final Data source, final Data target, final Rectangle2I sourceBounds, final Point2I targetPosition) {
+		final Point2I sourceMinimum = sourceBounds.min();
+		final Point2I sourceMaximum = sourceBounds.max();
+		
+		final int offsetX = targetPosition.x - sourceMinimum.x;
+		final int offsetY = targetPosition.y - sourceMinimum.y;
+		
+		final int minimumX = Math.max(Math.max(sourceMinimum.x, 0), -offsetX);
+		final int minimumY = Math.max(Math.max(sourceMinimum.y, 0), -offsetY);
+		final int maximumX = Math.min(Math.min(sourceMaximum.x, source.getResolutionX() - 1), target.getResolutionX() - 1 - offsetX);
+		final int maximumY = Math.min(Math.min(sourceMaximum.y, source.getResolutionY() - 1), target.getResolutionY() - 1 - offsetY);
+		
+		if(minimumX > maximumX || minimumY > maximumY) {
+			return Optional.empty();
+		}
+		
+		return Optional.of(new Rectangle2I(new Point2I(minimumX, minimumY), new Point2I(maximumX, maximumY)));
+	}
+	
+	static int getRegionLength(final Rectangle2I bounds, final int componentCount) {
+		final long regionLength = (long)(bounds.max().x - bounds.min().x + 1) * (bounds.max().y - bounds.min().y + 1) * componentCount;
+		
+		return (int)(Math.min(regionLength, Integer.MAX_VALUE));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doIncrementModificationCount(final int minimumX, final int minimumY, final int maximumX, final int maximumY, final long pixelCount) {
+		this.dirtyRegionLog.add(this.modificationCount.incrementAndGet(), minimumX, minimumY, maximumX, maximumY);
+		this.dirtyRegions.add(minimumX, minimumY, maximumX, maximumY);
+		this.pixelModificationCount.addAndGet(pixelCount);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static List<Rectangle2I> doCreateDirtyRegions(final int[] bounds) {
+		final List<Rectangle2I> dirtyRegions = new ArrayList<>(bounds.length / 4);
+		
+		for(int i = 0; i < bounds.length; i += 4) {
+			dirtyRegions.add(new Rectangle2I(new Point2I(bounds[i + 0], bounds[i + 1]), new Point2I(bounds[i + 2], bounds[i + 3])));
+		}
+		
+		return dirtyRegions;
+	}
+	
 	private static boolean doIsJPEG(final String formatName) {
 		return formatName.matches("^\\.?[Jj][Pp][Ee]?[Gg]$");
 	}
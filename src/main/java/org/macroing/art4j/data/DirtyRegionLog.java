@@ -0,0 +1,144 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+final class DirtyRegionLog {
+	private static final int MAXIMUM_COUNT = 64;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final int[] bounds;
+	private final long[] modificationCounts;
+	private int count;
+	private int offset;
+	private long modificationCountAll;
+	private long modificationCountDropped;
+	private volatile boolean isAll;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public DirtyRegionLog() {
+		this.bounds = new int[MAXIMUM_COUNT * 4];
+		this.modificationCounts = new long[MAXIMUM_COUNT];
+		this.count = 0;
+		this.offset = 0;
+		this.modificationCountAll = 0L;
+		this.modificationCountDropped = 0L;
+		this.isAll = true;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public synchronized DirtyRegions get(final long modificationCount, final AtomicLong currentModificationCount) {
+		final DirtyRegions dirtyRegions = new DirtyRegions();
+		
+		if(this.isAll) {
+			this.isAll = false;
+			this.modificationCountAll = currentModificationCount.get();
+		}
+		
+		if(this.modificationCountAll > modificationCount || this.modificationCountDropped > modificationCount) {
+			return dirtyRegions;
+		}
+		
+		dirtyRegions.clear();
+		
+		for(int i = 0; i < this.count; i++) {
+			final int index = (this.offset + i) % MAXIMUM_COUNT;
+			
+			if(this.modificationCounts[index] > modificationCount) {
+				dirtyRegions.add(this.bounds[index * 4 + 0], this.bounds[index * 4 + 1], this.bounds[index * 4 + 2], this.bounds[index * 4 + 3]);
+			}
+		}
+		
+		return dirtyRegions;
+	}
+	
+	public void add(final long modificationCount, final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+		if(this.isAll || minimumX > maximumX || minimumY > maximumY) {
+			return;
+		}
+		
+		synchronized(this) {
+			if(!this.isAll) {
+				doAdd(modificationCount, minimumX, minimumY, maximumX, maximumY);
+			}
+		}
+	}
+	
+	public synchronized void addAll() {
+		this.count = 0;
+		this.offset = 0;
+		this.isAll = true;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doAdd(final long modificationCount, final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+		if(this.count > 0) {
+			final int index = (this.offset + this.count - 1) % MAXIMUM_COUNT;
+			
+			final int currentMinimumX = this.bounds[index * 4 + 0];
+			final int currentMinimumY = this.bounds[index * 4 + 1];
+			final int currentMaximumX = this.bounds[index * 4 + 2];
+			final int currentMaximumY = this.bounds[index * 4 + 3];
+			
+			final int unionMinimumX = Math.min(minimumX, currentMinimumX);
+			final int unionMinimumY = Math.min(minimumY, currentMinimumY);
+			final int unionMaximumX = Math.max(maximumX, currentMaximumX);
+			final int unionMaximumY = Math.max(maximumY, currentMaximumY);
+			
+			if(doArea(unionMinimumX, unionMinimumY, unionMaximumX, unionMaximumY) <= 2L * (doArea(minimumX, minimumY, maximumX, maximumY) + doArea(currentMinimumX, currentMinimumY, currentMaximumX, currentMaximumY))) {
+				this.bounds[index * 4 + 0] = unionMinimumX;
+				this.bounds[index * 4 + 1] = unionMinimumY;
+				this.bounds[index * 4 + 2] = unionMaximumX;
+				this.bounds[index * 4 + 3] = unionMaximumY;
+				
+				this.modificationCounts[index] = Math.max(this.modificationCounts[index], modificationCount);
+				
+				return;
+			}
+		}
+		
+		if(this.count == MAXIMUM_COUNT) {
+			this.modificationCountDropped = Math.max(this.modificationCountDropped, this.modificationCounts[this.offset]);
+			this.offset = (this.offset + 1) % MAXIMUM_COUNT;
+			this.count--;
+		}
+		
+		final int index = (this.offset + this.count) % MAXIMUM_COUNT;
+		
+		this.bounds[index * 4 + 0] = minimumX;
+		this.bounds[index * 4 + 1] = minimumY;
+		this.bounds[index * 4 + 2] = maximumX;
+		this.bounds[index * 4 + 3] = maximumY;
+		
+		this.modificationCounts[index] = modificationCount;
+		
+		this.count++;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static long doArea(final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+		return ((long)(maximumX) - minimumX + 1L) * ((long)(maximumY) - minimumY + 1L);
+	}
+}
\ No newline at end of file
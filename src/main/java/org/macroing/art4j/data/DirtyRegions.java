@@ -0,0 +1,213 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+import java.util.Arrays;
+
+final class DirtyRegions {
+	private static final int MAXIMUM_COUNT = 16;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final int[] bounds;
+	private int count;
+	private volatile boolean isAll;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public DirtyRegions() {
+		this.bounds = new int[MAXIMUM_COUNT * 4];
+		this.count = 0;
+		this.isAll = true;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public synchronized boolean clear() {
+		final boolean isEmpty = !this.isAll && this.count == 0;
+		
+		this.count = 0;
+		this.isAll = false;
+		
+		return !isEmpty;
+	}
+	
+	public boolean isEmpty() {
+		if(this.isAll) {
+			return false;
+		}
+		
+		synchronized(this) {
+			return !this.isAll && this.count == 0;
+		}
+	}
+	
+	public synchronized int[] get(final int resolutionX, final int resolutionY) {
+		return doGet(resolutionX, resolutionY);
+	}
+	
+	public synchronized int[] remove(final int resolutionX, final int resolutionY) {
+		final int[] bounds = doGet(resolutionX, resolutionY);
+		
+		this.count = 0;
+		this.isAll = false;
+		
+		return bounds;
+	}
+	
+	public void add(final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+		if(this.isAll || minimumX > maximumX || minimumY > maximumY) {
+			return;
+		}
+		
+		synchronized(this) {
+			if(!this.isAll) {
+				doAdd(minimumX, minimumY, maximumX, maximumY);
+			}
+		}
+	}
+	
+	public synchronized void addAll() {
+		this.count = 0;
+		this.isAll = true;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private int[] doGet(final int resolutionX, final int resolutionY) {
+		if(this.isAll) {
+			return new int[] {0, 0, resolutionX - 1, resolutionY - 1};
+		}
+		
+		final int[] bounds = new int[this.count * 4];
+		
+		int length = 0;
+		
+		for(int i = 0; i < this.count; i++) {
+			final int minimumX = Math.max(this.bounds[i * 4 + 0], 0);
+			final int minimumY = Math.max(this.bounds[i * 4 + 1], 0);
+			final int maximumX = Math.min(this.bounds[i * 4 + 2], resolutionX - 1);
+			final int maximumY = Math.min(this.bounds[i * 4 + 3], resolutionY - 1);
+			
+			if(minimumX <= maximumX && minimumY <= maximumY) {
+				bounds[length++] = minimumX;
+				bounds[length++] = minimumY;
+				bounds[length++] = maximumX;
+				bounds[length++] = maximumY;
+			}
+		}
+		
+		return length == bounds.length ? bounds : Arrays.copyOf(bounds, length);
+	}
+	
+	private void doAdd(final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+		final long area = doArea(minimumX, minimumY, maximumX, maximumY);
+		
+		for(int i = 0; i < this.count; i++) {
+			final int offset = i * 4;
+			
+			final int currentMinimumX = this.bounds[offset + 0];
+			final int currentMinimumY = this.bounds[offset + 1];
+			final int currentMaximumX = this.bounds[offset + 2];
+			final int currentMaximumY = this.bounds[offset + 3];
+			
+			if(minimumX >= currentMinimumX && minimumY >= currentMinimumY && maximumX <= currentMaximumX && maximumY <= currentMaximumY) {
+				return;
+			}
+			
+			final int unionMinimumX = Math.min(minimumX, currentMinimumX);
+			final int unionMinimumY = Math.min(minimumY, currentMinimumY);
+			final int unionMaximumX = Math.max(maximumX, currentMaximumX);
+			final int unionMaximumY = Math.max(maximumY, currentMaximumY);
+			
+			if(doArea(unionMinimumX, unionMinimumY, unionMaximumX, unionMaximumY) <= 2L * (area + doArea(currentMinimumX, currentMinimumY, currentMaximumX, currentMaximumY))) {
+				this.bounds[offset + 0] = unionMinimumX;
+				this.bounds[offset + 1] = unionMinimumY;
+				this.bounds[offset + 2] = unionMaximumX;
+				this.bounds[offset + 3] = unionMaximumY;
+				
+				return;
+			}
+		}
+		
+		if(this.count == MAXIMUM_COUNT) {
+			doMergeCheapestPair();
+		}
+		
+		final int offset = this.count * 4;
+		
+		this.bounds[offset + 0] = minimumX;
+		this.bounds[offset + 1] = minimumY;
+		this.bounds[offset + 2] = maximumX;
+		this.bounds[offset + 3] = maximumY;
+		
+		this.count++;
+	}
+	
+	private void doMergeCheapestPair() {
+		int cheapestI = 0;
+		int cheapestJ = 1;
+		
+		long cheapestCost = Long.MAX_VALUE;
+		
+		for(int i = 0; i < this.count; i++) {
+			for(int j = i + 1; j < this.count; j++) {
+				final long cost = doUnionArea(i, j) - doArea(i) - doArea(j);
+				
+				if(cost < cheapestCost) {
+					cheapestCost = cost;
+					cheapestI = i;
+					cheapestJ = j;
+				}
+			}
+		}
+		
+		final int offsetI = cheapestI * 4;
+		final int offsetJ = cheapestJ * 4;
+		final int offsetL = (this.count - 1) * 4;
+		
+		this.bounds[offsetI + 0] = Math.min(this.bounds[offsetI + 0], this.bounds[offsetJ + 0]);
+		this.bounds[offsetI + 1] = Math.min(this.bounds[offsetI + 1], this.bounds[offsetJ + 1]);
+		this.bounds[offsetI + 2] = Math.max(this.bounds[offsetI + 2], this.bounds[offsetJ + 2]);
+		this.bounds[offsetI + 3] = Math.max(this.bounds[offsetI + 3], this.bounds[offsetJ + 3]);
+		
+		System.arraycopy(this.bounds, offsetL, this.bounds, offsetJ, 4);
+		
+		this.count--;
+	}
+	
+	private long doArea(final int i) {
+		return doArea(this.bounds[i * 4 + 0], this.bounds[i * 4 + 1], this.bounds[i * 4 + 2], this.bounds[i * 4 + 3]);
+	}
+	
+	private long doUnionArea(final int i, final int j) {
+		final int minimumX = Math.min(this.bounds[i * 4 + 0], this.bounds[j * 4 + 0]);
+		final int minimumY = Math.min(this.bounds[i * 4 + 1], this.bounds[j * 4 + 1]);
+		final int maximumX = Math.max(this.bounds[i * 4 + 2], this.bounds[j * 4 + 2]);
+		final int maximumY = Math.max(this.bounds[i * 4 + 3], this.bounds[j * 4 + 3]);
+		
+		return doArea(minimumX, minimumY, maximumX, maximumY);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static long doArea(final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+		return ((long)(maximumX) - minimumX + 1L) * ((long)(maximumY) - minimumY + 1L);
+	}
+}
\ No newline at end of file
@@ -19,12 +19,20 @@
 package org.macroing.art4j.data;
 
 import java.awt.Graphics2D;
+import java.awt.color.ColorSpace;
 import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBuffer;
 import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import org.macroing.art4j.color.Color3D;
 import org.macroing.art4j.color.Color3F;
@@ -34,6 +42,7 @@ import org.macroing.art4j.color.Color4F;
 import org.macroing.art4j.color.Color4I;
 import org.macroing.art4j.kernel.ConvolutionKernelND;
 import org.macroing.art4j.kernel.ConvolutionKernelNF;
+import org.macroing.art4j.pixel.CompositeOperator;
 import org.macroing.geo4j.common.Point2I;
 import org.macroing.geo4j.shape.Shape2I;
 import org.macroing.geo4j.shape.rectangle.Rectangle2I;
@@ -43,6 +52,7 @@ import org.macroing.java.lang.Floats;
 import org.macroing.java.lang.Ints;
 
 final class PackedIntARGBData extends Data {
+	private BufferedImage bufferedImageView;
 	private int resolutionX;
 	private int resolutionY;
 	private int[] colors;
@@ -54,9 +64,13 @@ final class PackedIntARGBData extends Data {
 	}
 	
 	public PackedIntARGBData(final BufferedImage bufferedImage) {
+		final BufferedImage compatibleBufferedImage = BufferedImages.getCompatibleBufferedImage(bufferedImage);
+		
+		final int[] colors = DataBufferInt.class.cast(compatibleBufferedImage.getRaster().getDataBuffer()).getData();
+		
 		this.resolutionX = bufferedImage.getWidth();
 		this.resolutionY = bufferedImage.getHeight();
-		this.colors = DataBufferInt.class.cast(BufferedImages.getCompatibleBufferedImage(bufferedImage).getRaster().getDataBuffer()).getData().clone();
+		this.colors = compatibleBufferedImage == bufferedImage ? colors.clone() : colors;
 	}
 	
 	public PackedIntARGBData(final PackedIntARGBData colorARGBData) {
@@ -99,13 +113,19 @@ final class PackedIntARGBData extends Data {
 	
 	@Override
 	public BufferedImage toBufferedImage(final boolean isRGB) {
-		final BufferedImage bufferedImage = new BufferedImage(this.resolutionX, this.resolutionY, isRGB ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+		final boolean isPremultiplied = isPremultiplied();
+		
+		final BufferedImage bufferedImage = new BufferedImage(this.resolutionX, this.resolutionY, isRGB ? BufferedImage.TYPE_INT_RGB : isPremultiplied ? BufferedImage.TYPE_INT_ARGB_PRE : BufferedImage.TYPE_INT_ARGB);
 		
 		final int[] dataSource = this.colors;
 		final int[] dataTarget = DataBufferInt.class.cast(bufferedImage.getRaster().getDataBuffer()).getData();
 		
 		System.arraycopy(dataSource, 0, dataTarget, 0, dataSource.length);
 		
+		if(isRGB && isPremultiplied) {
+			PackedIntARGBKernels.unpremultiply(dataTarget, 0, dataTarget.length);
+		}
+		
 		return bufferedImage;
 	}
 	
@@ -197,6 +217,16 @@ final class PackedIntARGBData extends Data {
 	public Data draw(final Consumer<Graphics2D> graphics2DConsumer) {
 		Objects.requireNonNull(graphics2DConsumer, "graphics2DConsumer == null");
 		
+		if(!isChangeHistoryEnabled()) {
+			final Graphics2D graphics2D = doGetBufferedImageView().createGraphics();
+			
+			graphics2DConsumer.accept(graphics2D);
+			
+			incrementModificationCount();
+			
+			return this;
+		}
+		
 		final BufferedImage bufferedImage = toBufferedImage(false);
 		
 		final Graphics2D graphics2D = bufferedImage.createGraphics();
@@ -218,6 +248,8 @@ final class PackedIntARGBData extends Data {
 		
 		this.colors = colors;
 		
+		incrementModificationCount();
+		
 		return this;
 	}
 	
@@ -226,6 +258,71 @@ final class PackedIntARGBData extends Data {
 		return new PackedIntARGBDataFactory();
 	}
 	
+	@Override
+	public Optional<BufferedImage> getBufferedImageView() {
+		return Optional.of(doGetBufferedImageView());
+	}
+	
+	@Override
+	public boolean composite(final Data source, final CompositeOperator compositeOperator, final Rectangle2I sourceBounds, final Point2I targetPosition) {
+		Objects.requireNonNull(source, "source == null");
+		Objects.requireNonNull(compositeOperator, "compositeOperator == null");
+		Objects.requireNonNull(sourceBounds, "sourceBounds == null");
+		Objects.requireNonNull(targetPosition, "targetPosition == null");
+		
+		final Optional<Rectangle2I> optionalBounds = clipSourceBounds(source, this, sourceBounds, targetPosition);
+		
+		if(!optionalBounds.isPresent()) {
+			return false;
+		}
+		
+		final Rectangle2I bounds = optionalBounds.get();
+		
+		final int minimumX = bounds.min().x;
+		final int minimumY = bounds.min().y;
+		final int maximumX = bounds.max().x;
+		final int maximumY = bounds.max().y;
+		
+		final int offsetX = targetPosition.x - sourceBounds.min().x;
+		final int offsetY = targetPosition.y - sourceBounds.min().y;
+		
+		final int resolutionX = this.resolutionX;
+		
+		final int sourceResolutionX = source.getResolutionX();
+		
+		final boolean isPremultipliedSource = source.isPremultiplied();
+		final boolean isPremultipliedTarget = isPremultiplied();
+		
+		final int regionResolutionX = maximumX - minimumX + 1;
+		
+		final int[] oldColors = this.colors;
+		final int[] newColors = new int[regionResolutionX * (maximumY - minimumY + 1)];
+		
+		final int[] sourceColors = source == this ? oldColors : source instanceof PackedIntARGBData ? PackedIntARGBData.class.cast(source).colors : null;
+		
+		final ProgressMonitor progressMonitor = createProgressMonitor(maximumY - minimumY + 1);
+		
+		IntStream.rangeClosed(minimumY, maximumY).parallel().forEach(sourceY -> {
+			for(int sourceX = minimumX, targetIndex = (sourceY + offsetY) * resolutionX + minimumX + offsetX, regionIndex = (sourceY - minimumY) * regionResolutionX; sourceX <= maximumX; sourceX++, targetIndex++, regionIndex++) {
+				final int colorSourceStored = sourceColors != null ? sourceColors[sourceY * sourceResolutionX + sourceX] : source.getColorARGB(sourceX, sourceY);
+				final int colorTargetStored = oldColors[targetIndex];
+				
+				final int colorSource = isPremultipliedSource ? colorSourceStored : PackedIntARGBKernels.premultiply(colorSourceStored);
+				final int colorTarget = isPremultipliedTarget ? colorTargetStored : PackedIntARGBKernels.premultiply(colorTargetStored);
+				
+				final int color = compositeOperator.applyARGB(colorSource, colorTarget);
+				
+				newColors[regionIndex] = isPremultipliedTarget ? color : PackedIntARGBKernels.unpremultiply(color);
+			}
+			
+			progressMonitor.advance();
+		});
+		
+		doCopyRegionFrom(newColors, minimumX + offsetX, minimumY + offsetY, maximumX + offsetX, maximumY + offsetY);
+		
+		return true;
+	}
+	
 	@Override
 	public boolean convolve(final ConvolutionKernelND convolutionKernel, final int[] indices) {
 		Objects.requireNonNull(convolutionKernel, "convolutionKernel == null");
@@ -248,54 +345,72 @@ final class PackedIntARGBData extends Data {
 		final int resolutionY = getResolutionY();
 		
 		final int[] oldColors = this.colors;
-		final int[] newColors = this.colors.clone();
+		final int[] newColors = BufferPool.INT.acquireCopyOf(this.colors);
+		
+		final int[] weights = PackedIntARGBKernels.isFixedPoint(elements, factor, bias) ? PackedIntARGBKernels.toWeights(elements, factor) : null;
+		
+		final int weightBias = PackedIntARGBKernels.toBias(bias);
 		
-		final double[] colors = doUnpackColorsAsDoubleArrayRGB();
+		final double[] colors = weights == null ? doUnpackColorsAsDoubleArrayRGB() : null;
 		
 		int count = 0;
 		
-		for(final int index : indices) {
-			if(index >= 0 && index < resolution) {
-				final int x = index % resolutionX;
-				final int y = index / resolutionX;
-				
-				final int xOffset = x - kernelOffset;
-				final int yOffset = y - kernelOffset;
-				
-				double colorR = 0.0D;
-				double colorG = 0.0D;
-				double colorB = 0.0D;
-				double colorA = Color4D.fromIntARGBToDoubleA(oldColors[index]);
+		final ProgressMonitor progressMonitor = createProgressMonitor((indices.length + resolutionX - 1) / resolutionX);
+		
+		for(int fromIndex = 0; fromIndex < indices.length; fromIndex += resolutionX) {
+			final int toIndex = Math.min(fromIndex + resolutionX, indices.length);
+			
+			for(int i = fromIndex; i < toIndex; i++) {
+				final int index = indices[i];
 				
-				for(int kernelY = 0; kernelY < kernelResolution; kernelY++) {
-					final int imageY = yOffset + kernelY;
-					final int imageRow = imageY * resolutionX;
+				if(index >= 0 && index < resolution && weights != null) {
+					newColors[index] = PackedIntARGBKernels.convolve(oldColors, resolutionX, resolutionY, weights, kernelResolution, weightBias, index);
+					
+					count++;
+				} else if(index >= 0 && index < resolution) {
+					final int x = index % resolutionX;
+					final int y = index / resolutionX;
+					
+					final int xOffset = x - kernelOffset;
+					final int yOffset = y - kernelOffset;
 					
-					final int kernelRow = kernelY * kernelResolution;
+					double colorR = 0.0D;
+					double colorG = 0.0D;
+					double colorB = 0.0D;
+					double colorA = Color4D.fromIntARGBToDoubleA(oldColors[index]);
 					
-					for(int kernelX = 0; kernelX < kernelResolution; kernelX++) {
-						final int imageX = xOffset + kernelX;
+					for(int kernelY = 0; kernelY < kernelResolution; kernelY++) {
+						final int imageY = yOffset + kernelY;
+						final int imageRow = imageY * resolutionX;
 						
-						if(imageX >= 0 && imageX < resolutionX && imageY >= 0 && imageY < resolutionY) {
-							final int imageIndex = (imageRow + imageX) * 3;
-							
-							final double element = elements[kernelRow + kernelX];
+						final int kernelRow = kernelY * kernelResolution;
+						
+						for(int kernelX = 0; kernelX < kernelResolution; kernelX++) {
+							final int imageX = xOffset + kernelX;
 							
-							colorR += colors[imageIndex + 0] * element;
-							colorG += colors[imageIndex + 1] * element;
-							colorB += colors[imageIndex + 2] * element;
+							if(imageX >= 0 && imageX < resolutionX && imageY >= 0 && imageY < resolutionY) {
+								final int imageIndex = (imageRow + imageX) * 3;
+								
+								final double element = elements[kernelRow + kernelX];
+								
+								colorR += colors[imageIndex + 0] * element;
+								colorG += colors[imageIndex + 1] * element;
+								colorB += colors[imageIndex + 2] * element;
+							}
 						}
 					}
+					
+					colorR = colorR * factor + bias;
+					colorG = colorG * factor + bias;
+					colorB = colorB * factor + bias;
+					
+					newColors[index] = Color4D.toIntARGB(colorR, colorG, colorB, colorA);
+					
+					count++;
 				}
-				
-				colorR = colorR * factor + bias;
-				colorG = colorG * factor + bias;
-				colorB = colorB * factor + bias;
-				
-				newColors[index] = Color4D.toIntARGB(colorR, colorG, colorB, colorA);
-				
-				count++;
 			}
+			
+			progressMonitor.advance();
 		}
 		
 		final boolean hasChangeBegun = hasChangeBegun();
@@ -313,6 +428,12 @@ final class PackedIntARGBData extends Data {
 		
 		if(count > 0) {
 			this.colors = newColors;
+			
+			doRecycle(oldColors);
+			
+			incrementModificationCount(indices);
+		} else {
+			BufferPool.INT.release(newColors);
 		}
 		
 		return count > 0;
@@ -340,54 +461,72 @@ final class PackedIntARGBData extends Data {
 		final int resolutionY = getResolutionY();
 		
 		final int[] oldColors = this.colors;
-		final int[] newColors = this.colors.clone();
+		final int[] newColors = BufferPool.INT.acquireCopyOf(this.colors);
+		
+		final int[] weights = PackedIntARGBKernels.isFixedPoint(elements, factor, bias) ? PackedIntARGBKernels.toWeights(elements, factor) : null;
 		
-		final float[] colors = doUnpackColorsAsFloatArrayRGB();
+		final int weightBias = PackedIntARGBKernels.toBias(bias);
+		
+		final float[] colors = weights == null ? doUnpackColorsAsFloatArrayRGB() : null;
 		
 		int count = 0;
 		
-		for(final int index : indices) {
-			if(index >= 0 && index < resolution) {
-				final int x = index % resolutionX;
-				final int y = index / resolutionX;
-				
-				final int xOffset = x - kernelOffset;
-				final int yOffset = y - kernelOffset;
-				
-				float colorR = 0.0F;
-				float colorG = 0.0F;
-				float colorB = 0.0F;
-				float colorA = Color4F.fromIntARGBToFloatA(oldColors[index]);
+		final ProgressMonitor progressMonitor = createProgressMonitor((indices.length + resolutionX - 1) / resolutionX);
+		
+		for(int fromIndex = 0; fromIndex < indices.length; fromIndex += resolutionX) {
+			final int toIndex = Math.min(fromIndex + resolutionX, indices.length);
+			
+			for(int i = fromIndex; i < toIndex; i++) {
+				final int index = indices[i];
 				
-				for(int kernelY = 0; kernelY < kernelResolution; kernelY++) {
-					final int imageY = yOffset + kernelY;
-					final int imageRow = imageY * resolutionX;
+				if(index >= 0 && index < resolution && weights != null) {
+					newColors[index] = PackedIntARGBKernels.convolve(oldColors, resolutionX, resolutionY, weights, kernelResolution, weightBias, index);
 					
-					final int kernelRow = kernelY * kernelResolution;
+					count++;
+				} else if(index >= 0 && index < resolution) {
+					final int x = index % resolutionX;
+					final int y = index / resolutionX;
 					
-					for(int kernelX = 0; kernelX < kernelResolution; kernelX++) {
-						final int imageX = xOffset + kernelX;
+					final int xOffset = x - kernelOffset;
+					final int yOffset = y - kernelOffset;
+					
+					float colorR = 0.0F;
+					float colorG = 0.0F;
+					float colorB = 0.0F;
+					float colorA = Color4F.fromIntARGBToFloatA(oldColors[index]);
+					
+					for(int kernelY = 0; kernelY < kernelResolution; kernelY++) {
+						final int imageY = yOffset + kernelY;
+						final int imageRow = imageY * resolutionX;
 						
-						if(imageX >= 0 && imageX < resolutionX && imageY >= 0 && imageY < resolutionY) {
-							final int imageIndex = (imageRow + imageX) * 3;
-							
-							final float element = elements[kernelRow + kernelX];
+						final int kernelRow = kernelY * kernelResolution;
+						
+						for(int kernelX = 0; kernelX < kernelResolution; kernelX++) {
+							final int imageX = xOffset + kernelX;
 							
-							colorR += colors[imageIndex + 0] * element;
-							colorG += colors[imageIndex + 1] * element;
-							colorB += colors[imageIndex + 2] * element;
+							if(imageX >= 0 && imageX < resolutionX && imageY >= 0 && imageY < resolutionY) {
+								final int imageIndex = (imageRow + imageX) * 3;
+								
+								final float element = elements[kernelRow + kernelX];
+								
+								colorR += colors[imageIndex + 0] * element;
+								colorG += colors[imageIndex + 1] * element;
+								colorB += colors[imageIndex + 2] * element;
+							}
 						}
 					}
+					
+					colorR = colorR * factor + bias;
+					colorG = colorG * factor + bias;
+					colorB = colorB * factor + bias;
+					
+					newColors[index] = Color4F.toIntARGB(colorR, colorG, colorB, colorA);
+					
+					count++;
 				}
-				
-				colorR = colorR * factor + bias;
-				colorG = colorG * factor + bias;
-				colorB = colorB * factor + bias;
-				
-				newColors[index] = Color4F.toIntARGB(colorR, colorG, colorB, colorA);
-				
-				count++;
 			}
+			
+			progressMonitor.advance();
 		}
 		
 		final boolean hasChangeBegun = hasChangeBegun();
@@ -405,11 +544,80 @@ final class PackedIntARGBData extends Data {
 		
 		if(count > 0) {
 			this.colors = newColors;
+			
+			doRecycle(oldColors);
+			
+			incrementModificationCount(indices);
+		} else {
+			BufferPool.INT.release(newColors);
 		}
 		
 		return count > 0;
 	}
 	
+	@Override
+	public boolean copyRegionFrom(final double[] array, final Rectangle2I bounds) {
+		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(bounds, "bounds == null");
+		
+		Ints.requireRange(array.length, getRegionLength(bounds, 4), Integer.MAX_VALUE, "array.length");
+		
+		if(!isInside(bounds)) {
+			return false;
+		}
+		
+		final int[] colors = new int[getRegionLength(bounds, 1)];
+		
+		for(int index = 0, offset = 0; index < colors.length; index++, offset += 4) {
+			colors[index] = Color4D.toIntARGB(array[offset + 0], array[offset + 1], array[offset + 2], array[offset + 3]);
+		}
+		
+		doCopyRegionFrom(colors, bounds.min().x, bounds.min().y, bounds.max().x, bounds.max().y);
+		
+		return true;
+	}
+	
+	@Override
+	public boolean copyRegionFrom(final int[] array, final Rectangle2I bounds) {
+		Objects.requireNonNull(array, "array == null");
+		Objects.requireNonNull(bounds, "bounds == null");
+		
+		Ints.requireRange(array.length, getRegionLength(bounds, 1), Integer.MAX_VALUE, "array.length");
+		
+		if(!isInside(bounds)) {
+			return false;
+		}
+		
+		doCopyRegionFrom(array, bounds.min().x, bounds.min().y, bounds.max().x, bounds.max().y);
+		
+		return true;
+	}
+	
+	@Override
+	public boolean copyRowTo(final double[] array, final int y) {
+		Objects.requireNonNull(array, "array == null");
+		
+		final int resolutionX = this.resolutionX;
+		final int resolutionY = this.resolutionY;
+		
+		Ints.requireRange(array.length, resolutionX * 4, Integer.MAX_VALUE, "array.length");
+		
+		if(y < 0 || y >= resolutionY) {
+			return false;
+		}
+		
+		for(int x = 0, index = y * resolutionX, offset = 0; x < resolutionX; x++, index++, offset += 4) {
+			final int colorARGB = this.colors[index];
+			
+			array[offset + 0] = Color4D.fromIntARGBToDoubleR(colorARGB);
+			array[offset + 1] = Color4D.fromIntARGBToDoubleG(colorARGB);
+			array[offset + 2] = Color4D.fromIntARGBToDoubleB(colorARGB);
+			array[offset + 3] = Color4D.fromIntARGBToDoubleA(colorARGB);
+		}
+		
+		return true;
+	}
+	
 	@Override
 	public boolean equals(final Object object) {
 		if(!super.equals(object)) {
@@ -463,17 +671,43 @@ final class PackedIntARGBData extends Data {
 		final int newResolutionX = rotationBoundsTranslatedMax.x + 1;
 		final int newResolutionY = rotationBoundsTranslatedMax.y + 1;
 		
-		final int[] newColors = new int[newResolutionX * newResolutionY];
+		final int[] newColors = BufferPool.INT.acquire(newResolutionX * newResolutionY);
 		final int[] oldColors = this.colors;
 		
-		for(int y = 0; y < newResolutionY; y++) {
-			for(int x = 0; x < newResolutionX; x++) {
-				final Point2I pointTranslated = new Point2I(x + rotationBoundsRotatedMin.x, y + rotationBoundsRotatedMin.y);
-				final Point2I pointRotated = Point2I.rotate(pointTranslated, angleCos, -angleSin, rotationBoundsRotatedMid);
+		final int rotationBoundsRotatedMinX = rotationBoundsRotatedMin.x;
+		final int rotationBoundsRotatedMinY = rotationBoundsRotatedMin.y;
+		final int rotationBoundsRotatedMidX = rotationBoundsRotatedMid.x;
+		final int rotationBoundsRotatedMidY = rotationBoundsRotatedMid.y;
+		
+		final double angleSinNegated = -angleSin;
+		
+		final double[] deltaXCos = new double[newResolutionX];
+		final double[] deltaXSin = new double[newResolutionX];
+		
+		for(int x = 0; x < newResolutionX; x++) {
+			final int deltaX = x + rotationBoundsRotatedMinX - rotationBoundsRotatedMidX;
+			
+			deltaXCos[x] = deltaX * angleCos;
+			deltaXSin[x] = deltaX * angleSinNegated;
+		}
+		
+		final ProgressMonitor progressMonitor = createProgressMonitor(newResolutionY);
+		
+		IntStream.range(0, newResolutionY).parallel().forEach(y -> {
+			final int deltaY = y + rotationBoundsRotatedMinY - rotationBoundsRotatedMidY;
+			
+			final double deltaYCos = deltaY * angleCos;
+			final double deltaYSin = deltaY * angleSinNegated;
+			
+			for(int x = 0, index = y * newResolutionX; x < newResolutionX; x++, index++) {
+				final int rotatedX = (int)(Doubles.rint(deltaXCos[x] - deltaYSin + rotationBoundsRotatedMidX));
+				final int rotatedY = (int)(Doubles.rint(deltaXSin[x] + deltaYCos + rotationBoundsRotatedMidY));
 				
-				newColors[y * newResolutionX + x] = getColorARGB(pointRotated.x, pointRotated.y);
+				newColors[index] = rotatedX >= 0 && rotatedX < oldResolutionX && rotatedY >= 0 && rotatedY < oldResolutionY ? oldColors[rotatedY * oldResolutionX + rotatedX] : Color4I.TRANSPARENT_A_R_G_B;
 			}
-		}
+			
+			progressMonitor.advance();
+		});
 		
 		final boolean hasChangeBegun = hasChangeBegun();
 		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
@@ -490,6 +724,10 @@ final class PackedIntARGBData extends Data {
 		this.resolutionX = newResolutionX;
 		this.resolutionY = newResolutionY;
 		
+		doRecycle(oldColors);
+		
+		incrementModificationCount();
+		
 		return true;
 	}
 	
@@ -529,17 +767,43 @@ final class PackedIntARGBData extends Data {
 		final int newResolutionX = rotationBoundsTranslatedMax.x + 1;
 		final int newResolutionY = rotationBoundsTranslatedMax.y + 1;
 		
-		final int[] newColors = new int[newResolutionX * newResolutionY];
+		final int[] newColors = BufferPool.INT.acquire(newResolutionX * newResolutionY);
 		final int[] oldColors = this.colors;
 		
-		for(int y = 0; y < newResolutionY; y++) {
-			for(int x = 0; x < newResolutionX; x++) {
-				final Point2I pointTranslated = new Point2I(x + rotationBoundsRotatedMin.x, y + rotationBoundsRotatedMin.y);
-				final Point2I pointRotated = Point2I.rotate(pointTranslated, angleCos, -angleSin, rotationBoundsRotatedMid);
+		final int rotationBoundsRotatedMinX = rotationBoundsRotatedMin.x;
+		final int rotationBoundsRotatedMinY = rotationBoundsRotatedMin.y;
+		final int rotationBoundsRotatedMidX = rotationBoundsRotatedMid.x;
+		final int rotationBoundsRotatedMidY = rotationBoundsRotatedMid.y;
+		
+		final float angleSinNegated = -angleSin;
+		
+		final float[] deltaXCos = new float[newResolutionX];
+		final float[] deltaXSin = new float[newResolutionX];
+		
+		for(int x = 0; x < newResolutionX; x++) {
+			final int deltaX = x + rotationBoundsRotatedMinX - rotationBoundsRotatedMidX;
+			
+			deltaXCos[x] = deltaX * angleCos;
+			deltaXSin[x] = deltaX * angleSinNegated;
+		}
+		
+		final ProgressMonitor progressMonitor = createProgressMonitor(newResolutionY);
+		
+		IntStream.range(0, newResolutionY).parallel().forEach(y -> {
+			final int deltaY = y + rotationBoundsRotatedMinY - rotationBoundsRotatedMidY;
+			
+			final float deltaYCos = deltaY * angleCos;
+			final float deltaYSin = deltaY * angleSinNegated;
+			
+			for(int x = 0, index = y * newResolutionX; x < newResolutionX; x++, index++) {
+				final int rotatedX = (int)(Floats.rint(deltaXCos[x] - deltaYSin + rotationBoundsRotatedMidX));
+				final int rotatedY = (int)(Floats.rint(deltaXSin[x] + deltaYCos + rotationBoundsRotatedMidY));
 				
-				newColors[y * newResolutionX + x] = getColorARGB(pointRotated.x, pointRotated.y);
+				newColors[index] = rotatedX >= 0 && rotatedX < oldResolutionX && rotatedY >= 0 && rotatedY < oldResolutionY ? oldColors[rotatedY * oldResolutionX + rotatedX] : Color4I.TRANSPARENT_A_R_G_B;
 			}
-		}
+			
+			progressMonitor.advance();
+		});
 		
 		final boolean hasChangeBegun = hasChangeBegun();
 		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
@@ -556,6 +820,10 @@ final class PackedIntARGBData extends Data {
 		this.resolutionX = newResolutionX;
 		this.resolutionY = newResolutionY;
 		
+		doRecycle(oldColors);
+		
+		incrementModificationCount();
+		
 		return true;
 	}
 	
@@ -575,18 +843,62 @@ final class PackedIntARGBData extends Data {
 		final int oldResolutionX = this.resolutionX;
 		final int oldResolutionY = this.resolutionY;
 		
-		final int[] newColors = new int[newResolutionX * newResolutionY];
+		final int[] newColors = BufferPool.INT.acquire(newResolutionX * newResolutionY);
 		final int[] oldColors = this.colors;
 		
 		final double scaleX = (double)(oldResolutionX) / (double)(newResolutionX);
 		final double scaleY = (double)(oldResolutionY) / (double)(newResolutionY);
 		
-		for(int y = 0; y < newResolutionY; y++) {
-			for(int x = 0; x < newResolutionX; x++) {
-				newColors[y * newResolutionX + x] = getColorARGB(x * scaleX, y * scaleY);
-			}
+		final int[] minimumXs = new int[newResolutionX];
+		final int[] maximumXs = new int[newResolutionX];
+		
+		final int[] tXs = new int[newResolutionX];
+		
+		for(int x = 0; x < newResolutionX; x++) {
+			final double sampleX = x * scaleX;
+			
+			minimumXs[x] = (int)(Doubles.floor(sampleX));
+			maximumXs[x] = (int)(Doubles.ceil(sampleX));
+			
+			tXs[x] = PackedIntARGBKernels.toFixedPoint(sampleX - minimumXs[x]);
 		}
 		
+		final ProgressMonitor progressMonitor = createProgressMonitor(newResolutionY);
+		
+		IntStream.range(0, newResolutionY).parallel().forEach(y -> {
+			final double sampleY = y * scaleY;
+			
+			final int minimumY = (int)(Doubles.floor(sampleY));
+			final int maximumY = (int)(Doubles.ceil(sampleY));
+			
+			final int offsetMinimumY = minimumY * oldResolutionX;
+			final int offsetMaximumY = maximumY * oldResolutionX;
+			
+			final boolean isInsideY = maximumY < oldResolutionY;
+			
+			final int tY = PackedIntARGBKernels.toFixedPoint(sampleY - minimumY);
+			
+			for(int x = 0, index = y * newResolutionX; x < newResolutionX; x++, index++) {
+				final int minimumX = minimumXs[x];
+				final int maximumX = maximumXs[x];
+				
+				if(minimumX == maximumX && minimumY == maximumY) {
+					newColors[index] = oldColors[offsetMinimumY + minimumX];
+				} else {
+					final boolean isInsideX = maximumX < oldResolutionX;
+					
+					final int colorARGB11 = oldColors[offsetMinimumY + minimumX];
+					final int colorARGB12 = isInsideX ? oldColors[offsetMinimumY + maximumX] : Color4I.TRANSPARENT_A_R_G_B;
+					final int colorARGB21 = isInsideY ? oldColors[offsetMaximumY + minimumX] : Color4I.TRANSPARENT_A_R_G_B;
+					final int colorARGB22 = isInsideX && isInsideY ? oldColors[offsetMaximumY + maximumX] : Color4I.TRANSPARENT_A_R_G_B;
+					
+					newColors[index] = PackedIntARGBKernels.blend(colorARGB11, colorARGB12, colorARGB21, colorARGB22, tXs[x], tY);
+				}
+			}
+			
+			progressMonitor.advance();
+		});
+		
 		final boolean hasChangeBegun = hasChangeBegun();
 		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
 		
@@ -602,6 +914,10 @@ final class PackedIntARGBData extends Data {
 		this.resolutionX = newResolutionX;
 		this.resolutionY = newResolutionY;
 		
+		doRecycle(oldColors);
+		
+		incrementModificationCount();
+		
 		return true;
 	}
 	
@@ -684,6 +1000,8 @@ final class PackedIntARGBData extends Data {
 				}
 				
 				this.colors[index] = newColor;
+				
+				incrementModificationCount(index);
 			}
 			
 			return true;
@@ -713,6 +1031,8 @@ final class PackedIntARGBData extends Data {
 				}
 				
 				this.colors[index] = newColor;
+				
+				incrementModificationCount(x, y, x, y);
 			}
 			
 			return true;
@@ -728,7 +1048,7 @@ final class PackedIntARGBData extends Data {
 		if(data instanceof PackedIntARGBData) {
 			final PackedIntARGBData colorARGBData = PackedIntARGBData.class.cast(data);
 			
-			final int[] newColors = colorARGBData.colors.clone();
+			final int[] newColors = BufferPool.INT.acquireCopyOf(colorARGBData.colors);
 			final int[] oldColors = this.colors;
 			
 			final int newResolutionX = colorARGBData.resolutionX;
@@ -752,12 +1072,68 @@ final class PackedIntARGBData extends Data {
 			this.resolutionX = newResolutionX;
 			this.resolutionY = newResolutionY;
 			
+			doRecycle(oldColors);
+			
+			incrementModificationCount();
+			
 			return true;
 		}
 		
 		return false;
 	}
 	
+	@Override
+	public boolean setPremultiplied(final boolean isPremultiplied) {
+		if(isPremultiplied == isPremultiplied()) {
+			return false;
+		}
+		
+		final int resolutionX = this.resolutionX;
+		final int resolutionY = this.resolutionY;
+		
+		final int[] oldColors = this.colors;
+		final int[] newColors = BufferPool.INT.acquire(oldColors.length);
+		
+		final ProgressMonitor progressMonitor = createProgressMonitor(resolutionY);
+		
+		IntStream.range(0, resolutionY).parallel().forEach(y -> {
+			final int fromIndex = y * resolutionX;
+			final int toIndex = fromIndex + resolutionX;
+			
+			System.arraycopy(oldColors, fromIndex, newColors, fromIndex, resolutionX);
+			
+			if(isPremultiplied) {
+				PackedIntARGBKernels.premultiply(newColors, fromIndex, toIndex);
+			} else {
+				PackedIntARGBKernels.unpremultiply(newColors, fromIndex, toIndex);
+			}
+			
+			progressMonitor.advance();
+		});
+		
+		final boolean hasChangeBegun = hasChangeBegun();
+		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
+		
+		if(hasChangeBegun || hasChangeBegunNow) {
+			changeAdd(new StateChange(resolutionX, resolutionX, resolutionY, resolutionY, newColors, oldColors));
+			changeAdd(new PremultipliedChange(isPremultiplied));
+			
+			if(hasChangeBegunNow) {
+				changeEnd();
+			}
+		}
+		
+		this.colors = newColors;
+		
+		updatePremultiplied(isPremultiplied);
+		
+		doRecycle(oldColors);
+		
+		incrementModificationCount();
+		
+		return true;
+	}
+	
 	@Override
 	public boolean setResolution(final int resolutionX, final int resolutionY) {
 		if(resolutionX < 1 || resolutionY < 1 || !Ints.canMultiplyExact(resolutionX, resolutionY)) {
@@ -774,23 +1150,23 @@ final class PackedIntARGBData extends Data {
 		final int oldResolutionX = this.resolutionX;
 		final int oldResolutionY = this.resolutionY;
 		
-		final int[] newColors = new int[newResolutionX * newResolutionY];
+		final int[] newColors = BufferPool.INT.acquire(newResolutionX * newResolutionY);
 		final int[] oldColors = this.colors;
 		
-		for(int y = 0; y < newResolutionY; y++) {
-			for(int x = 0; x < newResolutionX; x++) {
-				final int newIndex = y * newResolutionX + x;
-				
-				if(x < oldResolutionX && y < oldResolutionY) {
-					final int oldIndex = y * oldResolutionX + x;
-					
-					newColors[newIndex] = oldColors[oldIndex];
-				} else {
-					newColors[newIndex] = Color4I.WHITE_A_R_G_B;
-				}
-			}
+		final int copyResolutionX = Math.min(newResolutionX, oldResolutionX);
+		final int copyResolutionY = Math.min(newResolutionY, oldResolutionY);
+		
+		for(int y = 0; y < copyResolutionY; y++) {
+			final int newIndex = y * newResolutionX;
+			final int oldIndex = y * oldResolutionX;
+			
+			System.arraycopy(oldColors, oldIndex, newColors, newIndex, copyResolutionX);
+			
+			Arrays.fill(newColors, newIndex + copyResolutionX, newIndex + newResolutionX, Color4I.WHITE_A_R_G_B);
 		}
 		
+		Arrays.fill(newColors, copyResolutionY * newResolutionX, newResolutionX * newResolutionY, Color4I.WHITE_A_R_G_B);
+		
 		final boolean hasChangeBegun = hasChangeBegun();
 		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
 		
@@ -806,6 +1182,10 @@ final class PackedIntARGBData extends Data {
 		this.resolutionX = newResolutionX;
 		this.resolutionY = newResolutionY;
 		
+		doRecycle(oldColors);
+		
+		incrementModificationCount();
+		
 		return true;
 	}
 	
@@ -837,6 +1217,9 @@ final class PackedIntARGBData extends Data {
 		this.colors[indexA] = colorB;
 		this.colors[indexB] = colorA;
 		
+		incrementModificationCount(indexA);
+		incrementModificationCount(indexB);
+		
 		return true;
 	}
 	
@@ -881,6 +1264,40 @@ final class PackedIntARGBData extends Data {
 		Ints.requireRange(index, 0, this.colors.length - 1, "index");
 		
 		this.colors[index] = color;
+		
+		incrementModificationCount(index);
+	}
+	
+	void updateRegion(final int[] colors, final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+		Objects.requireNonNull(colors, "colors == null");
+		
+		Ints.requireRange(minimumX, 0, this.resolutionX - 1, "minimumX");
+		Ints.requireRange(minimumY, 0, this.resolutionY - 1, "minimumY");
+		Ints.requireRange(maximumX, minimumX, this.resolutionX - 1, "maximumX");
+		Ints.requireRange(maximumY, minimumY, this.resolutionY - 1, "maximumY");
+		Ints.requireRange(colors.length, (maximumX - minimumX + 1) * (maximumY - minimumY + 1), Integer.MAX_VALUE, "colors.length");
+		
+		final int regionResolutionX = maximumX - minimumX + 1;
+		
+		for(int y = minimumY, regionIndex = 0; y <= maximumY; y++, regionIndex += regionResolutionX) {
+			System.arraycopy(colors, regionIndex, this.colors, y * this.resolutionX + minimumX, regionResolutionX);
+		}
+		
+		incrementModificationCount(minimumX, minimumY, maximumX, maximumY);
+	}
+	
+	@Override
+	void updateRow(final double[] array, final int y) {
+		Objects.requireNonNull(array, "array == null");
+		
+		Ints.requireRange(array.length, this.resolutionX * 4, Integer.MAX_VALUE, "array.length");
+		Ints.requireRange(y, 0, this.resolutionY - 1, "y");
+		
+		for(int x = 0, index = y * this.resolutionX, offset = 0; x < this.resolutionX; x++, index++, offset += 4) {
+			this.colors[index] = Color4D.toIntARGB(array[offset + 0], array[offset + 1], array[offset + 2], array[offset + 3]);
+		}
+		
+		incrementModificationCount(0, y, this.resolutionX - 1, y);
 	}
 	
 	void updateState(final int resolutionX, final int resolutionY, final int[] colors) {
@@ -892,6 +1309,8 @@ final class PackedIntARGBData extends Data {
 		this.resolutionX = resolutionX;
 		this.resolutionY = resolutionY;
 		this.colors = colors.clone();
+		
+		incrementModificationCount();
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -945,6 +1364,11 @@ final class PackedIntARGBData extends Data {
 			return Objects.hash(Integer.valueOf(this.colorRedo), Integer.valueOf(this.colorUndo), Integer.valueOf(this.index));
 		}
 		
+		@Override
+		public long getSizeInBytes() {
+			return SizeEstimates.ofObject(0, 3, 0);
+		}
+		
 		@Override
 		public void redo(final Data data) {
 			Objects.requireNonNull(data, "data == null");
@@ -970,6 +1394,109 @@ final class PackedIntARGBData extends Data {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	static final class RegionChange implements Change {
+		private final int maximumX;
+		private final int maximumY;
+		private final int minimumX;
+		private final int minimumY;
+		private final int[] colorsRedo;
+		private final int[] colorsUndo;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public RegionChange(final int[] colorsRedo, final int[] colorsUndo, final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+			this.colorsRedo = Objects.requireNonNull(colorsRedo, "colorsRedo == null").clone();
+			this.colorsUndo = Objects.requireNonNull(colorsUndo, "colorsUndo == null").clone();
+			this.minimumX = Ints.requireRange(minimumX, 0, Integer.MAX_VALUE, "minimumX");
+			this.minimumY = Ints.requireRange(minimumY, 0, Integer.MAX_VALUE, "minimumY");
+			this.maximumX = Ints.requireRange(maximumX, minimumX, Integer.MAX_VALUE, "maximumX");
+			this.maximumY = Ints.requireRange(maximumY, minimumY, Integer.MAX_VALUE, "maximumY");
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		@Override
+		public boolean equals(final Object object) {
+			if(object == this) {
+				return true;
+			} else if(!(object instanceof RegionChange)) {
+				return false;
+			} else if(!Arrays.equals(this.colorsRedo, RegionChange.class.cast(object).colorsRedo)) {
+				return false;
+			} else if(!Arrays.equals(this.colorsUndo, RegionChange.class.cast(object).colorsUndo)) {
+				return false;
+			} else if(this.maximumX != RegionChange.class.cast(object).maximumX) {
+				return false;
+			} else if(this.maximumY != RegionChange.class.cast(object).maximumY) {
+				return false;
+			} else if(this.minimumX != RegionChange.class.cast(object).minimumX) {
+				return false;
+			} else if(this.minimumY != RegionChange.class.cast(object).minimumY) {
+				return false;
+			} else {
+				return true;
+			}
+		}
+		
+		public int getMaximumX() {
+			return this.maximumX;
+		}
+		
+		public int getMaximumY() {
+			return this.maximumY;
+		}
+		
+		public int getMinimumX() {
+			return this.minimumX;
+		}
+		
+		public int getMinimumY() {
+			return this.minimumY;
+		}
+		
+		@Override
+		public int hashCode() {
+			return Objects.hash(Integer.valueOf(Arrays.hashCode(this.colorsRedo)), Integer.valueOf(Arrays.hashCode(this.colorsUndo)), Integer.valueOf(this.maximumX), Integer.valueOf(this.maximumY), Integer.valueOf(this.minimumX), Integer.valueOf(this.minimumY));
+		}
+		
+		public int[] getColorsRedo() {
+			return this.colorsRedo.clone();
+		}
+		
+		public int[] getColorsUndo() {
+			return this.colorsUndo.clone();
+		}
+		
+		@Override
+		public long getSizeInBytes() {
+			return SizeEstimates.ofObject(2, 4, 0) + SizeEstimates.ofIntArray(this.colorsRedo.length) + SizeEstimates.ofIntArray(this.colorsUndo.length);
+		}
+		
+		@Override
+		public void redo(final Data data) {
+			Objects.requireNonNull(data, "data == null");
+			
+			if(data instanceof PackedIntARGBData) {
+				final
+				PackedIntARGBData colorARGBData = PackedIntARGBData.class.cast(data);
+				colorARGBData.updateRegion(this.colorsRedo, this.minimumX, this.minimumY, this.maximumX, this.maximumY);
+			}
+		}
+		
+		@Override
+		public void undo(final Data data) {
+			Objects.requireNonNull(data, "data == null");
+			
+			if(data instanceof PackedIntARGBData) {
+				final
+				PackedIntARGBData colorARGBData = PackedIntARGBData.class.cast(data);
+				colorARGBData.updateRegion(this.colorsUndo, this.minimumX, this.minimumY, this.maximumX, this.maximumY);
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
 	static final class StateChange implements Change {
 		private final int resolutionXRedo;
 		private final int resolutionXUndo;
@@ -1043,6 +1570,11 @@ final class PackedIntARGBData extends Data {
 			return this.colorsUndo.clone();
 		}
 		
+		@Override
+		public long getSizeInBytes() {
+			return SizeEstimates.ofObject(2, 4, 0) + SizeEstimates.ofIntArray(this.colorsRedo.length) + SizeEstimates.ofIntArray(this.colorsUndo.length);
+		}
+		
 		@Override
 		public void redo(final Data data) {
 			Objects.requireNonNull(data, "data == null");
@@ -1068,6 +1600,26 @@ final class PackedIntARGBData extends Data {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	private BufferedImage doGetBufferedImageView() {
+		final BufferedImage bufferedImageView = this.bufferedImageView;
+	
+		final boolean isPremultiplied = isPremultiplied();
+		
+		if(bufferedImageView != null && bufferedImageView.isAlphaPremultiplied() == isPremultiplied && DataBufferInt.class.cast(bufferedImageView.getRaster().getDataBuffer()).getData() == this.colors) {
+			return bufferedImageView;
+		}
+	
+		final DataBufferInt dataBufferInt = new DataBufferInt(this.colors, this.colors.length);
+	
+		final WritableRaster writableRaster = Raster.createPackedRaster(dataBufferInt, this.resolutionX, this.resolutionY, this.resolutionX, new int[] {0x00FF0000, 0x0000FF00, 0x000000FF, 0xFF000000}, null);
+	
+		final ColorModel colorModel = isPremultiplied ? new DirectColorModel(ColorSpace.getInstance(ColorSpace.CS_sRGB), 32, 0x00FF0000, 0x0000FF00, 0x000000FF, 0xFF000000, true, DataBuffer.TYPE_INT) : ColorModel.getRGBdefault();
+		
+		this.bufferedImageView = new BufferedImage(colorModel, writableRaster, isPremultiplied, null);
+		
+		return this.bufferedImageView;
+	}
+	
 	private double[] doUnpackColorsAsDoubleArrayRGB() {
 		final double[] colors = new double[this.colors.length * 3];
 		
@@ -1091,4 +1643,37 @@ final class PackedIntARGBData extends Data {
 		
 		return colors;
 	}
+	
+	private void doCopyRegionFrom(final int[] colors, final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+		final boolean hasChangeBegun = hasChangeBegun();
+		final boolean hasChangeBegunNow = !hasChangeBegun && changeBegin();
+		
+		if(hasChangeBegun || hasChangeBegunNow) {
+			final int regionResolutionX = maximumX - minimumX + 1;
+			final int regionResolutionY = maximumY - minimumY + 1;
+			
+			final int[] newColors = colors.length == regionResolutionX * regionResolutionY ? colors : Arrays.copyOf(colors, regionResolutionX * regionResolutionY);
+			final int[] oldColors = new int[regionResolutionX * regionResolutionY];
+			
+			for(int y = minimumY, regionIndex = 0; y <= maximumY; y++, regionIndex += regionResolutionX) {
+				System.arraycopy(this.colors, y * this.resolutionX + minimumX, oldColors, regionIndex, regionResolutionX);
+			}
+			
+			changeAdd(new RegionChange(newColors, oldColors, minimumX, minimumY, maximumX, maximumY));
+			
+			if(hasChangeBegunNow) {
+				changeEnd();
+			}
+		}
+		
+		updateRegion(colors, minimumX, minimumY, maximumX, maximumY);
+	}
+	
+	private void doRecycle(final int[] colors) {
+		final BufferedImage bufferedImageView = this.bufferedImageView;
+		
+		if(!isChangeHistoryEnabled() && (bufferedImageView == null || DataBufferInt.class.cast(bufferedImageView.getRaster().getDataBuffer()).getData() != colors)) {
+			BufferPool.INT.release(colors);
+		}
+	}
 }
\ No newline at end of file
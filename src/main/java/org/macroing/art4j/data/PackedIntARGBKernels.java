@@ -0,0 +1,188 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+final class PackedIntARGBKernels {
+	public static final int ONE = 1 << 16;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final int HALF = 1 << 15;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private PackedIntARGBKernels() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static boolean isFixedPoint(final double[] elements, final double factor, final double bias) {
+		double sum = Math.abs(bias * 255.0D * ONE) + HALF;
+		
+		for(final double element : elements) {
+			sum += Math.abs(element * factor * ONE) * 255.0D;
+		}
+		
+		return sum < Integer.MAX_VALUE;
+	}
+	
+	public static boolean isFixedPoint(final float[] elements, final float factor, final float bias) {
+		return isFixedPoint(doToDoubleArray(elements), factor, bias);
+	}
+	
+	public static int blend(final int colorARGBLHS, final int colorARGBRHS, final int t) {
+		final int tInverse = ONE - t;
+		
+		final int a = ((colorARGBLHS >>> 24)        * tInverse + (colorARGBRHS >>> 24)        * t + HALF) >>> 16;
+		final int r = ((colorARGBLHS >>> 16 & 0xFF) * tInverse + (colorARGBRHS >>> 16 & 0xFF) * t + HALF) >>> 16;
+		final int g = ((colorARGBLHS >>>  8 & 0xFF) * tInverse + (colorARGBRHS >>>  8 & 0xFF) * t + HALF) >>> 16;
+		final int b = ((colorARGBLHS        & 0xFF) * tInverse + (colorARGBRHS        & 0xFF) * t + HALF) >>> 16;
+		
+		return a << 24 | r << 16 | g << 8 | b;
+	}
+	
+	public static int blend(final int colorARGB11, final int colorARGB12, final int colorARGB21, final int colorARGB22, final int tX, final int tY) {
+		return blend(blend(colorARGB11, colorARGB12, tX), blend(colorARGB21, colorARGB22, tX), tY);
+	}
+	
+	public static int convolve(final int[] colors, final int resolutionX, final int resolutionY, final int[] weights, final int kernelResolution, final int bias, final int index) {
+		final int kernelOffset = (kernelResolution - 1) / 2;
+		
+		final int x = index % resolutionX;
+		final int y = index / resolutionX;
+		
+		final int kernelXMinimum = Math.max(kernelOffset - x, 0);
+		final int kernelXMaximum = Math.min(resolutionX - x + kernelOffset, kernelResolution);
+		final int kernelYMinimum = Math.max(kernelOffset - y, 0);
+		final int kernelYMaximum = Math.min(resolutionY - y + kernelOffset, kernelResolution);
+		
+		int r = bias + HALF;
+		int g = bias + HALF;
+		int b = bias + HALF;
+		
+		for(int kernelY = kernelYMinimum; kernelY < kernelYMaximum; kernelY++) {
+			final int imageRow = (y - kernelOffset + kernelY) * resolutionX + x - kernelOffset;
+			
+			final int kernelRow = kernelY * kernelResolution;
+			
+			for(int kernelX = kernelXMinimum; kernelX < kernelXMaximum; kernelX++) {
+				final int colorARGB = colors[imageRow + kernelX];
+				
+				final int weight = weights[kernelRow + kernelX];
+				
+				r += (colorARGB >>> 16 & 0xFF) * weight;
+				g += (colorARGB >>>  8 & 0xFF) * weight;
+				b += (colorARGB        & 0xFF) * weight;
+			}
+		}
+		
+		return colors[index] & 0xFF000000 | doSaturate(r >> 16) << 16 | doSaturate(g >> 16) << 8 | doSaturate(b >> 16);
+	}
+	
+	public static int premultiply(final int colorARGB) {
+		final int a = colorARGB >>> 24;
+		
+		if(a == 0xFF) {
+			return colorARGB;
+		}
+		
+		final int r = doDivideBy255((colorARGB >>> 16 & 0xFF) * a);
+		final int g = doDivideBy255((colorARGB >>>  8 & 0xFF) * a);
+		final int b = doDivideBy255((colorARGB        & 0xFF) * a);
+		
+		return a << 24 | r << 16 | g << 8 | b;
+	}
+	
+	public static int toBias(final double bias) {
+		return (int)(Math.round(bias * 255.0D * ONE));
+	}
+	
+	public static int toFixedPoint(final double value) {
+		return (int)(Math.round(value * ONE));
+	}
+	
+	public static int unpremultiply(final int colorARGB) {
+		final int a = colorARGB >>> 24;
+		
+		if(a == 0xFF) {
+			return colorARGB;
+		}
+		
+		if(a == 0x00) {
+			return 0;
+		}
+		
+		final int aHalf = a >>> 1;
+		
+		final int r = Math.min(((colorARGB >>> 16 & 0xFF) * 0xFF + aHalf) / a, 0xFF);
+		final int g = Math.min(((colorARGB >>>  8 & 0xFF) * 0xFF + aHalf) / a, 0xFF);
+		final int b = Math.min(((colorARGB        & 0xFF) * 0xFF + aHalf) / a, 0xFF);
+		
+		return a << 24 | r << 16 | g << 8 | b;
+	}
+	
+	public static int[] toWeights(final double[] elements, final double factor) {
+		final int[] weights = new int[elements.length];
+		
+		for(int i = 0; i < elements.length; i++) {
+			weights[i] = toFixedPoint(elements[i] * factor);
+		}
+		
+		return weights;
+	}
+	
+	public static int[] toWeights(final float[] elements, final float factor) {
+		return toWeights(doToDoubleArray(elements), factor);
+	}
+	
+	public static void premultiply(final int[] colors, final int fromIndex, final int toIndex) {
+		for(int i = fromIndex; i < toIndex; i++) {
+			colors[i] = premultiply(colors[i]);
+		}
+	}
+	
+	public static void unpremultiply(final int[] colors, final int fromIndex, final int toIndex) {
+		for(int i = fromIndex; i < toIndex; i++) {
+			colors[i] = unpremultiply(colors[i]);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static double[] doToDoubleArray(final float[] array) {
+		final double[] arrayDouble = new double[array.length];
+		
+		for(int i = 0; i < array.length; i++) {
+			arrayDouble[i] = array[i];
+		}
+		
+		return arrayDouble;
+	}
+	
+	private static int doDivideBy255(final int value) {
+		final int valueRounded = value + 128;
+		
+		return (valueRounded + (valueRounded >>> 8)) >>> 8;
+	}
+	
+	private static int doSaturate(final int value) {
+		return Math.max(Math.min(value, 0xFF), 0);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+import java.util.Objects;
+
+final class PremultipliedChange implements Change {
+	private final boolean isPremultiplied;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public PremultipliedChange(final boolean isPremultiplied) {
+		this.isPremultiplied = isPremultiplied;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Override
+	public boolean equals(final Object object) {
+		if(object == this) {
+			return true;
+		} else if(!(object instanceof PremultipliedChange)) {
+			return false;
+		} else if(this.isPremultiplied != PremultipliedChange.class.cast(object).isPremultiplied) {
+			return false;
+		} else {
+			return true;
+		}
+	}
+	
+	public boolean isPremultiplied() {
+		return this.isPremultiplied;
+	}
+	
+	@Override
+	public int hashCode() {
+		return Objects.hash(Boolean.valueOf(this.isPremultiplied));
+	}
+	
+	@Override
+	public long getSizeInBytes() {
+		return SizeEstimates.ofObject(0, 1, 0);
+	}
+	
+	@Override
+	public void redo(final Data data) {
+		Objects.requireNonNull(data, "data == null");
+		
+		data.updatePremultiplied(this.isPremultiplied);
+	}
+	
+	@Override
+	public void undo(final Data data) {
+		Objects.requireNonNull(data, "data == null");
+		
+		data.updatePremultiplied(!this.isPremultiplied);
+	}
+}
\ No newline at end of file
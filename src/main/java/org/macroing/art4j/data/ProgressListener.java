@@ -0,0 +1,41 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+/**
+ * A {@code ProgressListener} is notified about the progress of a long-running operation.
+ * <p>
+ * This is a functional interface whose functional method is {@link #onProgress(double)}.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+@FunctionalInterface
+public interface ProgressListener {
+	/**
+	 * Called when the progress of an operation has changed.
+	 * <p>
+	 * The progress is a value in the range {@code [0.0, 1.0]}, where {@code 0.0} means that no work has been done and {@code 1.0} means that all work has been done. Successive calls for the same operation report non-decreasing values.
+	 * <p>
+	 * This method may be called on any thread. It should return quickly and it should not throw an exception.
+	 * 
+	 * @param progress the progress in the range {@code [0.0, 1.0]}
+	 */
+	void onProgress(final double progress);
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@code ProgressMonitor} is used by a long-running operation to report its progress and to check for cancellation.
+ * <p>
+ * A {@code ProgressMonitor} instance is created by calling {@link Data#createProgressMonitor(int)}. It is bound to the {@link CancellationToken} and the {@link ProgressListener} that were associated with the {@code Data} instance at that time, if any.
+ * <p>
+ * The operation calls {@link #advance()} once for each unit of work it completes, such as a row of pixels. The {@code ProgressListener} is notified at most once per percent of progress, so calling {@code advance()} is cheap.
+ * <p>
+ * This class is thread-safe. The units of work may be completed by different threads.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ProgressMonitor {
+	private static final int STEP_COUNT = 100;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final AtomicInteger completedWorkCount;
+	private final CancellationToken cancellationToken;
+	private final ProgressListener progressListener;
+	private final int workCount;
+	private volatile int reportedStep;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	ProgressMonitor(final CancellationToken cancellationToken, final ProgressListener progressListener, final int workCount) {
+		this.cancellationToken = cancellationToken;
+		this.progressListener = progressListener;
+		this.workCount = Math.max(workCount, 1);
+		this.completedWorkCount = new AtomicInteger();
+		this.reportedStep = 0;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns {@code true} if, and only if, the operation has been cancelled, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, the operation has been cancelled, {@code false} otherwise
+	 */
+	public boolean isCancelled() {
+		return this.cancellationToken != null && this.cancellationToken.isCancelled();
+	}
+	
+	/**
+	 * Marks one unit of work as completed.
+	 * <p>
+	 * If the operation has been cancelled, a {@code CancellationException} will be thrown.
+	 * 
+	 * @throws CancellationException thrown if, and only if, the operation has been cancelled
+	 */
+	public void advance() {
+		throwIfCancelled();
+		
+		if(this.progressListener != null) {
+			final int step = (int)((long)(this.completedWorkCount.incrementAndGet()) * STEP_COUNT / this.workCount);
+			
+			if(step > this.reportedStep) {
+				doReport(Math.min(step, STEP_COUNT));
+			}
+		}
+	}
+	
+	/**
+	 * Throws a {@code CancellationException} if, and only if, the operation has been cancelled.
+	 * 
+	 * @throws CancellationException thrown if, and only if, the operation has been cancelled
+	 */
+	public void throwIfCancelled() {
+		if(this.cancellationToken != null) {
+			this.cancellationToken.throwIfCancelled();
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private synchronized void doReport(final int step) {
+		if(step > this.reportedStep) {
+			this.reportedStep = step;
+			
+			this.progressListener.onProgress((double)(step) / (double)(STEP_COUNT));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,303 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.IntStream;
+
+import org.macroing.art4j.filter.Filter2D;
+import org.macroing.art4j.filter.Filter2F;
+import org.macroing.java.lang.Doubles;
+
+final class Resampler {
+	private static final Map<Key, Table> TABLES = new ConcurrentHashMap<>();
+	private static final int TABLES_MAXIMUM = 64;
+	private static final int BAND_HEIGHT = 32;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private Resampler() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static void resample(final Data source, final Data target, final Filter2D filter) {
+		final Table tableX = doGetTable(filter, true, source.getResolutionX(), target.getResolutionX(), filter.getResolutionX(), x -> filter.evaluate(x, 0.0D));
+		final Table tableY = doGetTable(filter, false, source.getResolutionY(), target.getResolutionY(), filter.getResolutionY(), y -> filter.evaluate(0.0D, y));
+		
+		doResample(source, target, tableX, tableY);
+	}
+	
+	public static void resample(final Data source, final Data target, final Filter2F filter) {
+		final Table tableX = doGetTable(filter, true, source.getResolutionX(), target.getResolutionX(), filter.getResolutionX(), x -> filter.evaluate((float)(x), 0.0F));
+		final Table tableY = doGetTable(filter, false, source.getResolutionY(), target.getResolutionY(), filter.getResolutionY(), y -> filter.evaluate(0.0F, (float)(y)));
+		
+		doResample(source, target, tableX, tableY);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static Table doGetTable(final Object filter, final boolean isX, final int sourceResolution, final int targetResolution, final double filterResolution, final DoubleUnaryOperator filterFunction) {
+		final Key key = new Key(filter, isX, sourceResolution, targetResolution);
+		
+		final Table table = TABLES.get(key);
+		
+		if(table != null) {
+			return table;
+		}
+		
+		if(TABLES.size() >= TABLES_MAXIMUM) {
+			TABLES.clear();
+		}
+		
+		final Table tableNew = new Table(sourceResolution, targetResolution, filterResolution, filterFunction);
+		
+		TABLES.put(key, tableNew);
+		
+		return tableNew;
+	}
+	
+	private static boolean doIsUpdatingRowsInParallel(final Data target) {
+		return target instanceof Color4DData || target instanceof Color4FData || target instanceof PackedIntARGBData;
+	}
+	
+	private static void doResample(final Data source, final Data target, final Table tableX, final Table tableY) {
+		final int sourceResolutionX = source.getResolutionX();
+		final int targetResolutionX = target.getResolutionX();
+		final int targetResolutionY = target.getResolutionY();
+		
+		final int bandCount = (targetResolutionY + BAND_HEIGHT - 1) / BAND_HEIGHT;
+		
+		final IntStream bands = IntStream.range(0, bandCount);
+		
+		(doIsUpdatingRowsInParallel(target) ? bands.parallel() : bands).forEach(band -> {
+			final int targetMinimumY = band * BAND_HEIGHT;
+			final int targetMaximumY = Math.min(targetMinimumY + BAND_HEIGHT, targetResolutionY);
+			
+			final int sourceMinimumY = tableY.starts[targetMinimumY];
+			final int sourceMaximumY = tableY.ends[targetMaximumY - 1];
+			
+			final double[] sourceRow = new double[sourceResolutionX * 4];
+			final double[] targetRow = new double[targetResolutionX * 4];
+			
+			final double[] rows = new double[(sourceMaximumY - sourceMinimumY) * targetResolutionX * 4];
+			
+			for(int sourceY = sourceMinimumY; sourceY < sourceMaximumY; sourceY++) {
+				source.copyRowTo(sourceRow, sourceY);
+				
+				doResampleX(sourceRow, rows, (sourceY - sourceMinimumY) * targetResolutionX * 4, tableX);
+			}
+			
+			for(int targetY = targetMinimumY; targetY < targetMaximumY; targetY++) {
+				doResampleY(rows, targetRow, targetY, sourceMinimumY, targetResolutionX, tableY);
+				
+				target.updateRow(targetRow, targetY);
+			}
+		});
+	}
+	
+	private static void doResampleX(final double[] sourceRow, final double[] rows, final int rowsOffset, final Table tableX) {
+		final int[] indices = tableX.indices;
+		final int[] counts = tableX.counts;
+		
+		final double[] weights = tableX.weights;
+		
+		final int capacity = tableX.capacity;
+		
+		for(int x = 0, offset = rowsOffset; x < counts.length; x++, offset += 4) {
+			double r = 0.0D;
+			double g = 0.0D;
+			double b = 0.0D;
+			double a = 0.0D;
+			
+			for(int i = x * capacity, j = i + counts[x]; i < j; i++) {
+				final int sourceOffset = indices[i] * 4;
+				
+				final double weight = weights[i];
+				
+				r += sourceRow[sourceOffset + 0] * weight;
+				g += sourceRow[sourceOffset + 1] * weight;
+				b += sourceRow[sourceOffset + 2] * weight;
+				a += sourceRow[sourceOffset + 3] * weight;
+			}
+			
+			rows[offset + 0] = r;
+			rows[offset + 1] = g;
+			rows[offset + 2] = b;
+			rows[offset + 3] = a;
+		}
+	}
+	
+	private static void doResampleY(final double[] rows, final double[] targetRow, final int targetY, final int sourceMinimumY, final int targetResolutionX, final Table tableY) {
+		final int length = targetResolutionX * 4;
+		
+		Arrays.fill(targetRow, 0, length, 0.0D);
+		
+		for(int i = targetY * tableY.capacity, j = i + tableY.counts[targetY]; i < j; i++) {
+			final int rowsOffset = (tableY.indices[i] - sourceMinimumY) * length;
+			
+			final double weight = tableY.weights[i];
+			
+			for(int k = 0; k < length; k++) {
+				targetRow[k] += rows[rowsOffset + k] * weight;
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Key {
+		private final Object filter;
+		private final boolean isX;
+		private final int sourceResolution;
+		private final int targetResolution;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Key(final Object filter, final boolean isX, final int sourceResolution, final int targetResolution) {
+			this.filter = filter;
+			this.isX = isX;
+			this.sourceResolution = sourceResolution;
+			this.targetResolution = targetResolution;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		@Override
+		public boolean equals(final Object object) {
+			if(object == this) {
+				return true;
+			} else if(!(object instanceof Key)) {
+				return false;
+			} else if(!Objects.equals(this.filter, Key.class.cast(object).filter)) {
+				return false;
+			} else if(this.isX != Key.class.cast(object).isX) {
+				return false;
+			} else if(this.sourceResolution != Key.class.cast(object).sourceResolution) {
+				return false;
+			} else if(this.targetResolution != Key.class.cast(object).targetResolution) {
+				return false;
+			} else {
+				return true;
+			}
+		}
+		
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.filter, Boolean.valueOf(this.isX), Integer.valueOf(this.sourceResolution), Integer.valueOf(this.targetResolution));
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Table {
+		private final double[] weights;
+		private final int capacity;
+		private final int[] counts;
+		private final int[] ends;
+		private final int[] indices;
+		private final int[] starts;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Table(final int sourceResolution, final int targetResolution, final double filterResolution, final DoubleUnaryOperator filterFunction) {
+			final double scale = (double)(sourceResolution) / (double)(targetResolution);
+			final double filterScale = Doubles.max(scale, 1.0D);
+			final double filterScaleReciprocal = 1.0D / filterScale;
+			final double radius = Doubles.max(filterResolution * filterScale, 0.5D);
+			
+			this.capacity = (int)(Doubles.ceil(radius * 2.0D)) + 1;
+			this.counts = new int[targetResolution];
+			this.ends = new int[targetResolution];
+			this.indices = new int[targetResolution * this.capacity];
+			this.starts = new int[targetResolution];
+			this.weights = new double[targetResolution * this.capacity];
+			
+			for(int target = 0; target < targetResolution; target++) {
+				final double center = (target + 0.5D) * scale - 0.5D;
+				
+				final int minimum = (int)(Doubles.ceil(center - radius));
+				final int maximum = (int)(Doubles.floor(center + radius));
+				
+				final int offset = target * this.capacity;
+				
+				int count = 0;
+				int start = Integer.MAX_VALUE;
+				int end = Integer.MIN_VALUE;
+				
+				double weightSum = 0.0D;
+				
+				for(int source = minimum; source <= maximum && count < this.capacity; source++) {
+					final double weight = filterFunction.applyAsDouble((source - center) * filterScaleReciprocal);
+					
+					if(Doubles.isZero(weight)) {
+						continue;
+					}
+					
+					final int index = source < 0 ? 0 : source >= sourceResolution ? sourceResolution - 1 : source;
+					
+					this.indices[offset + count] = index;
+					this.weights[offset + count] = weight;
+					
+					start = Math.min(start, index);
+					end = Math.max(end, index + 1);
+					
+					weightSum += weight;
+					
+					count++;
+				}
+				
+				if(count == 0 || Doubles.isZero(weightSum)) {
+					final int index = Math.min(Math.max((int)(Doubles.rint(center)), 0), sourceResolution - 1);
+					
+					this.indices[offset] = index;
+					this.weights[offset] = 1.0D;
+					
+					start = index;
+					end = index + 1;
+					
+					count = 1;
+				} else {
+					final double weightSumReciprocal = 1.0D / weightSum;
+					
+					for(int i = offset; i < offset + count; i++) {
+						this.weights[i] *= weightSumReciprocal;
+					}
+				}
+				
+				this.counts[target] = count;
+				this.starts[target] = start;
+				this.ends[target] = end;
+			}
+			
+			for(int target = targetResolution - 2; target >= 0; target--) {
+				this.starts[target] = Math.min(this.starts[target], this.starts[target + 1]);
+			}
+			
+			for(int target = 1; target < targetResolution; target++) {
+				this.ends[target] = Math.max(this.ends[target], this.ends[target - 1]);
+			}
+		}
+	}
+}
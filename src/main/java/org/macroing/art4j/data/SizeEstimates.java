@@ -0,0 +1,50 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+final class SizeEstimates {
+	public static final long COLOR_4_D = ofObject(0, 0, 4);
+	public static final long COLOR_4_F = ofObject(0, 4, 0);
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private SizeEstimates() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static long ofIntArray(final int length) {
+		return doAlign(16L + 4L * length);
+	}
+	
+	public static long ofObject(final int referenceCount, final int intCount, final int longCount) {
+		return doAlign(12L + 4L * referenceCount + 4L * intCount + 8L * longCount);
+	}
+	
+	public static long ofReferenceArray(final int length, final long elementSize) {
+		return doAlign(16L + 4L * length) + elementSize * length;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static long doAlign(final long size) {
+		return (size + 7L) & ~7L;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,497 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.macroing.art4j.color.Color4D;
+import org.macroing.art4j.color.Color4F;
+import org.macroing.art4j.data.CancellationToken;
+import org.macroing.art4j.data.ProgressListener;
+import org.macroing.art4j.kernel.ConvolutionKernelND;
+import org.macroing.art4j.kernel.ConvolutionKernelNF;
+import org.macroing.art4j.pixel.Color4DPixelOperator;
+import org.macroing.art4j.pixel.Color4FPixelOperator;
+
+/**
+ * An {@code AsyncImage} performs operations on an {@link Image} asynchronously.
+ * <p>
+ * An {@code AsyncImage} instance is created by calling {@link Image#async(Executor)} or one of its overloads. The operations are run by an {@code Executor}, so the calling thread never blocks.
+ * <p>
+ * All operations on the same {@code Image} instance are serialized, even if they are submitted using different {@code AsyncImage} instances. They run in the order they were submitted and never run concurrently with each other.
+ * <p>
+ * The operations submitted using a single {@code AsyncImage} instance form a pipeline. If an operation fails or is cancelled, all operations submitted after it using the same {@code AsyncImage} instance are skipped and their {@code CompletableFuture} instances complete in the same way. The methods that return an {@code AsyncImage} instance can be chained, and {@link #toCompletableFuture()} returns a {@code CompletableFuture} that completes when the pipeline is done:
+ * <pre>
+ * {@code
+ * image.async(executor).convolve(ConvolutionKernelND.GAUSSIAN_BLUR_3).fillD(pixelOperator).toCompletableFuture().thenAccept(image -> image.save("Image.png"));
+ * }
+ * </pre>
+ * An operation can be cancelled by calling {@code cancel(boolean)} on its {@code CompletableFuture} or by calling {@link #cancel()}. An operation that has not started yet is skipped. An operation that has already started is given its own {@link CancellationToken} instance, so the long-running operations of {@code Image} stop at the next row or tile and leave the {@code Image} instance unchanged. Other operations, such as those performed by a {@code Function} passed to {@link #submit(Function)}, run to completion.
+ * <p>
+ * While an operation runs, the {@code ProgressListener} is also notified about the progress within that operation, if the operation reports it.
+ * <p>
+ * The {@code Image} instance should not be used directly while operations are pending, because {@code Image} is not thread-safe.
+ * <p>
+ * This class is thread-safe.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class AsyncImage {
+	private final Executor executor;
+	private final Image image;
+	private final List<CompletableFuture<?>> futures;
+	private final Object lock;
+	private final ProgressListener progressListener;
+	private CompletableFuture<?> future;
+	private int completedCount;
+	private int submittedCount;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	AsyncImage(final Image image, final Executor executor, final ProgressListener progressListener) {
+		this.image = Objects.requireNonNull(image, "image == null");
+		this.executor = Objects.requireNonNull(executor, "executor == null");
+		this.progressListener = Objects.requireNonNull(progressListener, "progressListener == null");
+		this.futures = new ArrayList<>();
+		this.lock = new Object();
+		this.future = null;
+		this.completedCount = 0;
+		this.submittedCount = 0;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Submits an operation that passes the {@link Image} instance to {@code consumer}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * <p>
+	 * If {@code consumer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param consumer a {@code Consumer} that accepts the {@code Image} instance
+	 * @return this {@code AsyncImage} instance
+	 * @throws NullPointerException thrown if, and only if, {@code consumer} is {@code null}
+	 */
+	public AsyncImage apply(final Consumer<Image> consumer) {
+		Objects.requireNonNull(consumer, "consumer == null");
+		
+		submit(image -> {
+			consumer.accept(image);
+			
+			return image;
+		});
+		
+		return this;
+	}
+	
+	/**
+	 * Submits an operation that calls {@link Image#convolve(ConvolutionKernelND)}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * <p>
+	 * If {@code convolutionKernel} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param convolutionKernel the {@link ConvolutionKernelND} instance to apply
+	 * @return this {@code AsyncImage} instance
+	 * @throws NullPointerException thrown if, and only if, {@code convolutionKernel} is {@code null}
+	 */
+	public AsyncImage convolve(final ConvolutionKernelND convolutionKernel) {
+		Objects.requireNonNull(convolutionKernel, "convolutionKernel == null");
+		
+		return apply(image -> image.convolve(convolutionKernel));
+	}
+	
+	/**
+	 * Submits an operation that calls {@link Image#convolve(ConvolutionKernelNF)}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * <p>
+	 * If {@code convolutionKernel} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param convolutionKernel the {@link ConvolutionKernelNF} instance to apply
+	 * @return this {@code AsyncImage} instance
+	 * @throws NullPointerException thrown if, and only if, {@code convolutionKernel} is {@code null}
+	 */
+	public AsyncImage convolve(final ConvolutionKernelNF convolutionKernel) {
+		Objects.requireNonNull(convolutionKernel, "convolutionKernel == null");
+		
+		return apply(image -> image.convolve(convolutionKernel));
+	}
+	
+	/**
+	 * Submits an operation that calls {@link Image#draw(Consumer)}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * <p>
+	 * If {@code graphics2DConsumer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param graphics2DConsumer a {@code Consumer} that accepts a {@code Graphics2D} instance
+	 * @return this {@code AsyncImage} instance
+	 * @throws NullPointerException thrown if, and only if, {@code graphics2DConsumer} is {@code null}
+	 */
+	public AsyncImage draw(final Consumer<Graphics2D> graphics2DConsumer) {
+		Objects.requireNonNull(graphics2DConsumer, "graphics2DConsumer == null");
+		
+		return apply(image -> image.draw(graphics2DConsumer));
+	}
+	
+	/**
+	 * Submits an operation that calls {@link Image#fillD(Color4D)}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * <p>
+	 * If {@code color} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param color the {@link Color4D} instance to fill with
+	 * @return this {@code AsyncImage} instance
+	 * @throws NullPointerException thrown if, and only if, {@code color} is {@code null}
+	 */
+	public AsyncImage fillD(final Color4D color) {
+		Objects.requireNonNull(color, "color == null");
+		
+		return apply(image -> image.fillD(color));
+	}
+	
+	/**
+	 * Submits an operation that calls {@link Image#fillD(Color4DPixelOperator)}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * <p>
+	 * If {@code pixelOperator} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param pixelOperator a {@link Color4DPixelOperator} instance that returns a {@code Color4D} instance for each pixel affected
+	 * @return this {@code AsyncImage} instance
+	 * @throws NullPointerException thrown if, and only if, {@code pixelOperator} is {@code null}
+	 */
+	public AsyncImage fillD(final Color4DPixelOperator pixelOperator) {
+		Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+		
+		return apply(image -> image.fillD(pixelOperator));
+	}
+	
+	/**
+	 * Submits an operation that calls {@link Image#fillF(Color4F)}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * <p>
+	 * If {@code color} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param color the {@link Color4F} instance to fill with
+	 * @return this {@code AsyncImage} instance
+	 * @throws NullPointerException thrown if, and only if, {@code color} is {@code null}
+	 */
+	public AsyncImage fillF(final Color4F color) {
+		Objects.requireNonNull(color, "color == null");
+		
+		return apply(image -> image.fillF(color));
+	}
+	
+	/**
+	 * Submits an operation that calls {@link Image#fillF(Color4FPixelOperator)}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * <p>
+	 * If {@code pixelOperator} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param pixelOperator a {@link Color4FPixelOperator} instance that returns a {@code Color4F} instance for each pixel affected
+	 * @return this {@code AsyncImage} instance
+	 * @throws NullPointerException thrown if, and only if, {@code pixelOperator} is {@code null}
+	 */
+	public AsyncImage fillF(final Color4FPixelOperator pixelOperator) {
+		Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+		
+		return apply(image -> image.fillF(pixelOperator));
+	}
+	
+	/**
+	 * Submits an operation that calls {@link Image#flip()}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * 
+	 * @return this {@code AsyncImage} instance
+	 */
+	public AsyncImage flip() {
+		return apply(image -> image.flip());
+	}
+	
+	/**
+	 * Submits an operation that calls {@link Image#flipX()}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * 
+	 * @return this {@code AsyncImage} instance
+	 */
+	public AsyncImage flipX() {
+		return apply(image -> image.flipX());
+	}
+	
+	/**
+	 * Submits an operation that calls {@link Image#flipY()}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * 
+	 * @return this {@code AsyncImage} instance
+	 */
+	public AsyncImage flipY() {
+		return apply(image -> image.flipY());
+	}
+	
+	/**
+	 * Submits an operation that calls {@link Image#rotate(double)}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * 
+	 * @param angle an angle in degrees
+	 * @return this {@code AsyncImage} instance
+	 */
+	public AsyncImage rotate(final double angle) {
+		return apply(image -> image.rotate(angle));
+	}
+	
+	/**
+	 * Submits an operation that calls {@link Image#rotate(float)}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * 
+	 * @param angle an angle in degrees
+	 * @return this {@code AsyncImage} instance
+	 */
+	public AsyncImage rotate(final float angle) {
+		return apply(image -> image.rotate(angle));
+	}
+	
+	/**
+	 * Submits an operation that calls {@link Image#scale(int, int)}.
+	 * <p>
+	 * Returns this {@code AsyncImage} instance.
+	 * <p>
+	 * If the new resolution is invalid when the operation runs, its {@code CompletableFuture} will complete with an {@code IllegalArgumentException}.
+	 * 
+	 * @param resolutionX the new resolution along the X-axis
+	 * @param resolutionY the new resolution along the Y-axis
+	 * @return this {@code AsyncImage} instance
+	 */
+	public AsyncImage scale(final int resolutionX, final int resolutionY) {
+		return apply(image -> image.scale(resolutionX, resolutionY));
+	}
+	
+	/**
+	 * Submits an operation that applies {@code function} to the {@link Image} instance.
+	 * <p>
+	 * Returns a {@code CompletableFuture} that completes with the result of {@code function}.
+	 * <p>
+	 * If {@code function} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the {@code Executor} rejects the operation, the returned {@code CompletableFuture} completes with a {@code RejectedExecutionException}.
+	 * 
+	 * @param <T> the type of the result
+	 * @param function a {@code Function} that is applied to the {@code Image} instance
+	 * @return a {@code CompletableFuture} that completes with the result of {@code function}
+	 * @throws NullPointerException thrown if, and only if, {@code function} is {@code null}
+	 */
+	public <T> CompletableFuture<T> submit(final Function<Image, T> function) {
+		Objects.requireNonNull(function, "function == null");
+		
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		final CompletableFuture<Void> completion = new CompletableFuture<>();
+		final CompletableFuture<?> previousCompletion;
+		final CompletableFuture<?> previousFuture;
+		
+		synchronized(this.lock) {
+			previousFuture = this.future;
+			previousCompletion = this.image.enqueue(completion);
+			
+			this.futures.removeIf(currentFuture -> currentFuture.isDone());
+			this.futures.add(future);
+			this.future = future;
+			this.submittedCount++;
+		}
+		
+		previousCompletion.whenComplete((result, throwable) -> doExecute(function, future, previousFuture, completion));
+		
+		return future;
+	}
+	
+	/**
+	 * Returns a {@code CompletableFuture} that completes with the {@link Image} instance when all operations submitted so far using this {@code AsyncImage} instance are done.
+	 * <p>
+	 * If any of those operations failed or was cancelled, the returned {@code CompletableFuture} completes exceptionally.
+	 * 
+	 * @return a {@code CompletableFuture} that completes with the {@code Image} instance when all operations submitted so far using this {@code AsyncImage} instance are done
+	 */
+	public CompletableFuture<Image> toCompletableFuture() {
+		synchronized(this.lock) {
+			final CompletableFuture<?> future = this.future;
+			
+			return future != null ? future.thenApply(result -> this.image) : CompletableFuture.completedFuture(this.image);
+		}
+	}
+	
+	/**
+	 * Returns the {@link Image} instance associated with this {@code AsyncImage} instance.
+	 * 
+	 * @return the {@code Image} instance associated with this {@code AsyncImage} instance
+	 */
+	public Image getImage() {
+		return this.image;
+	}
+	
+	/**
+	 * Cancels all operations submitted using this {@code AsyncImage} instance that are not done.
+	 * <p>
+	 * Returns {@code true} if, and only if, at least one operation was cancelled, {@code false} otherwise.
+	 * <p>
+	 * An operation that has already started is cancelled cooperatively, as described in the class documentation. Operations submitted after this method returns are not affected by the cancelled operations.
+	 * 
+	 * @return {@code true} if, and only if, at least one operation was cancelled, {@code false} otherwise
+	 */
+	public boolean cancel() {
+		synchronized(this.lock) {
+			boolean isCancelled = false;
+			
+			for(final CompletableFuture<?> future : this.futures) {
+				if(future.cancel(false)) {
+					isCancelled = true;
+				}
+			}
+			
+			this.futures.clear();
+			this.future = null;
+			
+			return isCancelled;
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private <T> T doApply(final Function<Image, T> function, final CompletableFuture<T> future) {
+		final CancellationToken cancellationToken = new CancellationToken();
+		final CancellationToken oldCancellationToken = this.image.getCancellationToken().orElse(null);
+		
+		final ProgressListener oldProgressListener = this.image.getProgressListener().orElse(null);
+		
+		future.whenComplete((result, throwable) -> {
+			if(future.isCancelled()) {
+				cancellationToken.cancel();
+			}
+		});
+		
+		this.image.setCancellationToken(cancellationToken);
+		this.image.setProgressListener(progress -> doProgress(progress));
+		
+		try {
+			return function.apply(this.image);
+		} finally {
+			this.image.setCancellationToken(oldCancellationToken);
+			this.image.setProgressListener(oldProgressListener);
+		}
+	}
+	
+	private void doComplete(final CompletableFuture<Void> completion) {
+		final double progress;
+		
+		synchronized(this.lock) {
+			this.completedCount++;
+			
+			progress = (double)(this.completedCount) / (double)(this.submittedCount);
+		}
+		
+		try {
+			this.progressListener.onProgress(progress);
+		} finally {
+			completion.complete(null);
+		}
+	}
+	
+	private void doCompleteAsync(final CompletableFuture<Void> completion) {
+//		An operation that is skipped completes on the Executor. Completing it here would run the next operation inside this one, so a long run of skipped operations would grow the stack with each of them.
+		try {
+			this.executor.execute(() -> doComplete(completion));
+		} catch(final RejectedExecutionException e) {
+			doComplete(completion);
+		}
+	}
+	
+	private <T> void doExecute(final Function<Image, T> function, final CompletableFuture<T> future, final CompletableFuture<?> previousFuture, final CompletableFuture<Void> completion) {
+		if(future.isDone()) {
+			doCompleteAsync(completion);
+		} else if(previousFuture != null && previousFuture.isCompletedExceptionally()) {
+			future.completeExceptionally(doGetCause(previousFuture));
+			
+			doCompleteAsync(completion);
+		} else {
+			try {
+				this.executor.execute(() -> {
+					try {
+						if(!future.isDone()) {
+							future.complete(doApply(function, future));
+						}
+					} catch(final Throwable throwable) {
+						future.completeExceptionally(throwable);
+					} finally {
+						doComplete(completion);
+					}
+				});
+			} catch(final RejectedExecutionException e) {
+				future.completeExceptionally(e);
+				
+				doComplete(completion);
+			}
+		}
+	}
+	
+	private void doProgress(final double progress) {
+		if(progress >= 1.0D) {
+			return;
+		}
+		
+		final double totalProgress;
+		
+		synchronized(this.lock) {
+			totalProgress = (this.completedCount + progress) / this.submittedCount;
+		}
+		
+		this.progressListener.onProgress(totalProgress);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static Throwable doGetCause(final CompletableFuture<?> future) {
+		try {
+			future.join();
+			
+			return new IllegalStateException();
+		} catch(final CancellationException e) {
+			return e;
+		} catch(final CompletionException e) {
+			return e.getCause() != null ? e.getCause() : e;
+		}
+	}
+}
\ No newline at end of file
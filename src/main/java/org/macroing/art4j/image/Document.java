@@ -0,0 +1,514 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import org.macroing.art4j.color.Color4I;
+import org.macroing.art4j.data.Data;
+import org.macroing.art4j.data.DataFactory;
+import org.macroing.art4j.pixel.CompositeOperator;
+import org.macroing.geo4j.common.Point2I;
+import org.macroing.geo4j.shape.rectangle.Rectangle2I;
+import org.macroing.java.lang.Ints;
+
+/**
+ * A {@code Document} is a stack of {@link Layer} instances that are composited into a single {@link Image}.
+ * <p>
+ * The layers are composited from the bottom to the top. The {@code Layer} at index {@code 0} is the bottom {@code Layer}. Each {@code Layer} is composited with the result of the layers below it using its {@link CompositeOperator}, and the result is blended with the result of the layers below it using its opacity. Pixels outside the bounds of a {@code Layer} are not affected by it.
+ * <p>
+ * The composite is cached. It is divided into square tiles, and only the tiles that are affected by a change are composited again when {@link #update()} or {@link #getComposite()} is called. A tile is affected if it intersects the bounds of a {@code Layer} that has been added, removed, moved or changed, or the dirty regions of the {@link Data} instance of a {@code Layer}. The tiles are composited in parallel using premultiplied alpha and integer arithmetic only.
+ * <p>
+ * This class is mutable and not thread-safe.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class Document {
+	/**
+	 * The default size of a tile.
+	 */
+	public static final int DEFAULT_TILE_SIZE = 64;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final Image image;
+	private final List<Layer> layers;
+	private final boolean[] tiles;
+	private final int resolutionX;
+	private final int resolutionY;
+	private final int tileCountX;
+	private final int tileCountY;
+	private final int tileSize;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code Document} instance.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1} or {@code resolutionX * resolutionY} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new Document(resolutionX, resolutionY, Document.DEFAULT_TILE_SIZE);
+	 * }
+	 * </pre>
+	 * 
+	 * @param resolutionX the resolution along the X-axis
+	 * @param resolutionY the resolution along the Y-axis
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resolutionX} or {@code resolutionY} are less than {@code 1} or {@code resolutionX * resolutionY} overflows
+	 */
+	public Document(final int resolutionX, final int resolutionY) {
+		this(resolutionX, resolutionY, DEFAULT_TILE_SIZE);
+	}
+	
+	/**
+	 * Constructs a new {@code Document} instance.
+	 * <p>
+	 * If either {@code resolutionX}, {@code resolutionY} or {@code tileSize} are less than {@code 1} or {@code resolutionX * resolutionY} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param resolutionX the resolution along the X-axis
+	 * @param resolutionY the resolution along the Y-axis
+	 * @param tileSize the size of a tile
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resolutionX}, {@code resolutionY} or {@code tileSize} are less than {@code 1} or {@code resolutionX * resolutionY} overflows
+	 */
+	public Document(final int resolutionX, final int resolutionY, final int tileSize) {
+		Ints.requireRangeMultiplyExact(resolutionX, resolutionY, 1, Integer.MAX_VALUE, "resolutionX", "resolutionY");
+		Ints.requireRange(tileSize, 1, Integer.MAX_VALUE, "tileSize");
+		
+		this.resolutionX = resolutionX;
+		this.resolutionY = resolutionY;
+		this.tileSize = tileSize;
+		this.tileCountX = (resolutionX - 1) / tileSize + 1;
+		this.tileCountY = (resolutionY - 1) / tileSize + 1;
+		this.tiles = new boolean[this.tileCountX * this.tileCountY];
+		this.layers = new ArrayList<>();
+		this.image = new Image(resolutionX, resolutionY, 0, DataFactory.forPackedIntARGB());
+		
+		Arrays.fill(this.tiles, true);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns an {@link Image} instance with the composite of this {@code Document} instance.
+	 * <p>
+	 * This method calls {@link #update()} before it returns.
+	 * <p>
+	 * The returned {@code Image} instance is cached and owned by this {@code Document} instance. It should not be modified, because the modified pixels will be overwritten the next time the tiles they belong to are composited. The dirty regions of its {@link Data} instance contain the pixels that have been changed by this {@code Document} instance, so they can be used to repaint only the changed pixels.
+	 * 
+	 * @return an {@code Image} instance with the composite of this {@code Document} instance
+	 */
+	public Image getComposite() {
+		update();
+		
+		return this.image;
+	}
+	
+	/**
+	 * Adds a new {@link Layer} instance for {@code image} to the top of this {@code Document} instance.
+	 * <p>
+	 * Returns the {@code Layer} instance that was added.
+	 * <p>
+	 * If {@code image} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param image the {@link Image} instance to add a {@code Layer} instance for
+	 * @return the {@code Layer} instance that was added
+	 * @throws NullPointerException thrown if, and only if, {@code image} is {@code null}
+	 */
+	public Layer addLayer(final Image image) {
+		final Layer layer = new Layer(image);
+		
+		addLayer(layer);
+		
+		return layer;
+	}
+	
+	/**
+	 * Returns a {@code List} with all {@link Layer} instances that have been added to this {@code Document} instance, ordered from the bottom to the top.
+	 * <p>
+	 * Modifying the returned {@code List} will not affect this {@code Document} instance.
+	 * 
+	 * @return a {@code List} with all {@code Layer} instances that have been added to this {@code Document} instance, ordered from the bottom to the top
+	 */
+	public List<Layer> getLayers() {
+		return new ArrayList<>(this.layers);
+	}
+	
+	/**
+	 * Adds {@code layer} to the top of this {@code Document} instance.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code layer} was added, {@code false} otherwise.
+	 * <p>
+	 * If {@code layer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code layer} has already been added to another {@code Document} instance, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param layer the {@link Layer} instance to add
+	 * @return {@code true} if, and only if, {@code layer} was added, {@code false} otherwise
+	 * @throws IllegalArgumentException thrown if, and only if, {@code layer} has already been added to another {@code Document} instance
+	 * @throws NullPointerException thrown if, and only if, {@code layer} is {@code null}
+	 */
+	public boolean addLayer(final Layer layer) {
+		return addLayer(this.layers.size(), layer);
+	}
+	
+	/**
+	 * Adds {@code layer} to this {@code Document} instance at index {@code index}.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code layer} was added, {@code false} otherwise.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than {@code document.getLayers().size()}, or {@code layer} has already been added to another {@code Document} instance, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code layer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param index the index to add {@code layer} at
+	 * @param layer the {@link Layer} instance to add
+	 * @return {@code true} if, and only if, {@code layer} was added, {@code false} otherwise
+	 * @throws IllegalArgumentException thrown if, and only if, {@code index} is less than {@code 0} or greater than {@code document.getLayers().size()}, or {@code layer} has already been added to another {@code Document} instance
+	 * @throws NullPointerException thrown if, and only if, {@code layer} is {@code null}
+	 */
+	public boolean addLayer(final int index, final Layer layer) {
+		Ints.requireRange(index, 0, this.layers.size(), "index");
+		
+		Objects.requireNonNull(layer, "layer == null");
+		
+		if(!layer.attach(this)) {
+			return false;
+		}
+		
+		this.layers.add(index, layer);
+		
+		return true;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the composite of this {@code Document} instance has to be updated, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, the composite of this {@code Document} instance has to be updated, {@code false} otherwise
+	 */
+	public boolean isDirty() {
+		doPollLayers();
+		
+		for(final boolean tile : this.tiles) {
+			if(tile) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Moves {@code layer} to index {@code index} in this {@code Document} instance.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code layer} was moved, {@code false} otherwise.
+	 * <p>
+	 * If {@code layer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code index} is less than {@code 0} or greater than or equal to {@code document.getLayers().size()}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param layer the {@link Layer} instance to move
+	 * @param index the index to move {@code layer} to
+	 * @return {@code true} if, and only if, {@code layer} was moved, {@code false} otherwise
+	 * @throws IllegalArgumentException thrown if, and only if, {@code index} is less than {@code 0} or greater than or equal to {@code document.getLayers().size()}
+	 * @throws NullPointerException thrown if, and only if, {@code layer} is {@code null}
+	 */
+	public boolean moveLayer(final Layer layer, final int index) {
+		Objects.requireNonNull(layer, "layer == null");
+		
+		Ints.requireRange(index, 0, this.layers.size() - 1, "index");
+		
+		final int oldIndex = this.layers.indexOf(layer);
+		
+		if(oldIndex == -1 || oldIndex == index) {
+			return false;
+		}
+		
+		this.layers.remove(oldIndex);
+		this.layers.add(index, layer);
+		
+		return layer.invalidate();
+	}
+	
+	/**
+	 * Removes {@code layer} from this {@code Document} instance.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code layer} was removed, {@code false} otherwise.
+	 * <p>
+	 * If {@code layer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param layer the {@link Layer} instance to remove
+	 * @return {@code true} if, and only if, {@code layer} was removed, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code layer} is {@code null}
+	 */
+	public boolean removeLayer(final Layer layer) {
+		Objects.requireNonNull(layer, "layer == null");
+		
+		if(!this.layers.remove(layer)) {
+			return false;
+		}
+		
+		final Rectangle2I bounds = layer.detach();
+		
+		if(bounds != null) {
+			doInvalidate(bounds);
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Returns the resolution along the X-axis.
+	 * 
+	 * @return the resolution along the X-axis
+	 */
+	public int getResolutionX() {
+		return this.resolutionX;
+	}
+	
+	/**
+	 * Returns the resolution along the Y-axis.
+	 * 
+	 * @return the resolution along the Y-axis
+	 */
+	public int getResolutionY() {
+		return this.resolutionY;
+	}
+	
+	/**
+	 * Returns the size of a tile.
+	 * 
+	 * @return the size of a tile
+	 */
+	public int getTileSize() {
+		return this.tileSize;
+	}
+	
+	/**
+	 * Updates the composite of this {@code Document} instance.
+	 * <p>
+	 * Returns the number of tiles that were composited.
+	 * <p>
+	 * The tiles that are affected by a change since the last update are composited in parallel and written to the cached {@link Image} instance, one region per tile. The other tiles are left as is.
+	 * 
+	 * @return the number of tiles that were composited
+	 */
+	public int update() {
+		doPollLayers();
+		
+		final int[] tileIndices = IntStream.range(0, this.tiles.length).filter(tileIndex -> this.tiles[tileIndex]).toArray();
+		
+		if(tileIndices.length == 0) {
+			return 0;
+		}
+		
+		final List<Source> sources = doCreateSources();
+		
+		final int[][] tileColors = new int[tileIndices.length][];
+		
+		IntStream.range(0, tileIndices.length).parallel().forEach(i -> tileColors[i] = doComposite(sources, tileIndices[i]));
+		
+		final Data data = this.image.getData();
+		
+		final boolean isPremultiplied = data.isPremultiplied();
+		
+		for(int i = 0; i < tileIndices.length; i++) {
+			final int tileIndex = tileIndices[i];
+			
+			final int minimumX = tileIndex % this.tileCountX * this.tileSize;
+			final int minimumY = tileIndex / this.tileCountX * this.tileSize;
+			final int maximumX = Ints.min(minimumX + this.tileSize, this.resolutionX) - 1;
+			final int maximumY = Ints.min(minimumY + this.tileSize, this.resolutionY) - 1;
+			
+			final int[] colors = tileColors[i];
+			
+			if(!isPremultiplied) {
+				for(int index = 0; index < colors.length; index++) {
+					colors[index] = Color4I.unpremultiplyARGB(colors[index]);
+				}
+			}
+			
+			data.copyRegionFrom(colors, new Rectangle2I(new Point2I(minimumX, minimumY), new Point2I(maximumX, maximumY)));
+			
+			this.tiles[tileIndex] = false;
+		}
+		
+		return tileIndices.length;
+	}
+	
+	/**
+	 * Marks all tiles of this {@code Document} instance as affected, so they will be composited the next time {@link #update()} is called.
+	 */
+	public void invalidate() {
+		Arrays.fill(this.tiles, true);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private List<Source> doCreateSources() {
+		final List<Source> sources = new ArrayList<>(this.layers.size());
+		
+		for(final Layer layer : this.layers) {
+			final int alpha = (int)(Math.round(layer.getOpacity() * 255.0D));
+			
+			if(layer.isVisible() && alpha > 0) {
+				sources.add(new Source(layer, alpha));
+			}
+		}
+		
+		return sources;
+	}
+	
+	private int[] doComposite(final List<Source> sources, final int tileIndex) {
+		final int minimumX = tileIndex % this.tileCountX * this.tileSize;
+		final int minimumY = tileIndex / this.tileCountX * this.tileSize;
+		final int maximumX = Ints.min(minimumX + this.tileSize, this.resolutionX) - 1;
+		final int maximumY = Ints.min(minimumY + this.tileSize, this.resolutionY) - 1;
+		
+		final int resolutionX = maximumX - minimumX + 1;
+		final int resolutionY = maximumY - minimumY + 1;
+		
+		final int[] colors = new int[resolutionX * resolutionY];
+		
+		for(final Source source : sources) {
+			final int sourceMinimumX = Ints.max(minimumX, source.getMinimumX());
+			final int sourceMinimumY = Ints.max(minimumY, source.getMinimumY());
+			final int sourceMaximumX = Ints.min(maximumX, source.getMaximumX());
+			final int sourceMaximumY = Ints.min(maximumY, source.getMaximumY());
+			
+			for(int y = sourceMinimumY; y <= sourceMaximumY; y++) {
+				for(int x = sourceMinimumX; x <= sourceMaximumX; x++) {
+					final int index = (y - minimumY) * resolutionX + (x - minimumX);
+					
+					colors[index] = source.composite(colors[index], x, y);
+				}
+			}
+		}
+		
+		return colors;
+	}
+	
+	private void doInvalidate(final Rectangle2I bounds) {
+		final int minimumX = Ints.max(Ints.min(bounds.min().x, bounds.max().x), 0);
+		final int minimumY = Ints.max(Ints.min(bounds.min().y, bounds.max().y), 0);
+		final int maximumX = Ints.min(Ints.max(bounds.min().x, bounds.max().x), this.resolutionX - 1);
+		final int maximumY = Ints.min(Ints.max(bounds.min().y, bounds.max().y), this.resolutionY - 1);
+		
+		if(minimumX > maximumX || minimumY > maximumY) {
+			return;
+		}
+		
+		for(int tileY = minimumY / this.tileSize; tileY <= maximumY / this.tileSize; tileY++) {
+			for(int tileX = minimumX / this.tileSize; tileX <= maximumX / this.tileSize; tileX++) {
+				this.tiles[tileY * this.tileCountX + tileX] = true;
+			}
+		}
+	}
+	
+	private void doPollLayers() {
+		for(final Layer layer : this.layers) {
+			for(final Rectangle2I dirtyRegion : layer.pollDirtyRegions()) {
+				doInvalidate(dirtyRegion);
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Source {
+		private final CompositeOperator compositeOperator;
+		private final Data data;
+		private final boolean isPremultiplied;
+		private final int alpha;
+		private final int maximumX;
+		private final int maximumY;
+		private final int minimumX;
+		private final int minimumY;
+		private final int resolutionX;
+		private final int[] colors;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Source(final Layer layer, final int alpha) {
+			final Point2I position = layer.getPosition();
+			
+			this.compositeOperator = layer.getCompositeOperator();
+			this.data = layer.getImage().getData();
+			this.isPremultiplied = this.data.isPremultiplied();
+			this.alpha = alpha;
+			this.resolutionX = this.data.getResolutionX();
+			this.minimumX = position.x;
+			this.minimumY = position.y;
+			this.maximumX = position.x + this.resolutionX - 1;
+			this.maximumY = position.y + this.data.getResolutionY() - 1;
+			this.colors = this.data.getBufferedImageView().map(bufferedImage -> DataBufferInt.class.cast(bufferedImage.getRaster().getDataBuffer()).getData()).orElse(null);
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public int composite(final int colorARGBTarget, final int x, final int y) {
+			final int sourceX = x - this.minimumX;
+			final int sourceY = y - this.minimumY;
+			
+			final int colorARGB = this.colors != null ? this.colors[sourceY * this.resolutionX + sourceX] : this.data.getColorARGB(sourceX, sourceY);
+			final int colorARGBSource = this.isPremultiplied ? colorARGB : Color4I.premultiplyARGB(colorARGB);
+			final int colorARGBResult = this.compositeOperator.applyARGB(colorARGBSource, colorARGBTarget);
+			
+			return this.alpha == 0xFF ? colorARGBResult : doBlend(colorARGBTarget, colorARGBResult, this.alpha);
+		}
+		
+		public int getMaximumX() {
+			return this.maximumX;
+		}
+		
+		public int getMaximumY() {
+			return this.maximumY;
+		}
+		
+		public int getMinimumX() {
+			return this.minimumX;
+		}
+		
+		public int getMinimumY() {
+			return this.minimumY;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private static int doBlend(final int colorARGBLHS, final int colorARGBRHS, final int alpha) {
+			final int a = doBlendComponent(colorARGBLHS >>> 24       , colorARGBRHS >>> 24       , alpha);
+			final int r = doBlendComponent(colorARGBLHS >>> 16 & 0xFF, colorARGBRHS >>> 16 & 0xFF, alpha);
+			final int g = doBlendComponent(colorARGBLHS >>>  8 & 0xFF, colorARGBRHS >>>  8 & 0xFF, alpha);
+			final int b = doBlendComponent(colorARGBLHS        & 0xFF, colorARGBRHS        & 0xFF, alpha);
+			
+			return a << 24 | r << 16 | g << 8 | b;
+		}
+		
+		private static int doBlendComponent(final int componentLHS, final int componentRHS, final int alpha) {
+			return componentLHS + ((componentRHS - componentLHS) * alpha + (componentRHS >= componentLHS ? 0x7F : -0x7F)) / 0xFF;
+		}
+	}
+}
\ No newline at end of file
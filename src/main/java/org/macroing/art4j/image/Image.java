@@ -24,9 +24,16 @@ import java.io.File;
 import java.io.UncheckedIOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import org.macroing.art4j.color.ArrayComponentOrder;
 import org.macroing.art4j.color.Color3D;
@@ -38,8 +45,13 @@ import org.macroing.art4j.color.Color4I;
 import org.macroing.art4j.color.ColorSpaceD;
 import org.macroing.art4j.color.ColorSpaceF;
 import org.macroing.art4j.color.PackedIntComponentOrder;
+import org.macroing.art4j.data.CancellationToken;
+import org.macroing.art4j.data.ChangeHistory;
 import org.macroing.art4j.data.Data;
 import org.macroing.art4j.data.DataFactory;
+import org.macroing.art4j.data.ProgressListener;
+import org.macroing.art4j.data.ProgressMonitor;
+import org.macroing.art4j.filter.BoxFilter2D;
 import org.macroing.art4j.filter.Filter2D;
 import org.macroing.art4j.filter.Filter2F;
 import org.macroing.art4j.kernel.ConvolutionKernelND;
@@ -50,6 +62,7 @@ import org.macroing.art4j.pixel.Color4DPixelOperator;
 import org.macroing.art4j.pixel.Color4FBiPixelOperator;
 import org.macroing.art4j.pixel.Color4FPixelFilter;
 import org.macroing.art4j.pixel.Color4FPixelOperator;
+import org.macroing.art4j.pixel.CompositeOperator;
 import org.macroing.art4j.pixel.PackedIntARGBPixelFilter;
 import org.macroing.art4j.pixel.PackedIntARGBPixelOperator;
 import org.macroing.art4j.pixel.PixelTransformer;
@@ -61,6 +74,7 @@ import org.macroing.java.lang.Doubles;
 import org.macroing.java.lang.Floats;
 import org.macroing.java.lang.Ints;
 import org.macroing.java.util.Arrays;
+import org.macroing.java.util.Lists;
 
 /**
  * An {@code Image} represents an image that can be drawn to and saved to disk.
@@ -73,7 +87,23 @@ import org.macroing.java.util.Arrays;
  * @author J&#246;rgen Lundgren
  */
 public final class Image {
+	private static final Filter2D MIPMAP_FILTER = new BoxFilter2D();
+	private static final ImageMetrics[] IMAGE_METRICS_EMPTY = new ImageMetrics[0];
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static volatile ImageMetrics[] globalImageMetrics = IMAGE_METRICS_EMPTY;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
 	private final Data data;
+	private CompletableFuture<Void> asyncCompletion;
+	private ImageMetrics[] imageMetrics;
+	private MipmapPyramid mipmapPyramid;
+	private int operationDepth;
+	private long operationCommittedSizeInBytes;
+	private long operationPixelModificationCount;
+	private long operationStartTime;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
@@ -121,6 +151,13 @@ public final class Image {
 	 */
 	public Image(final BufferedImage bufferedImage, final DataFactory dataFactory) {
 		this.data = dataFactory.create(bufferedImage);
+		this.asyncCompletion = null;
+		this.imageMetrics = IMAGE_METRICS_EMPTY;
+		this.mipmapPyramid = null;
+		this.operationDepth = 0;
+		this.operationCommittedSizeInBytes = 0L;
+		this.operationPixelModificationCount = 0L;
+		this.operationStartTime = 0L;
 	}
 	
 	/**
@@ -133,6 +170,13 @@ public final class Image {
 	 */
 	public Image(final Data data) {
 		this.data = data.copy();
+		this.asyncCompletion = null;
+		this.imageMetrics = IMAGE_METRICS_EMPTY;
+		this.mipmapPyramid = null;
+		this.operationDepth = 0;
+		this.operationCommittedSizeInBytes = 0L;
+		this.operationPixelModificationCount = 0L;
+		this.operationStartTime = 0L;
 	}
 	
 	/**
@@ -146,6 +190,13 @@ public final class Image {
 	 */
 	public Image(final Data data, final boolean isIgnoringChangeHistory) {
 		this.data = data.copy(isIgnoringChangeHistory);
+		this.asyncCompletion = null;
+		this.imageMetrics = IMAGE_METRICS_EMPTY;
+		this.mipmapPyramid = null;
+		this.operationDepth = 0;
+		this.operationCommittedSizeInBytes = 0L;
+		this.operationPixelModificationCount = 0L;
+		this.operationStartTime = 0L;
 	}
 	
 	/**
@@ -184,6 +235,13 @@ public final class Image {
 	 */
 	public Image(final File file, final DataFactory dataFactory) {
 		this.data = dataFactory.create(file);
+		this.asyncCompletion = null;
+		this.imageMetrics = IMAGE_METRICS_EMPTY;
+		this.mipmapPyramid = null;
+		this.operationDepth = 0;
+		this.operationCommittedSizeInBytes = 0L;
+		this.operationPixelModificationCount = 0L;
+		this.operationStartTime = 0L;
 	}
 	
 	/**
@@ -234,6 +292,13 @@ public final class Image {
 	 */
 	public Image(final String pathname, final DataFactory dataFactory) {
 		this.data = dataFactory.create(pathname);
+		this.asyncCompletion = null;
+		this.imageMetrics = IMAGE_METRICS_EMPTY;
+		this.mipmapPyramid = null;
+		this.operationDepth = 0;
+		this.operationCommittedSizeInBytes = 0L;
+		this.operationPixelModificationCount = 0L;
+		this.operationStartTime = 0L;
 	}
 	
 	/**
@@ -272,6 +337,13 @@ public final class Image {
 	 */
 	public Image(final URL uRL, final DataFactory dataFactory) {
 		this.data = dataFactory.create(uRL);
+		this.asyncCompletion = null;
+		this.imageMetrics = IMAGE_METRICS_EMPTY;
+		this.mipmapPyramid = null;
+		this.operationDepth = 0;
+		this.operationCommittedSizeInBytes = 0L;
+		this.operationPixelModificationCount = 0L;
+		this.operationStartTime = 0L;
 	}
 	
 	/**
@@ -334,6 +406,13 @@ public final class Image {
 	 */
 	public Image(final int resolutionX, final int resolutionY, final Color4D color, final DataFactory dataFactory) {
 		this.data = dataFactory.create(resolutionX, resolutionY, color);
+		this.asyncCompletion = null;
+		this.imageMetrics = IMAGE_METRICS_EMPTY;
+		this.mipmapPyramid = null;
+		this.operationDepth = 0;
+		this.operationCommittedSizeInBytes = 0L;
+		this.operationPixelModificationCount = 0L;
+		this.operationStartTime = 0L;
 	}
 	
 	/**
@@ -376,6 +455,13 @@ public final class Image {
 	 */
 	public Image(final int resolutionX, final int resolutionY, final Color4F color, final DataFactory dataFactory) {
 		this.data = dataFactory.create(resolutionX, resolutionY, color);
+		this.asyncCompletion = null;
+		this.imageMetrics = IMAGE_METRICS_EMPTY;
+		this.mipmapPyramid = null;
+		this.operationDepth = 0;
+		this.operationCommittedSizeInBytes = 0L;
+		this.operationPixelModificationCount = 0L;
+		this.operationStartTime = 0L;
 	}
 	
 	/**
@@ -393,6 +479,13 @@ public final class Image {
 	 */
 	public Image(final int resolutionX, final int resolutionY, final DataFactory dataFactory) {
 		this.data = dataFactory.create(resolutionX, resolutionY);
+		this.asyncCompletion = null;
+		this.imageMetrics = IMAGE_METRICS_EMPTY;
+		this.mipmapPyramid = null;
+		this.operationDepth = 0;
+		this.operationCommittedSizeInBytes = 0L;
+		this.operationPixelModificationCount = 0L;
+		this.operationStartTime = 0L;
 	}
 	
 	/**
@@ -432,10 +525,71 @@ public final class Image {
 	 */
 	public Image(final int resolutionX, final int resolutionY, final int color, final DataFactory dataFactory) {
 		this.data = dataFactory.create(resolutionX, resolutionY, color);
+		this.asyncCompletion = null;
+		this.imageMetrics = IMAGE_METRICS_EMPTY;
+		this.mipmapPyramid = null;
+		this.operationDepth = 0;
+		this.operationCommittedSizeInBytes = 0L;
+		this.operationPixelModificationCount = 0L;
+		this.operationStartTime = 0L;
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	/**
+	 * Returns an {@link AsyncImage} instance that performs operations on this {@code Image} instance asynchronously using the common {@code ForkJoinPool}.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.async(ForkJoinPool.commonPool());
+	 * }
+	 * </pre>
+	 * 
+	 * @return an {@code AsyncImage} instance that performs operations on this {@code Image} instance asynchronously using the common {@code ForkJoinPool}
+	 */
+	public AsyncImage async() {
+		return async(ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Returns an {@link AsyncImage} instance that performs operations on this {@code Image} instance asynchronously using {@code executor}.
+	 * <p>
+	 * If {@code executor} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.async(executor, progress -> {});
+	 * }
+	 * </pre>
+	 * 
+	 * @param executor the {@code Executor} that runs the operations
+	 * @return an {@code AsyncImage} instance that performs operations on this {@code Image} instance asynchronously using {@code executor}
+	 * @throws NullPointerException thrown if, and only if, {@code executor} is {@code null}
+	 */
+	public AsyncImage async(final Executor executor) {
+		return async(executor, progress -> {});
+	}
+	
+	/**
+	 * Returns an {@link AsyncImage} instance that performs operations on this {@code Image} instance asynchronously using {@code executor}.
+	 * <p>
+	 * If either {@code executor} or {@code progressListener} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The {@link ProgressListener} {@code progressListener} is notified every time an operation submitted using the returned {@code AsyncImage} instance is done. The progress is the number of operations that are done divided by the number of operations that have been submitted.
+	 * <p>
+	 * All operations on this {@code Image} instance are serialized, even if they are submitted using different {@code AsyncImage} instances.
+	 * 
+	 * @param executor the {@code Executor} that runs the operations
+	 * @param progressListener the {@code ProgressListener} that is notified about the progress
+	 * @return an {@code AsyncImage} instance that performs operations on this {@code Image} instance asynchronously using {@code executor}
+	 * @throws NullPointerException thrown if, and only if, either {@code executor} or {@code progressListener} are {@code null}
+	 */
+	public AsyncImage async(final Executor executor, final ProgressListener progressListener) {
+		return new AsyncImage(this, executor, progressListener);
+	}
+	
 	/**
 	 * Returns a {@code BufferedImage} representation of this {@code Image} instance.
 	 * <p>
@@ -462,6 +616,76 @@ public final class Image {
 		return this.data.toBufferedImage(isRGB);
 	}
 	
+	/**
+	 * Returns a {@code BufferedImage} representation of this {@code Image} instance, by updating the dirty regions of {@code bufferedImage} if possible.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.getData().toBufferedImage(bufferedImage, isRGB);
+	 * }
+	 * </pre>
+	 * <p>
+	 * This method is intended for image viewers that convert this {@code Image} instance after every edit. Only the pixels that have changed since the previous call are copied to {@code bufferedImage}. See {@link Data#toBufferedImage(BufferedImage, boolean)} for the details.
+	 * 
+	 * @param bufferedImage a {@code BufferedImage} previously returned by this method, or {@code null}
+	 * @param isRGB {@code true} if, and only if, {@code BufferedImage.TYPE_INT_RGB} should be used instead of {@code BufferedImage.TYPE_INT_ARGB}, {@code false} otherwise
+	 * @return a {@code BufferedImage} representation of this {@code Image} instance
+	 */
+	public BufferedImage toBufferedImage(final BufferedImage bufferedImage, final boolean isRGB) {
+		return this.data.toBufferedImage(bufferedImage, isRGB);
+	}
+	
+	/**
+	 * Returns an optional {@code BufferedImage} that shares its pixels with this {@code Image} instance.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.getData().getBufferedImageView();
+	 * }
+	 * </pre>
+	 * <p>
+	 * An {@code Image} instance that is created with {@code DataFactory.forPackedIntARGB()} supports views. Displaying the view does not require any pixels to be copied. See {@link Data#getBufferedImageView()} for the details.
+	 * 
+	 * @return an optional {@code BufferedImage} that shares its pixels with this {@code Image} instance
+	 */
+	public Optional<BufferedImage> getBufferedImageView() {
+		return this.data.getBufferedImageView();
+	}
+	
+	/**
+	 * Returns an optional {@link CancellationToken} instance that is checked by the long-running operations of this {@code Image} instance.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.getData().getCancellationToken();
+	 * }
+	 * </pre>
+	 * 
+	 * @return an optional {@code CancellationToken} instance that is checked by the long-running operations of this {@code Image} instance
+	 */
+	public Optional<CancellationToken> getCancellationToken() {
+		return this.data.getCancellationToken();
+	}
+	
+	/**
+	 * Returns an optional {@link ProgressListener} instance that is notified by the long-running operations of this {@code Image} instance.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.getData().getProgressListener();
+	 * }
+	 * </pre>
+	 * 
+	 * @return an optional {@code ProgressListener} instance that is notified by the long-running operations of this {@code Image} instance
+	 */
+	public Optional<ProgressListener> getProgressListener() {
+		return this.data.getProgressListener();
+	}
+	
 	/**
 	 * Returns the {@link Color3D} at {@code point} in this {@code Image} instance.
 	 * <p>
@@ -1086,6 +1310,24 @@ public final class Image {
 		return this.data.getColor4D(x, y, pixelTransformer);
 	}
 	
+	/**
+	 * Returns the {@link Color4D} at {@code x} and {@code y} in this {@code Image} instance, sampled from its mipmap pyramid.
+	 * <p>
+	 * The parameter {@code footprint} is the number of pixels in this {@code Image} instance that the sample covers along each axis. A {@code footprint} of {@code 1.0D} or less samples this {@code Image} instance directly, a {@code footprint} of {@code 2.0D} samples the first reduced level and so on. Footprints between two levels are interpolated linearly between them.
+	 * <p>
+	 * The mipmap pyramid is built lazily, one level at a time, using 2x reductions with a {@link BoxFilter2D}. It is cached and rebuilt after this {@code Image} instance has been changed.
+	 * <p>
+	 * The coordinates {@code x} and {@code y} are given in the coordinate system of this {@code Image} instance and are clamped to its bounds. Bilinear interpolation is performed within each level.
+	 * 
+	 * @param x the X-component of the pixel
+	 * @param y the Y-component of the pixel
+	 * @param footprint the number of pixels covered by the sample along each axis
+	 * @return the {@code Color4D} at {@code x} and {@code y} in this {@code Image} instance, sampled from its mipmap pyramid
+	 */
+	public Color4D getColor4DMipmapped(final double x, final double y, final double footprint) {
+		return doGetMipmapPyramid(MIPMAP_FILTER).getColor4D(x, y, footprint);
+	}
+	
 	/**
 	 * Returns the {@link Color4F} at {@code point} in this {@code Image} instance.
 	 * <p>
@@ -1407,6 +1649,86 @@ public final class Image {
 		return this.data;
 	}
 	
+	/**
+	 * Composites {@code sourceImage} onto this {@code Image} instance using {@code compositeOperator}.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If either {@code compositeOperator} or {@code sourceImage} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.composite(compositeOperator, sourceImage, sourceImage.getBounds(), new Point2I());
+	 * }
+	 * </pre>
+	 * 
+	 * @param compositeOperator the {@link CompositeOperator} instance to use
+	 * @param sourceImage the {@code Image} to composite
+	 * @return this {@code Image} instance
+	 * @throws NullPointerException thrown if, and only if, either {@code compositeOperator} or {@code sourceImage} are {@code null}
+	 */
+	public Image composite(final CompositeOperator compositeOperator, final Image sourceImage) {
+		return composite(compositeOperator, sourceImage, sourceImage.getBounds(), new Point2I());
+	}
+	
+	/**
+	 * Composites {@code sourceImage} onto this {@code Image} instance at {@code targetPosition} using {@code compositeOperator}.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If either {@code compositeOperator}, {@code sourceImage} or {@code targetPosition} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.composite(compositeOperator, sourceImage, sourceImage.getBounds(), targetPosition);
+	 * }
+	 * </pre>
+	 * 
+	 * @param compositeOperator the {@link CompositeOperator} instance to use
+	 * @param sourceImage the {@code Image} to composite
+	 * @param targetPosition a {@link Point2I} that represents the position in this {@code Image} instance to composite {@code sourceImage} to
+	 * @return this {@code Image} instance
+	 * @throws NullPointerException thrown if, and only if, either {@code compositeOperator}, {@code sourceImage} or {@code targetPosition} are {@code null}
+	 */
+	public Image composite(final CompositeOperator compositeOperator, final Image sourceImage, final Point2I targetPosition) {
+		return composite(compositeOperator, sourceImage, sourceImage.getBounds(), targetPosition);
+	}
+	
+	/**
+	 * Composites the region {@code sourceBounds} of {@code sourceImage} onto this {@code Image} instance at {@code targetPosition} using {@code compositeOperator}.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If either {@code compositeOperator}, {@code sourceImage}, {@code sourceBounds} or {@code targetPosition} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The rows are composited in parallel. This is fastest if both images store colors with premultiplied alpha. See {@link #setPremultiplied(boolean)}.
+	 * 
+	 * @param compositeOperator the {@link CompositeOperator} instance to use
+	 * @param sourceImage the {@code Image} to composite
+	 * @param sourceBounds a {@link Rectangle2I} that represents the bounds of the region in {@code sourceImage} to use
+	 * @param targetPosition a {@link Point2I} that represents the position in this {@code Image} instance to composite the region to
+	 * @return this {@code Image} instance
+	 * @throws NullPointerException thrown if, and only if, either {@code compositeOperator}, {@code sourceImage}, {@code sourceBounds} or {@code targetPosition} are {@code null}
+	 */
+	public Image composite(final CompositeOperator compositeOperator, final Image sourceImage, final Rectangle2I sourceBounds, final Point2I targetPosition) {
+		final int operationDepth = doBeginOperation();
+		
+		try {
+			Objects.requireNonNull(compositeOperator, "compositeOperator == null");
+			Objects.requireNonNull(sourceImage, "sourceImage == null");
+			Objects.requireNonNull(sourceBounds, "sourceBounds == null");
+			Objects.requireNonNull(targetPosition, "targetPosition == null");
+			
+			this.data.composite(sourceImage.data, compositeOperator, sourceBounds, targetPosition);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "composite");
+		}
+	}
+	
 	/**
 	 * Applies {@code convolutionKernel} to all pixels in this {@code Image} instance.
 	 * <p>
@@ -1442,14 +1764,20 @@ public final class Image {
 	 * @throws NullPointerException thrown if, and only if, either {@code convolutionKernel} or {@code pixelFilter} are {@code null}
 	 */
 	public Image convolve(final ConvolutionKernelND convolutionKernel, final Color4DPixelFilter pixelFilter) {
-		Objects.requireNonNull(convolutionKernel, "convolutionKernel == null");
-		Objects.requireNonNull(pixelFilter, "pixelFilter == null");
+		final int operationDepth = doBeginOperation();
 		
-		final int[] indices = doFilterD(pixelFilter);
-		
-		this.data.convolve(convolutionKernel, indices);
-		
-		return this;
+		try {
+			Objects.requireNonNull(convolutionKernel, "convolutionKernel == null");
+			Objects.requireNonNull(pixelFilter, "pixelFilter == null");
+			
+			final int[] indices = doFilterD(pixelFilter);
+			
+			this.data.convolve(convolutionKernel, indices);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "convolve");
+		}
 	}
 	
 	/**
@@ -1487,14 +1815,20 @@ public final class Image {
 	 * @throws NullPointerException thrown if, and only if, either {@code convolutionKernel} or {@code pixelFilter} are {@code null}
 	 */
 	public Image convolve(final ConvolutionKernelNF convolutionKernel, final Color4FPixelFilter pixelFilter) {
-		Objects.requireNonNull(convolutionKernel, "convolutionKernel == null");
-		Objects.requireNonNull(pixelFilter, "pixelFilter == null");
-		
-		final int[] indices = doFilterF(pixelFilter);
+		final int operationDepth = doBeginOperation();
 		
-		this.data.convolve(convolutionKernel, indices);
-		
-		return this;
+		try {
+			Objects.requireNonNull(convolutionKernel, "convolutionKernel == null");
+			Objects.requireNonNull(pixelFilter, "pixelFilter == null");
+			
+			final int[] indices = doFilterF(pixelFilter);
+			
+			this.data.convolve(convolutionKernel, indices);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "convolve");
+		}
 	}
 	
 	/**
@@ -1601,11 +1935,17 @@ public final class Image {
 	 * @throws NullPointerException thrown if, and only if, {@code graphics2DConsumer} is {@code null}
 	 */
 	public Image draw(final Consumer<Graphics2D> graphics2DConsumer) {
-		Objects.requireNonNull(graphics2DConsumer, "graphics2DConsumer == null");
+		final int operationDepth = doBeginOperation();
 		
-		this.data.draw(graphics2DConsumer);
-		
-		return this;
+		try {
+			Objects.requireNonNull(graphics2DConsumer, "graphics2DConsumer == null");
+			
+			this.data.draw(graphics2DConsumer);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "draw");
+		}
 	}
 	
 	/**
@@ -1647,16 +1987,26 @@ public final class Image {
 	 * @throws NullPointerException thrown if, and only if, either {@code shape} or {@code pixelOperator} are {@code null} or {@code pixelOperator} returns {@code null}
 	 */
 	public Image drawShapeD(final Shape2I shape, final Color4DPixelOperator pixelOperator) {
-		Objects.requireNonNull(shape, "shape == null");
-		Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+		final int operationDepth = doBeginOperation();
 		
-		this.data.changeBegin();
-		
-		shape.findPointsOfIntersection(getBounds(), true).forEach(point -> setColor4D(pixelOperator.apply(getColor4D(point), point.x, point.y), point));
-		
-		this.data.changeEnd();
-		
-		return this;
+		try {
+			Objects.requireNonNull(shape, "shape == null");
+			Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+			
+			this.data.changeBegin();
+			
+			ShapeRasterizer.rasterize(shape, true, getResolutionX(), getResolutionY(), (y, minimumX, maximumX) -> {
+				for(int x = minimumX; x <= maximumX; x++) {
+					setColor4D(pixelOperator.apply(getColor4D(x, y), x, y), x, y);
+				}
+			});
+			
+			this.data.changeEnd();
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "drawShapeD");
+		}
 	}
 	
 	/**
@@ -1698,16 +2048,26 @@ public final class Image {
 	 * @throws NullPointerException thrown if, and only if, either {@code shape} or {@code pixelOperator} are {@code null} or {@code pixelOperator} returns {@code null}
 	 */
 	public Image drawShapeF(final Shape2I shape, final Color4FPixelOperator pixelOperator) {
-		Objects.requireNonNull(shape, "shape == null");
-		Objects.requireNonNull(pixelOperator, "pixelOperator == null");
-		
-		this.data.changeBegin();
-		
-		shape.findPointsOfIntersection(getBounds(), true).forEach(point -> setColor4F(pixelOperator.apply(getColor4F(point), point.x, point.y), point));
+		final int operationDepth = doBeginOperation();
 		
-		this.data.changeEnd();
-		
-		return this;
+		try {
+			Objects.requireNonNull(shape, "shape == null");
+			Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+			
+			this.data.changeBegin();
+			
+			ShapeRasterizer.rasterize(shape, true, getResolutionX(), getResolutionY(), (y, minimumX, maximumX) -> {
+				for(int x = minimumX; x <= maximumX; x++) {
+					setColor4F(pixelOperator.apply(getColor4F(x, y), x, y), x, y);
+				}
+			});
+			
+			this.data.changeEnd();
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "drawShapeF");
+		}
 	}
 	
 	/**
@@ -1755,36 +2115,61 @@ public final class Image {
 	 * Returns this {@code Image} instance.
 	 * <p>
 	 * If either {@code pixelOperator} or {@code pixelFilter} are {@code null} or {@code pixelOperator} returns {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the {@link CancellationToken} associated with this {@code Image} instance is cancelled while this operation runs, a {@code CancellationException} will be thrown and this {@code Image} instance is left unchanged.
 	 * 
 	 * @param pixelOperator a {@link Color4DPixelOperator} instance that returns a {@code Color4D} instance for each pixel affected
 	 * @param pixelFilter a {@link Color4DPixelFilter} instance that accepts or rejects pixels
 	 * @return this {@code Image} instance
 	 * @throws NullPointerException thrown if, and only if, either {@code pixelOperator} or {@code pixelFilter} are {@code null} or {@code pixelOperator} returns {@code null}
+	 * @throws CancellationException thrown if, and only if, the {@code CancellationToken} associated with this {@code Image} instance is cancelled while this operation runs
 	 */
 	public Image fillD(final Color4DPixelOperator pixelOperator, final Color4DPixelFilter pixelFilter) {
-		Objects.requireNonNull(pixelOperator, "pixelOperator == null");
-		Objects.requireNonNull(pixelFilter, "pixelFilter == null");
-		
-		final int resolutionX = getResolutionX();
-		final int resolutionY = getResolutionY();
-		
-		this.data.changeBegin();
+		final int operationDepth = doBeginOperation();
 		
-		for(int y = 0; y < resolutionY; y++) {
-			for(int x = 0; x < resolutionX; x++) {
-				final Color4D oldColor = getColor4D(x, y);
+		try {
+			Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+			Objects.requireNonNull(pixelFilter, "pixelFilter == null");
+			
+			final int resolutionX = getResolutionX();
+			final int resolutionY = getResolutionY();
+			
+			final boolean hasChangeBegunNow = !this.data.hasChangeBegun() && this.data.changeBegin();
+			
+			final int changeCount = doGetChangeCount();
+			
+			final double[][] rows = doCreateRows(resolutionY);
+			
+			try {
+				final ProgressMonitor progressMonitor = this.data.createProgressMonitor(resolutionY);
 				
-				if(pixelFilter.isAccepted(oldColor, x, y)) {
-					final Color4D newColor = Objects.requireNonNull(pixelOperator.apply(oldColor, x, y));
+				for(int y = 0; y < resolutionY; y++) {
+					for(int x = 0; x < resolutionX; x++) {
+						final Color4D oldColor = getColor4D(x, y);
+						
+						if(pixelFilter.isAccepted(oldColor, x, y)) {
+							final Color4D newColor = Objects.requireNonNull(pixelOperator.apply(oldColor, x, y));
+							
+							doCopyRow(rows, y);
+							
+							this.data.setColor4D(newColor, x, y);
+						}
+					}
 					
-					this.data.setColor4D(newColor, x, y);
+					progressMonitor.advance();
 				}
+			} catch(final CancellationException e) {
+				doChangeRollback(changeCount, rows);
+				
+				throw e;
+			} finally {
+				doChangeEnd(hasChangeBegunNow);
 			}
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillD");
 		}
-		
-		this.data.changeEnd();
-		
-		return this;
 	}
 	
 	/**
@@ -1832,96 +2217,378 @@ public final class Image {
 	 * Returns this {@code Image} instance.
 	 * <p>
 	 * If either {@code pixelOperator} or {@code pixelFilter} are {@code null} or {@code pixelOperator} returns {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the {@link CancellationToken} associated with this {@code Image} instance is cancelled while this operation runs, a {@code CancellationException} will be thrown and this {@code Image} instance is left unchanged.
 	 * 
 	 * @param pixelOperator a {@link Color4FPixelOperator} instance that returns a {@code Color4F} instance for each pixel affected
 	 * @param pixelFilter a {@link Color4FPixelFilter} instance that accepts or rejects pixels
 	 * @return this {@code Image} instance
 	 * @throws NullPointerException thrown if, and only if, either {@code pixelOperator} or {@code pixelFilter} are {@code null} or {@code pixelOperator} returns {@code null}
+	 * @throws CancellationException thrown if, and only if, the {@code CancellationToken} associated with this {@code Image} instance is cancelled while this operation runs
 	 */
 	public Image fillF(final Color4FPixelOperator pixelOperator, final Color4FPixelFilter pixelFilter) {
-		Objects.requireNonNull(pixelOperator, "pixelOperator == null");
-		Objects.requireNonNull(pixelFilter, "pixelFilter == null");
-		
-		final int resolutionX = getResolutionX();
-		final int resolutionY = getResolutionY();
+		final int operationDepth = doBeginOperation();
 		
-		this.data.changeBegin();
-		
-		for(int y = 0; y < resolutionY; y++) {
-			for(int x = 0; x < resolutionX; x++) {
-				final Color4F oldColor = getColor4F(x, y);
+		try {
+			Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+			Objects.requireNonNull(pixelFilter, "pixelFilter == null");
+			
+			final int resolutionX = getResolutionX();
+			final int resolutionY = getResolutionY();
+			
+			final boolean hasChangeBegunNow = !this.data.hasChangeBegun() && this.data.changeBegin();
+			
+			final int changeCount = doGetChangeCount();
+			
+			final double[][] rows = doCreateRows(resolutionY);
+			
+			try {
+				final ProgressMonitor progressMonitor = this.data.createProgressMonitor(resolutionY);
 				
-				if(pixelFilter.isAccepted(oldColor, x, y)) {
-					final Color4F newColor = Objects.requireNonNull(pixelOperator.apply(oldColor, x, y));
+				for(int y = 0; y < resolutionY; y++) {
+					for(int x = 0; x < resolutionX; x++) {
+						final Color4F oldColor = getColor4F(x, y);
+						
+						if(pixelFilter.isAccepted(oldColor, x, y)) {
+							final Color4F newColor = Objects.requireNonNull(pixelOperator.apply(oldColor, x, y));
+							
+							doCopyRow(rows, y);
+							
+							this.data.setColor4F(newColor, x, y);
+						}
+					}
 					
-					this.data.setColor4F(newColor, x, y);
+					progressMonitor.advance();
 				}
+			} catch(final CancellationException e) {
+				doChangeRollback(changeCount, rows);
+				
+				throw e;
+			} finally {
+				doChangeEnd(hasChangeBegunNow);
 			}
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillF");
 		}
-		
-		this.data.changeEnd();
-		
-		return this;
 	}
 	
 	/**
-	 * Fills all pixels in this {@code Image} instance in the colors provided by {@code pixelOperator}.
+	 * Fills all pixels in this {@code Image} instance that are accepted by {@code pixelFilter} with gray {@link Color4D} instances whose components are given by the magnitude of the intensity gradient computed by {@code operator}.
 	 * <p>
 	 * Returns this {@code Image} instance.
 	 * <p>
-	 * If {@code pixelOperator} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * If either {@code operator} or {@code pixelFilter} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * Calling this method is equivalent to the following:
-	 * <pre>
-	 * {@code
-	 * image.fillI(operator, (color, x, y) -> true);
-	 * }
-	 * </pre>
+	 * The gradient is computed as by {@link #computeGradient(ImageGradient.Operator)}, before any pixel is changed. The alpha component of each pixel is preserved. {@code pixelFilter} is called once per pixel, from the calling thread, with the color of the pixel before it is changed. The pixels are computed into a primitive array and written at once. Only the bounds of the accepted pixels are changed and recorded as a single change.
 	 * 
-	 * @param pixelOperator a {@link PackedIntARGBPixelOperator} instance that returns a color for each pixel affected
+	 * @param operator the {@link ImageGradient.Operator} to use
+	 * @param pixelFilter a {@link Color4DPixelFilter} instance that accepts or rejects pixels
 	 * @return this {@code Image} instance
-	 * @throws NullPointerException thrown if, and only if, {@code pixelOperator} is {@code null}
+	 * @throws NullPointerException thrown if, and only if, either {@code operator} or {@code pixelFilter} are {@code null}
 	 */
-	public Image fillI(final PackedIntARGBPixelOperator pixelOperator) {
-		return fillI(pixelOperator, (color, x, y) -> true);
-	}
-	
-	/**
-	 * Fills all pixels in this {@code Image} instance that are accepted by {@code pixelFilter} in the colors provided by {@code pixelOperator}.
-	 * <p>
-	 * Returns this {@code Image} instance.
-	 * <p>
-	 * If either {@code pixelOperator} or {@code pixelFilter} are {@code null}, a {@code NullPointerException} will be thrown.
-	 * 
-	 * @param pixelOperator a {@link PackedIntARGBPixelOperator} instance that returns a color for each pixel affected
-	 * @param pixelFilter a {@link PackedIntARGBPixelFilter} instance that accepts or rejects pixels
-	 * @return this {@code Image} instance
-	 * @throws NullPointerException thrown if, and only if, either {@code pixelOperator} or {@code pixelFilter} are {@code null}
+	public Image fillGradientD(final ImageGradient.Operator operator, final Color4DPixelFilter pixelFilter) {
+		final int operationDepth = doBeginOperation();
+		
+		try {
+			Objects.requireNonNull(operator, "operator == null");
+			Objects.requireNonNull(pixelFilter, "pixelFilter == null");
+			
+			final double[] magnitudes = ImageGradient.compute(this.data, operator).getMagnitudes();
+			
+			final int resolutionX = getResolutionX();
+			final int resolutionY = getResolutionY();
+			
+			final double[] colors = new double[resolutionX * resolutionY * 4];
+			final double[] row = new double[resolutionX * 4];
+			
+			int minimumX = resolutionX;
+			int minimumY = resolutionY;
+			int maximumX = -1;
+			int maximumY = -1;
+			
+			for(int y = 0, index = 0; y < resolutionY; y++) {
+				this.data.copyRowTo(row, y);
+				
+				System.arraycopy(row, 0, colors, y * resolutionX * 4, resolutionX * 4);
+				
+				for(int x = 0, offset = y * resolutionX * 4; x < resolutionX; x++, index++, offset += 4) {
+					if(pixelFilter.isAccepted(new Color4D(colors[offset + 0], colors[offset + 1], colors[offset + 2], colors[offset + 3]), x, y)) {
+						colors[offset + 0] = magnitudes[index];
+						colors[offset + 1] = magnitudes[index];
+						colors[offset + 2] = magnitudes[index];
+						
+						minimumX = Ints.min(minimumX, x);
+						minimumY = Ints.min(minimumY, y);
+						maximumX = Ints.max(maximumX, x);
+						maximumY = Ints.max(maximumY, y);
+					}
+				}
+			}
+			
+			doCopyRegionFrom(colors, minimumX, minimumY, maximumX, maximumY);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillGradientD");
+		}
+	}
+	
+	/**
+	 * Fills all pixels in this {@code Image} instance that are accepted by {@code pixelFilter} with gray {@link Color4F} instances whose components are given by the magnitude of the intensity gradient computed by {@code operator}.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If either {@code operator} or {@code pixelFilter} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The gradient is computed as by {@link #computeGradient(ImageGradient.Operator)}, before any pixel is changed. The alpha component of each pixel is preserved. {@code pixelFilter} is called once per pixel, from the calling thread, with the color of the pixel before it is changed. The pixels are computed into a primitive array and written at once. Only the bounds of the accepted pixels are changed and recorded as a single change.
+	 * 
+	 * @param operator the {@link ImageGradient.Operator} to use
+	 * @param pixelFilter a {@link Color4FPixelFilter} instance that accepts or rejects pixels
+	 * @return this {@code Image} instance
+	 * @throws NullPointerException thrown if, and only if, either {@code operator} or {@code pixelFilter} are {@code null}
 	 */
-	public Image fillI(final PackedIntARGBPixelOperator pixelOperator, final PackedIntARGBPixelFilter pixelFilter) {
-		Objects.requireNonNull(pixelOperator, "pixelOperator == null");
-		Objects.requireNonNull(pixelFilter, "pixelFilter == null");
+	public Image fillGradientF(final ImageGradient.Operator operator, final Color4FPixelFilter pixelFilter) {
+		final int operationDepth = doBeginOperation();
 		
-		final int resolutionX = getResolutionX();
-		final int resolutionY = getResolutionY();
+		try {
+			Objects.requireNonNull(operator, "operator == null");
+			Objects.requireNonNull(pixelFilter, "pixelFilter == null");
+			
+			final double[] magnitudes = ImageGradient.compute(this.data, operator).getMagnitudes();
+			
+			final int resolutionX = getResolutionX();
+			final int resolutionY = getResolutionY();
+			
+			final double[] colors = new double[resolutionX * resolutionY * 4];
+			final double[] row = new double[resolutionX * 4];
+			
+			int minimumX = resolutionX;
+			int minimumY = resolutionY;
+			int maximumX = -1;
+			int maximumY = -1;
+			
+			for(int y = 0, index = 0; y < resolutionY; y++) {
+				this.data.copyRowTo(row, y);
+				
+				System.arraycopy(row, 0, colors, y * resolutionX * 4, resolutionX * 4);
+				
+				for(int x = 0, offset = y * resolutionX * 4; x < resolutionX; x++, index++, offset += 4) {
+					if(pixelFilter.isAccepted(new Color4F((float)(colors[offset + 0]), (float)(colors[offset + 1]), (float)(colors[offset + 2]), (float)(colors[offset + 3])), x, y)) {
+						colors[offset + 0] = (float)(magnitudes[index]);
+						colors[offset + 1] = (float)(magnitudes[index]);
+						colors[offset + 2] = (float)(magnitudes[index]);
+						
+						minimumX = Ints.min(minimumX, x);
+						minimumY = Ints.min(minimumY, y);
+						maximumX = Ints.max(maximumX, x);
+						maximumY = Ints.max(maximumY, y);
+					}
+				}
+			}
+			
+			doCopyRegionFrom(colors, minimumX, minimumY, maximumX, maximumY);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillGradientF");
+		}
+	}
+	
+	/**
+	 * Fills all pixels in this {@code Image} instance with gray {@link Color4D} instances whose components are given by {@code array}.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code array.length} is less than {@code image.getResolution()}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The value at index {@code index} in {@code array} is mapped linearly from the range {@code [minimum, maximum]} to the range {@code [0.0D, 1.0D]} and used as the red, green and blue components of the pixel at index {@code index}. The alpha component is set to {@code 1.0D}. If {@code minimum} is equal to {@code maximum}, all components are set to {@code 0.0D}.
+	 * <p>
+	 * This method is intended to be used together with the bulk noise methods, such as {@code SimplexNoiseD.fractalXY(double[], int, int, double, double, double, double, double, double, double, double, int)}. The pixels are computed in parallel and recorded as a single change.
+	 * 
+	 * @param array the {@code double[]} with the values to fill with
+	 * @param minimum the value that is mapped to {@code 0.0D}
+	 * @param maximum the value that is mapped to {@code 1.0D}
+	 * @return this {@code Image} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code array.length} is less than {@code image.getResolution()}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public Image fillGrayscaleD(final double[] array, final double minimum, final double maximum) {
+		final int operationDepth = doBeginOperation();
 		
-		this.data.changeBegin();
+		try {
+			Objects.requireNonNull(array, "array == null");
+			
+			Ints.requireRange(array.length, getResolution(), Integer.MAX_VALUE, "array.length");
+			
+			final int resolutionX = getResolutionX();
+			final int resolutionY = getResolutionY();
+			
+			final double range = maximum - minimum;
+			final double rangeReciprocal = Doubles.isZero(range) ? 0.0D : 1.0D / range;
+			
+			final double[] colors = new double[resolutionX * resolutionY * 4];
+			
+			IntStream.range(0, resolutionY).parallel().forEach(y -> {
+				for(int x = 0, index = y * resolutionX, offset = index * 4; x < resolutionX; x++, index++, offset += 4) {
+					final double component = (array[index] - minimum) * rangeReciprocal;
+					
+					colors[offset + 0] = component;
+					colors[offset + 1] = component;
+					colors[offset + 2] = component;
+					colors[offset + 3] = 1.0D;
+				}
+			});
+			
+			this.data.copyRegionFrom(colors, getBounds());
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillGrayscaleD");
+		}
+	}
+	
+	/**
+	 * Fills all pixels in this {@code Image} instance with gray {@link Color4F} instances whose components are given by {@code array}.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code array.length} is less than {@code image.getResolution()}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The value at index {@code index} in {@code array} is mapped linearly from the range {@code [minimum, maximum]} to the range {@code [0.0F, 1.0F]} and used as the red, green and blue components of the pixel at index {@code index}. The alpha component is set to {@code 1.0F}. If {@code minimum} is equal to {@code maximum}, all components are set to {@code 0.0F}.
+	 * <p>
+	 * This method is intended to be used together with the bulk noise methods, such as {@code SimplexNoiseF.fractalXY(float[], int, int, float, float, float, float, float, float, float, float, int)}. The pixels are computed in parallel and recorded as a single change.
+	 * 
+	 * @param array the {@code float[]} with the values to fill with
+	 * @param minimum the value that is mapped to {@code 0.0F}
+	 * @param maximum the value that is mapped to {@code 1.0F}
+	 * @return this {@code Image} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code array.length} is less than {@code image.getResolution()}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public Image fillGrayscaleF(final float[] array, final float minimum, final float maximum) {
+		final int operationDepth = doBeginOperation();
 		
-		for(int y = 0; y < resolutionY; y++) {
-			for(int x = 0; x < resolutionX; x++) {
-				final int oldColorARGB = getColorARGB(x, y);
+		try {
+			Objects.requireNonNull(array, "array == null");
+			
+			Ints.requireRange(array.length, getResolution(), Integer.MAX_VALUE, "array.length");
+			
+			final int resolutionX = getResolutionX();
+			final int resolutionY = getResolutionY();
+			
+			final float range = maximum - minimum;
+			final float rangeReciprocal = Floats.isZero(range) ? 0.0F : 1.0F / range;
+			
+			final double[] colors = new double[resolutionX * resolutionY * 4];
+			
+			IntStream.range(0, resolutionY).parallel().forEach(y -> {
+				for(int x = 0, index = y * resolutionX, offset = index * 4; x < resolutionX; x++, index++, offset += 4) {
+					final float component = (array[index] - minimum) * rangeReciprocal;
+					
+					colors[offset + 0] = component;
+					colors[offset + 1] = component;
+					colors[offset + 2] = component;
+					colors[offset + 3] = 1.0F;
+				}
+			});
+			
+			this.data.copyRegionFrom(colors, getBounds());
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillGrayscaleF");
+		}
+	}
+	
+	/**
+	 * Fills all pixels in this {@code Image} instance in the colors provided by {@code pixelOperator}.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If {@code pixelOperator} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.fillI(operator, (color, x, y) -> true);
+	 * }
+	 * </pre>
+	 * 
+	 * @param pixelOperator a {@link PackedIntARGBPixelOperator} instance that returns a color for each pixel affected
+	 * @return this {@code Image} instance
+	 * @throws NullPointerException thrown if, and only if, {@code pixelOperator} is {@code null}
+	 */
+	public Image fillI(final PackedIntARGBPixelOperator pixelOperator) {
+		return fillI(pixelOperator, (color, x, y) -> true);
+	}
+	
+	/**
+	 * Fills all pixels in this {@code Image} instance that are accepted by {@code pixelFilter} in the colors provided by {@code pixelOperator}.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If either {@code pixelOperator} or {@code pixelFilter} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the {@link CancellationToken} associated with this {@code Image} instance is cancelled while this operation runs, a {@code CancellationException} will be thrown and this {@code Image} instance is left unchanged.
+	 * 
+	 * @param pixelOperator a {@link PackedIntARGBPixelOperator} instance that returns a color for each pixel affected
+	 * @param pixelFilter a {@link PackedIntARGBPixelFilter} instance that accepts or rejects pixels
+	 * @return this {@code Image} instance
+	 * @throws NullPointerException thrown if, and only if, either {@code pixelOperator} or {@code pixelFilter} are {@code null}
+	 * @throws CancellationException thrown if, and only if, the {@code CancellationToken} associated with this {@code Image} instance is cancelled while this operation runs
+	 */
+	public Image fillI(final PackedIntARGBPixelOperator pixelOperator, final PackedIntARGBPixelFilter pixelFilter) {
+		final int operationDepth = doBeginOperation();
+		
+		try {
+			Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+			Objects.requireNonNull(pixelFilter, "pixelFilter == null");
+			
+			final int resolutionX = getResolutionX();
+			final int resolutionY = getResolutionY();
+			
+			final boolean hasChangeBegunNow = !this.data.hasChangeBegun() && this.data.changeBegin();
+			
+			final int changeCount = doGetChangeCount();
+			
+			final double[][] rows = doCreateRows(resolutionY);
+			
+			try {
+				final ProgressMonitor progressMonitor = this.data.createProgressMonitor(resolutionY);
 				
-				if(pixelFilter.isAccepted(oldColorARGB, x, y)) {
-					final int newColorARGB = pixelOperator.apply(oldColorARGB, x, y);
+				for(int y = 0; y < resolutionY; y++) {
+					for(int x = 0; x < resolutionX; x++) {
+						final int oldColorARGB = getColorARGB(x, y);
+						
+						if(pixelFilter.isAccepted(oldColorARGB, x, y)) {
+							final int newColorARGB = pixelOperator.apply(oldColorARGB, x, y);
+							
+							doCopyRow(rows, y);
+							
+							this.data.setColorARGB(newColorARGB, x, y);
+						}
+					}
 					
-					this.data.setColorARGB(newColorARGB, x, y);
+					progressMonitor.advance();
 				}
+			} catch(final CancellationException e) {
+				doChangeRollback(changeCount, rows);
+				
+				throw e;
+			} finally {
+				doChangeEnd(hasChangeBegunNow);
 			}
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillI");
 		}
-		
-		this.data.changeEnd();
-		
-		return this;
 	}
 	
 	/**
@@ -2022,48 +2689,54 @@ public final class Image {
 	 * @throws NullPointerException thrown if, and only if, either {@code pixelOperator}, {@code sourceImage}, {@code sourceBounds} or {@code targetBounds} are {@code null} or {@code pixelOperator} returns {@code null}
 	 */
 	public Image fillImageD(final Color4DBiPixelOperator pixelOperator, final Image sourceImage, final Rectangle2I sourceBounds, final Rectangle2I targetBounds) {
-		Objects.requireNonNull(pixelOperator, "pixelOperator == null");
-		Objects.requireNonNull(sourceImage, "sourceImage == null");
-		Objects.requireNonNull(sourceBounds, "sourceBounds == null");
-		Objects.requireNonNull(targetBounds, "targetBounds == null");
-		
-		this.data.changeBegin();
-		
-		final Image targetImage = this;
+		final int operationDepth = doBeginOperation();
 		
-		final Point2I sourceMinimum = sourceBounds.min();
-		final Point2I sourceMaximum = sourceBounds.max();
-		final Point2I targetMinimum = targetBounds.min();
-		final Point2I targetMaximum = targetBounds.max();
-		
-		final int sourceMinimumX = sourceMinimum.x;
-		final int sourceMinimumY = sourceMinimum.y;
-		final int sourceMaximumX = sourceMaximum.x;
-		final int sourceMaximumY = sourceMaximum.y;
-		final int targetMinimumX = targetMinimum.x;
-		final int targetMinimumY = targetMinimum.y;
-		final int targetMaximumX = targetMaximum.x;
-		final int targetMaximumY = targetMaximum.y;
-		
-		final int resolutionX = getResolutionX();
-		final int resolutionY = getResolutionY();
-		
-		for(int sourceY = sourceMinimumY, targetY = targetMinimumY; sourceY <= sourceMaximumY & targetY <= targetMaximumY; sourceY++, targetY++) {
-			for(int sourceX = sourceMinimumX, targetX = targetMinimumX; sourceX <= sourceMaximumX & targetX <= targetMaximumX; sourceX++, targetX++) {
-				if(targetX >= 0 && targetX < resolutionX && targetY >= 0 && targetY < resolutionY) {
-					final Color4D sourceColor = sourceImage.getColor4D(sourceX, sourceY);
-					final Color4D targetColor = targetImage.getColor4D(targetX, targetY);
-					
-					final Color4D color = Objects.requireNonNull(pixelOperator.apply(targetColor, sourceColor, targetX, targetY));
-					
-					targetImage.setColor4D(color, targetX, targetY);
+		try {
+			Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+			Objects.requireNonNull(sourceImage, "sourceImage == null");
+			Objects.requireNonNull(sourceBounds, "sourceBounds == null");
+			Objects.requireNonNull(targetBounds, "targetBounds == null");
+			
+			this.data.changeBegin();
+			
+			final Image targetImage = this;
+			
+			final Point2I sourceMinimum = sourceBounds.min();
+			final Point2I sourceMaximum = sourceBounds.max();
+			final Point2I targetMinimum = targetBounds.min();
+			final Point2I targetMaximum = targetBounds.max();
+			
+			final int sourceMinimumX = sourceMinimum.x;
+			final int sourceMinimumY = sourceMinimum.y;
+			final int sourceMaximumX = sourceMaximum.x;
+			final int sourceMaximumY = sourceMaximum.y;
+			final int targetMinimumX = targetMinimum.x;
+			final int targetMinimumY = targetMinimum.y;
+			final int targetMaximumX = targetMaximum.x;
+			final int targetMaximumY = targetMaximum.y;
+			
+			final int resolutionX = getResolutionX();
+			final int resolutionY = getResolutionY();
+			
+			for(int sourceY = sourceMinimumY, targetY = targetMinimumY; sourceY <= sourceMaximumY & targetY <= targetMaximumY; sourceY++, targetY++) {
+				for(int sourceX = sourceMinimumX, targetX = targetMinimumX; sourceX <= sourceMaximumX & targetX <= targetMaximumX; sourceX++, targetX++) {
+					if(targetX >= 0 && targetX < resolutionX && targetY >= 0 && targetY < resolutionY) {
+						final Color4D sourceColor = sourceImage.getColor4D(sourceX, sourceY);
+						final Color4D targetColor = targetImage.getColor4D(targetX, targetY);
+						
+						final Color4D color = Objects.requireNonNull(pixelOperator.apply(targetColor, sourceColor, targetX, targetY));
+						
+						targetImage.setColor4D(color, targetX, targetY);
+					}
 				}
 			}
+			
+			this.data.changeEnd();
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillImageD");
 		}
-		
-		this.data.changeEnd();
-		
-		return this;
 	}
 	
 	/**
@@ -2152,48 +2825,54 @@ public final class Image {
 	 * @throws NullPointerException thrown if, and only if, either {@code pixelOperator}, {@code sourceImage}, {@code sourceBounds} or {@code targetBounds} are {@code null} or {@code pixelOperator} returns {@code null}
 	 */
 	public Image fillImageF(final Color4FBiPixelOperator pixelOperator, final Image sourceImage, final Rectangle2I sourceBounds, final Rectangle2I targetBounds) {
-		Objects.requireNonNull(pixelOperator, "pixelOperator == null");
-		Objects.requireNonNull(sourceImage, "sourceImage == null");
-		Objects.requireNonNull(sourceBounds, "sourceBounds == null");
-		Objects.requireNonNull(targetBounds, "targetBounds == null");
-		
-		this.data.changeBegin();
+		final int operationDepth = doBeginOperation();
 		
-		final Image targetImage = this;
-		
-		final Point2I sourceMinimum = sourceBounds.min();
-		final Point2I sourceMaximum = sourceBounds.max();
-		final Point2I targetMinimum = targetBounds.min();
-		final Point2I targetMaximum = targetBounds.max();
-		
-		final int sourceMinimumX = sourceMinimum.x;
-		final int sourceMinimumY = sourceMinimum.y;
-		final int sourceMaximumX = sourceMaximum.x;
-		final int sourceMaximumY = sourceMaximum.y;
-		final int targetMinimumX = targetMinimum.x;
-		final int targetMinimumY = targetMinimum.y;
-		final int targetMaximumX = targetMaximum.x;
-		final int targetMaximumY = targetMaximum.y;
-		
-		final int resolutionX = getResolutionX();
-		final int resolutionY = getResolutionY();
-		
-		for(int sourceY = sourceMinimumY, targetY = targetMinimumY; sourceY <= sourceMaximumY & targetY <= targetMaximumY; sourceY++, targetY++) {
-			for(int sourceX = sourceMinimumX, targetX = targetMinimumX; sourceX <= sourceMaximumX & targetX <= targetMaximumX; sourceX++, targetX++) {
-				if(targetX >= 0 && targetX < resolutionX && targetY >= 0 && targetY < resolutionY) {
-					final Color4F sourceColor = sourceImage.getColor4F(sourceX, sourceY);
-					final Color4F targetColor = targetImage.getColor4F(targetX, targetY);
-					
-					final Color4F color = Objects.requireNonNull(pixelOperator.apply(targetColor, sourceColor, targetX, targetY));
-					
-					targetImage.setColor4F(color, targetX, targetY);
+		try {
+			Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+			Objects.requireNonNull(sourceImage, "sourceImage == null");
+			Objects.requireNonNull(sourceBounds, "sourceBounds == null");
+			Objects.requireNonNull(targetBounds, "targetBounds == null");
+			
+			this.data.changeBegin();
+			
+			final Image targetImage = this;
+			
+			final Point2I sourceMinimum = sourceBounds.min();
+			final Point2I sourceMaximum = sourceBounds.max();
+			final Point2I targetMinimum = targetBounds.min();
+			final Point2I targetMaximum = targetBounds.max();
+			
+			final int sourceMinimumX = sourceMinimum.x;
+			final int sourceMinimumY = sourceMinimum.y;
+			final int sourceMaximumX = sourceMaximum.x;
+			final int sourceMaximumY = sourceMaximum.y;
+			final int targetMinimumX = targetMinimum.x;
+			final int targetMinimumY = targetMinimum.y;
+			final int targetMaximumX = targetMaximum.x;
+			final int targetMaximumY = targetMaximum.y;
+			
+			final int resolutionX = getResolutionX();
+			final int resolutionY = getResolutionY();
+			
+			for(int sourceY = sourceMinimumY, targetY = targetMinimumY; sourceY <= sourceMaximumY & targetY <= targetMaximumY; sourceY++, targetY++) {
+				for(int sourceX = sourceMinimumX, targetX = targetMinimumX; sourceX <= sourceMaximumX & targetX <= targetMaximumX; sourceX++, targetX++) {
+					if(targetX >= 0 && targetX < resolutionX && targetY >= 0 && targetY < resolutionY) {
+						final Color4F sourceColor = sourceImage.getColor4F(sourceX, sourceY);
+						final Color4F targetColor = targetImage.getColor4F(targetX, targetY);
+						
+						final Color4F color = Objects.requireNonNull(pixelOperator.apply(targetColor, sourceColor, targetX, targetY));
+						
+						targetImage.setColor4F(color, targetX, targetY);
+					}
 				}
 			}
+			
+			this.data.changeEnd();
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillImageF");
 		}
-		
-		this.data.changeEnd();
-		
-		return this;
 	}
 	
 	/**
@@ -2281,6 +2960,8 @@ public final class Image {
 	 * If either {@code pixelOperator} or {@code pixelFilter} are {@code null} or {@code pixelOperator} returns {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * This operation works in a similar way to the Bucket Fill tool in Microsoft Paint.
+	 * <p>
+	 * If the {@link CancellationToken} associated with this {@code Image} instance is cancelled while this operation runs, a {@code CancellationException} will be thrown and this {@code Image} instance is left unchanged.
 	 * 
 	 * @param x the X-component of the pixel to start at
 	 * @param y the Y-component of the pixel to start at
@@ -2288,15 +2969,32 @@ public final class Image {
 	 * @param pixelFilter a {@link Color4DPixelFilter} instance that accepts or rejects pixels
 	 * @return this {@code Image} instance
 	 * @throws NullPointerException thrown if, and only if, either {@code pixelOperator} or {@code pixelFilter} are {@code null} or {@code pixelOperator} returns {@code null}
+	 * @throws CancellationException thrown if, and only if, the {@code CancellationToken} associated with this {@code Image} instance is cancelled while this operation runs
 	 */
 	public Image fillRegionD(final int x, final int y, final Color4DPixelOperator pixelOperator, final Color4DPixelFilter pixelFilter) {
-		this.data.changeBegin();
-		
-		doFillRegionD(x, y, pixelOperator, pixelFilter, getColor4D(x, y));
-		
-		this.data.changeEnd();
+		final int operationDepth = doBeginOperation();
 		
-		return this;
+		try {
+			final boolean hasChangeBegunNow = !this.data.hasChangeBegun() && this.data.changeBegin();
+			
+			final int changeCount = doGetChangeCount();
+			
+			final Data data = doCreateSnapshot();
+			
+			try {
+				doFillRegionD(x, y, pixelOperator, pixelFilter, getColor4D(x, y));
+			} catch(final CancellationException e) {
+				doChangeRollback(changeCount, data);
+				
+				throw e;
+			} finally {
+				doChangeEnd(hasChangeBegunNow);
+			}
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillRegionD");
+		}
 	}
 	
 	/**
@@ -2384,6 +3082,8 @@ public final class Image {
 	 * If either {@code pixelOperator} or {@code pixelFilter} are {@code null} or {@code pixelOperator} returns {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * This operation works in a similar way to the Bucket Fill tool in Microsoft Paint.
+	 * <p>
+	 * If the {@link CancellationToken} associated with this {@code Image} instance is cancelled while this operation runs, a {@code CancellationException} will be thrown and this {@code Image} instance is left unchanged.
 	 * 
 	 * @param x the X-component of the pixel to start at
 	 * @param y the Y-component of the pixel to start at
@@ -2391,15 +3091,32 @@ public final class Image {
 	 * @param pixelFilter a {@link Color4FPixelFilter} instance that accepts or rejects pixels
 	 * @return this {@code Image} instance
 	 * @throws NullPointerException thrown if, and only if, either {@code pixelOperator} or {@code pixelFilter} are {@code null} or {@code pixelOperator} returns {@code null}
+	 * @throws CancellationException thrown if, and only if, the {@code CancellationToken} associated with this {@code Image} instance is cancelled while this operation runs
 	 */
 	public Image fillRegionF(final int x, final int y, final Color4FPixelOperator pixelOperator, final Color4FPixelFilter pixelFilter) {
-		this.data.changeBegin();
-		
-		doFillRegionF(x, y, pixelOperator, pixelFilter, getColor4F(x, y));
-		
-		this.data.changeEnd();
+		final int operationDepth = doBeginOperation();
 		
-		return this;
+		try {
+			final boolean hasChangeBegunNow = !this.data.hasChangeBegun() && this.data.changeBegin();
+			
+			final int changeCount = doGetChangeCount();
+			
+			final Data data = doCreateSnapshot();
+			
+			try {
+				doFillRegionF(x, y, pixelOperator, pixelFilter, getColor4F(x, y));
+			} catch(final CancellationException e) {
+				doChangeRollback(changeCount, data);
+				
+				throw e;
+			} finally {
+				doChangeEnd(hasChangeBegunNow);
+			}
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillRegionF");
+		}
 	}
 	
 	/**
@@ -2487,6 +3204,8 @@ public final class Image {
 	 * If either {@code pixelOperator} or {@code pixelFilter} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * This operation works in a similar way to the Bucket Fill tool in Microsoft Paint.
+	 * <p>
+	 * If the {@link CancellationToken} associated with this {@code Image} instance is cancelled while this operation runs, a {@code CancellationException} will be thrown and this {@code Image} instance is left unchanged.
 	 * 
 	 * @param x the X-component of the pixel to start at
 	 * @param y the Y-component of the pixel to start at
@@ -2494,15 +3213,32 @@ public final class Image {
 	 * @param pixelFilter a {@link PackedIntARGBPixelFilter} instance that accepts or rejects pixels
 	 * @return this {@code Image} instance
 	 * @throws NullPointerException thrown if, and only if, either {@code pixelOperator} or {@code pixelFilter} are {@code null}
+	 * @throws CancellationException thrown if, and only if, the {@code CancellationToken} associated with this {@code Image} instance is cancelled while this operation runs
 	 */
 	public Image fillRegionI(final int x, final int y, final PackedIntARGBPixelOperator pixelOperator, final PackedIntARGBPixelFilter pixelFilter) {
-		this.data.changeBegin();
-		
-		doFillRegionI(x, y, pixelOperator, pixelFilter, getColorARGB(x, y));
+		final int operationDepth = doBeginOperation();
 		
-		this.data.changeEnd();
-		
-		return this;
+		try {
+			final boolean hasChangeBegunNow = !this.data.hasChangeBegun() && this.data.changeBegin();
+			
+			final int changeCount = doGetChangeCount();
+			
+			final Data data = doCreateSnapshot();
+			
+			try {
+				doFillRegionI(x, y, pixelOperator, pixelFilter, getColorARGB(x, y));
+			} catch(final CancellationException e) {
+				doChangeRollback(changeCount, data);
+				
+				throw e;
+			} finally {
+				doChangeEnd(hasChangeBegunNow);
+			}
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillRegionI");
+		}
 	}
 	
 	/**
@@ -2531,6 +3267,33 @@ public final class Image {
 		return fillShapeD(shape, (currentColor, x, y) -> color);
 	}
 	
+	/**
+	 * Fills {@code shape} in this {@code Image} instance with {@code color} as its color, optionally with anti-aliasing.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If either {@code shape} or {@code color} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is essentially equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.fillShapeD(shape, (currentColor, x, y) -> color, isAntiAliasing);
+	 * }
+	 * </pre>
+	 * 
+	 * @param shape the {@link Shape2I} to fill
+	 * @param color the {@link Color4D} to use as its color
+	 * @param isAntiAliasing {@code true} if, and only if, the edges of {@code shape} should be anti-aliased, {@code false} otherwise
+	 * @return this {@code Image} instance
+	 * @throws NullPointerException thrown if, and only if, either {@code shape} or {@code color} are {@code null}
+	 */
+	public Image fillShapeD(final Shape2I shape, final Color4D color, final boolean isAntiAliasing) {
+		Objects.requireNonNull(shape, "shape == null");
+		Objects.requireNonNull(color, "color == null");
+		
+		return fillShapeD(shape, (currentColor, x, y) -> color, isAntiAliasing);
+	}
+	
 	/**
 	 * Fills {@code shape} in this {@code Image} instance with {@link Color4D} instances returned by {@code pixelOperator} as its color.
 	 * <p>
@@ -2544,16 +3307,71 @@ public final class Image {
 	 * @throws NullPointerException thrown if, and only if, either {@code shape} or {@code pixelOperator} are {@code null} or {@code pixelOperator} returns {@code null}
 	 */
 	public Image fillShapeD(final Shape2I shape, final Color4DPixelOperator pixelOperator) {
-		Objects.requireNonNull(shape, "shape == null");
-		Objects.requireNonNull(pixelOperator, "pixelOperator == null");
-		
-		this.data.changeBegin();
+		final int operationDepth = doBeginOperation();
 		
-		shape.findPointsOfIntersection(getBounds()).forEach(point -> setColor4D(pixelOperator.apply(getColor4D(point), point.x, point.y), point));
-		
-		this.data.changeEnd();
+		try {
+			Objects.requireNonNull(shape, "shape == null");
+			Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+			
+			this.data.changeBegin();
+			
+			ShapeRasterizer.rasterize(shape, false, getResolutionX(), getResolutionY(), (y, minimumX, maximumX) -> {
+				for(int x = minimumX; x <= maximumX; x++) {
+					setColor4D(pixelOperator.apply(getColor4D(x, y), x, y), x, y);
+				}
+			});
+			
+			this.data.changeEnd();
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillShapeD");
+		}
+	}
+	
+	/**
+	 * Fills {@code shape} in this {@code Image} instance with {@link Color4D} instances returned by {@code pixelOperator} as its color, optionally with anti-aliasing.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If either {@code shape} or {@code pixelOperator} are {@code null} or {@code pixelOperator} returns {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code isAntiAliasing} is {@code true}, the {@code Color4D} returned by {@code pixelOperator} will be blended with the current color based on how much of each pixel is covered by {@code shape}. The coverage is estimated from the outline of {@code shape}, using four sub-scanlines per pixel. The outline passes through the centers of the pixels at the vertices of {@code shape}, so the pixels along the edges are only partially covered. The anti-aliased area is therefore about one pixel narrower and one pixel shorter than the area that is filled without anti-aliasing. For example, {@code new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3))} covers 2 by 2 pixels with anti-aliasing, with only the pixel at {@code (2, 2)} fully covered, and 3 by 3 pixels without it. A {@code LineSegment2I} has no area and is always filled without anti-aliasing.
+	 * <p>
+	 * If {@code isAntiAliasing} is {@code false}, calling this method is equivalent to calling {@link #fillShapeD(Shape2I, Color4DPixelOperator)}.
+	 * 
+	 * @param shape the {@link Shape2I} to fill
+	 * @param pixelOperator a {@link Color4DPixelOperator} that returns {@code Color4D} instances to use as its color
+	 * @param isAntiAliasing {@code true} if, and only if, the edges of {@code shape} should be anti-aliased, {@code false} otherwise
+	 * @return this {@code Image} instance
+	 * @throws NullPointerException thrown if, and only if, either {@code shape} or {@code pixelOperator} are {@code null} or {@code pixelOperator} returns {@code null}
+	 */
+	public Image fillShapeD(final Shape2I shape, final Color4DPixelOperator pixelOperator, final boolean isAntiAliasing) {
+		final int operationDepth = doBeginOperation();
 		
-		return this;
+		try {
+			Objects.requireNonNull(shape, "shape == null");
+			Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+			
+			if(!isAntiAliasing) {
+				return fillShapeD(shape, pixelOperator);
+			}
+			
+			this.data.changeBegin();
+			
+			ShapeRasterizer.rasterizeAntiAliased(shape, getResolutionX(), getResolutionY(), (x, y, coverage) -> {
+				final Color4D currentColor = getColor4D(x, y);
+				final Color4D newColor = pixelOperator.apply(currentColor, x, y);
+				
+				setColor4D(coverage >= 1.0D ? newColor : Color4D.blend(currentColor, newColor, coverage), x, y);
+			});
+			
+			this.data.changeEnd();
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillShapeD");
+		}
 	}
 	
 	/**
@@ -2582,6 +3400,33 @@ public final class Image {
 		return fillShapeF(shape, (currentColor, x, y) -> color);
 	}
 	
+	/**
+	 * Fills {@code shape} in this {@code Image} instance with {@code color} as its color, optionally with anti-aliasing.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If either {@code shape} or {@code color} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is essentially equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.fillShapeF(shape, (currentColor, x, y) -> color, isAntiAliasing);
+	 * }
+	 * </pre>
+	 * 
+	 * @param shape the {@link Shape2I} to fill
+	 * @param color the {@link Color4F} to use as its color
+	 * @param isAntiAliasing {@code true} if, and only if, the edges of {@code shape} should be anti-aliased, {@code false} otherwise
+	 * @return this {@code Image} instance
+	 * @throws NullPointerException thrown if, and only if, either {@code shape} or {@code color} are {@code null}
+	 */
+	public Image fillShapeF(final Shape2I shape, final Color4F color, final boolean isAntiAliasing) {
+		Objects.requireNonNull(shape, "shape == null");
+		Objects.requireNonNull(color, "color == null");
+		
+		return fillShapeF(shape, (currentColor, x, y) -> color, isAntiAliasing);
+	}
+	
 	/**
 	 * Fills {@code shape} in this {@code Image} instance with {@link Color4F} instances returned by {@code pixelOperator} as its color.
 	 * <p>
@@ -2595,16 +3440,71 @@ public final class Image {
 	 * @throws NullPointerException thrown if, and only if, either {@code shape} or {@code pixelOperator} are {@code null} or {@code pixelOperator} returns {@code null}
 	 */
 	public Image fillShapeF(final Shape2I shape, final Color4FPixelOperator pixelOperator) {
-		Objects.requireNonNull(shape, "shape == null");
-		Objects.requireNonNull(pixelOperator, "pixelOperator == null");
-		
-		this.data.changeBegin();
+		final int operationDepth = doBeginOperation();
 		
-		shape.findPointsOfIntersection(getBounds()).forEach(point -> setColor4F(pixelOperator.apply(getColor4F(point), point.x, point.y), point));
-		
-		this.data.changeEnd();
+		try {
+			Objects.requireNonNull(shape, "shape == null");
+			Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+			
+			this.data.changeBegin();
+			
+			ShapeRasterizer.rasterize(shape, false, getResolutionX(), getResolutionY(), (y, minimumX, maximumX) -> {
+				for(int x = minimumX; x <= maximumX; x++) {
+					setColor4F(pixelOperator.apply(getColor4F(x, y), x, y), x, y);
+				}
+			});
+			
+			this.data.changeEnd();
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillShapeF");
+		}
+	}
+	
+	/**
+	 * Fills {@code shape} in this {@code Image} instance with {@link Color4F} instances returned by {@code pixelOperator} as its color, optionally with anti-aliasing.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If either {@code shape} or {@code pixelOperator} are {@code null} or {@code pixelOperator} returns {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code isAntiAliasing} is {@code true}, the {@code Color4F} returned by {@code pixelOperator} will be blended with the current color based on how much of each pixel is covered by {@code shape}. The coverage is estimated from the outline of {@code shape}, using four sub-scanlines per pixel. The outline passes through the centers of the pixels at the vertices of {@code shape}, so the pixels along the edges are only partially covered. The anti-aliased area is therefore about one pixel narrower and one pixel shorter than the area that is filled without anti-aliasing. For example, {@code new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3))} covers 2 by 2 pixels with anti-aliasing, with only the pixel at {@code (2, 2)} fully covered, and 3 by 3 pixels without it. A {@code LineSegment2I} has no area and is always filled without anti-aliasing.
+	 * <p>
+	 * If {@code isAntiAliasing} is {@code false}, calling this method is equivalent to calling {@link #fillShapeF(Shape2I, Color4FPixelOperator)}.
+	 * 
+	 * @param shape the {@link Shape2I} to fill
+	 * @param pixelOperator a {@link Color4FPixelOperator} that returns {@code Color4F} instances to use as its color
+	 * @param isAntiAliasing {@code true} if, and only if, the edges of {@code shape} should be anti-aliased, {@code false} otherwise
+	 * @return this {@code Image} instance
+	 * @throws NullPointerException thrown if, and only if, either {@code shape} or {@code pixelOperator} are {@code null} or {@code pixelOperator} returns {@code null}
+	 */
+	public Image fillShapeF(final Shape2I shape, final Color4FPixelOperator pixelOperator, final boolean isAntiAliasing) {
+		final int operationDepth = doBeginOperation();
 		
-		return this;
+		try {
+			Objects.requireNonNull(shape, "shape == null");
+			Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+			
+			if(!isAntiAliasing) {
+				return fillShapeF(shape, pixelOperator);
+			}
+			
+			this.data.changeBegin();
+			
+			ShapeRasterizer.rasterizeAntiAliased(shape, getResolutionX(), getResolutionY(), (x, y, coverage) -> {
+				final Color4F currentColor = getColor4F(x, y);
+				final Color4F newColor = pixelOperator.apply(currentColor, x, y);
+				
+				setColor4F(coverage >= 1.0D ? newColor : Color4F.blend(currentColor, newColor, (float)(coverage)), x, y);
+			});
+			
+			this.data.changeEnd();
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillShapeF");
+		}
 	}
 	
 	/**
@@ -2694,16 +3594,22 @@ public final class Image {
 	 * @throws NullPointerException thrown if, and only if, either {@code shape} or {@code pixelOperator} are {@code null} or {@code pixelOperator} returns {@code null}
 	 */
 	public Image fillShapeComplementD(final Shape2I shape, final Color4DPixelOperator pixelOperator, final boolean isExcludingBorderOnly) {
-		Objects.requireNonNull(shape, "shape == null");
-		Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+		final int operationDepth = doBeginOperation();
 		
-		this.data.changeBegin();
-		
-		shape.findPointsOfComplement(getBounds(), isExcludingBorderOnly).forEach(point -> setColor4D(pixelOperator.apply(getColor4D(point), point.x, point.y), point));
-		
-		this.data.changeEnd();
-		
-		return this;
+		try {
+			Objects.requireNonNull(shape, "shape == null");
+			Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+			
+			this.data.changeBegin();
+			
+			shape.findPointsOfComplement(getBounds(), isExcludingBorderOnly).forEach(point -> setColor4D(pixelOperator.apply(getColor4D(point), point.x, point.y), point));
+			
+			this.data.changeEnd();
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillShapeComplementD");
+		}
 	}
 	
 	/**
@@ -2793,16 +3699,22 @@ public final class Image {
 	 * @throws NullPointerException thrown if, and only if, either {@code shape} or {@code pixelOperator} are {@code null} or {@code pixelOperator} returns {@code null}
 	 */
 	public Image fillShapeComplementF(final Shape2I shape, final Color4FPixelOperator pixelOperator, final boolean isExcludingBorderOnly) {
-		Objects.requireNonNull(shape, "shape == null");
-		Objects.requireNonNull(pixelOperator, "pixelOperator == null");
-		
-		this.data.changeBegin();
-		
-		shape.findPointsOfComplement(getBounds(), isExcludingBorderOnly).forEach(point -> setColor4F(pixelOperator.apply(getColor4F(point), point.x, point.y), point));
-		
-		this.data.changeEnd();
+		final int operationDepth = doBeginOperation();
 		
-		return this;
+		try {
+			Objects.requireNonNull(shape, "shape == null");
+			Objects.requireNonNull(pixelOperator, "pixelOperator == null");
+			
+			this.data.changeBegin();
+			
+			shape.findPointsOfComplement(getBounds(), isExcludingBorderOnly).forEach(point -> setColor4F(pixelOperator.apply(getColor4F(point), point.x, point.y), point));
+			
+			this.data.changeEnd();
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "fillShapeComplementF");
+		}
 	}
 	
 	/**
@@ -2811,62 +3723,20 @@ public final class Image {
 	 * Returns this {@code Image} instance.
 	 * <p>
 	 * If {@code pixelFilter} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.fillGradientD(ImageGradient.Operator.SOBEL, pixelFilter);
+	 * }
+	 * </pre>
 	 * 
 	 * @param pixelFilter a {@link Color4DPixelFilter} instance that accepts or rejects pixels
 	 * @return this {@code Image} instance
 	 * @throws NullPointerException thrown if, and only if, {@code pixelFilter} is {@code null}
 	 */
 	public Image fillSobelD(final Color4DPixelFilter pixelFilter) {
-		Objects.requireNonNull(pixelFilter, "pixelFilter == null");
-		
-		this.data.changeBegin();
-		
-		final Image image = copy();
-		
-		final int resolutionX = getResolutionX();
-		final int resolutionY = getResolutionY();
-		
-		final double[][] kernel = {
-			{-1.0D, 0.0D, 1.0D},
-			{-2.0D, 0.0D, 2.0D},
-			{-1.0D, 0.0D, 1.0D}
-		};
-		
-		for(int y = 0; y < resolutionY; y++) {
-			for(int x = 0; x < resolutionX; x++) {
-				final Color4D color = image.getColor4D(x, y);
-				
-				if(pixelFilter.isAccepted(color, x, y)) {
-					double magnitudeX = 0.0D;
-					double magnitudeY = 0.0D;
-					
-					for(int kernelY = 0; kernelY < 3; kernelY++) {
-						for(int kernelX = 0; kernelX < 3; kernelX++) {
-							final int currentX = x + kernelX - 1;
-							final int currentY = y + kernelY - 1;
-							
-							if(currentX >= 0 && currentX < resolutionX && currentY >= 0 && currentY < resolutionY) {
-								final int index = currentY * resolutionX + currentX;
-								
-								final double intensity = image.getColor3D(index).average();
-								
-								magnitudeX += intensity * kernel[kernelY][kernelX];
-								magnitudeY += intensity * kernel[kernelX][kernelY];
-							}
-						}
-					}
-					
-					final double grayscale = Doubles.sqrt(magnitudeX * magnitudeX + magnitudeY * magnitudeY);
-					final double a = color.a;
-					
-					setColor4D(new Color4D(grayscale, a), x, y);
-				}
-			}
-		}
-		
-		this.data.changeEnd();
-		
-		return this;
+		return fillGradientD(ImageGradient.Operator.SOBEL, pixelFilter);
 	}
 	
 	/**
@@ -2875,62 +3745,20 @@ public final class Image {
 	 * Returns this {@code Image} instance.
 	 * <p>
 	 * If {@code pixelFilter} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.fillGradientF(ImageGradient.Operator.SOBEL, pixelFilter);
+	 * }
+	 * </pre>
 	 * 
 	 * @param pixelFilter a {@link Color4FPixelFilter} instance that accepts or rejects pixels
 	 * @return this {@code Image} instance
 	 * @throws NullPointerException thrown if, and only if, {@code pixelFilter} is {@code null}
 	 */
 	public Image fillSobelF(final Color4FPixelFilter pixelFilter) {
-		Objects.requireNonNull(pixelFilter, "pixelFilter == null");
-		
-		this.data.changeBegin();
-		
-		final Image image = copy();
-		
-		final int resolutionX = getResolutionX();
-		final int resolutionY = getResolutionY();
-		
-		final float[][] kernel = {
-			{-1.0F, 0.0F, 1.0F},
-			{-2.0F, 0.0F, 2.0F},
-			{-1.0F, 0.0F, 1.0F}
-		};
-		
-		for(int y = 0; y < resolutionY; y++) {
-			for(int x = 0; x < resolutionX; x++) {
-				final Color4F color = image.getColor4F(x, y);
-				
-				if(pixelFilter.isAccepted(color, x, y)) {
-					float magnitudeX = 0.0F;
-					float magnitudeY = 0.0F;
-					
-					for(int kernelY = 0; kernelY < 3; kernelY++) {
-						for(int kernelX = 0; kernelX < 3; kernelX++) {
-							final int currentX = x + kernelX - 1;
-							final int currentY = y + kernelY - 1;
-							
-							if(currentX >= 0 && currentX < resolutionX && currentY >= 0 && currentY < resolutionY) {
-								final int index = currentY * resolutionX + currentX;
-								
-								final float intensity = image.getColor3F(index).average();
-								
-								magnitudeX += intensity * kernel[kernelY][kernelX];
-								magnitudeY += intensity * kernel[kernelX][kernelY];
-							}
-						}
-					}
-					
-					final float grayscale = Floats.sqrt(magnitudeX * magnitudeX + magnitudeY * magnitudeY);
-					final float a = color.a;
-					
-					setColor4F(new Color4F(grayscale, a), x, y);
-				}
-			}
-		}
-		
-		this.data.changeEnd();
-		
-		return this;
+		return fillGradientF(ImageGradient.Operator.SOBEL, pixelFilter);
 	}
 	
 	/**
@@ -2948,7 +3776,13 @@ public final class Image {
 	 * @return this {@code Image} instance
 	 */
 	public Image flip() {
-		return flipX().flipY();
+		final int operationDepth = doBeginOperation();
+		
+		try {
+			return flipX().flipY();
+		} finally {
+			doEndOperation(operationDepth, "flip");
+		}
 	}
 	
 	/**
@@ -2959,23 +3793,29 @@ public final class Image {
 	 * @return this {@code Image} instance
 	 */
 	public Image flipX() {
-		final int resolutionX = getResolutionX();
-		final int resolutionY = getResolutionY();
+		final int operationDepth = doBeginOperation();
 		
-		this.data.changeBegin();
-		
-		for(int y = 0; y < resolutionY; y++) {
-			for(int xL = 0, xR = resolutionX - 1; xL < xR; xL++, xR--) {
-				final int indexL = y * resolutionX + xL;
-				final int indexR = y * resolutionX + xR;
-				
-				this.data.swap(indexL, indexR);
+		try {
+			final int resolutionX = getResolutionX();
+			final int resolutionY = getResolutionY();
+			
+			this.data.changeBegin();
+			
+			for(int y = 0; y < resolutionY; y++) {
+				for(int xL = 0, xR = resolutionX - 1; xL < xR; xL++, xR--) {
+					final int indexL = y * resolutionX + xL;
+					final int indexR = y * resolutionX + xR;
+					
+					this.data.swap(indexL, indexR);
+				}
 			}
+			
+			this.data.changeEnd();
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "flipX");
 		}
-		
-		this.data.changeEnd();
-		
-		return this;
 	}
 	
 	/**
@@ -2986,23 +3826,105 @@ public final class Image {
 	 * @return this {@code Image} instance
 	 */
 	public Image flipY() {
-		final int resolutionX = getResolutionX();
-		final int resolutionY = getResolutionY();
+		final int operationDepth = doBeginOperation();
 		
-		this.data.changeBegin();
-		
-		for(int yT = 0, yB = resolutionY - 1; yT < yB; yT++, yB--) {
-			for(int x = 0; x < resolutionX; x++) {
-				final int indexT = yT * resolutionX + x;
-				final int indexB = yB * resolutionX + x;
-				
-				this.data.swap(indexT, indexB);
+		try {
+			final int resolutionX = getResolutionX();
+			final int resolutionY = getResolutionY();
+			
+			this.data.changeBegin();
+			
+			for(int yT = 0, yB = resolutionY - 1; yT < yB; yT++, yB--) {
+				for(int x = 0; x < resolutionX; x++) {
+					final int indexT = yT * resolutionX + x;
+					final int indexB = yB * resolutionX + x;
+					
+					this.data.swap(indexT, indexB);
+				}
 			}
+			
+			this.data.changeEnd();
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "flipY");
+		}
+	}
+	
+	/**
+	 * Returns a copy of level {@code level} in the mipmap pyramid of this {@code Image} instance.
+	 * <p>
+	 * If {@code level} is less than {@code 0} or greater than or equal to {@code image.getMipmapLevelCount()}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.getMipmap(level, new BoxFilter2D());
+	 * }
+	 * </pre>
+	 * 
+	 * @param level the level in the mipmap pyramid
+	 * @return a copy of level {@code level} in the mipmap pyramid of this {@code Image} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code level} is less than {@code 0} or greater than or equal to {@code image.getMipmapLevelCount()}
+	 */
+	public Image getMipmap(final int level) {
+		return getMipmap(level, MIPMAP_FILTER);
+	}
+	
+	/**
+	 * Returns a copy of level {@code level} in the mipmap pyramid of this {@code Image} instance.
+	 * <p>
+	 * If {@code filter} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code level} is less than {@code 0} or greater than or equal to {@code image.getMipmapLevelCount()}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Level {@code 0} is this {@code Image} instance itself. Each following level is half the resolution of the previous level along both axes, rounded up, and is computed from it using {@code filter}. The last level has a resolution of {@code 1} by {@code 1}.
+	 * <p>
+	 * The mipmap pyramid is built lazily, one level at a time, and is cached. The cache is invalidated when this {@code Image} instance is changed, including changes performed by {@link #undo()} and {@link #redo()}, or when a different {@code filter} is requested.
+	 * <p>
+	 * The returned {@code Image} instance does not have a change history.
+	 * 
+	 * @param level the level in the mipmap pyramid
+	 * @param filter the {@link Filter2D} instance used to compute each level from the previous level
+	 * @return a copy of level {@code level} in the mipmap pyramid of this {@code Image} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code level} is less than {@code 0} or greater than or equal to {@code image.getMipmapLevelCount()}
+	 * @throws NullPointerException thrown if, and only if, {@code filter} is {@code null}
+	 */
+	public Image getMipmap(final int level, final Filter2D filter) {
+		return new Image(doGetMipmapPyramid(Objects.requireNonNull(filter, "filter == null")).getLevel(level), true);
+	}
+	
+	/**
+	 * Returns a thumbnail of this {@code Image} instance with a resolution of {@code resolutionX} and {@code resolutionY}.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The thumbnail is computed from the smallest level in the mipmap pyramid of this {@code Image} instance that is at least as large as {@code resolutionX} and {@code resolutionY}, so repeated calls only resample a small image once the mipmap pyramid has been built.
+	 * <p>
+	 * The returned {@code Image} instance does not have a change history.
+	 * 
+	 * @param resolutionX the resolution of the thumbnail along the X-axis
+	 * @param resolutionY the resolution of the thumbnail along the Y-axis
+	 * @return a thumbnail of this {@code Image} instance with a resolution of {@code resolutionX} and {@code resolutionY}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resolutionX} or {@code resolutionY} are less than {@code 1}
+	 */
+	public Image getThumbnail(final int resolutionX, final int resolutionY) {
+		Ints.requireRange(resolutionX, 1, Integer.MAX_VALUE, "resolutionX");
+		Ints.requireRange(resolutionY, 1, Integer.MAX_VALUE, "resolutionY");
+		
+		final MipmapPyramid mipmapPyramid = doGetMipmapPyramid(MIPMAP_FILTER);
+		
+		int level = 0;
+		
+		for(int x = getResolutionX(), y = getResolutionY(); level + 1 < mipmapPyramid.getLevelCount() && (x + 1) / 2 >= resolutionX && (y + 1) / 2 >= resolutionY; x = (x + 1) / 2, y = (y + 1) / 2) {
+			level++;
 		}
 		
-		this.data.changeEnd();
+		final
+		Image image = new Image(mipmapPyramid.getLevel(level), true);
+		image.scale(resolutionX, resolutionY, MIPMAP_FILTER);
 		
-		return this;
+		return image;
 	}
 	
 	/**
@@ -3042,9 +3964,15 @@ public final class Image {
 	 * @return this {@code Image} instance
 	 */
 	public Image rotate(final double angle, final boolean isAngleInRadians) {
-		this.data.rotate(angle, isAngleInRadians);
+		final int operationDepth = doBeginOperation();
 		
-		return this;
+		try {
+			this.data.rotate(angle, isAngleInRadians);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "rotate");
+		}
 	}
 	
 	/**
@@ -3084,9 +4012,15 @@ public final class Image {
 	 * @return this {@code Image} instance
 	 */
 	public Image rotate(final float angle, final boolean isAngleInRadians) {
-		this.data.rotate(angle, isAngleInRadians);
+		final int operationDepth = doBeginOperation();
 		
-		return this;
+		try {
+			this.data.rotate(angle, isAngleInRadians);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "rotate");
+		}
 	}
 	
 	/**
@@ -3389,9 +4323,15 @@ public final class Image {
 	 * @return this {@code Image} instance
 	 */
 	public Image scale(final double scaleX, final double scaleY) {
-		this.data.scale(scaleX, scaleY);
+		final int operationDepth = doBeginOperation();
 		
-		return this;
+		try {
+			this.data.scale(scaleX, scaleY);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "scale");
+		}
 	}
 	
 	/**
@@ -3408,9 +4348,15 @@ public final class Image {
 	 * @return this {@code Image} instance
 	 */
 	public Image scale(final float scaleX, final float scaleY) {
-		this.data.scale(scaleX, scaleY);
+		final int operationDepth = doBeginOperation();
 		
-		return this;
+		try {
+			this.data.scale(scaleX, scaleY);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "scale");
+		}
 	}
 	
 	/**
@@ -3427,9 +4373,73 @@ public final class Image {
 	 * @return this {@code Image} instance
 	 */
 	public Image scale(final int resolutionX, final int resolutionY) {
-		this.data.scale(resolutionX, resolutionY);
+		final int operationDepth = doBeginOperation();
 		
-		return this;
+		try {
+			this.data.scale(resolutionX, resolutionY);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "scale");
+		}
+	}
+	
+	/**
+	 * Scales this {@code Image} instance to {@code resolutionX} and {@code resolutionY} using the {@link Filter2D} instance {@code filter}.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If {@code filter} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1} or {@code resolutionX * resolutionY} overflows, the resolution will not be changed.
+	 * <p>
+	 * If {@code resolutionX == image.getResolutionX()} and {@code resolutionY == image.getResolutionY()}, the resolution will not be changed.
+	 * 
+	 * @param resolutionX the new resolution along the X-axis
+	 * @param resolutionY the new resolution along the Y-axis
+	 * @param filter the {@code Filter2D} instance to resample with
+	 * @return this {@code Image} instance
+	 * @throws NullPointerException thrown if, and only if, {@code filter} is {@code null}
+	 */
+	public Image scale(final int resolutionX, final int resolutionY, final Filter2D filter) {
+		final int operationDepth = doBeginOperation();
+		
+		try {
+			this.data.scale(resolutionX, resolutionY, filter);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "scale");
+		}
+	}
+	
+	/**
+	 * Scales this {@code Image} instance to {@code resolutionX} and {@code resolutionY} using the {@link Filter2F} instance {@code filter}.
+	 * <p>
+	 * Returns this {@code Image} instance.
+	 * <p>
+	 * If {@code filter} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1} or {@code resolutionX * resolutionY} overflows, the resolution will not be changed.
+	 * <p>
+	 * If {@code resolutionX == image.getResolutionX()} and {@code resolutionY == image.getResolutionY()}, the resolution will not be changed.
+	 * 
+	 * @param resolutionX the new resolution along the X-axis
+	 * @param resolutionY the new resolution along the Y-axis
+	 * @param filter the {@code Filter2F} instance to resample with
+	 * @return this {@code Image} instance
+	 * @throws NullPointerException thrown if, and only if, {@code filter} is {@code null}
+	 */
+	public Image scale(final int resolutionX, final int resolutionY, final Filter2F filter) {
+		final int operationDepth = doBeginOperation();
+		
+		try {
+			this.data.scale(resolutionX, resolutionY, filter);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "scale");
+		}
 	}
 	
 	/**
@@ -3930,9 +4940,15 @@ public final class Image {
 	 * @return this {@code Image} instance
 	 */
 	public Image setResolution(final int resolutionX, final int resolutionY) {
-		this.data.setResolution(resolutionX, resolutionY);
+		final int operationDepth = doBeginOperation();
 		
-		return this;
+		try {
+			this.data.setResolution(resolutionX, resolutionY);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "setResolution");
+		}
 	}
 	
 	/**
@@ -3955,9 +4971,15 @@ public final class Image {
 	 * @return this {@code Image} instance
 	 */
 	public Image setResolutionX(final int resolutionX) {
-		this.data.setResolutionX(resolutionX);
+		final int operationDepth = doBeginOperation();
 		
-		return this;
+		try {
+			this.data.setResolutionX(resolutionX);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "setResolutionX");
+		}
 	}
 	
 	/**
@@ -3980,9 +5002,96 @@ public final class Image {
 	 * @return this {@code Image} instance
 	 */
 	public Image setResolutionY(final int resolutionY) {
-		this.data.setResolutionY(resolutionY);
+		final int operationDepth = doBeginOperation();
 		
-		return this;
+		try {
+			this.data.setResolutionY(resolutionY);
+			
+			return this;
+		} finally {
+			doEndOperation(operationDepth, "setResolutionY");
+		}
+	}
+	
+	/**
+	 * Computes the intensity gradient of this {@code Image} instance using the Sobel operator.
+	 * <p>
+	 * Returns an {@link ImageGradient} instance with the intensity gradient of this {@code Image} instance.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.computeGradient(ImageGradient.Operator.SOBEL);
+	 * }
+	 * </pre>
+	 * 
+	 * @return an {@code ImageGradient} instance with the intensity gradient of this {@code Image} instance
+	 */
+	public ImageGradient computeGradient() {
+		return computeGradient(ImageGradient.Operator.SOBEL);
+	}
+	
+	/**
+	 * Computes the intensity gradient of this {@code Image} instance using {@code operator}.
+	 * <p>
+	 * Returns an {@link ImageGradient} instance with the intensity gradient of this {@code Image} instance.
+	 * <p>
+	 * If {@code operator} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The intensities are computed once and the gradient is computed in two separable passes, both of which are split across the available processors.
+	 * 
+	 * @param operator the {@link ImageGradient.Operator} to use
+	 * @return an {@code ImageGradient} instance with the intensity gradient of this {@code Image} instance
+	 * @throws NullPointerException thrown if, and only if, {@code operator} is {@code null}
+	 */
+	public ImageGradient computeGradient(final ImageGradient.Operator operator) {
+		return ImageGradient.compute(this.data, operator);
+	}
+	
+	/**
+	 * Computes statistics for this {@code Image} instance.
+	 * <p>
+	 * Returns an {@link ImageStatistics} instance with the statistics for this {@code Image} instance.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.computeStatistics(ImageStatistics.DEFAULT_BIN_COUNT);
+	 * }
+	 * </pre>
+	 * 
+	 * @return an {@code ImageStatistics} instance with the statistics for this {@code Image} instance
+	 */
+	public ImageStatistics computeStatistics() {
+		return computeStatistics(ImageStatistics.DEFAULT_BIN_COUNT);
+	}
+	
+	/**
+	 * Computes statistics for this {@code Image} instance.
+	 * <p>
+	 * Returns an {@link ImageStatistics} instance with the statistics for this {@code Image} instance.
+	 * <p>
+	 * All statistics, including the histograms with {@code binCount} bins each, are computed in a single parallel pass over the pixels. This is preferable to calling methods such as {@link #relativeLuminanceMaxAsDouble()} and {@link #relativeLuminanceMinAsDouble()} separately.
+	 * <p>
+	 * If {@code binCount} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param binCount the number of bins in each histogram
+	 * @return an {@code ImageStatistics} instance with the statistics for this {@code Image} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code binCount} is less than {@code 1}
+	 */
+	public ImageStatistics computeStatistics(final int binCount) {
+		return ImageStatistics.compute(this.data, binCount);
+	}
+	
+	/**
+	 * Returns a {@code List} with all {@link ImageMetrics} instances currently added to this {@code Image} instance.
+	 * <p>
+	 * The {@code ImageMetrics} instances added using {@link #addGlobalImageMetrics(ImageMetrics)} are not included.
+	 * 
+	 * @return a {@code List} with all {@code ImageMetrics} instances currently added to this {@code Image} instance
+	 */
+	public List<ImageMetrics> getImageMetrics() {
+		return new ArrayList<>(java.util.Arrays.asList(this.imageMetrics));
 	}
 	
 	/**
@@ -3990,35 +5099,48 @@ public final class Image {
 	 * <p>
 	 * Returns a {@code List} with all {@link Rectangle2I} bounds found for {@code image} in this {@code Image} instance.
 	 * <p>
+	 * The bounds are found by comparing the colors in packed ARGB form. Only bounds that are fully contained in this {@code Image} instance are considered. They are returned in the order they are found, row by row from top to bottom and left to right.
+	 * <p>
 	 * If {@code image} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.findBoundsForAll(Collections.singletonList(image)).get(0);
+	 * }
+	 * </pre>
 	 * 
 	 * @param image an {@code Image} instance
 	 * @return a {@code List} with all {@code Rectangle2I} bounds found for {@code image} in this {@code Image} instance
 	 * @throws NullPointerException thrown if, and only if, {@code image} is {@code null}
 	 */
-	public List<Rectangle2I> findBoundsFor(final Image image) {
-		Objects.requireNonNull(image, "image == null");
-		
-		final List<Rectangle2I> rectangles = new ArrayList<>();
-		
-		for(int y = 0; y < getResolutionY(); y++) {
-			for(int x = 0; x < getResolutionX(); x++) {
-				labelImage:
-				if(getColorARGB(x, y) == image.getColorARGB(0, 0)) {
-					for(int imageY = 0; imageY < image.getResolutionY(); imageY++) {
-						for(int imageX = 0; imageX < image.getResolutionX(); imageX++) {
-							if(getColorARGB(x + imageX, y + imageY) != image.getColorARGB(imageX, imageY)) {
-								break labelImage;
-							}
-						}
-					}
-					
-					rectangles.add(new Rectangle2I(new Point2I(x, y), new Point2I(x + image.getResolutionX() - 1, y + image.getResolutionY() - 1)));
-				}
-			}
+	public List<Rectangle2I> findBoundsFor(final Image image) {
+		return findBoundsForAll(Collections.singletonList(Objects.requireNonNull(image, "image == null"))).get(0);
+	}
+	
+	/**
+	 * Finds the bounds for all {@code Image} instances in {@code images} in this {@code Image} instance.
+	 * <p>
+	 * Returns a {@code List} that contains a {@code List} with all {@link Rectangle2I} bounds found for each {@code Image} instance in {@code images}, in the same order as in {@code images}.
+	 * <p>
+	 * The search uses a two-dimensional rolling hash, so the colors of this {@code Image} instance only need to be hashed once for all {@code Image} instances in {@code images} that share the same resolution. Each hash match is verified by comparing the colors in packed ARGB form, so no false positives are returned. The work is split across the available processors.
+	 * <p>
+	 * Only bounds that are fully contained in this {@code Image} instance are considered. They are returned in the order they are found, row by row from top to bottom and left to right.
+	 * <p>
+	 * If either {@code images} or any of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param images a {@code List} of {@code Image} instances
+	 * @return a {@code List} that contains a {@code List} with all {@code Rectangle2I} bounds found for each {@code Image} instance in {@code images}
+	 * @throws NullPointerException thrown if, and only if, either {@code images} or any of its elements are {@code null}
+	 */
+	public List<List<Rectangle2I>> findBoundsForAll(final List<Image> images) {
+		final List<Data> templates = new ArrayList<>();
+		
+		for(final Image image : Lists.requireNonNull(images, "images")) {
+			templates.add(image.data);
 		}
 		
-		return rectangles;
+		return new TemplateMatcher(this.data).findBoundsFor(templates);
 	}
 	
 	/**
@@ -4061,6 +5183,31 @@ public final class Image {
 		}
 	}
 	
+	/**
+	 * Adds {@code imageMetrics} to this {@code Image} instance.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code imageMetrics} was added, {@code false} otherwise.
+	 * <p>
+	 * If {@code imageMetrics} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * An {@code ImageMetrics} instance can only be added once. It will be notified about operations performed on this {@code Image} instance only.
+	 * 
+	 * @param imageMetrics the {@link ImageMetrics} instance to add
+	 * @return {@code true} if, and only if, {@code imageMetrics} was added, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code imageMetrics} is {@code null}
+	 */
+	public boolean addImageMetrics(final ImageMetrics imageMetrics) {
+		Objects.requireNonNull(imageMetrics, "imageMetrics == null");
+		
+		if(doIndexOf(this.imageMetrics, imageMetrics) != -1) {
+			return false;
+		}
+		
+		this.imageMetrics = doAdd(this.imageMetrics, imageMetrics);
+		
+		return true;
+	}
+	
 	/**
 	 * Performs a change begin operation.
 	 * <p>
@@ -4096,6 +5243,16 @@ public final class Image {
 		return this.data.isChangeHistoryEnabled();
 	}
 	
+	/**
+	 * Returns {@code true} if, and only if, this {@code Image} instance stores colors with premultiplied alpha, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, this {@code Image} instance stores colors with premultiplied alpha, {@code false} otherwise
+	 * @see #setPremultiplied(boolean)
+	 */
+	public boolean isPremultiplied() {
+		return this.data.isPremultiplied();
+	}
+	
 	/**
 	 * Performs the current redo operation.
 	 * <p>
@@ -4104,7 +5261,38 @@ public final class Image {
 	 * @return {@code true} if, and only if, the redo operation was performed, {@code false} otherwise
 	 */
 	public boolean redo() {
-		return this.data.redo();
+		final int operationDepth = doBeginOperation();
+		
+		try {
+			return this.data.redo();
+		} finally {
+			doEndOperation(operationDepth, "redo");
+		}
+	}
+	
+	/**
+	 * Removes {@code imageMetrics} from this {@code Image} instance.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code imageMetrics} was removed, {@code false} otherwise.
+	 * <p>
+	 * If {@code imageMetrics} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param imageMetrics the {@link ImageMetrics} instance to remove
+	 * @return {@code true} if, and only if, {@code imageMetrics} was removed, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code imageMetrics} is {@code null}
+	 */
+	public boolean removeImageMetrics(final ImageMetrics imageMetrics) {
+		Objects.requireNonNull(imageMetrics, "imageMetrics == null");
+		
+		final int index = doIndexOf(this.imageMetrics, imageMetrics);
+		
+		if(index == -1) {
+			return false;
+		}
+		
+		this.imageMetrics = doRemove(this.imageMetrics, index);
+		
+		return true;
 	}
 	
 	/**
@@ -4190,6 +5378,29 @@ public final class Image {
 		return save(new File(pathname), formatName);
 	}
 	
+	/**
+	 * Sets the {@link CancellationToken} instance that is checked by the long-running operations of this {@code Image} instance to {@code cancellationToken}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the {@code CancellationToken} instance was changed, {@code false} otherwise.
+	 * <p>
+	 * The {@code CancellationToken} instance may be {@code null}.
+	 * <p>
+	 * When the {@code CancellationToken} instance is cancelled, the currently running operation throws a {@code CancellationException} and leaves the pixels of this {@code Image} instance unchanged. Operations that change the pixels in place, such as {@link #fillD(Color4DPixelOperator, Color4DPixelFilter)}, use the change history to roll back if it is enabled. Only the changes of the cancelled operation are rolled back, even if it is part of a change that has already begun. If the change history is disabled, it stays disabled. Instead, these operations copy each row before they first change it, or take a single copy of the pixels if they may change any pixel, and restore that copy.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.getData().setCancellationToken(cancellationToken);
+	 * }
+	 * </pre>
+	 * 
+	 * @param cancellationToken the {@code CancellationToken} instance, which may be {@code null}
+	 * @return {@code true} if, and only if, the {@code CancellationToken} instance was changed, {@code false} otherwise
+	 */
+	public boolean setCancellationToken(final CancellationToken cancellationToken) {
+		return this.data.setCancellationToken(cancellationToken);
+	}
+	
 	/**
 	 * Sets the change history enabled state to {@code isChangeHistoryEnabled}.
 	 * <p>
@@ -4202,6 +5413,54 @@ public final class Image {
 		return this.data.setChangeHistoryEnabled(isChangeHistoryEnabled);
 	}
 	
+	/**
+	 * Sets whether this {@code Image} instance should store colors with premultiplied alpha or not.
+	 * <p>
+	 * Returns {@code true} if, and only if, the storage mode was changed, {@code false} otherwise.
+	 * <p>
+	 * While this {@code Image} instance stores colors with premultiplied alpha, the colors returned by its getters and accepted by its setters have premultiplied alpha as well. This storage mode is intended for images that are composited repeatedly, such as layers, using {@link #composite(CompositeOperator, Image, Rectangle2I, Point2I)}.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.getData().setPremultiplied(isPremultiplied);
+	 * }
+	 * </pre>
+	 * 
+	 * @param isPremultiplied {@code true} if, and only if, colors should be stored with premultiplied alpha, {@code false} otherwise
+	 * @return {@code true} if, and only if, the storage mode was changed, {@code false} otherwise
+	 */
+	public boolean setPremultiplied(final boolean isPremultiplied) {
+		final int operationDepth = doBeginOperation();
+		
+		try {
+			return this.data.setPremultiplied(isPremultiplied);
+		} finally {
+			doEndOperation(operationDepth, "setPremultiplied");
+		}
+	}
+	
+	/**
+	 * Sets the {@link ProgressListener} instance that is notified by the long-running operations of this {@code Image} instance to {@code progressListener}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the {@code ProgressListener} instance was changed, {@code false} otherwise.
+	 * <p>
+	 * The {@code ProgressListener} instance may be {@code null}.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * image.getData().setProgressListener(progressListener);
+	 * }
+	 * </pre>
+	 * 
+	 * @param progressListener the {@code ProgressListener} instance, which may be {@code null}
+	 * @return {@code true} if, and only if, the {@code ProgressListener} instance was changed, {@code false} otherwise
+	 */
+	public boolean setProgressListener(final ProgressListener progressListener) {
+		return this.data.setProgressListener(progressListener);
+	}
+	
 	/**
 	 * Performs the current undo operation.
 	 * <p>
@@ -4210,7 +5469,13 @@ public final class Image {
 	 * @return {@code true} if, and only if, the undo operation was performed, {@code false} otherwise
 	 */
 	public boolean undo() {
-		return this.data.undo();
+		final int operationDepth = doBeginOperation();
+		
+		try {
+			return this.data.undo();
+		} finally {
+			doEndOperation(operationDepth, "undo");
+		}
 	}
 	
 	/**
@@ -4248,18 +5513,7 @@ public final class Image {
 	 * @return the maximum relative luminance in this {@code Image} instance as a {@code double}
 	 */
 	public double relativeLuminanceMaxAsDouble() {
-		final int resolutionX = getResolutionX();
-		final int resolutionY = getResolutionY();
-		
-		double relativeLuminanceMax = -Double.MAX_VALUE;
-		
-		for(int y = 0; y < resolutionY; y++) {
-			for(int x = 0; x < resolutionX; x++) {
-				relativeLuminanceMax = Doubles.max(relativeLuminanceMax, getColor3D(x, y).relativeLuminance());
-			}
-		}
-		
-		return relativeLuminanceMax;
+		return computeStatistics(1).getMaximum(ImageStatistics.Channel.RELATIVE_LUMINANCE);
 	}
 	
 	/**
@@ -4268,18 +5522,7 @@ public final class Image {
 	 * @return the minimum relative luminance in this {@code Image} instance as a {@code double}
 	 */
 	public double relativeLuminanceMinAsDouble() {
-		final int resolutionX = getResolutionX();
-		final int resolutionY = getResolutionY();
-		
-		double relativeLuminanceMin = Double.MAX_VALUE;
-		
-		for(int y = 0; y < resolutionY; y++) {
-			for(int x = 0; x < resolutionX; x++) {
-				relativeLuminanceMin = Doubles.min(relativeLuminanceMin, getColor3D(x, y).relativeLuminance());
-			}
-		}
-		
-		return relativeLuminanceMin;
+		return computeStatistics(1).getMinimum(ImageStatistics.Channel.RELATIVE_LUMINANCE);
 	}
 	
 	/**
@@ -4351,18 +5594,7 @@ public final class Image {
 	 * @return the maximum relative luminance in this {@code Image} instance as a {@code float}
 	 */
 	public float relativeLuminanceMaxAsFloat() {
-		final int resolutionX = getResolutionX();
-		final int resolutionY = getResolutionY();
-		
-		float relativeLuminanceMax = -Float.MAX_VALUE;
-		
-		for(int y = 0; y < resolutionY; y++) {
-			for(int x = 0; x < resolutionX; x++) {
-				relativeLuminanceMax = Floats.max(relativeLuminanceMax, getColor3F(x, y).relativeLuminance());
-			}
-		}
-		
-		return relativeLuminanceMax;
+		return computeStatistics(1).getMaximumAsFloat(ImageStatistics.Channel.RELATIVE_LUMINANCE);
 	}
 	
 	/**
@@ -4371,18 +5603,7 @@ public final class Image {
 	 * @return the minimum relative luminance in this {@code Image} instance as a {@code float}
 	 */
 	public float relativeLuminanceMinAsFloat() {
-		final int resolutionX = getResolutionX();
-		final int resolutionY = getResolutionY();
-		
-		float relativeLuminanceMin = Float.MAX_VALUE;
-		
-		for(int y = 0; y < resolutionY; y++) {
-			for(int x = 0; x < resolutionX; x++) {
-				relativeLuminanceMin = Floats.min(relativeLuminanceMin, getColor3F(x, y).relativeLuminance());
-			}
-		}
-		
-		return relativeLuminanceMin;
+		return computeStatistics(1).getMinimumAsFloat(ImageStatistics.Channel.RELATIVE_LUMINANCE);
 	}
 	
 	/**
@@ -4544,6 +5765,17 @@ public final class Image {
 		return this.data.getColorARGB(x, y);
 	}
 	
+	/**
+	 * Returns the number of levels in the mipmap pyramid of this {@code Image} instance.
+	 * <p>
+	 * Level {@code 0} is this {@code Image} instance itself and the last level has a resolution of {@code 1} by {@code 1}.
+	 * 
+	 * @return the number of levels in the mipmap pyramid of this {@code Image} instance
+	 */
+	public int getMipmapLevelCount() {
+		return MipmapPyramid.getLevelCount(getResolutionX(), getResolutionY());
+	}
+	
 	/**
 	 * Returns the resolution of this {@code Image} instance.
 	 * 
@@ -4733,8 +5965,127 @@ public final class Image {
 		return new Image(bufferedImage, dataFactory);
 	}
 	
+	/**
+	 * Returns a {@code List} with all {@link ImageMetrics} instances currently added to all {@code Image} instances.
+	 * 
+	 * @return a {@code List} with all {@code ImageMetrics} instances currently added to all {@code Image} instances
+	 */
+	public static List<ImageMetrics> getGlobalImageMetrics() {
+		return new ArrayList<>(java.util.Arrays.asList(globalImageMetrics));
+	}
+	
+	/**
+	 * Adds {@code imageMetrics} to all {@code Image} instances.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code imageMetrics} was added, {@code false} otherwise.
+	 * <p>
+	 * If {@code imageMetrics} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * An {@code ImageMetrics} instance can only be added once. It will be notified about operations performed on all {@code Image} instances, on any thread.
+	 * 
+	 * @param imageMetrics the {@link ImageMetrics} instance to add
+	 * @return {@code true} if, and only if, {@code imageMetrics} was added, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code imageMetrics} is {@code null}
+	 */
+	public static synchronized boolean addGlobalImageMetrics(final ImageMetrics imageMetrics) {
+		Objects.requireNonNull(imageMetrics, "imageMetrics == null");
+		
+		if(doIndexOf(globalImageMetrics, imageMetrics) != -1) {
+			return false;
+		}
+		
+		globalImageMetrics = doAdd(globalImageMetrics, imageMetrics);
+		
+		return true;
+	}
+	
+	/**
+	 * Removes {@code imageMetrics} from all {@code Image} instances.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code imageMetrics} was removed, {@code false} otherwise.
+	 * <p>
+	 * If {@code imageMetrics} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param imageMetrics the {@link ImageMetrics} instance to remove
+	 * @return {@code true} if, and only if, {@code imageMetrics} was removed, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code imageMetrics} is {@code null}
+	 */
+	public static synchronized boolean removeGlobalImageMetrics(final ImageMetrics imageMetrics) {
+		Objects.requireNonNull(imageMetrics, "imageMetrics == null");
+		
+		final int index = doIndexOf(globalImageMetrics, imageMetrics);
+		
+		if(index == -1) {
+			return false;
+		}
+		
+		globalImageMetrics = doRemove(globalImageMetrics, index);
+		
+		return true;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	synchronized CompletableFuture<Void> enqueue(final CompletableFuture<Void> completion) {
+		final CompletableFuture<Void> previousCompletion = this.asyncCompletion != null ? this.asyncCompletion : CompletableFuture.completedFuture(null);
+		
+		this.asyncCompletion = completion;
+		
+		return previousCompletion;
+	}
+	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	private Data doCreateSnapshot() {
+		return this.data.isChangeHistoryEnabled() || !this.data.getCancellationToken().isPresent() ? null : this.data.copy(true);
+	}
+	
+	private MipmapPyramid doGetMipmapPyramid(final Filter2D filter) {
+		if(this.mipmapPyramid == null || !this.mipmapPyramid.isValidFor(this.data, filter)) {
+			this.mipmapPyramid = new MipmapPyramid(this.data, filter);
+		}
+		
+		return this.mipmapPyramid;
+	}
+	
+	private int doBeginOperation() {
+		if(this.imageMetrics.length == 0 && globalImageMetrics.length == 0) {
+			return 0;
+		}
+		
+		final int operationDepth = ++this.operationDepth;
+		
+		if(operationDepth == 1) {
+			this.operationCommittedSizeInBytes = doGetCommittedSizeInBytes();
+			this.operationPixelModificationCount = this.data.getPixelModificationCount();
+			this.operationStartTime = System.nanoTime();
+		}
+		
+		return operationDepth;
+	}
+	
+	private int doGetChangeCount() {
+		final Optional<ChangeHistory> changeHistory = this.data.getChangeHistory();
+		
+		return changeHistory.isPresent() ? changeHistory.get().getChangeCount() : 0;
+	}
+	
+	private long doGetCommittedSizeInBytes() {
+		final Optional<ChangeHistory> changeHistory = this.data.getChangeHistory();
+		
+		return changeHistory.isPresent() ? changeHistory.get().getCommittedSizeInBytes() : 0L;
+	}
+	
+	private long doGetChangeHistorySizeInBytes() {
+		final Optional<ChangeHistory> changeHistory = this.data.getChangeHistory();
+		
+		return changeHistory.isPresent() ? changeHistory.get().getSizeInBytes() : 0L;
+	}
+	
+	private double[][] doCreateRows(final int resolutionY) {
+		return this.data.isChangeHistoryEnabled() || !this.data.getCancellationToken().isPresent() ? null : new double[resolutionY][];
+	}
+	
 	private int[] doFilterD(final Color4DPixelFilter pixelFilter) {
 		final int resolutionX = getResolutionX();
 		final int resolutionY = getResolutionY();
@@ -4793,6 +6144,89 @@ public final class Image {
 		return java.util.Arrays.stream(indices).filter(index -> index != -1).toArray();
 	}
 	
+	private void doChangeEnd(final boolean hasChangeBegunNow) {
+		if(hasChangeBegunNow) {
+			this.data.changeEnd();
+		}
+	}
+	
+	private void doChangeRollback(final int changeCount, final Data data) {
+		final Optional<ChangeHistory> changeHistory = this.data.getChangeHistory();
+		
+		if(changeHistory.isPresent()) {
+			changeHistory.get().rollback(this.data, changeCount);
+		}
+		
+		if(data != null) {
+			this.data.setContent(data);
+		}
+	}
+	
+	private void doChangeRollback(final int changeCount, final double[][] rows) {
+		final Optional<ChangeHistory> changeHistory = this.data.getChangeHistory();
+		
+		if(changeHistory.isPresent()) {
+			changeHistory.get().rollback(this.data, changeCount);
+		}
+		
+		if(rows != null) {
+			final int maximumX = getResolutionX() - 1;
+			
+			for(int y = 0; y < rows.length; y++) {
+				if(rows[y] != null) {
+					this.data.copyRegionFrom(rows[y], new Rectangle2I(new Point2I(0, y), new Point2I(maximumX, y)));
+				}
+			}
+		}
+	}
+	
+	private void doCopyRegionFrom(final double[] colors, final int minimumX, final int minimumY, final int maximumX, final int maximumY) {
+		if(minimumX > maximumX || minimumY > maximumY) {
+			return;
+		}
+		
+		final int resolutionX = getResolutionX();
+		
+		final int regionResolutionX = maximumX - minimumX + 1;
+		
+		for(int y = minimumY; y <= maximumY; y++) {
+			System.arraycopy(colors, (y * resolutionX + minimumX) * 4, colors, (y - minimumY) * regionResolutionX * 4, regionResolutionX * 4);
+		}
+		
+		this.data.copyRegionFrom(colors, new Rectangle2I(new Point2I(minimumX, minimumY), new Point2I(maximumX, maximumY)));
+	}
+	
+	private void doCopyRow(final double[][] rows, final int y) {
+		if(rows != null && rows[y] == null) {
+			rows[y] = new double[getResolutionX() * 4];
+			
+			this.data.copyRowTo(rows[y], y);
+		}
+	}
+	
+	private void doEndOperation(final int operationDepth, final String operationName) {
+		if(operationDepth == 0) {
+			return;
+		}
+		
+		this.operationDepth = operationDepth - 1;
+		
+		if(operationDepth == 1) {
+			final long durationInNanoseconds = System.nanoTime() - this.operationStartTime;
+			final long pixelCount = this.data.getPixelModificationCount() - this.operationPixelModificationCount;
+			final long changeHistorySizeInBytes = doGetChangeHistorySizeInBytes();
+			final long undoSizeInBytes = Math.max(doGetCommittedSizeInBytes() - this.operationCommittedSizeInBytes, 0L);
+			
+			for(final ImageMetrics imageMetrics : this.imageMetrics) {
+				doOnOperation(imageMetrics, operationName, durationInNanoseconds, pixelCount, undoSizeInBytes, changeHistorySizeInBytes);
+			}
+			
+			for(final ImageMetrics imageMetrics : globalImageMetrics) {
+				doOnOperation(imageMetrics, operationName, durationInNanoseconds, pixelCount, undoSizeInBytes, changeHistorySizeInBytes);
+			}
+		}
+	}
+	
 	private void doFillRegionD(final int x, final int y, final Color4DPixelOperator pixelOperator, final Color4DPixelFilter pixelFilter, final Color4D oldColor) {
 		final int resolution = getResolution();
 		final int resolutionX = getResolutionX();
@@ -4804,6 +6238,8 @@ public final class Image {
 		final int maximumY = resolutionY - 1;
 		
 		if(x >= minimumX && x <= maximumX && y >= minimumY && y <= maximumY) {
+			final ProgressMonitor progressMonitor = this.data.createProgressMonitor(resolution);
+			
 			final boolean[] isFilled = new boolean[resolution];
 			
 			final int[] stackX = new int[resolution];
@@ -4820,6 +6256,8 @@ public final class Image {
 				
 				stackLength--;
 				
+				progressMonitor.advance();
+				
 				final Color4D color = getColor4D(currentX, currentY);
 				
 				if(pixelFilter.isAccepted(color, currentX, currentY)) {
@@ -4870,6 +6308,8 @@ public final class Image {
 		final int maximumY = resolutionY - 1;
 		
 		if(x >= minimumX && x <= maximumX && y >= minimumY && y <= maximumY) {
+			final ProgressMonitor progressMonitor = this.data.createProgressMonitor(resolution);
+			
 			final boolean[] isFilled = new boolean[resolution];
 			
 			final int[] stackX = new int[resolution];
@@ -4886,6 +6326,8 @@ public final class Image {
 				
 				stackLength--;
 				
+				progressMonitor.advance();
+				
 				final Color4F color = getColor4F(currentX, currentY);
 				
 				if(pixelFilter.isAccepted(color, currentX, currentY)) {
@@ -4936,6 +6378,8 @@ public final class Image {
 		final int maximumY = resolutionY - 1;
 		
 		if(x >= minimumX && x <= maximumX && y >= minimumY && y <= maximumY) {
+			final ProgressMonitor progressMonitor = this.data.createProgressMonitor(resolution);
+			
 			final boolean[] isFilled = new boolean[resolution];
 			
 			final int[] stackX = new int[resolution];
@@ -4952,6 +6396,8 @@ public final class Image {
 				
 				stackLength--;
 				
+				progressMonitor.advance();
+				
 				final int colorARGB = getColorARGB(currentX, currentY);
 				
 				if(pixelFilter.isAccepted(colorARGB, currentX, currentY)) {
@@ -4990,4 +6436,47 @@ public final class Image {
 			}
 		}
 	}
+	
+	private void doOnOperation(final ImageMetrics imageMetrics, final String operationName, final long durationInNanoseconds, final long pixelCount, final long undoSizeInBytes, final long changeHistorySizeInBytes) {
+		try {
+			imageMetrics.onOperation(this, operationName, durationInNanoseconds, pixelCount, undoSizeInBytes, changeHistorySizeInBytes);
+		} catch(final RuntimeException e) {
+			final Thread thread = Thread.currentThread();
+			
+			thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static ImageMetrics[] doAdd(final ImageMetrics[] imageMetrics, final ImageMetrics imageMetricsToAdd) {
+		final ImageMetrics[] newImageMetrics = java.util.Arrays.copyOf(imageMetrics, imageMetrics.length + 1);
+		
+		newImageMetrics[imageMetrics.length] = imageMetricsToAdd;
+		
+		return newImageMetrics;
+	}
+	
+	private static ImageMetrics[] doRemove(final ImageMetrics[] imageMetrics, final int index) {
+		if(imageMetrics.length == 1) {
+			return IMAGE_METRICS_EMPTY;
+		}
+		
+		final ImageMetrics[] newImageMetrics = new ImageMetrics[imageMetrics.length - 1];
+		
+		System.arraycopy(imageMetrics, 0, newImageMetrics, 0, index);
+		System.arraycopy(imageMetrics, index + 1, newImageMetrics, index, imageMetrics.length - index - 1);
+		
+		return newImageMetrics;
+	}
+	
+	private static int doIndexOf(final ImageMetrics[] imageMetrics, final ImageMetrics imageMetricsToFind) {
+		for(int i = 0; i < imageMetrics.length; i++) {
+			if(imageMetrics[i] == imageMetricsToFind) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,456 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.macroing.art4j.data.CancellationToken;
+import org.macroing.art4j.data.DataFactory;
+import org.macroing.java.lang.Ints;
+
+/**
+ * An {@code ImageBatchProcessor} applies the same {@link Image} pipeline to a batch of images.
+ * <p>
+ * Each image passes through three stages. It is decoded, the pipeline is applied to it and it is encoded. The stages run on different threads, so the decoding of one image, the computation of another and the encoding of a third overlap:
+ * <ul>
+ * <li>The decode and encode stages are I/O-bound. They run on virtual threads if the Java runtime supports them and on a fixed pool of platform threads otherwise. In both cases the number of images that are decoded or encoded at the same time is bounded by the I/O concurrency.</li>
+ * <li>The compute stage is CPU-bound. It runs on a fixed pool of platform threads, whose size is given by the compute concurrency.</li>
+ * </ul>
+ * The capacity bounds the number of images that are in flight, that is, decoded but not yet encoded. When the capacity is reached, decoding waits until an image has been encoded. This back-pressure keeps the memory usage bounded regardless of the size of the batch and of which stage is the slowest.
+ * <p>
+ * The following example scales all images in a directory and saves them to another directory:
+ * <pre>
+ * {@code
+ * try(final ImageBatchProcessor imageBatchProcessor = new ImageBatchProcessor()) {
+ *     final List<CompletableFuture<File>> futures = imageBatchProcessor.processFiles(Arrays.asList(new File("Input").listFiles()), new File("Output"), "png", image -> image.scale(0.5D, 0.5D));
+ *     
+ *     CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+ * }
+ * }
+ * </pre>
+ * Each image has its own {@code CompletableFuture}, so a failure only affects that image. An image can be cancelled by calling {@code cancel(boolean)} on its {@code CompletableFuture}. If the pipeline is running at that time, it is given a {@link CancellationToken} instance that stops the long-running operations of {@code Image}.
+ * <p>
+ * This class is thread-safe.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ImageBatchProcessor implements AutoCloseable {
+	private static final String VIRTUAL_THREAD_METHOD_NAME = "newVirtualThreadPerTaskExecutor";
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final DataFactory dataFactory;
+	private final ExecutorService computeExecutorService;
+	private final ExecutorService decodeExecutorService;
+	private final ExecutorService encodeExecutorService;
+	private final Semaphore decodeSemaphore;
+	private final Semaphore encodeSemaphore;
+	private final Semaphore inFlightSemaphore;
+	private final boolean isUsingVirtualThreads;
+	private final int capacity;
+	private final int computeConcurrency;
+	private final int iOConcurrency;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code ImageBatchProcessor} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new ImageBatchProcessor(DataFactory.forPackedIntARGB());
+	 * }
+	 * </pre>
+	 */
+	public ImageBatchProcessor() {
+		this(DataFactory.forPackedIntARGB());
+	}
+	
+	/**
+	 * Constructs a new {@code ImageBatchProcessor} instance that decodes images using {@code dataFactory}.
+	 * <p>
+	 * If {@code dataFactory} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The compute concurrency is the number of available processors, the I/O concurrency is twice that number and the capacity is four times that number.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new ImageBatchProcessor(dataFactory, Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors() * 4);
+	 * }
+	 * </pre>
+	 * 
+	 * @param dataFactory the {@link DataFactory} instance that is used to decode images
+	 * @throws NullPointerException thrown if, and only if, {@code dataFactory} is {@code null}
+	 */
+	public ImageBatchProcessor(final DataFactory dataFactory) {
+		this(dataFactory, Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors() * 4);
+	}
+	
+	/**
+	 * Constructs a new {@code ImageBatchProcessor} instance that decodes images using {@code dataFactory}.
+	 * <p>
+	 * If {@code dataFactory} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code iOConcurrency}, {@code computeConcurrency} or {@code capacity} are less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param dataFactory the {@link DataFactory} instance that is used to decode images
+	 * @param iOConcurrency the maximum number of images that are decoded at the same time and the maximum number of images that are encoded at the same time
+	 * @param computeConcurrency the number of threads that apply the pipeline
+	 * @param capacity the maximum number of images that are decoded but not yet encoded
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code iOConcurrency}, {@code computeConcurrency} or {@code capacity} are less than {@code 1}
+	 * @throws NullPointerException thrown if, and only if, {@code dataFactory} is {@code null}
+	 */
+	public ImageBatchProcessor(final DataFactory dataFactory, final int iOConcurrency, final int computeConcurrency, final int capacity) {
+		this.dataFactory = Objects.requireNonNull(dataFactory, "dataFactory == null");
+		this.iOConcurrency = Ints.requireRange(iOConcurrency, 1, Integer.MAX_VALUE, "iOConcurrency");
+		this.computeConcurrency = Ints.requireRange(computeConcurrency, 1, Integer.MAX_VALUE, "computeConcurrency");
+		this.capacity = Ints.requireRange(capacity, 1, Integer.MAX_VALUE, "capacity");
+		this.decodeSemaphore = new Semaphore(iOConcurrency, true);
+		this.encodeSemaphore = new Semaphore(iOConcurrency);
+		this.inFlightSemaphore = new Semaphore(capacity, true);
+		this.computeExecutorService = doCreateFixedThreadPool(computeConcurrency, "compute");
+		
+		final ExecutorService decodeExecutorService = doCreateVirtualThreadExecutorService();
+		final ExecutorService encodeExecutorService = decodeExecutorService != null ? doCreateVirtualThreadExecutorService() : null;
+		
+		this.isUsingVirtualThreads = decodeExecutorService != null && encodeExecutorService != null;
+		this.decodeExecutorService = this.isUsingVirtualThreads ? decodeExecutorService : doCreateFixedThreadPool(iOConcurrency, "decode");
+		this.encodeExecutorService = this.isUsingVirtualThreads ? encodeExecutorService : doCreateFixedThreadPool(iOConcurrency, "encode");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the {@link DataFactory} instance that is used to decode images by {@link #processFiles(List, File, String, Function)} and {@link #processURLs(List, File, String, Function)}.
+	 * 
+	 * @return the {@code DataFactory} instance that is used to decode images by {@code processFiles(List, File, String, Function)} and {@code processURLs(List, File, String, Function)}
+	 */
+	public DataFactory getDataFactory() {
+		return this.dataFactory;
+	}
+	
+	/**
+	 * Processes the images in {@code sources}.
+	 * <p>
+	 * Returns a {@code List} with one {@code CompletableFuture} for each element in {@code sources}, in the same order. Each {@code CompletableFuture} completes with the result of {@code encoder} or exceptionally if any of the stages fails for that image.
+	 * <p>
+	 * If either {@code sources}, at least one of its elements, {@code decoder}, {@code pipeline} or {@code encoder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * This method does not block. The decoding of the images is started in the order of {@code sources}, and the images that wait for capacity or for a decoding slot are served first-come, first-served. Because the decoding runs concurrently, neither the order in which the images are decoded nor the order in which they are encoded is guaranteed.
+	 * <p>
+	 * If {@code decoder} or {@code pipeline} returns {@code null}, the {@code CompletableFuture} for that image completes with a {@code NullPointerException}.
+	 * <p>
+	 * If this {@code ImageBatchProcessor} instance has been closed, the {@code CompletableFuture} instances complete with a {@code RejectedExecutionException}.
+	 * 
+	 * @param <S> the type of the sources
+	 * @param <R> the type of the results
+	 * @param sources a {@code List} with the sources of the images
+	 * @param decoder a {@code Function} that decodes a source into an {@link Image} instance
+	 * @param pipeline a {@code Function} that is applied to each decoded {@code Image} instance and returns the {@code Image} instance to encode
+	 * @param encoder a {@code BiFunction} that encodes an {@code Image} instance given its source and returns the result
+	 * @return a {@code List} with one {@code CompletableFuture} for each element in {@code sources}, in the same order
+	 * @throws NullPointerException thrown if, and only if, either {@code sources}, at least one of its elements, {@code decoder}, {@code pipeline} or {@code encoder} are {@code null}
+	 */
+	public <S, R> List<CompletableFuture<R>> process(final List<S> sources, final Function<S, Image> decoder, final Function<Image, Image> pipeline, final BiFunction<S, Image, R> encoder) {
+		Objects.requireNonNull(sources, "sources == null");
+		Objects.requireNonNull(decoder, "decoder == null");
+		Objects.requireNonNull(pipeline, "pipeline == null");
+		Objects.requireNonNull(encoder, "encoder == null");
+		
+		for(int i = 0; i < sources.size(); i++) {
+			Objects.requireNonNull(sources.get(i), String.format("sources.get(%d) == null", Integer.valueOf(i)));
+		}
+		
+		final List<CompletableFuture<R>> futures = new ArrayList<>(sources.size());
+		
+		for(final S source : sources) {
+			final CompletableFuture<R> future = new CompletableFuture<>();
+			
+			futures.add(future);
+			
+			try {
+				this.decodeExecutorService.execute(() -> doDecode(source, decoder, pipeline, encoder, future));
+			} catch(final RuntimeException e) {
+				future.completeExceptionally(e);
+			}
+		}
+		
+		return futures;
+	}
+	
+	/**
+	 * Processes the image files in {@code files} and saves the results to {@code directory}.
+	 * <p>
+	 * Returns a {@code List} with one {@code CompletableFuture} for each element in {@code files}, in the same order. Each {@code CompletableFuture} completes with the {@code File} the result was saved to or exceptionally if any of the stages fails for that image.
+	 * <p>
+	 * If either {@code files}, at least one of its elements, {@code directory}, {@code formatName} or {@code pipeline} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The images are decoded by calling {@code new Image(file, getDataFactory())}. The result for a file with the name {@code "Name.jpg"} is saved to a file with the name {@code "Name." + formatName} in {@code directory}. If the result cannot be saved, the {@code CompletableFuture} for that image completes with an {@code UncheckedIOException}.
+	 * <p>
+	 * See {@link #process(List, Function, Function, BiFunction)} for more information.
+	 * 
+	 * @param files a {@code List} with the image files to process
+	 * @param directory the directory to save the results to
+	 * @param formatName the informal format name of the results, such as {@code "png"}
+	 * @param pipeline a {@code Function} that is applied to each decoded {@link Image} instance and returns the {@code Image} instance to save
+	 * @return a {@code List} with one {@code CompletableFuture} for each element in {@code files}, in the same order
+	 * @throws NullPointerException thrown if, and only if, either {@code files}, at least one of its elements, {@code directory}, {@code formatName} or {@code pipeline} are {@code null}
+	 */
+	public List<CompletableFuture<File>> processFiles(final List<File> files, final File directory, final String formatName, final Function<Image, Image> pipeline) {
+		Objects.requireNonNull(directory, "directory == null");
+		Objects.requireNonNull(formatName, "formatName == null");
+		
+		return process(files, file -> new Image(file, this.dataFactory), pipeline, (file, image) -> doSave(image, new File(directory, doGetBaseName(file.getName()) + "." + formatName), formatName));
+	}
+	
+	/**
+	 * Processes the images in {@code uRLs} and saves the results to {@code directory}.
+	 * <p>
+	 * Returns a {@code List} with one {@code CompletableFuture} for each element in {@code uRLs}, in the same order. Each {@code CompletableFuture} completes with the {@code File} the result was saved to or exceptionally if any of the stages fails for that image.
+	 * <p>
+	 * If either {@code uRLs}, at least one of its elements, {@code directory}, {@code formatName} or {@code pipeline} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The images are decoded by calling {@code new Image(uRL, getDataFactory())}. The result for a {@code URL} whose path ends with {@code "Name.jpg"} is saved to a file with the name {@code "Name." + formatName} in {@code directory}. If two {@code URL} instances end with the same name, their results are saved to the same file. If the result cannot be saved, the {@code CompletableFuture} for that image completes with an {@code UncheckedIOException}.
+	 * <p>
+	 * See {@link #process(List, Function, Function, BiFunction)} for more information.
+	 * 
+	 * @param uRLs a {@code List} with the {@code URL} instances of the images to process
+	 * @param directory the directory to save the results to
+	 * @param formatName the informal format name of the results, such as {@code "png"}
+	 * @param pipeline a {@code Function} that is applied to each decoded {@link Image} instance and returns the {@code Image} instance to save
+	 * @return a {@code List} with one {@code CompletableFuture} for each element in {@code uRLs}, in the same order
+	 * @throws NullPointerException thrown if, and only if, either {@code uRLs}, at least one of its elements, {@code directory}, {@code formatName} or {@code pipeline} are {@code null}
+	 */
+	public List<CompletableFuture<File>> processURLs(final List<URL> uRLs, final File directory, final String formatName, final Function<Image, Image> pipeline) {
+		Objects.requireNonNull(directory, "directory == null");
+		Objects.requireNonNull(formatName, "formatName == null");
+		
+		return process(uRLs, uRL -> new Image(uRL, this.dataFactory), pipeline, (uRL, image) -> doSave(image, new File(directory, doGetBaseName(new File(uRL.getPath()).getName()) + "." + formatName), formatName));
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the decode and encode stages run on virtual threads, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, the decode and encode stages run on virtual threads, {@code false} otherwise
+	 */
+	public boolean isUsingVirtualThreads() {
+		return this.isUsingVirtualThreads;
+	}
+	
+	/**
+	 * Returns the maximum number of images that are decoded but not yet encoded.
+	 * 
+	 * @return the maximum number of images that are decoded but not yet encoded
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+	
+	/**
+	 * Returns the number of threads that apply the pipeline.
+	 * 
+	 * @return the number of threads that apply the pipeline
+	 */
+	public int getComputeConcurrency() {
+		return this.computeConcurrency;
+	}
+	
+	/**
+	 * Returns the maximum number of images that are decoded at the same time and the maximum number of images that are encoded at the same time.
+	 * 
+	 * @return the maximum number of images that are decoded at the same time and the maximum number of images that are encoded at the same time
+	 */
+	public int getIOConcurrency() {
+		return this.iOConcurrency;
+	}
+	
+	/**
+	 * Closes this {@code ImageBatchProcessor} instance.
+	 * <p>
+	 * This method blocks until all images that have been submitted are processed, one stage after the other, and then shuts the threads down. Images submitted after this method has been called are rejected.
+	 * <p>
+	 * This method should not be called by a decoder, a pipeline or an encoder, because it would wait for itself.
+	 */
+	@Override
+	public void close() {
+		doShutdown(this.decodeExecutorService);
+		doShutdown(this.computeExecutorService);
+		doShutdown(this.encodeExecutorService);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private <S, R> void doCompute(final S source, final Image image, final Function<Image, Image> pipeline, final BiFunction<S, Image, R> encoder, final CompletableFuture<R> future) {
+		try {
+			if(future.isDone()) {
+				this.inFlightSemaphore.release();
+				
+				return;
+			}
+			
+			final CancellationToken cancellationToken = new CancellationToken();
+			
+			future.whenComplete((result, throwable) -> {
+				if(future.isCancelled()) {
+					cancellationToken.cancel();
+				}
+			});
+			
+			final Image newImage;
+			
+			image.setCancellationToken(cancellationToken);
+			
+			try {
+				newImage = Objects.requireNonNull(pipeline.apply(image), "pipeline.apply(image) == null");
+			} finally {
+				image.setCancellationToken(null);
+			}
+			
+			this.encodeExecutorService.execute(() -> doEncode(source, newImage, encoder, future));
+		} catch(final Throwable throwable) {
+			this.inFlightSemaphore.release();
+			
+			future.completeExceptionally(throwable);
+		}
+	}
+	
+	private <S, R> void doDecode(final S source, final Function<S, Image> decoder, final Function<Image, Image> pipeline, final BiFunction<S, Image, R> encoder, final CompletableFuture<R> future) {
+		if(future.isDone()) {
+			return;
+		}
+		
+		this.inFlightSemaphore.acquireUninterruptibly();
+		
+		try {
+			if(future.isDone()) {
+				this.inFlightSemaphore.release();
+				
+				return;
+			}
+			
+			final Image image;
+			
+			this.decodeSemaphore.acquireUninterruptibly();
+			
+			try {
+				image = Objects.requireNonNull(decoder.apply(source), "decoder.apply(source) == null");
+			} finally {
+				this.decodeSemaphore.release();
+			}
+			
+			this.computeExecutorService.execute(() -> doCompute(source, image, pipeline, encoder, future));
+		} catch(final Throwable throwable) {
+			this.inFlightSemaphore.release();
+			
+			future.completeExceptionally(throwable);
+		}
+	}
+	
+	private <S, R> void doEncode(final S source, final Image image, final BiFunction<S, Image, R> encoder, final CompletableFuture<R> future) {
+		try {
+			if(!future.isDone()) {
+				this.encodeSemaphore.acquireUninterruptibly();
+				
+				try {
+					future.complete(encoder.apply(source, image));
+				} finally {
+					this.encodeSemaphore.release();
+				}
+			}
+		} catch(final Throwable throwable) {
+			future.completeExceptionally(throwable);
+		} finally {
+			this.inFlightSemaphore.release();
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static ExecutorService doCreateFixedThreadPool(final int threadCount, final String stageName) {
+		final AtomicInteger threadNumber = new AtomicInteger();
+		
+		return Executors.newFixedThreadPool(threadCount, runnable -> {
+			final
+			Thread thread = new Thread(runnable, String.format("ImageBatchProcessor-%s-%d", stageName, Integer.valueOf(threadNumber.incrementAndGet())));
+			thread.setDaemon(true);
+			
+			return thread;
+		});
+	}
+	
+	private static ExecutorService doCreateVirtualThreadExecutorService() {
+		try {
+			final Method method = Executors.class.getMethod(VIRTUAL_THREAD_METHOD_NAME);
+			
+			return ExecutorService.class.cast(method.invoke(null));
+		} catch(@SuppressWarnings("unused") final ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+	
+	private static File doSave(final Image image, final File file, final String formatName) {
+		if(!image.save(file, formatName)) {
+			throw new UncheckedIOException(new IOException(String.format("Unable to save image to %s.", file)));
+		}
+		
+		return file;
+	}
+	
+	private static String doGetBaseName(final String name) {
+		final int index = name.lastIndexOf('.');
+		
+		return index > 0 ? name.substring(0, index) : name.isEmpty() ? "Image" : name;
+	}
+	
+	private static void doShutdown(final ExecutorService executorService) {
+		executorService.shutdown();
+		
+		boolean isInterrupted = false;
+		
+		while(!executorService.isTerminated()) {
+			try {
+				executorService.awaitTermination(1L, TimeUnit.DAYS);
+			} catch(@SuppressWarnings("unused") final InterruptedException e) {
+				isInterrupted = true;
+			}
+		}
+		
+		if(isInterrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
\ No newline at end of file
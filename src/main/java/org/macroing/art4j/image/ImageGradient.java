@@ -0,0 +1,319 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import org.macroing.art4j.color.Color3D;
+import org.macroing.art4j.data.Data;
+
+/**
+ * An {@code ImageGradient} contains the intensity gradient of an {@link Image}.
+ * <p>
+ * The gradient is computed from the intensity of each pixel, which is the average of its R-, G- and B-components, using an {@link Operator}. Pixels outside of the image are treated as having an intensity of {@code 0.0}.
+ * <p>
+ * The intensities are computed once and stored in a primitive array. The {@code Operator} is then applied as two separable passes, a horizontal pass followed by a vertical pass. Each pass is split across the available processors in bands of rows.
+ * <p>
+ * The magnitude and direction of the gradient can be used as input to later stages, such as non-maximum suppression in a Canny edge detector.
+ * <p>
+ * This class is immutable and therefore thread-safe.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ImageGradient {
+	private final Operator operator;
+	private final double[] gradientsX;
+	private final double[] gradientsY;
+	private final int resolutionX;
+	private final int resolutionY;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private ImageGradient(final Operator operator, final double[] gradientsX, final double[] gradientsY, final int resolutionX, final int resolutionY) {
+		this.operator = operator;
+		this.gradientsX = gradientsX;
+		this.gradientsY = gradientsY;
+		this.resolutionX = resolutionX;
+		this.resolutionY = resolutionY;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the {@link Operator} that was used to compute this {@code ImageGradient} instance.
+	 * 
+	 * @return the {@code Operator} that was used to compute this {@code ImageGradient} instance
+	 */
+	public Operator getOperator() {
+		return this.operator;
+	}
+	
+	/**
+	 * Compares {@code object} to this {@code ImageGradient} instance for equality.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code object} is an instance of {@code ImageGradient}, and their respective values are equal, {@code false} otherwise.
+	 * 
+	 * @param object the {@code Object} to compare to this {@code ImageGradient} instance for equality
+	 * @return {@code true} if, and only if, {@code object} is an instance of {@code ImageGradient}, and their respective values are equal, {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(final Object object) {
+		if(object == this) {
+			return true;
+		} else if(!(object instanceof ImageGradient)) {
+			return false;
+		} else if(!Objects.equals(this.operator, ImageGradient.class.cast(object).operator)) {
+			return false;
+		} else if(!Arrays.equals(this.gradientsX, ImageGradient.class.cast(object).gradientsX)) {
+			return false;
+		} else if(!Arrays.equals(this.gradientsY, ImageGradient.class.cast(object).gradientsY)) {
+			return false;
+		} else if(this.resolutionX != ImageGradient.class.cast(object).resolutionX) {
+			return false;
+		} else if(this.resolutionY != ImageGradient.class.cast(object).resolutionY) {
+			return false;
+		} else {
+			return true;
+		}
+	}
+	
+	/**
+	 * Returns the direction of the gradient at {@code x} and {@code y}, in radians.
+	 * <p>
+	 * The direction is computed as {@code Math.atan2(getGradientY(x, y), getGradientX(x, y))} and is in the range {@code [-Math.PI, Math.PI]}.
+	 * <p>
+	 * If either {@code x} or {@code y} are outside of this {@code ImageGradient} instance, {@code 0.0D} will be returned.
+	 * 
+	 * @param x the X-component of the pixel
+	 * @param y the Y-component of the pixel
+	 * @return the direction of the gradient at {@code x} and {@code y}, in radians
+	 */
+	public double getDirection(final int x, final int y) {
+		return Math.atan2(getGradientY(x, y), getGradientX(x, y));
+	}
+	
+	/**
+	 * Returns the X-component of the gradient at {@code x} and {@code y}.
+	 * <p>
+	 * If either {@code x} or {@code y} are outside of this {@code ImageGradient} instance, {@code 0.0D} will be returned.
+	 * 
+	 * @param x the X-component of the pixel
+	 * @param y the Y-component of the pixel
+	 * @return the X-component of the gradient at {@code x} and {@code y}
+	 */
+	public double getGradientX(final int x, final int y) {
+		return x >= 0 && x < this.resolutionX && y >= 0 && y < this.resolutionY ? this.gradientsX[y * this.resolutionX + x] : 0.0D;
+	}
+	
+	/**
+	 * Returns the Y-component of the gradient at {@code x} and {@code y}.
+	 * <p>
+	 * If either {@code x} or {@code y} are outside of this {@code ImageGradient} instance, {@code 0.0D} will be returned.
+	 * 
+	 * @param x the X-component of the pixel
+	 * @param y the Y-component of the pixel
+	 * @return the Y-component of the gradient at {@code x} and {@code y}
+	 */
+	public double getGradientY(final int x, final int y) {
+		return x >= 0 && x < this.resolutionX && y >= 0 && y < this.resolutionY ? this.gradientsY[y * this.resolutionX + x] : 0.0D;
+	}
+	
+	/**
+	 * Returns the magnitude of the gradient at {@code x} and {@code y}.
+	 * <p>
+	 * If either {@code x} or {@code y} are outside of this {@code ImageGradient} instance, {@code 0.0D} will be returned.
+	 * 
+	 * @param x the X-component of the pixel
+	 * @param y the Y-component of the pixel
+	 * @return the magnitude of the gradient at {@code x} and {@code y}
+	 */
+	public double getMagnitude(final int x, final int y) {
+		final double gradientX = getGradientX(x, y);
+		final double gradientY = getGradientY(x, y);
+		
+		return Math.sqrt(gradientX * gradientX + gradientY * gradientY);
+	}
+	
+	/**
+	 * Returns a {@code double[]} with the direction of the gradient for each pixel, in radians.
+	 * <p>
+	 * The direction of the pixel at {@code x} and {@code y} is stored at index {@code y * getResolutionX() + x}. See {@link #getDirection(int, int)} for more information.
+	 * <p>
+	 * Modifying the returned {@code double[]} will not affect this {@code ImageGradient} instance.
+	 * 
+	 * @return a {@code double[]} with the direction of the gradient for each pixel, in radians
+	 */
+	public double[] getDirections() {
+		final double[] gradientsX = this.gradientsX;
+		final double[] gradientsY = this.gradientsY;
+		
+		final double[] directions = new double[gradientsX.length];
+		
+		IntStream.range(0, directions.length).parallel().forEach(index -> directions[index] = Math.atan2(gradientsY[index], gradientsX[index]));
+		
+		return directions;
+	}
+	
+	/**
+	 * Returns a {@code double[]} with the magnitude of the gradient for each pixel.
+	 * <p>
+	 * The magnitude of the pixel at {@code x} and {@code y} is stored at index {@code y * getResolutionX() + x}.
+	 * <p>
+	 * Modifying the returned {@code double[]} will not affect this {@code ImageGradient} instance.
+	 * 
+	 * @return a {@code double[]} with the magnitude of the gradient for each pixel
+	 */
+	public double[] getMagnitudes() {
+		final double[] gradientsX = this.gradientsX;
+		final double[] gradientsY = this.gradientsY;
+		
+		final double[] magnitudes = new double[gradientsX.length];
+		
+		IntStream.range(0, magnitudes.length).parallel().forEach(index -> magnitudes[index] = Math.sqrt(gradientsX[index] * gradientsX[index] + gradientsY[index] * gradientsY[index]));
+		
+		return magnitudes;
+	}
+	
+	/**
+	 * Returns the resolution along the X-axis.
+	 * 
+	 * @return the resolution along the X-axis
+	 */
+	public int getResolutionX() {
+		return this.resolutionX;
+	}
+	
+	/**
+	 * Returns the resolution along the Y-axis.
+	 * 
+	 * @return the resolution along the Y-axis
+	 */
+	public int getResolutionY() {
+		return this.resolutionY;
+	}
+	
+	/**
+	 * Returns a hash code for this {@code ImageGradient} instance.
+	 * 
+	 * @return a hash code for this {@code ImageGradient} instance
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.operator, Integer.valueOf(Arrays.hashCode(this.gradientsX)), Integer.valueOf(Arrays.hashCode(this.gradientsY)), Integer.valueOf(this.resolutionX), Integer.valueOf(this.resolutionY));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * An {@code Operator} represents a gradient operator that can be applied as two separable passes.
+	 * <p>
+	 * Each operator consists of a central difference {@code [-1, 0, 1]} along one axis and a smoothing kernel along the other axis. The kernels are not normalized.
+	 * 
+	 * @since 1.0.0
+	 * @author J&#246;rgen Lundgren
+	 */
+	public static enum Operator {
+		/**
+		 * The Scharr operator, with the smoothing kernel {@code [3, 10, 3]}.
+		 * <p>
+		 * It is more rotationally symmetric than the Sobel operator, which makes the direction of the gradient more accurate.
+		 */
+		SCHARR(3.0D, 10.0D),
+		
+		/**
+		 * The Sobel operator, with the smoothing kernel {@code [1, 2, 1]}.
+		 */
+		SOBEL(1.0D, 2.0D);
+		
+		private final double smoothingCenter;
+		private final double smoothingSide;
+		
+		private Operator(final double smoothingSide, final double smoothingCenter) {
+			this.smoothingCenter = smoothingCenter;
+			this.smoothingSide = smoothingSide;
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static ImageGradient compute(final Data data, final Operator operator) {
+		Objects.requireNonNull(data, "data == null");
+		Objects.requireNonNull(operator, "operator == null");
+		
+		final int resolutionX = data.getResolutionX();
+		final int resolutionY = data.getResolutionY();
+		
+		final double smoothingCenter = operator.smoothingCenter;
+		final double smoothingSide = operator.smoothingSide;
+		
+		final double[] intensities = new double[resolutionX * resolutionY];
+		final double[] derivatives = new double[resolutionX * resolutionY];
+		final double[] smoothings = new double[resolutionX * resolutionY];
+		
+		final int bandCount = Math.max(1, Math.min(resolutionY, Runtime.getRuntime().availableProcessors() * 4));
+		final int bandHeight = (resolutionY + bandCount - 1) / bandCount;
+		
+		IntStream.range(0, bandCount).parallel().forEach(band -> {
+			final double[] row = new double[resolutionX * 4];
+			
+			for(int y = band * bandHeight; y < Math.min((band + 1) * bandHeight, resolutionY); y++) {
+				if(data.copyRowTo(row, y)) {
+					for(int x = 0, index = y * resolutionX, offset = 0; x < resolutionX; x++, index++, offset += 4) {
+						intensities[index] = Color3D.average(row[offset + 0], row[offset + 1], row[offset + 2]);
+					}
+				}
+				
+				for(int x = 0, index = y * resolutionX; x < resolutionX; x++, index++) {
+					final double intensityL = x > 0 ? intensities[index - 1] : 0.0D;
+					final double intensityC = intensities[index];
+					final double intensityR = x + 1 < resolutionX ? intensities[index + 1] : 0.0D;
+					
+					derivatives[index] = intensityR - intensityL;
+					smoothings[index] = smoothingSide * (intensityL + intensityR) + smoothingCenter * intensityC;
+				}
+			}
+		});
+		
+		final double[] gradientsX = intensities;
+		final double[] gradientsY = new double[resolutionX * resolutionY];
+		
+		IntStream.range(0, bandCount).parallel().forEach(band -> {
+			for(int y = band * bandHeight; y < Math.min((band + 1) * bandHeight, resolutionY); y++) {
+				final boolean hasRowT = y > 0;
+				final boolean hasRowB = y + 1 < resolutionY;
+				
+				for(int x = 0, index = y * resolutionX; x < resolutionX; x++, index++) {
+					final double derivativeT = hasRowT ? derivatives[index - resolutionX] : 0.0D;
+					final double derivativeB = hasRowB ? derivatives[index + resolutionX] : 0.0D;
+					
+					final double smoothingT = hasRowT ? smoothings[index - resolutionX] : 0.0D;
+					final double smoothingB = hasRowB ? smoothings[index + resolutionX] : 0.0D;
+					
+					gradientsX[index] = smoothingSide * (derivativeT + derivativeB) + smoothingCenter * derivatives[index];
+					gradientsY[index] = smoothingB - smoothingT;
+				}
+			}
+		});
+		
+		return new ImageGradient(operator, gradientsX, gradientsY, resolutionX, resolutionY);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import org.macroing.art4j.data.ChangeHistory;
+import org.macroing.art4j.data.Data;
+
+/**
+ * An {@code ImageMetrics} receives metrics about operations performed on {@link Image} instances.
+ * <p>
+ * An {@code ImageMetrics} instance can be added to a single {@code Image} instance using {@link Image#addImageMetrics(ImageMetrics)} or to all {@code Image} instances using {@link Image#addGlobalImageMetrics(ImageMetrics)}. When no {@code ImageMetrics} instances have been added, no metrics are collected at all.
+ * <p>
+ * Only the outermost operation is reported. If an operation is implemented in terms of other operations, such as {@code flip()}, which is implemented in terms of {@code flipX()} and {@code flipY()}, only {@code flip()} is reported.
+ * <p>
+ * This is a functional interface whose functional method is {@link #onOperation(Image, String, long, long, long, long)}.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+@FunctionalInterface
+public interface ImageMetrics {
+	/**
+	 * Called by {@code image} when an operation has been performed.
+	 * <p>
+	 * This method is called on the thread that performed the operation, even if the operation failed with an exception. It should return quickly and it should not throw an exception.
+	 * <p>
+	 * If this method throws a {@code RuntimeException}, it is passed to the {@code UncaughtExceptionHandler} of the current thread and otherwise ignored. It does not replace the exception of a failed operation, it does not make a successful operation fail and it does not prevent other {@code ImageMetrics} instances from being called.
+	 * 
+	 * @param image the {@link Image} instance the operation was performed on
+	 * @param operationName the name of the operation, which is the name of the method that was called, such as {@code "fillD"}
+	 * @param durationInNanoseconds the duration of the operation in nanoseconds
+	 * @param pixelCount the number of pixels the operation touched, as reported by {@link Data#getPixelModificationCount()}
+	 * @param undoSizeInBytes an estimate of the number of bytes of the changes the operation added to the {@link ChangeHistory}, as reported by {@link ChangeHistory#getCommittedSizeInBytes()}, or {@code 0L} if it did not add any
+	 * @param changeHistorySizeInBytes an estimate of the number of bytes retained by the {@code ChangeHistory} after the operation, or {@code 0L} if the change history is disabled
+	 */
+	void onOperation(final Image image, final String operationName, final long durationInNanoseconds, final long pixelCount, final long undoSizeInBytes, final long changeHistorySizeInBytes);
+}
\ No newline at end of file
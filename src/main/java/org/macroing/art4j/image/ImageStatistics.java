@@ -0,0 +1,489 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import org.macroing.art4j.color.Color3D;
+import org.macroing.art4j.color.Color3F;
+import org.macroing.art4j.data.Data;
+import org.macroing.java.lang.Ints;
+
+/**
+ * An {@code ImageStatistics} contains statistics about the pixels in an {@link Image}.
+ * <p>
+ * The statistics consist of the minimum, maximum, mean and variance as well as a histogram for each {@link Channel}. They are all computed in a single pass over the pixels, which is split across the available processors row by row.
+ * <p>
+ * The histograms cover the range {@code [0.0, 1.0]}. Component values less than {@code 0.0} are counted in the first bin and component values greater than {@code 1.0} are counted in the last bin.
+ * <p>
+ * This class is immutable and therefore thread-safe.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ImageStatistics {
+	/**
+	 * The default number of bins in each histogram.
+	 */
+	public static final int DEFAULT_BIN_COUNT = 256;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final int CHANNEL_COUNT = 5;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final double[] maximums;
+	private final double[] means;
+	private final double[] minimums;
+	private final double[] variances;
+	private final float[] maximumsAsFloat;
+	private final float[] minimumsAsFloat;
+	private final int binCount;
+	private final int pixelCount;
+	private final int[][] histograms;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private ImageStatistics(final Accumulator accumulator) {
+		this.maximums = accumulator.maximums;
+		this.means = accumulator.means;
+		this.minimums = accumulator.minimums;
+		this.variances = new double[CHANNEL_COUNT];
+		this.maximumsAsFloat = accumulator.maximumsAsFloat;
+		this.minimumsAsFloat = accumulator.minimumsAsFloat;
+		this.binCount = accumulator.binCount;
+		this.pixelCount = (int)(accumulator.count);
+		this.histograms = accumulator.histograms;
+		
+		for(int i = 0; i < CHANNEL_COUNT; i++) {
+			this.variances[i] = accumulator.count > 0L ? accumulator.m2s[i] / accumulator.count : 0.0D;
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Compares {@code object} to this {@code ImageStatistics} instance for equality.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code object} is an instance of {@code ImageStatistics}, and their respective values are equal, {@code false} otherwise.
+	 * 
+	 * @param object the {@code Object} to compare to this {@code ImageStatistics} instance for equality
+	 * @return {@code true} if, and only if, {@code object} is an instance of {@code ImageStatistics}, and their respective values are equal, {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(final Object object) {
+		if(object == this) {
+			return true;
+		} else if(!(object instanceof ImageStatistics)) {
+			return false;
+		} else if(!Arrays.equals(this.maximums, ImageStatistics.class.cast(object).maximums)) {
+			return false;
+		} else if(!Arrays.equals(this.means, ImageStatistics.class.cast(object).means)) {
+			return false;
+		} else if(!Arrays.equals(this.minimums, ImageStatistics.class.cast(object).minimums)) {
+			return false;
+		} else if(!Arrays.equals(this.variances, ImageStatistics.class.cast(object).variances)) {
+			return false;
+		} else if(!Arrays.equals(this.maximumsAsFloat, ImageStatistics.class.cast(object).maximumsAsFloat)) {
+			return false;
+		} else if(!Arrays.equals(this.minimumsAsFloat, ImageStatistics.class.cast(object).minimumsAsFloat)) {
+			return false;
+		} else if(this.binCount != ImageStatistics.class.cast(object).binCount) {
+			return false;
+		} else if(this.pixelCount != ImageStatistics.class.cast(object).pixelCount) {
+			return false;
+		} else if(!Arrays.deepEquals(this.histograms, ImageStatistics.class.cast(object).histograms)) {
+			return false;
+		} else {
+			return true;
+		}
+	}
+	
+	/**
+	 * Returns the maximum value of {@code channel}.
+	 * <p>
+	 * If {@code channel} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param channel a {@link Channel}
+	 * @return the maximum value of {@code channel}
+	 * @throws NullPointerException thrown if, and only if, {@code channel} is {@code null}
+	 */
+	public double getMaximum(final Channel channel) {
+		return this.maximums[Objects.requireNonNull(channel, "channel == null").ordinal()];
+	}
+	
+	/**
+	 * Returns the mean value of {@code channel}.
+	 * <p>
+	 * If {@code channel} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param channel a {@link Channel}
+	 * @return the mean value of {@code channel}
+	 * @throws NullPointerException thrown if, and only if, {@code channel} is {@code null}
+	 */
+	public double getMean(final Channel channel) {
+		return this.means[Objects.requireNonNull(channel, "channel == null").ordinal()];
+	}
+	
+	/**
+	 * Returns the minimum value of {@code channel}.
+	 * <p>
+	 * If {@code channel} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param channel a {@link Channel}
+	 * @return the minimum value of {@code channel}
+	 * @throws NullPointerException thrown if, and only if, {@code channel} is {@code null}
+	 */
+	public double getMinimum(final Channel channel) {
+		return this.minimums[Objects.requireNonNull(channel, "channel == null").ordinal()];
+	}
+	
+	/**
+	 * Returns the standard deviation of {@code channel}.
+	 * <p>
+	 * If {@code channel} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param channel a {@link Channel}
+	 * @return the standard deviation of {@code channel}
+	 * @throws NullPointerException thrown if, and only if, {@code channel} is {@code null}
+	 */
+	public double getStandardDeviation(final Channel channel) {
+		return Math.sqrt(getVariance(channel));
+	}
+	
+	/**
+	 * Returns the population variance of {@code channel}.
+	 * <p>
+	 * If {@code channel} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param channel a {@link Channel}
+	 * @return the population variance of {@code channel}
+	 * @throws NullPointerException thrown if, and only if, {@code channel} is {@code null}
+	 */
+	public double getVariance(final Channel channel) {
+		return this.variances[Objects.requireNonNull(channel, "channel == null").ordinal()];
+	}
+	
+	/**
+	 * Returns the maximum value of {@code channel} as a {@code float}.
+	 * <p>
+	 * The value is computed using {@code float} arithmetic. For {@code Channel.RELATIVE_LUMINANCE} it is consistent with {@link Color3F#relativeLuminance()}.
+	 * <p>
+	 * If {@code channel} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param channel a {@link Channel}
+	 * @return the maximum value of {@code channel} as a {@code float}
+	 * @throws NullPointerException thrown if, and only if, {@code channel} is {@code null}
+	 */
+	public float getMaximumAsFloat(final Channel channel) {
+		return this.maximumsAsFloat[Objects.requireNonNull(channel, "channel == null").ordinal()];
+	}
+	
+	/**
+	 * Returns the minimum value of {@code channel} as a {@code float}.
+	 * <p>
+	 * The value is computed using {@code float} arithmetic. For {@code Channel.RELATIVE_LUMINANCE} it is consistent with {@link Color3F#relativeLuminance()}.
+	 * <p>
+	 * If {@code channel} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param channel a {@link Channel}
+	 * @return the minimum value of {@code channel} as a {@code float}
+	 * @throws NullPointerException thrown if, and only if, {@code channel} is {@code null}
+	 */
+	public float getMinimumAsFloat(final Channel channel) {
+		return this.minimumsAsFloat[Objects.requireNonNull(channel, "channel == null").ordinal()];
+	}
+	
+	/**
+	 * Returns the number of bins in each histogram.
+	 * 
+	 * @return the number of bins in each histogram
+	 */
+	public int getBinCount() {
+		return this.binCount;
+	}
+	
+	/**
+	 * Returns the number of pixels the statistics were computed for.
+	 * 
+	 * @return the number of pixels the statistics were computed for
+	 */
+	public int getPixelCount() {
+		return this.pixelCount;
+	}
+	
+	/**
+	 * Returns a hash code for this {@code ImageStatistics} instance.
+	 * 
+	 * @return a hash code for this {@code ImageStatistics} instance
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(Integer.valueOf(Arrays.hashCode(this.maximums)), Integer.valueOf(Arrays.hashCode(this.means)), Integer.valueOf(Arrays.hashCode(this.minimums)), Integer.valueOf(Arrays.hashCode(this.variances)), Integer.valueOf(Arrays.hashCode(this.maximumsAsFloat)), Integer.valueOf(Arrays.hashCode(this.minimumsAsFloat)), Integer.valueOf(this.binCount), Integer.valueOf(this.pixelCount), Integer.valueOf(Arrays.deepHashCode(this.histograms)));
+	}
+	
+	/**
+	 * Returns a copy of the histogram of {@code channel}.
+	 * <p>
+	 * The histogram consists of {@code imageStatistics.getBinCount()} bins, each containing the number of pixels whose value of {@code channel} lies in the range of the bin.
+	 * <p>
+	 * If {@code channel} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param channel a {@link Channel}
+	 * @return a copy of the histogram of {@code channel}
+	 * @throws NullPointerException thrown if, and only if, {@code channel} is {@code null}
+	 */
+	public int[] getHistogram(final Channel channel) {
+		return this.histograms[Objects.requireNonNull(channel, "channel == null").ordinal()].clone();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * A {@code Channel} represents a channel that statistics are computed for.
+	 * 
+	 * @since 1.0.0
+	 * @author J&#246;rgen Lundgren
+	 */
+	public static enum Channel {
+		/**
+		 * The channel for the component A.
+		 */
+		A,
+		
+		/**
+		 * The channel for the component B.
+		 */
+		B,
+		
+		/**
+		 * The channel for the component G.
+		 */
+		G,
+		
+		/**
+		 * The channel for the component R.
+		 */
+		R,
+		
+		/**
+		 * The channel for the relative luminance, as computed by {@link Color3D#relativeLuminance()}.
+		 */
+		RELATIVE_LUMINANCE;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static ImageStatistics compute(final Data data, final int binCount) {
+		Objects.requireNonNull(data, "data == null");
+		
+		Ints.requireRange(binCount, 1, Integer.MAX_VALUE, "binCount");
+		
+		final int resolutionX = data.getResolutionX();
+		final int resolutionY = data.getResolutionY();
+		
+		return new ImageStatistics(IntStream.range(0, resolutionY).parallel().collect(() -> new Accumulator(resolutionX, binCount), (accumulator, y) -> accumulator.accept(data, y), Accumulator::combine));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Accumulator {
+		private static final int A = Channel.A.ordinal();
+		private static final int B = Channel.B.ordinal();
+		private static final int G = Channel.G.ordinal();
+		private static final int R = Channel.R.ordinal();
+		private static final int RELATIVE_LUMINANCE = Channel.RELATIVE_LUMINANCE.ordinal();
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private final double[] m2s;
+		private final double[] maximums;
+		private final double[] means;
+		private final double[] minimums;
+		private final double[] row;
+		private final double[] rowSums;
+		private final float[] maximumsAsFloat;
+		private final float[] minimumsAsFloat;
+		private final int binCount;
+		private final int resolutionX;
+		private final int[][] histograms;
+		private long count;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Accumulator(final int resolutionX, final int binCount) {
+			this.m2s = new double[CHANNEL_COUNT];
+			this.maximums = new double[CHANNEL_COUNT];
+			this.means = new double[CHANNEL_COUNT];
+			this.minimums = new double[CHANNEL_COUNT];
+			this.row = new double[resolutionX * 4];
+			this.rowSums = new double[CHANNEL_COUNT];
+			this.maximumsAsFloat = new float[CHANNEL_COUNT];
+			this.minimumsAsFloat = new float[CHANNEL_COUNT];
+			this.binCount = binCount;
+			this.resolutionX = resolutionX;
+			this.histograms = new int[CHANNEL_COUNT][binCount];
+			this.count = 0L;
+			
+			Arrays.fill(this.maximums, -Double.MAX_VALUE);
+			Arrays.fill(this.minimums, Double.MAX_VALUE);
+			Arrays.fill(this.maximumsAsFloat, -Float.MAX_VALUE);
+			Arrays.fill(this.minimumsAsFloat, Float.MAX_VALUE);
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public void accept(final Data data, final int y) {
+			final double[] row = this.row;
+			final double[] rowSums = this.rowSums;
+			
+			final int resolutionX = this.resolutionX;
+			
+			if(!data.copyRowTo(row, y)) {
+				return;
+			}
+			
+			Arrays.fill(rowSums, 0.0D);
+			
+			for(int x = 0, offset = 0; x < resolutionX; x++, offset += 4) {
+				final double r = row[offset + 0];
+				final double g = row[offset + 1];
+				final double b = row[offset + 2];
+				final double a = row[offset + 3];
+				
+				doAccept(R, r, rowSums);
+				doAccept(G, g, rowSums);
+				doAccept(B, b, rowSums);
+				doAccept(A, a, rowSums);
+				doAccept(RELATIVE_LUMINANCE, Color3D.relativeLuminance(r, g, b), rowSums);
+				
+				final float relativeLuminance = Color3F.relativeLuminance((float)(r), (float)(g), (float)(b));
+				
+				this.maximumsAsFloat[RELATIVE_LUMINANCE] = Math.max(this.maximumsAsFloat[RELATIVE_LUMINANCE], relativeLuminance);
+				this.minimumsAsFloat[RELATIVE_LUMINANCE] = Math.min(this.minimumsAsFloat[RELATIVE_LUMINANCE], relativeLuminance);
+			}
+			
+			for(int channel = 0; channel < CHANNEL_COUNT; channel++) {
+				if(channel != RELATIVE_LUMINANCE) {
+					this.maximumsAsFloat[channel] = (float)(this.maximums[channel]);
+					this.minimumsAsFloat[channel] = (float)(this.minimums[channel]);
+				}
+			}
+			
+			final double rowCount = resolutionX;
+			
+			final double rowMeanR = rowSums[R] / rowCount;
+			final double rowMeanG = rowSums[G] / rowCount;
+			final double rowMeanB = rowSums[B] / rowCount;
+			final double rowMeanA = rowSums[A] / rowCount;
+			final double rowMeanRelativeLuminance = rowSums[RELATIVE_LUMINANCE] / rowCount;
+			
+			double rowM2R = 0.0D;
+			double rowM2G = 0.0D;
+			double rowM2B = 0.0D;
+			double rowM2A = 0.0D;
+			double rowM2RelativeLuminance = 0.0D;
+			
+			for(int x = 0, offset = 0; x < resolutionX; x++, offset += 4) {
+				final double r = row[offset + 0];
+				final double g = row[offset + 1];
+				final double b = row[offset + 2];
+				final double a = row[offset + 3];
+				
+				final double deltaR = r - rowMeanR;
+				final double deltaG = g - rowMeanG;
+				final double deltaB = b - rowMeanB;
+				final double deltaA = a - rowMeanA;
+				final double deltaRelativeLuminance = Color3D.relativeLuminance(r, g, b) - rowMeanRelativeLuminance;
+				
+				rowM2R += deltaR * deltaR;
+				rowM2G += deltaG * deltaG;
+				rowM2B += deltaB * deltaB;
+				rowM2A += deltaA * deltaA;
+				rowM2RelativeLuminance += deltaRelativeLuminance * deltaRelativeLuminance;
+			}
+			
+			final long countOld = this.count;
+			final long countNew = countOld + resolutionX;
+			
+			doCombine(R, countOld, countNew, resolutionX, rowMeanR, rowM2R);
+			doCombine(G, countOld, countNew, resolutionX, rowMeanG, rowM2G);
+			doCombine(B, countOld, countNew, resolutionX, rowMeanB, rowM2B);
+			doCombine(A, countOld, countNew, resolutionX, rowMeanA, rowM2A);
+			doCombine(RELATIVE_LUMINANCE, countOld, countNew, resolutionX, rowMeanRelativeLuminance, rowM2RelativeLuminance);
+			
+			this.count = countNew;
+		}
+		
+		public void combine(final Accumulator accumulator) {
+			if(accumulator.count == 0L) {
+				return;
+			}
+			
+			final long countOld = this.count;
+			final long countNew = countOld + accumulator.count;
+			
+			for(int channel = 0; channel < CHANNEL_COUNT; channel++) {
+				this.maximums[channel] = Math.max(this.maximums[channel], accumulator.maximums[channel]);
+				this.minimums[channel] = Math.min(this.minimums[channel], accumulator.minimums[channel]);
+				this.maximumsAsFloat[channel] = Math.max(this.maximumsAsFloat[channel], accumulator.maximumsAsFloat[channel]);
+				this.minimumsAsFloat[channel] = Math.min(this.minimumsAsFloat[channel], accumulator.minimumsAsFloat[channel]);
+				
+				doCombine(channel, countOld, countNew, accumulator.count, accumulator.means[channel], accumulator.m2s[channel]);
+				
+				final int[] histogramA = this.histograms[channel];
+				final int[] histogramB = accumulator.histograms[channel];
+				
+				for(int bin = 0; bin < histogramA.length; bin++) {
+					histogramA[bin] += histogramB[bin];
+				}
+			}
+			
+			this.count = countNew;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private void doAccept(final int channel, final double value, final double[] rowSums) {
+			final int binCount = this.binCount;
+			final int bin = value >= 1.0D ? binCount - 1 : value > 0.0D ? Math.min((int)(value * binCount), binCount - 1) : 0;
+			
+			this.maximums[channel] = Math.max(this.maximums[channel], value);
+			this.minimums[channel] = Math.min(this.minimums[channel], value);
+			this.histograms[channel][bin]++;
+			
+			rowSums[channel] += value;
+		}
+		
+		private void doCombine(final int channel, final long countOld, final long countNew, final long countOther, final double meanOther, final double m2Other) {
+			if(countOld == 0L) {
+				this.means[channel] = meanOther;
+				this.m2s[channel] = m2Other;
+			} else {
+				final double delta = meanOther - this.means[channel];
+				
+				this.means[channel] += delta * countOther / countNew;
+				this.m2s[channel] += m2Other + delta * delta * countOld * countOther / countNew;
+			}
+		}
+	}
+}
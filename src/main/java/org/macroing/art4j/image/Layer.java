@@ -0,0 +1,377 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.macroing.art4j.data.Data;
+import org.macroing.art4j.pixel.CompositeOperator;
+import org.macroing.geo4j.common.Point2I;
+import org.macroing.geo4j.shape.rectangle.Rectangle2I;
+
+/**
+ * A {@code Layer} is an {@link Image} that is part of a {@link Document}.
+ * <p>
+ * A {@code Layer} has a position, a {@link CompositeOperator}, an opacity and a visibility state. The position is the location of the upper left corner of the {@code Image} in the coordinate system of the {@code Document}. The {@code CompositeOperator} and the opacity control how the {@code Image} is composited with the layers below it.
+ * <p>
+ * The {@code Document} a {@code Layer} has been added to keeps track of the regions of the {@code Layer} that have changed. Changes to the pixels of the {@code Image} are found by passing the modification count that was seen at the last update to {@link Data#getDirtyRegions(long)}, so the dirty regions of the {@link Data} instance are left as is and can be used by other consumers. Changes made through a view returned by {@link Data#getBufferedImageView()} cannot be found that way, so {@link #invalidate()} or {@link #invalidate(Rectangle2I)} has to be called after such changes.
+ * <p>
+ * A {@code Layer} can only be added to one {@code Document} at a time.
+ * <p>
+ * This class is mutable and not thread-safe.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class Layer {
+	private final List<Rectangle2I> dirtyRegions;
+	private CompositeOperator compositeOperator;
+	private Data data;
+	private Document document;
+	private Image image;
+	private Point2I position;
+	private Rectangle2I boundsComposited;
+	private boolean isVisible;
+	private double opacity;
+	private long modificationCount;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code Layer} instance for {@code image}.
+	 * <p>
+	 * If {@code image} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new Layer(image, new Point2I(), CompositeOperator.OVER, 1.0D);
+	 * }
+	 * </pre>
+	 * 
+	 * @param image the {@link Image} instance to use
+	 * @throws NullPointerException thrown if, and only if, {@code image} is {@code null}
+	 */
+	public Layer(final Image image) {
+		this(image, new Point2I(), CompositeOperator.OVER, 1.0D);
+	}
+	
+	/**
+	 * Constructs a new {@code Layer} instance for {@code image}.
+	 * <p>
+	 * If either {@code image}, {@code position} or {@code compositeOperator} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code opacity} is less than {@code 0.0D}, greater than {@code 1.0D} or {@code Double.NaN}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param image the {@link Image} instance to use
+	 * @param position a {@code Point2I} instance with the position of the upper left corner of {@code image}
+	 * @param compositeOperator the {@link CompositeOperator} instance to use
+	 * @param opacity the opacity to use
+	 * @throws IllegalArgumentException thrown if, and only if, {@code opacity} is less than {@code 0.0D}, greater than {@code 1.0D} or {@code Double.NaN}
+	 * @throws NullPointerException thrown if, and only if, either {@code image}, {@code position} or {@code compositeOperator} are {@code null}
+	 */
+	public Layer(final Image image, final Point2I position, final CompositeOperator compositeOperator, final double opacity) {
+		this.image = Objects.requireNonNull(image, "image == null");
+		this.position = Objects.requireNonNull(position, "position == null");
+		this.compositeOperator = Objects.requireNonNull(compositeOperator, "compositeOperator == null");
+		this.opacity = doRequireOpacity(opacity);
+		this.isVisible = true;
+		this.dirtyRegions = new ArrayList<>();
+		this.data = null;
+		this.document = null;
+		this.boundsComposited = null;
+		this.modificationCount = 0L;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the {@link CompositeOperator} instance that is used by this {@code Layer} instance.
+	 * 
+	 * @return the {@code CompositeOperator} instance that is used by this {@code Layer} instance
+	 */
+	public CompositeOperator getCompositeOperator() {
+		return this.compositeOperator;
+	}
+	
+	/**
+	 * Returns the {@link Image} instance that is used by this {@code Layer} instance.
+	 * 
+	 * @return the {@code Image} instance that is used by this {@code Layer} instance
+	 */
+	public Image getImage() {
+		return this.image;
+	}
+	
+	/**
+	 * Returns the position of the upper left corner of the {@link Image} instance that is used by this {@code Layer} instance.
+	 * 
+	 * @return the position of the upper left corner of the {@code Image} instance that is used by this {@code Layer} instance
+	 */
+	public Point2I getPosition() {
+		return this.position;
+	}
+	
+	/**
+	 * Returns a {@code Rectangle2I} instance with the bounds of this {@code Layer} instance in the coordinate system of the {@link Document}.
+	 * 
+	 * @return a {@code Rectangle2I} instance with the bounds of this {@code Layer} instance in the coordinate system of the {@code Document}
+	 */
+	public Rectangle2I getBounds() {
+		final Data data = this.image.getData();
+		
+		return doCreateBounds(this.position, data.getResolutionX(), data.getResolutionY());
+	}
+	
+	/**
+	 * Marks all pixels of this {@code Layer} instance as changed.
+	 * <p>
+	 * Returns {@code true}.
+	 * 
+	 * @return {@code true}
+	 */
+	public boolean invalidate() {
+		this.dirtyRegions.add(getBounds());
+		
+		return true;
+	}
+	
+	/**
+	 * Marks the pixels of this {@code Layer} instance that are contained in {@code bounds} as changed.
+	 * <p>
+	 * Returns {@code true}.
+	 * <p>
+	 * The coordinates of {@code bounds} are in the coordinate system of the {@link Image} instance that is used by this {@code Layer} instance.
+	 * <p>
+	 * If {@code bounds} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param bounds a {@code Rectangle2I} instance with the bounds of the pixels that have changed
+	 * @return {@code true}
+	 * @throws NullPointerException thrown if, and only if, {@code bounds} is {@code null}
+	 */
+	public boolean invalidate(final Rectangle2I bounds) {
+		this.dirtyRegions.add(Rectangle2I.translate(Objects.requireNonNull(bounds, "bounds == null"), this.position));
+		
+		return true;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, this {@code Layer} instance is visible, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, this {@code Layer} instance is visible, {@code false} otherwise
+	 */
+	public boolean isVisible() {
+		return this.isVisible;
+	}
+	
+	/**
+	 * Sets the {@link CompositeOperator} instance that is used by this {@code Layer} instance to {@code compositeOperator}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the {@code CompositeOperator} instance was changed, {@code false} otherwise.
+	 * <p>
+	 * If {@code compositeOperator} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param compositeOperator the {@code CompositeOperator} instance to use
+	 * @return {@code true} if, and only if, the {@code CompositeOperator} instance was changed, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code compositeOperator} is {@code null}
+	 */
+	public boolean setCompositeOperator(final CompositeOperator compositeOperator) {
+		Objects.requireNonNull(compositeOperator, "compositeOperator == null");
+		
+		if(this.compositeOperator == compositeOperator) {
+			return false;
+		}
+		
+		this.compositeOperator = compositeOperator;
+		
+		return invalidate();
+	}
+	
+	/**
+	 * Sets the {@link Image} instance that is used by this {@code Layer} instance to {@code image}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the {@code Image} instance was changed, {@code false} otherwise.
+	 * <p>
+	 * If {@code image} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param image the {@code Image} instance to use
+	 * @return {@code true} if, and only if, the {@code Image} instance was changed, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code image} is {@code null}
+	 */
+	public boolean setImage(final Image image) {
+		Objects.requireNonNull(image, "image == null");
+		
+		if(this.image == image) {
+			return false;
+		}
+		
+		this.image = image;
+		
+		return true;
+	}
+	
+	/**
+	 * Sets the opacity of this {@code Layer} instance to {@code opacity}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the opacity was changed, {@code false} otherwise.
+	 * <p>
+	 * If {@code opacity} is less than {@code 0.0D}, greater than {@code 1.0D} or {@code Double.NaN}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param opacity the opacity to use
+	 * @return {@code true} if, and only if, the opacity was changed, {@code false} otherwise
+	 * @throws IllegalArgumentException thrown if, and only if, {@code opacity} is less than {@code 0.0D}, greater than {@code 1.0D} or {@code Double.NaN}
+	 */
+	public boolean setOpacity(final double opacity) {
+		doRequireOpacity(opacity);
+		
+		if(Double.compare(this.opacity, opacity) == 0) {
+			return false;
+		}
+		
+		this.opacity = opacity;
+		
+		return invalidate();
+	}
+	
+	/**
+	 * Sets the position of the upper left corner of the {@link Image} instance that is used by this {@code Layer} instance to {@code position}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the position was changed, {@code false} otherwise.
+	 * <p>
+	 * If {@code position} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param position a {@code Point2I} instance with the position to use
+	 * @return {@code true} if, and only if, the position was changed, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code position} is {@code null}
+	 */
+	public boolean setPosition(final Point2I position) {
+		Objects.requireNonNull(position, "position == null");
+		
+		if(this.position.equals(position)) {
+			return false;
+		}
+		
+		this.position = position;
+		
+		return true;
+	}
+	
+	/**
+	 * Sets the visibility state of this {@code Layer} instance to {@code isVisible}.
+	 * <p>
+	 * Returns {@code true} if, and only if, the visibility state was changed, {@code false} otherwise.
+	 * 
+	 * @param isVisible {@code true} if, and only if, this {@code Layer} instance should be visible, {@code false} otherwise
+	 * @return {@code true} if, and only if, the visibility state was changed, {@code false} otherwise
+	 */
+	public boolean setVisible(final boolean isVisible) {
+		if(this.isVisible == isVisible) {
+			return false;
+		}
+		
+		this.isVisible = isVisible;
+		
+		return invalidate();
+	}
+	
+	/**
+	 * Returns the opacity of this {@code Layer} instance.
+	 * 
+	 * @return the opacity of this {@code Layer} instance
+	 */
+	public double getOpacity() {
+		return this.opacity;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	List<Rectangle2I> pollDirtyRegions() {
+		final Data data = this.image.getData();
+		
+		final Rectangle2I bounds = getBounds();
+		
+		final long modificationCount = data.getModificationCount();
+		
+		if(this.data != data || !bounds.equals(this.boundsComposited)) {
+			if(this.boundsComposited != null) {
+				this.dirtyRegions.add(this.boundsComposited);
+			}
+			
+			this.dirtyRegions.add(bounds);
+			
+			data.getDirtyRegions(modificationCount);
+		} else if(this.modificationCount != modificationCount) {
+			for(final Rectangle2I dirtyRegion : data.getDirtyRegions(this.modificationCount)) {
+				this.dirtyRegions.add(Rectangle2I.translate(dirtyRegion, this.position));
+			}
+		}
+		
+		this.data = data;
+		this.boundsComposited = bounds;
+		this.modificationCount = modificationCount;
+		
+		final List<Rectangle2I> dirtyRegions = new ArrayList<>(this.dirtyRegions);
+		
+		this.dirtyRegions.clear();
+		
+		return dirtyRegions;
+	}
+	
+	Rectangle2I detach() {
+		final Rectangle2I boundsComposited = this.boundsComposited;
+		
+		this.dirtyRegions.clear();
+		this.data = null;
+		this.document = null;
+		this.boundsComposited = null;
+		this.modificationCount = 0L;
+		
+		return boundsComposited;
+	}
+	
+	boolean attach(final Document document) {
+		if(this.document == document) {
+			return false;
+		}
+		
+		if(this.document != null) {
+			throw new IllegalArgumentException("The Layer has already been added to another Document");
+		}
+		
+		this.document = document;
+		
+		return true;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static Rectangle2I doCreateBounds(final Point2I position, final int resolutionX, final int resolutionY) {
+		return new Rectangle2I(position, new Point2I(position.x + resolutionX - 1, position.y + resolutionY - 1));
+	}
+	
+	private static double doRequireOpacity(final double opacity) {
+		if(!(opacity >= 0.0D && opacity <= 1.0D)) {
+			throw new IllegalArgumentException(String.format("opacity < 0.0D || opacity > 1.0D: opacity = %s", Double.toString(opacity)));
+		}
+		
+		return opacity;
+	}
+}
\ No newline at end of file
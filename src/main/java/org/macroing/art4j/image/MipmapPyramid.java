@@ -0,0 +1,113 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.macroing.art4j.color.Color4D;
+import org.macroing.art4j.data.Data;
+import org.macroing.art4j.filter.Filter2D;
+import org.macroing.java.lang.Doubles;
+import org.macroing.java.lang.Ints;
+
+final class MipmapPyramid {
+	private final Data data;
+	private final Filter2D filter;
+	private final List<Data> levels;
+	private final long modificationCount;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public MipmapPyramid(final Data data, final Filter2D filter) {
+		this.data = data;
+		this.filter = filter;
+		this.levels = new ArrayList<>();
+		this.levels.add(data);
+		this.modificationCount = data.getModificationCount();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public Color4D getColor4D(final double x, final double y, final double footprint) {
+		final double level = Doubles.min(Doubles.log(Doubles.max(footprint, 1.0D)) / Doubles.log(2.0D), getLevelCount() - 1);
+		
+		final int levelMinimum = (int)(Doubles.floor(level));
+		final int levelMaximum = (int)(Doubles.ceil(level));
+		
+		final Color4D colorMinimum = doGetColor4D(x, y, levelMinimum);
+		
+		if(levelMinimum == levelMaximum) {
+			return colorMinimum;
+		}
+		
+		final Color4D colorMaximum = doGetColor4D(x, y, levelMaximum);
+		
+		return Color4D.blend(colorMinimum, colorMaximum, level - levelMinimum);
+	}
+	
+	public synchronized Data getLevel(final int level) {
+		Ints.requireRange(level, 0, getLevelCount() - 1, "level");
+		
+		while(this.levels.size() <= level) {
+			final Data data = this.levels.get(this.levels.size() - 1);
+			
+			final int resolutionX = Ints.max((data.getResolutionX() + 1) / 2, 1);
+			final int resolutionY = Ints.max((data.getResolutionY() + 1) / 2, 1);
+			
+			this.levels.add(data.copy(resolutionX, resolutionY, this.filter));
+		}
+		
+		return this.levels.get(level);
+	}
+	
+	public boolean isValidFor(final Data data, final Filter2D filter) {
+		return this.data == data && this.filter.equals(filter) && this.modificationCount == data.getModificationCount();
+	}
+	
+	public int getLevelCount() {
+		return getLevelCount(this.data.getResolutionX(), this.data.getResolutionY());
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static int getLevelCount(final int resolutionX, final int resolutionY) {
+		int levelCount = 1;
+		
+		for(int x = resolutionX, y = resolutionY; x > 1 || y > 1; x = Ints.max((x + 1) / 2, 1), y = Ints.max((y + 1) / 2, 1)) {
+			levelCount++;
+		}
+		
+		return levelCount;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private Color4D doGetColor4D(final double x, final double y, final int level) {
+		final Data data = getLevel(level);
+		
+		final double resolutionX = data.getResolutionX();
+		final double resolutionY = data.getResolutionY();
+		
+		final double u = Doubles.saturate((x + 0.5D) * resolutionX / this.data.getResolutionX() - 0.5D, 0.0D, resolutionX - 1.0D);
+		final double v = Doubles.saturate((y + 0.5D) * resolutionY / this.data.getResolutionY() - 0.5D, 0.0D, resolutionY - 1.0D);
+		
+		return data.getColor4D(u, v);
+	}
+}
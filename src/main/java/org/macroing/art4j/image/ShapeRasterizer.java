@@ -0,0 +1,435 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.macroing.geo4j.common.Point2I;
+import org.macroing.geo4j.shape.Shape2I;
+import org.macroing.geo4j.shape.circle.Circle2I;
+import org.macroing.geo4j.shape.ls.LineSegment2I;
+import org.macroing.geo4j.shape.polygon.Polygon2I;
+import org.macroing.geo4j.shape.rectangle.Rectangle2I;
+import org.macroing.geo4j.shape.triangle.Triangle2I;
+
+final class ShapeRasterizer {
+	private static final int SUBSAMPLES = 4;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private ShapeRasterizer() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static void rasterize(final Shape2I shape, final boolean isIncludingBorderOnly, final int resolutionX, final int resolutionY, final SpanConsumer spanConsumer) {
+		if(shape instanceof Circle2I) {
+			doRasterizeCircle(Circle2I.class.cast(shape), isIncludingBorderOnly, resolutionX, resolutionY, spanConsumer);
+		} else if(shape instanceof LineSegment2I) {
+			doRasterizePolygon(shape, new int[0], new int[0], Collections.singletonList(LineSegment2I.class.cast(shape)), false, true, resolutionX, resolutionY, spanConsumer);
+		} else if(shape instanceof Polygon2I) {
+			final Polygon2I polygon = Polygon2I.class.cast(shape);
+			
+			final List<Point2I> points = polygon.getPoints();
+			
+			doRasterizePolygon(shape, doGetX(points), doGetY(points), polygon.getLineSegments(), false, isIncludingBorderOnly, resolutionX, resolutionY, spanConsumer);
+		} else if(shape instanceof Rectangle2I) {
+			final Rectangle2I rectangle = Rectangle2I.class.cast(shape);
+			
+			final List<Point2I> points = Arrays.asList(rectangle.getA(), rectangle.getB(), rectangle.getC(), rectangle.getD());
+			
+			doRasterizePolygon(shape, doGetX(points), doGetY(points), rectangle.getLineSegments(), false, isIncludingBorderOnly, resolutionX, resolutionY, spanConsumer);
+		} else if(shape instanceof Triangle2I) {
+			final Triangle2I triangle = Triangle2I.class.cast(shape);
+			
+			final List<Point2I> points = Arrays.asList(triangle.getA(), triangle.getB(), triangle.getC());
+			
+			doRasterizePolygon(shape, doGetX(points), doGetY(points), triangle.getLineSegments(), true, isIncludingBorderOnly, resolutionX, resolutionY, spanConsumer);
+		} else {
+			doRasterizeShape(shape, isIncludingBorderOnly, resolutionX, resolutionY, spanConsumer);
+		}
+	}
+	
+	public static void rasterizeAntiAliased(final Shape2I shape, final int resolutionX, final int resolutionY, final CoverageConsumer coverageConsumer) {
+		if(shape instanceof Circle2I) {
+			final Circle2I circle = Circle2I.class.cast(shape);
+			
+			doRasterizeAntiAliased(null, null, circle.getCenter().x, circle.getCenter().y, circle.getRadius(), resolutionX, resolutionY, coverageConsumer);
+		} else if(shape instanceof Polygon2I) {
+			final List<Point2I> points = Polygon2I.class.cast(shape).getPoints();
+			
+			doRasterizeAntiAliased(doGetX(points), doGetY(points), 0, 0, 0, resolutionX, resolutionY, coverageConsumer);
+		} else if(shape instanceof Rectangle2I) {
+			final Rectangle2I rectangle = Rectangle2I.class.cast(shape);
+			
+			final List<Point2I> points = Arrays.asList(rectangle.getA(), rectangle.getB(), rectangle.getC(), rectangle.getD());
+			
+			doRasterizeAntiAliased(doGetX(points), doGetY(points), 0, 0, 0, resolutionX, resolutionY, coverageConsumer);
+		} else if(shape instanceof Triangle2I) {
+			final Triangle2I triangle = Triangle2I.class.cast(shape);
+			
+			final List<Point2I> points = Arrays.asList(triangle.getA(), triangle.getB(), triangle.getC());
+			
+			doRasterizeAntiAliased(doGetX(points), doGetY(points), 0, 0, 0, resolutionX, resolutionY, coverageConsumer);
+		} else {
+			rasterize(shape, false, resolutionX, resolutionY, (y, minimumX, maximumX) -> {
+				for(int x = minimumX; x <= maximumX; x++) {
+					coverageConsumer.accept(x, y, 1.0D);
+				}
+			});
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@FunctionalInterface
+	interface CoverageConsumer {
+		void accept(final int x, final int y, final double coverage);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@FunctionalInterface
+	interface SpanConsumer {
+		void accept(final int y, final int minimumX, final int maximumX);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int[] doGetX(final List<Point2I> points) {
+		final int[] x = new int[points.size()];
+		
+		for(int i = 0; i < x.length; i++) {
+			x[i] = points.get(i).x;
+		}
+		
+		return x;
+	}
+	
+	private static int[] doGetY(final List<Point2I> points) {
+		final int[] y = new int[points.size()];
+		
+		for(int i = 0; i < y.length; i++) {
+			y[i] = points.get(i).y;
+		}
+		
+		return y;
+	}
+	
+	private static long doSquareRoot(final long value) {
+		long squareRoot = (long)(Math.sqrt(value));
+		
+		while(squareRoot * squareRoot > value) {
+			squareRoot--;
+		}
+		
+		while((squareRoot + 1L) * (squareRoot + 1L) <= value) {
+			squareRoot++;
+		}
+		
+		return squareRoot;
+	}
+	
+	private static void doAccumulate(final double[] coverages, final int minimumX, final int maximumX, final double left, final double right, final double weight) {
+		final double l = Math.max(left, minimumX - 0.5D);
+		final double r = Math.min(right, maximumX + 0.5D);
+		
+		if(r <= l) {
+			return;
+		}
+		
+		final int x0 = (int)(Math.floor(l + 0.5D));
+		final int x1 = Math.min((int)(Math.floor(r + 0.5D)), maximumX);
+		
+		if(x0 == x1) {
+			coverages[x0 - minimumX] += (r - l) * weight;
+		} else {
+			coverages[x0 - minimumX] += (x0 + 0.5D - l) * weight;
+			
+			for(int x = x0 + 1; x < x1; x++) {
+				coverages[x - minimumX] += weight;
+			}
+			
+			coverages[x1 - minimumX] += (r - (x1 - 0.5D)) * weight;
+		}
+	}
+	
+	private static void doEmit(final boolean[] row, final int minimumX, final int y, final SpanConsumer spanConsumer) {
+		for(int i = 0; i < row.length; i++) {
+			if(row[i]) {
+				final int start = i;
+				
+				while(i + 1 < row.length && row[i + 1]) {
+					i++;
+				}
+				
+				spanConsumer.accept(y, minimumX + start, minimumX + i);
+			}
+		}
+	}
+	
+	private static void doMark(final boolean[] row, final int minimumX, final int maximumX, final int spanMinimumX, final int spanMaximumX) {
+		final int fromX = Math.max(spanMinimumX, minimumX);
+		final int toX = Math.min(spanMaximumX, maximumX);
+		
+		if(fromX <= toX) {
+			Arrays.fill(row, fromX - minimumX, toX - minimumX + 1, true);
+		}
+	}
+	
+	private static void doMarkLineSegment(final boolean[] row, final int minimumX, final int maximumX, final int y, final LineSegment2I lineSegment) {
+		final int aX = lineSegment.getA().x;
+		final int aY = lineSegment.getA().y;
+		final int bX = lineSegment.getB().x;
+		final int bY = lineSegment.getB().y;
+		
+		final long deltaX = (long)(bX) - aX;
+		final long deltaY = (long)(bY) - aY;
+		
+		if(deltaX == 0L && deltaY == 0L) {
+			doMark(row, minimumX, maximumX, aX, aX);
+		} else if(deltaY == 0L) {
+			if(y == aY) {
+				doMark(row, minimumX, maximumX, Math.min(aX, bX), Math.max(aX, bX));
+			}
+		} else if(y >= Math.min(aY, bY) && y <= Math.max(aY, bY)) {
+			final long t = (y - aY) * deltaX;
+			
+			if(t % deltaY == 0L) {
+				final long x = aX + t / deltaY;
+				
+				doMark(row, minimumX, maximumX, (int)(x), (int)(x));
+			}
+		}
+	}
+	
+	private static void doRasterizeAntiAliased(final int[] polygonX, final int[] polygonY, final int circleX, final int circleY, final int circleRadius, final int resolutionX, final int resolutionY, final CoverageConsumer coverageConsumer) {
+		final boolean isCircle = polygonX == null;
+		
+		int boundsMinimumX = circleX - circleRadius;
+		int boundsMinimumY = circleY - circleRadius;
+		int boundsMaximumX = circleX + circleRadius;
+		int boundsMaximumY = circleY + circleRadius;
+		
+		if(!isCircle) {
+			boundsMinimumX = Integer.MAX_VALUE;
+			boundsMinimumY = Integer.MAX_VALUE;
+			boundsMaximumX = Integer.MIN_VALUE;
+			boundsMaximumY = Integer.MIN_VALUE;
+			
+			for(int i = 0; i < polygonX.length; i++) {
+				boundsMinimumX = Math.min(boundsMinimumX, polygonX[i]);
+				boundsMinimumY = Math.min(boundsMinimumY, polygonY[i]);
+				boundsMaximumX = Math.max(boundsMaximumX, polygonX[i]);
+				boundsMaximumY = Math.max(boundsMaximumY, polygonY[i]);
+			}
+		}
+		
+		final int minimumX = Math.max(boundsMinimumX, 0);
+		final int minimumY = Math.max(boundsMinimumY, 0);
+		final int maximumX = Math.min(boundsMaximumX, resolutionX - 1);
+		final int maximumY = Math.min(boundsMaximumY, resolutionY - 1);
+		
+		if(minimumX > maximumX || minimumY > maximumY) {
+			return;
+		}
+		
+		final double weight = 1.0D / SUBSAMPLES;
+		
+		final double[] coverages = new double[maximumX - minimumX + 1];
+		final double[] crossings = new double[isCircle ? 0 : polygonX.length];
+		
+		for(int y = minimumY; y <= maximumY; y++) {
+			Arrays.fill(coverages, 0.0D);
+			
+			for(int sample = 0; sample < SUBSAMPLES; sample++) {
+				final double sampleY = y - 0.5D + (sample + 0.5D) * weight;
+				
+				if(isCircle) {
+					final double deltaY = sampleY - circleY;
+					final double squaredHalfWidth = (double)(circleRadius) * circleRadius - deltaY * deltaY;
+					
+					if(squaredHalfWidth > 0.0D) {
+						final double halfWidth = Math.sqrt(squaredHalfWidth);
+						
+						doAccumulate(coverages, minimumX, maximumX, circleX - halfWidth, circleX + halfWidth, weight);
+					}
+				} else {
+					int crossingCount = 0;
+					
+					for(int i = 0, j = polygonX.length - 1; i < polygonX.length; j = i++) {
+						if((polygonY[i] > sampleY) != (polygonY[j] > sampleY)) {
+							crossings[crossingCount++] = polygonX[i] + (sampleY - polygonY[i]) * (polygonX[j] - polygonX[i]) / (polygonY[j] - polygonY[i]);
+						}
+					}
+					
+					Arrays.sort(crossings, 0, crossingCount);
+					
+					for(int i = 0; i + 1 < crossingCount; i += 2) {
+						doAccumulate(coverages, minimumX, maximumX, crossings[i], crossings[i + 1], weight);
+					}
+				}
+			}
+			
+			for(int x = minimumX; x <= maximumX; x++) {
+				final double coverage = coverages[x - minimumX];
+				
+				if(coverage > 0.0D) {
+					coverageConsumer.accept(x, y, Math.min(coverage, 1.0D));
+				}
+			}
+		}
+	}
+	
+	private static void doRasterizeCircle(final Circle2I circle, final boolean isIncludingBorderOnly, final int resolutionX, final int resolutionY, final SpanConsumer spanConsumer) {
+		final int centerX = circle.getCenter().x;
+		final int centerY = circle.getCenter().y;
+		final int radius = circle.getRadius();
+		
+		final int minimumY = Math.max(centerY - radius, 0);
+		final int maximumY = Math.min(centerY + radius, resolutionY - 1);
+		
+		final long radiusSquared = (long)(radius) * radius;
+		final long radiusInnerSquared = (long)(radius - 1) * (radius - 1);
+		
+		for(int y = minimumY; y <= maximumY; y++) {
+			final long deltaY = (long)(y) - centerY;
+			
+			final long remainder = radiusSquared - deltaY * deltaY;
+			
+			if(remainder < 0L) {
+				continue;
+			}
+			
+			final long outer = doSquareRoot(remainder);
+			
+			final long remainderInner = radiusInnerSquared - deltaY * deltaY;
+			
+			if(!isIncludingBorderOnly || remainderInner < 0L) {
+				doSpan(centerX - outer, centerX + outer, y, resolutionX, spanConsumer);
+			} else {
+				final long inner = doSquareRoot(remainderInner);
+				
+				if(inner < outer) {
+					doSpan(centerX - outer, centerX - inner - 1L, y, resolutionX, spanConsumer);
+					doSpan(centerX + inner + 1L, centerX + outer, y, resolutionX, spanConsumer);
+				}
+			}
+		}
+	}
+	
+	private static void doRasterizePolygon(final Shape2I shape, final int[] polygonX, final int[] polygonY, final List<LineSegment2I> lineSegments, final boolean isTriangle, final boolean isIncludingBorderOnly, final int resolutionX, final int resolutionY, final SpanConsumer spanConsumer) {
+		boolean isContainingDegenerateLineSegment = false;
+		
+		for(final LineSegment2I lineSegment : lineSegments) {
+			isContainingDegenerateLineSegment |= lineSegment.getA().x == lineSegment.getB().x && lineSegment.getA().y == lineSegment.getB().y;
+		}
+		
+		final boolean isDegenerateTriangle = isTriangle && !isIncludingBorderOnly && doIsCollinear(polygonX, polygonY);
+		
+		final int minimumX = isDegenerateTriangle ? 0 : Math.max(shape.min().x, 0);
+		final int minimumY = isContainingDegenerateLineSegment || isDegenerateTriangle ? 0 : Math.max(shape.min().y, 0);
+		final int maximumX = isDegenerateTriangle ? resolutionX - 1 : Math.min(shape.max().x, resolutionX - 1);
+		final int maximumY = isContainingDegenerateLineSegment || isDegenerateTriangle ? resolutionY - 1 : Math.min(shape.max().y, resolutionY - 1);
+		
+		if(minimumX > maximumX || minimumY > maximumY) {
+			return;
+		}
+		
+		final boolean[] row = new boolean[maximumX - minimumX + 1];
+		
+		final int[] crossings = new int[polygonX.length];
+		
+		for(int y = minimumY; y <= maximumY; y++) {
+			Arrays.fill(row, false);
+			
+			if(!isIncludingBorderOnly && isTriangle) {
+				for(int x = minimumX; x <= maximumX; x++) {
+					row[x - minimumX] = doContainsTriangle(polygonX, polygonY, x, y);
+				}
+			} else if(!isIncludingBorderOnly) {
+				int crossingCount = 0;
+				
+				for(int i = 0, j = polygonX.length - 1; i < polygonX.length; j = i++) {
+					if((polygonY[i] > y) != (polygonY[j] > y)) {
+						crossings[crossingCount++] = (polygonX[j] - polygonX[i]) * (y - polygonY[i]) / (polygonY[j] - polygonY[i]) + polygonX[i];
+					}
+				}
+				
+				Arrays.sort(crossings, 0, crossingCount);
+				
+				for(int i = 0; i + 1 < crossingCount; i += 2) {
+					doMark(row, minimumX, maximumX, crossings[i], crossings[i + 1] - 1);
+				}
+			}
+			
+			for(final LineSegment2I lineSegment : lineSegments) {
+				doMarkLineSegment(row, minimumX, maximumX, y, lineSegment);
+			}
+			
+			doEmit(row, minimumX, y, spanConsumer);
+		}
+	}
+	
+	private static void doRasterizeShape(final Shape2I shape, final boolean isIncludingBorderOnly, final int resolutionX, final int resolutionY, final SpanConsumer spanConsumer) {
+		final boolean[] row = new boolean[resolutionX];
+		
+		for(int y = 0; y < resolutionY; y++) {
+			for(int x = 0; x < resolutionX; x++) {
+				row[x] = shape.contains(new Point2I(x, y), isIncludingBorderOnly);
+			}
+			
+			doEmit(row, 0, y, spanConsumer);
+		}
+	}
+	
+	private static void doSpan(final long minimumX, final long maximumX, final int y, final int resolutionX, final SpanConsumer spanConsumer) {
+		final long fromX = Math.max(minimumX, 0L);
+		final long toX = Math.min(maximumX, resolutionX - 1L);
+		
+		if(fromX <= toX) {
+			spanConsumer.accept(y, (int)(fromX), (int)(toX));
+		}
+	}
+	
+	private static boolean doContainsTriangle(final int[] triangleX, final int[] triangleY, final int x, final int y) {
+		final int aX = triangleX[0];
+		final int aY = triangleY[0];
+		final int bX = triangleX[1];
+		final int bY = triangleY[1];
+		final int cX = triangleX[2];
+		final int cY = triangleY[2];
+		
+		final int d1 = (x - bX) * (aY - bY) - (aX - bX) * (y - bY);
+		final int d2 = (x - cX) * (bY - cY) - (bX - cX) * (y - cY);
+		final int d3 = (x - aX) * (cY - aY) - (cX - aX) * (y - aY);
+		
+		final boolean hasNegative = d1 < 0 || d2 < 0 || d3 < 0;
+		final boolean hasPositive = d1 > 0 || d2 > 0 || d3 > 0;
+		
+		return !(hasNegative && hasPositive);
+	}
+	
+	private static boolean doIsCollinear(final int[] triangleX, final int[] triangleY) {
+		return ((long)(triangleX[1]) - triangleX[0]) * ((long)(triangleY[2]) - triangleY[0]) == ((long)(triangleX[2]) - triangleX[0]) * ((long)(triangleY[1]) - triangleY[0]);
+	}
+}
\ No newline at end of file
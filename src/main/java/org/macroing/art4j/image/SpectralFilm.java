@@ -0,0 +1,457 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import org.macroing.art4j.color.Color3F;
+import org.macroing.art4j.color.ColorSpaceF;
+import org.macroing.art4j.curve.RegularSpectralCurveF;
+import org.macroing.art4j.data.DataFactory;
+import org.macroing.java.lang.Ints;
+
+/**
+ * A {@code SpectralFilm} stores spectral data for each pixel in a number of wavelength bands.
+ * <p>
+ * A {@code SpectralFilm} is intended for spectral rendering. The renderer accumulates samples, each with a wavelength and a value, and the {@code SpectralFilm} converts the accumulated spectral data to an {@link Image} in XYZ- or RGB-color space.
+ * <p>
+ * The bands are evenly spaced in the range {@code [lambdaMin, lambdaMax]}, such that band {@code 0} is centered at {@code lambdaMin} and band {@code bandCount - 1} is centered at {@code lambdaMax}. A sample is split between the two nearest bands using linear weights. The spectral data of a pixel is the weighted average of the samples accumulated in each band, and it is reconstructed between the bands using linear interpolation, just like a {@link RegularSpectralCurveF}.
+ * <p>
+ * The spectral data is stored in primitive {@code float} arrays. The conversion to XYZ- or RGB-color space uses one precomputed weight per band and color component, so it costs {@code 3 * bandCount} multiplications per pixel. The weights are computed once, using the CIE color matching functions in the {@code org.macroing.art4j.curve} package.
+ * <p>
+ * This class is mutable. The methods that accumulate samples may be called concurrently, as long as no two threads accumulate samples for the same pixel at the same time.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class SpectralFilm {
+	/**
+	 * The default number of bands.
+	 */
+	public static final int DEFAULT_BAND_COUNT = 48;
+	
+	/**
+	 * The default maximum wavelength in nanometers.
+	 */
+	public static final float DEFAULT_LAMBDA_MAX = 830.0F;
+	
+	/**
+	 * The default minimum wavelength in nanometers.
+	 */
+	public static final float DEFAULT_LAMBDA_MIN = 360.0F;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final float bandScale;
+	private final float lambdaMax;
+	private final float lambdaMin;
+	private final float[] sums;
+	private final float[] weights;
+	private final float[] weightsRGB;
+	private final float[] weightsXYZ;
+	private final int bandCount;
+	private final int resolutionX;
+	private final int resolutionY;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code SpectralFilm} instance.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1} or {@code resolutionX * resolutionY * SpectralFilm.DEFAULT_BAND_COUNT} overflows, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new SpectralFilm(resolutionX, resolutionY, SpectralFilm.DEFAULT_LAMBDA_MIN, SpectralFilm.DEFAULT_LAMBDA_MAX, SpectralFilm.DEFAULT_BAND_COUNT);
+	 * }
+	 * </pre>
+	 * 
+	 * @param resolutionX the resolution along the X-axis
+	 * @param resolutionY the resolution along the Y-axis
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resolutionX} or {@code resolutionY} are less than {@code 1} or {@code resolutionX * resolutionY * SpectralFilm.DEFAULT_BAND_COUNT} overflows
+	 */
+	public SpectralFilm(final int resolutionX, final int resolutionY) {
+		this(resolutionX, resolutionY, DEFAULT_LAMBDA_MIN, DEFAULT_LAMBDA_MAX, DEFAULT_BAND_COUNT);
+	}
+	
+	/**
+	 * Constructs a new {@code SpectralFilm} instance.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code bandCount} is less than {@code 2}, {@code resolutionX * resolutionY * bandCount} overflows or {@code lambdaMin} is not less than {@code lambdaMax}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param resolutionX the resolution along the X-axis
+	 * @param resolutionY the resolution along the Y-axis
+	 * @param lambdaMin the wavelength in nanometers of the first band
+	 * @param lambdaMax the wavelength in nanometers of the last band
+	 * @param bandCount the number of bands
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code bandCount} is less than {@code 2}, {@code resolutionX * resolutionY * bandCount} overflows or {@code lambdaMin} is not less than {@code lambdaMax}
+	 */
+	public SpectralFilm(final int resolutionX, final int resolutionY, final float lambdaMin, final float lambdaMax, final int bandCount) {
+		final int resolution = Ints.requireRangeMultiplyExact(resolutionX, resolutionY, 1, Integer.MAX_VALUE, "resolutionX", "resolutionY");
+		final int length = Ints.requireRangeMultiplyExact(resolution, Ints.requireRange(bandCount, 2, Integer.MAX_VALUE, "bandCount"), 1, Integer.MAX_VALUE, "resolutionX * resolutionY", "bandCount");
+		
+		if(!(lambdaMin < lambdaMax)) {
+			throw new IllegalArgumentException(String.format("lambdaMin >= lambdaMax: lambdaMin = %s, lambdaMax = %s", Float.toString(lambdaMin), Float.toString(lambdaMax)));
+		}
+		
+		this.resolutionX = resolutionX;
+		this.resolutionY = resolutionY;
+		this.lambdaMin = lambdaMin;
+		this.lambdaMax = lambdaMax;
+		this.bandCount = bandCount;
+		this.bandScale = (bandCount - 1) / (lambdaMax - lambdaMin);
+		this.sums = new float[length];
+		this.weights = new float[length];
+		this.weightsRGB = new float[bandCount * 3];
+		this.weightsXYZ = new float[bandCount * 3];
+		
+		doComputeBandWeights(this.weightsRGB, this.weightsXYZ, lambdaMin, lambdaMax, bandCount);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns an {@link Image} instance with the spectral data of this {@code SpectralFilm} instance converted to RGB-color space.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * spectralFilm.toImageRGB(DataFactory.forColor4F());
+	 * }
+	 * </pre>
+	 * 
+	 * @return an {@code Image} instance with the spectral data of this {@code SpectralFilm} instance converted to RGB-color space
+	 */
+	public Image toImageRGB() {
+		return toImageRGB(DataFactory.forColor4F());
+	}
+	
+	/**
+	 * Returns an {@link Image} instance with the spectral data of this {@code SpectralFilm} instance converted to RGB-color space.
+	 * <p>
+	 * If {@code dataFactory} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The conversion uses the default {@link ColorSpaceF}. The color of each pixel is the same as {@code getSpectralCurve(x, y).toColorRGB()}, apart from rounding errors, and has an alpha component of {@code 1.0F}. The rows are converted in parallel.
+	 * 
+	 * @param dataFactory the {@link DataFactory} instance used to create the {@code Image} instance
+	 * @return an {@code Image} instance with the spectral data of this {@code SpectralFilm} instance converted to RGB-color space
+	 * @throws NullPointerException thrown if, and only if, {@code dataFactory} is {@code null}
+	 */
+	public Image toImageRGB(final DataFactory dataFactory) {
+		return doToImage(dataFactory, this.weightsRGB);
+	}
+	
+	/**
+	 * Returns an {@link Image} instance with the spectral data of this {@code SpectralFilm} instance converted to XYZ-color space.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * spectralFilm.toImageXYZ(DataFactory.forColor4F());
+	 * }
+	 * </pre>
+	 * 
+	 * @return an {@code Image} instance with the spectral data of this {@code SpectralFilm} instance converted to XYZ-color space
+	 */
+	public Image toImageXYZ() {
+		return toImageXYZ(DataFactory.forColor4F());
+	}
+	
+	/**
+	 * Returns an {@link Image} instance with the spectral data of this {@code SpectralFilm} instance converted to XYZ-color space.
+	 * <p>
+	 * If {@code dataFactory} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The X-, Y- and Z-components are stored in the R-, G- and B-components, respectively. The color of each pixel is the same as {@code getSpectralCurve(x, y).toColorXYZ()}, apart from rounding errors, and has an alpha component of {@code 1.0F}. The rows are converted in parallel.
+	 * 
+	 * @param dataFactory the {@link DataFactory} instance used to create the {@code Image} instance
+	 * @return an {@code Image} instance with the spectral data of this {@code SpectralFilm} instance converted to XYZ-color space
+	 * @throws NullPointerException thrown if, and only if, {@code dataFactory} is {@code null}
+	 */
+	public Image toImageXYZ(final DataFactory dataFactory) {
+		return doToImage(dataFactory, this.weightsXYZ);
+	}
+	
+	/**
+	 * Returns a {@link RegularSpectralCurveF} instance with the spectral data of the pixel at {@code x} and {@code y} in this {@code SpectralFilm} instance.
+	 * <p>
+	 * If either {@code x} is less than {@code 0} or greater than or equal to {@code spectralFilm.getResolutionX()} or {@code y} is less than {@code 0} or greater than or equal to {@code spectralFilm.getResolutionY()}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param x the X-coordinate of the pixel
+	 * @param y the Y-coordinate of the pixel
+	 * @return a {@code RegularSpectralCurveF} instance with the spectral data of the pixel at {@code x} and {@code y} in this {@code SpectralFilm} instance
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code x} is less than {@code 0} or greater than or equal to {@code spectralFilm.getResolutionX()} or {@code y} is less than {@code 0} or greater than or equal to {@code spectralFilm.getResolutionY()}
+	 */
+	public RegularSpectralCurveF getSpectralCurve(final int x, final int y) {
+		final int offset = doGetOffset(x, y);
+		
+		final float[] spectrum = new float[this.bandCount];
+		
+		for(int band = 0; band < this.bandCount; band++) {
+			spectrum[band] = doGetSample(offset + band);
+		}
+		
+		return new RegularSpectralCurveF(this.lambdaMin, this.lambdaMax, spectrum);
+	}
+	
+	/**
+	 * Accumulates a sample with the wavelength {@code lambda} and the value {@code value} for the pixel at {@code x} and {@code y} in this {@code SpectralFilm} instance.
+	 * <p>
+	 * Returns {@code true} if, and only if, the sample was accumulated, {@code false} otherwise.
+	 * <p>
+	 * The sample is not accumulated if either {@code x} or {@code y} are outside the resolution of this {@code SpectralFilm} instance or {@code lambda} is outside the range {@code [spectralFilm.getLambdaMin(), spectralFilm.getLambdaMax()]}.
+	 * 
+	 * @param x the X-coordinate of the pixel
+	 * @param y the Y-coordinate of the pixel
+	 * @param lambda the wavelength in nanometers
+	 * @param value the value of the sample
+	 * @return {@code true} if, and only if, the sample was accumulated, {@code false} otherwise
+	 */
+	public boolean accumulate(final int x, final int y, final float lambda, final float value) {
+		if(x < 0 || x >= this.resolutionX || y < 0 || y >= this.resolutionY) {
+			return false;
+		}
+		
+		return doAccumulate((y * this.resolutionX + x) * this.bandCount, lambda, value);
+	}
+	
+	/**
+	 * Accumulates samples with the wavelengths in {@code lambdas} and the values in {@code values} for the pixel at {@code x} and {@code y} in this {@code SpectralFilm} instance.
+	 * <p>
+	 * Returns {@code true} if, and only if, either {@code x} and {@code y} are inside the resolution of this {@code SpectralFilm} instance, {@code false} otherwise.
+	 * <p>
+	 * If either {@code lambdas} or {@code values} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code values.length} is less than {@code lambdas.length}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The sample at index {@code i} is accumulated as if by {@code accumulate(x, y, lambdas[i], values[i])}. Samples with a wavelength outside the range {@code [spectralFilm.getLambdaMin(), spectralFilm.getLambdaMax()]} are ignored.
+	 * 
+	 * @param x the X-coordinate of the pixel
+	 * @param y the Y-coordinate of the pixel
+	 * @param lambdas an array with wavelengths in nanometers
+	 * @param values an array with the values of the samples
+	 * @return {@code true} if, and only if, either {@code x} and {@code y} are inside the resolution of this {@code SpectralFilm} instance, {@code false} otherwise
+	 * @throws IllegalArgumentException thrown if, and only if, {@code values.length} is less than {@code lambdas.length}
+	 * @throws NullPointerException thrown if, and only if, either {@code lambdas} or {@code values} are {@code null}
+	 */
+	public boolean accumulate(final int x, final int y, final float[] lambdas, final float[] values) {
+		Objects.requireNonNull(lambdas, "lambdas == null");
+		Objects.requireNonNull(values, "values == null");
+		
+		Ints.requireRange(values.length, lambdas.length, Integer.MAX_VALUE, "values.length");
+		
+		if(x < 0 || x >= this.resolutionX || y < 0 || y >= this.resolutionY) {
+			return false;
+		}
+		
+		final int offset = (y * this.resolutionX + x) * this.bandCount;
+		
+		for(int i = 0; i < lambdas.length; i++) {
+			doAccumulate(offset, lambdas[i], values[i]);
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Returns the wavelength in nanometers of the band at index {@code band}.
+	 * <p>
+	 * If {@code band} is less than {@code 0} or greater than or equal to {@code spectralFilm.getBandCount()}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param band the index of the band
+	 * @return the wavelength in nanometers of the band at index {@code band}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code band} is less than {@code 0} or greater than or equal to {@code spectralFilm.getBandCount()}
+	 */
+	public float getLambda(final int band) {
+		Ints.requireRange(band, 0, this.bandCount - 1, "band");
+		
+		return band == this.bandCount - 1 ? this.lambdaMax : this.lambdaMin + band / this.bandScale;
+	}
+	
+	/**
+	 * Returns the wavelength in nanometers of the last band.
+	 * 
+	 * @return the wavelength in nanometers of the last band
+	 */
+	public float getLambdaMax() {
+		return this.lambdaMax;
+	}
+	
+	/**
+	 * Returns the wavelength in nanometers of the first band.
+	 * 
+	 * @return the wavelength in nanometers of the first band
+	 */
+	public float getLambdaMin() {
+		return this.lambdaMin;
+	}
+	
+	/**
+	 * Returns the spectral data of the pixel at {@code x} and {@code y} in the band at index {@code band}.
+	 * <p>
+	 * If either {@code x} is less than {@code 0} or greater than or equal to {@code spectralFilm.getResolutionX()}, {@code y} is less than {@code 0} or greater than or equal to {@code spectralFilm.getResolutionY()} or {@code band} is less than {@code 0} or greater than or equal to {@code spectralFilm.getBandCount()}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The spectral data is the weighted average of the samples accumulated in the band, or {@code 0.0F} if no samples have been accumulated in it.
+	 * 
+	 * @param x the X-coordinate of the pixel
+	 * @param y the Y-coordinate of the pixel
+	 * @param band the index of the band
+	 * @return the spectral data of the pixel at {@code x} and {@code y} in the band at index {@code band}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code x} is less than {@code 0} or greater than or equal to {@code spectralFilm.getResolutionX()}, {@code y} is less than {@code 0} or greater than or equal to {@code spectralFilm.getResolutionY()} or {@code band} is less than {@code 0} or greater than or equal to {@code spectralFilm.getBandCount()}
+	 */
+	public float getSample(final int x, final int y, final int band) {
+		return doGetSample(doGetOffset(x, y) + Ints.requireRange(band, 0, this.bandCount - 1, "band"));
+	}
+	
+	/**
+	 * Returns the number of bands.
+	 * 
+	 * @return the number of bands
+	 */
+	public int getBandCount() {
+		return this.bandCount;
+	}
+	
+	/**
+	 * Returns the resolution along the X-axis.
+	 * 
+	 * @return the resolution along the X-axis
+	 */
+	public int getResolutionX() {
+		return this.resolutionX;
+	}
+	
+	/**
+	 * Returns the resolution along the Y-axis.
+	 * 
+	 * @return the resolution along the Y-axis
+	 */
+	public int getResolutionY() {
+		return this.resolutionY;
+	}
+	
+	/**
+	 * Clears all accumulated samples in this {@code SpectralFilm} instance.
+	 */
+	public void clear() {
+		Arrays.fill(this.sums, 0.0F);
+		Arrays.fill(this.weights, 0.0F);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private Image doToImage(final DataFactory dataFactory, final float[] bandWeights) {
+		final Image image = new Image(this.resolutionX, this.resolutionY, Objects.requireNonNull(dataFactory, "dataFactory == null"));
+		
+		final int bandCount = this.bandCount;
+		final int resolutionX = this.resolutionX;
+		
+		final double[] colors = new double[this.resolutionX * this.resolutionY * 4];
+		
+		IntStream.range(0, this.resolutionY).parallel().forEach(y -> {
+			for(int x = 0, index = y * resolutionX; x < resolutionX; x++, index++) {
+				final int offset = index * bandCount;
+				
+				float r = 0.0F;
+				float g = 0.0F;
+				float b = 0.0F;
+				
+				for(int band = 0; band < bandCount; band++) {
+					final float sample = doGetSample(offset + band);
+					
+					r += sample * bandWeights[band * 3 + 0];
+					g += sample * bandWeights[band * 3 + 1];
+					b += sample * bandWeights[band * 3 + 2];
+				}
+				
+				colors[index * 4 + 0] = r;
+				colors[index * 4 + 1] = g;
+				colors[index * 4 + 2] = b;
+				colors[index * 4 + 3] = 1.0D;
+			}
+		});
+		
+		image.getData().copyRegionFrom(colors, image.getBounds());
+		
+		return image;
+	}
+	
+	private boolean doAccumulate(final int offset, final float lambda, final float value) {
+		if(!(lambda >= this.lambdaMin && lambda <= this.lambdaMax)) {
+			return false;
+		}
+		
+		final float band = (lambda - this.lambdaMin) * this.bandScale;
+		
+		final int band0 = Ints.min((int)(band), this.bandCount - 1);
+		final int band1 = Ints.min(band0 + 1, this.bandCount - 1);
+		
+		final float weight1 = band - band0;
+		final float weight0 = 1.0F - weight1;
+		
+		this.sums[offset + band0] += weight0 * value;
+		this.sums[offset + band1] += weight1 * value;
+		
+		this.weights[offset + band0] += weight0;
+		this.weights[offset + band1] += weight1;
+		
+		return true;
+	}
+	
+	private float doGetSample(final int index) {
+		final float weight = this.weights[index];
+		
+		return weight > 0.0F ? this.sums[index] / weight : 0.0F;
+	}
+	
+	private int doGetOffset(final int x, final int y) {
+		Ints.requireRange(x, 0, this.resolutionX - 1, "x");
+		Ints.requireRange(y, 0, this.resolutionY - 1, "y");
+		
+		return (y * this.resolutionX + x) * this.bandCount;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doComputeBandWeights(final float[] weightsRGB, final float[] weightsXYZ, final float lambdaMin, final float lambdaMax, final int bandCount) {
+		final ColorSpaceF colorSpace = ColorSpaceF.getDefault();
+		
+		final float[] spectrum = new float[bandCount];
+		
+		for(int band = 0; band < bandCount; band++) {
+			spectrum[band] = 1.0F;
+			
+			final Color3F colorXYZ = new RegularSpectralCurveF(lambdaMin, lambdaMax, spectrum).toColorXYZ();
+			final Color3F colorRGB = colorSpace.convertXYZToRGB(colorXYZ);
+			
+			spectrum[band] = 0.0F;
+			
+			weightsXYZ[band * 3 + 0] = colorXYZ.r;
+			weightsXYZ[band * 3 + 1] = colorXYZ.g;
+			weightsXYZ[band * 3 + 2] = colorXYZ.b;
+			
+			weightsRGB[band * 3 + 0] = colorRGB.r;
+			weightsRGB[band * 3 + 1] = colorRGB.g;
+			weightsRGB[band * 3 + 2] = colorRGB.b;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,302 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.macroing.art4j.data.Data;
+import org.macroing.geo4j.common.Point2I;
+import org.macroing.geo4j.shape.rectangle.Rectangle2I;
+
+final class TemplateMatcher {
+	private static final int BAND_HEIGHT_MINIMUM = 32;
+	private static final long BASE_X = 0x100000001B3L;
+	private static final long BASE_Y = 0x9E3779B97F4A7C15L;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final int resolutionX;
+	private final int resolutionY;
+	private final int[] colors;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public TemplateMatcher(final Data data) {
+		this.resolutionX = data.getResolutionX();
+		this.resolutionY = data.getResolutionY();
+		this.colors = doToColors(data);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public List<List<Rectangle2I>> findBoundsFor(final List<Data> templates) {
+		final List<List<Rectangle2I>> boundsForTemplates = new ArrayList<>(templates.size());
+		
+		for(int i = 0; i < templates.size(); i++) {
+			boundsForTemplates.add(new ArrayList<>());
+		}
+		
+		final Map<Long, List<Integer>> templateIndicesForResolution = new LinkedHashMap<>();
+		
+		for(int i = 0; i < templates.size(); i++) {
+			final Data template = templates.get(i);
+			
+			final int templateResolutionX = template.getResolutionX();
+			final int templateResolutionY = template.getResolutionY();
+			
+			if(templateResolutionX <= this.resolutionX && templateResolutionY <= this.resolutionY) {
+				templateIndicesForResolution.computeIfAbsent(Long.valueOf(((long)(templateResolutionX) << 32) | templateResolutionY), key -> new ArrayList<>()).add(Integer.valueOf(i));
+			}
+		}
+		
+		for(final List<Integer> templateIndices : templateIndicesForResolution.values()) {
+			final Data firstTemplate = templates.get(templateIndices.get(0).intValue());
+			
+			final int[][] templateColors = new int[templateIndices.size()][];
+			
+			for(int i = 0; i < templateIndices.size(); i++) {
+				templateColors[i] = doToColors(templates.get(templateIndices.get(i).intValue()));
+			}
+			
+			final Group group = new Group(firstTemplate.getResolutionX(), firstTemplate.getResolutionY(), templateColors);
+			
+			final List<List<List<Rectangle2I>>> boundsForBands = doFindBoundsFor(group);
+			
+			for(int i = 0; i < templateIndices.size(); i++) {
+				final List<Rectangle2I> boundsForTemplate = new ArrayList<>();
+				
+				for(final List<List<Rectangle2I>> boundsForBand : boundsForBands) {
+					boundsForTemplate.addAll(boundsForBand.get(i));
+				}
+				
+				boundsForTemplates.set(templateIndices.get(i).intValue(), boundsForTemplate);
+			}
+		}
+		
+		return boundsForTemplates;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private List<List<List<Rectangle2I>>> doFindBoundsFor(final Group group) {
+		final int candidateResolutionY = this.resolutionY - group.resolutionY + 1;
+		
+		final int bandCount = Math.max(1, Math.min(candidateResolutionY / Math.max(BAND_HEIGHT_MINIMUM, group.resolutionY), Runtime.getRuntime().availableProcessors() * 4));
+		final int bandHeight = (candidateResolutionY + bandCount - 1) / bandCount;
+		
+		return IntStream.range(0, bandCount).parallel().mapToObj(band -> doFindBoundsFor(group, band * bandHeight, Math.min((band + 1) * bandHeight, candidateResolutionY))).collect(Collectors.toList());
+	}
+	
+	private List<List<Rectangle2I>> doFindBoundsFor(final Group group, final int minimumY, final int maximumY) {
+		final List<List<Rectangle2I>> boundsForTemplates = new ArrayList<>(group.templateCount);
+		
+		for(int i = 0; i < group.templateCount; i++) {
+			boundsForTemplates.add(new ArrayList<>());
+		}
+		
+		if(minimumY >= maximumY) {
+			return boundsForTemplates;
+		}
+		
+		final int resolutionX = this.resolutionX;
+		
+		final int templateResolutionX = group.resolutionX;
+		final int templateResolutionY = group.resolutionY;
+		
+		final int candidateResolutionX = resolutionX - templateResolutionX + 1;
+		
+		final long powerX = doPower(BASE_X, templateResolutionX - 1);
+		final long powerY = doPower(BASE_Y, templateResolutionY - 1);
+		
+		final long[][] rowHashes = new long[templateResolutionY][candidateResolutionX];
+		
+		final long[] columnHashes = new long[candidateResolutionX];
+		
+		for(int y = minimumY; y < minimumY + templateResolutionY; y++) {
+			final long[] rowHash = rowHashes[y % templateResolutionY];
+			
+			doComputeRowHash(rowHash, y, templateResolutionX, powerX);
+			
+			for(int x = 0; x < candidateResolutionX; x++) {
+				columnHashes[x] = columnHashes[x] * BASE_Y + rowHash[x];
+			}
+		}
+		
+		for(int y = minimumY; y < maximumY; y++) {
+			for(int x = 0; x < candidateResolutionX; x++) {
+				final long hash = columnHashes[x];
+				
+				for(int i = group.indexOf(hash); i >= 0 && i < group.templateCount && group.hashes[i] == hash; i++) {
+					final int templateIndex = group.templateIndices[i];
+					
+					if(doIsMatching(group.templateColors[templateIndex], templateResolutionX, templateResolutionY, x, y)) {
+						boundsForTemplates.get(templateIndex).add(new Rectangle2I(new Point2I(x, y), new Point2I(x + templateResolutionX - 1, y + templateResolutionY - 1)));
+					}
+				}
+			}
+			
+			if(y + 1 < maximumY) {
+				final long[] rowHash = rowHashes[y % templateResolutionY];
+				
+				for(int x = 0; x < candidateResolutionX; x++) {
+					columnHashes[x] -= rowHash[x] * powerY;
+				}
+				
+				doComputeRowHash(rowHash, y + templateResolutionY, templateResolutionX, powerX);
+				
+				for(int x = 0; x < candidateResolutionX; x++) {
+					columnHashes[x] = columnHashes[x] * BASE_Y + rowHash[x];
+				}
+			}
+		}
+		
+		return boundsForTemplates;
+	}
+	
+	private boolean doIsMatching(final int[] templateColors, final int templateResolutionX, final int templateResolutionY, final int x, final int y) {
+		for(int templateY = 0; templateY < templateResolutionY; templateY++) {
+			for(int templateX = 0, index = (y + templateY) * this.resolutionX + x, templateIndex = templateY * templateResolutionX; templateX < templateResolutionX; templateX++, index++, templateIndex++) {
+				if(this.colors[index] != templateColors[templateIndex]) {
+					return false;
+				}
+			}
+		}
+		
+		return true;
+	}
+	
+	private void doComputeRowHash(final long[] rowHash, final int y, final int templateResolutionX, final long powerX) {
+		final int[] colors = this.colors;
+		
+		final int offset = y * this.resolutionX;
+		
+		long hash = 0L;
+		
+		for(int x = 0; x < templateResolutionX; x++) {
+			hash = hash * BASE_X + colors[offset + x];
+		}
+		
+		rowHash[0] = hash;
+		
+		for(int x = 1; x < rowHash.length; x++) {
+			hash = (hash - colors[offset + x - 1] * powerX) * BASE_X + colors[offset + x + templateResolutionX - 1];
+			
+			rowHash[x] = hash;
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int[] doToColors(final Data data) {
+		final int[] colors = new int[data.getResolution()];
+		
+		for(int i = 0; i < colors.length; i++) {
+			colors[i] = data.getColorARGB(i);
+		}
+		
+		return colors;
+	}
+	
+	private static long doHash(final int[] colors, final int resolutionX, final int resolutionY) {
+		long hash = 0L;
+		
+		for(int y = 0; y < resolutionY; y++) {
+			long rowHash = 0L;
+			
+			for(int x = 0, index = y * resolutionX; x < resolutionX; x++, index++) {
+				rowHash = rowHash * BASE_X + colors[index];
+			}
+			
+			hash = hash * BASE_Y + rowHash;
+		}
+		
+		return hash;
+	}
+	
+	private static long doPower(final long base, final int exponent) {
+		long power = 1L;
+		
+		for(int i = 0; i < exponent; i++) {
+			power *= base;
+		}
+		
+		return power;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Group {
+		private final int resolutionX;
+		private final int resolutionY;
+		private final int templateCount;
+		private final int[] templateIndices;
+		private final int[][] templateColors;
+		private final long[] hashes;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Group(final int resolutionX, final int resolutionY, final int[][] templateColors) {
+			this.resolutionX = resolutionX;
+			this.resolutionY = resolutionY;
+			this.templateCount = templateColors.length;
+			this.templateIndices = new int[templateColors.length];
+			this.templateColors = templateColors;
+			this.hashes = new long[templateColors.length];
+			
+			final long[] hashes = new long[templateColors.length];
+			
+			final Integer[] templateIndices = new Integer[templateColors.length];
+			
+			for(int i = 0; i < templateColors.length; i++) {
+				hashes[i] = doHash(templateColors[i], resolutionX, resolutionY);
+				
+				templateIndices[i] = Integer.valueOf(i);
+			}
+			
+			Arrays.sort(templateIndices, (a, b) -> Long.compare(hashes[a.intValue()], hashes[b.intValue()]));
+			
+			for(int i = 0; i < templateIndices.length; i++) {
+				this.templateIndices[i] = templateIndices[i].intValue();
+				this.hashes[i] = hashes[templateIndices[i].intValue()];
+			}
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public int indexOf(final long hash) {
+			if(this.templateCount == 1) {
+				return this.hashes[0] == hash ? 0 : -1;
+			}
+			
+			int index = Arrays.binarySearch(this.hashes, hash);
+			
+			while(index > 0 && this.hashes[index - 1] == hash) {
+				index--;
+			}
+			
+			return index;
+		}
+	}
+}
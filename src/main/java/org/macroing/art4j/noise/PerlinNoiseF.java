@@ -18,16 +18,16 @@
  */
 package org.macroing.art4j.noise;
 
-import org.macroing.java.lang.Floats;
-
 /**
  * A class that consists exclusively of static methods that performs Perlin noise-based operations using the data type {@code float}.
+ * <p>
+ * The static methods in this class use the default permutation table. To use a permutation table computed from a seed, use {@link PerlinNoiseGeneratorF}.
  * 
  * @since 1.0.0
  * @author J&#246;rgen Lundgren
  */
 public final class PerlinNoiseF {
-	private static final int[] PERMUTATIONS_B = doCreatePermutationsB();
+	private static final PerlinNoiseGeneratorF DEFAULT = new PerlinNoiseGeneratorF();
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
@@ -51,19 +51,7 @@ public final class PerlinNoiseF {
 	 * @return a {@code float} with noise computed by a Perlin-based fractal algorithm using the coordinates X, Y and Z
 	 */
 	public static float fractalXYZ(final float x, final float y, final float z, final float amplitude, final float frequency, final float gain, final float lacunarity, final int octaves) {
-		float result = 0.0F;
-		
-		float currentAmplitude = amplitude;
-		float currentFrequency = frequency;
-		
-		for(int i = 0; i < octaves; i++) {
-			result += currentAmplitude * noiseXYZ(x * currentFrequency, y * currentFrequency, z * currentFrequency);
-			
-			currentAmplitude *= gain;
-			currentFrequency *= lacunarity;
-		}
-		
-		return result;
+		return DEFAULT.fractalXYZ(x, y, z, amplitude, frequency, gain, lacunarity, octaves);
 	}
 	
 	/**
@@ -80,26 +68,7 @@ public final class PerlinNoiseF {
 	 * @return a {@code float} with noise computed by a Perlin-based fractional Brownian motion (fBm) algorithm using the coordinates X, Y and Z
 	 */
 	public static float fractionalBrownianMotionXYZ(final float x, final float y, final float z, final float frequency, final float gain, final float minimum, final float maximum, final int octaves) {
-		float currentAmplitude = 1.0F;
-		float maximumAmplitude = 0.0F;
-		
-		float currentFrequency = frequency;
-		
-		float noise = 0.0F;
-		
-		for(int i = 0; i < octaves; i++) {
-			noise += noiseXYZ(x * currentFrequency, y * currentFrequency, z * currentFrequency) * currentAmplitude;
-			
-			maximumAmplitude += currentAmplitude;
-			currentAmplitude *= gain;
-			
-			currentFrequency *= 2.0F;
-		}
-		
-		noise /= maximumAmplitude;
-		noise = noise * (maximum - minimum) / 2.0F + (maximum + minimum) / 2.0F;
-		
-		return noise;
+		return DEFAULT.fractionalBrownianMotionXYZ(x, y, z, frequency, gain, minimum, maximum, octaves);
 	}
 	
 	/**
@@ -111,83 +80,79 @@ public final class PerlinNoiseF {
 	 * @return a {@code float} with noise computed by the Perlin algorithm using the coordinates X, Y and Z
 	 */
 	public static float noiseXYZ(final float x, final float y, final float z) {
-		if(!Float.isFinite(x) || !Float.isFinite(y) || !Float.isFinite(z)) {
-			return 0.0F;
-		}
-		
-		final float floorX = Floats.floor(x);
-		final float floorY = Floats.floor(y);
-		final float floorZ = Floats.floor(z);
-		
-		final int x0 = (int)(floorX) & 0xFF;
-		final int y0 = (int)(floorY) & 0xFF;
-		final int z0 = (int)(floorZ) & 0xFF;
-		
-		final float x1 = x - floorX;
-		final float y1 = y - floorY;
-		final float z1 = z - floorZ;
-		
-		final float u = x1 * x1 * x1 * (x1 * (x1 * 6.0F - 15.0F) + 10.0F);
-		final float v = y1 * y1 * y1 * (y1 * (y1 * 6.0F - 15.0F) + 10.0F);
-		final float w = z1 * z1 * z1 * (z1 * (z1 * 6.0F - 15.0F) + 10.0F);
-		
-		final int a0 = PERMUTATIONS_B[x0 + 0] + y0;
-		final int a1 = PERMUTATIONS_B[a0 + 0] + z0;
-		final int a2 = PERMUTATIONS_B[a0 + 1] + z0;
-		final int b0 = PERMUTATIONS_B[x0 + 1] + y0;
-		final int b1 = PERMUTATIONS_B[b0 + 0] + z0;
-		final int b2 = PERMUTATIONS_B[b0 + 1] + z0;
-		
-		final int hash0 = PERMUTATIONS_B[a1 + 0] & 15;
-		final int hash1 = PERMUTATIONS_B[b1 + 0] & 15;
-		final int hash2 = PERMUTATIONS_B[a2 + 0] & 15;
-		final int hash3 = PERMUTATIONS_B[b2 + 0] & 15;
-		final int hash4 = PERMUTATIONS_B[a1 + 1] & 15;
-		final int hash5 = PERMUTATIONS_B[b1 + 1] & 15;
-		final int hash6 = PERMUTATIONS_B[a2 + 1] & 15;
-		final int hash7 = PERMUTATIONS_B[b2 + 1] & 15;
-		
-		final float gradient0U = hash0 < 8 || hash0 == 12 || hash0 == 13 ? x1 : y1;
-		final float gradient0V = hash0 < 4 || hash0 == 12 || hash0 == 13 ? y1 : z1;
-		final float gradient0W = ((hash0 & 1) == 0 ? gradient0U : -gradient0U) + ((hash0 & 2) == 0 ? gradient0V : -gradient0V);
-		
-		final float gradient1U = hash1 < 8 || hash1 == 12 || hash1 == 13 ? x1 - 1.0F : y1;
-		final float gradient1V = hash1 < 4 || hash1 == 12 || hash1 == 13 ? y1        : z1;
-		final float gradient1W = ((hash1 & 1) == 0 ? gradient1U : -gradient1U) + ((hash1 & 2) == 0 ? gradient1V : -gradient1V);
-		
-		final float gradient2U = hash2 < 8 || hash2 == 12 || hash2 == 13 ? x1        : y1 - 1.0F;
-		final float gradient2V = hash2 < 4 || hash2 == 12 || hash2 == 13 ? y1 - 1.0F : z1;
-		final float gradient2W = ((hash2 & 1) == 0 ? gradient2U : -gradient2U) + ((hash2 & 2) == 0 ? gradient2V : -gradient2V);
-		
-		final float gradient3U = hash3 < 8 || hash3 == 12 || hash3 == 13 ? x1 - 1.0F : y1 - 1.0F;
-		final float gradient3V = hash3 < 4 || hash3 == 12 || hash3 == 13 ? y1 - 1.0F : z1;
-		final float gradient3W = ((hash3 & 1) == 0 ? gradient3U : -gradient3U) + ((hash3 & 2) == 0 ? gradient3V : -gradient3V);
-		
-		final float gradient4U = hash4 < 8 || hash4 == 12 || hash4 == 13 ? x1 : y1;
-		final float gradient4V = hash4 < 4 || hash4 == 12 || hash4 == 13 ? y1 : z1 - 1.0F;
-		final float gradient4W = ((hash4 & 1) == 0 ? gradient4U : -gradient4U) + ((hash4 & 2) == 0 ? gradient4V : -gradient4V);
-		
-		final float gradient5U = hash5 < 8 || hash5 == 12 || hash5 == 13 ? x1 - 1.0F : y1;
-		final float gradient5V = hash5 < 4 || hash5 == 12 || hash5 == 13 ? y1        : z1 - 1.0F;
-		final float gradient5W = ((hash5 & 1) == 0 ? gradient5U : -gradient5U) + ((hash5 & 2) == 0 ? gradient5V : -gradient5V);
-		
-		final float gradient6U = hash6 < 8 || hash6 == 12 || hash6 == 13 ? x1        : y1 - 1.0F;
-		final float gradient6V = hash6 < 4 || hash6 == 12 || hash6 == 13 ? y1 - 1.0F : z1 - 1.0F;
-		final float gradient6W = ((hash6 & 1) == 0 ? gradient6U : -gradient6U) + ((hash6 & 2) == 0 ? gradient6V : -gradient6V);
-		
-		final float gradient7U = hash7 < 8 || hash7 == 12 || hash7 == 13 ? x1 - 1.0F : y1 - 1.0F;
-		final float gradient7V = hash7 < 4 || hash7 == 12 || hash7 == 13 ? y1 - 1.0F : z1 - 1.0F;
-		final float gradient7W = ((hash7 & 1) == 0 ? gradient7U : -gradient7U) + ((hash7 & 2) == 0 ? gradient7V : -gradient7V);
-		
-		final float lerp0 = gradient0W + u * (gradient1W - gradient0W);
-		final float lerp1 = gradient2W + u * (gradient3W - gradient2W);
-		final float lerp2 = gradient4W + u * (gradient5W - gradient4W);
-		final float lerp3 = gradient6W + u * (gradient7W - gradient6W);
-		final float lerp4 = lerp0 + v * (lerp1 - lerp0);
-		final float lerp5 = lerp2 + v * (lerp3 - lerp2);
-		final float lerp6 = lerp4 + w * (lerp5 - lerp4);
-		
-		return Floats.saturate(lerp6, -1.0F, 1.0F);
+		return DEFAULT.noiseXYZ(x, y, z);
+	}
+	
+	/**
+	 * Returns a {@code float} with noise computed by a periodic Perlin-based fractal algorithm using the coordinates X, Y and Z.
+	 * <p>
+	 * If either {@code periodX}, {@code periodY} or {@code periodZ} are less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The noise of each octave is computed by {@link #periodicNoiseXYZ(float, float, float, int, int, int)} with the periods multiplied by the current frequency and rounded to the nearest integer. The result is therefore periodic with the periods {@code periodX}, {@code periodY} and {@code periodZ} as long as the periods multiplied by the frequency of each octave are integers, which is the case if {@code frequency} and {@code lacunarity} are integers.
+	 * 
+	 * @param x the X-coordinate
+	 * @param y the Y-coordinate
+	 * @param z the Z-coordinate
+	 * @param periodX the period along the X-axis
+	 * @param periodY the period along the Y-axis
+	 * @param periodZ the period along the Z-axis
+	 * @param amplitude the amplitude to start at
+	 * @param frequency the frequency to start at
+	 * @param gain the amplitude multiplier
+	 * @param lacunarity the frequency multiplier
+	 * @param octaves the number of iterations to perform
+	 * @return a {@code float} with noise computed by a periodic Perlin-based fractal algorithm using the coordinates X, Y and Z
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code periodX}, {@code periodY} or {@code periodZ} are less than {@code 1}
+	 */
+	public static float periodicFractalXYZ(final float x, final float y, final float z, final int periodX, final int periodY, final int periodZ, final float amplitude, final float frequency, final float gain, final float lacunarity, final int octaves) {
+		return DEFAULT.periodicFractalXYZ(x, y, z, periodX, periodY, periodZ, amplitude, frequency, gain, lacunarity, octaves);
+	}
+	
+	/**
+	 * Returns a {@code float} with noise computed by a periodic version of the Perlin algorithm using the coordinates X, Y and Z.
+	 * <p>
+	 * If either {@code periodX}, {@code periodY} or {@code periodZ} are less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The lattice of the Perlin algorithm wraps around, so the noise returned satisfies {@code periodicNoiseXYZ(x + periodX, y, z, periodX, periodY, periodZ) == periodicNoiseXYZ(x, y, z, periodX, periodY, periodZ)}, and likewise for the Y- and Z-axes. This makes it possible to generate seamless textures, at the same cost as {@link #noiseXYZ(float, float, float)}.
+	 * <p>
+	 * If all periods are {@code 256}, the noise returned is the same as the noise returned by {@code noiseXYZ(x, y, z)}.
+	 * 
+	 * @param x the X-coordinate
+	 * @param y the Y-coordinate
+	 * @param z the Z-coordinate
+	 * @param periodX the period along the X-axis
+	 * @param periodY the period along the Y-axis
+	 * @param periodZ the period along the Z-axis
+	 * @return a {@code float} with noise computed by a periodic version of the Perlin algorithm using the coordinates X, Y and Z
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code periodX}, {@code periodY} or {@code periodZ} are less than {@code 1}
+	 */
+	public static float periodicNoiseXYZ(final float x, final float y, final float z, final int periodX, final int periodY, final int periodZ) {
+		return DEFAULT.periodicNoiseXYZ(x, y, z, periodX, periodY, periodZ);
+	}
+	
+	/**
+	 * Returns a {@code float} with noise computed by a periodic Perlin-based turbulence algorithm using the coordinates X, Y and Z.
+	 * <p>
+	 * If either {@code periodX}, {@code periodY} or {@code periodZ} are less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The noise of each octave is computed by {@link #periodicNoiseXYZ(float, float, float, int, int, int)} with the periods multiplied by the current frequency and rounded to the nearest integer. The result is therefore periodic with the periods {@code periodX}, {@code periodY} and {@code periodZ} as long as the periods multiplied by the frequency of each octave are integers, which is the case if {@code frequency} and {@code lacunarity} are integers.
+	 * 
+	 * @param x the X-coordinate
+	 * @param y the Y-coordinate
+	 * @param z the Z-coordinate
+	 * @param periodX the period along the X-axis
+	 * @param periodY the period along the Y-axis
+	 * @param periodZ the period along the Z-axis
+	 * @param amplitude the amplitude to start at
+	 * @param frequency the frequency to start at
+	 * @param gain the amplitude multiplier
+	 * @param lacunarity the frequency multiplier
+	 * @param octaves the number of iterations to perform
+	 * @return a {@code float} with noise computed by a periodic Perlin-based turbulence algorithm using the coordinates X, Y and Z
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code periodX}, {@code periodY} or {@code periodZ} are less than {@code 1}
+	 */
+	public static float periodicTurbulenceXYZ(final float x, final float y, final float z, final int periodX, final int periodY, final int periodZ, final float amplitude, final float frequency, final float gain, final float lacunarity, final int octaves) {
+		return DEFAULT.periodicTurbulenceXYZ(x, y, z, periodX, periodY, periodZ, amplitude, frequency, gain, lacunarity, octaves);
 	}
 	
 	/**
@@ -204,19 +169,7 @@ public final class PerlinNoiseF {
 	 * @return a {@code float} with noise computed by a Perlin-based turbulence algorithm using the coordinates X, Y and Z
 	 */
 	public static float turbulenceXYZ(final float x, final float y, final float z, final float amplitude, final float frequency, final float gain, final float lacunarity, final int octaves) {
-		float currentAmplitude = amplitude;
-		float currentFrequency = frequency;
-		
-		float noise = 0.0F;
-		
-		for(int i = 0; i < octaves; i++) {
-			noise += currentAmplitude * Floats.abs(noiseXYZ(x * currentFrequency, y * currentFrequency, z * currentFrequency));
-			
-			currentAmplitude *= gain;
-			currentFrequency *= lacunarity;
-		}
-		
-		return noise;
+		return DEFAULT.turbulenceXYZ(x, y, z, amplitude, frequency, gain, lacunarity, octaves);
 	}
 	
 	/**
@@ -229,58 +182,197 @@ public final class PerlinNoiseF {
 	 * @return a {@code float} with noise computed by a Perlin-based turbulence algorithm using the coordinates X, Y and Z
 	 */
 	public static float turbulenceXYZ(final float x, final float y, final float z, final int octaves) {
-		float currentX = x;
-		float currentY = y;
-		float currentZ = z;
-		
-		float noise = Floats.abs(noiseXYZ(x, y, z));
-		
-		float weight = 1.0F;
-		
-		for(int i = 1; i < octaves; i++) {
-			weight *= 2.0F;
-			
-			currentX = x * weight;
-			currentY = y * weight;
-			currentZ = z * weight;
-			
-			noise += Floats.abs(noiseXYZ(currentX, currentY, currentZ)) / weight;
-		}
-		
-		return noise;
+		return DEFAULT.turbulenceXYZ(x, y, z, octaves);
 	}
 	
-	////////////////////////////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Fills {@code array} with noise computed by a Perlin-based fractal algorithm using the coordinates X, Y and Z.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * The element at index {@code y * resolutionX + x} in {@code array} is assigned the noise at the coordinates {@code originX + x * stepX}, {@code originY + y * stepY} and {@code z}, where {@code x} is in the range {@code [0, resolutionX)} and {@code y} is in the range {@code [0, resolutionY)}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code resolutionX * resolutionY} overflows or {@code array.length} is less than {@code resolutionX * resolutionY}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The result is the same as calling {@code fractalXYZ(originX + x * stepX, originY + y * stepY, z, amplitude, frequency, gain, lacunarity, octaves)} for each element, but the rows are computed in parallel and the per-octave work is hoisted out of the inner loop.
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @param resolutionX the resolution along the X-axis
+	 * @param resolutionY the resolution along the Y-axis
+	 * @param originX the X-coordinate of the pixel at index {@code 0}
+	 * @param originY the Y-coordinate of the pixel at index {@code 0}
+	 * @param z the Z-coordinate of all pixels
+	 * @param stepX the distance between two adjacent pixels along the X-axis
+	 * @param stepY the distance between two adjacent pixels along the Y-axis
+	 * @param amplitude the amplitude to start at
+	 * @param frequency the frequency to start at
+	 * @param gain the amplitude multiplier
+	 * @param lacunarity the frequency multiplier
+	 * @param octaves the number of iterations to perform
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code resolutionX * resolutionY} overflows or {@code array.length} is less than {@code resolutionX * resolutionY}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float[] fractalXYZ(final float[] array, final int resolutionX, final int resolutionY, final float originX, final float originY, final float z, final float stepX, final float stepY, final float amplitude, final float frequency, final float gain, final float lacunarity, final int octaves) {
+		return DEFAULT.fractalXYZ(array, resolutionX, resolutionY, originX, originY, z, stepX, stepY, amplitude, frequency, gain, lacunarity, octaves);
+	}
 	
-	private static int[] doCreatePermutationsA() {
-		return new int[] {
-			151, 160, 137,  91,  90,  15, 131,  13, 201,  95,  96,  53, 194, 233,   7, 225,
-			140,  36, 103,  30,  69, 142,   8,  99,  37, 240,  21,  10,  23, 190,   6, 148,
-			247, 120, 234,  75,   0,  26, 197,  62,  94, 252, 219, 203, 117,  35,  11,  32,
-			 57, 177,  33,  88, 237, 149,  56,  87, 174,  20, 125, 136, 171, 168,  68, 175,
-			 74, 165,  71, 134, 139,  48,  27, 166,  77, 146, 158, 231,  83, 111, 229, 122,
-			 60, 211, 133, 230, 220, 105,  92,  41,  55,  46, 245,  40, 244, 102, 143,  54,
-			 65,  25,  63, 161,   1, 216,  80,  73, 209,  76, 132, 187, 208,  89,  18, 169,
-			200, 196, 135, 130, 116, 188, 159,  86, 164, 100, 109, 198, 173, 186,   3,  64,
-			 52, 217, 226, 250, 124, 123,   5, 202,  38, 147, 118, 126, 255,  82,  85, 212,
-			207, 206,  59, 227,  47,  16,  58,  17, 182, 189,  28,  42,  23, 183, 170, 213,
-			119, 248, 152,   2,  44, 154, 163,  70, 221, 153, 101, 155, 167,  43, 172,   9,
-			129,  22,  39, 253,  19,  98, 108, 110,  79, 113, 224, 232, 178, 185, 112, 104,
-			218, 246,  97, 228, 251,  34, 242, 193, 238, 210, 144,  12, 191, 179, 162, 241,
-			 81,  51, 145, 235, 249,  14, 239, 107,  49, 192, 214,  31, 181, 199, 106, 157,
-			184,  84, 204, 176, 115, 121,  50,  45, 127,   4, 150, 254, 138, 236, 205,  93,
-			222, 114,  67,  29,  24,  72, 243, 141, 128, 195,  78,  66, 215,  61, 156, 180
-		};
+	/**
+	 * Fills {@code array} with noise computed by the Perlin algorithm using the coordinates X, Y and Z.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * The element at index {@code y * resolutionX + x} in {@code array} is assigned the noise at the coordinates {@code originX + x * stepX}, {@code originY + y * stepY} and {@code z}, where {@code x} is in the range {@code [0, resolutionX)} and {@code y} is in the range {@code [0, resolutionY)}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code resolutionX * resolutionY} overflows or {@code array.length} is less than {@code resolutionX * resolutionY}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The result is the same as calling {@code noiseXYZ(originX + x * stepX, originY + y * stepY, z)} for each element, but the rows are computed in parallel.
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @param resolutionX the resolution along the X-axis
+	 * @param resolutionY the resolution along the Y-axis
+	 * @param originX the X-coordinate of the pixel at index {@code 0}
+	 * @param originY the Y-coordinate of the pixel at index {@code 0}
+	 * @param z the Z-coordinate of all pixels
+	 * @param stepX the distance between two adjacent pixels along the X-axis
+	 * @param stepY the distance between two adjacent pixels along the Y-axis
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code resolutionX * resolutionY} overflows or {@code array.length} is less than {@code resolutionX * resolutionY}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float[] noiseXYZ(final float[] array, final int resolutionX, final int resolutionY, final float originX, final float originY, final float z, final float stepX, final float stepY) {
+		return DEFAULT.noiseXYZ(array, resolutionX, resolutionY, originX, originY, z, stepX, stepY);
 	}
 	
-	private static int[] doCreatePermutationsB() {
-		final int[] permutationsA = doCreatePermutationsA();
-		final int[] permutationsB = new int[permutationsA.length * 2];
-		
-		for(int i = 0; i < permutationsB.length; i++) {
-			permutationsB[i] = permutationsA[i % permutationsA.length];
-		}
-		
-		return permutationsB;
+	/**
+	 * Fills {@code array} with a seamless tile of noise computed by a periodic Perlin-based fractal algorithm using the coordinates X, Y and Z.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * The element at index {@code y * resolutionX + x} in {@code array} is assigned the noise at the coordinates {@code x * stepX}, {@code y * stepY} and {@code z}, where {@code stepX} is {@code (float)(periodX) / resolutionX}, {@code stepY} is {@code (float)(periodY) / resolutionY}, {@code x} is in the range {@code [0, resolutionX)} and {@code y} is in the range {@code [0, resolutionY)}. So {@code array} covers exactly one period along the X- and Y-axes and can be tiled without seams.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code resolutionX * resolutionY} overflows, {@code array.length} is less than {@code resolutionX * resolutionY} or either {@code periodX}, {@code periodY} or {@code periodZ} are less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The result is the same as calling {@code periodicFractalXYZ(x * stepX, y * stepY, z, periodX, periodY, periodZ, amplitude, frequency, gain, lacunarity, octaves)} for each element, but the rows are computed in parallel.
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @param resolutionX the resolution along the X-axis
+	 * @param resolutionY the resolution along the Y-axis
+	 * @param z the Z-coordinate of all pixels
+	 * @param periodX the period along the X-axis
+	 * @param periodY the period along the Y-axis
+	 * @param periodZ the period along the Z-axis
+	 * @param amplitude the amplitude to start at
+	 * @param frequency the frequency to start at
+	 * @param gain the amplitude multiplier
+	 * @param lacunarity the frequency multiplier
+	 * @param octaves the number of iterations to perform
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code resolutionX * resolutionY} overflows, {@code array.length} is less than {@code resolutionX * resolutionY} or either {@code periodX}, {@code periodY} or {@code periodZ} are less than {@code 1}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float[] periodicFractalXYZ(final float[] array, final int resolutionX, final int resolutionY, final float z, final int periodX, final int periodY, final int periodZ, final float amplitude, final float frequency, final float gain, final float lacunarity, final int octaves) {
+		return DEFAULT.periodicFractalXYZ(array, resolutionX, resolutionY, z, periodX, periodY, periodZ, amplitude, frequency, gain, lacunarity, octaves);
+	}
+	
+	/**
+	 * Fills {@code array} with a seamless tile of noise computed by a periodic version of the Perlin algorithm using the coordinates X, Y and Z.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * The element at index {@code y * resolutionX + x} in {@code array} is assigned the noise at the coordinates {@code x * stepX}, {@code y * stepY} and {@code z}, where {@code stepX} is {@code (float)(periodX) / resolutionX}, {@code stepY} is {@code (float)(periodY) / resolutionY}, {@code x} is in the range {@code [0, resolutionX)} and {@code y} is in the range {@code [0, resolutionY)}. So {@code array} covers exactly one period along the X- and Y-axes and can be tiled without seams.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code resolutionX * resolutionY} overflows, {@code array.length} is less than {@code resolutionX * resolutionY} or either {@code periodX}, {@code periodY} or {@code periodZ} are less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The result is the same as calling {@code periodicNoiseXYZ(x * stepX, y * stepY, z, periodX, periodY, periodZ)} for each element, but the rows are computed in parallel.
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @param resolutionX the resolution along the X-axis
+	 * @param resolutionY the resolution along the Y-axis
+	 * @param z the Z-coordinate of all pixels
+	 * @param periodX the period along the X-axis
+	 * @param periodY the period along the Y-axis
+	 * @param periodZ the period along the Z-axis
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code resolutionX * resolutionY} overflows, {@code array.length} is less than {@code resolutionX * resolutionY} or either {@code periodX}, {@code periodY} or {@code periodZ} are less than {@code 1}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float[] periodicNoiseXYZ(final float[] array, final int resolutionX, final int resolutionY, final float z, final int periodX, final int periodY, final int periodZ) {
+		return DEFAULT.periodicNoiseXYZ(array, resolutionX, resolutionY, z, periodX, periodY, periodZ);
+	}
+	
+	/**
+	 * Fills {@code array} with a seamless tile of noise computed by a periodic Perlin-based turbulence algorithm using the coordinates X, Y and Z.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * The element at index {@code y * resolutionX + x} in {@code array} is assigned the noise at the coordinates {@code x * stepX}, {@code y * stepY} and {@code z}, where {@code stepX} is {@code (float)(periodX) / resolutionX}, {@code stepY} is {@code (float)(periodY) / resolutionY}, {@code x} is in the range {@code [0, resolutionX)} and {@code y} is in the range {@code [0, resolutionY)}. So {@code array} covers exactly one period along the X- and Y-axes and can be tiled without seams.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code resolutionX * resolutionY} overflows, {@code array.length} is less than {@code resolutionX * resolutionY} or either {@code periodX}, {@code periodY} or {@code periodZ} are less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The result is the same as calling {@code periodicTurbulenceXYZ(x * stepX, y * stepY, z, periodX, periodY, periodZ, amplitude, frequency, gain, lacunarity, octaves)} for each element, but the rows are computed in parallel.
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @param resolutionX the resolution along the X-axis
+	 * @param resolutionY the resolution along the Y-axis
+	 * @param z the Z-coordinate of all pixels
+	 * @param periodX the period along the X-axis
+	 * @param periodY the period along the Y-axis
+	 * @param periodZ the period along the Z-axis
+	 * @param amplitude the amplitude to start at
+	 * @param frequency the frequency to start at
+	 * @param gain the amplitude multiplier
+	 * @param lacunarity the frequency multiplier
+	 * @param octaves the number of iterations to perform
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code resolutionX * resolutionY} overflows, {@code array.length} is less than {@code resolutionX * resolutionY} or either {@code periodX}, {@code periodY} or {@code periodZ} are less than {@code 1}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float[] periodicTurbulenceXYZ(final float[] array, final int resolutionX, final int resolutionY, final float z, final int periodX, final int periodY, final int periodZ, final float amplitude, final float frequency, final float gain, final float lacunarity, final int octaves) {
+		return DEFAULT.periodicTurbulenceXYZ(array, resolutionX, resolutionY, z, periodX, periodY, periodZ, amplitude, frequency, gain, lacunarity, octaves);
+	}
+	
+	/**
+	 * Fills {@code array} with noise computed by a Perlin-based turbulence algorithm using the coordinates X, Y and Z.
+	 * <p>
+	 * Returns {@code array}.
+	 * <p>
+	 * The element at index {@code y * resolutionX + x} in {@code array} is assigned the noise at the coordinates {@code originX + x * stepX}, {@code originY + y * stepY} and {@code z}, where {@code x} is in the range {@code [0, resolutionX)} and {@code y} is in the range {@code [0, resolutionY)}.
+	 * <p>
+	 * If {@code array} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code resolutionX * resolutionY} overflows or {@code array.length} is less than {@code resolutionX * resolutionY}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The result is the same as calling {@code turbulenceXYZ(originX + x * stepX, originY + y * stepY, z, amplitude, frequency, gain, lacunarity, octaves)} for each element, but the rows are computed in parallel and the per-octave work is hoisted out of the inner loop.
+	 * 
+	 * @param array the {@code float[]} to fill
+	 * @param resolutionX the resolution along the X-axis
+	 * @param resolutionY the resolution along the Y-axis
+	 * @param originX the X-coordinate of the pixel at index {@code 0}
+	 * @param originY the Y-coordinate of the pixel at index {@code 0}
+	 * @param z the Z-coordinate of all pixels
+	 * @param stepX the distance between two adjacent pixels along the X-axis
+	 * @param stepY the distance between two adjacent pixels along the Y-axis
+	 * @param amplitude the amplitude to start at
+	 * @param frequency the frequency to start at
+	 * @param gain the amplitude multiplier
+	 * @param lacunarity the frequency multiplier
+	 * @param octaves the number of iterations to perform
+	 * @return {@code array}
+	 * @throws IllegalArgumentException thrown if, and only if, either {@code resolutionX} or {@code resolutionY} are less than {@code 1}, {@code resolutionX * resolutionY} overflows or {@code array.length} is less than {@code resolutionX * resolutionY}
+	 * @throws NullPointerException thrown if, and only if, {@code array} is {@code null}
+	 */
+	public static float[] turbulenceXYZ(final float[] array, final int resolutionX, final int resolutionY, final float originX, final float originY, final float z, final float stepX, final float stepY, final float amplitude, final float frequency, final float gain, final float lacunarity, final int octaves) {
+		return DEFAULT.turbulenceXYZ(array, resolutionX, resolutionY, originX, originY, z, stepX, stepY, amplitude, frequency, gain, lacunarity, octaves);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,289 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.pixel;
+
+import java.util.Objects;
+
+import org.macroing.art4j.color.Color4D;
+import org.macroing.art4j.color.Color4F;
+
+/**
+ * A {@code CompositeOperator} composites a source color with a target color.
+ * <p>
+ * All colors used by this class are assumed to have premultiplied alpha. This allows the composite operations to be performed without any divisions.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public enum CompositeOperator {
+	/**
+	 * A {@code CompositeOperator} instance that adds the source color to the target color and saturates the result.
+	 */
+	ADD {
+		@Override
+		double doApply(final double source, final double target, final double sourceA, final double targetA) {
+			return Math.min(source + target, 1.0D);
+		}
+		
+		@Override
+		float doApply(final float source, final float target, final float sourceA, final float targetA) {
+			return Math.min(source + target, 1.0F);
+		}
+		
+		@Override
+		int doApply(final int source, final int target, final int sourceA, final int targetA) {
+			return Math.min(source + target, 0xFF);
+		}
+	},
+	
+	/**
+	 * A {@code CompositeOperator} instance that keeps the source color where it overlaps the target color and the target color elsewhere.
+	 */
+	ATOP {
+		@Override
+		double doApply(final double source, final double target, final double sourceA, final double targetA) {
+			return source * targetA + target * (1.0D - sourceA);
+		}
+		
+		@Override
+		float doApply(final float source, final float target, final float sourceA, final float targetA) {
+			return source * targetA + target * (1.0F - sourceA);
+		}
+		
+		@Override
+		int doApply(final int source, final int target, final int sourceA, final int targetA) {
+			return Math.min(doDivideBy255(source * targetA + target * (0xFF - sourceA)), 0xFF);
+		}
+	},
+	
+	/**
+	 * A {@code CompositeOperator} instance that keeps the source color where it overlaps the target color.
+	 */
+	IN {
+		@Override
+		double doApply(final double source, final double target, final double sourceA, final double targetA) {
+			return source * targetA;
+		}
+		
+		@Override
+		float doApply(final float source, final float target, final float sourceA, final float targetA) {
+			return source * targetA;
+		}
+		
+		@Override
+		int doApply(final int source, final int target, final int sourceA, final int targetA) {
+			return doDivideBy255(source * targetA);
+		}
+	},
+	
+	/**
+	 * A {@code CompositeOperator} instance that multiplies the source color with the target color.
+	 */
+	MULTIPLY {
+		@Override
+		double doApply(final double source, final double target, final double sourceA, final double targetA) {
+			return source * target + source * (1.0D - targetA) + target * (1.0D - sourceA);
+		}
+		
+		@Override
+		float doApply(final float source, final float target, final float sourceA, final float targetA) {
+			return source * target + source * (1.0F - targetA) + target * (1.0F - sourceA);
+		}
+		
+		@Override
+		int doApply(final int source, final int target, final int sourceA, final int targetA) {
+			return Math.min(doDivideBy255(source * target + source * (0xFF - targetA) + target * (0xFF - sourceA)), 0xFF);
+		}
+	},
+	
+	/**
+	 * A {@code CompositeOperator} instance that keeps the source color where it does not overlap the target color.
+	 */
+	OUT {
+		@Override
+		double doApply(final double source, final double target, final double sourceA, final double targetA) {
+			return source * (1.0D - targetA);
+		}
+		
+		@Override
+		float doApply(final float source, final float target, final float sourceA, final float targetA) {
+			return source * (1.0F - targetA);
+		}
+		
+		@Override
+		int doApply(final int source, final int target, final int sourceA, final int targetA) {
+			return doDivideBy255(source * (0xFF - targetA));
+		}
+	},
+	
+	/**
+	 * A {@code CompositeOperator} instance that places the source color over the target color.
+	 */
+	OVER {
+		@Override
+		double doApply(final double source, final double target, final double sourceA, final double targetA) {
+			return source + target * (1.0D - sourceA);
+		}
+		
+		@Override
+		float doApply(final float source, final float target, final float sourceA, final float targetA) {
+			return source + target * (1.0F - sourceA);
+		}
+		
+		@Override
+		int doApply(final int source, final int target, final int sourceA, final int targetA) {
+			return Math.min(source + doDivideBy255(target * (0xFF - sourceA)), 0xFF);
+		}
+	},
+	
+	/**
+	 * A {@code CompositeOperator} instance that screens the source color with the target color.
+	 */
+	SCREEN {
+		@Override
+		double doApply(final double source, final double target, final double sourceA, final double targetA) {
+			return source + target - source * target;
+		}
+		
+		@Override
+		float doApply(final float source, final float target, final float sourceA, final float targetA) {
+			return source + target - source * target;
+		}
+		
+		@Override
+		int doApply(final int source, final int target, final int sourceA, final int targetA) {
+			return source + target - doDivideBy255(source * target);
+		}
+	},
+	
+	/**
+	 * A {@code CompositeOperator} instance that keeps the source color and the target color where they do not overlap.
+	 */
+	XOR {
+		@Override
+		double doApply(final double source, final double target, final double sourceA, final double targetA) {
+			return source * (1.0D - targetA) + target * (1.0D - sourceA);
+		}
+		
+		@Override
+		float doApply(final float source, final float target, final float sourceA, final float targetA) {
+			return source * (1.0F - targetA) + target * (1.0F - sourceA);
+		}
+		
+		@Override
+		int doApply(final int source, final int target, final int sourceA, final int targetA) {
+			return Math.min(doDivideBy255(source * (0xFF - targetA) + target * (0xFF - sourceA)), 0xFF);
+		}
+	};
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private CompositeOperator() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Composites {@code colorSource} with {@code colorTarget}.
+	 * <p>
+	 * Returns a new {@link Color4D} instance with the result of the composite operation.
+	 * <p>
+	 * If either {@code colorSource} or {@code colorTarget} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param colorSource a {@code Color4D} instance with premultiplied alpha that represents the source color
+	 * @param colorTarget a {@code Color4D} instance with premultiplied alpha that represents the target color
+	 * @return a new {@code Color4D} instance with the result of the composite operation
+	 * @throws NullPointerException thrown if, and only if, either {@code colorSource} or {@code colorTarget} are {@code null}
+	 */
+	public Color4D apply(final Color4D colorSource, final Color4D colorTarget) {
+		Objects.requireNonNull(colorSource, "colorSource == null");
+		Objects.requireNonNull(colorTarget, "colorTarget == null");
+		
+		final double r = doApply(colorSource.r, colorTarget.r, colorSource.a, colorTarget.a);
+		final double g = doApply(colorSource.g, colorTarget.g, colorSource.a, colorTarget.a);
+		final double b = doApply(colorSource.b, colorTarget.b, colorSource.a, colorTarget.a);
+		final double a = doApply(colorSource.a, colorTarget.a, colorSource.a, colorTarget.a);
+		
+		return new Color4D(r, g, b, a);
+	}
+	
+	/**
+	 * Composites {@code colorSource} with {@code colorTarget}.
+	 * <p>
+	 * Returns a new {@link Color4F} instance with the result of the composite operation.
+	 * <p>
+	 * If either {@code colorSource} or {@code colorTarget} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param colorSource a {@code Color4F} instance with premultiplied alpha that represents the source color
+	 * @param colorTarget a {@code Color4F} instance with premultiplied alpha that represents the target color
+	 * @return a new {@code Color4F} instance with the result of the composite operation
+	 * @throws NullPointerException thrown if, and only if, either {@code colorSource} or {@code colorTarget} are {@code null}
+	 */
+	public Color4F apply(final Color4F colorSource, final Color4F colorTarget) {
+		Objects.requireNonNull(colorSource, "colorSource == null");
+		Objects.requireNonNull(colorTarget, "colorTarget == null");
+		
+		final float r = doApply(colorSource.r, colorTarget.r, colorSource.a, colorTarget.a);
+		final float g = doApply(colorSource.g, colorTarget.g, colorSource.a, colorTarget.a);
+		final float b = doApply(colorSource.b, colorTarget.b, colorSource.a, colorTarget.a);
+		final float a = doApply(colorSource.a, colorTarget.a, colorSource.a, colorTarget.a);
+		
+		return new Color4F(r, g, b, a);
+	}
+	
+	/**
+	 * Composites {@code colorARGBSource} with {@code colorARGBTarget}.
+	 * <p>
+	 * Returns an {@code int} with the result of the composite operation in packed form.
+	 * <p>
+	 * This method uses integer arithmetic only.
+	 * 
+	 * @param colorARGBSource an {@code int} with premultiplied alpha that represents the source color in packed form
+	 * @param colorARGBTarget an {@code int} with premultiplied alpha that represents the target color in packed form
+	 * @return an {@code int} with the result of the composite operation in packed form
+	 */
+	public int applyARGB(final int colorARGBSource, final int colorARGBTarget) {
+		final int sourceA = colorARGBSource >>> 24;
+		final int targetA = colorARGBTarget >>> 24;
+		
+		final int a = doApply(sourceA,                        targetA,                        sourceA, targetA);
+		final int r = doApply(colorARGBSource >>> 16 & 0xFF, colorARGBTarget >>> 16 & 0xFF, sourceA, targetA);
+		final int g = doApply(colorARGBSource >>>  8 & 0xFF, colorARGBTarget >>>  8 & 0xFF, sourceA, targetA);
+		final int b = doApply(colorARGBSource        & 0xFF, colorARGBTarget        & 0xFF, sourceA, targetA);
+		
+		return a << 24 | r << 16 | g << 8 | b;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	abstract double doApply(final double source, final double target, final double sourceA, final double targetA);
+	
+	abstract float doApply(final float source, final float target, final float sourceA, final float targetA);
+	
+	abstract int doApply(final int source, final int target, final int sourceA, final int targetA);
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doDivideBy255(final int value) {
+		final int valueRounded = value + 128;
+		
+		return (valueRounded + (valueRounded >>> 8)) >>> 8;
+	}
+}
\ No newline at end of file
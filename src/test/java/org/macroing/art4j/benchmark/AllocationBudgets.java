@@ -0,0 +1,71 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * The allocation budgets, in bytes per unit, for the benchmarks in ImageBenchmarks. A unit is a pixel, except for the sampleColorXYZ benchmarks, where it is a single sample.
+ * 
+ * The key is either a benchmark name, which applies to all DataFactory instances, or a benchmark name followed by a period and a DataFactory name, which takes precedence. The budgets are based on measurements at resolutions from 64 to 256 with some headroom. Operations that are allocation-free have a budget of 0.5 bytes per pixel, which leaves room for a few objects per operation but not one per pixel.
+ * 
+ * When an operation is made to allocate less, lower its budget here so that it cannot regress.
+ */
+public final class AllocationBudgets {
+	private AllocationBudgets() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static Map<String, Double> getBudgets() {
+		final Map<String, Double> budgets = new LinkedHashMap<>();
+		
+		budgets.put("colorSpaceConversionD", Double.valueOf(80.0D));
+		budgets.put("colorSpaceConversionF", Double.valueOf(50.0D));
+		budgets.put("convolveD", Double.valueOf(110.0D));
+		budgets.put("convolveF", Double.valueOf(70.0D));
+		budgets.put("convolveF.Color4D", Double.valueOf(110.0D));
+		budgets.put("draw", Double.valueOf(16.0D));
+		budgets.put("draw.PackedIntARGB", Double.valueOf(0.5D));
+		budgets.put("fillD", Double.valueOf(100.0D));
+		budgets.put("fillD.Color4D", Double.valueOf(0.5D));
+		budgets.put("fillF", Double.valueOf(100.0D));
+		budgets.put("fillF.Color4F", Double.valueOf(0.5D));
+		budgets.put("fillRegionD", Double.valueOf(330.0D));
+		budgets.put("fillRegionD.Color4D", Double.valueOf(12.0D));
+		budgets.put("fillRegionF", Double.valueOf(290.0D));
+		budgets.put("fillRegionF.Color4F", Double.valueOf(12.0D));
+		budgets.put("fillSobelD", Double.valueOf(220.0D));
+		budgets.put("flip", Double.valueOf(0.5D));
+		budgets.put("flipX", Double.valueOf(0.5D));
+		budgets.put("flipY", Double.valueOf(0.5D));
+		budgets.put("noiseD", Double.valueOf(110.0D));
+		budgets.put("noiseF", Double.valueOf(70.0D));
+		budgets.put("noiseF.Color4D", Double.valueOf(110.0D));
+		budgets.put("rotateD", Double.valueOf(10.0D));
+		budgets.put("rotateF", Double.valueOf(10.0D));
+		budgets.put("sampleColorXYZD", Double.valueOf(2500.0D));
+		budgets.put("sampleColorXYZF", Double.valueOf(1300.0D));
+		budgets.put("scale", Double.valueOf(1.5D));
+		
+		return budgets;
+	}
+}
\ No newline at end of file
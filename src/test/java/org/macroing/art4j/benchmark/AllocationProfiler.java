@@ -0,0 +1,124 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/*
+ * Measures the number of bytes allocated on the heap by all threads, using the HotSpot-specific com.sun.management.ThreadMXBean.
+ * 
+ * The allocations of all live threads are summed, so allocations made by parallel streams in the common ForkJoinPool are included. Allocations made by threads that terminate during a measurement are not included.
+ */
+public final class AllocationProfiler {
+	private static final com.sun.management.ThreadMXBean THREAD_M_X_BEAN = doCreateThreadMXBean();
+	private static volatile Object sink;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private AllocationProfiler() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static boolean isSupported() {
+		return THREAD_M_X_BEAN != null;
+	}
+	
+	public static double measureBytesPerOperation(final Workload workload, final int warmUpOperations, final int operations) {
+		if(!isSupported()) {
+			throw new UnsupportedOperationException("Measuring allocated bytes is not supported by this JVM.");
+		}
+		
+		for(int i = 0; i < warmUpOperations; i++) {
+			workload.reset();
+			
+			sink = workload.run();
+		}
+		
+		final long overhead = doGetOverhead();
+		
+		long allocatedBytes = 0L;
+		
+		for(int i = 0; i < operations; i++) {
+			workload.reset();
+			
+			final long allocatedBytesBefore = getAllocatedBytes();
+			
+			sink = workload.run();
+			
+			final long allocatedBytesAfter = getAllocatedBytes();
+			
+			allocatedBytes += Math.max(allocatedBytesAfter - allocatedBytesBefore - overhead, 0L);
+		}
+		
+		return (double)(allocatedBytes) / operations;
+	}
+	
+	public static long getAllocatedBytes() {
+		final long[] allocatedBytes = THREAD_M_X_BEAN.getThreadAllocatedBytes(THREAD_M_X_BEAN.getAllThreadIds());
+		
+		long sum = 0L;
+		
+		for(final long allocatedBytesForThread : allocatedBytes) {
+			if(allocatedBytesForThread > 0L) {
+				sum += allocatedBytesForThread;
+			}
+		}
+		
+		return sum;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static com.sun.management.ThreadMXBean doCreateThreadMXBean() {
+		try {
+			final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			
+			if(threadMXBean instanceof com.sun.management.ThreadMXBean) {
+				final com.sun.management.ThreadMXBean threadMXBeanHotSpot = com.sun.management.ThreadMXBean.class.cast(threadMXBean);
+				
+				if(threadMXBeanHotSpot.isThreadAllocatedMemorySupported()) {
+					threadMXBeanHotSpot.setThreadAllocatedMemoryEnabled(true);
+					
+					return threadMXBeanHotSpot;
+				}
+			}
+			
+			return null;
+		} catch(final LinkageError | UnsupportedOperationException e) {
+			return null;
+		}
+	}
+	
+//	The bytes allocated by getAllocatedBytes() itself, which are subtracted from each measurement.
+	private static long doGetOverhead() {
+		long overhead = Long.MAX_VALUE;
+		
+		for(int i = 0; i < 3; i++) {
+			final long allocatedBytesBefore = getAllocatedBytes();
+			final long allocatedBytesAfter = getAllocatedBytes();
+			
+			overhead = Math.min(overhead, allocatedBytesAfter - allocatedBytesBefore);
+		}
+		
+		return Math.max(overhead, 0L);
+	}
+}
\ No newline at end of file
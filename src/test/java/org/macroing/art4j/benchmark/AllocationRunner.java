@@ -0,0 +1,162 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.macroing.art4j.benchmark.ImageBenchmarks.WorkloadFactory;
+import org.macroing.art4j.data.DataFactory;
+
+/*
+ * Usage: AllocationRunner [options] [regex...]
+ * 
+ * -i <int>         The number of measured operations per benchmark. The default is 10.
+ * -wi <int>        The minimum number of warm-up operations per benchmark. The default is 5.
+ * -wu <long>       The minimum number of units of work to warm up with per benchmark. The default is 327680, or 5 operations at a resolution of 256.
+ * -p <int,...>     The resolutions to measure. The default is 256.
+ * -d <name,...>    The DataFactory names to measure, any of Color4D, Color4F and PackedIntARGB. The default is all of them.
+ * -b <key=double>  Overrides the budget for a key, in bytes per unit. The key is either a benchmark name or a benchmark name followed by a period and a DataFactory name. May be repeated.
+ * 
+ * Each regex is matched against the benchmark names. A benchmark is measured if any regex is found in its name, or if no regex is given.
+ * 
+ * The bytes allocated per operation are divided by the number of units of work and compared to the budget. A unit is a pixel, unless the workload performs a fixed number of operations that does not depend on the resolution, such as the sampleColorXYZ benchmarks. In that case a unit is one such operation, so the result does not depend on -p. For the same reason, each benchmark is warmed up with at least -wu units of work, so that a small resolution is not measured before the JIT compiler has optimized it. If any benchmark exceeds its budget, the exit code is 1.
+ */
+public final class AllocationRunner {
+	private AllocationRunner() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static void main(final String[] args) {
+		if(!AllocationProfiler.isSupported()) {
+			System.err.println("Measuring allocated bytes is not supported by this JVM.");
+			
+			System.exit(2);
+		}
+		
+		final Map<String, Double> budgets = AllocationBudgets.getBudgets();
+		final Map<String, DataFactory> dataFactories = new LinkedHashMap<>();
+		final Map<String, WorkloadFactory> workloadFactories = ImageBenchmarks.getWorkloadFactories();
+		
+		dataFactories.put("Color4D", DataFactory.forColor4D());
+		dataFactories.put("Color4F", DataFactory.forColor4F());
+		dataFactories.put("PackedIntARGB", DataFactory.forPackedIntARGB());
+		
+		final List<Pattern> patterns = new ArrayList<>();
+		
+		List<String> dataFactoryNames = new ArrayList<>(dataFactories.keySet());
+		
+		int operations = 10;
+		int warmUpOperations = 5;
+		
+		long warmUpUnits = 5L * 256L * 256L;
+		
+		int[] resolutions = {256};
+		
+		for(int i = 0; i < args.length; i++) {
+			switch(args[i]) {
+				case "-b":
+					final String[] budget = args[++i].split("=", 2);
+					
+					budgets.put(budget[0], Double.valueOf(budget[1]));
+					
+					break;
+				case "-d":
+					dataFactoryNames = Arrays.asList(args[++i].split(","));
+					
+					break;
+				case "-i":
+					operations = Integer.parseInt(args[++i]);
+					
+					break;
+				case "-p":
+					resolutions = Arrays.stream(args[++i].split(",")).mapToInt(Integer::parseInt).toArray();
+					
+					break;
+				case "-wi":
+					warmUpOperations = Integer.parseInt(args[++i]);
+					
+					break;
+				case "-wu":
+					warmUpUnits = Long.parseLong(args[++i]);
+					
+					break;
+				default:
+					if(!args[i].isEmpty()) {
+						patterns.add(Pattern.compile(args[i]));
+					}
+					
+					break;
+			}
+		}
+		
+		System.out.println(String.format("%-28s %-14s %6s %16s %12s %12s  %s", "Benchmark", "DataFactory", "Res", "Alloc (B/op)", "B/unit", "Budget", "Status"));
+		
+		int failures = 0;
+		
+		for(final Map.Entry<String, WorkloadFactory> entry : workloadFactories.entrySet()) {
+			final String benchmarkName = entry.getKey();
+			
+			if(!patterns.isEmpty() && patterns.stream().noneMatch(pattern -> pattern.matcher(benchmarkName).find())) {
+				continue;
+			}
+			
+			for(final String dataFactoryName : dataFactoryNames) {
+				final DataFactory dataFactory = dataFactories.get(dataFactoryName);
+				
+				if(dataFactory == null) {
+					throw new IllegalArgumentException("Unknown DataFactory: " + dataFactoryName);
+				}
+				
+				for(final int resolution : resolutions) {
+					final Workload workload = entry.getValue().create(dataFactory, resolution);
+					
+					final long unitCount = workload.getUnitCount(resolution);
+					
+					final int warmUpOperationsForWorkload = (int)(Math.max(warmUpOperations, Math.min((warmUpUnits + unitCount - 1L) / unitCount, Integer.MAX_VALUE)));
+					
+					final double bytesPerOperation = AllocationProfiler.measureBytesPerOperation(workload, warmUpOperationsForWorkload, operations);
+					final double bytesPerUnit = bytesPerOperation / unitCount;
+					
+					final Double budget = budgets.containsKey(benchmarkName + "." + dataFactoryName) ? budgets.get(benchmarkName + "." + dataFactoryName) : budgets.get(benchmarkName);
+					
+					final boolean isExceedingBudget = budget != null && bytesPerUnit > budget.doubleValue();
+					
+					if(isExceedingBudget) {
+						failures++;
+					}
+					
+					System.out.println(String.format("%-28s %-14s %6d %16.1f %12.3f %12s  %s", benchmarkName, dataFactoryName, Integer.valueOf(resolution), Double.valueOf(bytesPerOperation), Double.valueOf(bytesPerUnit), budget != null ? String.format("%.3f", budget) : "-", budget == null ? "-" : isExceedingBudget ? "FAIL" : "OK"));
+				}
+			}
+		}
+		
+		if(failures > 0) {
+			System.out.println(failures + " benchmark(s) exceeded their allocation budget.");
+			
+			System.exit(1);
+		}
+	}
+}
\ No newline at end of file
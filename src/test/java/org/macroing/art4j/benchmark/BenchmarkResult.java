@@ -0,0 +1,130 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.benchmark;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class BenchmarkResult {
+	private static final double[] T_VALUES = {636.619D, 31.599D, 12.924D, 8.610D, 6.869D, 5.959D, 5.408D, 5.041D, 4.781D, 4.587D, 4.437D, 4.318D, 4.221D, 4.140D, 4.073D, 4.015D, 3.965D, 3.922D, 3.883D, 3.850D, 3.819D, 3.792D, 3.768D, 3.745D, 3.725D, 3.707D, 3.690D, 3.674D, 3.659D, 3.646D};
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final String benchmarkName;
+	private final String dataFactoryName;
+	private final double[] samples;
+	private final int resolution;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public BenchmarkResult(final String benchmarkName, final String dataFactoryName, final int resolution, final double[] samples) {
+		this.benchmarkName = Objects.requireNonNull(benchmarkName, "benchmarkName == null");
+		this.dataFactoryName = Objects.requireNonNull(dataFactoryName, "dataFactoryName == null");
+		this.resolution = resolution;
+		this.samples = samples.clone();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public String getBenchmarkName() {
+		return this.benchmarkName;
+	}
+	
+	public String getDataFactoryName() {
+		return this.dataFactoryName;
+	}
+	
+	public String toCSV() {
+		return String.format("\"%s\",\"%s\",%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f", this.benchmarkName, this.dataFactoryName, Integer.valueOf(this.resolution), Integer.valueOf(this.samples.length), Double.valueOf(getMean()), Double.valueOf(getError()), Double.valueOf(getStandardDeviation()), Double.valueOf(getMinimum()), Double.valueOf(getMaximum()));
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("%-28s %-14s %6d %5d %14.3f +- %12.3f %14.3f %14.3f", this.benchmarkName, this.dataFactoryName, Integer.valueOf(this.resolution), Integer.valueOf(this.samples.length), Double.valueOf(getMean()), Double.valueOf(getError()), Double.valueOf(getMinimum()), Double.valueOf(getMaximum()));
+	}
+	
+	public double getError() {
+		final int n = this.samples.length;
+		
+		return n > 1 ? doGetTValue(n - 1) * getStandardDeviation() / Math.sqrt(n) : Double.NaN;
+	}
+	
+	public double getMaximum() {
+		return Arrays.stream(this.samples).max().orElse(Double.NaN);
+	}
+	
+	public double getMean() {
+		return Arrays.stream(this.samples).average().orElse(Double.NaN);
+	}
+	
+	public double getMinimum() {
+		return Arrays.stream(this.samples).min().orElse(Double.NaN);
+	}
+	
+	public double getStandardDeviation() {
+		final int n = this.samples.length;
+		
+		if(n < 2) {
+			return Double.NaN;
+		}
+		
+		final double mean = getMean();
+		
+		double sum = 0.0D;
+		
+		for(final double sample : this.samples) {
+			sum += (sample - mean) * (sample - mean);
+		}
+		
+		return Math.sqrt(sum / (n - 1));
+	}
+	
+	public double[] getSamples() {
+		return this.samples.clone();
+	}
+	
+	public int getResolution() {
+		return this.resolution;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static String getCSVHeader() {
+		return "\"Benchmark\",\"DataFactory\",\"Resolution\",\"Cnt\",\"Score (us/op)\",\"Error (99.9%)\",\"StdDev\",\"Min\",\"Max\"";
+	}
+	
+	public static String getHeader() {
+		return String.format("%-28s %-14s %6s %5s %14s   %12s %14s %14s", "Benchmark", "DataFactory", "Res", "Cnt", "Score (us/op)", "Error (99.9%)", "Min", "Max");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+//	The two-sided 99.9% quantiles of the Student's t-distribution. Beyond the table, the values are interpolated towards the normal distribution.
+	private static double doGetTValue(final int degreesOfFreedom) {
+		if(degreesOfFreedom <= T_VALUES.length) {
+			return T_VALUES[degreesOfFreedom - 1];
+		} else if(degreesOfFreedom <= 60) {
+			return 3.646D + (3.460D - 3.646D) * (degreesOfFreedom - 30) / 30.0D;
+		} else if(degreesOfFreedom <= 120) {
+			return 3.460D + (3.373D - 3.460D) * (degreesOfFreedom - 60) / 60.0D;
+		} else {
+			return 3.291D;
+		}
+	}
+}
\ No newline at end of file
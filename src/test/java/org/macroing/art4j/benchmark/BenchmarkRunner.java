@@ -0,0 +1,330 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import org.macroing.art4j.benchmark.ImageBenchmarks.WorkloadFactory;
+import org.macroing.art4j.data.DataFactory;
+
+/*
+ * Usage: BenchmarkRunner [options] [regex...]
+ * 
+ * -f <int>      The number of forked JVMs per benchmark. Use 0 to run in the current JVM. The default is 2.
+ * -i <int>      The number of measurement iterations per fork. The default is 5.
+ * -wi <int>     The number of warm-up iterations per fork. The default is 5.
+ * -r <int>      The minimum time of each measurement iteration, in milliseconds. The default is 1000.
+ * -w <int>      The minimum time of each warm-up iteration, in milliseconds. The default is 1000.
+ * -p <int,...>  The resolutions to benchmark. The default is 256,1024.
+ * -d <name,...> The DataFactory names to benchmark, any of Color4D, Color4F and PackedIntARGB. The default is all of them.
+ * -jvmArgs <s>  The arguments to pass to each forked JVM, separated by spaces.
+ * -rf <file>    The CSV file to write the results to.
+ * -l            Lists the benchmarks and exits.
+ * 
+ * Each regex is matched against the benchmark names. A benchmark is run if any regex is found in its name, or if no regex is given.
+ */
+public final class BenchmarkRunner {
+	private static final String FORKED = "-forked";
+	private static final String SAMPLE = "SAMPLE ";
+	private static volatile Object sink;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private BenchmarkRunner() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static void main(final String[] args) {
+		final Options options = Options.parse(args);
+		
+		final Map<String, DataFactory> dataFactories = doGetDataFactories();
+		final Map<String, WorkloadFactory> workloadFactories = ImageBenchmarks.getWorkloadFactories();
+		
+		if(options.forked != null) {
+			final Workload workload = workloadFactories.get(options.forked[0]).create(dataFactories.get(options.forked[1]), Integer.parseInt(options.forked[2]));
+			
+			for(final double sample : doRun(workload, options, null)) {
+				System.out.println(SAMPLE + sample);
+			}
+			
+			return;
+		}
+		
+		if(options.isListing) {
+			workloadFactories.keySet().forEach(System.out::println);
+			
+			return;
+		}
+		
+		final List<BenchmarkResult> benchmarkResults = new ArrayList<>();
+		
+		for(final String benchmarkName : workloadFactories.keySet()) {
+			if(!options.isMatching(benchmarkName)) {
+				continue;
+			}
+			
+			for(final String dataFactoryName : options.dataFactoryNames) {
+				Objects.requireNonNull(dataFactories.get(dataFactoryName), "Unknown DataFactory: " + dataFactoryName);
+				
+				for(final int resolution : options.resolutions) {
+					System.out.printf("# Benchmark: %s, DataFactory: %s, Resolution: %d%n", benchmarkName, dataFactoryName, Integer.valueOf(resolution));
+					
+					final double[] samples = options.forks == 0 ? doRun(workloadFactories.get(benchmarkName).create(dataFactories.get(dataFactoryName), resolution), options, System.out) : doRunForked(benchmarkName, dataFactoryName, resolution, options);
+					
+					final BenchmarkResult benchmarkResult = new BenchmarkResult(benchmarkName, dataFactoryName, resolution, samples);
+					
+					System.out.printf("# Result: %.3f +- %.3f us/op%n%n", Double.valueOf(benchmarkResult.getMean()), Double.valueOf(benchmarkResult.getError()));
+					
+					benchmarkResults.add(benchmarkResult);
+				}
+			}
+		}
+		
+		System.out.println(BenchmarkResult.getHeader());
+		
+		benchmarkResults.forEach(System.out::println);
+		
+		if(options.resultFile != null) {
+			doWriteCSV(benchmarkResults, options.resultFile);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static Map<String, DataFactory> doGetDataFactories() {
+		final Map<String, DataFactory> dataFactories = new LinkedHashMap<>();
+		
+		dataFactories.put("Color4D", DataFactory.forColor4D());
+		dataFactories.put("Color4F", DataFactory.forColor4F());
+		dataFactories.put("PackedIntARGB", DataFactory.forPackedIntARGB());
+		
+		return dataFactories;
+	}
+	
+	private static double doRunIteration(final Workload workload, final int iterationTime) {
+		final long minimumTime = iterationTime * 1000000L;
+		final long startTime = System.nanoTime();
+		
+		long elapsedTime = 0L;
+		long operations = 0L;
+		
+		do {
+			workload.reset();
+			
+			final long time = System.nanoTime();
+			
+			sink = workload.run();
+			
+			elapsedTime += System.nanoTime() - time;
+			
+			operations++;
+		} while(System.nanoTime() - startTime < minimumTime);
+		
+		return elapsedTime / 1000.0D / operations;
+	}
+	
+	private static double[] doRun(final Workload workload, final Options options, final PrintStream printStream) {
+		for(int i = 0; i < options.warmUpIterations; i++) {
+			final double sample = doRunIteration(workload, options.warmUpTime);
+			
+			if(printStream != null) {
+				printStream.printf("# Warm-up iteration %d: %.3f us/op%n", Integer.valueOf(i + 1), Double.valueOf(sample));
+			}
+		}
+		
+		final double[] samples = new double[options.iterations];
+		
+		for(int i = 0; i < options.iterations; i++) {
+			samples[i] = doRunIteration(workload, options.iterationTime);
+			
+			if(printStream != null) {
+				printStream.printf("# Iteration %d: %.3f us/op%n", Integer.valueOf(i + 1), Double.valueOf(samples[i]));
+			}
+		}
+		
+		return samples;
+	}
+	
+	private static double[] doRunForked(final String benchmarkName, final String dataFactoryName, final int resolution, final Options options) {
+		final List<Double> samples = new ArrayList<>();
+		
+		for(int fork = 0; fork < options.forks; fork++) {
+			final List<String> command = new ArrayList<>();
+			
+			command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+			command.addAll(options.jvmArgs);
+			command.add("-cp");
+			command.add(System.getProperty("java.class.path"));
+			command.add(BenchmarkRunner.class.getName());
+			command.add(FORKED);
+			command.add(benchmarkName);
+			command.add(dataFactoryName);
+			command.add(Integer.toString(resolution));
+			command.add("-i");
+			command.add(Integer.toString(options.iterations));
+			command.add("-wi");
+			command.add(Integer.toString(options.warmUpIterations));
+			command.add("-r");
+			command.add(Integer.toString(options.iterationTime));
+			command.add("-w");
+			command.add(Integer.toString(options.warmUpTime));
+			
+			try {
+				final Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+				
+				try(final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+					for(String line = bufferedReader.readLine(); line != null; line = bufferedReader.readLine()) {
+						if(line.startsWith(SAMPLE)) {
+							final Double sample = Double.valueOf(line.substring(SAMPLE.length()));
+							
+							System.out.printf("# Fork %d, iteration %d: %.3f us/op%n", Integer.valueOf(fork + 1), Integer.valueOf(samples.size() % options.iterations + 1), sample);
+							
+							samples.add(sample);
+						}
+					}
+				}
+				
+				if(process.waitFor() != 0) {
+					throw new IllegalStateException("Fork " + (fork + 1) + " of " + benchmarkName + " exited with " + process.exitValue());
+				}
+			} catch(final IOException e) {
+				throw new UncheckedIOException(e);
+			} catch(final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				
+				throw new IllegalStateException(e);
+			}
+		}
+		
+		return samples.stream().mapToDouble(Double::doubleValue).toArray();
+	}
+	
+	private static void doWriteCSV(final List<BenchmarkResult> benchmarkResults, final File file) {
+		try(final PrintStream printStream = new PrintStream(file, StandardCharsets.UTF_8.name())) {
+			printStream.println(BenchmarkResult.getCSVHeader());
+			
+			benchmarkResults.forEach(benchmarkResult -> printStream.println(benchmarkResult.toCSV()));
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Options {
+		public File resultFile;
+		public List<Pattern> patterns = new ArrayList<>();
+		public List<String> dataFactoryNames = new ArrayList<>(doGetDataFactories().keySet());
+		public List<String> jvmArgs = new ArrayList<>();
+		public String[] forked;
+		public boolean isListing;
+		public int forks = 2;
+		public int iterationTime = 1000;
+		public int iterations = 5;
+		public int warmUpIterations = 5;
+		public int warmUpTime = 1000;
+		public int[] resolutions = {256, 1024};
+		
+		public Options() {
+			
+		}
+		
+		public boolean isMatching(final String benchmarkName) {
+			return this.patterns.isEmpty() || this.patterns.stream().anyMatch(pattern -> pattern.matcher(benchmarkName).find());
+		}
+		
+		public static Options parse(final String[] args) {
+			final Options options = new Options();
+			
+			for(int i = 0; i < args.length; i++) {
+				switch(args[i]) {
+					case FORKED:
+						options.forked = Arrays.copyOfRange(args, i + 1, i + 4);
+						
+						i += 3;
+						
+						break;
+					case "-d":
+						options.dataFactoryNames = Arrays.asList(args[++i].split(","));
+						
+						break;
+					case "-f":
+						options.forks = Integer.parseInt(args[++i]);
+						
+						break;
+					case "-i":
+						options.iterations = Integer.parseInt(args[++i]);
+						
+						break;
+					case "-jvmArgs":
+						options.jvmArgs = args[++i].trim().isEmpty() ? new ArrayList<>() : Arrays.asList(args[i].trim().split("\\s+"));
+						
+						break;
+					case "-l":
+						options.isListing = true;
+						
+						break;
+					case "-p":
+						options.resolutions = Arrays.stream(args[++i].split(",")).mapToInt(Integer::parseInt).toArray();
+						
+						break;
+					case "-r":
+						options.iterationTime = Integer.parseInt(args[++i]);
+						
+						break;
+					case "-rf":
+						options.resultFile = new File(args[++i]);
+						
+						break;
+					case "-w":
+						options.warmUpTime = Integer.parseInt(args[++i]);
+						
+						break;
+					case "-wi":
+						options.warmUpIterations = Integer.parseInt(args[++i]);
+						
+						break;
+					default:
+						if(!args[i].isEmpty()) {
+							options.patterns.add(Pattern.compile(args[i]));
+						}
+						
+						break;
+				}
+			}
+			
+			return options;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,311 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.benchmark;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import org.macroing.art4j.color.Color3D;
+import org.macroing.art4j.color.Color3F;
+import org.macroing.art4j.color.Color4D;
+import org.macroing.art4j.color.Color4F;
+import org.macroing.art4j.color.ColorSpaceD;
+import org.macroing.art4j.color.ColorSpaceF;
+import org.macroing.art4j.data.DataFactory;
+import org.macroing.art4j.filter.GaussianFilter2D;
+import org.macroing.art4j.filter.GaussianFilter2F;
+import org.macroing.art4j.image.Image;
+import org.macroing.art4j.kernel.ConvolutionKernelND;
+import org.macroing.art4j.kernel.ConvolutionKernelNF;
+import org.macroing.art4j.noise.SimplexNoiseD;
+import org.macroing.art4j.noise.SimplexNoiseF;
+
+public final class ImageBenchmarks {
+	private static final int SAMPLE_COUNT = 10000;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private ImageBenchmarks() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static Map<String, WorkloadFactory> getWorkloadFactories() {
+		final Map<String, WorkloadFactory> workloadFactories = new LinkedHashMap<>();
+		
+		workloadFactories.put("colorSpaceConversionD", ImageBenchmarks::doCreateColorSpaceConversionD);
+		workloadFactories.put("colorSpaceConversionF", ImageBenchmarks::doCreateColorSpaceConversionF);
+		workloadFactories.put("convolveD", ImageBenchmarks::doCreateConvolveD);
+		workloadFactories.put("convolveF", ImageBenchmarks::doCreateConvolveF);
+		workloadFactories.put("draw", ImageBenchmarks::doCreateDraw);
+		workloadFactories.put("fillD", ImageBenchmarks::doCreateFillD);
+		workloadFactories.put("fillF", ImageBenchmarks::doCreateFillF);
+		workloadFactories.put("fillRegionD", ImageBenchmarks::doCreateFillRegionD);
+		workloadFactories.put("fillRegionF", ImageBenchmarks::doCreateFillRegionF);
+		workloadFactories.put("fillSobelD", ImageBenchmarks::doCreateFillSobelD);
+		workloadFactories.put("flip", (dataFactory, resolution) -> doCreateImage(dataFactory, resolution)::flip);
+		workloadFactories.put("flipX", (dataFactory, resolution) -> doCreateImage(dataFactory, resolution)::flipX);
+		workloadFactories.put("flipY", (dataFactory, resolution) -> doCreateImage(dataFactory, resolution)::flipY);
+		workloadFactories.put("noiseD", ImageBenchmarks::doCreateNoiseD);
+		workloadFactories.put("noiseF", ImageBenchmarks::doCreateNoiseF);
+		workloadFactories.put("rotateD", ImageBenchmarks::doCreateRotateD);
+		workloadFactories.put("rotateF", ImageBenchmarks::doCreateRotateF);
+		workloadFactories.put("sampleColorXYZD", ImageBenchmarks::doCreateSampleColorXYZD);
+		workloadFactories.put("sampleColorXYZF", ImageBenchmarks::doCreateSampleColorXYZF);
+		workloadFactories.put("scale", ImageBenchmarks::doCreateScale);
+		
+		return Collections.unmodifiableMap(workloadFactories);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@FunctionalInterface
+	public interface WorkloadFactory {
+		Workload create(final DataFactory dataFactory, final int resolution);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static Image doCreateImage(final DataFactory dataFactory, final int resolution) {
+		final Random random = new Random(0L);
+		
+		final
+		Image image = new Image(resolution, resolution, dataFactory);
+		image.fillD((currentColor, x, y) -> new Color4D(random.nextDouble(), random.nextDouble(), random.nextDouble(), 1.0D));
+		
+		return image;
+	}
+	
+	private static Workload doCreateColorSpaceConversionD(final DataFactory dataFactory, final int resolution) {
+		final Image image = doCreateImage(dataFactory, resolution);
+		
+		final ColorSpaceD colorSpace = ColorSpaceD.S_R_G_B;
+		
+		return () -> {
+			double sum = 0.0D;
+			
+			for(int i = 0; i < image.getResolution(); i++) {
+				final Color3D colorXYZ = colorSpace.convertRGBToXYZ(colorSpace.undoGammaCorrection(image.getColor3D(i)));
+				
+				sum += colorXYZ.g;
+			}
+			
+			return Double.valueOf(sum);
+		};
+	}
+	
+	private static Workload doCreateColorSpaceConversionF(final DataFactory dataFactory, final int resolution) {
+		final Image image = doCreateImage(dataFactory, resolution);
+		
+		final ColorSpaceF colorSpace = ColorSpaceF.S_R_G_B;
+		
+		return () -> {
+			float sum = 0.0F;
+			
+			for(int i = 0; i < image.getResolution(); i++) {
+				final Color3F colorXYZ = colorSpace.convertRGBToXYZ(colorSpace.undoGammaCorrection(image.getColor3F(i)));
+				
+				sum += colorXYZ.g;
+			}
+			
+			return Float.valueOf(sum);
+		};
+	}
+	
+	private static Workload doCreateConvolveD(final DataFactory dataFactory, final int resolution) {
+		final Image image = doCreateImage(dataFactory, resolution);
+		
+		return () -> image.convolve(ConvolutionKernelND.GAUSSIAN_BLUR_3);
+	}
+	
+	private static Workload doCreateConvolveF(final DataFactory dataFactory, final int resolution) {
+		final Image image = doCreateImage(dataFactory, resolution);
+		
+		return () -> image.convolve(ConvolutionKernelNF.GAUSSIAN_BLUR_3);
+	}
+	
+	private static Workload doCreateDraw(final DataFactory dataFactory, final int resolution) {
+		final Image image = doCreateImage(dataFactory, resolution);
+		
+		return () -> image.draw(graphics2D -> graphics2D.drawString("Hello, World!", resolution / 4, resolution / 4));
+	}
+	
+	private static Workload doCreateFillD(final DataFactory dataFactory, final int resolution) {
+		final Image image = doCreateImage(dataFactory, resolution);
+		
+		final Color4D[] colors = {Color4D.RED, Color4D.GREEN};
+		
+		final int[] counter = new int[1];
+		
+		return () -> image.fillD(colors[counter[0]++ & 1]);
+	}
+	
+	private static Workload doCreateFillF(final DataFactory dataFactory, final int resolution) {
+		final Image image = doCreateImage(dataFactory, resolution);
+		
+		final Color4F[] colors = {Color4F.RED, Color4F.GREEN};
+		
+		final int[] counter = new int[1];
+		
+		return () -> image.fillF(colors[counter[0]++ & 1]);
+	}
+	
+	private static Workload doCreateFillRegionD(final DataFactory dataFactory, final int resolution) {
+		final Image image = new Image(resolution, resolution, Color4D.RED, dataFactory);
+		
+		final Color4D[] colors = {Color4D.GREEN, Color4D.RED};
+		
+		final int[] counter = new int[1];
+		
+		return () -> {
+			final Color4D color = colors[counter[0]++ & 1];
+			
+			return image.fillRegionD(0, 0, (currentColor, x, y) -> color);
+		};
+	}
+	
+	private static Workload doCreateFillRegionF(final DataFactory dataFactory, final int resolution) {
+		final Image image = new Image(resolution, resolution, Color4D.RED, dataFactory);
+		
+		final Color4F[] colors = {Color4F.GREEN, Color4F.RED};
+		
+		final int[] counter = new int[1];
+		
+		return () -> {
+			final Color4F color = colors[counter[0]++ & 1];
+			
+			return image.fillRegionF(0, 0, (currentColor, x, y) -> color);
+		};
+	}
+	
+	private static Workload doCreateFillSobelD(final DataFactory dataFactory, final int resolution) {
+		final Image image = doCreateImage(dataFactory, resolution);
+		
+		return new ResettableWorkload(image, currentImage -> currentImage.fillSobelD((color, x, y) -> true));
+	}
+	
+	private static Workload doCreateNoiseD(final DataFactory dataFactory, final int resolution) {
+		final Image image = new Image(resolution, resolution, dataFactory);
+		
+		final double[] array = new double[resolution * resolution];
+		
+		return () -> image.fillGrayscaleD(SimplexNoiseD.fractalXY(array, resolution, resolution, 0.0D, 0.0D, 1.0D / resolution, 1.0D / resolution, 1.0D, 4.0D, 0.5D, 2.0D, 4), -1.0D, 1.0D);
+	}
+	
+	private static Workload doCreateNoiseF(final DataFactory dataFactory, final int resolution) {
+		final Image image = new Image(resolution, resolution, dataFactory);
+		
+		final float[] array = new float[resolution * resolution];
+		
+		return () -> image.fillGrayscaleF(SimplexNoiseF.fractalXY(array, resolution, resolution, 0.0F, 0.0F, 1.0F / resolution, 1.0F / resolution, 1.0F, 4.0F, 0.5F, 2.0F, 4), -1.0F, 1.0F);
+	}
+	
+	private static Workload doCreateRotateD(final DataFactory dataFactory, final int resolution) {
+		return new ResettableWorkload(doCreateImage(dataFactory, resolution), currentImage -> currentImage.rotate(30.0D));
+	}
+	
+	private static Workload doCreateRotateF(final DataFactory dataFactory, final int resolution) {
+		return new ResettableWorkload(doCreateImage(dataFactory, resolution), currentImage -> currentImage.rotate(30.0F));
+	}
+	
+	private static Workload doCreateSampleColorXYZD(final DataFactory dataFactory, final int resolution) {
+		final Image image = new Image(resolution, resolution, dataFactory);
+		
+		final GaussianFilter2D filter = new GaussianFilter2D();
+		
+		final Random random = new Random(0L);
+		
+		final Color3D colorXYZ = new Color3D(0.5D, 0.5D, 0.5D);
+		
+		return new FixedCountWorkload(image, i -> image.sampleColorXYZ(colorXYZ, random.nextDouble() * resolution, random.nextDouble() * resolution, filter), SAMPLE_COUNT);
+	}
+	
+	private static Workload doCreateSampleColorXYZF(final DataFactory dataFactory, final int resolution) {
+		final Image image = new Image(resolution, resolution, dataFactory);
+		
+		final GaussianFilter2F filter = new GaussianFilter2F();
+		
+		final Random random = new Random(0L);
+		
+		final Color3F colorXYZ = new Color3F(0.5F, 0.5F, 0.5F);
+		
+		return new FixedCountWorkload(image, i -> image.sampleColorXYZ(colorXYZ, random.nextFloat() * resolution, random.nextFloat() * resolution, filter), SAMPLE_COUNT);
+	}
+	
+	private static Workload doCreateScale(final DataFactory dataFactory, final int resolution) {
+		return new ResettableWorkload(doCreateImage(dataFactory, resolution), currentImage -> currentImage.scale(resolution / 2, resolution / 2));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class FixedCountWorkload implements Workload {
+		private final IntConsumer intConsumer;
+		private final Object result;
+		private final int count;
+		
+		public FixedCountWorkload(final Object result, final IntConsumer intConsumer, final int count) {
+			this.result = result;
+			this.intConsumer = intConsumer;
+			this.count = count;
+		}
+		
+		@Override
+		public Object run() {
+			for(int i = 0; i < this.count; i++) {
+				this.intConsumer.accept(i);
+			}
+			
+			return this.result;
+		}
+		
+		@Override
+		public long getUnitCount(final int resolution) {
+			return this.count;
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class ResettableWorkload implements Workload {
+		private final Image image;
+		private final Function<Image, Object> function;
+		private Image currentImage;
+		
+		public ResettableWorkload(final Image image, final Function<Image, Object> function) {
+			this.image = image;
+			this.function = function;
+			this.currentImage = image.copy();
+		}
+		
+		@Override
+		public Object run() {
+			return this.function.apply(this.currentImage);
+		}
+		
+		@Override
+		public void reset() {
+			this.currentImage = this.image.copy();
+		}
+	}
+}
\ No newline at end of file
@@ -1258,6 +1258,19 @@ public final class Color4DUnitTests {
 		assertThrows(NullPointerException.class, () -> a.pack(null));
 	}
 	
+	@Test
+	public void testPremultiply() {
+		final Color4D a = new Color4D(1.0D, 0.5D, 0.25D, 0.5D);
+		final Color4D b = Color4D.premultiply(a);
+		
+		assertEquals(0.5D, b.r);
+		assertEquals(0.25D, b.g);
+		assertEquals(0.125D, b.b);
+		assertEquals(0.5D, b.a);
+		
+		assertThrows(NullPointerException.class, () -> Color4D.premultiply(null));
+	}
+	
 	@Test
 	public void testRandom() {
 		for(int i = 0; i < 1000; i++) {
@@ -1784,6 +1797,21 @@ public final class Color4DUnitTests {
 		assertThrows(NullPointerException.class, () -> Color4D.unpack(PackedIntComponentOrder.ARGB.pack(0, 0, 0, 0), null));
 	}
 	
+	@Test
+	public void testUnpremultiply() {
+		final Color4D a = new Color4D(0.5D, 0.25D, 0.125D, 0.5D);
+		final Color4D b = Color4D.unpremultiply(a);
+		
+		assertEquals(1.0D, b.r);
+		assertEquals(0.5D, b.g);
+		assertEquals(0.25D, b.b);
+		assertEquals(0.5D, b.a);
+		
+		assertEquals(Color4D.TRANSPARENT, Color4D.unpremultiply(new Color4D(0.5D, 0.5D, 0.5D, 0.0D)));
+		
+		assertThrows(NullPointerException.class, () -> Color4D.unpremultiply(null));
+	}
+	
 	@Test
 	public void testWrite() {
 		final Color4D a = new Color4D(1.0D, 0.5D, 0.0D);
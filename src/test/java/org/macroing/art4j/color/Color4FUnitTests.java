@@ -1258,6 +1258,19 @@ public final class Color4FUnitTests {
 		assertThrows(NullPointerException.class, () -> a.pack(null));
 	}
 	
+	@Test
+	public void testPremultiply() {
+		final Color4F a = new Color4F(1.0F, 0.5F, 0.25F, 0.5F);
+		final Color4F b = Color4F.premultiply(a);
+		
+		assertEquals(0.5F, b.r);
+		assertEquals(0.25F, b.g);
+		assertEquals(0.125F, b.b);
+		assertEquals(0.5F, b.a);
+		
+		assertThrows(NullPointerException.class, () -> Color4F.premultiply(null));
+	}
+	
 	@Test
 	public void testRandom() {
 		for(int i = 0; i < 1000; i++) {
@@ -1784,6 +1797,21 @@ public final class Color4FUnitTests {
 		assertThrows(NullPointerException.class, () -> Color4F.unpack(PackedIntComponentOrder.ARGB.pack(0, 0, 0, 0), null));
 	}
 	
+	@Test
+	public void testUnpremultiply() {
+		final Color4F a = new Color4F(0.5F, 0.25F, 0.125F, 0.5F);
+		final Color4F b = Color4F.unpremultiply(a);
+		
+		assertEquals(1.0F, b.r);
+		assertEquals(0.5F, b.g);
+		assertEquals(0.25F, b.b);
+		assertEquals(0.5F, b.a);
+		
+		assertEquals(Color4F.TRANSPARENT, Color4F.unpremultiply(new Color4F(0.5F, 0.5F, 0.5F, 0.0F)));
+		
+		assertThrows(NullPointerException.class, () -> Color4F.unpremultiply(null));
+	}
+	
 	@Test
 	public void testWrite() {
 		final Color4F a = new Color4F(1.0F, 0.5F, 0.0F);
@@ -1000,6 +1000,13 @@ public final class Color4IUnitTests {
 		assertThrows(NullPointerException.class, () -> Color4I.multiply(null, 2));
 	}
 	
+	@Test
+	public void testPremultiplyARGB() {
+		assertEquals(Color4I.toIntARGB(255, 128,   0, 255), Color4I.premultiplyARGB(Color4I.toIntARGB(255, 128,   0, 255)));
+		assertEquals(Color4I.toIntARGB(128,  64,   0, 128), Color4I.premultiplyARGB(Color4I.toIntARGB(255, 128,   0, 128)));
+		assertEquals(Color4I.toIntARGB(  0,   0,   0,   0), Color4I.premultiplyARGB(Color4I.toIntARGB(255, 128,   0,   0)));
+	}
+	
 	@Test
 	public void testRandom() {
 		for(int i = 0; i < 1000; i++) {
@@ -1430,6 +1437,21 @@ public final class Color4IUnitTests {
 		assertEquals("new Color4I(0, 127, 128, 255)", color.toString());
 	}
 	
+	@Test
+	public void testUnpremultiplyARGB() {
+		assertEquals(Color4I.toIntARGB(255, 128,   0, 255), Color4I.unpremultiplyARGB(Color4I.toIntARGB(255, 128,   0, 255)));
+		assertEquals(Color4I.toIntARGB(255, 128,   0, 128), Color4I.unpremultiplyARGB(Color4I.toIntARGB(128,  64,   0, 128)));
+		assertEquals(Color4I.toIntARGB(  0,   0,   0,   0), Color4I.unpremultiplyARGB(Color4I.toIntARGB(128,  64,   0,   0)));
+		
+		for(int a = 1; a < 256; a++) {
+			for(int c = 0; c <= a; c++) {
+				final int colorARGB = Color4I.toIntARGB(c, c, c, a);
+				
+				assertEquals(colorARGB, Color4I.premultiplyARGB(Color4I.unpremultiplyARGB(colorARGB)));
+			}
+		}
+	}
+	
 	@Test
 	public void testWrite() {
 		final Color4I a = new Color4I(255, 128, 0);
@@ -18,11 +18,16 @@
  */
 package org.macroing.art4j.curve;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import org.macroing.art4j.color.Color3D;
+
 @SuppressWarnings("static-method")
 public final class ConstantSpectralCurveDUnitTests {
 	public ConstantSpectralCurveDUnitTests() {
@@ -78,6 +83,34 @@ public final class ConstantSpectralCurveDUnitTests {
 		assertEquals(1.0D, constantSpectralCurveD.sample(0.5D));
 	}
 	
+	@Test
+	public void testSampleDoubleArrayDoubleArray() {
+		final ConstantSpectralCurveD constantSpectralCurveD = new ConstantSpectralCurveD(1.0D);
+		
+		final double[] samples = new double[4];
+		
+		assertTrue(samples == constantSpectralCurveD.sample(new double[] {0.0D, 400.0D, 800.0D}, samples));
+		
+		assertArrayEquals(new double[] {1.0D, 1.0D, 1.0D, 0.0D}, samples);
+		
+		assertThrows(IllegalArgumentException.class, () -> constantSpectralCurveD.sample(new double[2], new double[1]));
+		assertThrows(NullPointerException.class, () -> constantSpectralCurveD.sample(new double[1], null));
+		assertThrows(NullPointerException.class, () -> constantSpectralCurveD.sample(null, new double[1]));
+	}
+	
+	@Test
+	public void testToColorXYZ() {
+		final ConstantSpectralCurveD constantSpectralCurveD = new ConstantSpectralCurveD(1.0D);
+		
+		final Color3D a = constantSpectralCurveD.toColorXYZ();
+		final Color3D b = constantSpectralCurveD.toColorXYZ();
+		
+		assertTrue(a == b);
+		assertTrue(constantSpectralCurveD.toColorRGB() == constantSpectralCurveD.toColorRGB());
+		
+		assertEquals(a, new ConstantSpectralCurveD(1.0D).toColorXYZ());
+	}
+	
 	@Test
 	public void testToString() {
 		final ConstantSpectralCurveD constantSpectralCurveD = new ConstantSpectralCurveD(1.0D);
@@ -18,11 +18,16 @@
  */
 package org.macroing.art4j.curve;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import org.macroing.art4j.color.Color3F;
+
 @SuppressWarnings("static-method")
 public final class ConstantSpectralCurveFUnitTests {
 	public ConstantSpectralCurveFUnitTests() {
@@ -78,6 +83,34 @@ public final class ConstantSpectralCurveFUnitTests {
 		assertEquals(1.0F, constantSpectralCurveF.sample(0.5F));
 	}
 	
+	@Test
+	public void testSampleFloatArrayFloatArray() {
+		final ConstantSpectralCurveF constantSpectralCurveF = new ConstantSpectralCurveF(1.0F);
+		
+		final float[] samples = new float[4];
+		
+		assertTrue(samples == constantSpectralCurveF.sample(new float[] {0.0F, 400.0F, 800.0F}, samples));
+		
+		assertArrayEquals(new float[] {1.0F, 1.0F, 1.0F, 0.0F}, samples);
+		
+		assertThrows(IllegalArgumentException.class, () -> constantSpectralCurveF.sample(new float[2], new float[1]));
+		assertThrows(NullPointerException.class, () -> constantSpectralCurveF.sample(new float[1], null));
+		assertThrows(NullPointerException.class, () -> constantSpectralCurveF.sample(null, new float[1]));
+	}
+	
+	@Test
+	public void testToColorXYZ() {
+		final ConstantSpectralCurveF constantSpectralCurveF = new ConstantSpectralCurveF(1.0F);
+		
+		final Color3F a = constantSpectralCurveF.toColorXYZ();
+		final Color3F b = constantSpectralCurveF.toColorXYZ();
+		
+		assertTrue(a == b);
+		assertTrue(constantSpectralCurveF.toColorRGB() == constantSpectralCurveF.toColorRGB());
+		
+		assertEquals(a, new ConstantSpectralCurveF(1.0F).toColorXYZ());
+	}
+	
 	@Test
 	public void testToString() {
 		final ConstantSpectralCurveF constantSpectralCurveF = new ConstantSpectralCurveF(1.0F);
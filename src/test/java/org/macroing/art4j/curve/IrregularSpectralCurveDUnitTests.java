@@ -110,6 +110,59 @@ public final class IrregularSpectralCurveDUnitTests {
 		assertEquals(5.0D, new IrregularSpectralCurveD(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D}, new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D}).sample(5.0D));
 	}
 	
+	@Test
+	public void testSampleDoubleArrayDoubleArray() {
+		final IrregularSpectralCurveD irregularSpectralCurveD = IrregularSpectralCurveD.AU_ETA;
+		
+		final double[] lambdas = new double[1000];
+		final double[] samples = new double[1001];
+		
+		for(int i = 0; i < lambdas.length; i++) {
+			lambdas[i] = 200.0D + i * 0.75D;
+		}
+		
+		assertTrue(samples == irregularSpectralCurveD.sample(lambdas, samples));
+		
+		for(int i = 0; i < lambdas.length; i++) {
+			assertEquals(irregularSpectralCurveD.sample(lambdas[i]), samples[i]);
+		}
+		
+		assertEquals(0.0D, samples[1000]);
+		
+		assertArrayEquals(new double[] {1.0D, 1.5D, 5.0D}, new IrregularSpectralCurveD(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D}, new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D}).sample(new double[] {0.0D, 1.5D, 6.0D}, new double[3]));
+		
+		assertThrows(IllegalArgumentException.class, () -> irregularSpectralCurveD.sample(new double[2], new double[1]));
+		assertThrows(NullPointerException.class, () -> irregularSpectralCurveD.sample(new double[1], null));
+		assertThrows(NullPointerException.class, () -> irregularSpectralCurveD.sample(null, new double[1]));
+	}
+	
+	@Test
+	public void testToRegularSpectralCurve() {
+		final IrregularSpectralCurveD irregularSpectralCurveD = IrregularSpectralCurveD.CU_K;
+		
+		final RegularSpectralCurveD regularSpectralCurveD = irregularSpectralCurveD.toRegularSpectralCurve();
+		
+		assertEquals(360.0D, regularSpectralCurveD.getLambdaMin());
+		assertEquals(830.0D, regularSpectralCurveD.getLambdaMax());
+		assertEquals(471, regularSpectralCurveD.getSpectrum().length);
+		assertEquals(irregularSpectralCurveD.toColorXYZ(), regularSpectralCurveD.toColorXYZ());
+	}
+	
+	@Test
+	public void testToRegularSpectralCurveDoubleDoubleInt() {
+		final IrregularSpectralCurveD irregularSpectralCurveD = new IrregularSpectralCurveD(new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D}, new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+		
+		final RegularSpectralCurveD regularSpectralCurveD = irregularSpectralCurveD.toRegularSpectralCurve(1.0D, 5.0D, 9);
+		
+		assertArrayEquals(new double[] {1.0D, 1.5D, 2.0D, 2.5D, 3.0D, 3.5D, 4.0D, 4.5D, 5.0D}, regularSpectralCurveD.getSpectrum());
+		
+		assertEquals(2.25D, regularSpectralCurveD.sample(2.25D));
+		
+		assertThrows(IllegalArgumentException.class, () -> irregularSpectralCurveD.toRegularSpectralCurve(1.0D, 5.0D, 1));
+		assertThrows(IllegalArgumentException.class, () -> irregularSpectralCurveD.toRegularSpectralCurve(5.0D, 5.0D, 2));
+		assertThrows(IllegalArgumentException.class, () -> irregularSpectralCurveD.toRegularSpectralCurve(Double.NaN, 5.0D, 2));
+	}
+	
 	@Test
 	public void testToString() {
 		final IrregularSpectralCurveD irregularSpectralCurveD = new IrregularSpectralCurveD(new double[] {1.0D}, new double[] {1.0D});
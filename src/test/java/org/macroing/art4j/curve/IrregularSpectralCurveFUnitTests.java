@@ -110,6 +110,59 @@ public final class IrregularSpectralCurveFUnitTests {
 		assertEquals(5.0F, new IrregularSpectralCurveF(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F}, new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F}).sample(5.0F));
 	}
 	
+	@Test
+	public void testSampleFloatArrayFloatArray() {
+		final IrregularSpectralCurveF irregularSpectralCurveF = IrregularSpectralCurveF.AU_ETA;
+		
+		final float[] lambdas = new float[1000];
+		final float[] samples = new float[1001];
+		
+		for(int i = 0; i < lambdas.length; i++) {
+			lambdas[i] = 200.0F + i * 0.75F;
+		}
+		
+		assertTrue(samples == irregularSpectralCurveF.sample(lambdas, samples));
+		
+		for(int i = 0; i < lambdas.length; i++) {
+			assertEquals(irregularSpectralCurveF.sample(lambdas[i]), samples[i]);
+		}
+		
+		assertEquals(0.0F, samples[1000]);
+		
+		assertArrayEquals(new float[] {1.0F, 1.5F, 5.0F}, new IrregularSpectralCurveF(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F}, new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F}).sample(new float[] {0.0F, 1.5F, 6.0F}, new float[3]));
+		
+		assertThrows(IllegalArgumentException.class, () -> irregularSpectralCurveF.sample(new float[2], new float[1]));
+		assertThrows(NullPointerException.class, () -> irregularSpectralCurveF.sample(new float[1], null));
+		assertThrows(NullPointerException.class, () -> irregularSpectralCurveF.sample(null, new float[1]));
+	}
+	
+	@Test
+	public void testToRegularSpectralCurve() {
+		final IrregularSpectralCurveF irregularSpectralCurveF = IrregularSpectralCurveF.CU_K;
+		
+		final RegularSpectralCurveF regularSpectralCurveF = irregularSpectralCurveF.toRegularSpectralCurve();
+		
+		assertEquals(360.0F, regularSpectralCurveF.getLambdaMin());
+		assertEquals(830.0F, regularSpectralCurveF.getLambdaMax());
+		assertEquals(471, regularSpectralCurveF.getSpectrum().length);
+		assertEquals(irregularSpectralCurveF.toColorXYZ(), regularSpectralCurveF.toColorXYZ());
+	}
+	
+	@Test
+	public void testToRegularSpectralCurveFloatFloatInt() {
+		final IrregularSpectralCurveF irregularSpectralCurveF = new IrregularSpectralCurveF(new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F}, new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+		
+		final RegularSpectralCurveF regularSpectralCurveF = irregularSpectralCurveF.toRegularSpectralCurve(1.0F, 5.0F, 9);
+		
+		assertArrayEquals(new float[] {1.0F, 1.5F, 2.0F, 2.5F, 3.0F, 3.5F, 4.0F, 4.5F, 5.0F}, regularSpectralCurveF.getSpectrum());
+		
+		assertEquals(2.25F, regularSpectralCurveF.sample(2.25F));
+		
+		assertThrows(IllegalArgumentException.class, () -> irregularSpectralCurveF.toRegularSpectralCurve(1.0F, 5.0F, 1));
+		assertThrows(IllegalArgumentException.class, () -> irregularSpectralCurveF.toRegularSpectralCurve(5.0F, 5.0F, 2));
+		assertThrows(IllegalArgumentException.class, () -> irregularSpectralCurveF.toRegularSpectralCurve(Float.NaN, 5.0F, 2));
+	}
+	
 	@Test
 	public void testToString() {
 		final IrregularSpectralCurveF irregularSpectralCurveF = new IrregularSpectralCurveF(new float[] {1.0F}, new float[] {1.0F});
@@ -112,6 +112,21 @@ public final class RegularSpectralCurveDUnitTests {
 		assertEquals(3.0D, new RegularSpectralCurveD(1.0D, 2.0D, new double[] {1.0D, 2.0D, 3.0D}).sample(2.0D));
 	}
 	
+	@Test
+	public void testSampleDoubleArrayDoubleArray() {
+		final RegularSpectralCurveD regularSpectralCurveD = new RegularSpectralCurveD(1.0D, 5.0D, new double[] {1.0D, 2.0D, 3.0D, 4.0D, 5.0D});
+		
+		final double[] samples = new double[4];
+		
+		assertTrue(samples == regularSpectralCurveD.sample(new double[] {0.0D, 1.5D, 5.0D}, samples));
+		
+		assertArrayEquals(new double[] {0.0D, 1.5D, 5.0D, 0.0D}, samples);
+		
+		assertThrows(IllegalArgumentException.class, () -> regularSpectralCurveD.sample(new double[2], new double[1]));
+		assertThrows(NullPointerException.class, () -> regularSpectralCurveD.sample(new double[1], null));
+		assertThrows(NullPointerException.class, () -> regularSpectralCurveD.sample(null, new double[1]));
+	}
+	
 	@Test
 	public void testToString() {
 		final RegularSpectralCurveD regularSpectralCurveD = new RegularSpectralCurveD(1.0D, 2.0D, new double[] {1.0D});
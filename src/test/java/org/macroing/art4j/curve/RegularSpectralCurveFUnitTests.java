@@ -112,6 +112,21 @@ public final class RegularSpectralCurveFUnitTests {
 		assertEquals(3.0F, new RegularSpectralCurveF(1.0F, 2.0F, new float[] {1.0F, 2.0F, 3.0F}).sample(2.0F));
 	}
 	
+	@Test
+	public void testSampleFloatArrayFloatArray() {
+		final RegularSpectralCurveF regularSpectralCurveF = new RegularSpectralCurveF(1.0F, 5.0F, new float[] {1.0F, 2.0F, 3.0F, 4.0F, 5.0F});
+		
+		final float[] samples = new float[4];
+		
+		assertTrue(samples == regularSpectralCurveF.sample(new float[] {0.0F, 1.5F, 5.0F}, samples));
+		
+		assertArrayEquals(new float[] {0.0F, 1.5F, 5.0F, 0.0F}, samples);
+		
+		assertThrows(IllegalArgumentException.class, () -> regularSpectralCurveF.sample(new float[2], new float[1]));
+		assertThrows(NullPointerException.class, () -> regularSpectralCurveF.sample(new float[1], null));
+		assertThrows(NullPointerException.class, () -> regularSpectralCurveF.sample(null, new float[1]));
+	}
+	
 	@Test
 	public void testToString() {
 		final RegularSpectralCurveF regularSpectralCurveF = new RegularSpectralCurveF(1.0F, 2.0F, new float[] {1.0F});
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.art4j.color.Color4D;
+
+@SuppressWarnings("static-method")
+public final class BufferPoolUnitTests {
+	public BufferPoolUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAcquire() {
+		final BufferPool<int[]> bufferPool = new BufferPool<>(int[]::new, buffer -> buffer.length);
+		
+		final int[] bufferA = bufferPool.acquire(8192);
+		final int[] bufferB = bufferPool.acquire(8192);
+		
+		assertEquals(8192, bufferA.length);
+		assertEquals(8192, bufferB.length);
+		
+		assertNotSame(bufferA, bufferB);
+		
+		assertTrue(bufferPool.release(bufferA));
+		
+		assertSame(bufferA, bufferPool.acquire(8192));
+		assertNotSame(bufferA, bufferPool.acquire(8192));
+		
+		assertTrue(bufferPool.release(bufferB));
+		
+		assertNotSame(bufferB, bufferPool.acquire(16384));
+		assertSame(bufferB, bufferPool.acquire(8192));
+	}
+	
+	@Test
+	public void testAcquireCopyOf() {
+		final BufferPool<Color4D[]> bufferPool = new BufferPool<>(Color4D[]::new, buffer -> buffer.length);
+		
+		final Color4D[] buffer = new Color4D[4096];
+		
+		for(int i = 0; i < buffer.length; i++) {
+			buffer[i] = i % 2 == 0 ? Color4D.BLACK : Color4D.WHITE;
+		}
+		
+		final Color4D[] bufferCopy = bufferPool.acquireCopyOf(buffer);
+		
+		assertNotSame(buffer, bufferCopy);
+		
+		assertArrayEquals(buffer, bufferCopy);
+	}
+	
+	@Test
+	public void testRelease() {
+		final BufferPool<int[]> bufferPool = new BufferPool<>(int[]::new, buffer -> buffer.length);
+		
+		assertFalse(bufferPool.release(new int[16]));
+		
+		for(int i = 0; i < 4; i++) {
+			assertTrue(bufferPool.release(new int[4096]));
+		}
+		
+		assertFalse(bufferPool.release(new int[4096]));
+		
+		assertEquals(4, bufferPool.size());
+		
+		for(int i = 0; i < 32; i++) {
+			assertTrue(bufferPool.release(new int[8192 + i]));
+		}
+		
+		assertTrue(bufferPool.size() <= 16);
+	}
+	
+	@Test
+	public void testSizeAndClear() {
+		final BufferPool<int[]> bufferPool = new BufferPool<>(int[]::new, buffer -> buffer.length);
+		
+		assertEquals(0, bufferPool.size());
+		
+		bufferPool.release(new int[4096]);
+		bufferPool.release(new int[8192]);
+		
+		assertEquals(2, bufferPool.size());
+		
+		bufferPool.clear();
+		
+		assertEquals(0, bufferPool.size());
+	}
+}
\ No newline at end of file
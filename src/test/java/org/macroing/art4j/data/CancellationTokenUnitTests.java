@@ -0,0 +1,57 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class CancellationTokenUnitTests {
+	public CancellationTokenUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testCancelAndIsCancelled() {
+		final CancellationToken cancellationToken = new CancellationToken();
+		
+		assertFalse(cancellationToken.isCancelled());
+		
+		assertTrue(cancellationToken.cancel());
+		assertFalse(cancellationToken.cancel());
+		
+		assertTrue(cancellationToken.isCancelled());
+	}
+	
+	@Test
+	public void testThrowIfCancelled() {
+		final CancellationToken cancellationToken = new CancellationToken();
+		cancellationToken.throwIfCancelled();
+		cancellationToken.cancel();
+		
+		assertThrows(CancellationException.class, () -> cancellationToken.throwIfCancelled());
+	}
+}
\ No newline at end of file
@@ -193,6 +193,103 @@ public final class ChangeHistoryUnitTests {
 		assertNotEquals(g, c);
 	}
 	
+	@Test
+	public void testGetChangeCount() {
+		final ChangeHistory changeHistory = new ChangeHistory();
+		
+		final Color4DData color4DData = new Color4DData(1, 1);
+		
+		assertEquals(0, changeHistory.getChangeCount());
+		
+		changeHistory.begin();
+		changeHistory.add(new PixelChange(Color4D.BLACK, Color4D.WHITE, 0));
+		changeHistory.add(new PixelChange(Color4D.WHITE, Color4D.BLACK, 0));
+		
+		assertEquals(2, changeHistory.getChangeCount());
+		
+		changeHistory.end();
+		
+		assertEquals(0, changeHistory.getChangeCount());
+		
+		changeHistory.begin();
+		changeHistory.add(new PixelChange(Color4D.BLACK, Color4D.WHITE, 0));
+		changeHistory.rollback(color4DData);
+		
+		assertEquals(0, changeHistory.getChangeCount());
+	}
+	
+	@Test
+	public void testGetCommittedSizeInBytes() {
+		final ChangeHistory changeHistory = new ChangeHistory();
+		
+		final Color4DData color4DData = new Color4DData(1, 1);
+		
+		final Change change = new PixelChange(Color4D.BLACK, Color4D.WHITE, 0);
+		
+		assertEquals(0L, changeHistory.getCommittedSizeInBytes());
+		
+		changeHistory.begin();
+		changeHistory.add(change);
+		changeHistory.end();
+		
+		assertEquals(change.getSizeInBytes(), changeHistory.getCommittedSizeInBytes());
+		
+		assertTrue(changeHistory.undo(color4DData));
+		
+		assertEquals(change.getSizeInBytes(), changeHistory.getCommittedSizeInBytes());
+		
+		changeHistory.begin();
+		changeHistory.add(change);
+		changeHistory.end();
+		
+		assertEquals(change.getSizeInBytes(), changeHistory.getSizeInBytes());
+		assertEquals(2L * change.getSizeInBytes(), changeHistory.getCommittedSizeInBytes());
+		assertEquals(2L * change.getSizeInBytes(), new ChangeHistory(changeHistory).getCommittedSizeInBytes());
+		
+		changeHistory.begin();
+		changeHistory.add(change);
+		changeHistory.rollback(color4DData);
+		
+		assertEquals(2L * change.getSizeInBytes(), changeHistory.getCommittedSizeInBytes());
+	}
+	
+	@Test
+	public void testGetSizeInBytes() {
+		final ChangeHistory changeHistory = new ChangeHistory();
+		
+		final Color4DData color4DData = new Color4DData(1, 1);
+		
+		final Change change = new PixelChange(Color4D.BLACK, Color4D.WHITE, 0);
+		
+		assertEquals(0L, changeHistory.getSizeInBytes());
+		
+		changeHistory.begin();
+		changeHistory.add(change);
+		changeHistory.end();
+		
+		assertEquals(change.getSizeInBytes(), changeHistory.getSizeInBytes());
+		
+		changeHistory.begin();
+		changeHistory.add(change);
+		changeHistory.add(change);
+		changeHistory.end();
+		
+		final long sizeInBytes = changeHistory.getSizeInBytes();
+		
+		assertTrue(sizeInBytes > 3L * change.getSizeInBytes());
+		
+		assertTrue(changeHistory.undo(color4DData));
+		
+		assertEquals(sizeInBytes, changeHistory.getSizeInBytes());
+		
+		changeHistory.begin();
+		changeHistory.add(change);
+		changeHistory.end();
+		
+		assertEquals(2L * change.getSizeInBytes(), changeHistory.getSizeInBytes());
+		assertEquals(2L * change.getSizeInBytes(), new ChangeHistory(changeHistory).getSizeInBytes());
+	}
+	
 	@Test
 	public void testHasBegun() {
 		final ChangeHistory changeHistory = new ChangeHistory();
@@ -279,4 +376,67 @@ public final class ChangeHistoryUnitTests {
 		assertThrows(NullPointerException.class, () -> changeHistory.redo(null));
 		assertThrows(NullPointerException.class, () -> changeHistory.undo(null));
 	}
+	
+	@Test
+	public void testRollback() {
+		final ChangeHistory changeHistory = new ChangeHistory();
+		
+		final Color4DData color4DData = new Color4DData(1, 1);
+		
+		assertFalse(changeHistory.rollback(color4DData));
+		
+		changeHistory.begin();
+		changeHistory.add(new PixelChange(Color4D.BLACK, Color4D.WHITE, 0));
+		
+		color4DData.setColor4D(Color4D.BLACK, 0);
+		
+		assertTrue(changeHistory.rollback(color4DData));
+		assertFalse(changeHistory.rollback(color4DData));
+		
+		assertFalse(changeHistory.hasBegun());
+		assertFalse(changeHistory.canUndo());
+		
+		assertEquals(Color4D.WHITE, color4DData.getColor4D(0));
+		
+		assertThrows(NullPointerException.class, () -> changeHistory.rollback(null));
+	}
+	
+	@Test
+	public void testRollbackDataInt() {
+		final ChangeHistory changeHistory = new ChangeHistory();
+		
+		final Color4DData color4DData = new Color4DData(2, 1);
+		
+		assertFalse(changeHistory.rollback(color4DData, 0));
+		
+		changeHistory.begin();
+		changeHistory.add(new PixelChange(Color4D.BLACK, Color4D.WHITE, 0));
+		
+		color4DData.setColor4D(Color4D.BLACK, 0);
+		
+		final int changeCount = changeHistory.getChangeCount();
+		
+		changeHistory.add(new PixelChange(Color4D.BLACK, Color4D.WHITE, 1));
+		
+		color4DData.setColor4D(Color4D.BLACK, 1);
+		
+		assertTrue(changeHistory.rollback(color4DData, changeCount));
+		
+		assertTrue(changeHistory.hasBegun());
+		
+		assertEquals(1, changeHistory.getChangeCount());
+		
+		assertEquals(Color4D.BLACK, color4DData.getColor4D(0));
+		assertEquals(Color4D.WHITE, color4DData.getColor4D(1));
+		
+		assertTrue(changeHistory.rollback(color4DData, 2));
+		
+		assertEquals(1, changeHistory.getChangeCount());
+		
+		assertTrue(changeHistory.end());
+		assertTrue(changeHistory.canUndo());
+		
+		assertThrows(IllegalArgumentException.class, () -> changeHistory.rollback(color4DData, -1));
+		assertThrows(NullPointerException.class, () -> changeHistory.rollback(null, 0));
+	}
 }
\ No newline at end of file
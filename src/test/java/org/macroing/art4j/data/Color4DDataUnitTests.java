@@ -28,7 +28,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,9 +43,19 @@ import org.macroing.art4j.color.Color4D;
 import org.macroing.art4j.color.Color4F;
 import org.macroing.art4j.color.Color4I;
 import org.macroing.art4j.data.Color4DData.PixelChange;
+import org.macroing.art4j.data.Color4DData.RegionChange;
 import org.macroing.art4j.data.Color4DData.StateChange;
+import org.macroing.art4j.filter.BoxFilter2D;
+import org.macroing.art4j.filter.BoxFilter2F;
+import org.macroing.art4j.filter.CatmullRomFilter2D;
+import org.macroing.art4j.filter.Filter2D;
+import org.macroing.art4j.filter.Filter2F;
+import org.macroing.art4j.filter.LanczosSincFilter2D;
+import org.macroing.art4j.filter.LanczosSincFilter2F;
+import org.macroing.art4j.filter.MitchellFilter2D;
 import org.macroing.art4j.kernel.ConvolutionKernelND;
 import org.macroing.art4j.kernel.ConvolutionKernelNF;
+import org.macroing.art4j.pixel.CompositeOperator;
 import org.macroing.art4j.pixel.PixelTransformer;
 import org.macroing.geo4j.common.Point2I;
 import org.macroing.geo4j.shape.rectangle.Rectangle2I;
@@ -125,6 +139,96 @@ public final class Color4DDataUnitTests {
 		assertTrue(color4DData.changeEnd());
 	}
 	
+	@Test
+	public void testChangeRollback() {
+		final
+		Color4DData color4DData = new Color4DData(1, 1, Color4D.WHITE);
+		color4DData.setChangeHistoryEnabled(true);
+		
+		assertFalse(color4DData.changeRollback());
+		
+		color4DData.changeBegin();
+		color4DData.setColor4D(Color4D.BLACK, 0);
+		
+		assertTrue(color4DData.changeRollback());
+		assertFalse(color4DData.changeRollback());
+		
+		assertEquals(Color4D.WHITE, color4DData.getColor4D(0));
+		
+		assertFalse(color4DData.hasChangeBegun());
+		assertFalse(color4DData.undo());
+		
+		color4DData.setChangeHistoryEnabled(false);
+		color4DData.changeBegin();
+		
+		assertFalse(color4DData.changeRollback());
+	}
+	
+	@Test
+	public void testClearDirtyRegions() {
+		final Color4DData color4DData = new Color4DData(2, 2);
+		
+		assertTrue(color4DData.isDirty());
+		assertTrue(color4DData.clearDirtyRegions());
+		
+		assertFalse(color4DData.isDirty());
+		assertFalse(color4DData.clearDirtyRegions());
+		
+		assertTrue(color4DData.setColor4D(Color4D.RED, 0));
+		
+		assertTrue(color4DData.isDirty());
+		assertTrue(color4DData.clearDirtyRegions());
+		
+		assertFalse(color4DData.isDirty());
+	}
+	
+	@Test
+	public void testCompositeDataCompositeOperator() {
+		final Color4DData color4DData = new Color4DData(2, 2, new Color4D(0.0D, 0.0D, 1.0D, 1.0D));
+		final Color4DData color4DDataSource = new Color4DData(2, 2, new Color4D(1.0D, 0.0D, 0.0D, 0.5D));
+		
+		assertTrue(color4DData.composite(color4DDataSource, CompositeOperator.OVER));
+		
+		assertEquals(new Color4D(0.5D, 0.0D, 0.5D, 1.0D), color4DData.getColor4D(0));
+		assertEquals(new Color4D(0.5D, 0.0D, 0.5D, 1.0D), color4DData.getColor4D(3));
+		
+		assertTrue(color4DData.setPremultiplied(true));
+		assertTrue(color4DDataSource.setPremultiplied(true));
+		assertTrue(color4DData.composite(color4DDataSource, CompositeOperator.IN));
+		
+		assertEquals(new Color4D(0.5D, 0.0D, 0.0D, 0.5D), color4DData.getColor4D(0));
+		
+		assertThrows(NullPointerException.class, () -> color4DData.composite(null, CompositeOperator.OVER));
+		assertThrows(NullPointerException.class, () -> color4DData.composite(color4DDataSource, null));
+	}
+	
+	@Test
+	public void testCompositeDataCompositeOperatorRectangle2IPoint2I() {
+		final Color4DData color4DData = new Color4DData(3, 3, new Color4D(0.0D, 0.0D, 1.0D, 1.0D));
+		final Color4DData color4DDataSource = new Color4DData(2, 2, new Color4D(1.0D, 0.0D, 0.0D, 1.0D));
+		
+		color4DData.setChangeHistoryEnabled(true);
+		
+		assertFalse(color4DData.composite(color4DDataSource, CompositeOperator.OVER, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), new Point2I(3, 3)));
+		assertFalse(color4DData.composite(color4DDataSource, CompositeOperator.OVER, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), new Point2I(-2, -2)));
+		assertTrue(color4DData.composite(color4DDataSource, CompositeOperator.OVER, new Rectangle2I(new Point2I(1, 1), new Point2I(5, 5)), new Point2I(2, 2)));
+		
+		assertEquals(new RegionChange(new Color4D[] {new Color4D(1.0D, 0.0D, 0.0D, 1.0D)}, new Color4D[] {new Color4D(0.0D, 0.0D, 1.0D, 1.0D)}, 2, 2, 2, 2).getSizeInBytes(), color4DData.getChangeHistory().get().getSizeInBytes());
+		
+		assertEquals(new Color4D(1.0D, 0.0D, 0.0D, 1.0D), color4DData.getColor4D(2, 2));
+		assertEquals(new Color4D(0.0D, 0.0D, 1.0D, 1.0D), color4DData.getColor4D(1, 1));
+		assertEquals(new Color4D(0.0D, 0.0D, 1.0D, 1.0D), color4DData.getColor4D(1, 2));
+		
+		assertTrue(color4DData.undo());
+		
+		assertEquals(new Color4D(0.0D, 0.0D, 1.0D, 1.0D), color4DData.getColor4D(2, 2));
+		
+		assertThrows(NullPointerException.class, () -> color4DData.composite(null, CompositeOperator.OVER, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), new Point2I()));
+		assertThrows(NullPointerException.class, () -> color4DData.composite(color4DDataSource, null, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), new Point2I()));
+		assertThrows(NullPointerException.class, () -> color4DData.composite(color4DDataSource, CompositeOperator.OVER, null, new Point2I()));
+		assertThrows(NullPointerException.class, () -> color4DData.composite(color4DDataSource, CompositeOperator.OVER, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), null));
+	}
+	
 	@Test
 	public void testConstructor() {
 		final Color4DData color4DData = new Color4DData();
@@ -402,6 +506,23 @@ public final class Color4DDataUnitTests {
 		assertThrows(NullPointerException.class, () -> color4DData.convolve((ConvolutionKernelNF)(null), new int[1]));
 	}
 	
+	@Test
+	public void testConvolveWithCancelledCancellationToken() {
+		final CancellationToken cancellationToken = new CancellationToken();
+		
+		final
+		Color4DData color4DData = new Color4DData(3, 3, Color4D.WHITE);
+		color4DData.setColor4D(Color4D.BLACK, 4);
+		color4DData.setCancellationToken(cancellationToken);
+		
+		cancellationToken.cancel();
+		
+		assertThrows(CancellationException.class, () -> color4DData.convolve(ConvolutionKernelND.BOX_BLUR_3, new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8}));
+		
+		assertEquals(Color4D.BLACK, color4DData.getColor4D(4));
+		assertEquals(Color4D.WHITE, color4DData.getColor4D(0));
+	}
+	
 	@Test
 	public void testCopy() {
 		final
@@ -471,6 +592,132 @@ public final class Color4DDataUnitTests {
 		assertEquals(color4DData, color4DDataCopyD);
 	}
 	
+	@Test
+	public void testCopyIntIntFilter2D() {
+		final Color4DData color4DData = new Color4DData(4, 2);
+		
+		color4DData.setColor4D(Color4D.BLACK, 0, 0);
+		color4DData.setColor4D(Color4D.WHITE, 1, 0);
+		color4DData.setColor4D(Color4D.WHITE, 2, 0);
+		color4DData.setColor4D(Color4D.WHITE, 3, 0);
+		color4DData.setColor4D(Color4D.WHITE, 0, 1);
+		color4DData.setColor4D(Color4D.BLACK, 1, 1);
+		color4DData.setColor4D(Color4D.WHITE, 2, 1);
+		color4DData.setColor4D(Color4D.WHITE, 3, 1);
+		
+		final Data data = color4DData.copy(2, 1, new BoxFilter2D());
+		
+		assertTrue(data instanceof Color4DData);
+		
+		assertEquals(2, data.getResolutionX());
+		assertEquals(1, data.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), data.getColorARGB(0, 0));
+		assertEquals(Color4D.toIntARGB(1.0D, 1.0D, 1.0D, 1.0D), data.getColorARGB(1, 0));
+		
+		assertEquals(4, color4DData.getResolutionX());
+		assertEquals(2, color4DData.getResolutionY());
+		
+		assertFalse(data.isPremultiplied());
+		
+		color4DData.setPremultiplied(true);
+		
+		assertTrue(color4DData.copy(2, 1, new BoxFilter2D()).isPremultiplied());
+		
+		assertThrows(IllegalArgumentException.class, () -> color4DData.copy(0, 1, new BoxFilter2D()));
+		assertThrows(IllegalArgumentException.class, () -> color4DData.copy(1, 0, new BoxFilter2D()));
+		assertThrows(NullPointerException.class, () -> color4DData.copy(2, 1, (Filter2D)(null)));
+	}
+	@Test
+	public void testCopyIntIntFilter2F() {
+		final Color4DData color4DData = new Color4DData(4, 2);
+		
+		color4DData.setColor4D(Color4D.BLACK, 0, 0);
+		color4DData.setColor4D(Color4D.WHITE, 1, 0);
+		color4DData.setColor4D(Color4D.WHITE, 2, 0);
+		color4DData.setColor4D(Color4D.WHITE, 3, 0);
+		color4DData.setColor4D(Color4D.WHITE, 0, 1);
+		color4DData.setColor4D(Color4D.BLACK, 1, 1);
+		color4DData.setColor4D(Color4D.WHITE, 2, 1);
+		color4DData.setColor4D(Color4D.WHITE, 3, 1);
+		
+		final Data data = color4DData.copy(2, 1, new BoxFilter2F());
+		
+		assertTrue(data instanceof Color4DData);
+		
+		assertEquals(2, data.getResolutionX());
+		assertEquals(1, data.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), data.getColorARGB(0, 0));
+		assertEquals(Color4D.toIntARGB(1.0D, 1.0D, 1.0D, 1.0D), data.getColorARGB(1, 0));
+		
+		assertEquals(4, color4DData.getResolutionX());
+		assertEquals(2, color4DData.getResolutionY());
+		
+		assertFalse(data.isPremultiplied());
+		
+		color4DData.setPremultiplied(true);
+		
+		assertTrue(color4DData.copy(2, 1, new BoxFilter2F()).isPremultiplied());
+		
+		assertThrows(IllegalArgumentException.class, () -> color4DData.copy(0, 1, new BoxFilter2F()));
+		assertThrows(IllegalArgumentException.class, () -> color4DData.copy(1, 0, new BoxFilter2F()));
+		assertThrows(NullPointerException.class, () -> color4DData.copy(2, 1, (Filter2F)(null)));
+	}
+	@Test
+	public void testCopyRegionFromDoubleArrayRectangle2I() {
+		final
+		Color4DData color4DData = new Color4DData(2, 2);
+		color4DData.setChangeHistoryEnabled(true);
+		
+		assertTrue(color4DData.copyRegionFrom(new double[] {0.0D, 0.0D, 1.0D, 1.0D, 1.0D, 0.0D, 0.0D, 1.0D}, new Rectangle2I(new Point2I(0, 1), new Point2I(1, 1))));
+		
+		assertEquals(Color4I.WHITE_A_R_G_B, color4DData.getColorARGB(0, 0));
+		assertEquals(Color4I.WHITE_A_R_G_B, color4DData.getColorARGB(1, 0));
+		assertEquals(Color4I.BLUE_A_R_G_B, color4DData.getColorARGB(0, 1));
+		assertEquals(Color4I.RED_A_R_G_B, color4DData.getColorARGB(1, 1));
+		
+		assertTrue(color4DData.undo());
+		
+		assertEquals(Color4I.WHITE_A_R_G_B, color4DData.getColorARGB(0, 1));
+		assertEquals(Color4I.WHITE_A_R_G_B, color4DData.getColorARGB(1, 1));
+		
+		assertFalse(color4DData.undo());
+		
+		assertFalse(color4DData.copyRegionFrom(new double[4], new Rectangle2I(new Point2I(0, 2), new Point2I(0, 2))));
+		
+		assertThrows(IllegalArgumentException.class, () -> color4DData.copyRegionFrom(new double[7], new Rectangle2I(new Point2I(0, 0), new Point2I(1, 0))));
+		assertThrows(NullPointerException.class, () -> color4DData.copyRegionFrom(new double[4], null));
+		assertThrows(NullPointerException.class, () -> color4DData.copyRegionFrom((double[]) null, new Rectangle2I(new Point2I(0, 0), new Point2I(0, 0))));
+	}
+	
+	@Test
+	public void testCopyRegionFromIntArrayRectangle2I() {
+		final
+		Color4DData color4DData = new Color4DData(2, 2);
+		color4DData.setChangeHistoryEnabled(true);
+		
+		assertTrue(color4DData.copyRegionFrom(new int[] {Color4I.RED_A_R_G_B, Color4I.BLUE_A_R_G_B}, new Rectangle2I(new Point2I(1, 0), new Point2I(1, 1))));
+		
+		assertEquals(Color4I.WHITE_A_R_G_B, color4DData.getColorARGB(0, 0));
+		assertEquals(Color4I.RED_A_R_G_B, color4DData.getColorARGB(1, 0));
+		assertEquals(Color4I.WHITE_A_R_G_B, color4DData.getColorARGB(0, 1));
+		assertEquals(Color4I.BLUE_A_R_G_B, color4DData.getColorARGB(1, 1));
+		
+		assertTrue(color4DData.undo());
+		
+		assertEquals(Color4I.WHITE_A_R_G_B, color4DData.getColorARGB(1, 0));
+		assertEquals(Color4I.WHITE_A_R_G_B, color4DData.getColorARGB(1, 1));
+		
+		assertFalse(color4DData.undo());
+		
+		assertFalse(color4DData.copyRegionFrom(new int[1], new Rectangle2I(new Point2I(2, 0), new Point2I(2, 0))));
+		
+		assertThrows(IllegalArgumentException.class, () -> color4DData.copyRegionFrom(new int[1], new Rectangle2I(new Point2I(0, 0), new Point2I(1, 0))));
+		assertThrows(NullPointerException.class, () -> color4DData.copyRegionFrom(new int[1], null));
+		assertThrows(NullPointerException.class, () -> color4DData.copyRegionFrom((int[]) null, new Rectangle2I(new Point2I(0, 0), new Point2I(0, 0))));
+	}
+	
 	@Test
 	public void testCopyShape2I() {
 		final Color4DData color4DData = new Color4DData(10, 10);
@@ -508,6 +755,48 @@ public final class Color4DDataUnitTests {
 		assertThrows(NullPointerException.class, () -> color4DData.copy(null));
 	}
 	
+	@Test
+	public void testCopyRowTo() {
+		final
+		Color4DData color4DData = new Color4DData(2, 2);
+		color4DData.setColor4D(new Color4D(0.1D, 0.2D, 0.3D, 0.4D), 1, 1);
+		
+		final double[] array = new double[8];
+		
+		assertTrue(color4DData.copyRowTo(array, 1));
+		
+		assertArrayEquals(new double[] {1.0D, 1.0D, 1.0D, 1.0D, 0.1D, 0.2D, 0.3D, 0.4D}, array);
+		
+		assertFalse(color4DData.copyRowTo(array, -1));
+		assertFalse(color4DData.copyRowTo(array, 2));
+		
+		assertThrows(IllegalArgumentException.class, () -> color4DData.copyRowTo(new double[7], 0));
+		assertThrows(NullPointerException.class, () -> color4DData.copyRowTo(null, 0));
+	}
+	
+	@Test
+	public void testCreateProgressMonitor() {
+		final List<Double> progress = new ArrayList<>();
+		
+		final
+		Color4DData color4DData = new Color4DData(4, 4);
+		color4DData.setProgressListener(currentProgress -> progress.add(Double.valueOf(currentProgress)));
+		
+		assertTrue(color4DData.rotate(90.0D, false));
+		
+		assertFalse(progress.isEmpty());
+		
+		assertEquals(1.0D, progress.get(progress.size() - 1).doubleValue());
+		
+		for(int i = 1; i < progress.size(); i++) {
+			assertTrue(progress.get(i).doubleValue() > progress.get(i - 1).doubleValue());
+		}
+		
+		final ProgressMonitor progressMonitor = color4DData.createProgressMonitor(4);
+		
+		assertFalse(progressMonitor.isCancelled());
+	}
+	
 	@Test
 	public void testDrawConsumerGraphics2D() {
 		final Color4DData color4DData = new Color4DData(1, 1);
@@ -553,6 +842,49 @@ public final class Color4DDataUnitTests {
 		assertThrows(NullPointerException.class, () -> color4DData.draw(null));
 	}
 	
+	@Test
+	public void testDrawConsumerGraphics2DRegion() {
+		final Color4DData color4DData = new Color4DData(3, 2);
+		
+		final Color4D color = new Color4D(0.123D, 0.456D, 0.789D, 1.0D);
+		
+		assertTrue(color4DData.setColor4D(color, 0, 0));
+		assertTrue(color4DData.setChangeHistoryEnabled(true));
+		
+		color4DData.clearDirtyRegions();
+		color4DData.draw(graphics2D -> {
+			graphics2D.setColor(Color.RED);
+			graphics2D.fillRect(1, 1, 2, 1);
+		});
+		
+		assertEquals(color, color4DData.getColor4D(0, 0));
+		assertEquals(Color4D.WHITE, color4DData.getColor4D(1, 0));
+		assertEquals(Color4D.RED, color4DData.getColor4D(1, 1));
+		assertEquals(Color4D.RED, color4DData.getColor4D(2, 1));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(1, 1), new Point2I(2, 1))), color4DData.getDirtyRegions());
+		
+		final long modificationCount = color4DData.getModificationCount();
+		
+		color4DData.draw(graphics2D -> {
+			graphics2D.setColor(Color.RED);
+			graphics2D.fillRect(1, 1, 2, 1);
+		});
+		
+		assertEquals(modificationCount, color4DData.getModificationCount());
+		
+		assertTrue(color4DData.undo());
+		
+		assertEquals(color, color4DData.getColor4D(0, 0));
+		assertEquals(Color4D.WHITE, color4DData.getColor4D(1, 1));
+		assertEquals(Color4D.WHITE, color4DData.getColor4D(2, 1));
+		
+		assertTrue(color4DData.redo());
+		
+		assertEquals(Color4D.RED, color4DData.getColor4D(1, 1));
+		assertEquals(Color4D.RED, color4DData.getColor4D(2, 1));
+	}
+	
 	@Test
 	public void testEquals() {
 		final Data a = new Color4DData(400, 400);
@@ -651,6 +983,13 @@ public final class Color4DDataUnitTests {
 		assertNotEquals(g, a);
 	}
 	
+	@Test
+	public void testGetBufferedImageView() {
+		final Color4DData color4DData = new Color4DData(2, 1);
+		
+		assertFalse(color4DData.getBufferedImageView().isPresent());
+	}
+	
 	@Test
 	public void testGetChangeHistory() {
 		final Color4DData color4DData = new Color4DData(1, 1);
@@ -1321,6 +1660,126 @@ public final class Color4DDataUnitTests {
 		assertTrue(dataFactory instanceof Color4DDataFactory);
 	}
 	
+	@Test
+	public void testGetDirtyRegions() {
+		final Color4DData color4DData = new Color4DData(8, 8);
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(7, 7))), color4DData.getDirtyRegions());
+		
+		color4DData.clearDirtyRegions();
+		
+		assertTrue(color4DData.getDirtyRegions().isEmpty());
+		
+		assertTrue(color4DData.setColor4D(Color4D.RED, 1, 1));
+		assertTrue(color4DData.setColor4D(Color4D.RED, 2, 1));
+		assertTrue(color4DData.setColor4D(Color4D.RED, 7 * 8 + 7));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(1, 1), new Point2I(2, 1)), new Rectangle2I(new Point2I(7, 7), new Point2I(7, 7))), color4DData.getDirtyRegions());
+		
+		color4DData.clearDirtyRegions();
+		
+		assertTrue(color4DData.swap(0, 1 * 8 + 2));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(0, 0)), new Rectangle2I(new Point2I(2, 1), new Point2I(2, 1))), color4DData.getDirtyRegions());
+		
+		color4DData.clearDirtyRegions();
+		
+		assertTrue(color4DData.convolve(ConvolutionKernelND.BOX_BLUR_3, new int[] {2 * 8 + 3, 4 * 8 + 5, -1}));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(3, 2), new Point2I(5, 4))), color4DData.getDirtyRegions());
+		
+		color4DData.clearDirtyRegions();
+		
+		assertTrue(color4DData.setResolution(4, 2));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(3, 1))), color4DData.getDirtyRegions());
+	}
+	
+	@Test
+	public void testGetDirtyRegionsLong() {
+		final Color4DData color4DData = new Color4DData(8, 8);
+		
+		final long modificationCount = color4DData.getModificationCount();
+		
+		assertTrue(color4DData.getDirtyRegions(modificationCount).isEmpty());
+		
+		assertTrue(color4DData.setColor4D(Color4D.RED, 1, 1));
+		assertTrue(color4DData.setColor4D(Color4D.RED, 6, 6));
+		
+		assertTrue(color4DData.clearDirtyRegions());
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(1, 1), new Point2I(1, 1)), new Rectangle2I(new Point2I(6, 6), new Point2I(6, 6))), color4DData.getDirtyRegions(modificationCount));
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(6, 6), new Point2I(6, 6))), color4DData.getDirtyRegions(modificationCount + 1L));
+		assertEquals(Arrays.asList(), color4DData.getDirtyRegions(color4DData.getModificationCount()));
+		
+		for(int i = 0; i < 100; i++) {
+			assertTrue(color4DData.setColor4D(i / 2 % 2 == 0 ? Color4D.BLUE : Color4D.RED, i % 2 * 7, i % 2 * 7));
+		}
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(7, 7))), color4DData.getDirtyRegions(modificationCount));
+		
+		final long modificationCountContent = color4DData.getModificationCount();
+		
+		assertTrue(color4DData.setContent(new Color4DData(8, 8)));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(7, 7))), color4DData.getDirtyRegions(modificationCountContent));
+		assertEquals(Arrays.asList(), color4DData.getDirtyRegions(color4DData.getModificationCount()));
+	}
+	
+	@Test
+	public void testGetModificationCount() {
+		final Color4DData color4DData = new Color4DData(2, 2);
+		
+		assertTrue(color4DData.setChangeHistoryEnabled(true));
+		
+		assertEquals(0L, color4DData.getModificationCount());
+		
+		assertTrue(color4DData.setColor4D(Color4D.RED, 0));
+		
+		assertEquals(1L, color4DData.getModificationCount());
+		
+		assertFalse(color4DData.setColor4D(Color4D.RED, 4));
+		
+		assertEquals(1L, color4DData.getModificationCount());
+		
+		assertTrue(color4DData.setResolution(3, 3));
+		
+		assertEquals(2L, color4DData.getModificationCount());
+		
+		assertTrue(color4DData.undo());
+		
+		assertEquals(3L, color4DData.getModificationCount());
+		
+		assertTrue(color4DData.undo());
+		
+		assertEquals(4L, color4DData.getModificationCount());
+		
+		assertTrue(color4DData.redo());
+		
+		assertEquals(5L, color4DData.getModificationCount());
+		
+		assertEquals(0L, new Color4DData(color4DData).getModificationCount());
+	}
+	
+	@Test
+	public void testGetPixelModificationCount() {
+		final Color4DData color4DData = new Color4DData(8, 8);
+		
+		assertEquals(0L, color4DData.getPixelModificationCount());
+		
+		assertTrue(color4DData.setColor4D(Color4D.RED, 1, 1));
+		
+		assertEquals(1L, color4DData.getPixelModificationCount());
+		
+		assertTrue(color4DData.convolve(ConvolutionKernelND.BOX_BLUR_3, new int[] {2 * 8 + 3, 4 * 8 + 5, -1}));
+		
+		assertEquals(3L, color4DData.getPixelModificationCount());
+		
+		assertTrue(color4DData.setResolution(4, 2));
+		
+		assertEquals(11L, color4DData.getPixelModificationCount());
+	}
+	
 	@Test
 	public void testGetResolution() {
 		final Color4DData color4DData = new Color4DData(2, 4);
@@ -1497,6 +1956,97 @@ public final class Color4DDataUnitTests {
 		assertTrue(color4DData.redo());
 	}
 	
+	@Test
+	public void testRegionChangeConstructor() {
+		final RegionChange regionChange = new RegionChange(new Color4D[] {Color4D.BLACK, Color4D.BLACK}, new Color4D[] {Color4D.WHITE, Color4D.WHITE}, 1, 2, 2, 2);
+		
+		assertArrayEquals(new Color4D[] {Color4D.BLACK, Color4D.BLACK}, regionChange.getColorsRedo());
+		assertArrayEquals(new Color4D[] {Color4D.WHITE, Color4D.WHITE}, regionChange.getColorsUndo());
+		
+		assertEquals(2, regionChange.getMaximumX());
+		assertEquals(2, regionChange.getMaximumY());
+		assertEquals(1, regionChange.getMinimumX());
+		assertEquals(2, regionChange.getMinimumY());
+		
+		assertThrows(NullPointerException.class, () -> new RegionChange(new Color4D[] {null}, new Color4D[] {Color4D.WHITE}, 0, 0, 0, 0));
+		assertThrows(NullPointerException.class, () -> new RegionChange(null, new Color4D[] {Color4D.WHITE}, 0, 0, 0, 0));
+		assertThrows(NullPointerException.class, () -> new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {null}, 0, 0, 0, 0));
+		assertThrows(NullPointerException.class, () -> new RegionChange(new Color4D[] {Color4D.BLACK}, null, 0, 0, 0, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {Color4D.WHITE}, -1, 0, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {Color4D.WHITE}, 0, -1, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {Color4D.WHITE}, 1, 0, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {Color4D.WHITE}, 0, 1, 0, 0));
+	}
+	
+	@Test
+	public void testRegionChangeEquals() {
+		final RegionChange a = new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {Color4D.WHITE}, 1, 1, 1, 1);
+		final RegionChange b = new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {Color4D.WHITE}, 1, 1, 1, 1);
+		final RegionChange c = new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {Color4D.WHITE}, 1, 1, 1, 2);
+		final RegionChange d = new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {Color4D.WHITE}, 1, 1, 2, 1);
+		final RegionChange e = new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {Color4D.WHITE}, 1, 0, 1, 1);
+		final RegionChange f = new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {Color4D.WHITE}, 0, 1, 1, 1);
+		final RegionChange g = new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {Color4D.BLACK}, 1, 1, 1, 1);
+		final RegionChange h = new RegionChange(new Color4D[] {Color4D.WHITE}, new Color4D[] {Color4D.WHITE}, 1, 1, 1, 1);
+		final RegionChange i = null;
+		
+		assertEquals(a, a);
+		assertEquals(a, b);
+		assertEquals(b, a);
+		
+		assertNotEquals(a, c);
+		assertNotEquals(c, a);
+		assertNotEquals(a, d);
+		assertNotEquals(d, a);
+		assertNotEquals(a, e);
+		assertNotEquals(e, a);
+		assertNotEquals(a, f);
+		assertNotEquals(f, a);
+		assertNotEquals(a, g);
+		assertNotEquals(g, a);
+		assertNotEquals(a, h);
+		assertNotEquals(h, a);
+		assertNotEquals(a, i);
+		assertNotEquals(i, a);
+	}
+	
+	@Test
+	public void testRegionChangeHashCode() {
+		final RegionChange a = new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {Color4D.WHITE}, 1, 1, 1, 1);
+		final RegionChange b = new RegionChange(new Color4D[] {Color4D.BLACK}, new Color4D[] {Color4D.WHITE}, 1, 1, 1, 1);
+		
+		assertEquals(a.hashCode(), a.hashCode());
+		assertEquals(a.hashCode(), b.hashCode());
+	}
+	
+	@Test
+	public void testRegionChangeRedoAndUndo() {
+		final Color4DData color4DData = new Color4DData(3, 3);
+		final Color4FData color4FData = new Color4FData(3, 3);
+		
+		final RegionChange regionChange = new RegionChange(new Color4D[] {Color4D.BLACK, Color4D.RED}, new Color4D[] {Color4D.WHITE, Color4D.WHITE}, 1, 2, 2, 2);
+		
+		regionChange.redo(color4DData);
+		regionChange.redo(color4FData);
+		
+		assertEquals(Color4D.BLACK, color4DData.getColor4D(1, 2));
+		assertEquals(Color4D.RED, color4DData.getColor4D(2, 2));
+		assertEquals(Color4D.WHITE, color4DData.getColor4D(0, 2));
+		assertEquals(Color4D.WHITE, color4DData.getColor4D(1, 1));
+		assertEquals(Color4F.WHITE, color4FData.getColor4F(1, 2));
+		
+		regionChange.undo(color4DData);
+		regionChange.undo(color4FData);
+		
+		assertEquals(Color4D.WHITE, color4DData.getColor4D(1, 2));
+		assertEquals(Color4D.WHITE, color4DData.getColor4D(2, 2));
+		assertEquals(Color4F.WHITE, color4FData.getColor4F(1, 2));
+		
+		assertThrows(NullPointerException.class, () -> regionChange.redo(null));
+		assertThrows(NullPointerException.class, () -> regionChange.undo(null));
+	}
+	
 	@Test
 	public void testRotateDoubleBoolean() {
 		final
@@ -2057,6 +2607,29 @@ public final class Color4DDataUnitTests {
 		assertFalse(color4DData.undo());
 	}
 	
+	@Test
+	public void testRotateWithCancelledCancellationToken() {
+		final CancellationToken cancellationToken = new CancellationToken();
+		
+		final
+		Color4DData color4DData = new Color4DData(4, 2);
+		color4DData.setCancellationToken(cancellationToken);
+		
+		cancellationToken.cancel();
+		
+		assertThrows(CancellationException.class, () -> color4DData.rotate(90.0D, false));
+		assertThrows(CancellationException.class, () -> color4DData.scale(8, 4));
+		
+		assertEquals(4, color4DData.getResolutionX());
+		assertEquals(2, color4DData.getResolutionY());
+		
+		assertTrue(color4DData.setCancellationToken(null));
+		assertTrue(color4DData.rotate(90.0D, false));
+		
+		assertEquals(2, color4DData.getResolutionX());
+		assertEquals(4, color4DData.getResolutionY());
+	}
+	
 	@Test
 	public void testSave() {
 		final Color4DData color4DData = new Color4DData(1, 1);
@@ -2200,6 +2773,132 @@ public final class Color4DDataUnitTests {
 		assertEquals(Color4D.TRANSPARENT, color4DData.getColor4D(1));
 	}
 	
+	@Test
+	public void testScaleIntIntBilinearInterpolation() {
+		final Color4DData color4DData = new Color4DData(16, 12);
+		
+		for(int index = 0; index < color4DData.getResolution(); index++) {
+			color4DData.setColor4D(new Color4D(index / 192.0D, 1.0D - index / 192.0D, (index % 7) / 6.0D, (index % 3) / 2.0D), index);
+		}
+		
+		final Color4DData copy = new Color4DData(color4DData);
+		
+		assertTrue(color4DData.scale(37, 5));
+		
+		final double scaleX = (double)(16) / (double)(37);
+		final double scaleY = (double)(12) / (double)(5);
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 37; x++) {
+				assertEquals(copy.getColor4D(x * scaleX, y * scaleY), color4DData.getColor4D(x, y));
+			}
+		}
+	}
+	
+	@Test
+	public void testScaleIntIntFilter2D() {
+		final Color4DData color4DData = new Color4DData(4, 2);
+		
+		color4DData.setColor4D(Color4D.BLACK, 0, 0);
+		color4DData.setColor4D(Color4D.WHITE, 1, 0);
+		color4DData.setColor4D(Color4D.WHITE, 2, 0);
+		color4DData.setColor4D(Color4D.WHITE, 3, 0);
+		color4DData.setColor4D(Color4D.WHITE, 0, 1);
+		color4DData.setColor4D(Color4D.BLACK, 1, 1);
+		color4DData.setColor4D(Color4D.WHITE, 2, 1);
+		color4DData.setColor4D(Color4D.WHITE, 3, 1);
+		
+		assertTrue(color4DData.scale(2, 1, new BoxFilter2D()));
+		
+		assertEquals(2, color4DData.getResolutionX());
+		assertEquals(1, color4DData.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), color4DData.getColorARGB(0, 0));
+		assertEquals(Color4D.toIntARGB(1.0D, 1.0D, 1.0D, 1.0D), color4DData.getColorARGB(1, 0));
+		
+		assertFalse(color4DData.scale(2, 1, new BoxFilter2D()));
+		assertFalse(color4DData.scale(0, 1, new BoxFilter2D()));
+		assertFalse(color4DData.scale(1, 0, new BoxFilter2D()));
+		assertFalse(color4DData.scale(Integer.MAX_VALUE, Integer.MAX_VALUE, new BoxFilter2D()));
+		
+		final Color4DData color4DDataConstant = new Color4DData(7, 5, Color4D.RED);
+		
+		assertTrue(color4DDataConstant.scale(19, 11, new LanczosSincFilter2D()));
+		
+		for(int index = 0; index < color4DDataConstant.getResolution(); index++) {
+			assertEquals(Color4D.RED.toIntARGB(), color4DDataConstant.getColorARGB(index));
+		}
+		
+		assertTrue(color4DDataConstant.scale(3, 2, new MitchellFilter2D()));
+		
+		for(int index = 0; index < color4DDataConstant.getResolution(); index++) {
+			assertEquals(Color4D.RED.toIntARGB(), color4DDataConstant.getColorARGB(index));
+		}
+		
+		assertTrue(color4DDataConstant.scale(4, 4, new CatmullRomFilter2D()));
+		
+		for(int index = 0; index < color4DDataConstant.getResolution(); index++) {
+			assertEquals(Color4D.RED.toIntARGB(), color4DDataConstant.getColorARGB(index));
+		}
+		
+		assertThrows(NullPointerException.class, () -> color4DData.scale(1, 1, (Filter2D)(null)));
+	}
+	
+	@Test
+	public void testScaleIntIntFilter2F() {
+		final Color4DData color4DData = new Color4DData(4, 2);
+		
+		color4DData.setColor4D(Color4D.BLACK, 0, 0);
+		color4DData.setColor4D(Color4D.WHITE, 1, 0);
+		color4DData.setColor4D(Color4D.WHITE, 2, 0);
+		color4DData.setColor4D(Color4D.WHITE, 3, 0);
+		color4DData.setColor4D(Color4D.WHITE, 0, 1);
+		color4DData.setColor4D(Color4D.BLACK, 1, 1);
+		color4DData.setColor4D(Color4D.WHITE, 2, 1);
+		color4DData.setColor4D(Color4D.WHITE, 3, 1);
+		
+		assertTrue(color4DData.scale(2, 1, new BoxFilter2F()));
+		
+		assertEquals(2, color4DData.getResolutionX());
+		assertEquals(1, color4DData.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), color4DData.getColorARGB(0, 0));
+		assertEquals(Color4D.toIntARGB(1.0D, 1.0D, 1.0D, 1.0D), color4DData.getColorARGB(1, 0));
+		
+		assertFalse(color4DData.scale(2, 1, new BoxFilter2F()));
+		assertFalse(color4DData.scale(0, 1, new BoxFilter2F()));
+		assertFalse(color4DData.scale(1, 0, new BoxFilter2F()));
+		assertFalse(color4DData.scale(Integer.MAX_VALUE, Integer.MAX_VALUE, new BoxFilter2F()));
+		
+		final Color4DData color4DDataConstant = new Color4DData(7, 5, Color4D.RED);
+		
+		assertTrue(color4DDataConstant.scale(19, 11, new LanczosSincFilter2F()));
+		
+		for(int index = 0; index < color4DDataConstant.getResolution(); index++) {
+			assertEquals(Color4D.RED.toIntARGB(), color4DDataConstant.getColorARGB(index));
+		}
+		
+		assertThrows(NullPointerException.class, () -> color4DData.scale(1, 1, (Filter2F)(null)));
+	}
+	
+	@Test
+	public void testSetCancellationTokenAndGetCancellationToken() {
+		final CancellationToken cancellationToken = new CancellationToken();
+		
+		final Color4DData color4DData = new Color4DData();
+		
+		assertEquals(Optional.empty(), color4DData.getCancellationToken());
+		
+		assertTrue(color4DData.setCancellationToken(cancellationToken));
+		assertFalse(color4DData.setCancellationToken(cancellationToken));
+		
+		assertEquals(Optional.of(cancellationToken), color4DData.getCancellationToken());
+		
+		assertTrue(color4DData.setCancellationToken(null));
+		
+		assertEquals(Optional.empty(), color4DData.getCancellationToken());
+	}
+	
 	@Test
 	public void testSetChangeHistoryEnabled() {
 		final Color4DData color4DData = new Color4DData(1, 1);
@@ -2534,6 +3233,59 @@ public final class Color4DDataUnitTests {
 		assertThrows(NullPointerException.class, () -> a.setContent(null));
 	}
 	
+	@Test
+	public void testSetPremultiplied() {
+		final Color4DData color4DData = new Color4DData(2, 1, new Color4D(1.0D, 1.0D, 1.0D, 0.5D));
+		
+		color4DData.setChangeHistoryEnabled(true);
+		
+		assertFalse(color4DData.isPremultiplied());
+		assertFalse(color4DData.setPremultiplied(false));
+		
+		assertTrue(color4DData.setPremultiplied(true));
+		assertTrue(color4DData.isPremultiplied());
+		assertTrue(color4DData.copy().isPremultiplied());
+		
+		assertEquals(new Color4D(0.5D, 0.5D, 0.5D, 0.5D), color4DData.getColor4D(0));
+		
+		assertEquals(BufferedImage.TYPE_INT_ARGB_PRE, color4DData.toBufferedImage(false).getType());
+		assertEquals(0xFFFFFFFF, color4DData.toBufferedImage(true).getRGB(0, 0));
+		
+		assertTrue(color4DData.undo());
+		
+		assertFalse(color4DData.isPremultiplied());
+		
+		assertEquals(new Color4D(1.0D, 1.0D, 1.0D, 0.5D), color4DData.getColor4D(0));
+		
+		assertTrue(color4DData.redo());
+		
+		assertTrue(color4DData.isPremultiplied());
+		
+		assertTrue(color4DData.setPremultiplied(false));
+		
+		assertFalse(color4DData.isPremultiplied());
+		
+		assertEquals(new Color4D(1.0D, 1.0D, 1.0D, 0.5D), color4DData.getColor4D(0));
+	}
+	
+	@Test
+	public void testSetProgressListenerAndGetProgressListener() {
+		final ProgressListener progressListener = progress -> {};
+		
+		final Color4DData color4DData = new Color4DData();
+		
+		assertEquals(Optional.empty(), color4DData.getProgressListener());
+		
+		assertTrue(color4DData.setProgressListener(progressListener));
+		assertFalse(color4DData.setProgressListener(progressListener));
+		
+		assertEquals(Optional.of(progressListener), color4DData.getProgressListener());
+		
+		assertTrue(color4DData.setProgressListener(null));
+		
+		assertEquals(Optional.empty(), color4DData.getProgressListener());
+	}
+	
 	@Test
 	public void testSetResolution() {
 		final Color4DData color4DData = new Color4DData(1, 1, Color4D.BLACK);
@@ -2821,6 +3573,44 @@ public final class Color4DDataUnitTests {
 		}
 	}
 	
+	@Test
+	public void testToBufferedImageBufferedImageBoolean() {
+		final Color4DData color4DData = new Color4DData(2, 2);
+		
+		final BufferedImage bufferedImageA = color4DData.toBufferedImage(null, false);
+		
+		assertFalse(color4DData.isDirty());
+		
+		assertEquals(BufferedImage.TYPE_INT_ARGB, bufferedImageA.getType());
+		assertEquals(color4DData.getColorARGB(1, 1), bufferedImageA.getRGB(1, 1));
+		
+		assertTrue(color4DData.setColor4D(Color4D.RED, 1, 1));
+		
+		final BufferedImage bufferedImageB = color4DData.toBufferedImage(bufferedImageA, false);
+		
+		assertFalse(color4DData.isDirty());
+		
+		assertTrue(bufferedImageA == bufferedImageB);
+		
+		assertEquals(Color4D.RED.toIntARGB(), bufferedImageB.getRGB(1, 1));
+		assertEquals(color4DData.getColorARGB(0, 0), bufferedImageB.getRGB(0, 0));
+		
+		final BufferedImage bufferedImageC = color4DData.toBufferedImage(bufferedImageB, true);
+		
+		assertTrue(bufferedImageB != bufferedImageC);
+		
+		assertEquals(BufferedImage.TYPE_INT_RGB, bufferedImageC.getType());
+		
+		assertTrue(color4DData.setResolution(3, 3));
+		
+		final BufferedImage bufferedImageD = color4DData.toBufferedImage(bufferedImageC, true);
+		
+		assertTrue(bufferedImageC != bufferedImageD);
+		
+		assertEquals(3, bufferedImageD.getWidth());
+		assertEquals(3, bufferedImageD.getHeight());
+	}
+	
 	@Test
 	public void testUpdatePixel() {
 		final Color4DData color4DData = new Color4DData(1, 1);
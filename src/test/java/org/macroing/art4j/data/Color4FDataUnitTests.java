@@ -28,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.util.Arrays;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -39,9 +40,19 @@ import org.macroing.art4j.color.Color4D;
 import org.macroing.art4j.color.Color4F;
 import org.macroing.art4j.color.Color4I;
 import org.macroing.art4j.data.Color4FData.PixelChange;
+import org.macroing.art4j.data.Color4FData.RegionChange;
 import org.macroing.art4j.data.Color4FData.StateChange;
+import org.macroing.art4j.filter.BoxFilter2D;
+import org.macroing.art4j.filter.BoxFilter2F;
+import org.macroing.art4j.filter.CatmullRomFilter2D;
+import org.macroing.art4j.filter.Filter2D;
+import org.macroing.art4j.filter.Filter2F;
+import org.macroing.art4j.filter.LanczosSincFilter2D;
+import org.macroing.art4j.filter.LanczosSincFilter2F;
+import org.macroing.art4j.filter.MitchellFilter2D;
 import org.macroing.art4j.kernel.ConvolutionKernelND;
 import org.macroing.art4j.kernel.ConvolutionKernelNF;
+import org.macroing.art4j.pixel.CompositeOperator;
 import org.macroing.art4j.pixel.PixelTransformer;
 import org.macroing.geo4j.common.Point2I;
 import org.macroing.geo4j.shape.rectangle.Rectangle2I;
@@ -125,6 +136,71 @@ public final class Color4FDataUnitTests {
 		assertTrue(color4FData.changeEnd());
 	}
 	
+	@Test
+	public void testClearDirtyRegions() {
+		final Color4FData color4FData = new Color4FData(2, 2);
+		
+		assertTrue(color4FData.isDirty());
+		assertTrue(color4FData.clearDirtyRegions());
+		
+		assertFalse(color4FData.isDirty());
+		assertFalse(color4FData.clearDirtyRegions());
+		
+		assertTrue(color4FData.setColor4D(Color4D.RED, 0));
+		
+		assertTrue(color4FData.isDirty());
+		assertTrue(color4FData.clearDirtyRegions());
+		
+		assertFalse(color4FData.isDirty());
+	}
+	
+	@Test
+	public void testCompositeDataCompositeOperator() {
+		final Color4FData color4FData = new Color4FData(2, 2, new Color4F(0.0F, 0.0F, 1.0F, 1.0F));
+		final Color4FData color4FDataSource = new Color4FData(2, 2, new Color4F(1.0F, 0.0F, 0.0F, 0.5F));
+		
+		assertTrue(color4FData.composite(color4FDataSource, CompositeOperator.OVER));
+		
+		assertEquals(new Color4F(0.5F, 0.0F, 0.5F, 1.0F), color4FData.getColor4F(0));
+		assertEquals(new Color4F(0.5F, 0.0F, 0.5F, 1.0F), color4FData.getColor4F(3));
+		
+		assertTrue(color4FData.setPremultiplied(true));
+		assertTrue(color4FDataSource.setPremultiplied(true));
+		assertTrue(color4FData.composite(color4FDataSource, CompositeOperator.IN));
+		
+		assertEquals(new Color4F(0.5F, 0.0F, 0.0F, 0.5F), color4FData.getColor4F(0));
+		
+		assertThrows(NullPointerException.class, () -> color4FData.composite(null, CompositeOperator.OVER));
+		assertThrows(NullPointerException.class, () -> color4FData.composite(color4FDataSource, null));
+	}
+	
+	@Test
+	public void testCompositeDataCompositeOperatorRectangle2IPoint2I() {
+		final Color4FData color4FData = new Color4FData(3, 3, new Color4F(0.0F, 0.0F, 1.0F, 1.0F));
+		final Color4FData color4FDataSource = new Color4FData(2, 2, new Color4F(1.0F, 0.0F, 0.0F, 1.0F));
+		
+		color4FData.setChangeHistoryEnabled(true);
+		
+		assertFalse(color4FData.composite(color4FDataSource, CompositeOperator.OVER, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), new Point2I(3, 3)));
+		assertFalse(color4FData.composite(color4FDataSource, CompositeOperator.OVER, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), new Point2I(-2, -2)));
+		assertTrue(color4FData.composite(color4FDataSource, CompositeOperator.OVER, new Rectangle2I(new Point2I(1, 1), new Point2I(5, 5)), new Point2I(2, 2)));
+		
+		assertEquals(new RegionChange(new Color4F[] {new Color4F(1.0F, 0.0F, 0.0F, 1.0F)}, new Color4F[] {new Color4F(0.0F, 0.0F, 1.0F, 1.0F)}, 2, 2, 2, 2).getSizeInBytes(), color4FData.getChangeHistory().get().getSizeInBytes());
+		
+		assertEquals(new Color4F(1.0F, 0.0F, 0.0F, 1.0F), color4FData.getColor4F(2, 2));
+		assertEquals(new Color4F(0.0F, 0.0F, 1.0F, 1.0F), color4FData.getColor4F(1, 1));
+		assertEquals(new Color4F(0.0F, 0.0F, 1.0F, 1.0F), color4FData.getColor4F(1, 2));
+		
+		assertTrue(color4FData.undo());
+		
+		assertEquals(new Color4F(0.0F, 0.0F, 1.0F, 1.0F), color4FData.getColor4F(2, 2));
+		
+		assertThrows(NullPointerException.class, () -> color4FData.composite(null, CompositeOperator.OVER, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), new Point2I()));
+		assertThrows(NullPointerException.class, () -> color4FData.composite(color4FDataSource, null, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), new Point2I()));
+		assertThrows(NullPointerException.class, () -> color4FData.composite(color4FDataSource, CompositeOperator.OVER, null, new Point2I()));
+		assertThrows(NullPointerException.class, () -> color4FData.composite(color4FDataSource, CompositeOperator.OVER, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), null));
+	}
+	
 	@Test
 	public void testConstructor() {
 		final Color4FData color4FData = new Color4FData();
@@ -471,6 +547,132 @@ public final class Color4FDataUnitTests {
 		assertEquals(color4FData, color4FDataCopyD);
 	}
 	
+	@Test
+	public void testCopyIntIntFilter2D() {
+		final Color4FData color4FData = new Color4FData(4, 2);
+		
+		color4FData.setColor4D(Color4D.BLACK, 0, 0);
+		color4FData.setColor4D(Color4D.WHITE, 1, 0);
+		color4FData.setColor4D(Color4D.WHITE, 2, 0);
+		color4FData.setColor4D(Color4D.WHITE, 3, 0);
+		color4FData.setColor4D(Color4D.WHITE, 0, 1);
+		color4FData.setColor4D(Color4D.BLACK, 1, 1);
+		color4FData.setColor4D(Color4D.WHITE, 2, 1);
+		color4FData.setColor4D(Color4D.WHITE, 3, 1);
+		
+		final Data data = color4FData.copy(2, 1, new BoxFilter2D());
+		
+		assertTrue(data instanceof Color4FData);
+		
+		assertEquals(2, data.getResolutionX());
+		assertEquals(1, data.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), data.getColorARGB(0, 0));
+		assertEquals(Color4D.toIntARGB(1.0D, 1.0D, 1.0D, 1.0D), data.getColorARGB(1, 0));
+		
+		assertEquals(4, color4FData.getResolutionX());
+		assertEquals(2, color4FData.getResolutionY());
+		
+		assertFalse(data.isPremultiplied());
+		
+		color4FData.setPremultiplied(true);
+		
+		assertTrue(color4FData.copy(2, 1, new BoxFilter2D()).isPremultiplied());
+		
+		assertThrows(IllegalArgumentException.class, () -> color4FData.copy(0, 1, new BoxFilter2D()));
+		assertThrows(IllegalArgumentException.class, () -> color4FData.copy(1, 0, new BoxFilter2D()));
+		assertThrows(NullPointerException.class, () -> color4FData.copy(2, 1, (Filter2D)(null)));
+	}
+	@Test
+	public void testCopyIntIntFilter2F() {
+		final Color4FData color4FData = new Color4FData(4, 2);
+		
+		color4FData.setColor4D(Color4D.BLACK, 0, 0);
+		color4FData.setColor4D(Color4D.WHITE, 1, 0);
+		color4FData.setColor4D(Color4D.WHITE, 2, 0);
+		color4FData.setColor4D(Color4D.WHITE, 3, 0);
+		color4FData.setColor4D(Color4D.WHITE, 0, 1);
+		color4FData.setColor4D(Color4D.BLACK, 1, 1);
+		color4FData.setColor4D(Color4D.WHITE, 2, 1);
+		color4FData.setColor4D(Color4D.WHITE, 3, 1);
+		
+		final Data data = color4FData.copy(2, 1, new BoxFilter2F());
+		
+		assertTrue(data instanceof Color4FData);
+		
+		assertEquals(2, data.getResolutionX());
+		assertEquals(1, data.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), data.getColorARGB(0, 0));
+		assertEquals(Color4D.toIntARGB(1.0D, 1.0D, 1.0D, 1.0D), data.getColorARGB(1, 0));
+		
+		assertEquals(4, color4FData.getResolutionX());
+		assertEquals(2, color4FData.getResolutionY());
+		
+		assertFalse(data.isPremultiplied());
+		
+		color4FData.setPremultiplied(true);
+		
+		assertTrue(color4FData.copy(2, 1, new BoxFilter2F()).isPremultiplied());
+		
+		assertThrows(IllegalArgumentException.class, () -> color4FData.copy(0, 1, new BoxFilter2F()));
+		assertThrows(IllegalArgumentException.class, () -> color4FData.copy(1, 0, new BoxFilter2F()));
+		assertThrows(NullPointerException.class, () -> color4FData.copy(2, 1, (Filter2F)(null)));
+	}
+	@Test
+	public void testCopyRegionFromDoubleArrayRectangle2I() {
+		final
+		Color4FData color4FData = new Color4FData(2, 2);
+		color4FData.setChangeHistoryEnabled(true);
+		
+		assertTrue(color4FData.copyRegionFrom(new double[] {0.0D, 0.0D, 1.0D, 1.0D, 1.0D, 0.0D, 0.0D, 1.0D}, new Rectangle2I(new Point2I(0, 1), new Point2I(1, 1))));
+		
+		assertEquals(Color4I.WHITE_A_R_G_B, color4FData.getColorARGB(0, 0));
+		assertEquals(Color4I.WHITE_A_R_G_B, color4FData.getColorARGB(1, 0));
+		assertEquals(Color4I.BLUE_A_R_G_B, color4FData.getColorARGB(0, 1));
+		assertEquals(Color4I.RED_A_R_G_B, color4FData.getColorARGB(1, 1));
+		
+		assertTrue(color4FData.undo());
+		
+		assertEquals(Color4I.WHITE_A_R_G_B, color4FData.getColorARGB(0, 1));
+		assertEquals(Color4I.WHITE_A_R_G_B, color4FData.getColorARGB(1, 1));
+		
+		assertFalse(color4FData.undo());
+		
+		assertFalse(color4FData.copyRegionFrom(new double[4], new Rectangle2I(new Point2I(0, 2), new Point2I(0, 2))));
+		
+		assertThrows(IllegalArgumentException.class, () -> color4FData.copyRegionFrom(new double[7], new Rectangle2I(new Point2I(0, 0), new Point2I(1, 0))));
+		assertThrows(NullPointerException.class, () -> color4FData.copyRegionFrom(new double[4], null));
+		assertThrows(NullPointerException.class, () -> color4FData.copyRegionFrom((double[]) null, new Rectangle2I(new Point2I(0, 0), new Point2I(0, 0))));
+	}
+	
+	@Test
+	public void testCopyRegionFromIntArrayRectangle2I() {
+		final
+		Color4FData color4FData = new Color4FData(2, 2);
+		color4FData.setChangeHistoryEnabled(true);
+		
+		assertTrue(color4FData.copyRegionFrom(new int[] {Color4I.RED_A_R_G_B, Color4I.BLUE_A_R_G_B}, new Rectangle2I(new Point2I(1, 0), new Point2I(1, 1))));
+		
+		assertEquals(Color4I.WHITE_A_R_G_B, color4FData.getColorARGB(0, 0));
+		assertEquals(Color4I.RED_A_R_G_B, color4FData.getColorARGB(1, 0));
+		assertEquals(Color4I.WHITE_A_R_G_B, color4FData.getColorARGB(0, 1));
+		assertEquals(Color4I.BLUE_A_R_G_B, color4FData.getColorARGB(1, 1));
+		
+		assertTrue(color4FData.undo());
+		
+		assertEquals(Color4I.WHITE_A_R_G_B, color4FData.getColorARGB(1, 0));
+		assertEquals(Color4I.WHITE_A_R_G_B, color4FData.getColorARGB(1, 1));
+		
+		assertFalse(color4FData.undo());
+		
+		assertFalse(color4FData.copyRegionFrom(new int[1], new Rectangle2I(new Point2I(2, 0), new Point2I(2, 0))));
+		
+		assertThrows(IllegalArgumentException.class, () -> color4FData.copyRegionFrom(new int[1], new Rectangle2I(new Point2I(0, 0), new Point2I(1, 0))));
+		assertThrows(NullPointerException.class, () -> color4FData.copyRegionFrom(new int[1], null));
+		assertThrows(NullPointerException.class, () -> color4FData.copyRegionFrom((int[]) null, new Rectangle2I(new Point2I(0, 0), new Point2I(0, 0))));
+	}
+	
 	@Test
 	public void testCopyShape2I() {
 		final Color4FData color4FData = new Color4FData(10, 10);
@@ -508,6 +710,25 @@ public final class Color4FDataUnitTests {
 		assertThrows(NullPointerException.class, () -> color4FData.copy(null));
 	}
 	
+	@Test
+	public void testCopyRowTo() {
+		final
+		Color4FData color4FData = new Color4FData(2, 2);
+		color4FData.setColor4F(new Color4F(0.5F, 0.25F, 0.125F, 1.0F), 1, 1);
+		
+		final double[] array = new double[8];
+		
+		assertTrue(color4FData.copyRowTo(array, 1));
+		
+		assertArrayEquals(new double[] {1.0D, 1.0D, 1.0D, 1.0D, 0.5D, 0.25D, 0.125D, 1.0D}, array);
+		
+		assertFalse(color4FData.copyRowTo(array, -1));
+		assertFalse(color4FData.copyRowTo(array, 2));
+		
+		assertThrows(IllegalArgumentException.class, () -> color4FData.copyRowTo(new double[7], 0));
+		assertThrows(NullPointerException.class, () -> color4FData.copyRowTo(null, 0));
+	}
+	
 	@Test
 	public void testDrawConsumerGraphics2D() {
 		final Color4FData color4FData = new Color4FData(1, 1);
@@ -553,6 +774,49 @@ public final class Color4FDataUnitTests {
 		assertThrows(NullPointerException.class, () -> color4FData.draw(null));
 	}
 	
+	@Test
+	public void testDrawConsumerGraphics2DRegion() {
+		final Color4FData color4FData = new Color4FData(3, 2);
+		
+		final Color4F color = new Color4F(0.123F, 0.456F, 0.789F, 1.0F);
+		
+		assertTrue(color4FData.setColor4F(color, 0, 0));
+		assertTrue(color4FData.setChangeHistoryEnabled(true));
+		
+		color4FData.clearDirtyRegions();
+		color4FData.draw(graphics2D -> {
+			graphics2D.setColor(Color.RED);
+			graphics2D.fillRect(1, 1, 2, 1);
+		});
+		
+		assertEquals(color, color4FData.getColor4F(0, 0));
+		assertEquals(Color4F.WHITE, color4FData.getColor4F(1, 0));
+		assertEquals(Color4F.RED, color4FData.getColor4F(1, 1));
+		assertEquals(Color4F.RED, color4FData.getColor4F(2, 1));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(1, 1), new Point2I(2, 1))), color4FData.getDirtyRegions());
+		
+		final long modificationCount = color4FData.getModificationCount();
+		
+		color4FData.draw(graphics2D -> {
+			graphics2D.setColor(Color.RED);
+			graphics2D.fillRect(1, 1, 2, 1);
+		});
+		
+		assertEquals(modificationCount, color4FData.getModificationCount());
+		
+		assertTrue(color4FData.undo());
+		
+		assertEquals(color, color4FData.getColor4F(0, 0));
+		assertEquals(Color4F.WHITE, color4FData.getColor4F(1, 1));
+		assertEquals(Color4F.WHITE, color4FData.getColor4F(2, 1));
+		
+		assertTrue(color4FData.redo());
+		
+		assertEquals(Color4F.RED, color4FData.getColor4F(1, 1));
+		assertEquals(Color4F.RED, color4FData.getColor4F(2, 1));
+	}
+	
 	@Test
 	public void testEquals() {
 		final Data a = new Color4FData(400, 400);
@@ -651,6 +915,13 @@ public final class Color4FDataUnitTests {
 		assertNotEquals(g, a);
 	}
 	
+	@Test
+	public void testGetBufferedImageView() {
+		final Color4FData color4FData = new Color4FData(2, 1);
+		
+		assertFalse(color4FData.getBufferedImageView().isPresent());
+	}
+	
 	@Test
 	public void testGetChangeHistory() {
 		final Color4FData color4FData = new Color4FData(1, 1);
@@ -1321,6 +1592,107 @@ public final class Color4FDataUnitTests {
 		assertTrue(dataFactory instanceof Color4FDataFactory);
 	}
 	
+	@Test
+	public void testGetDirtyRegions() {
+		final Color4FData color4FData = new Color4FData(8, 8);
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(7, 7))), color4FData.getDirtyRegions());
+		
+		color4FData.clearDirtyRegions();
+		
+		assertTrue(color4FData.getDirtyRegions().isEmpty());
+		
+		assertTrue(color4FData.setColor4D(Color4D.RED, 1, 1));
+		assertTrue(color4FData.setColor4D(Color4D.RED, 2, 1));
+		assertTrue(color4FData.setColor4D(Color4D.RED, 7 * 8 + 7));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(1, 1), new Point2I(2, 1)), new Rectangle2I(new Point2I(7, 7), new Point2I(7, 7))), color4FData.getDirtyRegions());
+		
+		color4FData.clearDirtyRegions();
+		
+		assertTrue(color4FData.swap(0, 1 * 8 + 2));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(0, 0)), new Rectangle2I(new Point2I(2, 1), new Point2I(2, 1))), color4FData.getDirtyRegions());
+		
+		color4FData.clearDirtyRegions();
+		
+		assertTrue(color4FData.convolve(ConvolutionKernelND.BOX_BLUR_3, new int[] {2 * 8 + 3, 4 * 8 + 5, -1}));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(3, 2), new Point2I(5, 4))), color4FData.getDirtyRegions());
+		
+		color4FData.clearDirtyRegions();
+		
+		assertTrue(color4FData.setResolution(4, 2));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(3, 1))), color4FData.getDirtyRegions());
+	}
+	
+	@Test
+	public void testGetDirtyRegionsLong() {
+		final Color4FData color4FData = new Color4FData(8, 8);
+		
+		final long modificationCount = color4FData.getModificationCount();
+		
+		assertTrue(color4FData.getDirtyRegions(modificationCount).isEmpty());
+		
+		assertTrue(color4FData.setColor4F(Color4F.RED, 1, 1));
+		assertTrue(color4FData.setColor4F(Color4F.RED, 6, 6));
+		
+		assertTrue(color4FData.clearDirtyRegions());
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(1, 1), new Point2I(1, 1)), new Rectangle2I(new Point2I(6, 6), new Point2I(6, 6))), color4FData.getDirtyRegions(modificationCount));
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(6, 6), new Point2I(6, 6))), color4FData.getDirtyRegions(modificationCount + 1L));
+		assertEquals(Arrays.asList(), color4FData.getDirtyRegions(color4FData.getModificationCount()));
+		
+		for(int i = 0; i < 100; i++) {
+			assertTrue(color4FData.setColor4F(i / 2 % 2 == 0 ? Color4F.BLUE : Color4F.RED, i % 2 * 7, i % 2 * 7));
+		}
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(7, 7))), color4FData.getDirtyRegions(modificationCount));
+		
+		final long modificationCountContent = color4FData.getModificationCount();
+		
+		assertTrue(color4FData.setContent(new Color4FData(8, 8)));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(7, 7))), color4FData.getDirtyRegions(modificationCountContent));
+		assertEquals(Arrays.asList(), color4FData.getDirtyRegions(color4FData.getModificationCount()));
+	}
+	
+	@Test
+	public void testGetModificationCount() {
+		final Color4FData color4FData = new Color4FData(2, 2);
+		
+		assertTrue(color4FData.setChangeHistoryEnabled(true));
+		
+		assertEquals(0L, color4FData.getModificationCount());
+		
+		assertTrue(color4FData.setColor4D(Color4D.RED, 0));
+		
+		assertEquals(1L, color4FData.getModificationCount());
+		
+		assertFalse(color4FData.setColor4D(Color4D.RED, 4));
+		
+		assertEquals(1L, color4FData.getModificationCount());
+		
+		assertTrue(color4FData.setResolution(3, 3));
+		
+		assertEquals(2L, color4FData.getModificationCount());
+		
+		assertTrue(color4FData.undo());
+		
+		assertEquals(3L, color4FData.getModificationCount());
+		
+		assertTrue(color4FData.undo());
+		
+		assertEquals(4L, color4FData.getModificationCount());
+		
+		assertTrue(color4FData.redo());
+		
+		assertEquals(5L, color4FData.getModificationCount());
+		
+		assertEquals(0L, new Color4FData(color4FData).getModificationCount());
+	}
+	
 	@Test
 	public void testGetResolution() {
 		final Color4FData color4FData = new Color4FData(2, 4);
@@ -1497,6 +1869,97 @@ public final class Color4FDataUnitTests {
 		assertTrue(color4FData.redo());
 	}
 	
+	@Test
+	public void testRegionChangeConstructor() {
+		final RegionChange regionChange = new RegionChange(new Color4F[] {Color4F.BLACK, Color4F.BLACK}, new Color4F[] {Color4F.WHITE, Color4F.WHITE}, 1, 2, 2, 2);
+		
+		assertArrayEquals(new Color4F[] {Color4F.BLACK, Color4F.BLACK}, regionChange.getColorsRedo());
+		assertArrayEquals(new Color4F[] {Color4F.WHITE, Color4F.WHITE}, regionChange.getColorsUndo());
+		
+		assertEquals(2, regionChange.getMaximumX());
+		assertEquals(2, regionChange.getMaximumY());
+		assertEquals(1, regionChange.getMinimumX());
+		assertEquals(2, regionChange.getMinimumY());
+		
+		assertThrows(NullPointerException.class, () -> new RegionChange(new Color4F[] {null}, new Color4F[] {Color4F.WHITE}, 0, 0, 0, 0));
+		assertThrows(NullPointerException.class, () -> new RegionChange(null, new Color4F[] {Color4F.WHITE}, 0, 0, 0, 0));
+		assertThrows(NullPointerException.class, () -> new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {null}, 0, 0, 0, 0));
+		assertThrows(NullPointerException.class, () -> new RegionChange(new Color4F[] {Color4F.BLACK}, null, 0, 0, 0, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {Color4F.WHITE}, -1, 0, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {Color4F.WHITE}, 0, -1, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {Color4F.WHITE}, 1, 0, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {Color4F.WHITE}, 0, 1, 0, 0));
+	}
+	
+	@Test
+	public void testRegionChangeEquals() {
+		final RegionChange a = new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {Color4F.WHITE}, 1, 1, 1, 1);
+		final RegionChange b = new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {Color4F.WHITE}, 1, 1, 1, 1);
+		final RegionChange c = new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {Color4F.WHITE}, 1, 1, 1, 2);
+		final RegionChange d = new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {Color4F.WHITE}, 1, 1, 2, 1);
+		final RegionChange e = new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {Color4F.WHITE}, 1, 0, 1, 1);
+		final RegionChange f = new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {Color4F.WHITE}, 0, 1, 1, 1);
+		final RegionChange g = new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {Color4F.BLACK}, 1, 1, 1, 1);
+		final RegionChange h = new RegionChange(new Color4F[] {Color4F.WHITE}, new Color4F[] {Color4F.WHITE}, 1, 1, 1, 1);
+		final RegionChange i = null;
+		
+		assertEquals(a, a);
+		assertEquals(a, b);
+		assertEquals(b, a);
+		
+		assertNotEquals(a, c);
+		assertNotEquals(c, a);
+		assertNotEquals(a, d);
+		assertNotEquals(d, a);
+		assertNotEquals(a, e);
+		assertNotEquals(e, a);
+		assertNotEquals(a, f);
+		assertNotEquals(f, a);
+		assertNotEquals(a, g);
+		assertNotEquals(g, a);
+		assertNotEquals(a, h);
+		assertNotEquals(h, a);
+		assertNotEquals(a, i);
+		assertNotEquals(i, a);
+	}
+	
+	@Test
+	public void testRegionChangeHashCode() {
+		final RegionChange a = new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {Color4F.WHITE}, 1, 1, 1, 1);
+		final RegionChange b = new RegionChange(new Color4F[] {Color4F.BLACK}, new Color4F[] {Color4F.WHITE}, 1, 1, 1, 1);
+		
+		assertEquals(a.hashCode(), a.hashCode());
+		assertEquals(a.hashCode(), b.hashCode());
+	}
+	
+	@Test
+	public void testRegionChangeRedoAndUndo() {
+		final Color4FData color4FData = new Color4FData(3, 3);
+		final Color4DData color4DData = new Color4DData(3, 3);
+		
+		final RegionChange regionChange = new RegionChange(new Color4F[] {Color4F.BLACK, Color4F.RED}, new Color4F[] {Color4F.WHITE, Color4F.WHITE}, 1, 2, 2, 2);
+		
+		regionChange.redo(color4FData);
+		regionChange.redo(color4DData);
+		
+		assertEquals(Color4F.BLACK, color4FData.getColor4F(1, 2));
+		assertEquals(Color4F.RED, color4FData.getColor4F(2, 2));
+		assertEquals(Color4F.WHITE, color4FData.getColor4F(0, 2));
+		assertEquals(Color4F.WHITE, color4FData.getColor4F(1, 1));
+		assertEquals(Color4D.WHITE, color4DData.getColor4D(1, 2));
+		
+		regionChange.undo(color4FData);
+		regionChange.undo(color4DData);
+		
+		assertEquals(Color4F.WHITE, color4FData.getColor4F(1, 2));
+		assertEquals(Color4F.WHITE, color4FData.getColor4F(2, 2));
+		assertEquals(Color4D.WHITE, color4DData.getColor4D(1, 2));
+		
+		assertThrows(NullPointerException.class, () -> regionChange.redo(null));
+		assertThrows(NullPointerException.class, () -> regionChange.undo(null));
+	}
+	
 	@Test
 	public void testRotateDoubleBoolean() {
 		final
@@ -2200,6 +2663,114 @@ public final class Color4FDataUnitTests {
 		assertEquals(Color4F.TRANSPARENT, color4FData.getColor4F(1));
 	}
 	
+	@Test
+	public void testScaleIntIntBilinearInterpolation() {
+		final Color4FData color4FData = new Color4FData(16, 12);
+		
+		for(int index = 0; index < color4FData.getResolution(); index++) {
+			color4FData.setColor4F(new Color4F(index / 192.0F, 1.0F - index / 192.0F, (index % 7) / 6.0F, (index % 3) / 2.0F), index);
+		}
+		
+		final Color4FData copy = new Color4FData(color4FData);
+		
+		assertTrue(color4FData.scale(37, 5));
+		
+		final float scaleX = (float)(16) / (float)(37);
+		final float scaleY = (float)(12) / (float)(5);
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 37; x++) {
+				assertEquals(copy.getColor4F(x * scaleX, y * scaleY), color4FData.getColor4F(x, y));
+			}
+		}
+	}
+	
+	@Test
+	public void testScaleIntIntFilter2D() {
+		final Color4FData color4FData = new Color4FData(4, 2);
+		
+		color4FData.setColor4D(Color4D.BLACK, 0, 0);
+		color4FData.setColor4D(Color4D.WHITE, 1, 0);
+		color4FData.setColor4D(Color4D.WHITE, 2, 0);
+		color4FData.setColor4D(Color4D.WHITE, 3, 0);
+		color4FData.setColor4D(Color4D.WHITE, 0, 1);
+		color4FData.setColor4D(Color4D.BLACK, 1, 1);
+		color4FData.setColor4D(Color4D.WHITE, 2, 1);
+		color4FData.setColor4D(Color4D.WHITE, 3, 1);
+		
+		assertTrue(color4FData.scale(2, 1, new BoxFilter2D()));
+		
+		assertEquals(2, color4FData.getResolutionX());
+		assertEquals(1, color4FData.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), color4FData.getColorARGB(0, 0));
+		assertEquals(Color4D.toIntARGB(1.0D, 1.0D, 1.0D, 1.0D), color4FData.getColorARGB(1, 0));
+		
+		assertFalse(color4FData.scale(2, 1, new BoxFilter2D()));
+		assertFalse(color4FData.scale(0, 1, new BoxFilter2D()));
+		assertFalse(color4FData.scale(1, 0, new BoxFilter2D()));
+		assertFalse(color4FData.scale(Integer.MAX_VALUE, Integer.MAX_VALUE, new BoxFilter2D()));
+		
+		final Color4FData color4FDataConstant = new Color4FData(7, 5, Color4D.RED);
+		
+		assertTrue(color4FDataConstant.scale(19, 11, new LanczosSincFilter2D()));
+		
+		for(int index = 0; index < color4FDataConstant.getResolution(); index++) {
+			assertEquals(Color4D.RED.toIntARGB(), color4FDataConstant.getColorARGB(index));
+		}
+		
+		assertTrue(color4FDataConstant.scale(3, 2, new MitchellFilter2D()));
+		
+		for(int index = 0; index < color4FDataConstant.getResolution(); index++) {
+			assertEquals(Color4D.RED.toIntARGB(), color4FDataConstant.getColorARGB(index));
+		}
+		
+		assertTrue(color4FDataConstant.scale(4, 4, new CatmullRomFilter2D()));
+		
+		for(int index = 0; index < color4FDataConstant.getResolution(); index++) {
+			assertEquals(Color4D.RED.toIntARGB(), color4FDataConstant.getColorARGB(index));
+		}
+		
+		assertThrows(NullPointerException.class, () -> color4FData.scale(1, 1, (Filter2D)(null)));
+	}
+	
+	@Test
+	public void testScaleIntIntFilter2F() {
+		final Color4FData color4FData = new Color4FData(4, 2);
+		
+		color4FData.setColor4D(Color4D.BLACK, 0, 0);
+		color4FData.setColor4D(Color4D.WHITE, 1, 0);
+		color4FData.setColor4D(Color4D.WHITE, 2, 0);
+		color4FData.setColor4D(Color4D.WHITE, 3, 0);
+		color4FData.setColor4D(Color4D.WHITE, 0, 1);
+		color4FData.setColor4D(Color4D.BLACK, 1, 1);
+		color4FData.setColor4D(Color4D.WHITE, 2, 1);
+		color4FData.setColor4D(Color4D.WHITE, 3, 1);
+		
+		assertTrue(color4FData.scale(2, 1, new BoxFilter2F()));
+		
+		assertEquals(2, color4FData.getResolutionX());
+		assertEquals(1, color4FData.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), color4FData.getColorARGB(0, 0));
+		assertEquals(Color4D.toIntARGB(1.0D, 1.0D, 1.0D, 1.0D), color4FData.getColorARGB(1, 0));
+		
+		assertFalse(color4FData.scale(2, 1, new BoxFilter2F()));
+		assertFalse(color4FData.scale(0, 1, new BoxFilter2F()));
+		assertFalse(color4FData.scale(1, 0, new BoxFilter2F()));
+		assertFalse(color4FData.scale(Integer.MAX_VALUE, Integer.MAX_VALUE, new BoxFilter2F()));
+		
+		final Color4FData color4FDataConstant = new Color4FData(7, 5, Color4D.RED);
+		
+		assertTrue(color4FDataConstant.scale(19, 11, new LanczosSincFilter2F()));
+		
+		for(int index = 0; index < color4FDataConstant.getResolution(); index++) {
+			assertEquals(Color4D.RED.toIntARGB(), color4FDataConstant.getColorARGB(index));
+		}
+		
+		assertThrows(NullPointerException.class, () -> color4FData.scale(1, 1, (Filter2F)(null)));
+	}
+	
 	@Test
 	public void testSetChangeHistoryEnabled() {
 		final Color4FData color4FData = new Color4FData(1, 1);
@@ -2534,6 +3105,41 @@ public final class Color4FDataUnitTests {
 		assertThrows(NullPointerException.class, () -> a.setContent(null));
 	}
 	
+	@Test
+	public void testSetPremultiplied() {
+		final Color4FData color4FData = new Color4FData(2, 1, new Color4F(1.0F, 1.0F, 1.0F, 0.5F));
+		
+		color4FData.setChangeHistoryEnabled(true);
+		
+		assertFalse(color4FData.isPremultiplied());
+		assertFalse(color4FData.setPremultiplied(false));
+		
+		assertTrue(color4FData.setPremultiplied(true));
+		assertTrue(color4FData.isPremultiplied());
+		assertTrue(color4FData.copy().isPremultiplied());
+		
+		assertEquals(new Color4F(0.5F, 0.5F, 0.5F, 0.5F), color4FData.getColor4F(0));
+		
+		assertEquals(BufferedImage.TYPE_INT_ARGB_PRE, color4FData.toBufferedImage(false).getType());
+		assertEquals(0xFFFFFFFF, color4FData.toBufferedImage(true).getRGB(0, 0));
+		
+		assertTrue(color4FData.undo());
+		
+		assertFalse(color4FData.isPremultiplied());
+		
+		assertEquals(new Color4F(1.0F, 1.0F, 1.0F, 0.5F), color4FData.getColor4F(0));
+		
+		assertTrue(color4FData.redo());
+		
+		assertTrue(color4FData.isPremultiplied());
+		
+		assertTrue(color4FData.setPremultiplied(false));
+		
+		assertFalse(color4FData.isPremultiplied());
+		
+		assertEquals(new Color4F(1.0F, 1.0F, 1.0F, 0.5F), color4FData.getColor4F(0));
+	}
+	
 	@Test
 	public void testSetResolution() {
 		final Color4FData color4FData = new Color4FData(1, 1, Color4F.BLACK);
@@ -2821,6 +3427,44 @@ public final class Color4FDataUnitTests {
 		}
 	}
 	
+	@Test
+	public void testToBufferedImageBufferedImageBoolean() {
+		final Color4FData color4FData = new Color4FData(2, 2);
+		
+		final BufferedImage bufferedImageA = color4FData.toBufferedImage(null, false);
+		
+		assertFalse(color4FData.isDirty());
+		
+		assertEquals(BufferedImage.TYPE_INT_ARGB, bufferedImageA.getType());
+		assertEquals(color4FData.getColorARGB(1, 1), bufferedImageA.getRGB(1, 1));
+		
+		assertTrue(color4FData.setColor4D(Color4D.RED, 1, 1));
+		
+		final BufferedImage bufferedImageB = color4FData.toBufferedImage(bufferedImageA, false);
+		
+		assertFalse(color4FData.isDirty());
+		
+		assertTrue(bufferedImageA == bufferedImageB);
+		
+		assertEquals(Color4D.RED.toIntARGB(), bufferedImageB.getRGB(1, 1));
+		assertEquals(color4FData.getColorARGB(0, 0), bufferedImageB.getRGB(0, 0));
+		
+		final BufferedImage bufferedImageC = color4FData.toBufferedImage(bufferedImageB, true);
+		
+		assertTrue(bufferedImageB != bufferedImageC);
+		
+		assertEquals(BufferedImage.TYPE_INT_RGB, bufferedImageC.getType());
+		
+		assertTrue(color4FData.setResolution(3, 3));
+		
+		final BufferedImage bufferedImageD = color4FData.toBufferedImage(bufferedImageC, true);
+		
+		assertTrue(bufferedImageC != bufferedImageD);
+		
+		assertEquals(3, bufferedImageD.getWidth());
+		assertEquals(3, bufferedImageD.getHeight());
+	}
+	
 	@Test
 	public void testUpdatePixel() {
 		final Color4FData color4FData = new Color4FData(1, 1);
@@ -71,6 +71,16 @@ public final class CombinedChangeUnitTests {
 		assertNotEquals(d, a);
 	}
 	
+	@Test
+	public void testGetSizeInBytes() {
+		final Change change = new PixelChange(Color4D.BLACK, Color4D.WHITE, 0);
+		
+		final CombinedChange combinedChange = new CombinedChange(Arrays.asList(change, change));
+		
+		assertEquals(120L, change.getSizeInBytes());
+		assertEquals(320L, combinedChange.getSizeInBytes());
+	}
+	
 	@Test
 	public void testHashCode() {
 		final CombinedChange a = new CombinedChange(Arrays.asList(new PixelChange(Color4D.BLACK, Color4D.WHITE, 0)));
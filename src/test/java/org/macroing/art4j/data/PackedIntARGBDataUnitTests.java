@@ -28,7 +28,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,9 +41,19 @@ import org.macroing.art4j.color.Color4D;
 import org.macroing.art4j.color.Color4F;
 import org.macroing.art4j.color.Color4I;
 import org.macroing.art4j.data.PackedIntARGBData.PixelChange;
+import org.macroing.art4j.data.PackedIntARGBData.RegionChange;
 import org.macroing.art4j.data.PackedIntARGBData.StateChange;
+import org.macroing.art4j.filter.BoxFilter2D;
+import org.macroing.art4j.filter.BoxFilter2F;
+import org.macroing.art4j.filter.CatmullRomFilter2D;
+import org.macroing.art4j.filter.Filter2D;
+import org.macroing.art4j.filter.Filter2F;
+import org.macroing.art4j.filter.LanczosSincFilter2D;
+import org.macroing.art4j.filter.LanczosSincFilter2F;
+import org.macroing.art4j.filter.MitchellFilter2D;
 import org.macroing.art4j.kernel.ConvolutionKernelND;
 import org.macroing.art4j.kernel.ConvolutionKernelNF;
+import org.macroing.art4j.pixel.CompositeOperator;
 import org.macroing.art4j.pixel.PixelTransformer;
 import org.macroing.geo4j.common.Point2I;
 import org.macroing.geo4j.shape.rectangle.Rectangle2I;
@@ -121,6 +133,71 @@ public final class PackedIntARGBDataUnitTests {
 		assertTrue(packedIntARGBData.changeEnd());
 	}
 	
+	@Test
+	public void testClearDirtyRegions() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(2, 2);
+		
+		assertTrue(packedIntARGBData.isDirty());
+		assertTrue(packedIntARGBData.clearDirtyRegions());
+		
+		assertFalse(packedIntARGBData.isDirty());
+		assertFalse(packedIntARGBData.clearDirtyRegions());
+		
+		assertTrue(packedIntARGBData.setColor4D(Color4D.RED, 0));
+		
+		assertTrue(packedIntARGBData.isDirty());
+		assertTrue(packedIntARGBData.clearDirtyRegions());
+		
+		assertFalse(packedIntARGBData.isDirty());
+	}
+	
+	@Test
+	public void testCompositeDataCompositeOperator() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(2, 2, 0xFF0000FF);
+		final PackedIntARGBData packedIntARGBDataSource = new PackedIntARGBData(2, 2, 0x80FF0000);
+		
+		assertTrue(packedIntARGBData.composite(packedIntARGBDataSource, CompositeOperator.OVER));
+		
+		assertEquals(0xFF80007F, packedIntARGBData.getColorARGB(0));
+		assertEquals(0xFF80007F, packedIntARGBData.getColorARGB(3));
+		
+		assertTrue(packedIntARGBData.setPremultiplied(true));
+		assertTrue(packedIntARGBDataSource.setPremultiplied(true));
+		assertTrue(packedIntARGBData.composite(packedIntARGBDataSource, CompositeOperator.IN));
+		
+		assertEquals(0x80800000, packedIntARGBData.getColorARGB(0));
+		
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.composite(null, CompositeOperator.OVER));
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.composite(packedIntARGBDataSource, null));
+	}
+	
+	@Test
+	public void testCompositeDataCompositeOperatorRectangle2IPoint2I() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(3, 3, 0xFF0000FF);
+		final PackedIntARGBData packedIntARGBDataSource = new PackedIntARGBData(2, 2, 0xFFFF0000);
+		
+		packedIntARGBData.setChangeHistoryEnabled(true);
+		
+		assertFalse(packedIntARGBData.composite(packedIntARGBDataSource, CompositeOperator.OVER, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), new Point2I(3, 3)));
+		assertFalse(packedIntARGBData.composite(packedIntARGBDataSource, CompositeOperator.OVER, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), new Point2I(-2, -2)));
+		assertTrue(packedIntARGBData.composite(packedIntARGBDataSource, CompositeOperator.OVER, new Rectangle2I(new Point2I(1, 1), new Point2I(5, 5)), new Point2I(2, 2)));
+		
+		assertEquals(new RegionChange(new int[] {Color4I.RED_A_R_G_B}, new int[] {Color4I.BLUE_A_R_G_B}, 2, 2, 2, 2).getSizeInBytes(), packedIntARGBData.getChangeHistory().get().getSizeInBytes());
+		
+		assertEquals(0xFFFF0000, packedIntARGBData.getColorARGB(2, 2));
+		assertEquals(0xFF0000FF, packedIntARGBData.getColorARGB(1, 1));
+		assertEquals(0xFF0000FF, packedIntARGBData.getColorARGB(1, 2));
+		
+		assertTrue(packedIntARGBData.undo());
+		
+		assertEquals(0xFF0000FF, packedIntARGBData.getColorARGB(2, 2));
+		
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.composite(null, CompositeOperator.OVER, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), new Point2I()));
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.composite(packedIntARGBDataSource, null, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), new Point2I()));
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.composite(packedIntARGBDataSource, CompositeOperator.OVER, null, new Point2I()));
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.composite(packedIntARGBDataSource, CompositeOperator.OVER, new Rectangle2I(new Point2I(0, 0), new Point2I(1, 1)), null));
+	}
+	
 	@Test
 	public void testConstructor() {
 		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData();
@@ -467,6 +544,132 @@ public final class PackedIntARGBDataUnitTests {
 		assertEquals(packedIntARGBData, packedIntARGBDataCopyD);
 	}
 	
+	@Test
+	public void testCopyIntIntFilter2D() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(4, 2);
+		
+		packedIntARGBData.setColor4D(Color4D.BLACK, 0, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 1, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 2, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 3, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 0, 1);
+		packedIntARGBData.setColor4D(Color4D.BLACK, 1, 1);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 2, 1);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 3, 1);
+		
+		final Data data = packedIntARGBData.copy(2, 1, new BoxFilter2D());
+		
+		assertTrue(data instanceof PackedIntARGBData);
+		
+		assertEquals(2, data.getResolutionX());
+		assertEquals(1, data.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), data.getColorARGB(0, 0));
+		assertEquals(Color4D.toIntARGB(1.0D, 1.0D, 1.0D, 1.0D), data.getColorARGB(1, 0));
+		
+		assertEquals(4, packedIntARGBData.getResolutionX());
+		assertEquals(2, packedIntARGBData.getResolutionY());
+		
+		assertFalse(data.isPremultiplied());
+		
+		packedIntARGBData.setPremultiplied(true);
+		
+		assertTrue(packedIntARGBData.copy(2, 1, new BoxFilter2D()).isPremultiplied());
+		
+		assertThrows(IllegalArgumentException.class, () -> packedIntARGBData.copy(0, 1, new BoxFilter2D()));
+		assertThrows(IllegalArgumentException.class, () -> packedIntARGBData.copy(1, 0, new BoxFilter2D()));
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.copy(2, 1, (Filter2D)(null)));
+	}
+	@Test
+	public void testCopyIntIntFilter2F() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(4, 2);
+		
+		packedIntARGBData.setColor4D(Color4D.BLACK, 0, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 1, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 2, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 3, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 0, 1);
+		packedIntARGBData.setColor4D(Color4D.BLACK, 1, 1);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 2, 1);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 3, 1);
+		
+		final Data data = packedIntARGBData.copy(2, 1, new BoxFilter2F());
+		
+		assertTrue(data instanceof PackedIntARGBData);
+		
+		assertEquals(2, data.getResolutionX());
+		assertEquals(1, data.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), data.getColorARGB(0, 0));
+		assertEquals(Color4D.toIntARGB(1.0D, 1.0D, 1.0D, 1.0D), data.getColorARGB(1, 0));
+		
+		assertEquals(4, packedIntARGBData.getResolutionX());
+		assertEquals(2, packedIntARGBData.getResolutionY());
+		
+		assertFalse(data.isPremultiplied());
+		
+		packedIntARGBData.setPremultiplied(true);
+		
+		assertTrue(packedIntARGBData.copy(2, 1, new BoxFilter2F()).isPremultiplied());
+		
+		assertThrows(IllegalArgumentException.class, () -> packedIntARGBData.copy(0, 1, new BoxFilter2F()));
+		assertThrows(IllegalArgumentException.class, () -> packedIntARGBData.copy(1, 0, new BoxFilter2F()));
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.copy(2, 1, (Filter2F)(null)));
+	}
+	@Test
+	public void testCopyRegionFromDoubleArrayRectangle2I() {
+		final
+		PackedIntARGBData packedIntARGBData = new PackedIntARGBData(2, 2);
+		packedIntARGBData.setChangeHistoryEnabled(true);
+		
+		assertTrue(packedIntARGBData.copyRegionFrom(new double[] {0.0D, 0.0D, 1.0D, 1.0D, 1.0D, 0.0D, 0.0D, 1.0D}, new Rectangle2I(new Point2I(0, 1), new Point2I(1, 1))));
+		
+		assertEquals(Color4I.WHITE_A_R_G_B, packedIntARGBData.getColorARGB(0, 0));
+		assertEquals(Color4I.WHITE_A_R_G_B, packedIntARGBData.getColorARGB(1, 0));
+		assertEquals(Color4I.BLUE_A_R_G_B, packedIntARGBData.getColorARGB(0, 1));
+		assertEquals(Color4I.RED_A_R_G_B, packedIntARGBData.getColorARGB(1, 1));
+		
+		assertTrue(packedIntARGBData.undo());
+		
+		assertEquals(Color4I.WHITE_A_R_G_B, packedIntARGBData.getColorARGB(0, 1));
+		assertEquals(Color4I.WHITE_A_R_G_B, packedIntARGBData.getColorARGB(1, 1));
+		
+		assertFalse(packedIntARGBData.undo());
+		
+		assertFalse(packedIntARGBData.copyRegionFrom(new double[4], new Rectangle2I(new Point2I(0, 2), new Point2I(0, 2))));
+		
+		assertThrows(IllegalArgumentException.class, () -> packedIntARGBData.copyRegionFrom(new double[7], new Rectangle2I(new Point2I(0, 0), new Point2I(1, 0))));
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.copyRegionFrom(new double[4], null));
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.copyRegionFrom((double[]) null, new Rectangle2I(new Point2I(0, 0), new Point2I(0, 0))));
+	}
+	
+	@Test
+	public void testCopyRegionFromIntArrayRectangle2I() {
+		final
+		PackedIntARGBData packedIntARGBData = new PackedIntARGBData(2, 2);
+		packedIntARGBData.setChangeHistoryEnabled(true);
+		
+		assertTrue(packedIntARGBData.copyRegionFrom(new int[] {Color4I.RED_A_R_G_B, Color4I.BLUE_A_R_G_B}, new Rectangle2I(new Point2I(1, 0), new Point2I(1, 1))));
+		
+		assertEquals(Color4I.WHITE_A_R_G_B, packedIntARGBData.getColorARGB(0, 0));
+		assertEquals(Color4I.RED_A_R_G_B, packedIntARGBData.getColorARGB(1, 0));
+		assertEquals(Color4I.WHITE_A_R_G_B, packedIntARGBData.getColorARGB(0, 1));
+		assertEquals(Color4I.BLUE_A_R_G_B, packedIntARGBData.getColorARGB(1, 1));
+		
+		assertTrue(packedIntARGBData.undo());
+		
+		assertEquals(Color4I.WHITE_A_R_G_B, packedIntARGBData.getColorARGB(1, 0));
+		assertEquals(Color4I.WHITE_A_R_G_B, packedIntARGBData.getColorARGB(1, 1));
+		
+		assertFalse(packedIntARGBData.undo());
+		
+		assertFalse(packedIntARGBData.copyRegionFrom(new int[1], new Rectangle2I(new Point2I(2, 0), new Point2I(2, 0))));
+		
+		assertThrows(IllegalArgumentException.class, () -> packedIntARGBData.copyRegionFrom(new int[1], new Rectangle2I(new Point2I(0, 0), new Point2I(1, 0))));
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.copyRegionFrom(new int[1], null));
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.copyRegionFrom((int[]) null, new Rectangle2I(new Point2I(0, 0), new Point2I(0, 0))));
+	}
+	
 	@Test
 	public void testCopyShape2I() {
 		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(10, 10);
@@ -504,6 +707,25 @@ public final class PackedIntARGBDataUnitTests {
 		assertThrows(NullPointerException.class, () -> packedIntARGBData.copy(null));
 	}
 	
+	@Test
+	public void testCopyRowTo() {
+		final
+		PackedIntARGBData packedIntARGBData = new PackedIntARGBData(2, 2);
+		packedIntARGBData.setColorARGB(0xFF0000FF, 1, 1);
+		
+		final double[] array = new double[8];
+		
+		assertTrue(packedIntARGBData.copyRowTo(array, 1));
+		
+		assertArrayEquals(new double[] {1.0D, 1.0D, 1.0D, 1.0D, 0.0D, 0.0D, 1.0D, 1.0D}, array);
+		
+		assertFalse(packedIntARGBData.copyRowTo(array, -1));
+		assertFalse(packedIntARGBData.copyRowTo(array, 2));
+		
+		assertThrows(IllegalArgumentException.class, () -> packedIntARGBData.copyRowTo(new double[7], 0));
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.copyRowTo(null, 0));
+	}
+	
 	@Test
 	public void testDrawConsumerGraphics2D() {
 		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(1, 1);
@@ -647,6 +869,40 @@ public final class PackedIntARGBDataUnitTests {
 		assertNotEquals(g, a);
 	}
 	
+	@Test
+	public void testGetBufferedImageView() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(2, 1);
+		
+		final BufferedImage bufferedImage = packedIntARGBData.getBufferedImageView().get();
+		
+		assertEquals(BufferedImage.TYPE_INT_ARGB, bufferedImage.getType());
+		assertEquals(2, bufferedImage.getWidth());
+		assertEquals(1, bufferedImage.getHeight());
+		
+		assertTrue(packedIntARGBData.getBufferedImageView().get() == bufferedImage);
+		
+		assertTrue(packedIntARGBData.setColor4D(Color4D.RED, 1, 0));
+		
+		assertEquals(Color4I.RED_A_R_G_B, bufferedImage.getRGB(1, 0));
+		
+		packedIntARGBData.draw(graphics2D -> {
+			graphics2D.setColor(Color.BLUE);
+			graphics2D.fillRect(0, 0, 1, 1);
+		});
+		
+		assertEquals(Color4I.BLUE_A_R_G_B, packedIntARGBData.getColorARGB(0, 0));
+		assertEquals(Color4I.BLUE_A_R_G_B, bufferedImage.getRGB(0, 0));
+		
+		assertTrue(packedIntARGBData.setResolution(3, 1));
+		
+		final BufferedImage bufferedImageResized = packedIntARGBData.getBufferedImageView().get();
+		
+		assertTrue(bufferedImageResized != bufferedImage);
+		
+		assertEquals(3, bufferedImageResized.getWidth());
+		assertEquals(Color4I.RED_A_R_G_B, bufferedImageResized.getRGB(1, 0));
+	}
+	
 	@Test
 	public void testGetChangeHistory() {
 		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(1, 1);
@@ -1317,6 +1573,120 @@ public final class PackedIntARGBDataUnitTests {
 		assertTrue(dataFactory instanceof PackedIntARGBDataFactory);
 	}
 	
+	@Test
+	public void testGetDirtyRegions() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(8, 8);
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(7, 7))), packedIntARGBData.getDirtyRegions());
+		
+		packedIntARGBData.clearDirtyRegions();
+		
+		assertTrue(packedIntARGBData.getDirtyRegions().isEmpty());
+		
+		assertTrue(packedIntARGBData.setColor4D(Color4D.RED, 1, 1));
+		assertTrue(packedIntARGBData.setColor4D(Color4D.RED, 2, 1));
+		assertTrue(packedIntARGBData.setColor4D(Color4D.RED, 7 * 8 + 7));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(1, 1), new Point2I(2, 1)), new Rectangle2I(new Point2I(7, 7), new Point2I(7, 7))), packedIntARGBData.getDirtyRegions());
+		
+		packedIntARGBData.clearDirtyRegions();
+		
+		assertTrue(packedIntARGBData.swap(0, 1 * 8 + 2));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(0, 0)), new Rectangle2I(new Point2I(2, 1), new Point2I(2, 1))), packedIntARGBData.getDirtyRegions());
+		
+		packedIntARGBData.clearDirtyRegions();
+		
+		assertTrue(packedIntARGBData.convolve(ConvolutionKernelND.BOX_BLUR_3, new int[] {2 * 8 + 3, 4 * 8 + 5, -1}));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(3, 2), new Point2I(5, 4))), packedIntARGBData.getDirtyRegions());
+		
+		packedIntARGBData.clearDirtyRegions();
+		
+		assertTrue(packedIntARGBData.setResolution(4, 2));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(3, 1))), packedIntARGBData.getDirtyRegions());
+	}
+	
+	@Test
+	public void testGetDirtyRegionsLong() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(8, 8);
+		
+		final long modificationCount = packedIntARGBData.getModificationCount();
+		
+		assertTrue(packedIntARGBData.getDirtyRegions(modificationCount).isEmpty());
+		
+		assertTrue(packedIntARGBData.setColorARGB(0xFFFF0000, 1, 1));
+		assertTrue(packedIntARGBData.setColorARGB(0xFFFF0000, 6, 6));
+		
+		assertTrue(packedIntARGBData.clearDirtyRegions());
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(1, 1), new Point2I(1, 1)), new Rectangle2I(new Point2I(6, 6), new Point2I(6, 6))), packedIntARGBData.getDirtyRegions(modificationCount));
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(6, 6), new Point2I(6, 6))), packedIntARGBData.getDirtyRegions(modificationCount + 1L));
+		assertEquals(Arrays.asList(), packedIntARGBData.getDirtyRegions(packedIntARGBData.getModificationCount()));
+		
+		for(int i = 0; i < 100; i++) {
+			assertTrue(packedIntARGBData.setColorARGB(i / 2 % 2 == 0 ? 0xFF0000FF : 0xFFFF0000, i % 2 * 7, i % 2 * 7));
+		}
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(7, 7))), packedIntARGBData.getDirtyRegions(modificationCount));
+		
+		final long modificationCountContent = packedIntARGBData.getModificationCount();
+		
+		assertTrue(packedIntARGBData.setContent(new PackedIntARGBData(8, 8)));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(7, 7))), packedIntARGBData.getDirtyRegions(modificationCountContent));
+		assertEquals(Arrays.asList(), packedIntARGBData.getDirtyRegions(packedIntARGBData.getModificationCount()));
+	}
+	
+	@Test
+	public void testGetModificationCount() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(2, 2);
+		
+		assertTrue(packedIntARGBData.setChangeHistoryEnabled(true));
+		
+		assertEquals(0L, packedIntARGBData.getModificationCount());
+		
+		assertTrue(packedIntARGBData.setColor4D(Color4D.RED, 0));
+		
+		assertEquals(1L, packedIntARGBData.getModificationCount());
+		
+		assertFalse(packedIntARGBData.setColor4D(Color4D.RED, 4));
+		
+		assertEquals(1L, packedIntARGBData.getModificationCount());
+		
+		assertTrue(packedIntARGBData.setResolution(3, 3));
+		
+		assertEquals(2L, packedIntARGBData.getModificationCount());
+		
+		assertTrue(packedIntARGBData.undo());
+		
+		assertEquals(3L, packedIntARGBData.getModificationCount());
+		
+		assertTrue(packedIntARGBData.undo());
+		
+		assertEquals(4L, packedIntARGBData.getModificationCount());
+		
+		assertTrue(packedIntARGBData.redo());
+		
+		assertEquals(5L, packedIntARGBData.getModificationCount());
+		
+		assertEquals(0L, new PackedIntARGBData(packedIntARGBData).getModificationCount());
+	}
+	
+	@Test
+	public void testGetPixelModificationCount() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(64, 64);
+		
+		assertEquals(0L, packedIntARGBData.getPixelModificationCount());
+		
+		IntStream.range(0, 64 * 64).parallel().forEach(index -> packedIntARGBData.setColorARGB(0xFFFF0000, index));
+		
+		assertEquals(64L * 64L, packedIntARGBData.getPixelModificationCount());
+		assertEquals(64L * 64L, packedIntARGBData.getModificationCount());
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 0), new Point2I(63, 63))), packedIntARGBData.getDirtyRegions(0L));
+	}
+	
 	@Test
 	public void testGetResolution() {
 		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(2, 4);
@@ -1491,6 +1861,27 @@ public final class PackedIntARGBDataUnitTests {
 		assertTrue(packedIntARGBData.redo());
 	}
 	
+	@Test
+	public void testRegionChangeConstructor() {
+		final RegionChange regionChange = new RegionChange(new int[] {Color4I.BLACK_A_R_G_B, Color4I.BLACK_A_R_G_B}, new int[] {Color4I.WHITE_A_R_G_B, Color4I.WHITE_A_R_G_B}, 1, 2, 2, 2);
+		
+		assertArrayEquals(new int[] {Color4I.BLACK_A_R_G_B, Color4I.BLACK_A_R_G_B}, regionChange.getColorsRedo());
+		assertArrayEquals(new int[] {Color4I.WHITE_A_R_G_B, Color4I.WHITE_A_R_G_B}, regionChange.getColorsUndo());
+		
+		assertEquals(2, regionChange.getMaximumX());
+		assertEquals(2, regionChange.getMaximumY());
+		assertEquals(1, regionChange.getMinimumX());
+		assertEquals(2, regionChange.getMinimumY());
+		
+		assertThrows(NullPointerException.class, () -> new RegionChange(null, new int[] {Color4I.WHITE_A_R_G_B}, 0, 0, 0, 0));
+		assertThrows(NullPointerException.class, () -> new RegionChange(new int[] {Color4I.BLACK_A_R_G_B}, null, 0, 0, 0, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> new RegionChange(new int[] {Color4I.BLACK_A_R_G_B}, new int[] {Color4I.WHITE_A_R_G_B}, -1, 0, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new RegionChange(new int[] {Color4I.BLACK_A_R_G_B}, new int[] {Color4I.WHITE_A_R_G_B}, 0, -1, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new RegionChange(new int[] {Color4I.BLACK_A_R_G_B}, new int[] {Color4I.WHITE_A_R_G_B}, 1, 0, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new RegionChange(new int[] {Color4I.BLACK_A_R_G_B}, new int[] {Color4I.WHITE_A_R_G_B}, 0, 1, 0, 0));
+	}
+	
 	@Test
 	public void testRotateDoubleBoolean() {
 		final
@@ -2051,6 +2442,41 @@ public final class PackedIntARGBDataUnitTests {
 		assertFalse(packedIntARGBData.undo());
 	}
 	
+	@Test
+	public void testRotateRecyclesBuffers() {
+		BufferPool.INT.clear();
+		
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(64, 64, Color4I.RED.toIntARGB());
+		
+		assertTrue(packedIntARGBData.rotate(180.0D, false));
+		
+		assertEquals(1, BufferPool.INT.size());
+		
+		assertTrue(packedIntARGBData.rotate(180.0D, false));
+		
+		assertEquals(1, BufferPool.INT.size());
+		
+		assertEquals(Color4I.RED.toIntARGB(), packedIntARGBData.getColorARGB(0));
+		
+		final BufferedImage bufferedImage = packedIntARGBData.getBufferedImageView().get();
+		
+		assertTrue(packedIntARGBData.rotate(180.0D, false));
+		
+		assertEquals(0, BufferPool.INT.size());
+		
+		assertEquals(Color4I.RED.toIntARGB(), bufferedImage.getRGB(0, 0));
+		
+		packedIntARGBData.setChangeHistoryEnabled(true);
+		
+		assertTrue(packedIntARGBData.rotate(180.0D, false));
+		
+		assertEquals(0, BufferPool.INT.size());
+		
+		assertTrue(packedIntARGBData.undo());
+		
+		assertEquals(Color4I.RED.toIntARGB(), packedIntARGBData.getColorARGB(0));
+	}
+	
 	@Test
 	public void testSave() {
 		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(1, 1);
@@ -2200,6 +2626,114 @@ public final class PackedIntARGBDataUnitTests {
 		assertEquals(Color4I.TRANSPARENT_A_R_G_B, packedIntARGBData.getColorARGB(1));
 	}
 	
+	@Test
+	public void testScaleIntIntBilinearInterpolation() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(16, 12);
+		
+		for(int index = 0; index < packedIntARGBData.getResolution(); index++) {
+			packedIntARGBData.setColorARGB(index * 0x01030507, index);
+		}
+		
+		final PackedIntARGBData copy = new PackedIntARGBData(packedIntARGBData);
+		
+		assertTrue(packedIntARGBData.scale(37, 5));
+		
+		final double scaleX = (double)(16) / (double)(37);
+		final double scaleY = (double)(12) / (double)(5);
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 37; x++) {
+				assertEquals(copy.getColorARGB(x * scaleX, y * scaleY), packedIntARGBData.getColorARGB(x, y));
+			}
+		}
+	}
+	
+	@Test
+	public void testScaleIntIntFilter2D() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(4, 2);
+		
+		packedIntARGBData.setColor4D(Color4D.BLACK, 0, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 1, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 2, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 3, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 0, 1);
+		packedIntARGBData.setColor4D(Color4D.BLACK, 1, 1);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 2, 1);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 3, 1);
+		
+		assertTrue(packedIntARGBData.scale(2, 1, new BoxFilter2D()));
+		
+		assertEquals(2, packedIntARGBData.getResolutionX());
+		assertEquals(1, packedIntARGBData.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), packedIntARGBData.getColorARGB(0, 0));
+		assertEquals(Color4D.toIntARGB(1.0D, 1.0D, 1.0D, 1.0D), packedIntARGBData.getColorARGB(1, 0));
+		
+		assertFalse(packedIntARGBData.scale(2, 1, new BoxFilter2D()));
+		assertFalse(packedIntARGBData.scale(0, 1, new BoxFilter2D()));
+		assertFalse(packedIntARGBData.scale(1, 0, new BoxFilter2D()));
+		assertFalse(packedIntARGBData.scale(Integer.MAX_VALUE, Integer.MAX_VALUE, new BoxFilter2D()));
+		
+		final PackedIntARGBData packedIntARGBDataConstant = new PackedIntARGBData(7, 5, Color4D.RED);
+		
+		assertTrue(packedIntARGBDataConstant.scale(19, 11, new LanczosSincFilter2D()));
+		
+		for(int index = 0; index < packedIntARGBDataConstant.getResolution(); index++) {
+			assertEquals(Color4D.RED.toIntARGB(), packedIntARGBDataConstant.getColorARGB(index));
+		}
+		
+		assertTrue(packedIntARGBDataConstant.scale(3, 2, new MitchellFilter2D()));
+		
+		for(int index = 0; index < packedIntARGBDataConstant.getResolution(); index++) {
+			assertEquals(Color4D.RED.toIntARGB(), packedIntARGBDataConstant.getColorARGB(index));
+		}
+		
+		assertTrue(packedIntARGBDataConstant.scale(4, 4, new CatmullRomFilter2D()));
+		
+		for(int index = 0; index < packedIntARGBDataConstant.getResolution(); index++) {
+			assertEquals(Color4D.RED.toIntARGB(), packedIntARGBDataConstant.getColorARGB(index));
+		}
+		
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.scale(1, 1, (Filter2D)(null)));
+	}
+	
+	@Test
+	public void testScaleIntIntFilter2F() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(4, 2);
+		
+		packedIntARGBData.setColor4D(Color4D.BLACK, 0, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 1, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 2, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 3, 0);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 0, 1);
+		packedIntARGBData.setColor4D(Color4D.BLACK, 1, 1);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 2, 1);
+		packedIntARGBData.setColor4D(Color4D.WHITE, 3, 1);
+		
+		assertTrue(packedIntARGBData.scale(2, 1, new BoxFilter2F()));
+		
+		assertEquals(2, packedIntARGBData.getResolutionX());
+		assertEquals(1, packedIntARGBData.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), packedIntARGBData.getColorARGB(0, 0));
+		assertEquals(Color4D.toIntARGB(1.0D, 1.0D, 1.0D, 1.0D), packedIntARGBData.getColorARGB(1, 0));
+		
+		assertFalse(packedIntARGBData.scale(2, 1, new BoxFilter2F()));
+		assertFalse(packedIntARGBData.scale(0, 1, new BoxFilter2F()));
+		assertFalse(packedIntARGBData.scale(1, 0, new BoxFilter2F()));
+		assertFalse(packedIntARGBData.scale(Integer.MAX_VALUE, Integer.MAX_VALUE, new BoxFilter2F()));
+		
+		final PackedIntARGBData packedIntARGBDataConstant = new PackedIntARGBData(7, 5, Color4D.RED);
+		
+		assertTrue(packedIntARGBDataConstant.scale(19, 11, new LanczosSincFilter2F()));
+		
+		for(int index = 0; index < packedIntARGBDataConstant.getResolution(); index++) {
+			assertEquals(Color4D.RED.toIntARGB(), packedIntARGBDataConstant.getColorARGB(index));
+		}
+		
+		assertThrows(NullPointerException.class, () -> packedIntARGBData.scale(1, 1, (Filter2F)(null)));
+	}
+	
 	@Test
 	public void testSetChangeHistoryEnabled() {
 		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(1, 1);
@@ -2542,6 +3076,41 @@ public final class PackedIntARGBDataUnitTests {
 		assertThrows(NullPointerException.class, () -> a.setContent(null));
 	}
 	
+	@Test
+	public void testSetPremultiplied() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(2, 1, 0x80FFFFFF);
+		
+		packedIntARGBData.setChangeHistoryEnabled(true);
+		
+		assertFalse(packedIntARGBData.isPremultiplied());
+		assertFalse(packedIntARGBData.setPremultiplied(false));
+		
+		assertTrue(packedIntARGBData.setPremultiplied(true));
+		assertTrue(packedIntARGBData.isPremultiplied());
+		assertTrue(packedIntARGBData.copy().isPremultiplied());
+		
+		assertEquals(0x80808080, packedIntARGBData.getColorARGB(0));
+		
+		assertEquals(BufferedImage.TYPE_INT_ARGB_PRE, packedIntARGBData.toBufferedImage(false).getType());
+		assertEquals(0xFFFFFFFF, packedIntARGBData.toBufferedImage(true).getRGB(0, 0));
+		
+		assertTrue(packedIntARGBData.undo());
+		
+		assertFalse(packedIntARGBData.isPremultiplied());
+		
+		assertEquals(0x80FFFFFF, packedIntARGBData.getColorARGB(0));
+		
+		assertTrue(packedIntARGBData.redo());
+		
+		assertTrue(packedIntARGBData.isPremultiplied());
+		
+		assertTrue(packedIntARGBData.setPremultiplied(false));
+		
+		assertFalse(packedIntARGBData.isPremultiplied());
+		
+		assertEquals(0x80FFFFFF, packedIntARGBData.getColorARGB(0));
+	}
+	
 	@Test
 	public void testSetResolution() {
 		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(1, 1);
@@ -2831,6 +3400,44 @@ public final class PackedIntARGBDataUnitTests {
 		}
 	}
 	
+	@Test
+	public void testToBufferedImageBufferedImageBoolean() {
+		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(2, 2);
+		
+		final BufferedImage bufferedImageA = packedIntARGBData.toBufferedImage(null, false);
+		
+		assertFalse(packedIntARGBData.isDirty());
+		
+		assertEquals(BufferedImage.TYPE_INT_ARGB, bufferedImageA.getType());
+		assertEquals(packedIntARGBData.getColorARGB(1, 1), bufferedImageA.getRGB(1, 1));
+		
+		assertTrue(packedIntARGBData.setColor4D(Color4D.RED, 1, 1));
+		
+		final BufferedImage bufferedImageB = packedIntARGBData.toBufferedImage(bufferedImageA, false);
+		
+		assertFalse(packedIntARGBData.isDirty());
+		
+		assertTrue(bufferedImageA == bufferedImageB);
+		
+		assertEquals(Color4D.RED.toIntARGB(), bufferedImageB.getRGB(1, 1));
+		assertEquals(packedIntARGBData.getColorARGB(0, 0), bufferedImageB.getRGB(0, 0));
+		
+		final BufferedImage bufferedImageC = packedIntARGBData.toBufferedImage(bufferedImageB, true);
+		
+		assertTrue(bufferedImageB != bufferedImageC);
+		
+		assertEquals(BufferedImage.TYPE_INT_RGB, bufferedImageC.getType());
+		
+		assertTrue(packedIntARGBData.setResolution(3, 3));
+		
+		final BufferedImage bufferedImageD = packedIntARGBData.toBufferedImage(bufferedImageC, true);
+		
+		assertTrue(bufferedImageC != bufferedImageD);
+		
+		assertEquals(3, bufferedImageD.getWidth());
+		assertEquals(3, bufferedImageD.getHeight());
+	}
+	
 	@Test
 	public void testUpdatePixel() {
 		final PackedIntARGBData packedIntARGBData = new PackedIntARGBData(1, 1);
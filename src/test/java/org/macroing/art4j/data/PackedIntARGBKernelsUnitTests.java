@@ -0,0 +1,238 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.art4j.color.Color4D;
+import org.macroing.art4j.color.Color4I;
+
+@SuppressWarnings("static-method")
+public final class PackedIntARGBKernelsUnitTests {
+	public PackedIntARGBKernelsUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testBlend() {
+		assertEquals(0xFF000000, PackedIntARGBKernels.blend(0xFF000000, 0xFFFFFFFF, 0));
+		assertEquals(0xFFFFFFFF, PackedIntARGBKernels.blend(0xFF000000, 0xFFFFFFFF, PackedIntARGBKernels.ONE));
+		assertEquals(0x80808080, PackedIntARGBKernels.blend(0x00000000, 0xFFFFFFFF, PackedIntARGBKernels.ONE / 2));
+		
+		final Random random = new Random(0L);
+		
+		for(int i = 0; i < 10000; i++) {
+			final int colorARGBLHS = random.nextInt();
+			final int colorARGBRHS = random.nextInt();
+			
+			final double t = random.nextDouble();
+			
+			doAssertEquals(Color4I.blendARGB(colorARGBLHS, colorARGBRHS, t), PackedIntARGBKernels.blend(colorARGBLHS, colorARGBRHS, PackedIntARGBKernels.toFixedPoint(t)), 1);
+		}
+	}
+	
+	@Test
+	public void testBlendBilinear() {
+		assertEquals(0xFF112233, PackedIntARGBKernels.blend(0xFF112233, 0xFF445566, 0xFF778899, 0xFFAABBCC, 0, 0));
+		assertEquals(0xFFAABBCC, PackedIntARGBKernels.blend(0xFF112233, 0xFF445566, 0xFF778899, 0xFFAABBCC, PackedIntARGBKernels.ONE, PackedIntARGBKernels.ONE));
+		
+		final Random random = new Random(0L);
+		
+		for(int i = 0; i < 10000; i++) {
+			final int colorARGB11 = random.nextInt();
+			final int colorARGB12 = random.nextInt();
+			final int colorARGB21 = random.nextInt();
+			final int colorARGB22 = random.nextInt();
+			
+			final double tX = random.nextDouble();
+			final double tY = random.nextDouble();
+			
+			doAssertEquals(Color4I.blendARGB(colorARGB11, colorARGB12, colorARGB21, colorARGB22, tX, tY), PackedIntARGBKernels.blend(colorARGB11, colorARGB12, colorARGB21, colorARGB22, PackedIntARGBKernels.toFixedPoint(tX), PackedIntARGBKernels.toFixedPoint(tY)), 1);
+		}
+	}
+	
+	@Test
+	public void testConvolve() {
+		final int resolutionX = 7;
+		final int resolutionY = 5;
+		
+		final int[] colors = new int[resolutionX * resolutionY];
+		
+		final Random random = new Random(0L);
+		
+		for(int i = 0; i < colors.length; i++) {
+			colors[i] = random.nextInt();
+		}
+		
+		final double[] elements = new double[] {1.0D, 2.0D, 1.0D, 2.0D, 4.0D, 2.0D, 1.0D, 2.0D, 1.0D};
+		
+		final double bias = 0.1D;
+		final double factor = 1.0D / 16.0D;
+		
+		assertTrue(PackedIntARGBKernels.isFixedPoint(elements, factor, bias));
+		
+		final int[] weights = PackedIntARGBKernels.toWeights(elements, factor);
+		
+		final int weightBias = PackedIntARGBKernels.toBias(bias);
+		
+		for(int index = 0; index < colors.length; index++) {
+			final int x = index % resolutionX;
+			final int y = index / resolutionX;
+			
+			double colorR = 0.0D;
+			double colorG = 0.0D;
+			double colorB = 0.0D;
+			
+			for(int kernelY = 0; kernelY < 3; kernelY++) {
+				for(int kernelX = 0; kernelX < 3; kernelX++) {
+					final int imageX = x - 1 + kernelX;
+					final int imageY = y - 1 + kernelY;
+					
+					if(imageX >= 0 && imageX < resolutionX && imageY >= 0 && imageY < resolutionY) {
+						final int colorARGB = colors[imageY * resolutionX + imageX];
+						
+						final double element = elements[kernelY * 3 + kernelX];
+						
+						colorR += Color4D.fromIntARGBToDoubleR(colorARGB) * element;
+						colorG += Color4D.fromIntARGBToDoubleG(colorARGB) * element;
+						colorB += Color4D.fromIntARGBToDoubleB(colorARGB) * element;
+					}
+				}
+			}
+			
+			final int expected = Color4D.toIntARGB(colorR * factor + bias, colorG * factor + bias, colorB * factor + bias, Color4D.fromIntARGBToDoubleA(colors[index]));
+			
+			doAssertEquals(expected, PackedIntARGBKernels.convolve(colors, resolutionX, resolutionY, weights, 3, weightBias, index), 1);
+		}
+	}
+	
+	@Test
+	public void testConvolveIdentity() {
+		final int[] colors = new int[] {0x12345678, 0x9ABCDEF0, 0xFF00FF00, 0x00FF00FF};
+		final int[] weights = PackedIntARGBKernels.toWeights(new float[] {0.0F, 0.0F, 0.0F, 0.0F, 1.0F, 0.0F, 0.0F, 0.0F, 0.0F}, 1.0F);
+		
+		for(int index = 0; index < colors.length; index++) {
+			assertEquals(colors[index], PackedIntARGBKernels.convolve(colors, 2, 2, weights, 3, 0, index));
+		}
+	}
+	
+	@Test
+	public void testConvolveSaturates() {
+		final int[] colors = new int[] {0xFF808080};
+		
+		assertEquals(0xFFFFFFFF, PackedIntARGBKernels.convolve(colors, 1, 1, PackedIntARGBKernels.toWeights(new double[] {4.0D}, 1.0D), 1, 0, 0));
+		assertEquals(0xFF000000, PackedIntARGBKernels.convolve(colors, 1, 1, PackedIntARGBKernels.toWeights(new double[] {-1.0D}, 1.0D), 1, 0, 0));
+		assertEquals(0xFF000000, PackedIntARGBKernels.convolve(colors, 1, 1, PackedIntARGBKernels.toWeights(new double[] {1.0D}, 1.0D), 1, PackedIntARGBKernels.toBias(-1.0D), 0));
+	}
+	
+	@Test
+	public void testIsFixedPoint() {
+		assertTrue(PackedIntARGBKernels.isFixedPoint(new double[] {1.0D, 1.0D, 1.0D}, 1.0D / 3.0D, 0.0D));
+		assertTrue(PackedIntARGBKernels.isFixedPoint(new float[] {-1.0F, 5.0F, -1.0F}, 1.0F, 0.5F));
+		
+		assertFalse(PackedIntARGBKernels.isFixedPoint(new double[] {1000.0D}, 1.0D, 0.0D));
+		assertFalse(PackedIntARGBKernels.isFixedPoint(new double[] {1.0D}, 1.0D, 1000.0D));
+		assertFalse(PackedIntARGBKernels.isFixedPoint(new double[] {Double.NaN}, 1.0D, 0.0D));
+		assertFalse(PackedIntARGBKernels.isFixedPoint(new float[] {Float.POSITIVE_INFINITY}, 1.0F, 0.0F));
+	}
+	
+	@Test
+	public void testPremultiply() {
+		assertEquals(0xFF123456, PackedIntARGBKernels.premultiply(0xFF123456));
+		assertEquals(0x00000000, PackedIntARGBKernels.premultiply(0x00FFFFFF));
+		assertEquals(0x80808080, PackedIntARGBKernels.premultiply(0x80FFFFFF));
+		assertEquals(0x80402010, PackedIntARGBKernels.premultiply(0x80804020));
+		
+		for(int a = 0; a < 256; a++) {
+			for(int c = 0; c < 256; c++) {
+				assertEquals(Math.round(c * a / 255.0D), PackedIntARGBKernels.premultiply(a << 24 | c) & 0xFF);
+			}
+		}
+	}
+	
+	@Test
+	public void testPremultiplyArray() {
+		final int[] colors = new int[] {0x80FFFFFF, 0x80FFFFFF, 0x80FFFFFF, 0x80FFFFFF};
+		
+		PackedIntARGBKernels.premultiply(colors, 1, 3);
+		
+		assertArrayEquals(new int[] {0x80FFFFFF, 0x80808080, 0x80808080, 0x80FFFFFF}, colors);
+		
+		PackedIntARGBKernels.unpremultiply(colors, 1, 3);
+		
+		assertArrayEquals(new int[] {0x80FFFFFF, 0x80FFFFFF, 0x80FFFFFF, 0x80FFFFFF}, colors);
+	}
+	
+	@Test
+	public void testToBias() {
+		assertEquals(0, PackedIntARGBKernels.toBias(0.0D));
+		assertEquals(255 * PackedIntARGBKernels.ONE, PackedIntARGBKernels.toBias(1.0D));
+		assertEquals(-255 * PackedIntARGBKernels.ONE / 2, PackedIntARGBKernels.toBias(-0.5D));
+	}
+	
+	@Test
+	public void testToFixedPoint() {
+		assertEquals(0, PackedIntARGBKernels.toFixedPoint(0.0D));
+		assertEquals(PackedIntARGBKernels.ONE, PackedIntARGBKernels.toFixedPoint(1.0D));
+		assertEquals(PackedIntARGBKernels.ONE / 4, PackedIntARGBKernels.toFixedPoint(0.25D));
+		assertEquals(-PackedIntARGBKernels.ONE * 2, PackedIntARGBKernels.toFixedPoint(-2.0D));
+	}
+	
+	@Test
+	public void testToWeights() {
+		assertArrayEquals(new int[] {PackedIntARGBKernels.ONE / 2, PackedIntARGBKernels.ONE, -PackedIntARGBKernels.ONE / 4}, PackedIntARGBKernels.toWeights(new double[] {1.0D, 2.0D, -0.5D}, 0.5D));
+		assertArrayEquals(new int[] {PackedIntARGBKernels.ONE / 2, PackedIntARGBKernels.ONE, -PackedIntARGBKernels.ONE / 4}, PackedIntARGBKernels.toWeights(new float[] {1.0F, 2.0F, -0.5F}, 0.5F));
+	}
+	
+	@Test
+	public void testUnpremultiply() {
+		assertEquals(0xFF123456, PackedIntARGBKernels.unpremultiply(0xFF123456));
+		assertEquals(0x00000000, PackedIntARGBKernels.unpremultiply(0x00123456));
+		assertEquals(0x80FFFFFF, PackedIntARGBKernels.unpremultiply(0x80808080));
+		assertEquals(0x10FFFFFF, PackedIntARGBKernels.unpremultiply(0x10FFFFFF));
+		
+		for(int a = 1; a < 256; a++) {
+			for(int c = 0; c < 256; c++) {
+				final int colorARGB = PackedIntARGBKernels.premultiply(a << 24 | c << 16 | c << 8 | c);
+				
+				assertEquals(colorARGB, PackedIntARGBKernels.premultiply(PackedIntARGBKernels.unpremultiply(colorARGB)));
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doAssertEquals(final int expected, final int actual, final int tolerance) {
+		for(int shift = 0; shift < 32; shift += 8) {
+			final int componentExpected = expected >>> shift & 0xFF;
+			final int componentActual = actual >>> shift & 0xFF;
+			
+			assertTrue(Math.abs(componentExpected - componentActual) <= tolerance);
+		}
+	}
+}
\ No newline at end of file
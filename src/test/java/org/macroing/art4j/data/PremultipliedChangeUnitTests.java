@@ -0,0 +1,98 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class PremultipliedChangeUnitTests {
+	public PremultipliedChangeUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructor() {
+		assertTrue(new PremultipliedChange(true).isPremultiplied());
+		assertFalse(new PremultipliedChange(false).isPremultiplied());
+	}
+	
+	@Test
+	public void testEquals() {
+		final PremultipliedChange a = new PremultipliedChange(true);
+		final PremultipliedChange b = new PremultipliedChange(true);
+		final PremultipliedChange c = new PremultipliedChange(false);
+		final Object d = new Object();
+		
+		assertEquals(a, a);
+		assertEquals(a, b);
+		assertEquals(b, a);
+		
+		assertNotEquals(a, c);
+		assertNotEquals(c, a);
+		assertNotEquals(a, d);
+		assertNotEquals(d, a);
+	}
+	
+	@Test
+	public void testHashCode() {
+		final PremultipliedChange a = new PremultipliedChange(true);
+		final PremultipliedChange b = new PremultipliedChange(true);
+		
+		assertEquals(a.hashCode(), a.hashCode());
+		assertEquals(a.hashCode(), b.hashCode());
+	}
+	
+	@Test
+	public void testRedo() {
+		final Data data = new PackedIntARGBData();
+		
+		new PremultipliedChange(true).redo(data);
+		
+		assertTrue(data.isPremultiplied());
+		
+		new PremultipliedChange(false).redo(data);
+		
+		assertFalse(data.isPremultiplied());
+		
+		assertThrows(NullPointerException.class, () -> new PremultipliedChange(true).redo(null));
+	}
+	
+	@Test
+	public void testUndo() {
+		final Data data = new PackedIntARGBData();
+		
+		new PremultipliedChange(false).undo(data);
+		
+		assertTrue(data.isPremultiplied());
+		
+		new PremultipliedChange(true).undo(data);
+		
+		assertFalse(data.isPremultiplied());
+		
+		assertThrows(NullPointerException.class, () -> new PremultipliedChange(true).undo(null));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public final class ProgressMonitorUnitTests {
+	public ProgressMonitorUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAdvance() {
+		final List<Double> progress = new ArrayList<>();
+		
+		final ProgressMonitor progressMonitor = new ProgressMonitor(null, currentProgress -> progress.add(Double.valueOf(currentProgress)), 4);
+		
+		for(int i = 0; i < 6; i++) {
+			progressMonitor.advance();
+		}
+		
+		assertEquals(Arrays.asList(Double.valueOf(0.25D), Double.valueOf(0.5D), Double.valueOf(0.75D), Double.valueOf(1.0D)), progress);
+	}
+	
+	@Test
+	public void testAdvanceWithManyUnitsOfWork() {
+		final List<Double> progress = new ArrayList<>();
+		
+		final ProgressMonitor progressMonitor = new ProgressMonitor(null, currentProgress -> progress.add(Double.valueOf(currentProgress)), 1000);
+		
+		for(int i = 0; i < 1000; i++) {
+			progressMonitor.advance();
+		}
+		
+		assertEquals(100, progress.size());
+		assertEquals(1.0D, progress.get(99).doubleValue());
+	}
+	
+	@Test
+	public void testIsCancelledAndThrowIfCancelled() {
+		final CancellationToken cancellationToken = new CancellationToken();
+		
+		final ProgressMonitor progressMonitor = new ProgressMonitor(cancellationToken, null, 4);
+		progressMonitor.advance();
+		progressMonitor.throwIfCancelled();
+		
+		assertFalse(progressMonitor.isCancelled());
+		
+		cancellationToken.cancel();
+		
+		assertTrue(progressMonitor.isCancelled());
+		
+		assertThrows(CancellationException.class, () -> progressMonitor.advance());
+		assertThrows(CancellationException.class, () -> progressMonitor.throwIfCancelled());
+		
+		assertFalse(new ProgressMonitor(null, null, 0).isCancelled());
+	}
+}
\ No newline at end of file
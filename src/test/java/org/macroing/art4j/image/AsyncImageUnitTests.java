@@ -0,0 +1,373 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.art4j.color.Color4D;
+import org.macroing.art4j.color.Color4F;
+import org.macroing.art4j.data.DataFactory;
+import org.macroing.art4j.kernel.ConvolutionKernelND;
+import org.macroing.art4j.kernel.ConvolutionKernelNF;
+
+@SuppressWarnings("static-method")
+public final class AsyncImageUnitTests {
+	public AsyncImageUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testApply() {
+		final Image image = new Image(2, 2, Color4D.BLACK);
+		
+		final AsyncImage asyncImage = image.async(Runnable::run);
+		
+		assertSame(asyncImage, asyncImage.apply(currentImage -> currentImage.setColor4D(Color4D.RED, 0)));
+		assertSame(image, asyncImage.toCompletableFuture().join());
+		
+		assertEquals(Color4D.RED, image.getColor4D(0));
+		
+		assertThrows(NullPointerException.class, () -> asyncImage.apply(null));
+	}
+	
+	@Test
+	public void testCancel() throws InterruptedException {
+		final ExecutorService executorService = Executors.newSingleThreadExecutor();
+		
+		try {
+			final CountDownLatch countDownLatchStarted = new CountDownLatch(1);
+			final CountDownLatch countDownLatchRelease = new CountDownLatch(1);
+			
+			final AtomicInteger count = new AtomicInteger();
+			
+			final AsyncImage asyncImage = new Image(2, 2).async(executorService);
+			
+			final CompletableFuture<Integer> a = asyncImage.submit(image -> {
+				countDownLatchStarted.countDown();
+				
+				try {
+					countDownLatchRelease.await();
+				} catch(final InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				
+				return Integer.valueOf(count.incrementAndGet());
+			});
+			
+			final CompletableFuture<Integer> b = asyncImage.submit(image -> Integer.valueOf(count.incrementAndGet()));
+			
+			countDownLatchStarted.await();
+			
+			assertTrue(asyncImage.cancel());
+			assertFalse(asyncImage.cancel());
+			
+			countDownLatchRelease.countDown();
+			
+			assertTrue(a.isCancelled());
+			assertTrue(b.isCancelled());
+			
+			final CompletableFuture<Integer> c = asyncImage.submit(image -> Integer.valueOf(count.get()));
+			
+			assertEquals(1, c.join().intValue());
+		} finally {
+			executorService.shutdown();
+		}
+	}
+	
+	@Test
+	public void testCancelManyOperations() {
+		final ArrayDeque<Runnable> runnables = new ArrayDeque<>();
+		
+		final AsyncImage asyncImage = new Image(2, 2).async(runnables::add);
+		
+		final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+		
+		for(int i = 0; i < 100000; i++) {
+			futures.add(asyncImage.submit(image -> Integer.valueOf(0)));
+		}
+		
+		assertTrue(asyncImage.cancel());
+		
+		final CompletableFuture<Integer> future = asyncImage.submit(image -> Integer.valueOf(1));
+		
+		while(!runnables.isEmpty()) {
+			runnables.poll().run();
+		}
+		
+		for(final CompletableFuture<Integer> currentFuture : futures) {
+			assertTrue(currentFuture.isCancelled());
+		}
+		
+		assertTrue(future.isDone());
+		assertEquals(1, future.join().intValue());
+	}
+	@Test
+	public void testCancelRunningOperation() {
+		final Image image = new Image(4, 4, Color4D.BLACK);
+		
+		final AsyncImage asyncImage = image.async(Runnable::run);
+		
+		final CompletableFuture<Image> future = asyncImage.submit(currentImage -> currentImage.fillD((color, x, y) -> {
+			if(y == 2) {
+				asyncImage.cancel();
+			}
+			
+			return Color4D.WHITE;
+		}));
+		
+		assertTrue(future.isCancelled());
+		
+		for(int i = 0; i < image.getResolution(); i++) {
+			assertEquals(Color4D.BLACK, image.getColor4D(i));
+		}
+		
+		assertFalse(image.getCancellationToken().isPresent());
+		assertFalse(image.getProgressListener().isPresent());
+	}
+	
+	@Test
+	public void testConvolveConvolutionKernelND() {
+		final Image a = new Image(4, 4, Color4D.BLACK, DataFactory.forColor4D());
+		final Image b = new Image(4, 4, Color4D.BLACK, DataFactory.forColor4D());
+		
+		a.setColor4D(Color4D.WHITE, 1, 1);
+		b.setColor4D(Color4D.WHITE, 1, 1);
+		
+		a.convolve(ConvolutionKernelND.GAUSSIAN_BLUR_3);
+		b.async(Runnable::run).convolve(ConvolutionKernelND.GAUSSIAN_BLUR_3).toCompletableFuture().join();
+		
+		assertEquals(a, b);
+		
+		assertThrows(NullPointerException.class, () -> b.async(Runnable::run).convolve((ConvolutionKernelND)(null)));
+	}
+	
+	@Test
+	public void testConvolveConvolutionKernelNF() {
+		final Image a = new Image(4, 4, Color4F.BLACK, DataFactory.forColor4F());
+		final Image b = new Image(4, 4, Color4F.BLACK, DataFactory.forColor4F());
+		
+		a.setColor4F(Color4F.WHITE, 1, 1);
+		b.setColor4F(Color4F.WHITE, 1, 1);
+		
+		a.convolve(ConvolutionKernelNF.GAUSSIAN_BLUR_3);
+		b.async(Runnable::run).convolve(ConvolutionKernelNF.GAUSSIAN_BLUR_3).toCompletableFuture().join();
+		
+		assertEquals(a, b);
+		
+		assertThrows(NullPointerException.class, () -> b.async(Runnable::run).convolve((ConvolutionKernelNF)(null)));
+	}
+	
+	@Test
+	public void testFillD() {
+		final Image image = new Image(2, 2, Color4D.BLACK, DataFactory.forColor4D());
+		
+		image.async(Runnable::run).fillD(Color4D.RED).fillD((color, x, y) -> x == 0 ? Color4D.GREEN : color).toCompletableFuture().join();
+		
+		assertEquals(Color4D.GREEN, image.getColor4D(0, 0));
+		assertEquals(Color4D.RED, image.getColor4D(1, 0));
+		
+		assertThrows(NullPointerException.class, () -> image.async(Runnable::run).fillD((Color4D)(null)));
+	}
+	
+	@Test
+	public void testFillF() {
+		final Image image = new Image(2, 2, Color4F.BLACK, DataFactory.forColor4F());
+		
+		image.async(Runnable::run).fillF(Color4F.RED).fillF((color, x, y) -> x == 0 ? Color4F.GREEN : color).toCompletableFuture().join();
+		
+		assertEquals(Color4F.GREEN, image.getColor4F(0, 0));
+		assertEquals(Color4F.RED, image.getColor4F(1, 0));
+		
+		assertThrows(NullPointerException.class, () -> image.async(Runnable::run).fillF((Color4F)(null)));
+	}
+	
+	@Test
+	public void testFlipFlipXAndFlipY() {
+		final Image a = new Image(3, 2, Color4D.BLACK);
+		final Image b = new Image(3, 2, Color4D.BLACK);
+		
+		a.setColor4D(Color4D.RED, 0, 0);
+		b.setColor4D(Color4D.RED, 0, 0);
+		
+		a.flip().flipX().flipY().flipX();
+		b.async(Runnable::run).flip().flipX().flipY().flipX().toCompletableFuture().join();
+		
+		assertEquals(a, b);
+	}
+	
+	@Test
+	public void testProgress() {
+		final List<Double> progress = new ArrayList<>();
+		
+		final
+		AsyncImage asyncImage = new Image(2, 2).async(Runnable::run, currentProgress -> progress.add(Double.valueOf(currentProgress)));
+		asyncImage.flipX();
+		asyncImage.flipY();
+		
+		assertEquals(Arrays.asList(Double.valueOf(1.0D), Double.valueOf(1.0D)), progress);
+		
+		assertThrows(NullPointerException.class, () -> new Image(2, 2).async(Runnable::run, null));
+		assertThrows(NullPointerException.class, () -> new Image(2, 2).async(null));
+	}
+	
+	@Test
+	public void testProgressWithinOperation() {
+		final List<Double> progress = new ArrayList<>();
+		
+		final
+		AsyncImage asyncImage = new Image(4, 4).async(Runnable::run, currentProgress -> progress.add(Double.valueOf(currentProgress)));
+		asyncImage.fillD((color, x, y) -> Color4D.WHITE);
+		
+		assertEquals(Arrays.asList(Double.valueOf(0.25D), Double.valueOf(0.5D), Double.valueOf(0.75D), Double.valueOf(1.0D)), progress);
+	}
+	
+	@Test
+	public void testRotateAndScale() {
+		final Image a = new Image(4, 2, Color4D.RED);
+		final Image b = new Image(4, 2, Color4D.RED);
+		
+		a.rotate(90.0D).rotate(90.0F).scale(2, 2);
+		b.async(Runnable::run).rotate(90.0D).rotate(90.0F).scale(2, 2).toCompletableFuture().join();
+		
+		assertEquals(a, b);
+	}
+	
+	@Test
+	public void testSubmit() throws InterruptedException {
+		final ExecutorService executorService = Executors.newFixedThreadPool(4);
+		
+		try {
+			final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+			
+			final AtomicInteger running = new AtomicInteger();
+			
+			final Image image = new Image(2, 2);
+			
+			final AsyncImage a = image.async(executorService);
+			final AsyncImage b = image.async(executorService);
+			
+			final List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+			
+			for(int i = 0; i < 100; i++) {
+				final int j = i;
+				
+				futures.add((i % 2 == 0 ? a : b).submit(currentImage -> {
+					final boolean isAlone = running.incrementAndGet() == 1;
+					
+					order.add(Integer.valueOf(j));
+					
+					running.decrementAndGet();
+					
+					return Boolean.valueOf(isAlone);
+				}));
+			}
+			
+			for(final CompletableFuture<Boolean> future : futures) {
+				assertTrue(future.join().booleanValue());
+			}
+			
+			for(int i = 0; i < 100; i++) {
+				assertEquals(i, order.get(i).intValue());
+			}
+			
+			assertThrows(NullPointerException.class, () -> a.submit(null));
+		} finally {
+			executorService.shutdown();
+		}
+	}
+	
+	@Test
+	public void testSubmitFailure() {
+		final RuntimeException runtimeException = new RuntimeException();
+		
+		final AtomicInteger count = new AtomicInteger();
+		
+		final Image image = new Image(2, 2);
+		
+		final AsyncImage asyncImage = image.async(Runnable::run);
+		
+		final CompletableFuture<Integer> a = asyncImage.submit(currentImage -> {
+			throw runtimeException;
+		});
+		
+		final CompletableFuture<Integer> b = asyncImage.submit(currentImage -> Integer.valueOf(count.incrementAndGet()));
+		final CompletableFuture<Integer> c = image.async(Runnable::run).submit(currentImage -> Integer.valueOf(count.incrementAndGet()));
+		
+		assertSame(runtimeException, assertThrows(CompletionException.class, () -> a.join()).getCause());
+		assertSame(runtimeException, assertThrows(CompletionException.class, () -> b.join()).getCause());
+		assertSame(runtimeException, assertThrows(CompletionException.class, () -> asyncImage.toCompletableFuture().join()).getCause());
+		
+		assertEquals(1, c.join().intValue());
+		assertEquals(1, count.get());
+	}
+	
+	@Test
+	public void testSubmitRejected() {
+		final ExecutorService executorService = Executors.newSingleThreadExecutor();
+		
+		executorService.shutdown();
+		
+		final CompletableFuture<Integer> future = new Image(2, 2).async(executorService).submit(image -> Integer.valueOf(1));
+		
+		assertTrue(assertThrows(CompletionException.class, () -> future.join()).getCause() instanceof RejectedExecutionException);
+	}
+	
+	@Test
+	public void testToCompletableFuture() {
+		final Image image = new Image(2, 2);
+		
+		final AsyncImage asyncImage = image.async();
+		
+		assertSame(image, asyncImage.getImage());
+		assertSame(image, asyncImage.toCompletableFuture().join());
+		assertSame(image, asyncImage.flipX().toCompletableFuture().join());
+		
+		final List<Runnable> runnables = new ArrayList<>();
+		
+		final CompletableFuture<Integer> future = image.async(runnables::add).submit(currentImage -> Integer.valueOf(1));
+		
+		assertTrue(future.cancel(false));
+		
+		runnables.forEach(Runnable::run);
+		
+		assertThrows(CancellationException.class, () -> future.join());
+	}
+}
\ No newline at end of file
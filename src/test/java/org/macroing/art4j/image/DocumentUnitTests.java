@@ -0,0 +1,307 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.art4j.color.Color4D;
+import org.macroing.art4j.color.Color4I;
+import org.macroing.art4j.data.Data;
+import org.macroing.art4j.data.DataFactory;
+import org.macroing.art4j.pixel.CompositeOperator;
+import org.macroing.geo4j.common.Point2I;
+import org.macroing.geo4j.shape.rectangle.Rectangle2I;
+
+@SuppressWarnings("static-method")
+public final class DocumentUnitTests {
+	public DocumentUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAddLayerImage() {
+		final Document document = new Document(4, 4);
+		
+		final Image image = new Image(2, 2);
+		
+		final Layer layer = document.addLayer(image);
+		
+		assertSame(image, layer.getImage());
+		
+		assertEquals(Arrays.asList(layer), document.getLayers());
+		
+		assertThrows(NullPointerException.class, () -> document.addLayer((Image)(null)));
+	}
+	
+	@Test
+	public void testAddLayerIntLayer() {
+		final Document document = new Document(4, 4);
+		
+		final Layer layerA = new Layer(new Image(2, 2));
+		final Layer layerB = new Layer(new Image(2, 2));
+		
+		assertTrue(document.addLayer(0, layerA));
+		assertTrue(document.addLayer(0, layerB));
+		assertFalse(document.addLayer(0, layerA));
+		
+		assertEquals(Arrays.asList(layerB, layerA), document.getLayers());
+		
+		assertThrows(IllegalArgumentException.class, () -> document.addLayer(-1, new Layer(new Image(2, 2))));
+		assertThrows(IllegalArgumentException.class, () -> document.addLayer(+3, new Layer(new Image(2, 2))));
+		assertThrows(NullPointerException.class, () -> document.addLayer(0, null));
+	}
+	
+	@Test
+	public void testAddLayerLayer() {
+		final Document documentA = new Document(4, 4);
+		final Document documentB = new Document(4, 4);
+		
+		final Layer layer = new Layer(new Image(2, 2));
+		
+		assertTrue(documentA.addLayer(layer));
+		assertFalse(documentA.addLayer(layer));
+		
+		assertEquals(Arrays.asList(layer), documentA.getLayers());
+		
+		assertThrows(IllegalArgumentException.class, () -> documentB.addLayer(layer));
+		assertThrows(NullPointerException.class, () -> documentA.addLayer((Layer)(null)));
+		
+		assertTrue(documentA.removeLayer(layer));
+		assertTrue(documentB.addLayer(layer));
+	}
+	
+	@Test
+	public void testConstructorIntInt() {
+		final Document document = new Document(100, 50);
+		
+		assertEquals(100, document.getResolutionX());
+		assertEquals(50, document.getResolutionY());
+		assertEquals(Document.DEFAULT_TILE_SIZE, document.getTileSize());
+		
+		assertTrue(document.getLayers().isEmpty());
+		assertTrue(document.isDirty());
+		
+		assertThrows(IllegalArgumentException.class, () -> new Document(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new Document(1, 0));
+		assertThrows(IllegalArgumentException.class, () -> new Document(Integer.MAX_VALUE, Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testConstructorIntIntInt() {
+		final Document document = new Document(100, 50, 16);
+		
+		assertEquals(100, document.getResolutionX());
+		assertEquals(50, document.getResolutionY());
+		assertEquals(16, document.getTileSize());
+		
+		assertEquals(28, document.update());
+		
+		assertThrows(IllegalArgumentException.class, () -> new Document(1, 1, 0));
+	}
+	
+	@Test
+	public void testGetComposite() {
+		final int colorARGBRed = Color4I.toIntARGB(255, 0, 0, 255);
+		final int colorARGBBlue = Color4I.toIntARGB(0, 0, 255, 128);
+		final int colorARGBResult = Color4I.unpremultiplyARGB(CompositeOperator.OVER.applyARGB(Color4I.premultiplyARGB(colorARGBBlue), colorARGBRed));
+		
+		final Document document = new Document(4, 4, 2);
+		
+		document.addLayer(new Image(4, 4, colorARGBRed));
+		document.addLayer(new Layer(new Image(2, 2, colorARGBBlue), new Point2I(1, 1), CompositeOperator.OVER, 1.0D));
+		
+		final Image image = document.getComposite();
+		
+		assertSame(image, document.getComposite());
+		
+		assertEquals(4, image.getResolutionX());
+		assertEquals(4, image.getResolutionY());
+		
+		for(int y = 0; y < 4; y++) {
+			for(int x = 0; x < 4; x++) {
+				final boolean isInside = x >= 1 && x <= 2 && y >= 1 && y <= 2;
+				
+				assertEquals(isInside ? colorARGBResult : colorARGBRed, image.getData().getColorARGB(x, y));
+			}
+		}
+	}
+	
+	@Test
+	public void testGetCompositeWithColor4DData() {
+		final Document document = new Document(4, 4);
+		
+		document.addLayer(new Image(4, 4, Color4D.RED, DataFactory.forColor4D()));
+		document.addLayer(new Layer(new Image(1, 1, Color4D.BLUE, DataFactory.forColor4D()), new Point2I(3, 3), CompositeOperator.OVER, 1.0D));
+		
+		final Data data = document.getComposite().getData();
+		
+		assertEquals(Color4I.toIntARGB(255, 0, 0, 255), data.getColorARGB(0, 0));
+		assertEquals(Color4I.toIntARGB(0, 0, 255, 255), data.getColorARGB(3, 3));
+	}
+	
+	@Test
+	public void testGetCompositeWithOpacity() {
+		final int colorARGBRed = Color4I.toIntARGB(255, 0, 0, 255);
+		final int colorARGBBlue = Color4I.toIntARGB(0, 0, 255, 255);
+		
+		final Document document = new Document(2, 2);
+		
+		document.addLayer(new Image(2, 2, colorARGBRed));
+		
+		final Layer layer = document.addLayer(new Image(2, 2, colorARGBBlue));
+		
+		layer.setCompositeOperator(CompositeOperator.OUT);
+		layer.setOpacity(0.0D);
+		
+		assertEquals(colorARGBRed, document.getComposite().getData().getColorARGB(0, 0));
+		
+		layer.setCompositeOperator(CompositeOperator.OVER);
+		layer.setOpacity(0.5D);
+		
+		final int colorARGB = document.getComposite().getData().getColorARGB(0, 0);
+		
+		assertEquals(255, Color4I.fromIntARGBToIntA(colorARGB));
+		assertEquals(128, Color4I.fromIntARGBToIntR(colorARGB), 1);
+		assertEquals(0, Color4I.fromIntARGBToIntG(colorARGB));
+		assertEquals(128, Color4I.fromIntARGBToIntB(colorARGB), 1);
+		
+		layer.setVisible(false);
+		
+		assertEquals(colorARGBRed, document.getComposite().getData().getColorARGB(0, 0));
+	}
+	
+	@Test
+	public void testInvalidate() {
+		final Document document = new Document(8, 8, 4);
+		
+		assertEquals(4, document.update());
+		assertEquals(0, document.update());
+		
+		document.invalidate();
+		
+		assertEquals(4, document.update());
+	}
+	
+	@Test
+	public void testIsDirty() {
+		final Document document = new Document(8, 8, 4);
+		
+		final Image image = new Image(8, 8);
+		
+		document.addLayer(image);
+		
+		assertTrue(document.isDirty());
+		
+		document.update();
+		
+		assertFalse(document.isDirty());
+		
+		image.getData().setColorARGB(0xFF000000, 0, 0);
+		
+		assertTrue(document.isDirty());
+	}
+	
+	@Test
+	public void testMoveLayer() {
+		final int colorARGBRed = Color4I.toIntARGB(255, 0, 0, 255);
+		final int colorARGBBlue = Color4I.toIntARGB(0, 0, 255, 255);
+		
+		final Document document = new Document(8, 8, 4);
+		
+		final Layer layerA = document.addLayer(new Image(8, 8, colorARGBRed));
+		final Layer layerB = document.addLayer(new Image(2, 2, colorARGBBlue));
+		
+		assertEquals(colorARGBBlue, document.getComposite().getData().getColorARGB(0, 0));
+		
+		assertFalse(document.moveLayer(layerB, 1));
+		assertFalse(document.moveLayer(new Layer(new Image(2, 2)), 0));
+		assertTrue(document.moveLayer(layerB, 0));
+		
+		assertEquals(Arrays.asList(layerB, layerA), document.getLayers());
+		
+		assertEquals(1, document.update());
+		assertEquals(colorARGBRed, document.getComposite().getData().getColorARGB(0, 0));
+		
+		assertThrows(IllegalArgumentException.class, () -> document.moveLayer(layerA, 2));
+		assertThrows(NullPointerException.class, () -> document.moveLayer(null, 0));
+	}
+	
+	@Test
+	public void testRemoveLayer() {
+		final int colorARGBBlue = Color4I.toIntARGB(0, 0, 255, 255);
+		
+		final Document document = new Document(8, 8, 4);
+		
+		final Layer layer = document.addLayer(new Image(2, 2, colorARGBBlue));
+		
+		assertEquals(colorARGBBlue, document.getComposite().getData().getColorARGB(1, 1));
+		
+		assertTrue(document.removeLayer(layer));
+		assertFalse(document.removeLayer(layer));
+		
+		assertEquals(1, document.update());
+		assertEquals(0, document.getComposite().getData().getColorARGB(1, 1));
+		
+		assertThrows(NullPointerException.class, () -> document.removeLayer(null));
+	}
+	
+	@Test
+	public void testUpdate() {
+		final int colorARGBRed = Color4I.toIntARGB(255, 0, 0, 255);
+		final int colorARGBBlue = Color4I.toIntARGB(0, 0, 255, 255);
+		
+		final Document document = new Document(8, 8, 4);
+		
+		final Image image = new Image(8, 8, colorARGBRed);
+		
+		final Layer layer = document.addLayer(new Image(2, 2, colorARGBBlue));
+		
+		document.addLayer(0, new Layer(image));
+		
+		assertEquals(4, document.update());
+		assertEquals(0, document.update());
+		
+		final Data dataComposite = document.getComposite().getData();
+		
+		dataComposite.clearDirtyRegions();
+		
+		image.getData().setColorARGB(colorARGBBlue, 5, 6);
+		
+		assertEquals(1, document.update());
+		assertEquals(colorARGBBlue, document.getComposite().getData().getColorARGB(5, 6));
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(4, 4), new Point2I(7, 7))), dataComposite.getDirtyRegions());
+		
+		layer.setPosition(new Point2I(3, 0));
+		
+		assertEquals(2, document.update());
+		assertEquals(colorARGBRed, document.getComposite().getData().getColorARGB(0, 0));
+		assertEquals(colorARGBBlue, document.getComposite().getData().getColorARGB(3, 0));
+		assertEquals(colorARGBBlue, document.getComposite().getData().getColorARGB(4, 1));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,252 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.art4j.color.Color4D;
+import org.macroing.art4j.data.DataFactory;
+
+@SuppressWarnings("static-method")
+public final class ImageBatchProcessorUnitTests {
+	public ImageBatchProcessorUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testClose() {
+		final ImageBatchProcessor imageBatchProcessor = new ImageBatchProcessor(DataFactory.forColor4D(), 1, 1, 1);
+		
+		final List<CompletableFuture<Integer>> futures = imageBatchProcessor.process(Arrays.asList(Integer.valueOf(1), Integer.valueOf(2)), source -> new Image(1, 1), Function.identity(), (source, image) -> source);
+		
+		imageBatchProcessor.close();
+		
+		assertTrue(futures.get(0).isDone());
+		assertTrue(futures.get(1).isDone());
+		
+		assertEquals(2, futures.get(1).join().intValue());
+		
+		final CompletableFuture<Integer> future = imageBatchProcessor.process(Arrays.asList(Integer.valueOf(3)), source -> new Image(1, 1), Function.identity(), (source, image) -> source).get(0);
+		
+		final CompletionException completionException = assertThrows(CompletionException.class, () -> future.join());
+		
+		assertTrue(completionException.getCause() instanceof RejectedExecutionException);
+	}
+	
+	@Test
+	public void testConstructor() {
+		try(final ImageBatchProcessor imageBatchProcessor = new ImageBatchProcessor()) {
+			assertEquals(DataFactory.forPackedIntARGB().getClass(), imageBatchProcessor.getDataFactory().getClass());
+			assertEquals(Runtime.getRuntime().availableProcessors(), imageBatchProcessor.getComputeConcurrency());
+			assertEquals(Runtime.getRuntime().availableProcessors() * 2, imageBatchProcessor.getIOConcurrency());
+			assertEquals(Runtime.getRuntime().availableProcessors() * 4, imageBatchProcessor.getCapacity());
+		}
+	}
+	
+	@Test
+	public void testConstructorDataFactoryIntIntInt() {
+		final DataFactory dataFactory = DataFactory.forColor4F();
+		
+		try(final ImageBatchProcessor imageBatchProcessor = new ImageBatchProcessor(dataFactory, 3, 2, 5)) {
+			assertEquals(dataFactory, imageBatchProcessor.getDataFactory());
+			assertEquals(2, imageBatchProcessor.getComputeConcurrency());
+			assertEquals(3, imageBatchProcessor.getIOConcurrency());
+			assertEquals(5, imageBatchProcessor.getCapacity());
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new ImageBatchProcessor(DataFactory.forColor4D(), 1, 1, 0));
+		assertThrows(IllegalArgumentException.class, () -> new ImageBatchProcessor(DataFactory.forColor4D(), 1, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new ImageBatchProcessor(DataFactory.forColor4D(), 0, 1, 1));
+		assertThrows(NullPointerException.class, () -> new ImageBatchProcessor(null, 1, 1, 1));
+		assertThrows(NullPointerException.class, () -> new ImageBatchProcessor(null));
+	}
+	
+	@Test
+	public void testIsUsingVirtualThreads() {
+		boolean isUsingVirtualThreads = true;
+		
+		try {
+			Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		} catch(@SuppressWarnings("unused") final NoSuchMethodException e) {
+			isUsingVirtualThreads = false;
+		}
+		
+		try(final ImageBatchProcessor imageBatchProcessor = new ImageBatchProcessor()) {
+			assertEquals(Boolean.valueOf(isUsingVirtualThreads), Boolean.valueOf(imageBatchProcessor.isUsingVirtualThreads()));
+		}
+	}
+	
+	@Test
+	public void testProcess() {
+		final List<Integer> sources = new ArrayList<>();
+		
+		for(int i = 0; i < 32; i++) {
+			sources.add(Integer.valueOf(i));
+		}
+		
+		final AtomicInteger inFlightCount = new AtomicInteger();
+		final AtomicInteger inFlightCountMaximum = new AtomicInteger();
+		
+		try(final ImageBatchProcessor imageBatchProcessor = new ImageBatchProcessor(DataFactory.forColor4D(), 4, 2, 3)) {
+			final List<CompletableFuture<Integer>> futures = imageBatchProcessor.process(sources, source -> {
+				inFlightCountMaximum.accumulateAndGet(inFlightCount.incrementAndGet(), Math::max);
+				
+				return new Image(source.intValue() + 1, 1, Color4D.BLACK);
+			}, image -> image.fillD(Color4D.WHITE), (source, image) -> {
+				inFlightCount.decrementAndGet();
+				
+				assertEquals(Color4D.WHITE, image.getColor4D(0));
+				
+				return Integer.valueOf(image.getResolutionX());
+			});
+			
+			assertEquals(sources.size(), futures.size());
+			
+			for(int i = 0; i < futures.size(); i++) {
+				assertEquals(i + 1, futures.get(i).join().intValue());
+			}
+		}
+		
+		assertTrue(inFlightCountMaximum.get() <= 3);
+	}
+	
+	@Test
+	public void testProcessFailure() {
+		try(final ImageBatchProcessor imageBatchProcessor = new ImageBatchProcessor(DataFactory.forColor4D(), 1, 1, 1)) {
+			final List<CompletableFuture<Integer>> futures = imageBatchProcessor.process(Arrays.asList(Integer.valueOf(0), Integer.valueOf(1), Integer.valueOf(2), Integer.valueOf(3)), source -> source.intValue() == 1 ? null : new Image(1, 1), image -> {
+				if(image.getResolutionX() == 2) {
+					throw new IllegalStateException();
+				}
+				
+				return image;
+			}, (source, image) -> {
+				if(source.intValue() == 2) {
+					image.scale(2, 1);
+				}
+				
+				if(source.intValue() == 3) {
+					throw new UnsupportedOperationException();
+				}
+				
+				return source;
+			});
+			
+			assertEquals(0, futures.get(0).join().intValue());
+			
+			assertTrue(assertThrows(CompletionException.class, () -> futures.get(1).join()).getCause() instanceof NullPointerException);
+			assertTrue(assertThrows(CompletionException.class, () -> futures.get(3).join()).getCause() instanceof UnsupportedOperationException);
+			
+			assertEquals(2, futures.get(2).join().intValue());
+			
+			assertThrows(NullPointerException.class, () -> imageBatchProcessor.process(Arrays.asList(Integer.valueOf(0), null), source -> new Image(), Function.identity(), (source, image) -> source));
+			assertThrows(NullPointerException.class, () -> imageBatchProcessor.process(Arrays.asList(Integer.valueOf(0)), source -> new Image(), Function.identity(), null));
+			assertThrows(NullPointerException.class, () -> imageBatchProcessor.process(Arrays.asList(Integer.valueOf(0)), source -> new Image(), null, (source, image) -> source));
+			assertThrows(NullPointerException.class, () -> imageBatchProcessor.process(Arrays.asList(Integer.valueOf(0)), null, Function.identity(), (source, image) -> source));
+			assertThrows(NullPointerException.class, () -> imageBatchProcessor.process(null, source -> new Image(), Function.identity(), (source, image) -> source));
+		}
+	}
+	
+	@Test
+	public void testProcessFiles() throws IOException {
+		final File directory = Files.createTempDirectory("ImageBatchProcessor").toFile();
+		final File directoryInput = new File(directory, "Input");
+		final File directoryOutput = new File(directory, "Output");
+		
+		final File fileA = new File(directoryInput, "A.png");
+		final File fileB = new File(directoryInput, "B.png");
+		final File fileC = new File(directoryInput, "C.png");
+		
+		try {
+			assertTrue(new Image(4, 2, Color4D.WHITE).save(fileA));
+			assertTrue(new Image(8, 4, Color4D.WHITE).save(fileB));
+			
+			try(final ImageBatchProcessor imageBatchProcessor = new ImageBatchProcessor(DataFactory.forPackedIntARGB(), 2, 2, 2)) {
+				final List<CompletableFuture<File>> futures = imageBatchProcessor.processFiles(Arrays.asList(fileA, fileB, fileC), directoryOutput, "png", image -> image.scale(0.5D, 0.5D));
+				
+				assertEquals(new File(directoryOutput, "A.png"), futures.get(0).join());
+				assertEquals(new File(directoryOutput, "B.png"), futures.get(1).join());
+				
+				assertTrue(assertThrows(CompletionException.class, () -> futures.get(2).join()).getCause() instanceof UncheckedIOException);
+				
+				assertEquals(2, new Image(futures.get(0).join()).getResolutionX());
+				assertEquals(4, new Image(futures.get(1).join()).getResolutionX());
+				
+				assertThrows(NullPointerException.class, () -> imageBatchProcessor.processFiles(Arrays.asList(fileA), directoryOutput, "png", null));
+				assertThrows(NullPointerException.class, () -> imageBatchProcessor.processFiles(Arrays.asList(fileA), directoryOutput, null, image -> image));
+				assertThrows(NullPointerException.class, () -> imageBatchProcessor.processFiles(Arrays.asList(fileA), null, "png", image -> image));
+				assertThrows(NullPointerException.class, () -> imageBatchProcessor.processFiles(null, directoryOutput, "png", image -> image));
+			}
+		} finally {
+			for(final File file : new File[] {fileA, fileB, new File(directoryOutput, "A.png"), new File(directoryOutput, "B.png"), directoryInput, directoryOutput, directory}) {
+				file.delete();
+			}
+		}
+	}
+	
+	@Test
+	public void testProcessURLs() throws IOException {
+		final File directory = Files.createTempDirectory("ImageBatchProcessor").toFile();
+		final File directoryInput = new File(directory, "Input");
+		final File directoryOutput = new File(directory, "Output");
+		
+		final File file = new File(directoryInput, "A.png");
+		
+		try {
+			assertTrue(new Image(4, 2, Color4D.WHITE).save(file));
+			
+			try(final ImageBatchProcessor imageBatchProcessor = new ImageBatchProcessor()) {
+				final List<CompletableFuture<File>> futures = imageBatchProcessor.processURLs(Arrays.asList(file.toURI().toURL()), directoryOutput, "jpg", image -> image.flipX());
+				
+				assertEquals(new File(directoryOutput, "A.jpg"), futures.get(0).join());
+				
+				assertFalse(futures.get(0).isCompletedExceptionally());
+				
+				assertThrows(NullPointerException.class, () -> imageBatchProcessor.processURLs(Arrays.asList(file.toURI().toURL()), directoryOutput, "png", null));
+				assertThrows(NullPointerException.class, () -> imageBatchProcessor.processURLs(Arrays.asList(file.toURI().toURL()), directoryOutput, null, image -> image));
+				assertThrows(NullPointerException.class, () -> imageBatchProcessor.processURLs(Arrays.asList(file.toURI().toURL()), null, "png", image -> image));
+				assertThrows(NullPointerException.class, () -> imageBatchProcessor.processURLs(null, directoryOutput, "png", image -> image));
+			}
+		} finally {
+			for(final File currentFile : new File[] {file, new File(directoryOutput, "A.jpg"), directoryInput, directoryOutput, directory}) {
+				currentFile.delete();
+			}
+		}
+	}
+}
\ No newline at end of file
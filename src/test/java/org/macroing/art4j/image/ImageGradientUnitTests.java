@@ -0,0 +1,223 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.art4j.color.Color4D;
+import org.macroing.art4j.image.ImageGradient.Operator;
+
+@SuppressWarnings("static-method")
+public final class ImageGradientUnitTests {
+	public ImageGradientUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testEquals() {
+		final ImageGradient a = doCreateImpulse().computeGradient(Operator.SOBEL);
+		final ImageGradient b = doCreateImpulse().computeGradient(Operator.SOBEL);
+		final ImageGradient c = doCreateImpulse().computeGradient(Operator.SCHARR);
+		final ImageGradient d = new Image(3, 3, Color4D.BLACK).computeGradient(Operator.SOBEL);
+		
+		assertEquals(a, a);
+		assertEquals(a, b);
+		assertEquals(b, a);
+		
+		assertNotEquals(a, c);
+		assertNotEquals(c, a);
+		assertNotEquals(a, d);
+		assertNotEquals(d, a);
+		assertNotEquals(a, null);
+		assertNotEquals(a, new Object());
+	}
+	
+	@Test
+	public void testGetDirection() {
+		final ImageGradient imageGradient = doCreateImpulse().computeGradient(Operator.SOBEL);
+		
+		assertEquals(Math.PI * 0.25D, imageGradient.getDirection(0, 0));
+		assertEquals(Math.PI * 0.00D, imageGradient.getDirection(0, 1));
+		assertEquals(Math.PI * 0.50D, imageGradient.getDirection(1, 0));
+		assertEquals(Math.PI * -0.75D, imageGradient.getDirection(2, 2));
+		assertEquals(0.0D, imageGradient.getDirection(3, 3));
+	}
+	
+	@Test
+	public void testGetDirections() {
+		final ImageGradient imageGradient = doCreateImpulse().computeGradient(Operator.SOBEL);
+		
+		final double[] directions = imageGradient.getDirections();
+		
+		assertEquals(9, directions.length);
+		
+		for(int y = 0; y < 3; y++) {
+			for(int x = 0; x < 3; x++) {
+				assertEquals(imageGradient.getDirection(x, y), directions[y * 3 + x]);
+			}
+		}
+	}
+	
+	@Test
+	public void testGetGradientX() {
+		final ImageGradient imageGradientScharr = doCreateImpulse().computeGradient(Operator.SCHARR);
+		final ImageGradient imageGradientSobel = doCreateImpulse().computeGradient(Operator.SOBEL);
+		
+		assertEquals(+1.0D, imageGradientSobel.getGradientX(0, 0));
+		assertEquals(+2.0D, imageGradientSobel.getGradientX(0, 1));
+		assertEquals(+0.0D, imageGradientSobel.getGradientX(1, 0));
+		assertEquals(+0.0D, imageGradientSobel.getGradientX(1, 1));
+		assertEquals(-2.0D, imageGradientSobel.getGradientX(2, 1));
+		assertEquals(-1.0D, imageGradientSobel.getGradientX(2, 2));
+		assertEquals(+0.0D, imageGradientSobel.getGradientX(-1, 0));
+		
+		assertEquals(+3.0D, imageGradientScharr.getGradientX(0, 0));
+		assertEquals(+10.0D, imageGradientScharr.getGradientX(0, 1));
+		assertEquals(-10.0D, imageGradientScharr.getGradientX(2, 1));
+	}
+	
+	@Test
+	public void testGetGradientXAndGetGradientYMatchesConvolution() {
+		final Random random = new Random(1L);
+		
+		final Image image = new Image(17, 11);
+		
+		for(int i = 0; i < image.getResolution(); i++) {
+			image.setColor4D(new Color4D(random.nextDouble(), random.nextDouble(), random.nextDouble(), 1.0D), i);
+		}
+		
+		final ImageGradient imageGradient = image.computeGradient(Operator.SOBEL);
+		
+		final double[][] kernel = {
+			{-1.0D, 0.0D, 1.0D},
+			{-2.0D, 0.0D, 2.0D},
+			{-1.0D, 0.0D, 1.0D}
+		};
+		
+		for(int y = 0; y < image.getResolutionY(); y++) {
+			for(int x = 0; x < image.getResolutionX(); x++) {
+				double gradientX = 0.0D;
+				double gradientY = 0.0D;
+				
+				for(int kernelY = 0; kernelY < 3; kernelY++) {
+					for(int kernelX = 0; kernelX < 3; kernelX++) {
+						final double intensity = image.getColor3D(x + kernelX - 1, y + kernelY - 1).average();
+						
+						gradientX += intensity * kernel[kernelY][kernelX];
+						gradientY += intensity * kernel[kernelX][kernelY];
+					}
+				}
+				
+				assertEquals(gradientX, imageGradient.getGradientX(x, y), 1.0E-12D);
+				assertEquals(gradientY, imageGradient.getGradientY(x, y), 1.0E-12D);
+			}
+		}
+	}
+	
+	@Test
+	public void testGetGradientY() {
+		final ImageGradient imageGradientScharr = doCreateImpulse().computeGradient(Operator.SCHARR);
+		final ImageGradient imageGradientSobel = doCreateImpulse().computeGradient(Operator.SOBEL);
+		
+		assertEquals(+1.0D, imageGradientSobel.getGradientY(0, 0));
+		assertEquals(+0.0D, imageGradientSobel.getGradientY(0, 1));
+		assertEquals(+2.0D, imageGradientSobel.getGradientY(1, 0));
+		assertEquals(+0.0D, imageGradientSobel.getGradientY(1, 1));
+		assertEquals(-2.0D, imageGradientSobel.getGradientY(1, 2));
+		assertEquals(-1.0D, imageGradientSobel.getGradientY(2, 2));
+		assertEquals(+0.0D, imageGradientSobel.getGradientY(0, -1));
+		
+		assertEquals(+3.0D, imageGradientScharr.getGradientY(0, 0));
+		assertEquals(+10.0D, imageGradientScharr.getGradientY(1, 0));
+		assertEquals(-10.0D, imageGradientScharr.getGradientY(1, 2));
+	}
+	
+	@Test
+	public void testGetMagnitude() {
+		final ImageGradient imageGradient = doCreateImpulse().computeGradient(Operator.SOBEL);
+		
+		assertEquals(Math.sqrt(2.0D), imageGradient.getMagnitude(0, 0));
+		assertEquals(2.0D, imageGradient.getMagnitude(0, 1));
+		assertEquals(0.0D, imageGradient.getMagnitude(1, 1));
+		assertEquals(0.0D, imageGradient.getMagnitude(3, 3));
+	}
+	
+	@Test
+	public void testGetMagnitudes() {
+		final ImageGradient imageGradient = doCreateImpulse().computeGradient(Operator.SOBEL);
+		
+		final double[] magnitudes = imageGradient.getMagnitudes();
+		
+		assertEquals(9, magnitudes.length);
+		
+		for(int y = 0; y < 3; y++) {
+			for(int x = 0; x < 3; x++) {
+				assertEquals(imageGradient.getMagnitude(x, y), magnitudes[y * 3 + x]);
+			}
+		}
+		
+		magnitudes[0] = 0.0D;
+		
+		assertArrayEquals(imageGradient.getMagnitudes(), doCreateImpulse().computeGradient(Operator.SOBEL).getMagnitudes());
+	}
+	
+	@Test
+	public void testGetOperator() {
+		assertEquals(Operator.SCHARR, new Image(2, 2).computeGradient(Operator.SCHARR).getOperator());
+		assertEquals(Operator.SOBEL, new Image(2, 2).computeGradient(Operator.SOBEL).getOperator());
+		assertEquals(Operator.SOBEL, new Image(2, 2).computeGradient().getOperator());
+	}
+	
+	@Test
+	public void testGetResolutionX() {
+		assertEquals(4, new Image(4, 2).computeGradient().getResolutionX());
+	}
+	
+	@Test
+	public void testGetResolutionY() {
+		assertEquals(2, new Image(4, 2).computeGradient().getResolutionY());
+	}
+	
+	@Test
+	public void testHashCode() {
+		final ImageGradient a = doCreateImpulse().computeGradient(Operator.SOBEL);
+		final ImageGradient b = doCreateImpulse().computeGradient(Operator.SOBEL);
+		
+		assertEquals(a.hashCode(), a.hashCode());
+		assertEquals(a.hashCode(), b.hashCode());
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static Image doCreateImpulse() {
+		final
+		Image image = new Image(3, 3, Color4D.BLACK);
+		image.setColor4D(Color4D.WHITE, 1, 1);
+		
+		return image;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,234 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.art4j.color.Color4D;
+import org.macroing.art4j.color.Color4F;
+import org.macroing.art4j.data.DataFactory;
+import org.macroing.art4j.image.ImageStatistics.Channel;
+
+@SuppressWarnings("static-method")
+public final class ImageStatisticsUnitTests {
+	public ImageStatisticsUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testEquals() {
+		final ImageStatistics a = new Image(2, 2, Color4D.RED).computeStatistics();
+		final ImageStatistics b = new Image(2, 2, Color4D.RED).computeStatistics();
+		final ImageStatistics c = new Image(2, 2, Color4D.GREEN).computeStatistics();
+		final ImageStatistics d = new Image(2, 2, Color4D.RED).computeStatistics(2);
+		
+		assertEquals(a, a);
+		assertEquals(a, b);
+		assertEquals(b, a);
+		
+		assertNotEquals(a, c);
+		assertNotEquals(c, a);
+		assertNotEquals(a, d);
+		assertNotEquals(d, a);
+		assertNotEquals(a, null);
+		assertNotEquals(a, new Object());
+	}
+	
+	@Test
+	public void testGetBinCount() {
+		assertEquals(ImageStatistics.DEFAULT_BIN_COUNT, new Image(2, 2).computeStatistics().getBinCount());
+		assertEquals(16, new Image(2, 2).computeStatistics(16).getBinCount());
+		
+		assertThrows(IllegalArgumentException.class, () -> new Image(2, 2).computeStatistics(0));
+	}
+	
+	@Test
+	public void testGetHistogram() {
+		final
+		Image image = new Image(2, 2, DataFactory.forColor4D());
+		image.setColor4D(new Color4D(0.00D, 0.0D, 0.0D, 1.0D), 0, 0);
+		image.setColor4D(new Color4D(0.30D, 0.0D, 0.0D, 1.0D), 1, 0);
+		image.setColor4D(new Color4D(0.60D, 0.0D, 0.0D, 1.0D), 0, 1);
+		image.setColor4D(new Color4D(2.00D, 0.0D, 0.0D, 1.0D), 1, 1);
+		
+		final ImageStatistics imageStatistics = image.computeStatistics(4);
+		
+		assertArrayEquals(new int[] {1, 1, 1, 1}, imageStatistics.getHistogram(Channel.R));
+		assertArrayEquals(new int[] {4, 0, 0, 0}, imageStatistics.getHistogram(Channel.G));
+		assertArrayEquals(new int[] {0, 0, 0, 4}, imageStatistics.getHistogram(Channel.A));
+		
+		imageStatistics.getHistogram(Channel.R)[0] = 100;
+		
+		assertArrayEquals(new int[] {1, 1, 1, 1}, imageStatistics.getHistogram(Channel.R));
+		
+		assertThrows(NullPointerException.class, () -> imageStatistics.getHistogram(null));
+	}
+	
+	@Test
+	public void testGetMaximum() {
+		final
+		Image image = new Image(2, 2, DataFactory.forColor4D());
+		image.setColor4D(new Color4D(1.0D, 1.0D, 1.0D), 0, 0);
+		image.setColor4D(new Color4D(2.0D, 2.0D, 2.0D), 1, 0);
+		image.setColor4D(new Color4D(3.0D, 3.0D, 3.0D), 0, 1);
+		image.setColor4D(new Color4D(4.0D, 0.0D, 4.0D, 0.5D), 1, 1);
+		
+		final ImageStatistics imageStatistics = image.computeStatistics();
+		
+		assertEquals(4.0D, imageStatistics.getMaximum(Channel.R));
+		assertEquals(3.0D, imageStatistics.getMaximum(Channel.G));
+		assertEquals(4.0D, imageStatistics.getMaximum(Channel.B));
+		assertEquals(1.0D, imageStatistics.getMaximum(Channel.A));
+		assertEquals(new Color4D(3.0D, 3.0D, 3.0D).relativeLuminance(), imageStatistics.getMaximum(Channel.RELATIVE_LUMINANCE));
+		
+		assertThrows(NullPointerException.class, () -> imageStatistics.getMaximum(null));
+	}
+	
+	@Test
+	public void testGetMaximumAsFloat() {
+		final
+		Image image = new Image(2, 2, DataFactory.forColor4F());
+		image.setColor4F(new Color4F(1.0F, 1.0F, 1.0F), 0, 0);
+		image.setColor4F(new Color4F(2.0F, 2.0F, 2.0F), 1, 0);
+		image.setColor4F(new Color4F(3.0F, 3.0F, 3.0F), 0, 1);
+		image.setColor4F(new Color4F(4.0F, 4.0F, 4.0F), 1, 1);
+		
+		final ImageStatistics imageStatistics = image.computeStatistics();
+		
+		assertEquals(4.0F, imageStatistics.getMaximumAsFloat(Channel.R));
+		assertEquals(new Color4F(4.0F, 4.0F, 4.0F).relativeLuminance(), imageStatistics.getMaximumAsFloat(Channel.RELATIVE_LUMINANCE));
+		
+		assertThrows(NullPointerException.class, () -> imageStatistics.getMaximumAsFloat(null));
+	}
+	
+	@Test
+	public void testGetMean() {
+		final
+		Image image = new Image(2, 2, DataFactory.forColor4D());
+		image.setColor4D(new Color4D(1.0D, 0.0D, 0.0D), 0, 0);
+		image.setColor4D(new Color4D(2.0D, 0.0D, 0.0D), 1, 0);
+		image.setColor4D(new Color4D(3.0D, 0.0D, 0.0D), 0, 1);
+		image.setColor4D(new Color4D(4.0D, 0.0D, 0.0D), 1, 1);
+		
+		final ImageStatistics imageStatistics = image.computeStatistics();
+		
+		assertEquals(2.5D, imageStatistics.getMean(Channel.R));
+		assertEquals(0.0D, imageStatistics.getMean(Channel.G));
+		assertEquals(1.0D, imageStatistics.getMean(Channel.A));
+		
+		assertThrows(NullPointerException.class, () -> imageStatistics.getMean(null));
+	}
+	
+	@Test
+	public void testGetMinimum() {
+		final
+		Image image = new Image(2, 2, DataFactory.forColor4D());
+		image.setColor4D(new Color4D(1.0D, 1.0D, 1.0D), 0, 0);
+		image.setColor4D(new Color4D(2.0D, 2.0D, 2.0D), 1, 0);
+		image.setColor4D(new Color4D(3.0D, 3.0D, 3.0D), 0, 1);
+		image.setColor4D(new Color4D(4.0D, 0.0D, 4.0D, 0.5D), 1, 1);
+		
+		final ImageStatistics imageStatistics = image.computeStatistics();
+		
+		assertEquals(1.0D, imageStatistics.getMinimum(Channel.R));
+		assertEquals(0.0D, imageStatistics.getMinimum(Channel.G));
+		assertEquals(1.0D, imageStatistics.getMinimum(Channel.B));
+		assertEquals(0.5D, imageStatistics.getMinimum(Channel.A));
+		assertEquals(new Color4D(1.0D, 1.0D, 1.0D).relativeLuminance(), imageStatistics.getMinimum(Channel.RELATIVE_LUMINANCE));
+		
+		assertThrows(NullPointerException.class, () -> imageStatistics.getMinimum(null));
+	}
+	
+	@Test
+	public void testGetMinimumAsFloat() {
+		final
+		Image image = new Image(2, 2, DataFactory.forColor4F());
+		image.setColor4F(new Color4F(1.0F, 1.0F, 1.0F), 0, 0);
+		image.setColor4F(new Color4F(2.0F, 2.0F, 2.0F), 1, 0);
+		image.setColor4F(new Color4F(3.0F, 3.0F, 3.0F), 0, 1);
+		image.setColor4F(new Color4F(4.0F, 4.0F, 4.0F), 1, 1);
+		
+		final ImageStatistics imageStatistics = image.computeStatistics();
+		
+		assertEquals(1.0F, imageStatistics.getMinimumAsFloat(Channel.R));
+		assertEquals(new Color4F(1.0F, 1.0F, 1.0F).relativeLuminance(), imageStatistics.getMinimumAsFloat(Channel.RELATIVE_LUMINANCE));
+		
+		assertThrows(NullPointerException.class, () -> imageStatistics.getMinimumAsFloat(null));
+	}
+	
+	@Test
+	public void testGetPixelCount() {
+		assertEquals(12, new Image(3, 4).computeStatistics().getPixelCount());
+	}
+	
+	@Test
+	public void testGetVarianceAndGetStandardDeviation() {
+		final Image image = new Image(100, 80, DataFactory.forColor4D());
+		
+		double sum = 0.0D;
+		
+		for(int y = 0; y < image.getResolutionY(); y++) {
+			for(int x = 0; x < image.getResolutionX(); x++) {
+				final double r = ((x * 31 + y * 17) % 97) / 96.0D;
+				
+				image.setColor4D(new Color4D(r, 0.5D, 0.5D), x, y);
+				
+				sum += r;
+			}
+		}
+		
+		final double mean = sum / image.getResolution();
+		
+		double sumOfSquaredDeviations = 0.0D;
+		
+		for(int index = 0; index < image.getResolution(); index++) {
+			final double deviation = image.getColor4D(index).r - mean;
+			
+			sumOfSquaredDeviations += deviation * deviation;
+		}
+		
+		final double variance = sumOfSquaredDeviations / image.getResolution();
+		
+		final ImageStatistics imageStatistics = image.computeStatistics();
+		
+		assertEquals(mean, imageStatistics.getMean(Channel.R), 1.0E-12D);
+		assertEquals(variance, imageStatistics.getVariance(Channel.R), 1.0E-12D);
+		assertEquals(Math.sqrt(variance), imageStatistics.getStandardDeviation(Channel.R), 1.0E-12D);
+		assertEquals(0.0D, imageStatistics.getVariance(Channel.G), 1.0E-12D);
+		
+		assertThrows(NullPointerException.class, () -> imageStatistics.getVariance(null));
+		assertThrows(NullPointerException.class, () -> imageStatistics.getStandardDeviation(null));
+	}
+	
+	@Test
+	public void testHashCode() {
+		final ImageStatistics a = new Image(2, 2, Color4D.RED).computeStatistics();
+		final ImageStatistics b = new Image(2, 2, Color4D.RED).computeStatistics();
+		
+		assertEquals(a.hashCode(), a.hashCode());
+		assertEquals(a.hashCode(), b.hashCode());
+	}
+}
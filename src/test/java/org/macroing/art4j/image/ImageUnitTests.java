@@ -29,10 +29,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.lang.Thread.UncaughtExceptionHandler;
 import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,18 +49,23 @@ import org.macroing.art4j.color.Color4D;
 import org.macroing.art4j.color.Color4F;
 import org.macroing.art4j.color.Color4I;
 import org.macroing.art4j.color.PackedIntComponentOrder;
+import org.macroing.art4j.data.CancellationToken;
 import org.macroing.art4j.data.Data;
 import org.macroing.art4j.data.DataFactory;
+import org.macroing.art4j.data.ProgressListener;
 import org.macroing.art4j.filter.BoxFilter2D;
 import org.macroing.art4j.filter.BoxFilter2F;
 import org.macroing.art4j.filter.Filter2D;
 import org.macroing.art4j.filter.Filter2F;
+import org.macroing.art4j.filter.LanczosSincFilter2D;
+import org.macroing.art4j.filter.LanczosSincFilter2F;
 import org.macroing.art4j.kernel.ConvolutionKernelND;
 import org.macroing.art4j.kernel.ConvolutionKernelNF;
 import org.macroing.art4j.pixel.Color4DBiPixelOperator;
 import org.macroing.art4j.pixel.Color4DPixelOperator;
 import org.macroing.art4j.pixel.Color4FBiPixelOperator;
 import org.macroing.art4j.pixel.Color4FPixelOperator;
+import org.macroing.art4j.pixel.CompositeOperator;
 import org.macroing.art4j.pixel.PackedIntARGBPixelOperator;
 import org.macroing.art4j.pixel.PixelTransformer;
 import org.macroing.geo4j.common.Point2I;
@@ -69,6 +79,74 @@ public final class ImageUnitTests {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	@Test
+	public void testAddGlobalImageMetricsGetGlobalImageMetricsAndRemoveGlobalImageMetrics() {
+		final List<String> operationNames = new ArrayList<>();
+		
+		final ImageMetrics imageMetrics = (image, operationName, durationInNanoseconds, pixelCount, undoSizeInBytes, changeHistorySizeInBytes) -> operationNames.add(operationName);
+		
+		final Image image = new Image(2, 2);
+		
+		assertTrue(Image.addGlobalImageMetrics(imageMetrics));
+		assertFalse(Image.addGlobalImageMetrics(imageMetrics));
+		
+		try {
+			assertTrue(Image.getGlobalImageMetrics().contains(imageMetrics));
+			assertTrue(image.getImageMetrics().isEmpty());
+			
+			image.flipX();
+			
+			assertEquals(Arrays.asList("flipX"), operationNames);
+		} finally {
+			assertTrue(Image.removeGlobalImageMetrics(imageMetrics));
+		}
+		
+		assertFalse(Image.removeGlobalImageMetrics(imageMetrics));
+		assertFalse(Image.getGlobalImageMetrics().contains(imageMetrics));
+		
+		image.flipX();
+		
+		assertEquals(Arrays.asList("flipX"), operationNames);
+		
+		assertThrows(NullPointerException.class, () -> Image.addGlobalImageMetrics(null));
+		assertThrows(NullPointerException.class, () -> Image.removeGlobalImageMetrics(null));
+	}
+	
+	@Test
+	public void testAddImageMetricsGetImageMetricsAndRemoveImageMetrics() {
+		final List<String> operationNames = new ArrayList<>();
+		
+		final ImageMetrics imageMetrics = (image, operationName, durationInNanoseconds, pixelCount, undoSizeInBytes, changeHistorySizeInBytes) -> operationNames.add(operationName);
+		
+		final Image image = new Image(2, 2);
+		
+		assertTrue(image.getImageMetrics().isEmpty());
+		
+		assertTrue(image.addImageMetrics(imageMetrics));
+		assertFalse(image.addImageMetrics(imageMetrics));
+		
+		assertEquals(Arrays.asList(imageMetrics), image.getImageMetrics());
+		
+		image.flip();
+		image.fillD(Color4D.RED);
+		
+		new Image(2, 2).flip();
+		
+		assertEquals(Arrays.asList("flip", "fillD"), operationNames);
+		
+		assertTrue(image.removeImageMetrics(imageMetrics));
+		assertFalse(image.removeImageMetrics(imageMetrics));
+		
+		assertTrue(image.getImageMetrics().isEmpty());
+		
+		image.flip();
+		
+		assertEquals(Arrays.asList("flip", "fillD"), operationNames);
+		
+		assertThrows(NullPointerException.class, () -> image.addImageMetrics(null));
+		assertThrows(NullPointerException.class, () -> image.removeImageMetrics(null));
+	}
+	
 	@Test
 	public void testCache() {
 		final Image image = new Image();
@@ -114,6 +192,94 @@ public final class ImageUnitTests {
 		assertTrue(image.changeEnd());
 	}
 	
+	@Test
+	public void testCompositeCompositeOperatorImage() {
+		final Image image = new Image(2, 2, 0xFF0000FF, DataFactory.forPackedIntARGB());
+		final Image sourceImage = new Image(2, 2, 0x80FF0000, DataFactory.forPackedIntARGB());
+		
+		assertEquals(image, image.composite(CompositeOperator.OVER, sourceImage));
+		
+		assertEquals(0xFF80007F, image.getColorARGB(0, 0));
+		assertEquals(0xFF80007F, image.getColorARGB(1, 1));
+		
+		assertThrows(NullPointerException.class, () -> image.composite(CompositeOperator.OVER, null));
+		assertThrows(NullPointerException.class, () -> image.composite(null, sourceImage));
+	}
+	
+	@Test
+	public void testCompositeCompositeOperatorImagePoint2I() {
+		final Image image = new Image(2, 2, Color4D.BLACK, DataFactory.forColor4D());
+		final Image sourceImage = new Image(2, 2, Color4D.WHITE, DataFactory.forColor4D());
+		
+		image.composite(CompositeOperator.OVER, sourceImage, new Point2I(1, 1));
+		
+		assertEquals(Color4D.BLACK, image.getColor4D(0, 0));
+		assertEquals(Color4D.BLACK, image.getColor4D(1, 0));
+		assertEquals(Color4D.BLACK, image.getColor4D(0, 1));
+		assertEquals(Color4D.WHITE, image.getColor4D(1, 1));
+		
+		assertThrows(NullPointerException.class, () -> image.composite(CompositeOperator.OVER, sourceImage, null));
+	}
+	
+	@Test
+	public void testCompositeCompositeOperatorImageRectangle2IPoint2I() {
+		final Image image = new Image(2, 2, Color4F.BLACK, DataFactory.forColor4F());
+		final Image sourceImage = new Image(2, 2, Color4F.WHITE, DataFactory.forColor4F());
+		
+		image.composite(CompositeOperator.ADD, sourceImage, new Rectangle2I(new Point2I(1, 0), new Point2I(1, 0)), new Point2I(0, 1));
+		
+		assertEquals(Color4F.BLACK, image.getColor4F(0, 0));
+		assertEquals(Color4F.BLACK, image.getColor4F(1, 0));
+		assertEquals(Color4F.WHITE, image.getColor4F(0, 1));
+		assertEquals(Color4F.BLACK, image.getColor4F(1, 1));
+		
+		assertThrows(NullPointerException.class, () -> image.composite(CompositeOperator.ADD, sourceImage, null, new Point2I()));
+		assertThrows(NullPointerException.class, () -> image.composite(CompositeOperator.ADD, sourceImage, sourceImage.getBounds(), null));
+	}
+	
+	@Test
+	public void testComputeGradient() {
+		final Image image = new Image(3, 3, Color4D.BLACK);
+		
+		assertEquals(image.computeGradient(ImageGradient.Operator.SOBEL), image.computeGradient());
+	}
+	
+	@Test
+	public void testComputeGradientOperator() {
+		final
+		Image image = new Image(3, 3, Color4D.BLACK);
+		image.setColor4D(Color4D.WHITE, 1, 1);
+		
+		final ImageGradient imageGradient = image.computeGradient(ImageGradient.Operator.SCHARR);
+		
+		assertEquals(ImageGradient.Operator.SCHARR, imageGradient.getOperator());
+		assertEquals(10.0D, imageGradient.getGradientX(0, 1));
+		assertEquals(10.0D, imageGradient.getGradientY(1, 0));
+		
+		assertThrows(NullPointerException.class, () -> image.computeGradient(null));
+	}
+	
+	@Test
+	public void testComputeStatistics() {
+		final Image image = new Image(2, 2, Color4D.RED);
+		
+		final ImageStatistics imageStatistics = image.computeStatistics();
+		
+		assertEquals(4, imageStatistics.getPixelCount());
+		assertEquals(ImageStatistics.DEFAULT_BIN_COUNT, imageStatistics.getBinCount());
+		assertEquals(1.0D, imageStatistics.getMean(ImageStatistics.Channel.R));
+		assertEquals(0.0D, imageStatistics.getMean(ImageStatistics.Channel.G));
+	}
+	
+	@Test
+	public void testComputeStatisticsInt() {
+		final Image image = new Image(2, 2, Color4D.RED);
+		
+		assertEquals(8, image.computeStatistics(8).getBinCount());
+		
+		assertThrows(IllegalArgumentException.class, () -> image.computeStatistics(0));
+	}
+	
 	@Test
 	public void testConstructor() {
 		final Image image = new Image();
@@ -934,7 +1100,7 @@ public final class ImageUnitTests {
 		assertEquals(Color4D.BLACK, image.getColor4D(2));
 		assertEquals(Color4D.BLACK, image.getColor4D(3));
 		
-		assertThrows(NullPointerException.class, () -> image.fillD((Color4D)(null)));
+		assertThrows(NullPointerException.class, () -> image.fillD((currentColor, x, y) -> null));
 	}
 	
 	@Test
@@ -1022,6 +1188,93 @@ public final class ImageUnitTests {
 		assertThrows(NullPointerException.class, () -> image.fillD((color, x, y) -> null, (color, x, y) -> true));
 	}
 	
+	@Test
+	public void testFillDWithCancelledCancellationToken() {
+		final CancellationToken cancellationToken = new CancellationToken();
+		
+		final
+		Image image = new Image(4, 4, Color4D.BLACK);
+		image.setChangeHistoryEnabled(false);
+		image.setCancellationToken(cancellationToken);
+		
+		assertThrows(CancellationException.class, () -> image.fillD((color, x, y) -> {
+			if(y == 2) {
+				cancellationToken.cancel();
+			}
+			
+			return Color4D.WHITE;
+		}));
+		
+		for(int i = 0; i < image.getResolution(); i++) {
+			assertEquals(Color4D.BLACK, image.getColor4D(i));
+		}
+		
+		assertFalse(image.isChangeHistoryEnabled());
+		
+		assertThrows(CancellationException.class, () -> image.fillRegionD(0, 0, (color, x, y) -> Color4D.WHITE));
+		
+		assertEquals(Color4D.BLACK, image.getColor4D(0));
+		
+		assertTrue(image.setCancellationToken(null));
+		
+		image.fillD(Color4D.WHITE);
+		
+		assertEquals(Color4D.WHITE, image.getColor4D(0));
+	}
+	
+	@Test
+	public void testFillDWithCancelledCancellationTokenAndChangeBegun() {
+		final CancellationToken cancellationToken = new CancellationToken();
+		
+		final
+		Image image = new Image(4, 4, Color4D.BLACK);
+		image.setChangeHistoryEnabled(true);
+		image.setCancellationToken(cancellationToken);
+		
+		assertTrue(image.getData().changeBegin());
+		
+		image.setColor4D(Color4D.RED, 0, 0);
+		
+		assertThrows(CancellationException.class, () -> image.fillD((color, x, y) -> {
+			if(y == 2) {
+				cancellationToken.cancel();
+			}
+			
+			return Color4D.WHITE;
+		}));
+		
+		assertTrue(image.getData().hasChangeBegun());
+		
+		assertEquals(Color4D.RED, image.getColor4D(0, 0));
+		
+		for(int i = 1; i < image.getResolution(); i++) {
+			assertEquals(Color4D.BLACK, image.getColor4D(i));
+		}
+		
+		assertTrue(image.getData().changeEnd());
+		
+		assertTrue(image.undo());
+		
+		assertEquals(Color4D.BLACK, image.getColor4D(0, 0));
+	}
+	
+	@Test
+	public void testFillDWithChangeHistoryEnabledAndThrowingPixelOperator() {
+		final
+		Image image = new Image(4, 4, Color4D.BLACK);
+		image.setChangeHistoryEnabled(true);
+		
+		assertThrows(NullPointerException.class, () -> image.fillD((color, x, y) -> y == 2 ? null : Color4D.WHITE));
+		
+		assertFalse(image.getData().hasChangeBegun());
+		
+		assertTrue(image.undo());
+		
+		for(int i = 0; i < image.getResolution(); i++) {
+			assertEquals(Color4D.BLACK, image.getColor4D(i));
+		}
+	}
+	
 	@Test
 	public void testFillFColor4F() {
 		final
@@ -1148,6 +1401,110 @@ public final class ImageUnitTests {
 		assertThrows(NullPointerException.class, () -> image.fillF((color, x, y) -> null, (color, x, y) -> true));
 	}
 	
+	@Test
+	public void testFillGradientDOperatorColor4DPixelFilter() {
+		final
+		Image image = new Image(3, 3, Color4D.BLACK);
+		image.setChangeHistoryEnabled(true);
+		image.setColor4D(Color4D.WHITE, 1, 1);
+		image.getData().clearDirtyRegions();
+		image.fillGradientD(ImageGradient.Operator.SOBEL, (color, x, y) -> y == 1);
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 1), new Point2I(2, 1))), image.getData().getDirtyRegions());
+		
+		assertEquals(new Color4D(2.0D, 1.0D), image.getColor4D(0, 1));
+		assertEquals(Color4D.BLACK, image.getColor4D(1, 1));
+		assertEquals(new Color4D(2.0D, 1.0D), image.getColor4D(2, 1));
+		assertEquals(Color4D.BLACK, image.getColor4D(0, 0));
+		assertEquals(Color4D.BLACK, image.getColor4D(1, 0));
+		
+		assertTrue(image.undo());
+		
+		assertEquals(Color4D.BLACK, image.getColor4D(0, 1));
+		assertEquals(Color4D.WHITE, image.getColor4D(1, 1));
+		
+		assertThrows(NullPointerException.class, () -> image.fillGradientD(ImageGradient.Operator.SOBEL, null));
+		assertThrows(NullPointerException.class, () -> image.fillGradientD(null, (color, x, y) -> true));
+	}
+	
+	@Test
+	public void testFillGradientFOperatorColor4FPixelFilter() {
+		final
+		Image image = new Image(3, 3, Color4F.BLACK);
+		image.setChangeHistoryEnabled(true);
+		image.setColor4F(Color4F.WHITE, 1, 1);
+		image.getData().clearDirtyRegions();
+		image.fillGradientF(ImageGradient.Operator.SOBEL, (color, x, y) -> y == 1);
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(0, 1), new Point2I(2, 1))), image.getData().getDirtyRegions());
+		
+		assertEquals(new Color4F(2.0F, 1.0F), image.getColor4F(0, 1));
+		assertEquals(Color4F.BLACK, image.getColor4F(1, 1));
+		assertEquals(new Color4F(2.0F, 1.0F), image.getColor4F(2, 1));
+		assertEquals(Color4F.BLACK, image.getColor4F(0, 0));
+		assertEquals(Color4F.BLACK, image.getColor4F(1, 0));
+		
+		assertTrue(image.undo());
+		
+		assertEquals(Color4F.BLACK, image.getColor4F(0, 1));
+		assertEquals(Color4F.WHITE, image.getColor4F(1, 1));
+		
+		assertThrows(NullPointerException.class, () -> image.fillGradientF(ImageGradient.Operator.SOBEL, null));
+		assertThrows(NullPointerException.class, () -> image.fillGradientF(null, (color, x, y) -> true));
+	}
+	
+	@Test
+	public void testFillGrayscaleD() {
+		final double[] array = new double[] {-1.0D, 0.0D, 1.0D, 0.5D};
+		
+		final
+		Image image = new Image(2, 2, Color4D.WHITE, DataFactory.forColor4D());
+		image.setChangeHistoryEnabled(true);
+		image.fillGrayscaleD(array, -1.0D, 1.0D);
+		
+		assertEquals(new Color4D(0.0D, 0.0D, 0.0D, 1.0D), image.getColor4D(0));
+		assertEquals(new Color4D(0.5D, 0.5D, 0.5D, 1.0D), image.getColor4D(1));
+		assertEquals(new Color4D(1.0D, 1.0D, 1.0D, 1.0D), image.getColor4D(2));
+		assertEquals(new Color4D(0.75D, 0.75D, 0.75D, 1.0D), image.getColor4D(3));
+		
+		image.undo();
+		
+		assertEquals(new Color4D(1.0D, 1.0D, 1.0D, 1.0D), image.getColor4D(0));
+		
+		image.fillGrayscaleD(array, 1.0D, 1.0D);
+		
+		assertEquals(new Color4D(0.0D, 0.0D, 0.0D, 1.0D), image.getColor4D(2));
+		
+		assertThrows(IllegalArgumentException.class, () -> image.fillGrayscaleD(new double[3], 0.0D, 1.0D));
+		assertThrows(NullPointerException.class, () -> image.fillGrayscaleD(null, 0.0D, 1.0D));
+	}
+	
+	@Test
+	public void testFillGrayscaleF() {
+		final float[] array = new float[] {-1.0F, 0.0F, 1.0F, 0.5F};
+		
+		final
+		Image image = new Image(2, 2, Color4F.WHITE, DataFactory.forColor4F());
+		image.setChangeHistoryEnabled(true);
+		image.fillGrayscaleF(array, -1.0F, 1.0F);
+		
+		assertEquals(new Color4F(0.0F, 0.0F, 0.0F, 1.0F), image.getColor4F(0));
+		assertEquals(new Color4F(0.5F, 0.5F, 0.5F, 1.0F), image.getColor4F(1));
+		assertEquals(new Color4F(1.0F, 1.0F, 1.0F, 1.0F), image.getColor4F(2));
+		assertEquals(new Color4F(0.75F, 0.75F, 0.75F, 1.0F), image.getColor4F(3));
+		
+		image.undo();
+		
+		assertEquals(new Color4F(1.0F, 1.0F, 1.0F, 1.0F), image.getColor4F(0));
+		
+		image.fillGrayscaleF(array, 1.0F, 1.0F);
+		
+		assertEquals(new Color4F(0.0F, 0.0F, 0.0F, 1.0F), image.getColor4F(2));
+		
+		assertThrows(IllegalArgumentException.class, () -> image.fillGrayscaleF(new float[3], 0.0F, 1.0F));
+		assertThrows(NullPointerException.class, () -> image.fillGrayscaleF(null, 0.0F, 1.0F));
+	}
+	
 	@Test
 	public void testFillIColorARGBPixelOperator() {
 		final
@@ -2175,6 +2532,34 @@ public final class ImageUnitTests {
 		assertThrows(NullPointerException.class, () -> image.fillRegionI(null, (color, x, y) -> Color4I.RED_A_R_G_B, (color, x, y) -> true));
 	}
 	
+	@Test
+	public void testFillRegionIWithCancelledCancellationToken() {
+		final CancellationToken cancellationToken = new CancellationToken();
+		
+		final int[] count = new int[1];
+		
+		final
+		Image image = new Image(4, 4, Color4D.BLACK);
+		image.setChangeHistoryEnabled(false);
+		image.setCancellationToken(cancellationToken);
+		
+		assertThrows(CancellationException.class, () -> image.fillRegionI(0, 0, (colorARGB, x, y) -> {
+			if(++count[0] == 8) {
+				cancellationToken.cancel();
+			}
+			
+			return Color4I.WHITE_A_R_G_B;
+		}));
+		
+		assertEquals(8, count[0]);
+		
+		for(int i = 0; i < image.getResolution(); i++) {
+			assertEquals(Color4I.BLACK_A_R_G_B, image.getColorARGB(i));
+		}
+		
+		assertFalse(image.isChangeHistoryEnabled());
+	}
+	
 	@Test
 	public void testFillShapeComplementDShape2IColor4D() {
 		final
@@ -2615,6 +3000,39 @@ public final class ImageUnitTests {
 		assertThrows(NullPointerException.class, () -> image.fillShapeD(null, Color4D.BLACK));
 	}
 	
+	@Test
+	public void testFillShapeDShape2IColor4DBoolean() {
+		final
+		Image image = new Image(5, 5, Color4D.WHITE);
+		image.setChangeHistoryEnabled(true);
+		image.fillShapeD(new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3)), Color4D.BLACK, true);
+		
+		assertEquals(Color4D.WHITE, image.getColor4D(0, 0));
+		assertEquals(Color4D.blend(Color4D.WHITE, Color4D.BLACK, 0.25D), image.getColor4D(1, 1));
+		assertEquals(Color4D.blend(Color4D.WHITE, Color4D.BLACK, 0.5D), image.getColor4D(2, 1));
+		assertEquals(Color4D.blend(Color4D.WHITE, Color4D.BLACK, 0.5D), image.getColor4D(1, 2));
+		assertEquals(Color4D.BLACK, image.getColor4D(2, 2));
+		assertEquals(Color4D.blend(Color4D.WHITE, Color4D.BLACK, 0.25D), image.getColor4D(3, 3));
+		assertEquals(Color4D.WHITE, image.getColor4D(4, 4));
+		
+		assertTrue(image.undo());
+		
+		for(int i = 0; i < 25; i++) {
+			assertEquals(Color4D.WHITE, image.getColor4D(i));
+		}
+		
+		image.fillShapeD(new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3)), Color4D.BLACK, false);
+		
+		assertEquals(Color4D.WHITE, image.getColor4D(0, 0));
+		assertEquals(Color4D.BLACK, image.getColor4D(1, 1));
+		assertEquals(Color4D.BLACK, image.getColor4D(2, 2));
+		assertEquals(Color4D.BLACK, image.getColor4D(3, 3));
+		assertEquals(Color4D.WHITE, image.getColor4D(4, 4));
+		
+		assertThrows(NullPointerException.class, () -> image.fillShapeD(new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3)), (Color4D)(null), true));
+		assertThrows(NullPointerException.class, () -> image.fillShapeD(null, Color4D.BLACK, true));
+	}
+	
 	@Test
 	public void testFillShapeDShape2IColor4DPixelOperator() {
 		final
@@ -2660,6 +3078,39 @@ public final class ImageUnitTests {
 		assertThrows(NullPointerException.class, () -> image.fillShapeD(new Rectangle2I(new Point2I(0, 0), new Point2I(2, 2)), (currentColor, x, y) -> null));
 	}
 	
+	@Test
+	public void testFillShapeDShape2IColor4DPixelOperatorBoolean() {
+		final
+		Image image = new Image(5, 5, Color4D.WHITE);
+		image.setChangeHistoryEnabled(true);
+		image.fillShapeD(new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3)), (currentColor, x, y) -> Color4D.BLACK, true);
+		
+		assertEquals(Color4D.WHITE, image.getColor4D(0, 0));
+		assertEquals(Color4D.blend(Color4D.WHITE, Color4D.BLACK, 0.25D), image.getColor4D(1, 1));
+		assertEquals(Color4D.blend(Color4D.WHITE, Color4D.BLACK, 0.5D), image.getColor4D(2, 1));
+		assertEquals(Color4D.blend(Color4D.WHITE, Color4D.BLACK, 0.5D), image.getColor4D(1, 2));
+		assertEquals(Color4D.BLACK, image.getColor4D(2, 2));
+		assertEquals(Color4D.blend(Color4D.WHITE, Color4D.BLACK, 0.25D), image.getColor4D(3, 3));
+		assertEquals(Color4D.WHITE, image.getColor4D(4, 4));
+		
+		assertTrue(image.undo());
+		
+		for(int i = 0; i < 25; i++) {
+			assertEquals(Color4D.WHITE, image.getColor4D(i));
+		}
+		
+		image.fillShapeD(new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3)), (currentColor, x, y) -> Color4D.BLACK, false);
+		
+		assertEquals(Color4D.WHITE, image.getColor4D(0, 0));
+		assertEquals(Color4D.BLACK, image.getColor4D(1, 1));
+		assertEquals(Color4D.BLACK, image.getColor4D(2, 2));
+		assertEquals(Color4D.BLACK, image.getColor4D(3, 3));
+		assertEquals(Color4D.WHITE, image.getColor4D(4, 4));
+		
+		assertThrows(NullPointerException.class, () -> image.fillShapeD(new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3)), (Color4DPixelOperator)(null), true));
+		assertThrows(NullPointerException.class, () -> image.fillShapeD(null, (currentColor, x, y) -> Color4D.BLACK, true));
+	}
+	
 	@Test
 	public void testFillShapeFShape2IColor4F() {
 		final
@@ -2704,6 +3155,39 @@ public final class ImageUnitTests {
 		assertThrows(NullPointerException.class, () -> image.fillShapeF(null, Color4F.BLACK));
 	}
 	
+	@Test
+	public void testFillShapeFShape2IColor4FBoolean() {
+		final
+		Image image = new Image(5, 5, Color4F.WHITE);
+		image.setChangeHistoryEnabled(true);
+		image.fillShapeF(new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3)), Color4F.BLACK, true);
+		
+		assertEquals(Color4F.WHITE, image.getColor4F(0, 0));
+		assertEquals(Color4F.blend(Color4F.WHITE, Color4F.BLACK, 0.25F), image.getColor4F(1, 1));
+		assertEquals(Color4F.blend(Color4F.WHITE, Color4F.BLACK, 0.5F), image.getColor4F(2, 1));
+		assertEquals(Color4F.blend(Color4F.WHITE, Color4F.BLACK, 0.5F), image.getColor4F(1, 2));
+		assertEquals(Color4F.BLACK, image.getColor4F(2, 2));
+		assertEquals(Color4F.blend(Color4F.WHITE, Color4F.BLACK, 0.25F), image.getColor4F(3, 3));
+		assertEquals(Color4F.WHITE, image.getColor4F(4, 4));
+		
+		assertTrue(image.undo());
+		
+		for(int i = 0; i < 25; i++) {
+			assertEquals(Color4F.WHITE, image.getColor4F(i));
+		}
+		
+		image.fillShapeF(new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3)), Color4F.BLACK, false);
+		
+		assertEquals(Color4F.WHITE, image.getColor4F(0, 0));
+		assertEquals(Color4F.BLACK, image.getColor4F(1, 1));
+		assertEquals(Color4F.BLACK, image.getColor4F(2, 2));
+		assertEquals(Color4F.BLACK, image.getColor4F(3, 3));
+		assertEquals(Color4F.WHITE, image.getColor4F(4, 4));
+		
+		assertThrows(NullPointerException.class, () -> image.fillShapeF(new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3)), (Color4F)(null), true));
+		assertThrows(NullPointerException.class, () -> image.fillShapeF(null, Color4F.BLACK, true));
+	}
+	
 	@Test
 	public void testFillShapeFShape2IColor4FPixelOperator() {
 		final
@@ -2749,6 +3233,39 @@ public final class ImageUnitTests {
 		assertThrows(NullPointerException.class, () -> image.fillShapeF(new Rectangle2I(new Point2I(0, 0), new Point2I(2, 2)), (currentColor, x, y) -> null));
 	}
 	
+	@Test
+	public void testFillShapeFShape2IColor4FPixelOperatorBoolean() {
+		final
+		Image image = new Image(5, 5, Color4F.WHITE);
+		image.setChangeHistoryEnabled(true);
+		image.fillShapeF(new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3)), (currentColor, x, y) -> Color4F.BLACK, true);
+		
+		assertEquals(Color4F.WHITE, image.getColor4F(0, 0));
+		assertEquals(Color4F.blend(Color4F.WHITE, Color4F.BLACK, 0.25F), image.getColor4F(1, 1));
+		assertEquals(Color4F.blend(Color4F.WHITE, Color4F.BLACK, 0.5F), image.getColor4F(2, 1));
+		assertEquals(Color4F.blend(Color4F.WHITE, Color4F.BLACK, 0.5F), image.getColor4F(1, 2));
+		assertEquals(Color4F.BLACK, image.getColor4F(2, 2));
+		assertEquals(Color4F.blend(Color4F.WHITE, Color4F.BLACK, 0.25F), image.getColor4F(3, 3));
+		assertEquals(Color4F.WHITE, image.getColor4F(4, 4));
+		
+		assertTrue(image.undo());
+		
+		for(int i = 0; i < 25; i++) {
+			assertEquals(Color4F.WHITE, image.getColor4F(i));
+		}
+		
+		image.fillShapeF(new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3)), (currentColor, x, y) -> Color4F.BLACK, false);
+		
+		assertEquals(Color4F.WHITE, image.getColor4F(0, 0));
+		assertEquals(Color4F.BLACK, image.getColor4F(1, 1));
+		assertEquals(Color4F.BLACK, image.getColor4F(2, 2));
+		assertEquals(Color4F.BLACK, image.getColor4F(3, 3));
+		assertEquals(Color4F.WHITE, image.getColor4F(4, 4));
+		
+		assertThrows(NullPointerException.class, () -> image.fillShapeF(new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3)), (Color4FPixelOperator)(null), true));
+		assertThrows(NullPointerException.class, () -> image.fillShapeF(null, (currentColor, x, y) -> Color4F.BLACK, true));
+	}
+	
 	@Test
 	public void testFillSobelDColor4DPixelFilter() {
 		final
@@ -2890,6 +3407,57 @@ public final class ImageUnitTests {
 		assertThrows(NullPointerException.class, () -> a.findBoundsFor(null));
 	}
 	
+	@Test
+	public void testFindBoundsForAll() {
+		final Image a = new Image(64, 48);
+		
+		final Random random = new Random(12345L);
+		
+		for(int index = 0; index < a.getResolution(); index++) {
+			a.setColorARGB(random.nextInt(4) == 0 ? Color4I.BLACK_A_R_G_B : Color4I.WHITE_A_R_G_B, index);
+		}
+		
+		final Image b = a.copy(new Rectangle2I(new Point2I(10, 20), new Point2I(12, 21)));
+		final Image c = a.copy(new Rectangle2I(new Point2I(61, 46), new Point2I(63, 47)));
+		final Image d = a.copy(new Rectangle2I(new Point2I(0, 0), new Point2I(4, 3)));
+		final Image e = new Image(65, 1);
+		
+		final List<List<Rectangle2I>> rectangles = a.findBoundsForAll(Arrays.asList(b, c, d, e));
+		
+		assertEquals(4, rectangles.size());
+		
+		assertEquals(doFindBoundsFor(a, b), rectangles.get(0));
+		assertEquals(doFindBoundsFor(a, c), rectangles.get(1));
+		assertEquals(doFindBoundsFor(a, d), rectangles.get(2));
+		
+		assertTrue(rectangles.get(0).contains(new Rectangle2I(new Point2I(10, 20), new Point2I(12, 21))));
+		assertTrue(rectangles.get(1).contains(new Rectangle2I(new Point2I(61, 46), new Point2I(63, 47))));
+		assertTrue(rectangles.get(2).contains(new Rectangle2I(new Point2I(0, 0), new Point2I(4, 3))));
+		assertTrue(rectangles.get(3).isEmpty());
+		
+		rectangles.get(3).add(new Rectangle2I(new Point2I(0, 0), new Point2I(64, 0)));
+		
+		assertEquals(1, rectangles.get(3).size());
+		
+		assertThrows(NullPointerException.class, () -> a.findBoundsForAll(Arrays.asList(b, null)));
+		assertThrows(NullPointerException.class, () -> a.findBoundsForAll(null));
+	}
+	
+	@Test
+	public void testFindBoundsForOutsideBounds() {
+		final Image a = new Image(4, 4, Color4I.TRANSPARENT_A_R_G_B);
+		final Image b = new Image(2, 2, Color4I.TRANSPARENT_A_R_G_B);
+		
+		final List<Rectangle2I> rectangles = a.findBoundsFor(b);
+		
+		assertEquals(9, rectangles.size());
+		
+		for(final Rectangle2I rectangle : rectangles) {
+			assertTrue(rectangle.min().x >= 0 && rectangle.max().x <= 3);
+			assertTrue(rectangle.min().y >= 0 && rectangle.max().y <= 3);
+		}
+	}
+	
 	@Test
 	public void testFlip() {
 		final
@@ -3362,6 +3930,26 @@ public final class ImageUnitTests {
 		assertThrows(NullPointerException.class, () -> image.getColor4D(0, null));
 	}
 	
+	@Test
+	public void testGetColor4DMipmapped() {
+		final
+		Image image = new Image(4, 4, Color4D.BLACK);
+		image.fillShapeD(new Rectangle2I(new Point2I(0, 0), new Point2I(1, 3)), Color4D.WHITE);
+		
+		assertEquals(image.getColor4D(1, 1), image.getColor4DMipmapped(1.0D, 1.0D, 1.0D));
+		assertEquals(image.getColor4D(2, 2), image.getColor4DMipmapped(2.0D, 2.0D, 0.5D));
+		
+		assertEquals(Color4D.WHITE, image.getColor4DMipmapped(0.5D, 1.5D, 2.0D));
+		assertEquals(Color4D.BLACK, image.getColor4DMipmapped(2.5D, 1.5D, 2.0D));
+		
+		assertEquals(new Color4D(0.5D, 0.5D, 0.5D, 1.0D), image.getColor4DMipmapped(1.5D, 1.5D, 4.0D));
+		assertEquals(new Color4D(0.5D, 0.5D, 0.5D, 1.0D), image.getColor4DMipmapped(1.5D, 1.5D, 100.0D));
+		
+		image.fillD(Color4D.WHITE);
+		
+		assertEquals(Color4D.WHITE, image.getColor4DMipmapped(1.5D, 1.5D, 4.0D));
+	}
+	
 	@Test
 	public void testGetColor4DPoint2I() {
 		final
@@ -3607,6 +4195,76 @@ public final class ImageUnitTests {
 		assertNotNull(data);
 	}
 	
+	@Test
+	public void testGetMipmapInt() {
+		final
+		Image image = new Image(5, 3, Color4D.RED);
+		image.setChangeHistoryEnabled(true);
+		
+		final Image mipmap0 = image.getMipmap(0);
+		final Image mipmap1 = image.getMipmap(1);
+		final Image mipmap2 = image.getMipmap(2);
+		final Image mipmap3 = image.getMipmap(3);
+		
+		assertEquals(5, mipmap0.getResolutionX());
+		assertEquals(3, mipmap0.getResolutionY());
+		assertEquals(3, mipmap1.getResolutionX());
+		assertEquals(2, mipmap1.getResolutionY());
+		assertEquals(2, mipmap2.getResolutionX());
+		assertEquals(1, mipmap2.getResolutionY());
+		assertEquals(1, mipmap3.getResolutionX());
+		assertEquals(1, mipmap3.getResolutionY());
+		
+		assertEquals(Color4D.RED.toIntARGB(), mipmap3.getColorARGB(0));
+		
+		assertFalse(mipmap0.isChangeHistoryEnabled());
+		
+		image.fillD(Color4D.BLUE);
+		
+		assertEquals(Color4D.BLUE.toIntARGB(), image.getMipmap(3).getColorARGB(0));
+		
+		image.undo();
+		
+		assertEquals(Color4D.RED.toIntARGB(), image.getMipmap(3).getColorARGB(0));
+		
+		mipmap3.setColor4D(Color4D.GREEN, 0);
+		
+		assertEquals(Color4D.RED.toIntARGB(), image.getMipmap(3).getColorARGB(0));
+		
+		assertThrows(IllegalArgumentException.class, () -> image.getMipmap(-1));
+		assertThrows(IllegalArgumentException.class, () -> image.getMipmap(4));
+	}
+	
+	@Test
+	public void testGetMipmapIntFilter2D() {
+		final
+		Image image = new Image(8, 8, Color4D.BLACK);
+		image.fillShapeD(new Rectangle2I(new Point2I(0, 0), new Point2I(3, 7)), Color4D.WHITE);
+		
+		final Image mipmapBox = image.getMipmap(3, new BoxFilter2D());
+		final Image mipmapLanczosSinc = image.getMipmap(1, new LanczosSincFilter2D());
+		
+		assertEquals(1, mipmapBox.getResolutionX());
+		assertEquals(1, mipmapBox.getResolutionY());
+		
+		assertEquals(new Color4D(0.5D, 0.5D, 0.5D, 1.0D), mipmapBox.getColor4D(0));
+		
+		assertEquals(4, mipmapLanczosSinc.getResolutionX());
+		assertEquals(4, mipmapLanczosSinc.getResolutionY());
+		
+		assertThrows(NullPointerException.class, () -> image.getMipmap(0, null));
+	}
+	
+	@Test
+	public void testGetMipmapLevelCount() {
+		assertEquals(1, new Image(1, 1).getMipmapLevelCount());
+		assertEquals(2, new Image(2, 1).getMipmapLevelCount());
+		assertEquals(3, new Image(3, 1).getMipmapLevelCount());
+		assertEquals(3, new Image(4, 4).getMipmapLevelCount());
+		assertEquals(4, new Image(5, 3).getMipmapLevelCount());
+		assertEquals(11, new Image(1024, 768).getMipmapLevelCount());
+	}
+	
 	@Test
 	public void testGetResolution() {
 		final Image image = new Image(2, 3);
@@ -3628,6 +4286,27 @@ public final class ImageUnitTests {
 		assertEquals(3, image.getResolutionY());
 	}
 	
+	@Test
+	public void testGetThumbnail() {
+		final
+		Image image = new Image(100, 60, Color4D.RED);
+		
+		final Image thumbnail = image.getThumbnail(10, 7);
+		
+		assertEquals(10, thumbnail.getResolutionX());
+		assertEquals(7, thumbnail.getResolutionY());
+		
+		for(int index = 0; index < thumbnail.getResolution(); index++) {
+			assertEquals(Color4D.RED.toIntARGB(), thumbnail.getColorARGB(index));
+		}
+		
+		assertEquals(100, image.getThumbnail(100, 60).getResolutionX());
+		assertEquals(200, image.getThumbnail(200, 1).getResolutionX());
+		
+		assertThrows(IllegalArgumentException.class, () -> image.getThumbnail(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> image.getThumbnail(1, 0));
+	}
+	
 	@Test
 	public void testHashCode() {
 		final Image a = new Image();
@@ -3637,6 +4316,72 @@ public final class ImageUnitTests {
 		assertEquals(a.hashCode(), b.hashCode());
 	}
 	
+	@Test
+	public void testImageMetrics() {
+		final List<long[]> operations = new ArrayList<>();
+		
+		final
+		Image image = new Image(4, 4, Color4D.BLACK, DataFactory.forColor4D());
+		image.setChangeHistoryEnabled(true);
+		image.addImageMetrics((currentImage, operationName, durationInNanoseconds, pixelCount, undoSizeInBytes, changeHistorySizeInBytes) -> operations.add(new long[] {durationInNanoseconds, pixelCount, undoSizeInBytes, changeHistorySizeInBytes}));
+		image.fillD(Color4D.RED);
+		
+		assertEquals(1, operations.size());
+		assertTrue(operations.get(0)[0] >= 0L);
+		assertEquals(16L, operations.get(0)[1]);
+		assertTrue(operations.get(0)[2] > 0L);
+		assertEquals(operations.get(0)[2], operations.get(0)[3]);
+		
+		image.undo();
+		
+		assertEquals(2, operations.size());
+		assertEquals(16L, operations.get(1)[1]);
+		assertEquals(0L, operations.get(1)[2]);
+		assertEquals(operations.get(0)[3], operations.get(1)[3]);
+		
+		image.fillD(Color4D.GREEN);
+		
+		assertEquals(3, operations.size());
+		assertEquals(operations.get(0)[2], operations.get(2)[2]);
+		assertEquals(operations.get(0)[3], operations.get(2)[3]);
+	}
+	
+	@Test
+	public void testImageMetricsThrowingRuntimeException() {
+		final List<Throwable> throwables = new ArrayList<>();
+		final List<String> operationNames = new ArrayList<>();
+		
+		final Thread thread = Thread.currentThread();
+		
+		final UncaughtExceptionHandler uncaughtExceptionHandler = thread.getUncaughtExceptionHandler();
+		
+		final
+		Image image = new Image(2, 2, Color4D.BLACK, DataFactory.forColor4D());
+		image.addImageMetrics((currentImage, operationName, durationInNanoseconds, pixelCount, undoSizeInBytes, changeHistorySizeInBytes) -> {
+			throw new IllegalStateException(operationName);
+		});
+		image.addImageMetrics((currentImage, operationName, durationInNanoseconds, pixelCount, undoSizeInBytes, changeHistorySizeInBytes) -> operationNames.add(operationName));
+		
+		thread.setUncaughtExceptionHandler((currentThread, throwable) -> throwables.add(throwable));
+		
+		try {
+			image.fillD(Color4D.RED);
+			
+			assertEquals(Color4D.RED, image.getColor4D(0, 0));
+			
+			assertThrows(NullPointerException.class, () -> image.fillD((currentColor, x, y) -> null));
+		} finally {
+			thread.setUncaughtExceptionHandler(uncaughtExceptionHandler);
+		}
+		
+		assertEquals(Arrays.asList("fillD", "fillD"), operationNames);
+		
+		assertEquals(2, throwables.size());
+		
+		assertTrue(throwables.get(0) instanceof IllegalStateException);
+		assertTrue(throwables.get(1) instanceof IllegalStateException);
+	}
+	
 	@Test
 	public void testIsChangeHistoryEnabled() {
 		final Image image = new Image(1, 1);
@@ -4147,6 +4892,63 @@ public final class ImageUnitTests {
 		assertEquals(2, image.getResolutionY());
 	}
 	
+	@Test
+	public void testScaleIntIntFilter2D() {
+		final
+		Image image = new Image(2, 2, Color4D.BLACK);
+		image.setColor4D(Color4D.WHITE, 0, 0);
+		image.setColor4D(Color4D.WHITE, 1, 1);
+		image.scale(1, 1, new BoxFilter2D());
+		
+		assertEquals(1, image.getResolutionX());
+		assertEquals(1, image.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), image.getColorARGB(0));
+		
+		image.scale(5, 3, new LanczosSincFilter2D());
+		
+		assertEquals(5, image.getResolutionX());
+		assertEquals(3, image.getResolutionY());
+		
+		assertThrows(NullPointerException.class, () -> image.scale(1, 1, (Filter2D)(null)));
+	}
+	
+	@Test
+	public void testScaleIntIntFilter2F() {
+		final
+		Image image = new Image(2, 2, Color4D.BLACK);
+		image.setColor4D(Color4D.WHITE, 0, 0);
+		image.setColor4D(Color4D.WHITE, 1, 1);
+		image.scale(1, 1, new BoxFilter2F());
+		
+		assertEquals(1, image.getResolutionX());
+		assertEquals(1, image.getResolutionY());
+		
+		assertEquals(Color4D.toIntARGB(0.5D, 0.5D, 0.5D, 1.0D), image.getColorARGB(0));
+		
+		image.scale(5, 3, new LanczosSincFilter2F());
+		
+		assertEquals(5, image.getResolutionX());
+		assertEquals(3, image.getResolutionY());
+		
+		assertThrows(NullPointerException.class, () -> image.scale(1, 1, (Filter2F)(null)));
+	}
+	
+	@Test
+	public void testSetCancellationTokenAndGetCancellationToken() {
+		final CancellationToken cancellationToken = new CancellationToken();
+		
+		final Image image = new Image();
+		
+		assertFalse(image.getCancellationToken().isPresent());
+		
+		assertTrue(image.setCancellationToken(cancellationToken));
+		assertFalse(image.setCancellationToken(cancellationToken));
+		
+		assertEquals(cancellationToken, image.getCancellationToken().get());
+		assertEquals(cancellationToken, image.getData().getCancellationToken().get());
+	}
+	
 	@Test
 	public void testSetChangeHistoryEnabled() {
 		final Image image = new Image();
@@ -4395,6 +5197,44 @@ public final class ImageUnitTests {
 		assertThrows(NullPointerException.class, () -> image.setColorARGB(Color4I.RED_A_R_G_B, null));
 	}
 	
+	@Test
+	public void testSetPremultiplied() {
+		final Image image = new Image(1, 1, 0x80FFFFFF, DataFactory.forPackedIntARGB());
+		
+		assertFalse(image.isPremultiplied());
+		assertFalse(image.setPremultiplied(false));
+		
+		assertTrue(image.setPremultiplied(true));
+		assertTrue(image.isPremultiplied());
+		
+		assertEquals(0x80808080, image.getColorARGB(0, 0));
+		
+		assertTrue(image.setPremultiplied(false));
+		assertFalse(image.isPremultiplied());
+		
+		assertEquals(0x80FFFFFF, image.getColorARGB(0, 0));
+	}
+	
+	@Test
+	public void testSetProgressListenerAndGetProgressListener() {
+		final List<Double> progress = new ArrayList<>();
+		
+		final ProgressListener progressListener = currentProgress -> progress.add(Double.valueOf(currentProgress));
+		
+		final Image image = new Image(4, 4);
+		
+		assertFalse(image.getProgressListener().isPresent());
+		
+		assertTrue(image.setProgressListener(progressListener));
+		assertFalse(image.setProgressListener(progressListener));
+		
+		assertEquals(progressListener, image.getProgressListener().get());
+		
+		image.fillD((color, x, y) -> Color4D.WHITE);
+		
+		assertEquals(Arrays.asList(Double.valueOf(0.25D), Double.valueOf(0.5D), Double.valueOf(0.75D), Double.valueOf(1.0D)), progress);
+	}
+	
 	@Test
 	public void testSetResolution() {
 		final
@@ -4825,4 +5665,29 @@ public final class ImageUnitTests {
 		
 		assertFalse(image.undo());
 	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static List<Rectangle2I> doFindBoundsFor(final Image a, final Image b) {
+		final List<Rectangle2I> rectangles = new ArrayList<>();
+		
+		for(int y = 0; y + b.getResolutionY() <= a.getResolutionY(); y++) {
+			for(int x = 0; x + b.getResolutionX() <= a.getResolutionX(); x++) {
+				labelImage:
+				{
+					for(int imageY = 0; imageY < b.getResolutionY(); imageY++) {
+						for(int imageX = 0; imageX < b.getResolutionX(); imageX++) {
+							if(a.getColorARGB(x + imageX, y + imageY) != b.getColorARGB(imageX, imageY)) {
+								break labelImage;
+							}
+						}
+					}
+					
+					rectangles.add(new Rectangle2I(new Point2I(x, y), new Point2I(x + b.getResolutionX() - 1, y + b.getResolutionY() - 1)));
+				}
+			}
+		}
+		
+		return rectangles;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,243 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.art4j.pixel.CompositeOperator;
+import org.macroing.geo4j.common.Point2I;
+import org.macroing.geo4j.shape.rectangle.Rectangle2I;
+
+@SuppressWarnings("static-method")
+public final class LayerUnitTests {
+	public LayerUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructorImage() {
+		final Image image = new Image(2, 3);
+		
+		final Layer layer = new Layer(image);
+		
+		assertSame(image, layer.getImage());
+		assertSame(CompositeOperator.OVER, layer.getCompositeOperator());
+		
+		assertEquals(new Point2I(), layer.getPosition());
+		assertEquals(1.0D, layer.getOpacity());
+		
+		assertTrue(layer.isVisible());
+		
+		assertThrows(NullPointerException.class, () -> new Layer(null));
+	}
+	
+	@Test
+	public void testConstructorImagePoint2ICompositeOperatorDouble() {
+		final Image image = new Image(2, 3);
+		
+		final Layer layer = new Layer(image, new Point2I(4, 5), CompositeOperator.MULTIPLY, 0.5D);
+		
+		assertSame(image, layer.getImage());
+		assertSame(CompositeOperator.MULTIPLY, layer.getCompositeOperator());
+		
+		assertEquals(new Point2I(4, 5), layer.getPosition());
+		assertEquals(0.5D, layer.getOpacity());
+		
+		assertThrows(IllegalArgumentException.class, () -> new Layer(image, new Point2I(), CompositeOperator.OVER, -0.1D));
+		assertThrows(IllegalArgumentException.class, () -> new Layer(image, new Point2I(), CompositeOperator.OVER, +1.1D));
+		assertThrows(IllegalArgumentException.class, () -> new Layer(image, new Point2I(), CompositeOperator.OVER, Double.NaN));
+		assertThrows(NullPointerException.class, () -> new Layer(null, new Point2I(), CompositeOperator.OVER, 1.0D));
+		assertThrows(NullPointerException.class, () -> new Layer(image, null, CompositeOperator.OVER, 1.0D));
+		assertThrows(NullPointerException.class, () -> new Layer(image, new Point2I(), null, 1.0D));
+	}
+	
+	@Test
+	public void testGetBounds() {
+		final Layer layer = new Layer(new Image(2, 3), new Point2I(4, 5), CompositeOperator.OVER, 1.0D);
+		
+		assertEquals(new Rectangle2I(new Point2I(4, 5), new Point2I(5, 7)), layer.getBounds());
+	}
+	
+	@Test
+	public void testInvalidate() {
+		final Layer layer = new Layer(new Image(2, 3), new Point2I(4, 5), CompositeOperator.OVER, 1.0D);
+		
+		layer.pollDirtyRegions();
+		
+		assertTrue(layer.pollDirtyRegions().isEmpty());
+		assertTrue(layer.invalidate());
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(4, 5), new Point2I(5, 7))), layer.pollDirtyRegions());
+	}
+	
+	@Test
+	public void testInvalidateRectangle2I() {
+		final Layer layer = new Layer(new Image(2, 3), new Point2I(4, 5), CompositeOperator.OVER, 1.0D);
+		
+		layer.pollDirtyRegions();
+		
+		assertTrue(layer.invalidate(new Rectangle2I(new Point2I(1, 1), new Point2I(1, 2))));
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(5, 6), new Point2I(5, 7))), layer.pollDirtyRegions());
+		
+		assertThrows(NullPointerException.class, () -> layer.invalidate(null));
+	}
+	
+	@Test
+	public void testPollDirtyRegions() {
+		final Image image = new Image(4, 4);
+		
+		final Layer layer = new Layer(image, new Point2I(10, 20), CompositeOperator.OVER, 1.0D);
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(10, 20), new Point2I(13, 23))), layer.pollDirtyRegions());
+		assertEquals(Arrays.asList(), layer.pollDirtyRegions());
+		
+		image.getData().setColorARGB(0xFF000000, 1, 2);
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(11, 22), new Point2I(11, 22))), layer.pollDirtyRegions());
+		
+		assertTrue(image.getData().isDirty());
+		
+		assertTrue(layer.setPosition(new Point2I(12, 20)));
+		
+		final List<Rectangle2I> dirtyRegions = layer.pollDirtyRegions();
+		
+		assertEquals(2, dirtyRegions.size());
+		assertTrue(dirtyRegions.contains(new Rectangle2I(new Point2I(10, 20), new Point2I(13, 23))));
+		assertTrue(dirtyRegions.contains(new Rectangle2I(new Point2I(12, 20), new Point2I(15, 23))));
+		
+		image.getData().setColorARGB(0xFF0000FF, 0, 0);
+		image.getData().clearDirtyRegions();
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(12, 20), new Point2I(12, 20))), layer.pollDirtyRegions());
+		assertEquals(Arrays.asList(), layer.pollDirtyRegions());
+	}
+	
+	@Test
+	public void testPollDirtyRegionsWithSharedImage() {
+		final Image image = new Image(4, 4);
+		
+		final Layer layerA = new Layer(image, new Point2I(0, 0), CompositeOperator.OVER, 1.0D);
+		final Layer layerB = new Layer(image, new Point2I(4, 0), CompositeOperator.OVER, 1.0D);
+		
+		layerA.pollDirtyRegions();
+		layerB.pollDirtyRegions();
+		
+		image.getData().setColorARGB(0xFF000000, 1, 2);
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(1, 2), new Point2I(1, 2))), layerA.pollDirtyRegions());
+		
+		image.getData().setColorARGB(0xFF000000, 3, 3);
+		
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(5, 2), new Point2I(5, 2)), new Rectangle2I(new Point2I(7, 3), new Point2I(7, 3))), layerB.pollDirtyRegions());
+		assertEquals(Arrays.asList(new Rectangle2I(new Point2I(3, 3), new Point2I(3, 3))), layerA.pollDirtyRegions());
+	}
+	
+	@Test
+	public void testSetCompositeOperator() {
+		final Layer layer = new Layer(new Image(2, 3));
+		
+		layer.pollDirtyRegions();
+		
+		assertFalse(layer.setCompositeOperator(CompositeOperator.OVER));
+		assertTrue(layer.pollDirtyRegions().isEmpty());
+		
+		assertTrue(layer.setCompositeOperator(CompositeOperator.SCREEN));
+		assertSame(CompositeOperator.SCREEN, layer.getCompositeOperator());
+		assertEquals(1, layer.pollDirtyRegions().size());
+		
+		assertThrows(NullPointerException.class, () -> layer.setCompositeOperator(null));
+	}
+	
+	@Test
+	public void testSetImage() {
+		final Image image = new Image(2, 3);
+		
+		final Layer layer = new Layer(new Image(4, 5));
+		
+		layer.pollDirtyRegions();
+		
+		assertTrue(layer.setImage(image));
+		assertFalse(layer.setImage(image));
+		
+		assertSame(image, layer.getImage());
+		
+		final List<Rectangle2I> dirtyRegions = layer.pollDirtyRegions();
+		
+		assertTrue(dirtyRegions.contains(new Rectangle2I(new Point2I(0, 0), new Point2I(3, 4))));
+		assertTrue(dirtyRegions.contains(new Rectangle2I(new Point2I(0, 0), new Point2I(1, 2))));
+		
+		assertThrows(NullPointerException.class, () -> layer.setImage(null));
+	}
+	
+	@Test
+	public void testSetOpacity() {
+		final Layer layer = new Layer(new Image(2, 3));
+		
+		layer.pollDirtyRegions();
+		
+		assertFalse(layer.setOpacity(1.0D));
+		assertTrue(layer.pollDirtyRegions().isEmpty());
+		
+		assertTrue(layer.setOpacity(0.25D));
+		assertEquals(0.25D, layer.getOpacity());
+		assertEquals(1, layer.pollDirtyRegions().size());
+		
+		assertThrows(IllegalArgumentException.class, () -> layer.setOpacity(-0.1D));
+		assertThrows(IllegalArgumentException.class, () -> layer.setOpacity(+1.1D));
+		assertThrows(IllegalArgumentException.class, () -> layer.setOpacity(Double.NaN));
+	}
+	
+	@Test
+	public void testSetPosition() {
+		final Layer layer = new Layer(new Image(2, 3));
+		
+		assertFalse(layer.setPosition(new Point2I()));
+		assertTrue(layer.setPosition(new Point2I(1, 2)));
+		
+		assertEquals(new Point2I(1, 2), layer.getPosition());
+		
+		assertThrows(NullPointerException.class, () -> layer.setPosition(null));
+	}
+	
+	@Test
+	public void testSetVisible() {
+		final Layer layer = new Layer(new Image(2, 3));
+		
+		layer.pollDirtyRegions();
+		
+		assertFalse(layer.setVisible(true));
+		assertTrue(layer.pollDirtyRegions().isEmpty());
+		
+		assertTrue(layer.setVisible(false));
+		assertFalse(layer.isVisible());
+		assertEquals(1, layer.pollDirtyRegions().size());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,174 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.geo4j.common.Point2I;
+import org.macroing.geo4j.shape.Shape2I;
+import org.macroing.geo4j.shape.circle.Circle2I;
+import org.macroing.geo4j.shape.ls.LineSegment2I;
+import org.macroing.geo4j.shape.polygon.Polygon2I;
+import org.macroing.geo4j.shape.rectangle.Rectangle2I;
+import org.macroing.geo4j.shape.triangle.Triangle2I;
+
+@SuppressWarnings("static-method")
+public final class ShapeRasterizerUnitTests {
+	private static final int CASE_COUNT = 200;
+	private static final int RESOLUTION_X = 16;
+	private static final int RESOLUTION_Y = 12;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public ShapeRasterizerUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testRasterizeAntiAliasedRectangle() {
+		final Rectangle2I rectangle = new Rectangle2I(new Point2I(1, 1), new Point2I(3, 3));
+		
+		final double[][] coverages = new double[RESOLUTION_Y][RESOLUTION_X];
+		
+		ShapeRasterizer.rasterizeAntiAliased(rectangle, RESOLUTION_X, RESOLUTION_Y, (x, y, coverage) -> coverages[y][x] += coverage);
+		
+		double coverageSum = 0.0D;
+		
+		for(int y = 0; y < RESOLUTION_Y; y++) {
+			for(int x = 0; x < RESOLUTION_X; x++) {
+				if(!rectangle.contains(new Point2I(x, y), false)) {
+					assertEquals(0.0D, coverages[y][x]);
+				}
+				
+				coverageSum += coverages[y][x];
+			}
+		}
+		
+		assertEquals(4.0D, coverageSum, 0.000001D);
+		assertEquals(0.25D, coverages[1][1]);
+		assertEquals(0.50D, coverages[1][2]);
+		assertEquals(1.00D, coverages[2][2]);
+		assertEquals(0.25D, coverages[3][3]);
+	}
+	
+	@Test
+	public void testRasterizeAntiAliasedRectangleRotated() {
+		final Rectangle2I rectangle = new Rectangle2I(new Point2I(0, 4), new Point2I(4, 0), new Point2I(8, 4), new Point2I(4, 8));
+		
+		final double[][] coverages = new double[RESOLUTION_Y][RESOLUTION_X];
+		
+		ShapeRasterizer.rasterizeAntiAliased(rectangle, RESOLUTION_X, RESOLUTION_Y, (x, y, coverage) -> coverages[y][x] += coverage);
+		
+		assertEquals(1.0D, coverages[4][4]);
+		assertEquals(0.0D, coverages[0][0]);
+		
+		assertTrue(coverages[0][4] > 0.0D && coverages[0][4] < 1.0D);
+		assertTrue(coverages[4][0] > 0.0D && coverages[4][0] < 1.0D);
+	}
+	
+	@Test
+	public void testRasterizeCircle() {
+		final Random random = new Random(1L);
+		
+		for(int i = 0; i < CASE_COUNT; i++) {
+			doAssertRasterize(new Circle2I(doCreatePoint(random), random.nextInt(10)));
+		}
+	}
+	
+	@Test
+	public void testRasterizeLineSegment() {
+		final Random random = new Random(2L);
+		
+		for(int i = 0; i < CASE_COUNT; i++) {
+			doAssertRasterize(new LineSegment2I(doCreatePoint(random), doCreatePoint(random)));
+		}
+	}
+	
+	@Test
+	public void testRasterizePolygon() {
+		final Random random = new Random(3L);
+		
+		for(int i = 0; i < CASE_COUNT; i++) {
+			final Point2I[] points = new Point2I[3 + random.nextInt(4)];
+			
+			for(int j = 0; j < points.length; j++) {
+				points[j] = doCreatePoint(random);
+			}
+			
+			doAssertRasterize(new Polygon2I(points));
+		}
+	}
+	
+	@Test
+	public void testRasterizeRectangle() {
+		final Random random = new Random(4L);
+		
+		for(int i = 0; i < CASE_COUNT; i++) {
+			doAssertRasterize(new Rectangle2I(doCreatePoint(random), doCreatePoint(random)));
+		}
+	}
+	
+	@Test
+	public void testRasterizeTriangle() {
+		final Random random = new Random(5L);
+		
+		for(int i = 0; i < CASE_COUNT; i++) {
+			doAssertRasterize(new Triangle2I(doCreatePoint(random), doCreatePoint(random), doCreatePoint(random)));
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static Point2I doCreatePoint(final Random random) {
+		return new Point2I(random.nextInt(RESOLUTION_X + 8) - 4, random.nextInt(RESOLUTION_Y + 8) - 4);
+	}
+	
+	private static void doAssertRasterize(final Shape2I shape) {
+		doAssertRasterize(shape, false);
+		doAssertRasterize(shape, true);
+	}
+	
+	private static void doAssertRasterize(final Shape2I shape, final boolean isIncludingBorderOnly) {
+		final boolean[][] pixels = new boolean[RESOLUTION_Y][RESOLUTION_X];
+		
+		ShapeRasterizer.rasterize(shape, isIncludingBorderOnly, RESOLUTION_X, RESOLUTION_Y, (y, minimumX, maximumX) -> {
+			assertTrue(minimumX <= maximumX);
+			
+			for(int x = minimumX; x <= maximumX; x++) {
+				assertFalse(pixels[y][x]);
+				
+				pixels[y][x] = true;
+			}
+		});
+		
+		for(int y = 0; y < RESOLUTION_Y; y++) {
+			for(int x = 0; x < RESOLUTION_X; x++) {
+				assertEquals(shape.contains(new Point2I(x, y), isIncludingBorderOnly), pixels[y][x], String.format("%s, isIncludingBorderOnly = %s, (%d, %d)", shape, Boolean.valueOf(isIncludingBorderOnly), Integer.valueOf(x), Integer.valueOf(y)));
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,218 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.art4j.color.Color3F;
+import org.macroing.art4j.color.Color4F;
+import org.macroing.art4j.curve.RegularSpectralCurveF;
+import org.macroing.art4j.data.DataFactory;
+
+@SuppressWarnings("static-method")
+public final class SpectralFilmUnitTests {
+	public SpectralFilmUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testAccumulate() {
+		final SpectralFilm spectralFilm = new SpectralFilm(2, 2, 400.0F, 700.0F, 4);
+		
+		assertTrue(spectralFilm.accumulate(1, 1, 400.0F, 2.0F));
+		assertTrue(spectralFilm.accumulate(1, 1, 400.0F, 4.0F));
+		assertTrue(spectralFilm.accumulate(1, 1, 550.0F, 1.0F));
+		assertTrue(spectralFilm.accumulate(1, 1, 700.0F, 5.0F));
+		
+		assertFalse(spectralFilm.accumulate(1, 1, 399.0F, 1.0F));
+		assertFalse(spectralFilm.accumulate(1, 1, 701.0F, 1.0F));
+		assertFalse(spectralFilm.accumulate(1, 1, Float.NaN, 1.0F));
+		assertFalse(spectralFilm.accumulate(-1, 0, 500.0F, 1.0F));
+		assertFalse(spectralFilm.accumulate(0, 2, 500.0F, 1.0F));
+		
+		assertEquals(3.0F, spectralFilm.getSample(1, 1, 0));
+		assertEquals(1.0F, spectralFilm.getSample(1, 1, 1), 0.0001F);
+		assertEquals(1.0F, spectralFilm.getSample(1, 1, 2), 0.0001F);
+		assertEquals(5.0F, spectralFilm.getSample(1, 1, 3));
+		
+		assertEquals(0.0F, spectralFilm.getSample(0, 0, 0));
+		
+		spectralFilm.clear();
+		
+		assertEquals(0.0F, spectralFilm.getSample(1, 1, 0));
+		assertEquals(0.0F, spectralFilm.getSample(1, 1, 3));
+	}
+	
+	@Test
+	public void testAccumulateFloatArrayFloatArray() {
+		final SpectralFilm spectralFilm = new SpectralFilm(2, 2, 400.0F, 700.0F, 4);
+		
+		assertTrue(spectralFilm.accumulate(0, 1, new float[] {400.0F, 500.0F, 800.0F}, new float[] {2.0F, 3.0F, 4.0F}));
+		
+		assertFalse(spectralFilm.accumulate(2, 1, new float[] {400.0F}, new float[] {2.0F}));
+		
+		assertEquals(2.0F, spectralFilm.getSample(0, 1, 0));
+		assertEquals(3.0F, spectralFilm.getSample(0, 1, 1), 0.0001F);
+		assertEquals(0.0F, spectralFilm.getSample(0, 1, 2));
+		assertEquals(0.0F, spectralFilm.getSample(0, 1, 3));
+		
+		assertThrows(IllegalArgumentException.class, () -> spectralFilm.accumulate(0, 0, new float[2], new float[1]));
+		assertThrows(NullPointerException.class, () -> spectralFilm.accumulate(0, 0, new float[1], null));
+		assertThrows(NullPointerException.class, () -> spectralFilm.accumulate(0, 0, null, new float[1]));
+	}
+	
+	@Test
+	public void testConstants() {
+		assertEquals(48, SpectralFilm.DEFAULT_BAND_COUNT);
+		assertEquals(830.0F, SpectralFilm.DEFAULT_LAMBDA_MAX);
+		assertEquals(360.0F, SpectralFilm.DEFAULT_LAMBDA_MIN);
+	}
+	
+	@Test
+	public void testConstructorIntInt() {
+		final SpectralFilm spectralFilm = new SpectralFilm(3, 2);
+		
+		assertEquals(SpectralFilm.DEFAULT_BAND_COUNT, spectralFilm.getBandCount());
+		assertEquals(SpectralFilm.DEFAULT_LAMBDA_MAX, spectralFilm.getLambdaMax());
+		assertEquals(SpectralFilm.DEFAULT_LAMBDA_MIN, spectralFilm.getLambdaMin());
+		assertEquals(3, spectralFilm.getResolutionX());
+		assertEquals(2, spectralFilm.getResolutionY());
+		
+		assertThrows(IllegalArgumentException.class, () -> new SpectralFilm(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new SpectralFilm(1, 0));
+		assertThrows(IllegalArgumentException.class, () -> new SpectralFilm(Integer.MAX_VALUE, 2));
+	}
+	
+	@Test
+	public void testConstructorIntIntFloatFloatInt() {
+		final SpectralFilm spectralFilm = new SpectralFilm(3, 2, 400.0F, 700.0F, 4);
+		
+		assertEquals(4, spectralFilm.getBandCount());
+		assertEquals(700.0F, spectralFilm.getLambdaMax());
+		assertEquals(400.0F, spectralFilm.getLambdaMin());
+		assertEquals(3, spectralFilm.getResolutionX());
+		assertEquals(2, spectralFilm.getResolutionY());
+		
+		assertThrows(IllegalArgumentException.class, () -> new SpectralFilm(1, 1, 400.0F, 700.0F, 1));
+		assertThrows(IllegalArgumentException.class, () -> new SpectralFilm(1, 1, 700.0F, 400.0F, 4));
+		assertThrows(IllegalArgumentException.class, () -> new SpectralFilm(1, 1, 400.0F, 400.0F, 4));
+		assertThrows(IllegalArgumentException.class, () -> new SpectralFilm(1, 1, Float.NaN, 700.0F, 4));
+		assertThrows(IllegalArgumentException.class, () -> new SpectralFilm(65536, 65536, 400.0F, 700.0F, 4));
+	}
+	
+	@Test
+	public void testGetLambda() {
+		final SpectralFilm spectralFilm = new SpectralFilm(1, 1, 400.0F, 700.0F, 4);
+		
+		assertEquals(400.0F, spectralFilm.getLambda(0));
+		assertEquals(500.0F, spectralFilm.getLambda(1), 0.001F);
+		assertEquals(600.0F, spectralFilm.getLambda(2), 0.001F);
+		assertEquals(700.0F, spectralFilm.getLambda(3));
+		
+		assertThrows(IllegalArgumentException.class, () -> spectralFilm.getLambda(-1));
+		assertThrows(IllegalArgumentException.class, () -> spectralFilm.getLambda(4));
+	}
+	
+	@Test
+	public void testGetSample() {
+		final SpectralFilm spectralFilm = new SpectralFilm(2, 3, 400.0F, 700.0F, 4);
+		
+		assertEquals(0.0F, spectralFilm.getSample(1, 2, 3));
+		
+		assertThrows(IllegalArgumentException.class, () -> spectralFilm.getSample(-1, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> spectralFilm.getSample(2, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> spectralFilm.getSample(0, -1, 0));
+		assertThrows(IllegalArgumentException.class, () -> spectralFilm.getSample(0, 3, 0));
+		assertThrows(IllegalArgumentException.class, () -> spectralFilm.getSample(0, 0, -1));
+		assertThrows(IllegalArgumentException.class, () -> spectralFilm.getSample(0, 0, 4));
+	}
+	
+	@Test
+	public void testGetSpectralCurve() {
+		final SpectralFilm spectralFilm = new SpectralFilm(1, 1, 400.0F, 700.0F, 4);
+		
+		spectralFilm.accumulate(0, 0, 400.0F, 1.0F);
+		spectralFilm.accumulate(0, 0, 700.0F, 2.0F);
+		
+		final RegularSpectralCurveF regularSpectralCurve = spectralFilm.getSpectralCurve(0, 0);
+		
+		assertEquals(1.0F, regularSpectralCurve.sample(400.0F));
+		assertEquals(2.0F, regularSpectralCurve.sample(700.0F));
+		
+		assertThrows(IllegalArgumentException.class, () -> spectralFilm.getSpectralCurve(1, 0));
+		assertThrows(IllegalArgumentException.class, () -> spectralFilm.getSpectralCurve(0, 1));
+	}
+	
+	@Test
+	public void testToImageRGB() {
+		final SpectralFilm spectralFilm = new SpectralFilm(2, 1);
+		
+		for(float lambda = 360.0F; lambda <= 830.0F; lambda += 5.0F) {
+			spectralFilm.accumulate(1, 0, lambda, 0.5F);
+		}
+		
+		final Color3F expected = spectralFilm.getSpectralCurve(1, 0).toColorRGB();
+		
+		final Image image = spectralFilm.toImageRGB();
+		
+		final Color4F color0 = image.getColor4F(0, 0);
+		final Color4F color1 = image.getColor4F(1, 0);
+		
+		assertEquals(0.0F, color0.r);
+		assertEquals(1.0F, color0.a);
+		
+		assertEquals(expected.r, color1.r, 0.001F);
+		assertEquals(expected.g, color1.g, 0.001F);
+		assertEquals(expected.b, color1.b, 0.001F);
+		assertEquals(1.0F, color1.a);
+		
+		assertEquals(2L, image.getData().getPixelModificationCount());
+		
+		assertThrows(NullPointerException.class, () -> spectralFilm.toImageRGB(null));
+	}
+	
+	@Test
+	public void testToImageXYZ() {
+		final SpectralFilm spectralFilm = new SpectralFilm(1, 2, 400.0F, 700.0F, 16);
+		
+		spectralFilm.accumulate(0, 1, 400.0F, 1.0F);
+		spectralFilm.accumulate(0, 1, 550.0F, 2.0F);
+		spectralFilm.accumulate(0, 1, 620.0F, 3.0F);
+		
+		final Color3F expected = spectralFilm.getSpectralCurve(0, 1).toColorXYZ();
+		
+		final Image image = spectralFilm.toImageXYZ(DataFactory.forColor4D());
+		
+		final Color4F color = image.getColor4F(0, 1);
+		
+		assertEquals(expected.r, color.r, 0.001F);
+		assertEquals(expected.g, color.g, 0.001F);
+		assertEquals(expected.b, color.b, 0.001F);
+		assertEquals(1.0F, color.a);
+		
+		assertThrows(NullPointerException.class, () -> spectralFilm.toImageXYZ(null));
+	}
+}
\ No newline at end of file
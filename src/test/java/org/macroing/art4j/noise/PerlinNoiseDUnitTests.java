@@ -19,6 +19,7 @@
 package org.macroing.art4j.noise;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -53,6 +54,26 @@ public final class PerlinNoiseDUnitTests {
 		}
 	}
 	
+	@Test
+	public void testFractalXYZDoubleArray() {
+		final double[] array = new double[7 * 5 + 1];
+		
+		assertTrue(array == PerlinNoiseD.fractalXYZ(array, 7, 5, -3.25D, 11.5D, 0.5D, 0.75D, 0.375D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(PerlinNoiseD.fractalXYZ(-3.25D + x * 0.75D, 11.5D + y * 0.375D, 0.5D, 1.0D, 0.5D, 0.5D, 2.0D, 4), array[y * 7 + x]);
+			}
+		}
+		
+		assertEquals(0.0D, array[7 * 5]);
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.fractalXYZ(new double[6], 7, 1, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.fractalXYZ(new double[1], 0, 1, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.fractalXYZ(new double[1], 1, 0, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(NullPointerException.class, () -> PerlinNoiseD.fractalXYZ(null, 1, 1, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+	}
+	
 	@Test
 	public void testFractionalBrownianMotionXYZ() {
 		for(int i = 0; i < 100000; i++) {
@@ -92,6 +113,156 @@ public final class PerlinNoiseDUnitTests {
 		assertEquals(0.0D, PerlinNoiseD.noiseXYZ(0.0D, 0.0D, Double.NaN));
 	}
 	
+	@Test
+	public void testNoiseXYZDoubleArray() {
+		final double[] array = new double[7 * 5 + 1];
+		
+		assertTrue(array == PerlinNoiseD.noiseXYZ(array, 7, 5, -3.25D, 11.5D, 0.5D, 0.75D, 0.375D));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(PerlinNoiseD.noiseXYZ(-3.25D + x * 0.75D, 11.5D + y * 0.375D, 0.5D), array[y * 7 + x]);
+			}
+		}
+		
+		assertEquals(0.0D, array[7 * 5]);
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.noiseXYZ(new double[6], 7, 1, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.noiseXYZ(new double[1], 0, 1, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.noiseXYZ(new double[1], 1, 0, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D));
+		assertThrows(NullPointerException.class, () -> PerlinNoiseD.noiseXYZ(null, 1, 1, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D));
+	}
+	
+	@Test
+	public void testPeriodicFractalXYZ() {
+		for(int i = 0; i < 10000; i++) {
+			final double x = Randoms.nextDouble(-100.0D, 100.0D);
+			final double y = Randoms.nextDouble(-100.0D, 100.0D);
+			final double z = Randoms.nextDouble(-100.0D, 100.0D);
+			
+			final double noise = PerlinNoiseD.periodicFractalXYZ(x, y, z, 3, 5, 7, 1.0D, 1.0D, 0.5D, 2.0D, 4);
+			
+			assertEquals(noise, PerlinNoiseD.periodicFractalXYZ(x + 3.0D, y, z, 3, 5, 7, 1.0D, 1.0D, 0.5D, 2.0D, 4), 0.000001D);
+			assertEquals(noise, PerlinNoiseD.periodicFractalXYZ(x, y + 5.0D, z, 3, 5, 7, 1.0D, 1.0D, 0.5D, 2.0D, 4), 0.000001D);
+			assertEquals(noise, PerlinNoiseD.periodicFractalXYZ(x, y, z + 7.0D, 3, 5, 7, 1.0D, 1.0D, 0.5D, 2.0D, 4), 0.000001D);
+			
+			assertTrue(noise >= -2.0D && noise <= 2.0D);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.periodicFractalXYZ(0.5D, 0.5D, 0.5D, 0, 1, 1, 1.0D, 1.0D, 0.5D, 2.0D, 4));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.periodicFractalXYZ(0.5D, 0.5D, 0.5D, 1, 0, 1, 1.0D, 1.0D, 0.5D, 2.0D, 4));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.periodicFractalXYZ(0.5D, 0.5D, 0.5D, 1, 1, 0, 1.0D, 1.0D, 0.5D, 2.0D, 4));
+	}
+	
+	@Test
+	public void testPeriodicFractalXYZDoubleArray() {
+		final double[] array = new double[8 * 4 + 1];
+		
+		assertTrue(array == PerlinNoiseD.periodicFractalXYZ(array, 8, 4, 0.5D, 4, 2, 3, 1.0D, 1.0D, 0.5D, 2.0D, 3));
+		
+		for(int y = 0; y < 4; y++) {
+			for(int x = 0; x < 8; x++) {
+				assertEquals(PerlinNoiseD.periodicFractalXYZ(x * (4.0D / 8.0D), y * (2.0D / 4.0D), 0.5D, 4, 2, 3, 1.0D, 1.0D, 0.5D, 2.0D, 3), array[y * 8 + x]);
+			}
+		}
+		
+		assertEquals(0.0D, array[8 * 4]);
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.periodicFractalXYZ(new double[7], 8, 1, 0.5D, 4, 2, 3, 1.0D, 1.0D, 0.5D, 2.0D, 3));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.periodicFractalXYZ(new double[8], 8, 1, 0.5D, 0, 2, 3, 1.0D, 1.0D, 0.5D, 2.0D, 3));
+		assertThrows(NullPointerException.class, () -> PerlinNoiseD.periodicFractalXYZ(null, 8, 1, 0.5D, 4, 2, 3, 1.0D, 1.0D, 0.5D, 2.0D, 3));
+	}
+	
+	@Test
+	public void testPeriodicNoiseXYZ() {
+		for(int i = 0; i < 100000; i++) {
+			final double x = Randoms.nextDouble(-1000.0D, 1000.0D);
+			final double y = Randoms.nextDouble(-1000.0D, 1000.0D);
+			final double z = Randoms.nextDouble(-1000.0D, 1000.0D);
+			
+			final double noise = PerlinNoiseD.periodicNoiseXYZ(x, y, z, 3, 5, 7);
+			
+			assertEquals(noise, PerlinNoiseD.periodicNoiseXYZ(x + 3.0D, y, z, 3, 5, 7), 0.000001D);
+			assertEquals(noise, PerlinNoiseD.periodicNoiseXYZ(x, y - 5.0D, z, 3, 5, 7), 0.000001D);
+			assertEquals(noise, PerlinNoiseD.periodicNoiseXYZ(x, y, z + 7.0D, 3, 5, 7), 0.000001D);
+			
+			assertEquals(PerlinNoiseD.noiseXYZ(x, y, z), PerlinNoiseD.periodicNoiseXYZ(x, y, z, 256, 256, 256));
+			
+			assertTrue(noise >= -1.0D && noise <= 1.0D);
+		}
+		
+		assertEquals(0.0D, PerlinNoiseD.periodicNoiseXYZ(Double.NaN, 0.5D, 0.5D, 1, 1, 1));
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.periodicNoiseXYZ(0.5D, 0.5D, 0.5D, 0, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.periodicNoiseXYZ(0.5D, 0.5D, 0.5D, 1, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.periodicNoiseXYZ(0.5D, 0.5D, 0.5D, 1, 1, 0));
+	}
+	
+	@Test
+	public void testPeriodicNoiseXYZDoubleArray() {
+		final double[] array = PerlinNoiseD.periodicNoiseXYZ(new double[8 * 4], 8, 4, 0.5D, 4, 2, 3);
+		
+		for(int y = 0; y < 4; y++) {
+			for(int x = 0; x < 8; x++) {
+				assertEquals(PerlinNoiseD.periodicNoiseXYZ(x * (4.0D / 8.0D), y * (2.0D / 4.0D), 0.5D, 4, 2, 3), array[y * 8 + x]);
+			}
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.periodicNoiseXYZ(new double[8], 8, 1, 0.5D, 4, 2, 0));
+		assertThrows(NullPointerException.class, () -> PerlinNoiseD.periodicNoiseXYZ(null, 8, 1, 0.5D, 4, 2, 3));
+	}
+	
+	@Test
+	public void testPeriodicTurbulenceXYZ() {
+		for(int i = 0; i < 10000; i++) {
+			final double x = Randoms.nextDouble(-100.0D, 100.0D);
+			final double y = Randoms.nextDouble(-100.0D, 100.0D);
+			final double z = Randoms.nextDouble(-100.0D, 100.0D);
+			
+			final double noise = PerlinNoiseD.periodicTurbulenceXYZ(x, y, z, 3, 5, 7, 1.0D, 1.0D, 0.5D, 2.0D, 4);
+			
+			assertEquals(noise, PerlinNoiseD.periodicTurbulenceXYZ(x - 3.0D, y, z, 3, 5, 7, 1.0D, 1.0D, 0.5D, 2.0D, 4), 0.000001D);
+			assertEquals(noise, PerlinNoiseD.periodicTurbulenceXYZ(x, y + 5.0D, z, 3, 5, 7, 1.0D, 1.0D, 0.5D, 2.0D, 4), 0.000001D);
+			
+			assertTrue(noise >= 0.0D && noise <= 2.0D);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.periodicTurbulenceXYZ(0.5D, 0.5D, 0.5D, 0, 1, 1, 1.0D, 1.0D, 0.5D, 2.0D, 4));
+	}
+	
+	@Test
+	public void testPeriodicTurbulenceXYZDoubleArray() {
+		final double[] array = PerlinNoiseD.periodicTurbulenceXYZ(new double[8 * 4], 8, 4, 0.5D, 4, 2, 3, 1.0D, 1.0D, 0.5D, 2.0D, 3);
+		
+		for(int y = 0; y < 4; y++) {
+			for(int x = 0; x < 8; x++) {
+				assertEquals(PerlinNoiseD.periodicTurbulenceXYZ(x * (4.0D / 8.0D), y * (2.0D / 4.0D), 0.5D, 4, 2, 3, 1.0D, 1.0D, 0.5D, 2.0D, 3), array[y * 8 + x]);
+			}
+		}
+		
+		assertThrows(NullPointerException.class, () -> PerlinNoiseD.periodicTurbulenceXYZ(null, 8, 1, 0.5D, 4, 2, 3, 1.0D, 1.0D, 0.5D, 2.0D, 3));
+	}
+	
+	@Test
+	public void testTurbulenceXYZDoubleArray() {
+		final double[] array = new double[7 * 5 + 1];
+		
+		assertTrue(array == PerlinNoiseD.turbulenceXYZ(array, 7, 5, -3.25D, 11.5D, 0.5D, 0.75D, 0.375D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(PerlinNoiseD.turbulenceXYZ(-3.25D + x * 0.75D, 11.5D + y * 0.375D, 0.5D, 1.0D, 0.5D, 0.5D, 2.0D, 4), array[y * 7 + x]);
+			}
+		}
+		
+		assertEquals(0.0D, array[7 * 5]);
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.turbulenceXYZ(new double[6], 7, 1, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.turbulenceXYZ(new double[1], 0, 1, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseD.turbulenceXYZ(new double[1], 1, 0, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(NullPointerException.class, () -> PerlinNoiseD.turbulenceXYZ(null, 1, 1, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+	}
+	
 	@Test
 	public void testTurbulenceXYZDoubleDoubleDoubleDoubleDoubleDoubleDoubleInt() {
 		for(int i = 0; i < 100000; i++) {
@@ -19,6 +19,7 @@
 package org.macroing.art4j.noise;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -53,6 +54,26 @@ public final class PerlinNoiseFUnitTests {
 		}
 	}
 	
+	@Test
+	public void testFractalXYZFloatArray() {
+		final float[] array = new float[7 * 5 + 1];
+		
+		assertTrue(array == PerlinNoiseF.fractalXYZ(array, 7, 5, -3.25F, 11.5F, 0.5F, 0.75F, 0.375F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(PerlinNoiseF.fractalXYZ(-3.25F + x * 0.75F, 11.5F + y * 0.375F, 0.5F, 1.0F, 0.5F, 0.5F, 2.0F, 4), array[y * 7 + x]);
+			}
+		}
+		
+		assertEquals(0.0F, array[7 * 5]);
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.fractalXYZ(new float[6], 7, 1, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.fractalXYZ(new float[1], 0, 1, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.fractalXYZ(new float[1], 1, 0, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(NullPointerException.class, () -> PerlinNoiseF.fractalXYZ(null, 1, 1, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+	}
+	
 	@Test
 	public void testFractionalBrownianMotionXYZ() {
 		for(int i = 0; i < 100000; i++) {
@@ -92,6 +113,156 @@ public final class PerlinNoiseFUnitTests {
 		assertEquals(0.0F, PerlinNoiseF.noiseXYZ(0.0F, 0.0F, Float.NaN));
 	}
 	
+	@Test
+	public void testNoiseXYZFloatArray() {
+		final float[] array = new float[7 * 5 + 1];
+		
+		assertTrue(array == PerlinNoiseF.noiseXYZ(array, 7, 5, -3.25F, 11.5F, 0.5F, 0.75F, 0.375F));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(PerlinNoiseF.noiseXYZ(-3.25F + x * 0.75F, 11.5F + y * 0.375F, 0.5F), array[y * 7 + x]);
+			}
+		}
+		
+		assertEquals(0.0F, array[7 * 5]);
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.noiseXYZ(new float[6], 7, 1, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.noiseXYZ(new float[1], 0, 1, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.noiseXYZ(new float[1], 1, 0, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F));
+		assertThrows(NullPointerException.class, () -> PerlinNoiseF.noiseXYZ(null, 1, 1, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F));
+	}
+	
+	@Test
+	public void testPeriodicFractalXYZ() {
+		for(int i = 0; i < 10000; i++) {
+			final float x = Randoms.nextFloat(-100.0F, 100.0F);
+			final float y = Randoms.nextFloat(-100.0F, 100.0F);
+			final float z = Randoms.nextFloat(-100.0F, 100.0F);
+			
+			final float noise = PerlinNoiseF.periodicFractalXYZ(x, y, z, 3, 5, 7, 1.0F, 1.0F, 0.5F, 2.0F, 4);
+			
+			assertEquals(noise, PerlinNoiseF.periodicFractalXYZ(x + 3.0F, y, z, 3, 5, 7, 1.0F, 1.0F, 0.5F, 2.0F, 4), 0.001F);
+			assertEquals(noise, PerlinNoiseF.periodicFractalXYZ(x, y + 5.0F, z, 3, 5, 7, 1.0F, 1.0F, 0.5F, 2.0F, 4), 0.001F);
+			assertEquals(noise, PerlinNoiseF.periodicFractalXYZ(x, y, z + 7.0F, 3, 5, 7, 1.0F, 1.0F, 0.5F, 2.0F, 4), 0.001F);
+			
+			assertTrue(noise >= -2.0F && noise <= 2.0F);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.periodicFractalXYZ(0.5F, 0.5F, 0.5F, 0, 1, 1, 1.0F, 1.0F, 0.5F, 2.0F, 4));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.periodicFractalXYZ(0.5F, 0.5F, 0.5F, 1, 0, 1, 1.0F, 1.0F, 0.5F, 2.0F, 4));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.periodicFractalXYZ(0.5F, 0.5F, 0.5F, 1, 1, 0, 1.0F, 1.0F, 0.5F, 2.0F, 4));
+	}
+	
+	@Test
+	public void testPeriodicFractalXYZFloatArray() {
+		final float[] array = new float[8 * 4 + 1];
+		
+		assertTrue(array == PerlinNoiseF.periodicFractalXYZ(array, 8, 4, 0.5F, 4, 2, 3, 1.0F, 1.0F, 0.5F, 2.0F, 3));
+		
+		for(int y = 0; y < 4; y++) {
+			for(int x = 0; x < 8; x++) {
+				assertEquals(PerlinNoiseF.periodicFractalXYZ(x * (4.0F / 8.0F), y * (2.0F / 4.0F), 0.5F, 4, 2, 3, 1.0F, 1.0F, 0.5F, 2.0F, 3), array[y * 8 + x]);
+			}
+		}
+		
+		assertEquals(0.0F, array[8 * 4]);
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.periodicFractalXYZ(new float[7], 8, 1, 0.5F, 4, 2, 3, 1.0F, 1.0F, 0.5F, 2.0F, 3));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.periodicFractalXYZ(new float[8], 8, 1, 0.5F, 0, 2, 3, 1.0F, 1.0F, 0.5F, 2.0F, 3));
+		assertThrows(NullPointerException.class, () -> PerlinNoiseF.periodicFractalXYZ(null, 8, 1, 0.5F, 4, 2, 3, 1.0F, 1.0F, 0.5F, 2.0F, 3));
+	}
+	
+	@Test
+	public void testPeriodicNoiseXYZ() {
+		for(int i = 0; i < 100000; i++) {
+			final float x = Randoms.nextFloat(-1000.0F, 1000.0F);
+			final float y = Randoms.nextFloat(-1000.0F, 1000.0F);
+			final float z = Randoms.nextFloat(-1000.0F, 1000.0F);
+			
+			final float noise = PerlinNoiseF.periodicNoiseXYZ(x, y, z, 3, 5, 7);
+			
+			assertEquals(noise, PerlinNoiseF.periodicNoiseXYZ(x + 3.0F, y, z, 3, 5, 7), 0.001F);
+			assertEquals(noise, PerlinNoiseF.periodicNoiseXYZ(x, y - 5.0F, z, 3, 5, 7), 0.001F);
+			assertEquals(noise, PerlinNoiseF.periodicNoiseXYZ(x, y, z + 7.0F, 3, 5, 7), 0.001F);
+			
+			assertEquals(PerlinNoiseF.noiseXYZ(x, y, z), PerlinNoiseF.periodicNoiseXYZ(x, y, z, 256, 256, 256));
+			
+			assertTrue(noise >= -1.0F && noise <= 1.0F);
+		}
+		
+		assertEquals(0.0F, PerlinNoiseF.periodicNoiseXYZ(Float.NaN, 0.5F, 0.5F, 1, 1, 1));
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.periodicNoiseXYZ(0.5F, 0.5F, 0.5F, 0, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.periodicNoiseXYZ(0.5F, 0.5F, 0.5F, 1, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.periodicNoiseXYZ(0.5F, 0.5F, 0.5F, 1, 1, 0));
+	}
+	
+	@Test
+	public void testPeriodicNoiseXYZFloatArray() {
+		final float[] array = PerlinNoiseF.periodicNoiseXYZ(new float[8 * 4], 8, 4, 0.5F, 4, 2, 3);
+		
+		for(int y = 0; y < 4; y++) {
+			for(int x = 0; x < 8; x++) {
+				assertEquals(PerlinNoiseF.periodicNoiseXYZ(x * (4.0F / 8.0F), y * (2.0F / 4.0F), 0.5F, 4, 2, 3), array[y * 8 + x]);
+			}
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.periodicNoiseXYZ(new float[8], 8, 1, 0.5F, 4, 2, 0));
+		assertThrows(NullPointerException.class, () -> PerlinNoiseF.periodicNoiseXYZ(null, 8, 1, 0.5F, 4, 2, 3));
+	}
+	
+	@Test
+	public void testPeriodicTurbulenceXYZ() {
+		for(int i = 0; i < 10000; i++) {
+			final float x = Randoms.nextFloat(-100.0F, 100.0F);
+			final float y = Randoms.nextFloat(-100.0F, 100.0F);
+			final float z = Randoms.nextFloat(-100.0F, 100.0F);
+			
+			final float noise = PerlinNoiseF.periodicTurbulenceXYZ(x, y, z, 3, 5, 7, 1.0F, 1.0F, 0.5F, 2.0F, 4);
+			
+			assertEquals(noise, PerlinNoiseF.periodicTurbulenceXYZ(x - 3.0F, y, z, 3, 5, 7, 1.0F, 1.0F, 0.5F, 2.0F, 4), 0.001F);
+			assertEquals(noise, PerlinNoiseF.periodicTurbulenceXYZ(x, y + 5.0F, z, 3, 5, 7, 1.0F, 1.0F, 0.5F, 2.0F, 4), 0.001F);
+			
+			assertTrue(noise >= 0.0F && noise <= 2.0F);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.periodicTurbulenceXYZ(0.5F, 0.5F, 0.5F, 0, 1, 1, 1.0F, 1.0F, 0.5F, 2.0F, 4));
+	}
+	
+	@Test
+	public void testPeriodicTurbulenceXYZFloatArray() {
+		final float[] array = PerlinNoiseF.periodicTurbulenceXYZ(new float[8 * 4], 8, 4, 0.5F, 4, 2, 3, 1.0F, 1.0F, 0.5F, 2.0F, 3);
+		
+		for(int y = 0; y < 4; y++) {
+			for(int x = 0; x < 8; x++) {
+				assertEquals(PerlinNoiseF.periodicTurbulenceXYZ(x * (4.0F / 8.0F), y * (2.0F / 4.0F), 0.5F, 4, 2, 3, 1.0F, 1.0F, 0.5F, 2.0F, 3), array[y * 8 + x]);
+			}
+		}
+		
+		assertThrows(NullPointerException.class, () -> PerlinNoiseF.periodicTurbulenceXYZ(null, 8, 1, 0.5F, 4, 2, 3, 1.0F, 1.0F, 0.5F, 2.0F, 3));
+	}
+	
+	@Test
+	public void testTurbulenceXYZFloatArray() {
+		final float[] array = new float[7 * 5 + 1];
+		
+		assertTrue(array == PerlinNoiseF.turbulenceXYZ(array, 7, 5, -3.25F, 11.5F, 0.5F, 0.75F, 0.375F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(PerlinNoiseF.turbulenceXYZ(-3.25F + x * 0.75F, 11.5F + y * 0.375F, 0.5F, 1.0F, 0.5F, 0.5F, 2.0F, 4), array[y * 7 + x]);
+			}
+		}
+		
+		assertEquals(0.0F, array[7 * 5]);
+		
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.turbulenceXYZ(new float[6], 7, 1, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.turbulenceXYZ(new float[1], 0, 1, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(IllegalArgumentException.class, () -> PerlinNoiseF.turbulenceXYZ(new float[1], 1, 0, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(NullPointerException.class, () -> PerlinNoiseF.turbulenceXYZ(null, 1, 1, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+	}
+	
 	@Test
 	public void testTurbulenceXYZFloatFloatFloatFloatFloatFloatFloatInt() {
 		for(int i = 0; i < 100000; i++) {
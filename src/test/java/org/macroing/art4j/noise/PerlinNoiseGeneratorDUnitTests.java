@@ -0,0 +1,156 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.noise;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.java.util.Randoms;
+
+@SuppressWarnings("static-method")
+public final class PerlinNoiseGeneratorDUnitTests {
+	public PerlinNoiseGeneratorDUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructor() {
+		final PerlinNoiseGeneratorD perlinNoiseGenerator = new PerlinNoiseGeneratorD();
+		
+		for(int i = 0; i < 10000; i++) {
+			final double x = Randoms.nextDouble(-1000.0D, 1000.0D);
+			final double y = Randoms.nextDouble(-1000.0D, 1000.0D);
+			final double z = Randoms.nextDouble(-1000.0D, 1000.0D);
+			
+			assertEquals(PerlinNoiseD.noiseXYZ(x, y, z), perlinNoiseGenerator.noiseXYZ(x, y, z));
+			assertEquals(PerlinNoiseD.turbulenceXYZ(x, y, z, 4), perlinNoiseGenerator.turbulenceXYZ(x, y, z, 4));
+		}
+	}
+	
+	@Test
+	public void testConstructorLong() {
+		final PerlinNoiseGeneratorD a = new PerlinNoiseGeneratorD(12345L);
+		final PerlinNoiseGeneratorD b = new PerlinNoiseGeneratorD(12345L);
+		final PerlinNoiseGeneratorD c = new PerlinNoiseGeneratorD(54321L);
+		
+		boolean isDifferent = false;
+		
+		for(int i = 0; i < 10000; i++) {
+			final double x = Randoms.nextDouble(-1000.0D, 1000.0D);
+			final double y = Randoms.nextDouble(-1000.0D, 1000.0D);
+			final double z = Randoms.nextDouble(-1000.0D, 1000.0D);
+			
+			final double noise = a.noiseXYZ(x, y, z);
+			
+			assertEquals(noise, b.noiseXYZ(x, y, z));
+			
+			assertTrue(noise >= -1.0D && noise <= 1.0D);
+			
+			isDifferent |= noise != c.noiseXYZ(x, y, z);
+		}
+		
+		assertTrue(isDifferent);
+	}
+	
+	@Test
+	public void testEquals() {
+		final PerlinNoiseGeneratorD a = new PerlinNoiseGeneratorD(1L);
+		final PerlinNoiseGeneratorD b = new PerlinNoiseGeneratorD(1L);
+		final PerlinNoiseGeneratorD c = new PerlinNoiseGeneratorD(2L);
+		final PerlinNoiseGeneratorD d = new PerlinNoiseGeneratorD();
+		final PerlinNoiseGeneratorD e = new PerlinNoiseGeneratorD();
+		final PerlinNoiseGeneratorD f = null;
+		
+		assertEquals(a, a);
+		assertEquals(a, b);
+		assertEquals(b, a);
+		assertEquals(d, e);
+		assertEquals(e, d);
+		
+		assertNotEquals(a, c);
+		assertNotEquals(c, a);
+		assertNotEquals(a, d);
+		assertNotEquals(d, a);
+		assertNotEquals(a, f);
+		assertNotEquals(f, a);
+		
+		assertFalse(a.equals(new Object()));
+	}
+	
+	@Test
+	public void testFractalXYZDoubleArray() {
+		final PerlinNoiseGeneratorD perlinNoiseGenerator = new PerlinNoiseGeneratorD(7L);
+		
+		final double[] array = new double[7 * 5];
+		
+		assertTrue(array == perlinNoiseGenerator.fractalXYZ(array, 7, 5, -3.25D, 11.5D, 0.5D, 0.75D, 0.375D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(perlinNoiseGenerator.fractalXYZ(-3.25D + x * 0.75D, 11.5D + y * 0.375D, 0.5D, 1.0D, 0.5D, 0.5D, 2.0D, 4), array[y * 7 + x]);
+			}
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> perlinNoiseGenerator.fractalXYZ(new double[6], 7, 1, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(NullPointerException.class, () -> perlinNoiseGenerator.fractalXYZ(null, 1, 1, 0.0D, 0.0D, 0.5D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+	}
+	
+	@Test
+	public void testHashCode() {
+		final PerlinNoiseGeneratorD a = new PerlinNoiseGeneratorD(1L);
+		final PerlinNoiseGeneratorD b = new PerlinNoiseGeneratorD(1L);
+		
+		assertEquals(a.hashCode(), a.hashCode());
+		assertEquals(a.hashCode(), b.hashCode());
+		assertEquals(new PerlinNoiseGeneratorD().hashCode(), new PerlinNoiseGeneratorD().hashCode());
+	}
+	
+	@Test
+	public void testNoiseXYZDoubleArray() {
+		final PerlinNoiseGeneratorD perlinNoiseGenerator = new PerlinNoiseGeneratorD(7L);
+		
+		final double[] array = perlinNoiseGenerator.noiseXYZ(new double[7 * 5], 7, 5, -3.25D, 11.5D, 0.5D, 0.75D, 0.375D);
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(perlinNoiseGenerator.noiseXYZ(-3.25D + x * 0.75D, 11.5D + y * 0.375D, 0.5D), array[y * 7 + x]);
+			}
+		}
+	}
+	
+	@Test
+	public void testTurbulenceXYZDoubleArray() {
+		final PerlinNoiseGeneratorD perlinNoiseGenerator = new PerlinNoiseGeneratorD(7L);
+		
+		final double[] array = perlinNoiseGenerator.turbulenceXYZ(new double[7 * 5], 7, 5, -3.25D, 11.5D, 0.5D, 0.75D, 0.375D, 1.0D, 0.5D, 0.5D, 2.0D, 4);
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(perlinNoiseGenerator.turbulenceXYZ(-3.25D + x * 0.75D, 11.5D + y * 0.375D, 0.5D, 1.0D, 0.5D, 0.5D, 2.0D, 4), array[y * 7 + x]);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.noise;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.java.util.Randoms;
+
+@SuppressWarnings("static-method")
+public final class PerlinNoiseGeneratorFUnitTests {
+	public PerlinNoiseGeneratorFUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructor() {
+		final PerlinNoiseGeneratorF perlinNoiseGenerator = new PerlinNoiseGeneratorF();
+		
+		for(int i = 0; i < 10000; i++) {
+			final float x = Randoms.nextFloat(-1000.0F, 1000.0F);
+			final float y = Randoms.nextFloat(-1000.0F, 1000.0F);
+			final float z = Randoms.nextFloat(-1000.0F, 1000.0F);
+			
+			assertEquals(PerlinNoiseF.noiseXYZ(x, y, z), perlinNoiseGenerator.noiseXYZ(x, y, z));
+			assertEquals(PerlinNoiseF.turbulenceXYZ(x, y, z, 4), perlinNoiseGenerator.turbulenceXYZ(x, y, z, 4));
+		}
+	}
+	
+	@Test
+	public void testConstructorLong() {
+		final PerlinNoiseGeneratorF a = new PerlinNoiseGeneratorF(12345L);
+		final PerlinNoiseGeneratorF b = new PerlinNoiseGeneratorF(12345L);
+		final PerlinNoiseGeneratorF c = new PerlinNoiseGeneratorF(54321L);
+		
+		boolean isDifferent = false;
+		
+		for(int i = 0; i < 10000; i++) {
+			final float x = Randoms.nextFloat(-1000.0F, 1000.0F);
+			final float y = Randoms.nextFloat(-1000.0F, 1000.0F);
+			final float z = Randoms.nextFloat(-1000.0F, 1000.0F);
+			
+			final float noise = a.noiseXYZ(x, y, z);
+			
+			assertEquals(noise, b.noiseXYZ(x, y, z));
+			
+			assertTrue(noise >= -1.0F && noise <= 1.0F);
+			
+			isDifferent |= noise != c.noiseXYZ(x, y, z);
+		}
+		
+		assertTrue(isDifferent);
+	}
+	
+	@Test
+	public void testEquals() {
+		final PerlinNoiseGeneratorF a = new PerlinNoiseGeneratorF(1L);
+		final PerlinNoiseGeneratorF b = new PerlinNoiseGeneratorF(1L);
+		final PerlinNoiseGeneratorF c = new PerlinNoiseGeneratorF(2L);
+		final PerlinNoiseGeneratorF d = new PerlinNoiseGeneratorF();
+		final PerlinNoiseGeneratorF e = new PerlinNoiseGeneratorF();
+		final PerlinNoiseGeneratorF f = null;
+		
+		assertEquals(a, a);
+		assertEquals(a, b);
+		assertEquals(b, a);
+		assertEquals(d, e);
+		assertEquals(e, d);
+		
+		assertNotEquals(a, c);
+		assertNotEquals(c, a);
+		assertNotEquals(a, d);
+		assertNotEquals(d, a);
+		assertNotEquals(a, f);
+		assertNotEquals(f, a);
+		
+		assertFalse(a.equals(new Object()));
+	}
+	
+	@Test
+	public void testFractalXYZDoubleArray() {
+		final PerlinNoiseGeneratorF perlinNoiseGenerator = new PerlinNoiseGeneratorF(7L);
+		
+		final float[] array = new float[7 * 5];
+		
+		assertTrue(array == perlinNoiseGenerator.fractalXYZ(array, 7, 5, -3.25F, 11.5F, 0.5F, 0.75F, 0.375F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(perlinNoiseGenerator.fractalXYZ(-3.25F + x * 0.75F, 11.5F + y * 0.375F, 0.5F, 1.0F, 0.5F, 0.5F, 2.0F, 4), array[y * 7 + x]);
+			}
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> perlinNoiseGenerator.fractalXYZ(new float[6], 7, 1, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(NullPointerException.class, () -> perlinNoiseGenerator.fractalXYZ(null, 1, 1, 0.0F, 0.0F, 0.5F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+	}
+	
+	@Test
+	public void testHashCode() {
+		final PerlinNoiseGeneratorF a = new PerlinNoiseGeneratorF(1L);
+		final PerlinNoiseGeneratorF b = new PerlinNoiseGeneratorF(1L);
+		
+		assertEquals(a.hashCode(), a.hashCode());
+		assertEquals(a.hashCode(), b.hashCode());
+		assertEquals(new PerlinNoiseGeneratorF().hashCode(), new PerlinNoiseGeneratorF().hashCode());
+	}
+	
+	@Test
+	public void testNoiseXYZDoubleArray() {
+		final PerlinNoiseGeneratorF perlinNoiseGenerator = new PerlinNoiseGeneratorF(7L);
+		
+		final float[] array = perlinNoiseGenerator.noiseXYZ(new float[7 * 5], 7, 5, -3.25F, 11.5F, 0.5F, 0.75F, 0.375F);
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(perlinNoiseGenerator.noiseXYZ(-3.25F + x * 0.75F, 11.5F + y * 0.375F, 0.5F), array[y * 7 + x]);
+			}
+		}
+	}
+	
+	@Test
+	public void testTurbulenceXYZDoubleArray() {
+		final PerlinNoiseGeneratorF perlinNoiseGenerator = new PerlinNoiseGeneratorF(7L);
+		
+		final float[] array = perlinNoiseGenerator.turbulenceXYZ(new float[7 * 5], 7, 5, -3.25F, 11.5F, 0.5F, 0.75F, 0.375F, 1.0F, 0.5F, 0.5F, 2.0F, 4);
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(perlinNoiseGenerator.turbulenceXYZ(-3.25F + x * 0.75F, 11.5F + y * 0.375F, 0.5F, 1.0F, 0.5F, 0.5F, 2.0F, 4), array[y * 7 + x]);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -19,6 +19,7 @@
 package org.macroing.art4j.noise;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -70,6 +71,26 @@ public final class SimplexNoiseDUnitTests {
 		}
 	}
 	
+	@Test
+	public void testFractalXYDoubleArray() {
+		final double[] array = new double[7 * 5 + 1];
+		
+		assertTrue(array == SimplexNoiseD.fractalXY(array, 7, 5, -3.25D, 11.5D, 0.75D, 0.375D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(SimplexNoiseD.fractalXY(-3.25D + x * 0.75D, 11.5D + y * 0.375D, 1.0D, 0.5D, 0.5D, 2.0D, 4), array[y * 7 + x]);
+			}
+		}
+		
+		assertEquals(0.0D, array[7 * 5]);
+		
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseD.fractalXY(new double[6], 7, 1, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseD.fractalXY(new double[1], 0, 1, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseD.fractalXY(new double[1], 1, 0, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(NullPointerException.class, () -> SimplexNoiseD.fractalXY(null, 1, 1, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+	}
+	
 	@Test
 	public void testFractalXYZ() {
 		for(int i = 0; i < 100000; i++) {
@@ -219,6 +240,26 @@ public final class SimplexNoiseDUnitTests {
 		assertEquals(0.0D, SimplexNoiseD.noiseXY(0.0D, Double.NaN));
 	}
 	
+	@Test
+	public void testNoiseXYDoubleArray() {
+		final double[] array = new double[7 * 5 + 1];
+		
+		assertTrue(array == SimplexNoiseD.noiseXY(array, 7, 5, -3.25D, 11.5D, 0.75D, 0.375D));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(SimplexNoiseD.noiseXY(-3.25D + x * 0.75D, 11.5D + y * 0.375D), array[y * 7 + x]);
+			}
+		}
+		
+		assertEquals(0.0D, array[7 * 5]);
+		
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseD.noiseXY(new double[6], 7, 1, 0.0D, 0.0D, 1.0D, 1.0D));
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseD.noiseXY(new double[1], 0, 1, 0.0D, 0.0D, 1.0D, 1.0D));
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseD.noiseXY(new double[1], 1, 0, 0.0D, 0.0D, 1.0D, 1.0D));
+		assertThrows(NullPointerException.class, () -> SimplexNoiseD.noiseXY(null, 1, 1, 0.0D, 0.0D, 1.0D, 1.0D));
+	}
+	
 	@Test
 	public void testNoiseXYZ() {
 		for(int i = 0; i < 100000; i++) {
@@ -294,6 +335,26 @@ public final class SimplexNoiseDUnitTests {
 		}
 	}
 	
+	@Test
+	public void testTurbulenceXYDoubleArray() {
+		final double[] array = new double[7 * 5 + 1];
+		
+		assertTrue(array == SimplexNoiseD.turbulenceXY(array, 7, 5, -3.25D, 11.5D, 0.75D, 0.375D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(SimplexNoiseD.turbulenceXY(-3.25D + x * 0.75D, 11.5D + y * 0.375D, 1.0D, 0.5D, 0.5D, 2.0D, 4), array[y * 7 + x]);
+			}
+		}
+		
+		assertEquals(0.0D, array[7 * 5]);
+		
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseD.turbulenceXY(new double[6], 7, 1, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseD.turbulenceXY(new double[1], 0, 1, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseD.turbulenceXY(new double[1], 1, 0, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(NullPointerException.class, () -> SimplexNoiseD.turbulenceXY(null, 1, 1, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+	}
+	
 	@Test
 	public void testTurbulenceXYZ() {
 		for(int i = 0; i < 100000; i++) {
@@ -19,6 +19,7 @@
 package org.macroing.art4j.noise;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -70,6 +71,26 @@ public final class SimplexNoiseFUnitTests {
 		}
 	}
 	
+	@Test
+	public void testFractalXYFloatArray() {
+		final float[] array = new float[7 * 5 + 1];
+		
+		assertTrue(array == SimplexNoiseF.fractalXY(array, 7, 5, -3.25F, 11.5F, 0.75F, 0.375F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(SimplexNoiseF.fractalXY(-3.25F + x * 0.75F, 11.5F + y * 0.375F, 1.0F, 0.5F, 0.5F, 2.0F, 4), array[y * 7 + x]);
+			}
+		}
+		
+		assertEquals(0.0F, array[7 * 5]);
+		
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseF.fractalXY(new float[6], 7, 1, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseF.fractalXY(new float[1], 0, 1, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseF.fractalXY(new float[1], 1, 0, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(NullPointerException.class, () -> SimplexNoiseF.fractalXY(null, 1, 1, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+	}
+	
 	@Test
 	public void testFractalXYZ() {
 		for(int i = 0; i < 100000; i++) {
@@ -219,6 +240,26 @@ public final class SimplexNoiseFUnitTests {
 		assertEquals(0.0F, SimplexNoiseF.noiseXY(0.0F, Float.NaN));
 	}
 	
+	@Test
+	public void testNoiseXYFloatArray() {
+		final float[] array = new float[7 * 5 + 1];
+		
+		assertTrue(array == SimplexNoiseF.noiseXY(array, 7, 5, -3.25F, 11.5F, 0.75F, 0.375F));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(SimplexNoiseF.noiseXY(-3.25F + x * 0.75F, 11.5F + y * 0.375F), array[y * 7 + x]);
+			}
+		}
+		
+		assertEquals(0.0F, array[7 * 5]);
+		
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseF.noiseXY(new float[6], 7, 1, 0.0F, 0.0F, 1.0F, 1.0F));
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseF.noiseXY(new float[1], 0, 1, 0.0F, 0.0F, 1.0F, 1.0F));
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseF.noiseXY(new float[1], 1, 0, 0.0F, 0.0F, 1.0F, 1.0F));
+		assertThrows(NullPointerException.class, () -> SimplexNoiseF.noiseXY(null, 1, 1, 0.0F, 0.0F, 1.0F, 1.0F));
+	}
+	
 	@Test
 	public void testNoiseXYZ() {
 		for(int i = 0; i < 100000; i++) {
@@ -294,6 +335,26 @@ public final class SimplexNoiseFUnitTests {
 		}
 	}
 	
+	@Test
+	public void testTurbulenceXYFloatArray() {
+		final float[] array = new float[7 * 5 + 1];
+		
+		assertTrue(array == SimplexNoiseF.turbulenceXY(array, 7, 5, -3.25F, 11.5F, 0.75F, 0.375F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(SimplexNoiseF.turbulenceXY(-3.25F + x * 0.75F, 11.5F + y * 0.375F, 1.0F, 0.5F, 0.5F, 2.0F, 4), array[y * 7 + x]);
+			}
+		}
+		
+		assertEquals(0.0F, array[7 * 5]);
+		
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseF.turbulenceXY(new float[6], 7, 1, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseF.turbulenceXY(new float[1], 0, 1, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(IllegalArgumentException.class, () -> SimplexNoiseF.turbulenceXY(new float[1], 1, 0, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(NullPointerException.class, () -> SimplexNoiseF.turbulenceXY(null, 1, 1, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+	}
+	
 	@Test
 	public void testTurbulenceXYZ() {
 		for(int i = 0; i < 100000; i++) {
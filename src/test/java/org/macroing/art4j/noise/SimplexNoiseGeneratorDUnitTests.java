@@ -0,0 +1,163 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.noise;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.java.util.Randoms;
+
+@SuppressWarnings("static-method")
+public final class SimplexNoiseGeneratorDUnitTests {
+	public SimplexNoiseGeneratorDUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructor() {
+		final SimplexNoiseGeneratorD simplexNoiseGenerator = new SimplexNoiseGeneratorD();
+		
+		for(int i = 0; i < 10000; i++) {
+			final double x = Randoms.nextDouble(-1000.0D, 1000.0D);
+			final double y = Randoms.nextDouble(-1000.0D, 1000.0D);
+			final double z = Randoms.nextDouble(-1000.0D, 1000.0D);
+			final double w = Randoms.nextDouble(-1000.0D, 1000.0D);
+			
+			assertEquals(SimplexNoiseD.noiseX(x), simplexNoiseGenerator.noiseX(x));
+			assertEquals(SimplexNoiseD.noiseXY(x, y), simplexNoiseGenerator.noiseXY(x, y));
+			assertEquals(SimplexNoiseD.noiseXYZ(x, y, z), simplexNoiseGenerator.noiseXYZ(x, y, z));
+			assertEquals(SimplexNoiseD.noiseXYZW(x, y, z, w), simplexNoiseGenerator.noiseXYZW(x, y, z, w));
+		}
+	}
+	
+	@Test
+	public void testConstructorLong() {
+		final SimplexNoiseGeneratorD a = new SimplexNoiseGeneratorD(12345L);
+		final SimplexNoiseGeneratorD b = new SimplexNoiseGeneratorD(12345L);
+		final SimplexNoiseGeneratorD c = new SimplexNoiseGeneratorD(54321L);
+		
+		boolean isDifferent = false;
+		
+		for(int i = 0; i < 10000; i++) {
+			final double x = Randoms.nextDouble(-1000.0D, 1000.0D);
+			final double y = Randoms.nextDouble(-1000.0D, 1000.0D);
+			final double z = Randoms.nextDouble(-1000.0D, 1000.0D);
+			final double w = Randoms.nextDouble(-1000.0D, 1000.0D);
+			
+			assertEquals(a.noiseX(x), b.noiseX(x));
+			assertEquals(a.noiseXY(x, y), b.noiseXY(x, y));
+			assertEquals(a.noiseXYZ(x, y, z), b.noiseXYZ(x, y, z));
+			assertEquals(a.noiseXYZW(x, y, z, w), b.noiseXYZW(x, y, z, w));
+			
+			final double noise = a.noiseXY(x, y);
+			
+			assertTrue(noise >= -1.0D && noise <= 1.0D);
+			
+			isDifferent |= a.noiseXY(x, y) != c.noiseXY(x, y);
+		}
+		
+		assertTrue(isDifferent);
+	}
+	
+	@Test
+	public void testEquals() {
+		final SimplexNoiseGeneratorD a = new SimplexNoiseGeneratorD(1L);
+		final SimplexNoiseGeneratorD b = new SimplexNoiseGeneratorD(1L);
+		final SimplexNoiseGeneratorD c = new SimplexNoiseGeneratorD(2L);
+		final SimplexNoiseGeneratorD d = new SimplexNoiseGeneratorD();
+		final SimplexNoiseGeneratorD e = new SimplexNoiseGeneratorD();
+		final SimplexNoiseGeneratorD f = null;
+		
+		assertEquals(a, a);
+		assertEquals(a, b);
+		assertEquals(b, a);
+		assertEquals(d, e);
+		assertEquals(e, d);
+		
+		assertNotEquals(a, c);
+		assertNotEquals(c, a);
+		assertNotEquals(a, d);
+		assertNotEquals(d, a);
+		assertNotEquals(a, f);
+		assertNotEquals(f, a);
+		
+		assertFalse(a.equals(new Object()));
+	}
+	
+	@Test
+	public void testFractalXYDoubleArray() {
+		final SimplexNoiseGeneratorD simplexNoiseGenerator = new SimplexNoiseGeneratorD(7L);
+		
+		final double[] array = new double[7 * 5];
+		
+		assertTrue(array == simplexNoiseGenerator.fractalXY(array, 7, 5, -3.25D, 11.5D, 0.75D, 0.375D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(simplexNoiseGenerator.fractalXY(-3.25D + x * 0.75D, 11.5D + y * 0.375D, 1.0D, 0.5D, 0.5D, 2.0D, 4), array[y * 7 + x]);
+			}
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> simplexNoiseGenerator.fractalXY(new double[6], 7, 1, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+		assertThrows(NullPointerException.class, () -> simplexNoiseGenerator.fractalXY(null, 1, 1, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D, 0.5D, 0.5D, 2.0D, 4));
+	}
+	
+	@Test
+	public void testHashCode() {
+		final SimplexNoiseGeneratorD a = new SimplexNoiseGeneratorD(1L);
+		final SimplexNoiseGeneratorD b = new SimplexNoiseGeneratorD(1L);
+		
+		assertEquals(a.hashCode(), a.hashCode());
+		assertEquals(a.hashCode(), b.hashCode());
+		assertEquals(new SimplexNoiseGeneratorD().hashCode(), new SimplexNoiseGeneratorD().hashCode());
+	}
+	
+	@Test
+	public void testNoiseXYDoubleArray() {
+		final SimplexNoiseGeneratorD simplexNoiseGenerator = new SimplexNoiseGeneratorD(7L);
+		
+		final double[] array = simplexNoiseGenerator.noiseXY(new double[7 * 5], 7, 5, -3.25D, 11.5D, 0.75D, 0.375D);
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(simplexNoiseGenerator.noiseXY(-3.25D + x * 0.75D, 11.5D + y * 0.375D), array[y * 7 + x]);
+			}
+		}
+	}
+	
+	@Test
+	public void testTurbulenceXYDoubleArray() {
+		final SimplexNoiseGeneratorD simplexNoiseGenerator = new SimplexNoiseGeneratorD(7L);
+		
+		final double[] array = simplexNoiseGenerator.turbulenceXY(new double[7 * 5], 7, 5, -3.25D, 11.5D, 0.75D, 0.375D, 1.0D, 0.5D, 0.5D, 2.0D, 4);
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(simplexNoiseGenerator.turbulenceXY(-3.25D + x * 0.75D, 11.5D + y * 0.375D, 1.0D, 0.5D, 0.5D, 2.0D, 4), array[y * 7 + x]);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.noise;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.java.util.Randoms;
+
+@SuppressWarnings("static-method")
+public final class SimplexNoiseGeneratorFUnitTests {
+	public SimplexNoiseGeneratorFUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testConstructor() {
+		final SimplexNoiseGeneratorF simplexNoiseGenerator = new SimplexNoiseGeneratorF();
+		
+		for(int i = 0; i < 10000; i++) {
+			final float x = Randoms.nextFloat(-1000.0F, 1000.0F);
+			final float y = Randoms.nextFloat(-1000.0F, 1000.0F);
+			final float z = Randoms.nextFloat(-1000.0F, 1000.0F);
+			final float w = Randoms.nextFloat(-1000.0F, 1000.0F);
+			
+			assertEquals(SimplexNoiseF.noiseX(x), simplexNoiseGenerator.noiseX(x));
+			assertEquals(SimplexNoiseF.noiseXY(x, y), simplexNoiseGenerator.noiseXY(x, y));
+			assertEquals(SimplexNoiseF.noiseXYZ(x, y, z), simplexNoiseGenerator.noiseXYZ(x, y, z));
+			assertEquals(SimplexNoiseF.noiseXYZW(x, y, z, w), simplexNoiseGenerator.noiseXYZW(x, y, z, w));
+		}
+	}
+	
+	@Test
+	public void testConstructorLong() {
+		final SimplexNoiseGeneratorF a = new SimplexNoiseGeneratorF(12345L);
+		final SimplexNoiseGeneratorF b = new SimplexNoiseGeneratorF(12345L);
+		final SimplexNoiseGeneratorF c = new SimplexNoiseGeneratorF(54321L);
+		
+		boolean isDifferent = false;
+		
+		for(int i = 0; i < 10000; i++) {
+			final float x = Randoms.nextFloat(-1000.0F, 1000.0F);
+			final float y = Randoms.nextFloat(-1000.0F, 1000.0F);
+			final float z = Randoms.nextFloat(-1000.0F, 1000.0F);
+			final float w = Randoms.nextFloat(-1000.0F, 1000.0F);
+			
+			assertEquals(a.noiseX(x), b.noiseX(x));
+			assertEquals(a.noiseXY(x, y), b.noiseXY(x, y));
+			assertEquals(a.noiseXYZ(x, y, z), b.noiseXYZ(x, y, z));
+			assertEquals(a.noiseXYZW(x, y, z, w), b.noiseXYZW(x, y, z, w));
+			
+			final float noise = a.noiseXY(x, y);
+			
+			assertTrue(noise >= -1.0F && noise <= 1.0F);
+			
+			isDifferent |= a.noiseXY(x, y) != c.noiseXY(x, y);
+		}
+		
+		assertTrue(isDifferent);
+	}
+	
+	@Test
+	public void testEquals() {
+		final SimplexNoiseGeneratorF a = new SimplexNoiseGeneratorF(1L);
+		final SimplexNoiseGeneratorF b = new SimplexNoiseGeneratorF(1L);
+		final SimplexNoiseGeneratorF c = new SimplexNoiseGeneratorF(2L);
+		final SimplexNoiseGeneratorF d = new SimplexNoiseGeneratorF();
+		final SimplexNoiseGeneratorF e = new SimplexNoiseGeneratorF();
+		final SimplexNoiseGeneratorF f = null;
+		
+		assertEquals(a, a);
+		assertEquals(a, b);
+		assertEquals(b, a);
+		assertEquals(d, e);
+		assertEquals(e, d);
+		
+		assertNotEquals(a, c);
+		assertNotEquals(c, a);
+		assertNotEquals(a, d);
+		assertNotEquals(d, a);
+		assertNotEquals(a, f);
+		assertNotEquals(f, a);
+		
+		assertFalse(a.equals(new Object()));
+	}
+	
+	@Test
+	public void testFractalXYDoubleArray() {
+		final SimplexNoiseGeneratorF simplexNoiseGenerator = new SimplexNoiseGeneratorF(7L);
+		
+		final float[] array = new float[7 * 5];
+		
+		assertTrue(array == simplexNoiseGenerator.fractalXY(array, 7, 5, -3.25F, 11.5F, 0.75F, 0.375F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(simplexNoiseGenerator.fractalXY(-3.25F + x * 0.75F, 11.5F + y * 0.375F, 1.0F, 0.5F, 0.5F, 2.0F, 4), array[y * 7 + x]);
+			}
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> simplexNoiseGenerator.fractalXY(new float[6], 7, 1, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+		assertThrows(NullPointerException.class, () -> simplexNoiseGenerator.fractalXY(null, 1, 1, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F, 0.5F, 0.5F, 2.0F, 4));
+	}
+	
+	@Test
+	public void testHashCode() {
+		final SimplexNoiseGeneratorF a = new SimplexNoiseGeneratorF(1L);
+		final SimplexNoiseGeneratorF b = new SimplexNoiseGeneratorF(1L);
+		
+		assertEquals(a.hashCode(), a.hashCode());
+		assertEquals(a.hashCode(), b.hashCode());
+		assertEquals(new SimplexNoiseGeneratorF().hashCode(), new SimplexNoiseGeneratorF().hashCode());
+	}
+	
+	@Test
+	public void testNoiseXYDoubleArray() {
+		final SimplexNoiseGeneratorF simplexNoiseGenerator = new SimplexNoiseGeneratorF(7L);
+		
+		final float[] array = simplexNoiseGenerator.noiseXY(new float[7 * 5], 7, 5, -3.25F, 11.5F, 0.75F, 0.375F);
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(simplexNoiseGenerator.noiseXY(-3.25F + x * 0.75F, 11.5F + y * 0.375F), array[y * 7 + x]);
+			}
+		}
+	}
+	
+	@Test
+	public void testTurbulenceXYDoubleArray() {
+		final SimplexNoiseGeneratorF simplexNoiseGenerator = new SimplexNoiseGeneratorF(7L);
+		
+		final float[] array = simplexNoiseGenerator.turbulenceXY(new float[7 * 5], 7, 5, -3.25F, 11.5F, 0.75F, 0.375F, 1.0F, 0.5F, 0.5F, 2.0F, 4);
+		
+		for(int y = 0; y < 5; y++) {
+			for(int x = 0; x < 7; x++) {
+				assertEquals(simplexNoiseGenerator.turbulenceXY(-3.25F + x * 0.75F, 11.5F + y * 0.375F, 1.0F, 0.5F, 0.5F, 2.0F, 4), array[y * 7 + x]);
+			}
+		}
+	}
+}
\ No newline at end of file
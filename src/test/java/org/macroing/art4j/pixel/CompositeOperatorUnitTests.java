@@ -0,0 +1,90 @@
+/**
+ * Copyright 2022 - 2026 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.art4j.
+ * 
+ * org.macroing.art4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.art4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.art4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.art4j.pixel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import org.macroing.art4j.color.Color4D;
+import org.macroing.art4j.color.Color4F;
+
+@SuppressWarnings("static-method")
+public final class CompositeOperatorUnitTests {
+	public CompositeOperatorUnitTests() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Test
+	public void testApplyARGB() {
+		final int colorARGBSource = 0x80800000;
+		final int colorARGBTarget = 0xFF0000FF;
+		
+		assertEquals(0xFF8000FF, CompositeOperator.ADD.applyARGB(colorARGBSource, colorARGBTarget));
+		assertEquals(0xFF80007F, CompositeOperator.ATOP.applyARGB(colorARGBSource, colorARGBTarget));
+		assertEquals(0x80800000, CompositeOperator.IN.applyARGB(colorARGBSource, colorARGBTarget));
+		assertEquals(0xFF00007F, CompositeOperator.MULTIPLY.applyARGB(colorARGBSource, colorARGBTarget));
+		assertEquals(0x00000000, CompositeOperator.OUT.applyARGB(colorARGBSource, colorARGBTarget));
+		assertEquals(0xFF80007F, CompositeOperator.OVER.applyARGB(colorARGBSource, colorARGBTarget));
+		assertEquals(0xFF8000FF, CompositeOperator.SCREEN.applyARGB(colorARGBSource, colorARGBTarget));
+		assertEquals(0x7F00007F, CompositeOperator.XOR.applyARGB(colorARGBSource, colorARGBTarget));
+		
+		assertEquals(0x12345678, CompositeOperator.OVER.applyARGB(0x12345678, 0x00000000));
+		assertEquals(0x12345678, CompositeOperator.OVER.applyARGB(0x00000000, 0x12345678));
+	}
+	
+	@Test
+	public void testApplyColor4DColor4D() {
+		final Color4D colorSource = new Color4D(0.5D, 0.0D, 0.0D, 0.5D);
+		final Color4D colorTarget = new Color4D(0.0D, 0.0D, 1.0D, 1.0D);
+		
+		assertEquals(new Color4D(0.5D, 0.0D, 1.0D, 1.0D), CompositeOperator.ADD.apply(colorSource, colorTarget));
+		assertEquals(new Color4D(0.5D, 0.0D, 0.5D, 1.0D), CompositeOperator.ATOP.apply(colorSource, colorTarget));
+		assertEquals(new Color4D(0.5D, 0.0D, 0.0D, 0.5D), CompositeOperator.IN.apply(colorSource, colorTarget));
+		assertEquals(new Color4D(0.0D, 0.0D, 0.5D, 1.0D), CompositeOperator.MULTIPLY.apply(colorSource, colorTarget));
+		assertEquals(new Color4D(0.0D, 0.0D, 0.0D, 0.0D), CompositeOperator.OUT.apply(colorSource, colorTarget));
+		assertEquals(new Color4D(0.5D, 0.0D, 0.5D, 1.0D), CompositeOperator.OVER.apply(colorSource, colorTarget));
+		assertEquals(new Color4D(0.5D, 0.0D, 1.0D, 1.0D), CompositeOperator.SCREEN.apply(colorSource, colorTarget));
+		assertEquals(new Color4D(0.0D, 0.0D, 0.5D, 0.5D), CompositeOperator.XOR.apply(colorSource, colorTarget));
+		
+		assertThrows(NullPointerException.class, () -> CompositeOperator.OVER.apply(colorSource, null));
+		assertThrows(NullPointerException.class, () -> CompositeOperator.OVER.apply(null, colorTarget));
+	}
+	
+	@Test
+	public void testApplyColor4FColor4F() {
+		final Color4F colorSource = new Color4F(0.5F, 0.0F, 0.0F, 0.5F);
+		final Color4F colorTarget = new Color4F(0.0F, 0.0F, 1.0F, 1.0F);
+		
+		assertEquals(new Color4F(0.5F, 0.0F, 1.0F, 1.0F), CompositeOperator.ADD.apply(colorSource, colorTarget));
+		assertEquals(new Color4F(0.5F, 0.0F, 0.5F, 1.0F), CompositeOperator.ATOP.apply(colorSource, colorTarget));
+		assertEquals(new Color4F(0.5F, 0.0F, 0.0F, 0.5F), CompositeOperator.IN.apply(colorSource, colorTarget));
+		assertEquals(new Color4F(0.0F, 0.0F, 0.5F, 1.0F), CompositeOperator.MULTIPLY.apply(colorSource, colorTarget));
+		assertEquals(new Color4F(0.0F, 0.0F, 0.0F, 0.0F), CompositeOperator.OUT.apply(colorSource, colorTarget));
+		assertEquals(new Color4F(0.5F, 0.0F, 0.5F, 1.0F), CompositeOperator.OVER.apply(colorSource, colorTarget));
+		assertEquals(new Color4F(0.5F, 0.0F, 1.0F, 1.0F), CompositeOperator.SCREEN.apply(colorSource, colorTarget));
+		assertEquals(new Color4F(0.0F, 0.0F, 0.5F, 0.5F), CompositeOperator.XOR.apply(colorSource, colorTarget));
+		
+		assertThrows(NullPointerException.class, () -> CompositeOperator.OVER.apply(colorSource, null));
+		assertThrows(NullPointerException.class, () -> CompositeOperator.OVER.apply(null, colorTarget));
+	}
+}
\ No newline at end of file